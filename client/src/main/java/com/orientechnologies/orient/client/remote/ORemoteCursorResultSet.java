@@ -0,0 +1,224 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.client.remote;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.sql.query.OBasicResultSet;
+import com.orientechnologies.orient.core.sql.query.OSQLCursorQuery;
+
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Result of a {@link OSQLCursorQuery} executed against a server. Keeps in memory the current page of records and fetches the next
+ * one from the server when the iterator reaches its end, discarding the records already browsed. The methods that need the whole
+ * result (size, get, contains...) fetch all the remaining pages. Records discarded by the iterator are counted by
+ * {@link #size()}, but cannot be read anymore.
+ *
+ * @param <T>
+ */
+@SuppressWarnings({ "unchecked", "serial" })
+public class ORemoteCursorResultSet<T> extends OBasicResultSet<T> {
+  private final transient OStorageRemote    storage;
+  private final transient ODatabaseDocument database;
+  private final transient int               pageSize;
+  private transient int                     cursorId;
+  private transient int                     discarded;
+  // KEEPS THE TEMPORARY RECORDS LINKED BY THE RECORDS IN MEMORY FROM GARBAGE COLLECTION
+  private transient List<ORecord>           temporaryRecords;
+
+  public ORemoteCursorResultSet(final OStorageRemote iStorage, final ODatabaseDocument iDatabase, final int iCursorId,
+      final int iPageSize, final List<? extends OIdentifiable> iFirstPage, final List<ORecord> iTemporaryRecords) {
+    super(iFirstPage.size());
+    storage = iStorage;
+    database = iDatabase;
+    cursorId = iCursorId;
+    pageSize = iPageSize;
+    underlying.addAll((List<T>) iFirstPage);
+    temporaryRecords = iTemporaryRecords;
+  }
+
+  /**
+   * @return true if the cursor on the server is still open and other pages can be fetched
+   */
+  public boolean isOpen() {
+    return cursorId > -1;
+  }
+
+  /**
+   * Closes the cursor on the server without reading the remaining records. It's not needed when the result is read until the end.
+   */
+  public void close() {
+    if (cursorId > -1) {
+      final int id = cursorId;
+      cursorId = -1;
+      storage.closeCursor(id);
+    }
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<T>() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        if (index < underlying.size())
+          return true;
+
+        if (cursorId < 0)
+          return false;
+
+        // PAGE CONSUMED: DISCARD IT AND FETCH THE NEXT ONE
+        discarded += underlying.size();
+        underlying.clear();
+        index = 0;
+        fetchNextPage(false);
+        return index < underlying.size();
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext())
+          throw new NoSuchElementException("Error on browsing at element " + (discarded + index) + " of the cursor");
+        return underlying.get(index++);
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException("ORemoteCursorResultSet.iterator.remove()");
+      }
+    };
+  }
+
+  @Override
+  public int size() {
+    fetchAll();
+    return discarded + underlying.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    if (discarded > 0)
+      return false;
+    if (underlying.isEmpty() && cursorId > -1)
+      fetchNextPage(false);
+    return underlying.isEmpty();
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    fetchAll();
+    return underlying.contains(o);
+  }
+
+  @Override
+  public Object[] toArray() {
+    fetchAll();
+    return underlying.toArray();
+  }
+
+  @Override
+  public <T1> T1[] toArray(final T1[] a) {
+    fetchAll();
+    return underlying.toArray(a);
+  }
+
+  @Override
+  public T get(final int index) {
+    fetchAll();
+    if (index < discarded)
+      throw new NoSuchElementException("Record at position " + index + " has been already discarded by the cursor");
+    return underlying.get(index - discarded);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    fetchAll();
+    return underlying.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    fetchAll();
+    return underlying.hashCode();
+  }
+
+  @Override
+  public ListIterator<T> listIterator() {
+    fetchAll();
+    return underlying.listIterator();
+  }
+
+  @Override
+  public ListIterator<T> listIterator(final int index) {
+    fetchAll();
+    return underlying.listIterator(index);
+  }
+
+  @Override
+  public List<T> subList(final int fromIndex, final int toIndex) {
+    fetchAll();
+    return underlying.subList(fromIndex, toIndex);
+  }
+
+  @Override
+  public OBasicResultSet<T> copy() {
+    fetchAll();
+    return super.copy();
+  }
+
+  @Override
+  public void writeExternal(final ObjectOutput out) throws IOException {
+    fetchAll();
+    super.writeExternal(out);
+  }
+
+  private void fetchAll() {
+    while (cursorId > -1)
+      fetchNextPage(true);
+  }
+
+  private void fetchNextPage(final boolean iAppend) {
+    final List<OIdentifiable> page = new ArrayList<OIdentifiable>(pageSize);
+    final List<ORecord> pageTemporaryRecords = new ArrayList<ORecord>();
+
+    database.activateOnCurrentThread();
+    try {
+      cursorId = storage.fetchCursorPage(cursorId, pageSize, database, page, pageTemporaryRecords);
+    } catch (RuntimeException e) {
+      cursorId = -1;
+      throw e;
+    }
+
+    underlying.addAll((List<T>) page);
+    if (iAppend)
+      temporaryRecords.addAll(pageTemporaryRecords);
+    else
+      temporaryRecords = pageTemporaryRecords;
+  }
+}
@@ -62,6 +62,7 @@ import com.orientechnologies.orient.core.serialization.serializer.stream.OStream
 import com.orientechnologies.orient.core.sql.query.OBasicResultSet;
 import com.orientechnologies.orient.core.sql.query.OLiveQuery;
 import com.orientechnologies.orient.core.sql.query.OLiveResultListener;
+import com.orientechnologies.orient.core.sql.query.OSQLCursorQuery;
 import com.orientechnologies.orient.core.storage.*;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.ORecordSerializationContext;
 import com.orientechnologies.orient.core.tx.OTransaction;
@@ -1181,16 +1182,22 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy {
         try {
 
           final boolean asynch = iCommand instanceof OCommandRequestAsynch && ((OCommandRequestAsynch) iCommand).isAsynchronous();
+          final boolean cursor = iCommand instanceof OSQLCursorQuery && !live && !asynch
+              && network.getSrvProtocolVersion() >= OChannelBinaryProtocol.PROTOCOL_VERSION_37;
 
           try {
             beginRequest(network, OChannelBinaryProtocol.REQUEST_COMMAND, session);
 
             if (live) {
               network.writeByte((byte) 'l');
+            } else if (cursor) {
+              network.writeByte((byte) 'c');
             } else {
               network.writeByte((byte) (asynch ? 'a' : 's')); // ASYNC / SYNC
             }
             network.writeBytes(OStreamSerializerAnyStreamable.INSTANCE.toStream(iCommand));
+            if (cursor)
+              network.writeInt(((OSQLCursorQuery<?>) iCommand).getPageSize());
 
           } finally {
             endRequest(network);
@@ -1229,6 +1236,12 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy {
                   database.getLocalCache().updateRecord(record);
                 }
               }
+            } else if (cursor) {
+              // READ THE FIRST PAGE, THE OTHERS ARE FETCHED BY THE RESULT SET WHILE IT IS BROWSED
+              final List<OIdentifiable> page = new ArrayList<OIdentifiable>();
+              final int cursorId = readCursorPage(network, database, page, temporaryResults);
+              result = new ORemoteCursorResultSet<OIdentifiable>(OStorageRemote.this, database, cursorId,
+                  ((OSQLCursorQuery<?>) iCommand).getPageSize(), page, temporaryResults);
             } else {
               result = readSynchResult(network, database, temporaryResults);
               if (live) {
@@ -1289,6 +1302,86 @@ public class OStorageRemote extends OStorageAbstract implements OStorageProxy {
     }, "Error on executing command: " + iCommand);
   }
 
+  /**
+   * Fetches the next page of a server side cursor.
+   *
+   * @return the id of the cursor, or -1 if the server closed it after sending the last records
+   */
+  public int fetchCursorPage(final int iCursorId, final int iPageSize, final ODatabaseDocument database,
+      final List<OIdentifiable> page, final List<ORecord> temporaryResults) {
+    // NO RETRY: A PAGE PARTIALLY READ CANNOT BE REQUESTED AGAIN
+    return networkOperationRetry(new OStorageRemoteOperation<Integer>() {
+      @Override
+      public Integer execute(final OChannelBinaryAsynchClient network, OStorageRemoteSession session) throws IOException {
+        try {
+          beginRequest(network, OChannelBinaryProtocol.REQUEST_COMMAND_CURSOR_FETCH, session);
+          network.writeInt(iCursorId);
+          network.writeInt(iPageSize);
+        } finally {
+          endRequest(network);
+        }
+
+        try {
+          beginResponse(network, session);
+          return readCursorPage(network, database, page, temporaryResults);
+        } finally {
+          endResponse(network);
+        }
+      }
+    }, "Error on fetching the records of cursor " + iCursorId, 1);
+  }
+
+  /**
+   * Closes a server side cursor before all its records have been read.
+   */
+  public void closeCursor(final int iCursorId) {
+    networkOperation(new OStorageRemoteOperation<Void>() {
+      @Override
+      public Void execute(final OChannelBinaryAsynchClient network, OStorageRemoteSession session) throws IOException {
+        try {
+          beginRequest(network, OChannelBinaryProtocol.REQUEST_COMMAND_CURSOR_CLOSE, session);
+          network.writeInt(iCursorId);
+        } finally {
+          endRequest(network);
+        }
+
+        try {
+          beginResponse(network, session);
+          return null;
+        } finally {
+          endResponse(network);
+        }
+      }
+    }, "Error on closing cursor " + iCursorId);
+  }
+
+  /**
+   * Reads a page of records sent by a server side cursor: the id of the cursor followed by the records, each one preceded by its
+   * status (1 = part of the result, 2 = linked record to put in cache) and terminated by 0.
+   *
+   * @return the id of the cursor, or -1 if the server closed it after sending the last records
+   */
+  protected int readCursorPage(final OChannelBinaryAsynchClient network, final ODatabaseDocument database,
+      final List<OIdentifiable> page, final List<ORecord> temporaryResults) throws IOException {
+    final int cursorId = network.readInt();
+
+    byte status;
+    while ((status = network.readByte()) > 0) {
+      final OIdentifiable record = OChannelBinaryProtocol.readIdentifiable(network);
+      if (record == null)
+        continue;
+
+      if (record instanceof ORecord)
+        database.getLocalCache().updateRecord((ORecord) record);
+
+      if (status == 1)
+        page.add(record);
+      else if (status == 2 && record.getIdentity().getClusterId() == -2)
+        temporaryResults.add((ORecord) record);
+    }
+    return cursorId;
+  }
+
   protected Object readSynchResult(final OChannelBinaryAsynchClient network, final ODatabaseDocument database,
       List<ORecord> temporaryResults) throws IOException {
 
@@ -0,0 +1,133 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * Set of primitive <code>long</code> values based on open addressing with linear probing, so neither keys nor entries are boxed.
+ * <p>
+ * Set is not thread safe, but it may be read by several threads at the same time if it is not modified during reads.
+ */
+public class OLongHashSet {
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[]             keys;
+  private boolean[]          used;
+  private int                mask;
+  private int                size;
+  private int                resizeThreshold;
+
+  public OLongHashSet() {
+    this(16);
+  }
+
+  public OLongHashSet(final int expectedSize) {
+    int capacity = 16;
+    while (capacity * LOAD_FACTOR < expectedSize)
+      capacity <<= 1;
+
+    allocate(capacity);
+  }
+
+  /**
+   * @return <code>true</code> if value was not contained in set before the call.
+   */
+  public boolean add(final long value) {
+    int index = index(value);
+    while (used[index]) {
+      if (keys[index] == value)
+        return false;
+
+      index = (index + 1) & mask;
+    }
+
+    used[index] = true;
+    keys[index] = value;
+    size++;
+
+    if (size > resizeThreshold)
+      rehash(keys.length << 1);
+
+    return true;
+  }
+
+  public boolean contains(final long value) {
+    int index = index(value);
+    while (used[index]) {
+      if (keys[index] == value)
+        return true;
+
+      index = (index + 1) & mask;
+    }
+
+    return false;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    Arrays.fill(used, false);
+    size = 0;
+  }
+
+  private int index(final long value) {
+    // MURMUR3 FINALIZER TO SPREAD SEQUENTIAL KEYS LIKE CLUSTER POSITIONS ACROSS THE TABLE
+    long h = value;
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+
+    return (int) h & mask;
+  }
+
+  private void rehash(final int capacity) {
+    final long[] oldKeys = keys;
+    final boolean[] oldUsed = used;
+
+    allocate(capacity);
+
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldUsed[i]) {
+        int index = index(oldKeys[i]);
+        while (used[index])
+          index = (index + 1) & mask;
+
+        used[index] = true;
+        keys[index] = oldKeys[i];
+      }
+    }
+  }
+
+  private void allocate(final int capacity) {
+    keys = new long[capacity];
+    used = new boolean[capacity];
+    mask = capacity - 1;
+    resizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+}
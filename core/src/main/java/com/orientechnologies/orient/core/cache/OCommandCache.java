@@ -20,6 +20,7 @@
 package com.orientechnologies.orient.core.cache;
 
 import com.orientechnologies.orient.core.metadata.security.OSecurityUser;
+import com.orientechnologies.orient.core.record.ORecord;
 
 import java.util.Set;
 
@@ -67,6 +68,15 @@ public interface OCommandCache {
    */
   void put(OSecurityUser iUser, String queryText, Object iResult, int iLimit, Set<String> iInvolvedClusters, long iExecutionTime);
 
+  /**
+   * Pushes record to cache, together with the records it depends on.
+   *
+   * @param iDependency
+   *          Records the result depends on, or null if it depends on all the records of the involved clusters
+   */
+  void put(OSecurityUser iUser, String queryText, Object iResult, int iLimit, Set<String> iInvolvedClusters,
+      OCommandCacheDependency iDependency, long iExecutionTime);
+
   /**
    * Removes result of query.
    **/
@@ -92,11 +102,30 @@ public interface OCommandCache {
    */
   void invalidateResultsOfCluster(final String iCluster);
 
+  /**
+   * Invalidates the results of given cluster that depend on the record. Used by the {@link STRATEGY#PER_RECORD} strategy, the other
+   * strategies invalidate all the results of the cluster.
+   *
+   * @param iCluster
+   *          Cluster name
+   * @param iRecord
+   *          Created, updated or deleted record, with the content before or after the change
+   */
+  void invalidateResultsOfRecord(final String iCluster, final ORecord iRecord);
+
+  /**
+   * Tells whether the cache holds results that can be invalidated by the changes of the records of given cluster.
+   *
+   * @param iCluster
+   *          Cluster name
+   */
+  boolean hasResultsOfCluster(final String iCluster);
+
   int getMaxResultsetSize();
 
   STRATEGY getEvictStrategy();
 
   public enum STRATEGY {
-    INVALIDATE_ALL, PER_CLUSTER
+    INVALIDATE_ALL, PER_CLUSTER, PER_RECORD
   }
 }
@@ -0,0 +1,38 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.orient.core.record.ORecord;
+
+/**
+ * Records a cached result depends on. Used by the {@link OCommandCache.STRATEGY#PER_RECORD} strategy to invalidate only the results
+ * affected by a change, instead of all the results of the cluster of the changed record.
+ */
+public interface OCommandCacheDependency {
+  /**
+   * Tells whether the result can change when the record is created, updated or deleted. The record is passed once with the
+   * content before the change and once with the content after it.
+   *
+   * @param iRecord
+   *          Record content, before or after the change
+   * @return true if the cached result must be invalidated
+   */
+  boolean isAffectedBy(ORecord iRecord);
+}
@@ -19,13 +19,26 @@
  */
 package com.orientechnologies.orient.core.cache;
 
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.hook.ORecordHook;
 import com.orientechnologies.orient.core.hook.ORecordHookAbstract;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.ORawBuffer;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Hook that takes care to invalidate query cache as soon any change happen on database.
+ * Hook that takes care to invalidate query cache as soon any change happen on database. With the
+ * {@link OCommandCache.STRATEGY#PER_RECORD} strategy the results are checked against the stored content of the record before an
+ * update or a delete, and against the new content after a create or an update. The stored content is checked again after the
+ * change, because a transaction calls the after hooks only on commit and the result could have been cached again in the meantime.
  *
  * @author Luca Garulli
  */
@@ -35,6 +48,8 @@ public class OCommandCacheHook extends ORecordHookAbstract implements ORecordHoo
 
   private final OCommandCache     cmdCache;
   private final ODatabaseDocument database;
+  // STORED CONTENT OF THE RECORDS BEING UPDATED OR DELETED
+  private final Map<ORID, ORecord> previousRecords = new HashMap<ORID, ORecord>();
 
   public OCommandCacheHook(final ODatabaseDocument iDatabase) {
     database = iDatabase;
@@ -54,29 +69,108 @@ public class OCommandCacheHook extends ORecordHookAbstract implements ORecordHoo
     invalidateCache(iRecord);
   }
 
+  @Override
+  public RESULT onRecordBeforeUpdate(final ORecord iRecord) {
+    if (cmdCache != null)
+      invalidatePreviousRecord(iRecord);
+    return RESULT.RECORD_NOT_CHANGED;
+  }
+
   @Override
   public void onRecordAfterUpdate(final ORecord iRecord) {
     if (cmdCache == null)
       return;
 
+    if (cmdCache.getEvictStrategy() == OCommandCache.STRATEGY.PER_RECORD && !previousRecords.containsKey(iRecord.getIdentity()))
+      // THE STORED CONTENT HAS NOT BEEN READ BEFORE THE UPDATE: THE RESULTS CACHED SINCE THEN COULD DEPEND ON IT
+      cmdCache.invalidateResultsOfRecord(getClusterName(iRecord), null);
+
     invalidateCache(iRecord);
   }
 
+  @Override
+  public void onRecordUpdateFailed(final ORecord iRecord) {
+    previousRecords.remove(iRecord.getIdentity());
+  }
+
+  @Override
+  public RESULT onRecordBeforeDelete(final ORecord iRecord) {
+    if (cmdCache != null)
+      invalidatePreviousRecord(iRecord);
+    return RESULT.RECORD_NOT_CHANGED;
+  }
+
   @Override
   public void onRecordAfterDelete(final ORecord iRecord) {
     if (cmdCache == null)
       return;
 
-    invalidateCache(iRecord);
+    if (cmdCache.getEvictStrategy() == OCommandCache.STRATEGY.PER_RECORD) {
+      final ORecord previous = previousRecords.remove(iRecord.getIdentity());
+      cmdCache.invalidateResultsOfRecord(getClusterName(iRecord), previous);
+    } else
+      invalidateCache(iRecord);
+  }
+
+  @Override
+  public void onRecordDeleteFailed(final ORecord iRecord) {
+    previousRecords.remove(iRecord.getIdentity());
   }
 
   protected void invalidateCache(final ORecord iRecord) {
-    if (cmdCache.getEvictStrategy() == OCommandCacheSoftRefs.STRATEGY.PER_CLUSTER)
-      cmdCache.invalidateResultsOfCluster(database.getClusterNameById(iRecord.getIdentity().getClusterId()));
+    if (cmdCache.getEvictStrategy() == OCommandCache.STRATEGY.PER_RECORD) {
+      final ORecord previous = previousRecords.remove(iRecord.getIdentity());
+      if (previous != null)
+        cmdCache.invalidateResultsOfRecord(getClusterName(iRecord), previous);
+      cmdCache.invalidateResultsOfRecord(getClusterName(iRecord), iRecord);
+    } else if (cmdCache.getEvictStrategy() == OCommandCacheSoftRefs.STRATEGY.PER_CLUSTER)
+      cmdCache.invalidateResultsOfCluster(getClusterName(iRecord));
     else
       cmdCache.invalidateResultsOfCluster(null);
   }
 
+  /**
+   * Invalidates the results that depend on the stored content of the record, that is going to be updated or deleted.
+   */
+  protected void invalidatePreviousRecord(final ORecord iRecord) {
+    if (cmdCache.getEvictStrategy() != OCommandCache.STRATEGY.PER_RECORD || !iRecord.getIdentity().isPersistent())
+      return;
+
+    final String clusterName = getClusterName(iRecord);
+    if (!cmdCache.hasResultsOfCluster(clusterName))
+      // NO CACHED RESULT DEPENDS ON THE RECORD, AVOID READING IT
+      return;
+
+    final ORecord previous = loadStoredRecord(iRecord);
+    // A NULL RECORD INVALIDATES ALL THE RESULTS OF THE CLUSTER
+    cmdCache.invalidateResultsOfRecord(clusterName, previous);
+    if (previous != null)
+      previousRecords.put(iRecord.getIdentity(), previous);
+  }
+
+  private ORecord loadStoredRecord(final ORecord iRecord) {
+    if (!(iRecord instanceof ODocument))
+      return null;
+
+    try {
+      final ORawBuffer buffer = ((ODatabaseDocumentInternal) database).getStorage()
+          .readRecord((ORecordId) iRecord.getIdentity(), null, true, false, null).getResult();
+      if (buffer == null)
+        return null;
+
+      final ODocument previous = new ODocument();
+      ORecordInternal.fill(previous, iRecord.getIdentity().copy(), buffer.version, buffer.buffer, false);
+      return previous;
+    } catch (RuntimeException e) {
+      OLogManager.instance().debug(this, "Cannot read the stored content of record %s", e, iRecord.getIdentity());
+      return null;
+    }
+  }
+
+  private String getClusterName(final ORecord iRecord) {
+    return database.getClusterNameById(iRecord.getIdentity().getClusterId());
+  }
+
   @Override
   public DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
     return DISTRIBUTED_EXECUTION_MODE.BOTH;
@@ -0,0 +1,61 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.cache;
+
+/**
+ * Provides an MBean for {@link OCommandCacheSoftRefs}, one per database.
+ */
+public interface OCommandCacheMXBean {
+
+  /**
+   * @return the number of queries answered by the cache
+   */
+  long getHits();
+
+  /**
+   * @return the number of cacheable queries not found in the cache
+   */
+  long getMisses();
+
+  /**
+   * @return the number of results removed because of a change to the records they depend on
+   */
+  long getInvalidations();
+
+  /**
+   * @return the number of results removed to keep the cache under {@link #getMaxMemory()}
+   */
+  long getEvictions();
+
+  /**
+   * @return the number of cached results
+   */
+  int getSize();
+
+  /**
+   * @return the estimated memory used by the cached results, in bytes
+   */
+  long getUsedMemory();
+
+  /**
+   * @return the maximum memory used by the cached results, in bytes. 0 means no limit
+   */
+  long getMaxMemory();
+}
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.cache;
 
 import com.orientechnologies.common.collection.OMultiValue;
 import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.exception.OSystemException;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.profiler.OProfiler;
@@ -35,36 +36,81 @@ import com.orientechnologies.orient.core.sql.query.OResultSet;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.OLocalPaginatedStorage;
 
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Command cache implementation that uses Soft references to avoid overloading Java Heap.
+ * Command cache implementation that uses Soft references to avoid overloading Java Heap. The memory used by the results is
+ * estimated from their serialized size and bounded by {@link OGlobalConfiguration#COMMAND_CACHE_MAX_MEMORY}: the least recently
+ * used results are evicted first. Hits, misses, invalidations and evictions are exposed by the {@link OCommandCacheMXBean}
+ * registered with the first cached result.
  * 
  * @author Luca Garulli
  */
-public class OCommandCacheSoftRefs implements OCommandCache {
+public class OCommandCacheSoftRefs implements OCommandCache, OCommandCacheMXBean {
+  /**
+   * {@link OCommandCacheSoftRefs}'s MBean name, followed by the name of the database.
+   */
+  public static final String MBEAN_NAME = "com.orientechnologies.orient.core.cache:type=OCommandCacheMXBean,name=";
+
+  // ESTIMATED MEMORY USED BY A RECORD OF THE RESULT, BESIDE ITS CONTENT
+  private static final int RECORD_OVERHEAD = 64;
 
   private String CONFIG_FILE = "command-cache.json";
 
   ODocument      configuration;
 
   public static class OCachedResult {
-    Object      result;
-    Set<String> involvedClusters;
+    Object                  result;
+    Set<String>             involvedClusters;
+    OCommandCacheDependency dependency;
 
     public OCachedResult(final Object result, final Set<String> involvedClusters) {
+      this(result, involvedClusters, null);
+    }
+
+    public OCachedResult(final Object result, final Set<String> involvedClusters, final OCommandCacheDependency dependency) {
       this.involvedClusters = involvedClusters;
       this.result = result;
+      this.dependency = dependency;
     }
 
     protected void clear() {
       result = null;
       involvedClusters = null;
+      dependency = null;
+    }
+
+    protected boolean isAffectedBy(final String iCluster, final ORecord iRecord) {
+      if (involvedClusters != null && !involvedClusters.isEmpty() && !involvedClusters.contains(iCluster))
+        return false;
+
+      if (dependency == null || iRecord == null)
+        return true;
+
+      try {
+        return dependency.isAffectedBy(iRecord);
+      } catch (RuntimeException e) {
+        // CANNOT TELL, INVALIDATE IT
+        OLogManager.instance().debug(this, "Error on checking the dependency of the cached result on record %s", e,
+            iRecord.getIdentity());
+        return true;
+      }
     }
 
     public Object getResult() {
@@ -81,6 +127,17 @@ public class OCommandCacheSoftRefs implements OCommandCache {
   private OCommandCacheImplRefs cache            = new OCommandCacheImplRefs();
   private int                   minExecutionTime = OGlobalConfiguration.COMMAND_CACHE_MIN_EXECUTION_TIME.getValueAsInteger();
   private int                   maxResultsetSize = OGlobalConfiguration.COMMAND_CACHE_MAX_RESULSET_SIZE.getValueAsInteger();
+  private int                   maxMemory        = OGlobalConfiguration.COMMAND_CACHE_MAX_MEMORY.getValueAsInteger();
+
+  // ESTIMATED SIZE OF THE CACHED RESULTS, FROM THE LEAST TO THE MOST RECENTLY USED
+  private final Map<String, Long> sizes         = new LinkedHashMap<String, Long>(16, 0.75f, true);
+  private long                    usedMemory;
+
+  private final AtomicLong        hits              = new AtomicLong();
+  private final AtomicLong        misses            = new AtomicLong();
+  private final AtomicLong        invalidations     = new AtomicLong();
+  private final AtomicLong        evictions         = new AtomicLong();
+  private final AtomicBoolean     mbeanIsRegistered = new AtomicBoolean();
 
   private STRATEGY              evictStrategy    = STRATEGY
       .valueOf(OGlobalConfiguration.COMMAND_CACHE_EVICT_STRATEGY.getValueAsString());
@@ -98,6 +155,7 @@ public class OCommandCacheSoftRefs implements OCommandCache {
     configuration.field("evictStrategy", evictStrategy.toString());
     configuration.field("minExecutionTime", minExecutionTime);
     configuration.field("maxResultsetSize", maxResultsetSize);
+    configuration.field("maxMemory", maxMemory);
     try {
       ODocument diskConfig = loadConfiguration();
       if (diskConfig != null) {
@@ -139,6 +197,8 @@ public class OCommandCacheSoftRefs implements OCommandCache {
     evictStrategy = STRATEGY.valueOf(evict);
     minExecutionTime = configuration.field("minExecutionTime");
     maxResultsetSize = configuration.field("maxResultsetSize");
+    if (configuration.containsField("maxMemory"))
+      maxMemory = configuration.<Integer> field("maxMemory");
   }
 
   private boolean updateCfgOnDisk() throws IOException {
@@ -185,6 +245,7 @@ public class OCommandCacheSoftRefs implements OCommandCache {
   public void shutdown() {
     clear();
     deleteFileIfExists();
+    unregisterMBean();
   }
 
   protected void deleteFileIfExists() {
@@ -220,6 +281,8 @@ public class OCommandCacheSoftRefs implements OCommandCache {
     synchronized (this) {
       clusters.clear();
       cache.clear();
+      sizes.clear();
+      usedMemory = 0;
     }
     configuration.field("enabled", true);
 
@@ -244,7 +307,13 @@ public class OCommandCacheSoftRefs implements OCommandCache {
 
       result = cache.get(key);
 
-      if (result != null) {
+      if (result == null)
+        // RELEASED BY THE GC OR NEVER CACHED
+        removeSize(key);
+      else {
+        // MOVE IT TO THE MOST RECENTLY USED
+        sizes.get(key);
+
         // SERIALIZE ALL THE RECORDS IN LOCK TO AVOID CONCURRENT ACCESS. ONCE SERIALIZED CAN ARE THREAD-SAFE
         int resultsetSize = 1;
 
@@ -264,6 +333,11 @@ public class OCommandCacheSoftRefs implements OCommandCache {
       }
     }
 
+    if (result != null)
+      hits.incrementAndGet();
+    else
+      misses.incrementAndGet();
+
     final OProfiler profiler = Orient.instance().getProfiler();
     if (profiler.isRecording()) {
       // UPDATE PROFILER
@@ -281,7 +355,13 @@ public class OCommandCacheSoftRefs implements OCommandCache {
 
   @Override
   public void put(final OSecurityUser iUser, final String queryText, final Object iResult, final int iLimit,
-      Set<String> iInvolvedClusters, final long iExecutionTime) {
+      final Set<String> iInvolvedClusters, final long iExecutionTime) {
+    put(iUser, queryText, iResult, iLimit, iInvolvedClusters, null, iExecutionTime);
+  }
+
+  @Override
+  public void put(final OSecurityUser iUser, final String queryText, final Object iResult, final int iLimit,
+      Set<String> iInvolvedClusters, OCommandCacheDependency iDependency, final long iExecutionTime) {
     if (queryText == null || iResult == null)
       // SKIP IT
       return;
@@ -302,18 +382,33 @@ public class OCommandCacheSoftRefs implements OCommandCache {
         return;
     }
 
-    if (evictStrategy != STRATEGY.PER_CLUSTER)
+    if (evictStrategy == STRATEGY.INVALIDATE_ALL)
       iInvolvedClusters = null;
+    if (evictStrategy != STRATEGY.PER_RECORD)
+      iDependency = null;
+
+    final long size = estimateSize(iResult);
+    if (maxMemory > 0 && size > getMaxMemory())
+      // TOO BIG RESULTSET, SKIP IT
+      return;
+
+    registerMBean();
 
     synchronized (this) {
       final String key = getKey(iUser, queryText, iLimit);
-      final OCachedResult value = new OCachedResult(iResult, iInvolvedClusters);
+      final OCachedResult value = new OCachedResult(iResult, iInvolvedClusters, iDependency);
 
       if (OLogManager.instance().isDebugEnabled())
         OLogManager.instance().debug(this, "Storing resultset in cache size=%d", resultsetSize);
 
       cache.put(key, value);
 
+      removeSize(key);
+      sizes.put(key, size);
+      usedMemory += size;
+      removeReleasedSizes();
+      evictLeastRecentlyUsed();
+
       if (iInvolvedClusters != null)
         clusters.addAll(iInvolvedClusters);
     }
@@ -327,6 +422,7 @@ public class OCommandCacheSoftRefs implements OCommandCache {
     synchronized (this) {
       final String key = getKey(iUser, queryText, iLimit);
       cache.remove(key);
+      removeSize(key);
     }
   }
 
@@ -335,6 +431,8 @@ public class OCommandCacheSoftRefs implements OCommandCache {
     synchronized (this) {
       cache = new OCommandCacheImplRefs();
       clusters.clear();
+      sizes.clear();
+      usedMemory = 0;
     }
     return this;
   }
@@ -359,6 +457,7 @@ public class OCommandCacheSoftRefs implements OCommandCache {
         if (OLogManager.instance().isDebugEnabled())
           OLogManager.instance().debug(this, "Invalidate all cached results (%d)", size());
 
+        invalidations.addAndGet(cache.size());
         clear();
         return;
       }
@@ -370,22 +469,227 @@ public class OCommandCacheSoftRefs implements OCommandCache {
         return;
       }
 
-      int evicted = 0;
-      for (Iterator<Map.Entry<String, OCachedResult>> it = cache.entrySet().iterator(); it.hasNext();) {
-        final OCachedResult cached = it.next().getValue();
-        if (cached != null) {
-          if (cached.involvedClusters == null || cached.involvedClusters.isEmpty() || cached.involvedClusters.contains(iCluster)) {
-            cached.clear();
-            it.remove();
-          }
-        }
-      }
+      final int evicted = invalidate(iCluster, null);
 
       if (evicted > 0 && OLogManager.instance().isDebugEnabled())
         OLogManager.instance().debug(this, "Invalidate %d cached results associated to the cluster '%s'", evicted, iCluster);
     }
   }
 
+  @Override
+  public void invalidateResultsOfRecord(final String iCluster, final ORecord iRecord) {
+    if (!enable)
+      return;
+
+    if (evictStrategy != STRATEGY.PER_RECORD) {
+      invalidateResultsOfCluster(evictStrategy == STRATEGY.PER_CLUSTER ? iCluster : null);
+      return;
+    }
+
+    synchronized (this) {
+      if (cache.size() == 0 || !clusters.contains(iCluster))
+        // NOT CONTAINED, AVOID COSTLY BROWSING OF RESULTS
+        return;
+
+      final int evicted = invalidate(iCluster, iRecord);
+
+      if (evicted > 0 && OLogManager.instance().isDebugEnabled())
+        OLogManager.instance().debug(this, "Invalidate %d cached results associated to the record %s", evicted,
+            iRecord != null ? iRecord.getIdentity() : iCluster);
+    }
+  }
+
+  @Override
+  public boolean hasResultsOfCluster(final String iCluster) {
+    if (!enable)
+      return false;
+
+    synchronized (this) {
+      if (cache.size() == 0)
+        return false;
+
+      return evictStrategy == STRATEGY.INVALIDATE_ALL || clusters.contains(iCluster);
+    }
+  }
+
+  /**
+   * Removes the results of the cluster that depend on the record, or all the results of the cluster if the record is null.
+   * 
+   * @return the number of removed results
+   */
+  private int invalidate(final String iCluster, final ORecord iRecord) {
+    int evicted = 0;
+    for (Map.Entry<String, OCachedResult> entry : cache.entrySet()) {
+      final OCachedResult cached = entry.getValue();
+      if (cached != null && cached.isAffectedBy(iCluster, iRecord)) {
+        cache.remove(entry.getKey());
+        removeSize(entry.getKey());
+        cached.clear();
+        evicted++;
+      }
+    }
+    invalidations.addAndGet(evicted);
+    return evicted;
+  }
+
+  private void removeSize(final String key) {
+    final Long size = sizes.remove(key);
+    if (size != null)
+      usedMemory -= size;
+  }
+
+  /**
+   * Forgets the sizes of the results released by the GC, that are not in the cache anymore.
+   */
+  private void removeReleasedSizes() {
+    if (sizes.size() <= cache.size())
+      return;
+
+    for (Iterator<Map.Entry<String, Long>> it = sizes.entrySet().iterator(); it.hasNext();) {
+      final Map.Entry<String, Long> entry = it.next();
+      if (cache.get(entry.getKey()) == null) {
+        it.remove();
+        usedMemory -= entry.getValue();
+      }
+    }
+  }
+
+  private void evictLeastRecentlyUsed() {
+    if (maxMemory <= 0)
+      return;
+
+    for (Iterator<Map.Entry<String, Long>> it = sizes.entrySet().iterator(); usedMemory > getMaxMemory() && it.hasNext();) {
+      final Map.Entry<String, Long> eldest = it.next();
+      it.remove();
+      usedMemory -= eldest.getValue();
+      cache.remove(eldest.getKey());
+      evictions.incrementAndGet();
+    }
+  }
+
+  /**
+   * Estimates the memory used by a result from the serialized size of its records.
+   */
+  private static long estimateSize(final Object iResult) {
+    if (iResult instanceof ORecord)
+      return RECORD_OVERHEAD + getRecordSize((ORecord) iResult);
+
+    long size = RECORD_OVERHEAD;
+    if (OMultiValue.isMultiValue(iResult))
+      for (Object rc : OMultiValue.getMultiValueIterable(iResult)) {
+        size += RECORD_OVERHEAD;
+        if (rc instanceof ORecord)
+          size += getRecordSize((ORecord) rc);
+      }
+    return size;
+  }
+
+  /**
+   * Returns the size of the record as read from the storage. Only the records that have never been serialized, like the results
+   * of projections, are serialized to measure them.
+   */
+  private static int getRecordSize(final ORecord iRecord) {
+    final int size = iRecord.getSize();
+    return size > 0 ? size : iRecord.toStream().length;
+  }
+
+  @Override
+  public long getHits() {
+    return hits.get();
+  }
+
+  @Override
+  public long getMisses() {
+    return misses.get();
+  }
+
+  @Override
+  public long getInvalidations() {
+    return invalidations.get();
+  }
+
+  @Override
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  @Override
+  public int getSize() {
+    return size();
+  }
+
+  @Override
+  public long getUsedMemory() {
+    synchronized (this) {
+      return usedMemory;
+    }
+  }
+
+  @Override
+  public long getMaxMemory() {
+    return maxMemory * 1024L * 1024L;
+  }
+
+  public OCommandCacheSoftRefs setMaxMemory(final int iMaxMemoryInMB) {
+    this.maxMemory = iMaxMemoryInMB;
+    synchronized (this) {
+      evictLeastRecentlyUsed();
+    }
+    return this;
+  }
+
+  /**
+   * Registers the MBean for the cache of this database. The MBean of a previous instance of the same database, not shutdown because
+   * its storage has been closed without dropping it, is replaced.
+   *
+   * @see OCommandCacheMXBean
+   */
+  public void registerMBean() {
+    if (mbeanIsRegistered.compareAndSet(false, true)) {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName mbeanName = new ObjectName(MBEAN_NAME + ObjectName.quote(databaseName));
+
+        if (server.isRegistered(mbeanName))
+          server.unregisterMBean(mbeanName);
+        server.registerMBean(this, mbeanName);
+
+      } catch (MalformedObjectNameException e) {
+        throw OException.wrapException(new OSystemException("Error during registration of command cache MBean"), e);
+      } catch (InstanceAlreadyExistsException e) {
+        throw OException.wrapException(new OSystemException("Error during registration of command cache MBean"), e);
+      } catch (InstanceNotFoundException e) {
+        throw OException.wrapException(new OSystemException("Error during registration of command cache MBean"), e);
+      } catch (MBeanRegistrationException e) {
+        throw OException.wrapException(new OSystemException("Error during registration of command cache MBean"), e);
+      } catch (NotCompliantMBeanException e) {
+        throw OException.wrapException(new OSystemException("Error during registration of command cache MBean"), e);
+      }
+    }
+  }
+
+  /**
+   * Unregisters the MBean for the cache of this database.
+   *
+   * @see OCommandCacheMXBean
+   */
+  public void unregisterMBean() {
+    if (mbeanIsRegistered.compareAndSet(true, false)) {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName mbeanName = new ObjectName(MBEAN_NAME + ObjectName.quote(databaseName));
+        if (server.isRegistered(mbeanName))
+          server.unregisterMBean(mbeanName);
+      } catch (MalformedObjectNameException e) {
+        throw OException.wrapException(new OSystemException("Error during unregistration of command cache MBean"), e);
+      } catch (InstanceNotFoundException e) {
+        throw OException.wrapException(new OSystemException("Error during unregistration of command cache MBean"), e);
+      } catch (MBeanRegistrationException e) {
+        throw OException.wrapException(new OSystemException("Error during unregistration of command cache MBean"), e);
+      }
+    }
+  }
+
   public int getMinExecutionTime() {
     return minExecutionTime;
   }
@@ -0,0 +1,386 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.common.collection.OLongIntHashMap;
+import com.orientechnologies.common.concur.resource.OCloseable;
+import com.orientechnologies.common.profiler.OAbstractProfiler.OProfilerHookValue;
+import com.orientechnologies.common.profiler.OProfiler;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OStorageProxy;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Cache of the neighbours of vertices, shared by all the connections to a storage. Neighbours are grouped by direction and edge
+ * classes, like the ones passed to <code>out()</code>, <code>in()</code> and <code>both()</code> functions, and stored in compressed
+ * sparse row format: the rids of the neighbours of a vertex are packed in <code>long</code>s (cluster id in the highest 16 bits,
+ * cluster position in the others) and appended to a direct buffer, out of the Java heap, preceded by their number. Every group maps
+ * the rids of its vertices to the position of their neighbours in the buffer.
+ * <p>
+ * Entries are populated on demand and invalidated by {@link OGraphTopologyCacheHook} as soon as a vertex or an edge is created,
+ * updated or deleted. When the buffer is full the whole cache is cleared. Size of the buffer is set by
+ * {@link OGlobalConfiguration#GRAPH_TOPOLOGY_CACHE_SIZE}, the cache is disabled if it is 0 and it is never used on remote
+ * databases.
+ */
+public class OGraphTopologyCache implements OCloseable {
+  private static final int                   INVALID          = -1;
+  private static final int                   INITIAL_CAPACITY = 128 * 1024;
+
+  private final String                       databaseName;
+  private final long                         maxEntries;
+  private final ReadWriteLock                lock             = new ReentrantReadWriteLock();
+  private final Map<String, OLongIntHashMap> groups           = new HashMap<String, OLongIntHashMap>();
+  private LongBuffer                         buffer;
+  private int                                used;
+  private int                                invalid;
+  private volatile long                      version;
+
+  private final AtomicLong                   hits             = new AtomicLong();
+  private final AtomicLong                   misses           = new AtomicLong();
+  private final AtomicLong                   invalidations    = new AtomicLong();
+  private final AtomicLong                   evictions        = new AtomicLong();
+
+  public OGraphTopologyCache(final String iDatabaseName, final long iMaxSize) {
+    databaseName = iDatabaseName;
+    maxEntries = Math.min(iMaxSize / 8, Integer.MAX_VALUE);
+
+    final OProfiler profiler = Orient.instance().getProfiler();
+    profiler.registerHookValue(profiler.getDatabaseMetric(databaseName, "graphTopologyCache.memory"),
+        "Memory used by the graph topology cache", OProfiler.METRIC_TYPE.SIZE, new OProfilerHookValue() {
+          @Override
+          public Object getValue() {
+            return getMemoryUsed();
+          }
+        }, profiler.getDatabaseMetric("*", "graphTopologyCache.memory"));
+    profiler.registerHookValue(profiler.getDatabaseMetric(databaseName, "graphTopologyCache.hitRate"),
+        "Percentage of neighbours read from the graph topology cache", OProfiler.METRIC_TYPE.STAT,
+        new OProfilerHookValue() {
+          @Override
+          public Object getValue() {
+            return getHitRate();
+          }
+        }, profiler.getDatabaseMetric("*", "graphTopologyCache.hitRate"));
+  }
+
+  /**
+   * @return The topology cache of the storage of the database or <code>null</code> if the cache is disabled.
+   */
+  public static OGraphTopologyCache get(final ODatabaseDocumentInternal iDatabase) {
+    final long size = OGlobalConfiguration.GRAPH_TOPOLOGY_CACHE_SIZE.getValueAsLong() * 1024 * 1024;
+    if (size <= 0 || iDatabase.getStorage() instanceof OStorageProxy)
+      return null;
+
+    final String name = iDatabase.getStorage().getName();
+    return iDatabase.getStorage().getResource(OGraphTopologyCache.class.getSimpleName(), new Callable<OGraphTopologyCache>() {
+      @Override
+      public OGraphTopologyCache call() {
+        return new OGraphTopologyCache(name, size);
+      }
+    });
+  }
+
+  /**
+   * @return The rids of the neighbours of the vertex or <code>null</code> if they are not in cache.
+   */
+  public List<ORID> get(final ORID iVertex, final String iDirection, final String[] iLabels) {
+    final long key = pack(iVertex);
+    if (key < 0)
+      return null;
+
+    List<ORID> result = null;
+
+    lock.readLock().lock();
+    try {
+      final OLongIntHashMap group = groups.get(getGroupName(iDirection, iLabels));
+      final int position = group != null ? group.get(key, INVALID) : INVALID;
+      if (position != INVALID) {
+        final int size = (int) buffer.get(position);
+        result = new ArrayList<ORID>(size);
+        for (int i = 1; i <= size; i++) {
+          final long neighbor = buffer.get(position + i);
+          result.add(new ORecordId((int) (neighbor >>> 48), neighbor & ((1L << 48) - 1)));
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    final OProfiler profiler = Orient.instance().getProfiler();
+    if (result != null) {
+      hits.incrementAndGet();
+      if (profiler.isRecording())
+        profiler.updateCounter(profiler.getDatabaseMetric(databaseName, "graphTopologyCache.hit"),
+            "Neighbours returned by the graph topology cache", +1);
+    } else {
+      misses.incrementAndGet();
+      if (profiler.isRecording())
+        profiler.updateCounter(profiler.getDatabaseMetric(databaseName, "graphTopologyCache.miss"),
+            "Neighbours not returned by the graph topology cache", +1);
+    }
+
+    return result;
+  }
+
+  /**
+   * @return Version of the cache, which changes at every invalidation. It has to be read before reading the neighbours to cache.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * @return Maximum number of neighbours of a vertex that can be cached. Callers can stop collecting neighbours past this size.
+   */
+  public int getMaxNeighbors() {
+    return (int) Math.max(maxEntries / 4 - 1, 0);
+  }
+
+  /**
+   * Caches the neighbours of a vertex. Nothing is cached if some of the rids is not persistent, if neighbours take more than a
+   * quarter of the cache or if any vertex has been invalidated since the passed version, because neighbours could have been read
+   * before the change.
+   */
+  public void put(final ORID iVertex, final String iDirection, final String[] iLabels,
+      final List<? extends OIdentifiable> iNeighbors, final long iVersion) {
+    final long key = pack(iVertex);
+    if (key < 0 || iNeighbors.size() > getMaxNeighbors())
+      return;
+
+    final long[] neighbors = new long[iNeighbors.size()];
+    for (int i = 0; i < neighbors.length; i++) {
+      neighbors[i] = pack(iNeighbors.get(i).getIdentity());
+      if (neighbors[i] < 0)
+        return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      if (version != iVersion)
+        return;
+
+      if (!ensureCapacity(neighbors.length + 1)) {
+        // FULL: START AGAIN FROM AN EMPTY CACHE
+        evictions.incrementAndGet();
+        clearEntries();
+        ensureCapacity(neighbors.length + 1);
+      }
+
+      final String groupName = getGroupName(iDirection, iLabels);
+      OLongIntHashMap group = groups.get(groupName);
+      if (group == null) {
+        group = new OLongIntHashMap();
+        groups.put(groupName, group);
+      }
+
+      final int position = used;
+      buffer.put(used++, neighbors.length);
+      for (long neighbor : neighbors)
+        buffer.put(used++, neighbor);
+
+      if (group.put(key, position, INVALID) != INVALID)
+        // CONCURRENTLY POPULATED
+        invalid += neighbors.length + 1;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes the neighbours of the vertex from all the groups.
+   */
+  public void invalidate(final ORID iVertex) {
+    final long key = pack(iVertex);
+    if (key < 0)
+      return;
+
+    lock.writeLock().lock();
+    try {
+      version++;
+      for (OLongIntHashMap group : groups.values()) {
+        final int position = group.get(key, INVALID);
+        if (position != INVALID) {
+          // THE KEY IS KEPT BECAUSE THE MAP DOES NOT SUPPORT REMOVALS, ITS SPACE IS RECLAIMED WHEN THE CACHE IS CLEARED
+          group.put(key, INVALID, INVALID);
+          invalid += (int) buffer.get(position) + 1;
+          invalidations.incrementAndGet();
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      clearEntries();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    clear();
+
+    final OProfiler profiler = Orient.instance().getProfiler();
+    if (profiler != null) {
+      profiler.unregisterHookValue(profiler.getDatabaseMetric(databaseName, "graphTopologyCache.memory"));
+      profiler.unregisterHookValue(profiler.getDatabaseMetric(databaseName, "graphTopologyCache.hitRate"));
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * @return Percentage of lookups answered by the cache.
+   */
+  public float getHitRate() {
+    final long h = hits.get();
+    final long total = h + misses.get();
+    return total > 0 ? h * 100f / total : 0;
+  }
+
+  public long getInvalidations() {
+    return invalidations.get();
+  }
+
+  /**
+   * @return Number of times the cache has been cleared because it was full.
+   */
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  /**
+   * @return Bytes allocated out of the Java heap.
+   */
+  public long getMemoryUsed() {
+    lock.readLock().lock();
+    try {
+      return buffer != null ? (long) buffer.capacity() * 8 : 0;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public ODocument getStatistics() {
+    final ODocument stats = new ODocument();
+    lock.readLock().lock();
+    try {
+      stats.field("groups", groups.size());
+      stats.field("entries", used);
+      stats.field("invalidEntries", invalid);
+    } finally {
+      lock.readLock().unlock();
+    }
+    stats.field("memoryUsed", getMemoryUsed());
+    stats.field("maxMemory", maxEntries * 8);
+    stats.field("hits", getHits());
+    stats.field("misses", getMisses());
+    stats.field("hitRate", getHitRate());
+    stats.field("invalidations", getInvalidations());
+    stats.field("evictions", getEvictions());
+    return stats;
+  }
+
+  /**
+   * Grows the buffer, up to the maximum size, to append the passed amount of entries.
+   *
+   * @return <code>false</code> if there is no room for the entries.
+   */
+  private boolean ensureCapacity(final int iEntries) {
+    final long required = (long) used + iEntries;
+    if (required > maxEntries)
+      return false;
+
+    if (buffer != null && buffer.capacity() >= required)
+      return true;
+
+    long capacity = buffer != null ? buffer.capacity() : Math.min(INITIAL_CAPACITY, maxEntries);
+    while (capacity < required)
+      capacity = Math.min(capacity << 1, maxEntries);
+
+    final LongBuffer newBuffer = ByteBuffer.allocateDirect((int) capacity * 8).order(ByteOrder.nativeOrder()).asLongBuffer();
+    if (buffer != null) {
+      buffer.rewind();
+      buffer.limit(used);
+      newBuffer.put(buffer);
+    }
+    buffer = newBuffer;
+    return true;
+  }
+
+  private void clearEntries() {
+    version++;
+    groups.clear();
+    used = 0;
+    invalid = 0;
+  }
+
+  private static String getGroupName(final String iDirection, final String[] iLabels) {
+    if (iLabels == null || iLabels.length == 0)
+      return iDirection;
+
+    final String[] labels = new String[iLabels.length];
+    for (int i = 0; i < labels.length; i++)
+      labels[i] = iLabels[i].toLowerCase(Locale.ENGLISH);
+    Arrays.sort(labels);
+
+    final StringBuilder name = new StringBuilder(iDirection);
+    for (String label : labels)
+      name.append(':').append(label);
+    return name.toString();
+  }
+
+  private static long pack(final ORID rid) {
+    final int clusterId = rid.getClusterId();
+    final long clusterPosition = rid.getClusterPosition();
+    if (clusterId < 0 || clusterId > Short.MAX_VALUE || clusterPosition < 0 || clusterPosition >= (1L << 48))
+      return -1;
+
+    return ((long) clusterId << 48) | clusterPosition;
+  }
+}
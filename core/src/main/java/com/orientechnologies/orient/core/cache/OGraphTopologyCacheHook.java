@@ -0,0 +1,111 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.hook.ORecordHook;
+import com.orientechnologies.orient.core.hook.ORecordHookAbstract;
+import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+
+/**
+ * Hook that invalidates the neighbours kept by {@link OGraphTopologyCache} of the vertices created, updated or deleted and of the
+ * vertices connected by the edges created, updated or deleted. Vertices are invalidated both before and after the change, so
+ * neighbours read while a transaction is committed are not cached.
+ */
+public class OGraphTopologyCacheHook extends ORecordHookAbstract implements ORecordHook.Scoped {
+
+  private static final SCOPE[] SCOPES = { SCOPE.CREATE, SCOPE.UPDATE, SCOPE.DELETE };
+
+  private final OGraphTopologyCache cache;
+
+  public OGraphTopologyCacheHook(final ODatabaseDocumentInternal iDatabase) {
+    cache = OGraphTopologyCache.get(iDatabase);
+  }
+
+  @Override
+  public SCOPE[] getScopes() {
+    return SCOPES;
+  }
+
+  @Override
+  public RESULT onRecordBeforeCreate(final ORecord iRecord) {
+    invalidate(iRecord);
+    return RESULT.RECORD_NOT_CHANGED;
+  }
+
+  @Override
+  public void onRecordAfterCreate(final ORecord iRecord) {
+    invalidate(iRecord);
+  }
+
+  @Override
+  public RESULT onRecordBeforeUpdate(final ORecord iRecord) {
+    invalidate(iRecord);
+    return RESULT.RECORD_NOT_CHANGED;
+  }
+
+  @Override
+  public void onRecordAfterUpdate(final ORecord iRecord) {
+    invalidate(iRecord);
+  }
+
+  @Override
+  public RESULT onRecordBeforeDelete(final ORecord iRecord) {
+    invalidate(iRecord);
+    return RESULT.RECORD_NOT_CHANGED;
+  }
+
+  @Override
+  public void onRecordAfterDelete(final ORecord iRecord) {
+    invalidate(iRecord);
+  }
+
+  @Override
+  public DISTRIBUTED_EXECUTION_MODE getDistributedExecutionMode() {
+    return DISTRIBUTED_EXECUTION_MODE.BOTH;
+  }
+
+  protected void invalidate(final ORecord iRecord) {
+    if (cache == null || !(iRecord instanceof ODocument))
+      return;
+
+    final ODocument doc = (ODocument) iRecord;
+    final OImmutableClass cls = ODocumentInternal.getImmutableSchemaClass(doc);
+    if (cls == null)
+      return;
+
+    if (cls.isVertexType())
+      cache.invalidate(doc.getIdentity());
+    else if (cls.isEdgeType()) {
+      // BOTH THE VERTICES OF THE EDGE CHANGE THEIR NEIGHBOURS
+      invalidateVertex(doc.rawField("out"));
+      invalidateVertex(doc.rawField("in"));
+    }
+  }
+
+  private void invalidateVertex(final Object iVertex) {
+    if (iVertex instanceof OIdentifiable)
+      cache.invalidate(((OIdentifiable) iVertex).getIdentity());
+  }
+}
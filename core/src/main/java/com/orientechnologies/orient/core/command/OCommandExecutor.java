@@ -20,6 +20,7 @@
 package com.orientechnologies.orient.core.command;
 
 import com.orientechnologies.common.listener.OProgressListener;
+import com.orientechnologies.orient.core.cache.OCommandCacheDependency;
 
 import java.util.Map;
 import java.util.Set;
@@ -104,6 +105,11 @@ public interface OCommandExecutor {
    */
   boolean isCacheable();
 
+  /**
+   * Returns the records the cached results depend on, or null if any change to the records of the involved clusters can affect them.
+   */
+  OCommandCacheDependency getCacheDependency();
+
   long getDistributedTimeout();
 
   Object mergeResults(Map<String, Object> results) throws Exception;
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.command;
 import com.orientechnologies.common.collection.OMultiValue;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.parser.OBaseParser;
+import com.orientechnologies.orient.core.cache.OCommandCacheDependency;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
@@ -162,6 +163,11 @@ public abstract class OCommandExecutorAbstract extends OBaseParser implements OC
     return false;
   }
 
+  @Override
+  public OCommandCacheDependency getCacheDependency() {
+    return null;
+  }
+
   public Object mergeResults(final Map<String, Object> results) throws Exception {
 
     if (results.isEmpty())
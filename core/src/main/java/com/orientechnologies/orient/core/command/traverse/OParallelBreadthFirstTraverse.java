@@ -0,0 +1,437 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.command.traverse;
+
+import com.orientechnologies.common.collection.OLongHashSet;
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OCommandPredicate;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OAutoConvertToRecord;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ORecordLazyMultiValue;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.filter.OSQLFilterItem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Parallel implementation of {@link OTraverse.STRATEGY#BREADTH_FIRST} traversal.
+ * <p>
+ * Traversal queue is processed by generations: items of the current generation add their children to the next generation in the
+ * same order in which the single threaded traversal appends them to its queue, so results are returned in the same order. Records
+ * of a generation are loaded, checked by the predicate and their traversed fields are extracted by several threads, each of them
+ * uses its own copy of the database. Only the check whether a record was already traversed is done by the current thread once the
+ * whole generation has been processed, so the set of traversed records is never modified concurrently and is kept as a set of
+ * primitive <code>long</code> values.
+ * <p>
+ * Variables <code>$stack</code> and <code>$history</code> are not available to the predicate of parallel traversal.
+ */
+final class OParallelBreadthFirstTraverse {
+  private static final int    CHUNK_SIZE          = 64;
+
+  private final OTraverse       command;
+
+  private final OLongHashSet    traversed           = new OLongHashSet();
+  private final Set<ORID>       traversedNotEncoded = new HashSet<ORID>();
+
+  private List<Item>            generation          = new ArrayList<Item>();
+  private List<OIdentifiable>   output              = new ArrayList<OIdentifiable>();
+  private int                   outputPosition;
+
+  OParallelBreadthFirstTraverse(final OTraverse command, final Iterator<? extends OIdentifiable> target) {
+    this.command = command;
+    generation.add(new Item(Item.RECORD_SET, OTraversePath.empty().appendRecordSet(), null, target));
+  }
+
+  public OIdentifiable next() {
+    while (outputPosition >= output.size()) {
+      if (generation.isEmpty())
+        return null;
+
+      processGeneration();
+    }
+
+    final OIdentifiable result = output.get(outputPosition);
+    output.set(outputPosition, null);
+    outputPosition++;
+    return result;
+  }
+
+  public boolean isEmpty() {
+    return outputPosition >= output.size() && generation.isEmpty();
+  }
+
+  private void processGeneration() {
+    final List<Item> current = generation;
+    generation = new ArrayList<Item>();
+    output = new ArrayList<OIdentifiable>();
+    outputPosition = 0;
+
+    // GROUP OCCURRENCES OF THE SAME RECORD, SO IT IS LOADED AND EXPANDED ONCE
+    final List<RecordTask> tasks = new ArrayList<RecordTask>();
+    final Map<ORID, RecordTask> tasksByRid = new HashMap<ORID, RecordTask>();
+    final RecordTask[] taskOfItem = new RecordTask[current.size()];
+    final int[] occurrenceOfItem = new int[current.size()];
+
+    for (int i = 0; i < current.size(); i++) {
+      final Item item = current.get(i);
+      if (item.kind != Item.RECORD || item.record == null)
+        continue;
+
+      final ORID rid = item.record.getIdentity();
+      if (isTraversed(rid))
+        continue;
+
+      RecordTask task = rid.isPersistent() ? tasksByRid.get(rid) : null;
+      if (task == null) {
+        task = new RecordTask(item.record);
+        tasks.add(task);
+
+        if (rid.isPersistent())
+          tasksByRid.put(rid, task);
+      }
+
+      taskOfItem[i] = task;
+      occurrenceOfItem[i] = task.paths.size();
+      task.paths.add(item.path);
+    }
+
+    executeTasks(tasks);
+
+    // WALK THE GENERATION IN QUEUE ORDER TO KEEP RESULTS AND NEXT GENERATION IN THE ORDER OF SINGLE THREADED TRAVERSAL
+    final int maxDepth = command.getMaxDepth();
+    for (int i = 0; i < current.size(); i++) {
+      final Item item = current.get(i);
+      current.set(i, null);
+
+      if (item.kind == Item.RECORD) {
+        final RecordTask task = taskOfItem[i];
+        if (task == null || !task.accepted[occurrenceOfItem[i]])
+          continue;
+
+        final ORecord record = task.loaded;
+        if (isTraversed(record.getIdentity()))
+          // ALREADY REACHED BY AN EARLIER ITEM OF THIS GENERATION
+          continue;
+
+        if (maxDepth > -1 && item.path.getDepth() == maxDepth) {
+          // LAST LEVEL: RECORD IS RETURNED BUT NOT KEPT IN HISTORY
+          output.add(record);
+          continue;
+        }
+
+        if (!(record instanceof ODocument))
+          continue;
+
+        addTraversed(record.getIdentity());
+
+        for (Child child : task.children) {
+          final OTraversePath fieldPath = item.path.appendField(child.field);
+          if (child.values != null)
+            generation.add(new Item(Item.MULTI_VALUE, fieldPath, null, child.values.iterator()));
+          else
+            generation.add(new Item(Item.RECORD, fieldPath.append(child.record), child.record, null));
+        }
+
+        if (!((ODocument) record).isEmbedded())
+          output.add(record);
+
+      } else if (item.kind == Item.MULTI_VALUE) {
+        int index = -1;
+        while (item.values.hasNext()) {
+          final Object value = item.values.next();
+          index++;
+
+          if (value instanceof OIdentifiable) {
+            final OIdentifiable identifiable = (OIdentifiable) value;
+            generation.add(new Item(Item.RECORD, item.path.appendIndex(index).append(identifiable), identifiable, null));
+          }
+        }
+      } else
+        expandRecordSet(item);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void expandRecordSet(final Item item) {
+    while (item.values.hasNext()) {
+      final OIdentifiable identifiable = (OIdentifiable) item.values.next();
+      if (identifiable == null)
+        continue;
+
+      final ORecord rec = identifiable.getRecord();
+      if (!(rec instanceof ODocument))
+        continue;
+
+      final ODocument doc = (ODocument) rec;
+      if (!doc.getIdentity().isPersistent() && doc.fields() == 1) {
+        // EXTRACT THE FIELD CONTEXT
+        final Object fieldValue = doc.field(doc.fieldNames()[0]);
+        if (fieldValue instanceof Collection<?>)
+          generation.add(new Item(Item.RECORD_SET, item.path, null, ((Collection<OIdentifiable>) fieldValue).iterator()));
+        else if (fieldValue instanceof ODocument)
+          generation.add(new Item(Item.RECORD, item.path.append(doc), doc, null));
+      } else
+        generation.add(new Item(Item.RECORD, item.path.append(doc), doc, null));
+    }
+  }
+
+  private void executeTasks(final List<RecordTask> tasks) {
+    if (tasks.isEmpty())
+      return;
+
+    final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+    final int threads = Math.min(Runtime.getRuntime().availableProcessors(), (tasks.size() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+    if (db == null || db.getTransaction().isActive() || threads < 2
+        || tasks.size() < OGlobalConfiguration.QUERY_PARALLEL_TRAVERSE_MINIMUM_GENERATION.getValueAsInteger()) {
+      final OTraverseContext context = command.getContext().copyForParallelTraversal();
+      for (RecordTask task : tasks)
+        task.execute(command, context);
+      return;
+    }
+
+    final AtomicInteger nextChunk = new AtomicInteger();
+    final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+    final List<Future<?>> helpers = new ArrayList<Future<?>>(threads - 1);
+    for (int i = 0; i < threads - 1; i++) {
+      helpers.add(Orient.instance().submit(new Runnable() {
+        @Override
+        public void run() {
+          if (nextChunk.get() * CHUNK_SIZE >= tasks.size())
+            // NOTHING LEFT, AVOID COPYING THE DATABASE
+            return;
+
+          final ODatabaseDocumentInternal localDatabase = db.copy();
+          try {
+            localDatabase.activateOnCurrentThread();
+
+            // CREATE A SNAPSHOT TO AVOID DEADLOCKS
+            localDatabase.getMetadata().getSchema().makeSnapshot();
+
+            executeChunks(tasks, nextChunk, error, command.getContext().copyForParallelTraversal());
+          } finally {
+            localDatabase.close();
+          }
+        }
+      }));
+    }
+
+    executeChunks(tasks, nextChunk, error, command.getContext().copyForParallelTraversal());
+
+    for (Future<?> helper : helpers) {
+      if (helper.cancel(false))
+        // NOT STARTED YET, ALL THE WORK HAS BEEN CLAIMED BY OTHER THREADS
+        continue;
+
+      try {
+        helper.get();
+      } catch (CancellationException e) {
+        // NOT STARTED
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw OException.wrapException(new OCommandExecutionException("The traverse execution has been interrupted"), e);
+      } catch (ExecutionException e) {
+        error.compareAndSet(null, e.getCause());
+      }
+    }
+
+    final Throwable t = error.get();
+    if (t instanceof RuntimeException)
+      throw (RuntimeException) t;
+    if (t != null)
+      throw OException.wrapException(new OCommandExecutionException("Error on executing parallel traverse"), t);
+  }
+
+  private void executeChunks(final List<RecordTask> tasks, final AtomicInteger nextChunk, final AtomicReference<Throwable> error,
+      final OTraverseContext context) {
+    int chunk;
+    while (error.get() == null && (chunk = nextChunk.getAndIncrement()) * CHUNK_SIZE < tasks.size()) {
+      final int end = Math.min(tasks.size(), (chunk + 1) * CHUNK_SIZE);
+      try {
+        for (int i = chunk * CHUNK_SIZE; i < end; i++)
+          tasks.get(i).execute(command, context);
+      } catch (Throwable t) {
+        error.compareAndSet(null, t);
+      }
+    }
+  }
+
+  private boolean isTraversed(final ORID rid) {
+    final long key = encode(rid);
+    if (key < 0)
+      return traversedNotEncoded.contains(rid);
+
+    return traversed.contains(key);
+  }
+
+  private void addTraversed(final ORID rid) {
+    final long key = encode(rid);
+    if (key < 0)
+      traversedNotEncoded.add(rid);
+    else
+      traversed.add(key);
+  }
+
+  /**
+   * Packs cluster id into the upper 16 bits and cluster position into the lower 48 bits.
+   *
+   * @return Encoded rid or <code>-1</code> if rid can not be encoded, like rids of new or embedded records.
+   */
+  private static long encode(final ORID rid) {
+    final int clusterId = rid.getClusterId();
+    final long clusterPosition = rid.getClusterPosition();
+
+    if (clusterId < 0 || clusterId > Short.MAX_VALUE || clusterPosition < 0 || clusterPosition >= (1L << 48))
+      return -1;
+
+    return ((long) clusterId << 48) | clusterPosition;
+  }
+
+  private static final class Item {
+    private static final byte RECORD      = 0;
+    private static final byte MULTI_VALUE = 1;
+    private static final byte RECORD_SET  = 2;
+
+    private final byte          kind;
+    private final OTraversePath path;
+    private final OIdentifiable record;
+    private final Iterator<?>   values;
+
+    private Item(final byte kind, final OTraversePath path, final OIdentifiable record, final Iterator<?> values) {
+      this.kind = kind;
+      this.path = path;
+      this.record = record;
+      this.values = values;
+    }
+  }
+
+  private static final class Child {
+    private final String        field;
+    private final OIdentifiable record;
+    private final List<Object>  values;
+
+    private Child(final String field, final OIdentifiable record, final List<Object> values) {
+      this.field = field;
+      this.record = record;
+      this.values = values;
+    }
+  }
+
+  /**
+   * Loads record, evaluates predicate for every path by which record is reached in the generation and extracts traversed fields.
+   */
+  private static final class RecordTask {
+    private final OIdentifiable       record;
+    private final List<OTraversePath> paths    = new ArrayList<OTraversePath>(1);
+
+    private ORecord                   loaded;
+    private boolean[]                 accepted;
+    private final List<Child>         children = new ArrayList<Child>();
+
+    private RecordTask(final OIdentifiable record) {
+      this.record = record;
+    }
+
+    private void execute(final OTraverse command, final OTraverseContext context) {
+      accepted = new boolean[paths.size()];
+
+      loaded = record.getRecord();
+      if (loaded == null)
+        return;
+
+      final OCommandPredicate predicate = command.getPredicate();
+      final int maxDepth = command.getMaxDepth();
+
+      boolean expand = false;
+      for (int i = 0; i < paths.size(); i++) {
+        final OTraversePath path = paths.get(i);
+
+        if (predicate != null) {
+          context.setCurrentPath(path);
+          if (predicate.evaluate(loaded, null, context) != Boolean.TRUE)
+            continue;
+        }
+
+        accepted[i] = true;
+        if (maxDepth == -1 || path.getDepth() != maxDepth)
+          expand = true;
+      }
+
+      if (expand && loaded instanceof ODocument)
+        extractChildren(command, (ODocument) loaded);
+    }
+
+    private void extractChildren(final OTraverse command, final ODocument doc) {
+      for (Object field : OTraverseRecordProcess.getFieldsToTraverse(command, doc)) {
+        final Object fieldValue;
+        if (field instanceof OSQLFilterItem)
+          fieldValue = ((OSQLFilterItem) field).getValue(doc, null, null);
+        else
+          fieldValue = doc.rawField(field.toString());
+
+        if (fieldValue == null)
+          continue;
+
+        if (fieldValue instanceof Iterator<?> || OMultiValue.isMultiValue(fieldValue)) {
+          final Iterator<?> coll;
+          if (fieldValue instanceof ORecordLazyMultiValue)
+            coll = ((ORecordLazyMultiValue) fieldValue).rawIterator();
+          else
+            coll = OMultiValue.getMultiValueIterator(fieldValue, false);
+
+          if (coll instanceof OAutoConvertToRecord)
+            // FORCE AVOIDING TO CONVERT IN RECORD
+            ((OAutoConvertToRecord) coll).setAutoConvertToRecord(false);
+
+          final List<Object> values = new ArrayList<Object>();
+          while (coll.hasNext())
+            values.add(coll.next());
+
+          children.add(new Child(field.toString(), null, values));
+        } else if (fieldValue instanceof OIdentifiable) {
+          final ORecord child = ((OIdentifiable) fieldValue).getRecord();
+          if (child instanceof ODocument)
+            children.add(new Child(field.toString(), child, null));
+        }
+      }
+    }
+  }
+}
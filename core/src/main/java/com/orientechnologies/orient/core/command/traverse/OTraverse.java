@@ -46,6 +46,9 @@ public class OTraverse implements OCommand, Iterable<OIdentifiable>, Iterator<OI
   private STRATEGY                          strategy    = STRATEGY.DEPTH_FIRST;
   private OTraverseContext                  context     = new OTraverseContext();
   private int                               maxDepth    = -1;
+  private boolean                           parallel    = false;
+  private OParallelBreadthFirstTraverse     parallelTraverse;
+  private boolean                           started     = false;
 
   public enum STRATEGY {
     DEPTH_FIRST, BREADTH_FIRST
@@ -76,7 +79,7 @@ public class OTraverse implements OCommand, Iterable<OIdentifiable>, Iterator<OI
       // GET THE NEXT
       lastTraversed = next();
 
-    if (lastTraversed == null && !context.isEmpty())
+    if (lastTraversed == null && (parallelTraverse != null ? !parallelTraverse.isEmpty() : !context.isEmpty()))
       throw new IllegalStateException("Traverse ended abnormally");
 
     if (!OCommandExecutorAbstract.checkInterruption(context))
@@ -100,7 +103,23 @@ public class OTraverse implements OCommand, Iterable<OIdentifiable>, Iterator<OI
     if (limit > 0 && resultCount >= limit)
       return null;
 
+    if (!started) {
+      started = true;
+      if (parallel && strategy == STRATEGY.BREADTH_FIRST && target != null) {
+        // THE WHOLE TRAVERSAL IS DONE BY THE PARALLEL ENGINE, THE STACK OF PROCESSES IS NOT USED
+        context.reset();
+        parallelTraverse = new OParallelBreadthFirstTraverse(this, target);
+      }
+    }
+
     OIdentifiable result;
+    if (parallelTraverse != null) {
+      result = parallelTraverse.next();
+      if (result != null)
+        resultCount++;
+      return result;
+    }
+
     OTraverseAbstractProcess<?> toProcess;
     // RESUME THE LAST PROCESS
     while ((toProcess = nextProcess()) != null) {
@@ -140,6 +159,8 @@ public class OTraverse implements OCommand, Iterable<OIdentifiable>, Iterator<OI
   public OTraverse target(final Iterator<? extends OIdentifiable> iTarget) {
     target = iTarget;
     context.reset();
+    parallelTraverse = null;
+    started = false;
     new OTraverseRecordSetProcess(this, (Iterator<OIdentifiable>) target, OTraversePath.empty());
     return this;
   }
@@ -212,6 +233,19 @@ public class OTraverse implements OCommand, Iterable<OIdentifiable>, Iterator<OI
     context.setStrategy(strategy);
   }
 
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  /**
+   * Enables parallel traversal: records reached at the same step of {@link STRATEGY#BREADTH_FIRST} traversal are loaded and
+   * checked by several threads, results are returned in the same order as by single threaded traversal. Is ignored for
+   * {@link STRATEGY#DEPTH_FIRST} traversal.
+   */
+  public void setParallel(final boolean parallel) {
+    this.parallel = parallel;
+  }
+
   public int getMaxDepth() {
     return maxDepth;
   }
@@ -32,6 +32,7 @@ public class OTraverseContext extends OBasicCommandContext {
   private Set<ORID> history = new HashSet<ORID>();
 
   private OTraverseAbstractProcess<?> currentProcess;
+  private OTraversePath               currentPath;
 
   public void push(final OTraverseAbstractProcess<?> iProcess) {
     memory.add(iProcess);
@@ -138,11 +139,39 @@ public class OTraverseContext extends OBasicCommandContext {
   }
 
   public String getPath() {
-    return currentProcess == null ? "" : currentProcess.getPath().toString();
+    if (currentProcess == null)
+      return currentPath == null ? "" : currentPath.toString();
+
+    return currentProcess.getPath().toString();
   }
 
   public int getDepth() {
-    return currentProcess == null ? 0 : currentProcess.getPath().getDepth();
+    if (currentProcess == null)
+      return currentPath == null ? 0 : currentPath.getDepth();
+
+    return currentProcess.getPath().getDepth();
+  }
+
+  /**
+   * Sets path of the record which is processed by parallel traversal, which has no processes.
+   */
+  void setCurrentPath(final OTraversePath currentPath) {
+    this.currentPath = currentPath;
+  }
+
+  /**
+   * Creates the context used by a thread of parallel traversal to evaluate the predicate. Variables and parent of this context are
+   * visible in the copy, while current path, stack and history are not shared.
+   */
+  OTraverseContext copyForParallelTraversal() {
+    final OTraverseContext copy = new OTraverseContext();
+    if (variables != null)
+      copy.variables = new HashMap<String, Object>(variables);
+
+    copy.parent = parent;
+    copy.inputParameters = inputParameters;
+    copy.recordMetrics = recordMetrics;
+    return copy;
   }
 
   public void setStrategy(final OTraverse.STRATEGY strategy) {
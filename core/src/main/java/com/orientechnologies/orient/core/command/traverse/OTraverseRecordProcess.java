@@ -76,42 +76,7 @@ public class OTraverseRecordProcess extends OTraverseAbstractProcess<OIdentifiab
       final ODocument targetDoc = (ODocument) targetRec;
 
       // MATCH!
-      final List<Object> fields = new ArrayList<Object>();
-
-      // TRAVERSE THE DOCUMENT ITSELF
-      for (Object cfgFieldObject : command.getFields()) {
-        String cfgField = cfgFieldObject.toString();
-
-        if ("*".equals(cfgField) || OSQLFilterItemFieldAll.FULL_NAME.equalsIgnoreCase(cfgField)
-            || OSQLFilterItemFieldAny.FULL_NAME.equalsIgnoreCase(cfgField)) {
-
-          // ADD ALL THE DOCUMENT FIELD
-          Collections.addAll(fields, targetDoc.fieldNames());
-          break;
-
-        } else {
-          // SINGLE FIELD
-          final int pos = OStringSerializerHelper
-              .parse(cfgField, new StringBuilder(), 0, -1, new char[] { '.' }, true, true, true, 0, true) - 1;
-          if (pos > -1) {
-            // FOUND <CLASS>.<FIELD>
-            final OClass cls = ODocumentInternal.getImmutableSchemaClass(targetDoc);
-            if (cls == null)
-              // JUMP IT BECAUSE NO SCHEMA
-              continue;
-
-            final String className = cfgField.substring(0, pos);
-            if (!cls.isSubClassOf(className))
-              // JUMP IT BECAUSE IT'S NOT A INSTANCEOF THE CLASS
-              continue;
-
-            cfgField = cfgField.substring(pos + 1);
-
-            fields.add(cfgField);
-          } else
-            fields.add(cfgFieldObject);
-        }
-      }
+      final List<Object> fields = getFieldsToTraverse(command, targetDoc);
 
       if (command.getStrategy() == OTraverse.STRATEGY.DEPTH_FIRST)
         // REVERSE NAMES TO BE PROCESSED IN THE RIGHT ORDER
@@ -126,6 +91,50 @@ public class OTraverseRecordProcess extends OTraverseAbstractProcess<OIdentifiab
     return target;
   }
 
+  /**
+   * Returns fields of the document which are traversed by the command, in the order in which they are listed in the command.
+   */
+  static List<Object> getFieldsToTraverse(final OTraverse command, final ODocument targetDoc) {
+    final List<Object> fields = new ArrayList<Object>();
+
+    // TRAVERSE THE DOCUMENT ITSELF
+    for (Object cfgFieldObject : command.getFields()) {
+      String cfgField = cfgFieldObject.toString();
+
+      if ("*".equals(cfgField) || OSQLFilterItemFieldAll.FULL_NAME.equalsIgnoreCase(cfgField)
+          || OSQLFilterItemFieldAny.FULL_NAME.equalsIgnoreCase(cfgField)) {
+
+        // ADD ALL THE DOCUMENT FIELD
+        Collections.addAll(fields, targetDoc.fieldNames());
+        break;
+
+      } else {
+        // SINGLE FIELD
+        final int pos = OStringSerializerHelper
+            .parse(cfgField, new StringBuilder(), 0, -1, new char[] { '.' }, true, true, true, 0, true) - 1;
+        if (pos > -1) {
+          // FOUND <CLASS>.<FIELD>
+          final OClass cls = ODocumentInternal.getImmutableSchemaClass(targetDoc);
+          if (cls == null)
+            // JUMP IT BECAUSE NO SCHEMA
+            continue;
+
+          final String className = cfgField.substring(0, pos);
+          if (!cls.isSubClassOf(className))
+            // JUMP IT BECAUSE IT'S NOT A INSTANCEOF THE CLASS
+            continue;
+
+          cfgField = cfgField.substring(pos + 1);
+
+          fields.add(cfgField);
+        } else
+          fields.add(cfgFieldObject);
+      }
+    }
+
+    return fields;
+  }
+
   private void processFields(Iterator<Object> target) {
     final ODocument doc = this.target.getRecord();
 
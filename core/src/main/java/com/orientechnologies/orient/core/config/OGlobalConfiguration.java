@@ -233,6 +233,27 @@ public enum OGlobalConfiguration {
   PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY("storage.lowestFreeListBound",
       "The least amount of free space (in kb) in a page, which is tracked in paginated storage", Integer.class, 16),
 
+  PAGINATED_STORAGE_BIG_RECORD_PREFETCH_PAGES("storage.bigRecordPrefetchPages",
+      "Maximum amount of pages which are read in a single I/O operation, when a record that does not fit into one page is loaded. "
+          + "Pages of such records are allocated contiguously, so they can be read at once (Use 1 to disable)", Integer.class, 64),
+
+  STORAGE_CLUSTER_COMPACTION_INTERVAL("storage.cluster.compaction.interval",
+      "Interval between runs of online compaction of clusters (in seconds). Online compaction moves records from sparsely "
+          + "filled pages into densely filled ones without changing of their rids. Use 0 to disable background compaction, "
+          + "compaction can still be started through JMX",
+      Integer.class, 0),
+
+  STORAGE_CLUSTER_COMPACTION_FILL_FACTOR("storage.cluster.compaction.fillFactor",
+      "Records are moved by online compaction only from pages which are filled less than given percent of page size",
+      Integer.class, 50),
+
+  STORAGE_CLUSTER_COMPACTION_BATCH_SIZE("storage.cluster.compaction.batchSize",
+      "Maximum amount of records which are processed by online compaction while cluster is locked", Integer.class, 100),
+
+  STORAGE_CLUSTER_COMPACTION_BATCH_PAUSE("storage.cluster.compaction.batchPause",
+      "Pause between batches of records processed by online compaction (in ms). It throttles I/O caused by compaction",
+      Integer.class, 10),
+
   STORAGE_LOCK_TIMEOUT("storage.lockTimeout", "Maximum amount of time (in ms) to lock the storage", Integer.class, 0),
 
   STORAGE_RECORD_LOCK_TIMEOUT("storage.record.lockTimeout", "Maximum of time (in ms) to lock a shared record", Integer.class, 2000),
@@ -326,6 +347,10 @@ public enum OGlobalConfiguration {
 
   INDEX_CURSOR_PREFETCH_SIZE("index.cursor.prefetchSize", "Default prefetch size of index cursor", Integer.class, 500000),
 
+  INDEX_HISTOGRAM_BUCKETS("index.histogramBuckets",
+      "Number of buckets of the histograms of the keys computed by ANALYZE on the ordered indexes. More buckets give better estimates of the records returned by a condition, at the price of memory",
+      Integer.class, 64),
+
   // SBTREE
   SBTREE_MAX_DEPTH("sbtree.maxDepth",
       "Maximum depth of sbtree, which will be traversed during key look up until it will be treated as broken (64 by default)",
@@ -352,6 +377,11 @@ public enum OGlobalConfiguration {
       "How much free space should be in an sbtreebonsai file, before it will be reused during the next allocation", Float.class,
       0.5),
 
+  SBTREEBONSAI_FILES_PER_CLUSTER("sbtreebonsai.filesPerCluster",
+      "Amount of files among which LINKBAG collections of a cluster are spread. Collections of the same document are always kept in the"
+          + " same file, so threads which update documents with collections in different files do not wait for each other",
+      Integer.class, 1),
+
   // RIDBAG
   RID_BAG_EMBEDDED_DEFAULT_SIZE("ridBag.embeddedDefaultSize", "Size of embedded RidBag array, when created (empty)", Integer.class,
       4),
@@ -364,6 +394,10 @@ public enum OGlobalConfiguration {
       "Amount of values, after which a LINKBAG implementation will use an embedded values container (disabled by default)",
       Integer.class, -1, true),
 
+  RID_BAG_SORTED_ITERATION_BATCH_SIZE("ridBag.sortedIterationBatchSize",
+      "Maximum amount of neighbours of a vertex which are sorted by cluster and position together and loaded in such order when a graph traversal expands the vertex. It changes the order of neighbours returned by out(), in() and both(). Set to 0 to load neighbours in order of edges",
+      Integer.class, 0),
+
   // COLLECTIONS
   PREFER_SBTREE_SET("collections.preferSBTreeSet", "This configuration setting is experimental", Boolean.class, false),
 
@@ -421,6 +455,15 @@ public enum OGlobalConfiguration {
       "Maximum attempts, until a response can be read. Otherwise, the response will be dropped from the channel", Integer.class, 20,
       true),
 
+  NETWORK_BINARY_CURSOR_PAGE_SIZE("network.binary.cursorPageSize",
+      "Default number of records fetched at a time by a client from a server side cursor", Integer.class, 1000, true),
+
+  NETWORK_BINARY_CURSOR_TIMEOUT("network.binary.cursorTimeout",
+      "Time (in ms) after which a server side cursor not read by the client is closed", Long.class, 60000, true),
+
+  NETWORK_BINARY_MAX_CURSORS("network.binary.maxCursors", "Maximum number of server side cursors open at the same time",
+      Integer.class, 100, true),
+
   NETWORK_BINARY_DEBUG("network.binary.debug", "Debug mode: print all data incoming on the binary channel", Boolean.class, false,
       true),
 
@@ -541,7 +584,7 @@ public enum OGlobalConfiguration {
 
   COMMAND_CACHE_ENABLED("command.cache.enabled", "Enable command cache", Boolean.class, false),
 
-  COMMAND_CACHE_EVICT_STRATEGY("command.cache.evictStrategy", "Command cache strategy between: [INVALIDATE_ALL,PER_CLUSTER]",
+  COMMAND_CACHE_EVICT_STRATEGY("command.cache.evictStrategy", "Command cache strategy between: [INVALIDATE_ALL,PER_CLUSTER,PER_RECORD]. PER_RECORD invalidates only the results whose conditions match the changed record",
       String.class, "PER_CLUSTER"),
 
   COMMAND_CACHE_MIN_EXECUTION_TIME("command.cache.minExecutionTime", "Minimum execution time to consider caching the result set",
@@ -550,6 +593,10 @@ public enum OGlobalConfiguration {
   COMMAND_CACHE_MAX_RESULSET_SIZE("command.cache.maxResultsetSize", "Maximum resultset time to consider caching result set",
       Integer.class, 500),
 
+  COMMAND_CACHE_MAX_MEMORY("command.cache.maxMemory",
+      "Maximum memory (in MB) used by the cached results of a database. The least recently used results are evicted first. 0 = no limit",
+      Integer.class, 64),
+
   // QUERY
   QUERY_PARALLEL_AUTO("query.parallelAuto", "Auto enable parallel query, if requirements are met", Boolean.class, false),
 
@@ -560,6 +607,21 @@ public enum OGlobalConfiguration {
       "Size of the queue that holds results on parallel execution. The queue is blocking, so in case the queue is full, the query threads will be in a wait state",
       Integer.class, 20000),
 
+  QUERY_PARALLEL_RANGE_SIZE("query.parallelRangeSize",
+      "Number of cluster positions of the ranges in which parallel queries split the clusters to scan. Every thread scans a range at a time and, when its ranges are finished, takes the ranges left to the other threads",
+      Long.class, 10000),
+
+  QUERY_PARALLEL_MAX_THREADS("query.parallelMaxThreads",
+      "Maximum number of threads that scan the clusters of a parallel query. (Use 0 for the number of cores)", Integer.class, 0),
+
+  QUERY_PARALLEL_TRAVERSE_MINIMUM_GENERATION("query.parallelTraverseMinimumGeneration",
+      "Minimum number of records reached at the same step of a parallel traverse to process them by several threads, smaller steps are processed by the current thread",
+      Integer.class, 1000),
+
+  QUERY_PARALLEL_MATCH_MINIMUM_ROOTS("query.parallelMatchMinimumRoots",
+      "Minimum number of candidates of the starting alias of a parallel MATCH to process them by several threads, smaller sets are processed by the current thread",
+      Integer.class, 1000),
+
   QUERY_SCAN_PREFETCH_PAGES("query.scanPrefetchPages",
       "Pages to prefetch during scan. Setting this value higher makes scans faster, because it reduces the number of I/O operations, though it consumes more memory. (Use 0 to disable)",
       Integer.class, 20),
@@ -575,10 +637,42 @@ public enum OGlobalConfiguration {
   QUERY_LIMIT_THRESHOLD_TIP("query.limitThresholdTip",
       "If the total number of returned records exceeds this value, then a warning is given. (Use 0 to disable)", Long.class, 10000),
 
+  QUERY_BATCH_AGGREGATION("query.batchAggregation",
+      "Execute count(), sum(), min(), max() and avg() over fields in blocks of primitive values read directly from the serialized records, if all projections of a query without GROUP BY are such aggregates",
+      Boolean.class, true),
+
+  QUERY_MATCH_STATISTICS_SAMPLE_SIZE("query.match.statisticsSampleSize",
+      "Number of vertices sampled to compute the number of edges per vertex of a class, used by MATCH to choose the starting alias and the order of the traversals. 0 disables the statistics, so MATCH starts from the alias with less candidates and traverses the edges in the order they are written",
+      Integer.class, 100),
+
+  QUERY_STREAMING_EXECUTION("query.streamingExecution",
+      "Execute SELECT statements with the step based executor, that streams the records to the client one at a time and reports the records and the time of every step in EXPLAIN. Statements that use features not supported by the steps are executed by the legacy executor. Requires strict SQL",
+      Boolean.class, false),
+
+  QUERY_SORT_MEMORY_BUDGET("query.sortMemoryBudget",
+      "Maximum size in megabytes of the serialized records kept in memory by an ORDER BY without LIMIT executed by the step based executor. Beyond it the records are sorted in runs written to temporary files and merged at the end. (Use 0 to keep all the records in memory)",
+      Integer.class, 64),
+
+  QUERY_GROUP_BY_MAX_GROUPS("query.groupByMaxGroups",
+      "Maximum number of groups kept in memory by a GROUP BY executed by the step based executor. Beyond it the records of the other groups are written to temporary files, partitioned by group, and aggregated after the groups in memory. (Use 0 to keep all the groups in memory)",
+      Integer.class, 100000),
+
+  QUERY_INDEX_INTERSECTION_RATIO("query.indexIntersectionRatio",
+      "When more indexed conditions are in AND, the RIDs of the other indexes are intersected with the ones of the first index if they are no more than this number of times the RIDs of the first index. (Use 0 to use only one index)",
+      Integer.class, 10),
+
+  QUERY_COMPILE_CONDITIONS("query.compileConditions",
+      "Evaluate the comparisons between a field and a value in WHERE with evaluators specialised on the type of the field declared by the schema, that read the field and compare it without conversions. The other conditions are evaluated as usual",
+      Boolean.class, true),
+
   QUERY_LIVE_SUPPORT("query.live.support", "Enable/Disable the support of live query. (Use false to disable)", Boolean.class, true),
 
   STATEMENT_CACHE_SIZE("statement.cacheSize", "Number of parsed SQL statements kept in cache", Integer.class, 100),
 
+  PREPARED_QUERY_CACHE_SIZE("preparedQuery.cacheSize",
+      "Number of prepared queries whose parsed executors are kept in cache, per database. Only the step based executor enabled by query.streamingExecution can be reused. (Use 0 to parse the prepared queries at every execution)",
+      Integer.class, 100),
+
   // GRAPH
   SQL_GRAPH_CONSISTENCY_MODE("sql.graphConsistencyMode",
       "Consistency mode for graphs. It can be 'tx' (default), 'notx_sync_repair' and 'notx_async_repair'. "
@@ -587,6 +681,11 @@ public enum OGlobalConfiguration {
           + "With 'notx_sync_repair' the repair is synchronous, so the database comes online after the repair is ended, while "
           + "with 'notx_async_repair' the repair is a background process", String.class, "tx"),
 
+  GRAPH_TOPOLOGY_CACHE_SIZE("graph.topologyCache.size",
+      "Maximum memory, in megabytes, used out of the Java heap by every database to cache the neighbours of vertices read by "
+          + "out(), in() and both() functions and by MATCH. It has to be set before opening the databases. 0 disables the cache",
+      Integer.class, 0),
+
   /**
    * Maximum size of pool of network channels between client and server. A channel is a TCP/IP connection.
    */
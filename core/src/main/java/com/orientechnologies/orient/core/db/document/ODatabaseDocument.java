@@ -29,6 +29,7 @@ import com.orientechnologies.orient.core.iterator.ORecordIteratorCluster;
 import com.orientechnologies.orient.core.metadata.security.ORule;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLPreparedQuery;
 
 /**
  * Generic interface for document based Database implementations.
@@ -293,6 +294,17 @@ public interface ODatabaseDocument extends ODatabase<ORecord>, ODatabaseSchemaAw
    */
   int addBlobCluster(String iClusterName, Object... iParameters);
 
+  /**
+   * Prepares a SQL query to be executed many times with different parameters: the first execution parses the statement, the
+   * following ones reuse the parsed statement and its plan, cached by the database until the schema or the indexes change. The
+   * values that change between the executions must be passed as parameters in the WHERE condition.
+   * 
+   * @param iSql
+   *          SELECT statement, like "select from Person where name = ?"
+   * @return the query to pass to {@link #query(com.orientechnologies.orient.core.query.OQuery, Object...)}
+   */
+  <T> OSQLPreparedQuery<T> prepare(String iSql);
+
   /**
    * Return the active intent.
    *
@@ -30,6 +30,7 @@ import com.orientechnologies.common.util.OCommonConst;
 import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.orient.core.Orient;
 import com.orientechnologies.orient.core.cache.OCommandCacheHook;
+import com.orientechnologies.orient.core.cache.OGraphTopologyCacheHook;
 import com.orientechnologies.orient.core.cache.OLocalRecordCache;
 import com.orientechnologies.orient.core.command.OCommandOutputListener;
 import com.orientechnologies.orient.core.command.OCommandRequest;
@@ -76,6 +77,7 @@ import com.orientechnologies.orient.core.serialization.serializer.record.ORecord
 import com.orientechnologies.orient.core.serialization.serializer.record.ORecordSerializerFactory;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
 import com.orientechnologies.orient.core.sql.parser.OStatement;
+import com.orientechnologies.orient.core.sql.query.OSQLPreparedQuery;
 import com.orientechnologies.orient.core.storage.*;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OFreezableStorageComponent;
@@ -741,6 +743,15 @@ public class ODatabaseDocumentTx extends OListenerManger<ODatabaseListener> impl
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> OSQLPreparedQuery<T> prepare(final String iSql) {
+    checkIfActive();
+    return new OSQLPreparedQuery<T>(iSql);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -3161,6 +3172,8 @@ public class ODatabaseDocumentTx extends OListenerManger<ODatabaseListener> impl
     registerHook(new OClassIndexManager(this), ORecordHook.HOOK_POSITION.LAST);
     registerHook(new OSchedulerTrigger(this), ORecordHook.HOOK_POSITION.LAST);
     registerHook(new OLiveQueryHook(this), ORecordHook.HOOK_POSITION.LAST);
+    if (OGlobalConfiguration.GRAPH_TOPOLOGY_CACHE_SIZE.getValueAsInteger() > 0)
+      registerHook(new OGraphTopologyCacheHook(this), ORecordHook.HOOK_POSITION.LAST);
   }
 
   private void installHooksRemote() {
@@ -195,6 +195,14 @@ public class ORidBag implements OStringBuilderSerializable, Iterable<OIdentifiab
     return delegate instanceof OEmbeddedRidBag;
   }
 
+  /**
+   * Tells if {@link #size()} answers without browsing the bag. It is always the case for the embedded bags, while the tree based
+   * ones could need to read all their entries.
+   */
+  public boolean isSizeKnown() {
+    return !(delegate instanceof OSBTreeRidBag) || ((OSBTreeRidBag) delegate).isSizeKnown();
+  }
+
   public int toStream(BytesContainer bytesContainer) throws OSerializationException {
 
     final ORecordSerializationContext context = ORecordSerializationContext.getContext();
@@ -0,0 +1,56 @@
+package com.orientechnologies.orient.core.db.record.ridbag.sbtree;
+
+import com.orientechnologies.orient.core.db.record.ORecordLazyMultiValue;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects pointers of all tree based rid bags which are contained in document and in its embedded documents. Is used to find
+ * files of collections which are going to be changed when the document is saved.
+ * <p>
+ * Raw field values are read, so document content is neither converted nor marked as dirty, which allows to use collector while
+ * document is serialized.
+ */
+public final class ORidBagPointerCollector {
+  private ORidBagPointerCollector() {
+  }
+
+  public static List<OBonsaiCollectionPointer> collectPointers(ODocument document) {
+    final List<OBonsaiCollectionPointer> pointers = new ArrayList<OBonsaiCollectionPointer>();
+    collectDocument(document, pointers);
+    return pointers;
+  }
+
+  private static void collectDocument(ODocument document, List<OBonsaiCollectionPointer> pointers) {
+    for (Object value : document.fieldValues())
+      collectValue(value, pointers);
+  }
+
+  private static void collectValue(Object value, List<OBonsaiCollectionPointer> pointers) {
+    if (value instanceof ORidBag) {
+      final OBonsaiCollectionPointer pointer = ((ORidBag) value).getPointer();
+      if (pointer != null && pointer.isValid())
+        pointers.add(pointer);
+    } else if (value instanceof ORecordLazyMultiValue) {
+      // COLLECTIONS OF LINKS CAN NOT CONTAIN COLLECTIONS OF THE DOCUMENT, SKIP THEM TO AVOID LOADING OF LINKED RECORDS
+      return;
+    } else if (value instanceof ODocument) {
+      final ODocument document = (ODocument) value;
+      if (document.isEmbedded())
+        collectDocument(document, pointers);
+    } else if (value instanceof Map) {
+      for (Object item : ((Map<?, ?>) value).values())
+        if (item instanceof ODocument)
+          collectValue(item, pointers);
+    } else if (value instanceof Collection) {
+      for (Object item : (Collection<?>) value)
+        if (item instanceof ODocument)
+          collectValue(item, pointers);
+    }
+  }
+}
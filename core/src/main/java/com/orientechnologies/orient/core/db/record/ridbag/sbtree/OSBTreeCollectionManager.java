@@ -32,6 +32,16 @@ public interface OSBTreeCollectionManager {
 
   OBonsaiCollectionPointer createSBTree(int clusterId, UUID ownerUUID);
 
+  /**
+   * Creates collection in the same file as the given collection of the same document, so all collections of a document are kept
+   * in a single file.
+   *
+   * @param clusterId        id of cluster of the document which owns the collection
+   * @param ownerUUID        temporary id of collection owner, may be null
+   * @param siblingPointer   pointer to other collection of the same document or null if there are no such collections
+   */
+  OBonsaiCollectionPointer createSBTree(int clusterId, UUID ownerUUID, OBonsaiCollectionPointer siblingPointer);
+
   public OSBTreeBonsai<OIdentifiable, Integer> loadSBTree(OBonsaiCollectionPointer collectionPointer);
 
   public void releaseSBTree(OBonsaiCollectionPointer collectionPointer);
@@ -52,6 +52,43 @@ public abstract class OSBTreeCollectionManagerAbstract
     return FILE_NAME_PREFIX + clusterId + DEFAULT_EXTENSION;
   }
 
+  /**
+   * Generates a lock name for the given file of cluster collections, see {@link OGlobalConfiguration#SBTREEBONSAI_FILES_PER_CLUSTER}.
+   *
+   * @param clusterId the cluster ID to generate the lock name for.
+   * @param fileIndex index of the file among files of the cluster.
+   *
+   * @return the generated lock name.
+   */
+  public static String generateLockName(int clusterId, int fileIndex) {
+    return generateFileName(clusterId, fileIndex) + DEFAULT_EXTENSION;
+  }
+
+  /**
+   * @return amount of files among which collections of a single cluster are spread.
+   */
+  public static int getFilesPerCluster() {
+    return Math.max(1, OGlobalConfiguration.SBTREEBONSAI_FILES_PER_CLUSTER.getValueAsInteger());
+  }
+
+  /**
+   * @return index of the file in which collections of new documents created by current thread are placed.
+   */
+  public static int getCurrentThreadFileIndex() {
+    return (int) (Thread.currentThread().getId() % getFilesPerCluster());
+  }
+
+  /**
+   * Name of the first file is the same as name of the only file used before collections were spread among several files, so
+   * existing databases are handled without any conversion.
+   */
+  protected static String generateFileName(int clusterId, int fileIndex) {
+    if (fileIndex == 0)
+      return FILE_NAME_PREFIX + clusterId;
+
+    return FILE_NAME_PREFIX + clusterId + "_" + fileIndex;
+  }
+
   private static final ConcurrentLinkedHashMap<CacheKey, SBTreeBonsaiContainer> GLOBAL_TREE_CACHE = new ConcurrentLinkedHashMap.Builder<CacheKey, SBTreeBonsaiContainer>()
       .maximumWeightedCapacity(Long.MAX_VALUE).build();
 
@@ -153,7 +190,12 @@ public abstract class OSBTreeCollectionManagerAbstract
 
   @Override
   public OBonsaiCollectionPointer createSBTree(int clusterId, UUID ownerUUID) {
-    OSBTreeBonsai<OIdentifiable, Integer> tree = createTree(clusterId);
+    return createSBTree(clusterId, ownerUUID, null);
+  }
+
+  @Override
+  public OBonsaiCollectionPointer createSBTree(int clusterId, UUID ownerUUID, OBonsaiCollectionPointer siblingPointer) {
+    OSBTreeBonsai<OIdentifiable, Integer> tree = createTree(clusterId, siblingPointer);
     return tree.getCollectionPointer();
   }
 
@@ -251,6 +293,10 @@ public abstract class OSBTreeCollectionManagerAbstract
 
   protected abstract OSBTreeBonsai<OIdentifiable, Integer> createTree(int clusterId);
 
+  protected OSBTreeBonsai<OIdentifiable, Integer> createTree(int clusterId, OBonsaiCollectionPointer siblingPointer) {
+    return createTree(clusterId);
+  }
+
   protected abstract OSBTreeBonsai<OIdentifiable, Integer> loadTree(OBonsaiCollectionPointer collectionPointer);
 
   int size() {
@@ -70,8 +70,8 @@ public class OSBTreeCollectionManagerShared extends OSBTreeCollectionManagerAbst
   }
 
   @Override
-  public OBonsaiCollectionPointer createSBTree(int clusterId, UUID ownerUUID) {
-    final OBonsaiCollectionPointer pointer = super.createSBTree(clusterId, ownerUUID);
+  public OBonsaiCollectionPointer createSBTree(int clusterId, UUID ownerUUID, OBonsaiCollectionPointer siblingPointer) {
+    final OBonsaiCollectionPointer pointer = super.createSBTree(clusterId, ownerUUID, siblingPointer);
 
     if (ownerUUID != null) {
       Map<UUID, OBonsaiCollectionPointer> changedPointers = collectionPointerChanges.get();
@@ -83,9 +83,19 @@ public class OSBTreeCollectionManagerShared extends OSBTreeCollectionManagerAbst
 
   @Override
   protected OSBTreeBonsaiLocal<OIdentifiable, Integer> createTree(int clusterId) {
+    return createTree(clusterId, null);
+  }
 
-    OSBTreeBonsaiLocal<OIdentifiable, Integer> tree = new OSBTreeBonsaiLocal<OIdentifiable, Integer>(FILE_NAME_PREFIX + clusterId,
-        DEFAULT_EXTENSION, storage);
+  @Override
+  protected OSBTreeBonsaiLocal<OIdentifiable, Integer> createTree(int clusterId, OBonsaiCollectionPointer siblingPointer) {
+    final String name;
+    if (siblingPointer != null && siblingPointer.isValid())
+      name = treeName(siblingPointer);
+    else
+      name = generateFileName(clusterId, getCurrentThreadFileIndex());
+
+    OSBTreeBonsaiLocal<OIdentifiable, Integer> tree = new OSBTreeBonsaiLocal<OIdentifiable, Integer>(name, DEFAULT_EXTENSION,
+        storage);
     tree.create(OLinkSerializer.INSTANCE, OIntegerSerializer.INSTANCE);
 
     return tree;
@@ -93,21 +103,25 @@ public class OSBTreeCollectionManagerShared extends OSBTreeCollectionManagerAbst
 
   @Override
   protected OSBTreeBonsai<OIdentifiable, Integer> loadTree(OBonsaiCollectionPointer collectionPointer) {
-    String fileName;
-    OAtomicOperation atomicOperation = storage.getAtomicOperationsManager().getCurrentOperation();
+    OSBTreeBonsaiLocal<OIdentifiable, Integer> tree = new OSBTreeBonsaiLocal<OIdentifiable, Integer>(treeName(collectionPointer),
+        DEFAULT_EXTENSION, storage);
+
+    if (tree.load(collectionPointer.getRootPointer()))
+      return tree;
+    else
+      return null;
+  }
+
+  private String treeName(OBonsaiCollectionPointer collectionPointer) {
+    final String fileName;
+    final OAtomicOperation atomicOperation = storage.getAtomicOperationsManager().getCurrentOperation();
     if (atomicOperation == null) {
       fileName = storage.getWriteCache().fileNameById(collectionPointer.getFileId());
     } else {
       fileName = atomicOperation.fileNameById(collectionPointer.getFileId());
     }
 
-    OSBTreeBonsaiLocal<OIdentifiable, Integer> tree = new OSBTreeBonsaiLocal<OIdentifiable, Integer>(
-        fileName.substring(0, fileName.length() - DEFAULT_EXTENSION.length()), DEFAULT_EXTENSION, storage);
-
-    if (tree.load(collectionPointer.getRootPointer()))
-      return tree;
-    else
-      return null;
+    return fileName.substring(0, fileName.length() - DEFAULT_EXTENSION.length());
   }
 
   /**
@@ -40,6 +40,7 @@ import com.orientechnologies.orient.core.index.sbtreebonsai.local.OSBTreeBonsai;
 import com.orientechnologies.orient.core.index.sbtreebonsai.local.OSBTreeBonsaiLocal;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
 import com.orientechnologies.orient.core.storage.OStorageProxy;
 import com.orientechnologies.orient.core.storage.impl.local.paginated.ORecordSerializationContext;
@@ -749,6 +750,22 @@ public class OSBTreeRidBag implements ORidBagDelegate {
     }
   }
 
+  /**
+   * Tells if {@link #size()} answers without browsing the tree: the size has been computed already, or all the counters of the
+   * tree are equal to 1 so its size is the number of its entries.
+   */
+  public boolean isSizeKnown() {
+    if (size >= 0 || collectionPointer == null)
+      return true;
+
+    final OSBTreeBonsai<OIdentifiable, Integer> tree = loadTree();
+    try {
+      return tree instanceof OSBTreeBonsaiLocal && ((OSBTreeBonsaiLocal<OIdentifiable, Integer>) tree).hasUnitValues();
+    } finally {
+      releaseTree();
+    }
+  }
+
   @Override
   public String toString() {
     if (size >= 0)
@@ -845,7 +862,7 @@ public class OSBTreeRidBag implements ORidBagDelegate {
         final int clusterId = getHighLevelDocClusterId();
         assert clusterId > -1;
         collectionPointer = ODatabaseRecordThreadLocal.INSTANCE.get().getSbTreeCollectionManager()
-            .createSBTree(clusterId, ownerUuid);
+            .createSBTree(clusterId, ownerUuid, getSiblingPointer());
       }
     }
 
@@ -1050,6 +1067,26 @@ public class OSBTreeRidBag implements ORidBagDelegate {
     return ChangeSerializationHelper.INSTANCE.getChangesSerializedSize(changedIds.size());
   }
 
+  /**
+   * @return pointer to any other tree based collection of the same document, so the new collection is placed in the same file and
+   * saving of the document never waits for locks of several collection files.
+   */
+  private OBonsaiCollectionPointer getSiblingPointer() {
+    if (OSBTreeCollectionManagerAbstract.getFilesPerCluster() == 1)
+      return null;
+
+    ORecordElement owner = this.owner;
+    while (owner != null && owner.getOwner() != null) {
+      owner = owner.getOwner();
+    }
+
+    if (!(owner instanceof ODocument))
+      return null;
+
+    final List<OBonsaiCollectionPointer> pointers = ORidBagPointerCollector.collectPointers((ODocument) owner);
+    return pointers.isEmpty() ? null : pointers.get(0);
+  }
+
   private int getHighLevelDocClusterId() {
     ORecordElement owner = this.owner;
     while (owner != null && owner.getOwner() != null) {
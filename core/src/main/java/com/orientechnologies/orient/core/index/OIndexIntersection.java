@@ -0,0 +1,108 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.index;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Intersects the RIDs returned by more index lookups, used when a query has more indexed conditions in AND. The RIDs of every
+ * lookup are sorted, so the intersection is a merge of the sorted lists and the records are loaded only if they are returned by
+ * all the lookups.
+ */
+public class OIndexIntersection {
+  private List<OIdentifiable> rids;
+
+  /**
+   * @param rids
+   *          RIDs of the first lookup, usually the most selective one
+   */
+  public OIndexIntersection(final Iterator<? extends OIdentifiable> rids) {
+    this.rids = sortedRids(rids, Long.MAX_VALUE);
+  }
+
+  /**
+   * Keeps only the RIDs returned also by the lookup. If the lookup returns more than <code>maxRids</code> RIDs it is ignored: loading
+   * the records and checking the condition on them is cheaper than reading the index.
+   *
+   * @return true if the lookup has been intersected, false if it has been ignored
+   */
+  public boolean intersect(final Iterator<? extends OIdentifiable> lookup, final long maxRids) {
+    final List<OIdentifiable> other = sortedRids(lookup, maxRids);
+    if (other == null)
+      return false;
+
+    final List<OIdentifiable> result = new ArrayList<OIdentifiable>(Math.min(rids.size(), other.size()));
+    int i = 0;
+    int j = 0;
+    while (i < rids.size() && j < other.size()) {
+      final int compare = rids.get(i).compareTo(other.get(j));
+      if (compare == 0) {
+        result.add(rids.get(i));
+        i++;
+        j++;
+      } else if (compare < 0)
+        i++;
+      else
+        j++;
+    }
+    rids = result;
+    return true;
+  }
+
+  /**
+   * @return the RIDs returned by all the lookups, sorted
+   */
+  public List<OIdentifiable> getRids() {
+    return rids;
+  }
+
+  public int size() {
+    return rids.size();
+  }
+
+  /**
+   * @return the sorted RIDs without duplicates, or null if there are more than <code>maxRids</code>
+   */
+  private static List<OIdentifiable> sortedRids(final Iterator<? extends OIdentifiable> iterator, final long maxRids) {
+    final List<OIdentifiable> result = new ArrayList<OIdentifiable>();
+    while (iterator.hasNext()) {
+      final OIdentifiable next = iterator.next();
+      if (next == null)
+        continue;
+      if (result.size() >= maxRids)
+        return null;
+      result.add(next.getIdentity());
+    }
+    Collections.sort(result);
+
+    // A RECORD CAN BE RETURNED MORE TIMES BY A RANGE ON A COLLECTION INDEX
+    int size = 0;
+    for (int i = 0; i < result.size(); i++) {
+      if (size == 0 || !result.get(i).equals(result.get(size - 1)))
+        result.set(size++, result.get(i));
+    }
+    return size < result.size() ? new ArrayList<OIdentifiable>(result.subList(0, size)) : result;
+  }
+}
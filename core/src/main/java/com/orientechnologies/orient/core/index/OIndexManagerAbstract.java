@@ -67,6 +67,8 @@ public abstract class OIndexManagerAbstract extends ODocumentWrapperNoClass impl
 
   protected ReadWriteLock lock = new ReentrantReadWriteLock();
 
+  protected volatile int version;
+
   public OIndexManagerAbstract(final ODatabaseDocument iDatabase) {
     super(new ODocument().setTrackingChanges(false));
   }
@@ -270,6 +272,7 @@ public abstract class OIndexManagerAbstract extends ODocumentWrapperNoClass impl
   public OIndexManager setDirty() {
     acquireExclusiveLock();
     try {
+      version++;
       document.setDirty();
       return this;
     } finally {
@@ -277,6 +280,16 @@ public abstract class OIndexManagerAbstract extends ODocumentWrapperNoClass impl
     }
   }
 
+  /**
+   * Returns a counter incremented every time an index is created, dropped or reloaded. Used to discard what has been computed
+   * from the indexes in place before the change, like the plans of the prepared queries.
+   * 
+   * @return the version of the index configuration.
+   */
+  public int getVersion() {
+    return version;
+  }
+
   public Set<OIndex<?>> getClassInvolvedIndexes(final String className, Collection<String> fields) {
     fields = normalizeFieldNames(fields);
 
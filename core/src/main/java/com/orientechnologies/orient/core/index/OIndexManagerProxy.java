@@ -193,4 +193,12 @@ public class OIndexManagerProxy extends OProxedResource<OIndexManager> implement
     return database.getStorage().isDistributed()
         && !OScenarioThreadLocal.INSTANCE.isRunModeDistributed();
   }
+
+  /**
+   * @return the version of the index configuration of the delegate, or -1 if it does not keep one.
+   * @see OIndexManagerAbstract#getVersion()
+   */
+  public int getVersion() {
+    return delegate instanceof OIndexManagerAbstract ? ((OIndexManagerAbstract) delegate).getVersion() : -1;
+  }
 }
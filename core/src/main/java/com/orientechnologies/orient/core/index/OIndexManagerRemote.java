@@ -135,6 +135,7 @@ public class OIndexManagerRemote extends OIndexManagerAbstract {
   protected void fromStream() {
     acquireExclusiveLock();
     try {
+      version++;
       clearMetadata();
 
       final Collection<ODocument> idxs = document.field(CONFIG_INDEXES);
@@ -357,6 +357,7 @@ public class OIndexManagerShared extends OIndexManagerAbstract {
   protected void fromStream() {
     acquireExclusiveLock();
     try {
+      version++;
       final Map<String, OIndex<?>> oldIndexes = new HashMap<String, OIndex<?>>(indexes);
 
       clearMetadata();
@@ -277,7 +277,7 @@ public final class OHashTableIndexEngine implements OIndexEngine {
           }
         }
 
-        if (currentIterator != null && !currentIterator.hasNext())
+        if (currentIterator != null && currentIterator.hasNext())
           return nextCursorValue();
 
         currentIterator = null;
@@ -325,6 +325,8 @@ public final class OHashTableIndexEngine implements OIndexEngine {
 
         if (entries.length == 0)
           currentIterator = null;
+        else
+          nextEntriesIndex = entries.length - 1;
       }
 
       @Override
@@ -360,7 +362,7 @@ public final class OHashTableIndexEngine implements OIndexEngine {
           }
         }
 
-        if (currentIterator != null && !currentIterator.hasNext())
+        if (currentIterator != null && currentIterator.hasNext())
           return nextCursorValue();
 
         currentIterator = null;
@@ -47,6 +47,10 @@ public class OSBTreeBonsaiBucket<K, V> extends OBonsaiBucketAbstract {
    */
   private static final byte LEAF                     = 0x1;
   private static final byte DELETED                  = 0x2;
+  /**
+   * Set only in root bucket if all values of tree are equal to 1, so sum of values is equal to size of tree.
+   */
+  private static final byte UNIT_VALUES              = 0x4;
   private static final int  MAX_ENTREE_SIZE          = 24576000;
   private static final int  FREE_POINTER_OFFSET      = WAL_POSITION_OFFSET + OLongSerializer.LONG_SIZE;
   private static final int  SIZE_OFFSET              = FREE_POINTER_OFFSET + OIntegerSerializer.INT_SIZE;
@@ -439,6 +443,18 @@ public class OSBTreeBonsaiBucket<K, V> extends OBonsaiBucketAbstract {
     return (getByteValue(offset + FLAGS_OFFSET) & DELETED) == DELETED;
   }
 
+  public void setUnitValues(boolean unitValues) {
+    byte value = getByteValue(offset + FLAGS_OFFSET);
+    if (unitValues)
+      setByteValue(offset + FLAGS_OFFSET, (byte) (value | UNIT_VALUES));
+    else
+      setByteValue(offset + FLAGS_OFFSET, (byte) (value & (~UNIT_VALUES)));
+  }
+
+  public boolean hasUnitValues() {
+    return (getByteValue(offset + FLAGS_OFFSET) & UNIT_VALUES) == UNIT_VALUES;
+  }
+
 
   public OBonsaiBucketPointer getLeftSibling() {
     return getBucketPointer(offset + LEFT_SIBLING_OFFSET);
@@ -64,6 +64,7 @@ public class OSBTreeBonsaiLocal<K, V> extends ODurableComponent implements OSBTr
   private final        float                freeSpaceReuseTrigger = OGlobalConfiguration.SBTREEBOSAI_FREE_SPACE_REUSE_TRIGGER
       .getValueAsFloat();
   private static final OBonsaiBucketPointer SYS_BUCKET            = new OBonsaiBucketPointer(0, 0);
+  private static final Integer              UNIT_VALUE            = 1;
 
   private OBonsaiBucketPointer rootBucketPointer;
 
@@ -127,6 +128,7 @@ public class OSBTreeBonsaiLocal<K, V> extends ODurableComponent implements OSBTr
       OSBTreeBonsaiBucket<K, V> rootBucket = new OSBTreeBonsaiBucket<K, V>(rootCacheEntry, this.rootBucketPointer.getPageOffset(),
           true, keySerializer, valueSerializer, getChanges(atomicOperation, rootCacheEntry), this);
       rootBucket.setTreeSize(0);
+      rootBucket.setUnitValues(true);
     } finally {
       rootCacheEntry.releaseExclusiveLock();
       releasePage(atomicOperation, rootCacheEntry);
@@ -271,6 +273,9 @@ public class OSBTreeBonsaiLocal<K, V> extends ODurableComponent implements OSBTr
         if (!itemFound)
           setSize(size() + 1, atomicOperation);
 
+        if (!UNIT_VALUE.equals(value))
+          clearUnitValues(atomicOperation);
+
         endAtomicOperation(false, null);
         return result;
       } catch (IOException e) {
@@ -347,6 +352,7 @@ public class OSBTreeBonsaiLocal<K, V> extends ODurableComponent implements OSBTr
               valueSerializer, getChanges(atomicOperation, cacheEntry), this);
 
           rootBucket.setTreeSize(0);
+          rootBucket.setUnitValues(true);
         } finally {
           cacheEntry.releaseExclusiveLock();
           releasePage(atomicOperation, cacheEntry);
@@ -535,6 +541,52 @@ public class OSBTreeBonsaiLocal<K, V> extends ODurableComponent implements OSBTr
     }
   }
 
+  private void clearUnitValues(OAtomicOperation atomicOperation) throws IOException {
+    OCacheEntry rootCacheEntry = loadPage(atomicOperation, fileId, rootBucketPointer.getPageIndex(), false);
+
+    rootCacheEntry.acquireExclusiveLock();
+    try {
+      OSBTreeBonsaiBucket<K, V> rootBucket = new OSBTreeBonsaiBucket<K, V>(rootCacheEntry, rootBucketPointer.getPageOffset(),
+          keySerializer, valueSerializer, getChanges(atomicOperation, rootCacheEntry), this);
+      if (rootBucket.hasUnitValues())
+        rootBucket.setUnitValues(false);
+    } finally {
+      rootCacheEntry.releaseExclusiveLock();
+      releasePage(atomicOperation, rootCacheEntry);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if all values of tree are equal to 1 since its creation, trees created by previous versions never
+   *         have this flag
+   */
+  public boolean hasUnitValues() {
+    atomicOperationsManager.acquireReadLock(this);
+    try {
+      final Lock lock = FILE_LOCK_MANAGER.acquireSharedLock(fileId);
+      try {
+        OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
+        OCacheEntry rootCacheEntry = loadPage(atomicOperation, fileId, rootBucketPointer.getPageIndex(), false);
+        rootCacheEntry.acquireSharedLock();
+        try {
+          OSBTreeBonsaiBucket<K, V> rootBucket = new OSBTreeBonsaiBucket<K, V>(rootCacheEntry, rootBucketPointer.getPageOffset(),
+              keySerializer, valueSerializer, getChanges(atomicOperation, rootCacheEntry), this);
+          return rootBucket.hasUnitValues();
+        } finally {
+          rootCacheEntry.releaseSharedLock();
+          releasePage(atomicOperation, rootCacheEntry);
+        }
+      } finally {
+        lock.unlock();
+      }
+    } catch (IOException e) {
+      throw OException
+          .wrapException(new OSBTreeBonsaiLocalException("Error during retrieving of flags of tree " + getName(), this), e);
+    } finally {
+      atomicOperationsManager.releaseReadLock(this);
+    }
+  }
+
   @Override
   public long size() {
     startOperation();
@@ -1262,6 +1314,7 @@ public class OSBTreeBonsaiLocal<K, V> extends ODurableComponent implements OSBTr
 
       } else {
         long treeSize = bucketToSplit.getTreeSize();
+        final boolean unitValues = bucketToSplit.hasUnitValues();
 
         final List<OSBTreeBonsaiBucket.SBTreeEntry<K, V>> leftEntries = new ArrayList<OSBTreeBonsaiBucket.SBTreeEntry<K, V>>(
             indexToSplit);
@@ -1307,6 +1360,7 @@ public class OSBTreeBonsaiLocal<K, V> extends ODurableComponent implements OSBTr
         bucketToSplit = new OSBTreeBonsaiBucket<K, V>(bucketEntry, bucketPointer.getPageOffset(), false, keySerializer,
             valueSerializer, getChanges(atomicOperation, bucketEntry), this);
         bucketToSplit.setTreeSize(treeSize);
+        bucketToSplit.setUnitValues(unitValues);
 
         bucketToSplit
             .addEntry(0, new OSBTreeBonsaiBucket.SBTreeEntry<K, V>(leftBucketPointer, rightBucketPointer, separationKey, null),
@@ -1457,6 +1511,19 @@ public class OSBTreeBonsaiLocal<K, V> extends ODurableComponent implements OSBTr
   public int getRealBagSize(Map<K, OSBTreeRidBag.Change> changes) {
     startOperation();
     try {
+      if (hasUnitValues()) {
+        // SUM OF COUNTERS IS EQUAL TO SIZE OF TREE, ONLY CHANGED COUNTERS ARE READ
+        long size = size();
+        for (Map.Entry<K, OSBTreeRidBag.Change> entry : changes.entrySet()) {
+          final Integer treeValue = (Integer) get(entry.getKey());
+          final int oldValue = treeValue == null ? 0 : treeValue;
+
+          size += entry.getValue().applyTo(oldValue) - oldValue;
+        }
+
+        return (int) size;
+      }
+
       final Map<K, OSBTreeRidBag.Change> notAppliedChanges = new HashMap<K, OSBTreeRidBag.Change>(changes);
       final OModifiableInteger size = new OModifiableInteger(0);
       loadEntriesMajor(firstKey(), true, true, new RangeResultListener<K, V>() {
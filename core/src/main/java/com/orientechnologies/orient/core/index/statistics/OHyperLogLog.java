@@ -0,0 +1,104 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.index.statistics;
+
+/**
+ * HyperLogLog sketch: estimates the number of distinct values added to it in constant memory, with a standard error of about
+ * <code>1.04 / sqrt(2^precision)</code> (1.6% with the default precision of 12, that takes 4KB). Values are added as 64 bit hashes,
+ * the caller is responsible to hash them with a good hash function.
+ */
+public class OHyperLogLog {
+  public static final int DEFAULT_PRECISION = 12;
+
+  private final int       precision;
+  private final byte[]    registers;
+
+  public OHyperLogLog() {
+    this(DEFAULT_PRECISION);
+  }
+
+  /**
+   * @param precision
+   *          number of bits of the hash used to select the register, between 4 and 16
+   */
+  public OHyperLogLog(final int precision) {
+    if (precision < 4 || precision > 16)
+      throw new IllegalArgumentException("Precision must be between 4 and 16, found " + precision);
+
+    this.precision = precision;
+    this.registers = new byte[1 << precision];
+  }
+
+  public void add(final long hash) {
+    final int index = (int) (hash >>> (64 - precision));
+    // THE BIT SET AFTER THE REMAINING BITS LIMITS THE RANK WHEN THEY ARE ALL ZERO
+    final int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+    if (rank > registers[index])
+      registers[index] = (byte) rank;
+  }
+
+  /**
+   * Adds all the values of another sketch with the same precision.
+   */
+  public void merge(final OHyperLogLog other) {
+    if (other.precision != precision)
+      throw new IllegalArgumentException("Cannot merge sketches with different precision: " + precision + " and " + other.precision);
+
+    for (int i = 0; i < registers.length; i++)
+      if (other.registers[i] > registers[i])
+        registers[i] = other.registers[i];
+  }
+
+  /**
+   * @return the estimated number of distinct values added
+   */
+  public long estimate() {
+    final int m = registers.length;
+
+    double sum = 0;
+    int zeros = 0;
+    for (byte register : registers) {
+      sum += 1.0 / (1L << register);
+      if (register == 0)
+        zeros++;
+    }
+
+    final double alpha;
+    if (m == 16)
+      alpha = 0.673;
+    else if (m == 32)
+      alpha = 0.697;
+    else if (m == 64)
+      alpha = 0.709;
+    else
+      alpha = 0.7213 / (1 + 1.079 / m);
+
+    double estimate = alpha * m * m / sum;
+    if (estimate <= 2.5 * m && zeros > 0)
+      // SMALL CARDINALITIES: LINEAR COUNTING IS MORE ACCURATE
+      estimate = m * Math.log((double) m / zeros);
+
+    return Math.round(estimate);
+  }
+
+  public int getPrecision() {
+    return precision;
+  }
+}
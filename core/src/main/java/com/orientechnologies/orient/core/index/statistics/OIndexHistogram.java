@@ -0,0 +1,257 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.index.statistics;
+
+import com.orientechnologies.common.comparator.ODefaultComparator;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Equi-depth histogram of the keys of an ordered index: the keys are split in buckets holding about the same number of entries, so
+ * the buckets are narrow where the keys are dense. Every bucket keeps its upper bound, the number of entries and the number of
+ * distinct keys. The keys that hold many entries (at least half a bucket) are kept apart with their exact number of entries, since
+ * the average of their bucket would be far from them.
+ */
+public class OIndexHistogram {
+  private final Object            minKey;
+  private final Object[]          upperBounds;
+  private final long[]            counts;
+  private final long[]            distincts;
+  private final long[]            frequentCounts;
+  private final long[]            frequentDistincts;
+  private final long[]            countsBefore;
+  private final Map<Object, Long> frequentKeys;
+  private final long              entries;
+
+  private OIndexHistogram(final Builder builder) {
+    final int buckets = builder.upperBounds.size();
+
+    minKey = builder.minKey;
+    upperBounds = builder.upperBounds.toArray();
+    counts = toArray(builder.counts);
+    distincts = toArray(builder.distincts);
+    frequentCounts = toArray(builder.frequentCounts);
+    frequentDistincts = toArray(builder.frequentDistincts);
+    frequentKeys = builder.frequentKeys;
+    entries = builder.entries;
+
+    countsBefore = new long[buckets];
+    for (int i = 1; i < buckets; i++)
+      countsBefore[i] = countsBefore[i - 1] + counts[i - 1];
+  }
+
+  /**
+   * @return the estimated number of entries with the key, 0 if the key is out of the range of the histogram
+   */
+  public long estimateEquals(final Object key) {
+    final Long frequent = frequentKeys.get(key);
+    if (frequent != null)
+      return frequent;
+
+    final int bucket = findBucket(key);
+    if (bucket < 0)
+      return 0;
+
+    final long otherDistincts = distincts[bucket] - frequentDistincts[bucket];
+    if (otherDistincts <= 0)
+      // ALL THE KEYS OF THE BUCKET ARE FREQUENT AND THIS IS NOT ONE OF THEM
+      return 0;
+    return Math.max(1, Math.round((double) (counts[bucket] - frequentCounts[bucket]) / otherDistincts));
+  }
+
+  /**
+   * @param from
+   *          lower bound, null for no lower bound
+   * @param to
+   *          upper bound, null for no upper bound
+   * @return the estimated number of entries with the key in the range
+   */
+  public long estimateRange(final Object from, final boolean fromInclusive, final Object to, final boolean toInclusive) {
+    final double upTo = to != null ? countBelow(to, toInclusive) : entries;
+    final double below = from != null ? countBelow(from, !fromInclusive) : 0;
+    return Math.max(0, Math.round(upTo - below));
+  }
+
+  public long getEntries() {
+    return entries;
+  }
+
+  public int getBuckets() {
+    return upperBounds.length;
+  }
+
+  /**
+   * @return the number of entries with a key lower than the passed one, or lower or equal if inclusive
+   */
+  private double countBelow(final Object key, final boolean inclusive) {
+    if (upperBounds.length == 0 || compare(key, minKey) < 0)
+      return 0;
+
+    final int bucket = findBucket(key);
+    if (bucket < 0)
+      // AFTER THE LAST KEY
+      return entries;
+
+    final double equal = estimateEquals(key);
+    if (compare(key, upperBounds[bucket]) == 0)
+      return countsBefore[bucket] + counts[bucket] - (inclusive ? 0 : equal);
+
+    final Object lowerBound = bucket == 0 ? minKey : upperBounds[bucket - 1];
+    final double fraction = interpolate(lowerBound, upperBounds[bucket], key);
+    final double below = countsBefore[bucket] + Math.max(0, counts[bucket] - equal) * fraction;
+    return inclusive ? below + equal : below;
+  }
+
+  /**
+   * @return the index of the bucket that contains the key, -1 if the key is out of the range of the histogram
+   */
+  private int findBucket(final Object key) {
+    if (upperBounds.length == 0 || compare(key, minKey) < 0)
+      return -1;
+
+    int low = 0;
+    int high = upperBounds.length - 1;
+    if (compare(key, upperBounds[high]) > 0)
+      return -1;
+
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (compare(key, upperBounds[middle]) > 0)
+        low = middle + 1;
+      else
+        high = middle;
+    }
+    return low;
+  }
+
+  /**
+   * @return the position of the key between the bounds, from 0 to 1, for numbers and dates, 0.5 for the other types
+   */
+  private static double interpolate(final Object lowerBound, final Object upperBound, final Object key) {
+    final double low;
+    final double high;
+    final double value;
+    if (lowerBound instanceof Number && upperBound instanceof Number && key instanceof Number) {
+      low = ((Number) lowerBound).doubleValue();
+      high = ((Number) upperBound).doubleValue();
+      value = ((Number) key).doubleValue();
+    } else if (lowerBound instanceof Date && upperBound instanceof Date && key instanceof Date) {
+      low = ((Date) lowerBound).getTime();
+      high = ((Date) upperBound).getTime();
+      value = ((Date) key).getTime();
+    } else
+      return 0.5;
+
+    if (high <= low)
+      return 0.5;
+    return Math.min(1, Math.max(0, (value - low) / (high - low)));
+  }
+
+  private static int compare(final Object one, final Object two) {
+    return ODefaultComparator.INSTANCE.compare(one, two);
+  }
+
+  private static long[] toArray(final List<Long> list) {
+    final long[] array = new long[list.size()];
+    for (int i = 0; i < array.length; i++)
+      array[i] = list.get(i);
+    return array;
+  }
+
+  /**
+   * Builds the histogram from the keys in ascending order, with their number of entries.
+   */
+  public static class Builder {
+    private final long              depth;
+    private final long              frequentThreshold;
+    private final List<Object>      upperBounds       = new ArrayList<Object>();
+    private final List<Long>        counts            = new ArrayList<Long>();
+    private final List<Long>        distincts         = new ArrayList<Long>();
+    private final List<Long>        frequentCounts    = new ArrayList<Long>();
+    private final List<Long>        frequentDistincts = new ArrayList<Long>();
+    private final Map<Object, Long> frequentKeys      = new TreeMap<Object, Long>(ODefaultComparator.INSTANCE);
+    private Object                  minKey;
+    private Object                  lastKey;
+    private long                    entries;
+    private long                    bucketCount;
+    private long                    bucketDistinct;
+    private long                    bucketFrequentCount;
+    private long                    bucketFrequentDistinct;
+
+    /**
+     * @param expectedEntries
+     *          the number of entries of the index, used to size the buckets
+     * @param buckets
+     *          the number of buckets
+     */
+    public Builder(final long expectedEntries, final int buckets) {
+      if (buckets < 1)
+        throw new IllegalArgumentException("Number of buckets must be at least 1, found " + buckets);
+
+      depth = Math.max(1, (expectedEntries + buckets - 1) / buckets);
+      frequentThreshold = Math.max(2, (depth + 1) / 2);
+    }
+
+    /**
+     * Adds the next key, that must be greater than the previous one.
+     */
+    public Builder add(final Object key, final long count) {
+      if (minKey == null)
+        minKey = key;
+      lastKey = key;
+
+      entries += count;
+      bucketCount += count;
+      bucketDistinct++;
+      if (count >= frequentThreshold) {
+        frequentKeys.put(key, count);
+        bucketFrequentCount += count;
+        bucketFrequentDistinct++;
+      }
+
+      if (bucketCount >= depth)
+        closeBucket();
+      return this;
+    }
+
+    public OIndexHistogram build() {
+      if (bucketDistinct > 0)
+        closeBucket();
+      return new OIndexHistogram(this);
+    }
+
+    private void closeBucket() {
+      upperBounds.add(lastKey);
+      counts.add(bucketCount);
+      distincts.add(bucketDistinct);
+      frequentCounts.add(bucketFrequentCount);
+      frequentDistincts.add(bucketFrequentDistinct);
+
+      bucketCount = 0;
+      bucketDistinct = 0;
+      bucketFrequentCount = 0;
+      bucketFrequentDistinct = 0;
+    }
+  }
+}
@@ -0,0 +1,207 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.index.statistics;
+
+import com.orientechnologies.common.hash.OMurmurHash3;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.index.OCompositeKey;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexCursor;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics of the keys of an index, computed by ANALYZE with a scan of the index: the number of entries, the number of distinct
+ * keys for every prefix of the key fields, estimated with a {@link OHyperLogLog} sketch, and a {@link OIndexHistogram} of the
+ * keys if the index is ordered. They are used to estimate the number of records returned by a condition on the index.
+ */
+public class OIndexStatistics {
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  private final String          indexName;
+  private final int             indexId;
+  private final long            entries;
+  private final long[]          distincts;
+  private final OIndexHistogram histogram;
+
+  public OIndexStatistics(final String indexName, final int indexId, final long entries, final long[] distincts,
+      final OIndexHistogram histogram) {
+    this.indexName = indexName;
+    this.indexId = indexId;
+    this.entries = entries;
+    this.distincts = distincts;
+    this.histogram = histogram;
+  }
+
+  /**
+   * Scans all the entries of the index.
+   * 
+   * @param buckets
+   *          the number of buckets of the histogram
+   */
+  public static OIndexStatistics analyze(final OIndex<?> index, final int buckets) {
+    final OIndexDefinition definition = index.getDefinition();
+    final int keyFields = definition != null ? Math.max(1, definition.getParamCount()) : 1;
+
+    final OHyperLogLog[] sketches = new OHyperLogLog[keyFields];
+    for (int i = 0; i < keyFields; i++)
+      sketches[i] = new OHyperLogLog();
+    final OIndexHistogram.Builder histogram = index.supportsOrderedIterations() ? new OIndexHistogram.Builder(index.getSize(),
+        buckets) : null;
+
+    long entries = 0;
+    Object key = null;
+    long keyEntries = 0;
+
+    // THE ENTRIES OF THE SAME KEY ARE RETURNED ONE AFTER THE OTHER, ALSO BY THE HASH INDEXES
+    final OIndexCursor cursor = index.cursor();
+    for (Map.Entry<Object, OIdentifiable> entry = cursor.nextEntry(); entry != null; entry = cursor.nextEntry()) {
+      entries++;
+      if (keyEntries > 0 && entry.getKey() != null && entry.getKey().equals(key)) {
+        keyEntries++;
+        continue;
+      }
+
+      if (keyEntries > 0)
+        addKey(key, keyEntries, sketches, histogram);
+      key = entry.getKey();
+      keyEntries = key != null ? 1 : 0;
+    }
+    if (keyEntries > 0)
+      addKey(key, keyEntries, sketches, histogram);
+
+    final long[] distincts = new long[keyFields];
+    for (int i = 0; i < keyFields; i++)
+      distincts[i] = sketches[i].estimate();
+
+    return new OIndexStatistics(index.getName(), index.getIndexId(), entries, distincts,
+        histogram != null ? histogram.build() : null);
+  }
+
+  /**
+   * @param key
+   *          the key, converted to the types of the index
+   * @param fields
+   *          the number of key fields the key has a value for, starting from the first one
+   * @return the estimated number of entries with the key, at least 1 if the index is not empty
+   */
+  public long estimateEquals(final Object key, final int fields) {
+    if (entries == 0)
+      return 0;
+
+    final long estimate;
+    if (histogram != null && fields >= distincts.length)
+      estimate = histogram.estimateEquals(key);
+    else
+      estimate = entries / Math.max(1, distincts[Math.min(fields, distincts.length) - 1]);
+    return Math.max(1, estimate);
+  }
+
+  /**
+   * @param from
+   *          lower bound converted to the types of the index, null for no lower bound
+   * @param to
+   *          upper bound converted to the types of the index, null for no upper bound
+   * @return the estimated number of entries with the key in the range
+   */
+  public long estimateRange(final Object from, final boolean fromInclusive, final Object to, final boolean toInclusive) {
+    if (histogram != null)
+      return histogram.estimateRange(from, fromInclusive, to, toInclusive);
+
+    // THE KEYS OF A HASH INDEX ARE NOT ORDERED, RANGES ARE NOT SUPPORTED
+    return entries;
+  }
+
+  public String getIndexName() {
+    return indexName;
+  }
+
+  public int getIndexId() {
+    return indexId;
+  }
+
+  public long getEntries() {
+    return entries;
+  }
+
+  /**
+   * @param fields
+   *          number of key fields, starting from the first one
+   * @return the estimated number of distinct values of the first key fields
+   */
+  public long getDistinct(final int fields) {
+    return distincts[Math.min(fields, distincts.length) - 1];
+  }
+
+  /**
+   * @return the histogram of the keys, null if the index is not ordered
+   */
+  public OIndexHistogram getHistogram() {
+    return histogram;
+  }
+
+  public ODocument toDocument() {
+    final List<Long> distinct = new ArrayList<Long>(distincts.length);
+    for (long d : distincts)
+      distinct.add(d);
+
+    final ODocument document = new ODocument();
+    document.field("index", indexName);
+    document.field("entries", entries);
+    document.field("distinct", distinct, OType.EMBEDDEDLIST);
+    document.field("buckets", histogram != null ? histogram.getBuckets() : 0);
+    return document;
+  }
+
+  private static void addKey(final Object key, final long keyEntries, final OHyperLogLog[] sketches,
+      final OIndexHistogram.Builder histogram) {
+    if (key instanceof OCompositeKey) {
+      final List<Object> keys = ((OCompositeKey) key).getKeys();
+      final StringBuilder prefix = new StringBuilder();
+      for (int i = 0; i < sketches.length && i < keys.size(); i++) {
+        if (i > 0)
+          prefix.append('\u0000');
+        prefix.append(toString(keys.get(i)));
+        sketches[i].add(hash(prefix.toString()));
+      }
+    } else
+      sketches[0].add(hash(toString(key)));
+
+    if (histogram != null)
+      histogram.add(key, keyEntries);
+  }
+
+  private static String toString(final Object value) {
+    if (value instanceof byte[])
+      return Arrays.toString((byte[]) value);
+    return String.valueOf(value);
+  }
+
+  private static long hash(final String value) {
+    return OMurmurHash3.murmurHash3_x64_64(value.getBytes(UTF8), 0x9747b28c);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.index.statistics;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.index.OIndex;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the statistics computed by ANALYZE for the indexes of a database. It stores itself in the storage as a resource, so the
+ * statistics are shared by all the connections and last until the storage is closed. Statistics of dropped indexes are discarded
+ * the first time they are requested.
+ */
+public class OIndexStatisticsManager {
+  private final ConcurrentMap<String, OIndexStatistics> statistics = new ConcurrentHashMap<String, OIndexStatistics>();
+
+  /**
+   * @param db
+   *          the current database
+   * @return the manager of the database, created the first time it is requested
+   */
+  public static OIndexStatisticsManager get(final ODatabaseDocumentInternal db) {
+    return db.getStorage().getResource(OIndexStatisticsManager.class.getSimpleName(), new Callable<OIndexStatisticsManager>() {
+      @Override
+      public OIndexStatisticsManager call() throws Exception {
+        return new OIndexStatisticsManager();
+      }
+    });
+  }
+
+  /**
+   * Computes the statistics of the index, replacing the previous ones.
+   */
+  public OIndexStatistics analyze(final OIndex<?> index) {
+    final OIndexStatistics result = OIndexStatistics.analyze(index, OGlobalConfiguration.INDEX_HISTOGRAM_BUCKETS.getValueAsInteger());
+    statistics.put(index.getName(), result);
+    return result;
+  }
+
+  /**
+   * @return the last statistics computed for the index, or null if the index has never been analyzed
+   */
+  public OIndexStatistics getStatistics(final OIndex<?> index) {
+    final OIndexStatistics result = statistics.get(index.getName());
+    if (result != null && result.getIndexId() != index.getIndexId()) {
+      // THE INDEX HAS BEEN DROPPED AND CREATED AGAIN
+      statistics.remove(index.getName(), result);
+      return null;
+    }
+    return result;
+  }
+
+  public void clear() {
+    statistics.clear();
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.iterator;
+
+import com.orientechnologies.common.util.OResettable;
+import com.orientechnologies.common.util.OSizeable;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.ORecord;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator which reads links of underlying iterator in batches and returns each batch grouped by cluster and sorted by cluster
+ * position, so records are fetched from storage in the same order as they are placed on pages instead of insertion order.
+ * <p>
+ * The first batch contains a single link and every next batch is twice as big as the previous one up to the maximum batch size, so
+ * callers which read only the first items, for example because of a LIMIT, do not read a whole batch.
+ * <p>
+ * If records loading is requested all records of batch are loaded in page order before first item of batch is returned, links to
+ * records which do not exist any more are skipped in such case.
+ * <p>
+ * Removal of items is not supported.
+ */
+public class OSortedRidIterator implements Iterator<OIdentifiable>, OResettable, OSizeable {
+  /**
+   * {@link ORID} compares cluster id first and cluster position after it, so links are grouped by cluster and sorted by position.
+   */
+  private static final Comparator<OIdentifiable> RID_ORDER = new Comparator<OIdentifiable>() {
+    @Override
+    public int compare(final OIdentifiable o1, final OIdentifiable o2) {
+      return o1.getIdentity().compareTo(o2.getIdentity());
+    }
+  };
+
+  private final Iterator<? extends OIdentifiable> source;
+  private final boolean                           loadRecords;
+  private final int                               maxBatchSize;
+
+  private OIdentifiable[]                         batch;
+
+  private int                                     batchSize;
+  private int                                     position;
+  private int                                     nextBatchSize = 1;
+
+  /**
+   * @param source
+   *          Iterator of links which should be sorted
+   * @param batchSize
+   *          Maximum amount of links which are sorted together
+   * @param loadRecords
+   *          Whether records should be loaded and returned instead of links
+   */
+  public OSortedRidIterator(final Iterator<? extends OIdentifiable> source, final int batchSize, final boolean loadRecords) {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("Batch size should be positive but was " + batchSize);
+
+    this.source = source;
+    this.loadRecords = loadRecords;
+    this.maxBatchSize = batchSize;
+    this.batch = new OIdentifiable[Math.min(batchSize, 64)];
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (position < batchSize)
+      return true;
+
+    fetchBatch();
+    return position < batchSize;
+  }
+
+  @Override
+  public OIdentifiable next() {
+    if (!hasNext())
+      throw new NoSuchElementException();
+
+    final OIdentifiable result = batch[position];
+    batch[position] = null;
+    position++;
+
+    return result;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("remove");
+  }
+
+  @Override
+  public void reset() {
+    if (source instanceof OResettable)
+      ((OResettable) source).reset();
+
+    Arrays.fill(batch, 0, batchSize, null);
+    batchSize = 0;
+    position = 0;
+    nextBatchSize = 1;
+  }
+
+  @Override
+  public int size() {
+    if (source instanceof OSizeable)
+      return ((OSizeable) source).size();
+
+    return 0;
+  }
+
+  private void fetchBatch() {
+    do {
+      batchSize = 0;
+      position = 0;
+
+      final int size = nextBatchSize;
+      nextBatchSize = (int) Math.min((long) nextBatchSize << 1, maxBatchSize);
+
+      while (batchSize < size && source.hasNext()) {
+        final OIdentifiable identifiable = source.next();
+        if (identifiable == null)
+          continue;
+
+        if (batchSize == batch.length)
+          batch = Arrays.copyOf(batch, Math.min(batch.length << 1, size));
+
+        batch[batchSize++] = identifiable;
+      }
+
+      if (batchSize == 0)
+        return;
+
+      Arrays.sort(batch, 0, batchSize, RID_ORDER);
+
+      if (loadRecords) {
+        int loaded = 0;
+        for (int i = 0; i < batchSize; i++) {
+          final OIdentifiable identifiable = batch[i];
+          final ORecord record = identifiable instanceof ORecord ? (ORecord) identifiable : identifiable.getRecord();
+          if (record != null)
+            batch[loaded++] = record;
+        }
+
+        for (int i = loaded; i < batchSize; i++)
+          batch[i] = null;
+
+        batchSize = loaded;
+      }
+    } while (batchSize == 0);
+  }
+}
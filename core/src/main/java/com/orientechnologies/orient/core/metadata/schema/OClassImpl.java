@@ -25,6 +25,7 @@ import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.util.OArrays;
 import com.orientechnologies.common.util.OCommonConst;
 import com.orientechnologies.orient.core.annotation.OBeforeSerialization;
+import com.orientechnologies.orient.core.cache.OGraphTopologyCache;
 import com.orientechnologies.orient.core.command.OCommandResultListener;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.db.ODatabaseInternal;
@@ -1226,6 +1227,20 @@ public class OClassImpl extends ODocumentWrapperNoClass implements OClass {
     for (OIndex index : getIndexes()) {
       index.rebuild();
     }
+
+    clearGraphTopologyCache();
+  }
+
+  /**
+   * Truncation does not call record hooks, so cached neighbours of vertices could refer to removed records.
+   */
+  private void clearGraphTopologyCache() {
+    if (!isVertexType() && !isEdgeType())
+      return;
+
+    final OGraphTopologyCache cache = OGraphTopologyCache.get(getDatabase());
+    if (cache != null)
+      cache.clear();
   }
 
   public OClass removeClusterId(final int clusterId) {
@@ -1573,6 +1588,8 @@ public class OClassImpl extends ODocumentWrapperNoClass implements OClass {
       for (OIndex index : superclassIndexes) {
         index.rebuild();
       }
+
+      clearGraphTopologyCache();
     } finally {
       releaseSchemaReadLock();
     }
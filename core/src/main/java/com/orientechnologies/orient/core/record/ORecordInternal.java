@@ -95,6 +95,14 @@ public class ORecordInternal {
     rec.clearSource();
   }
 
+  /**
+   * Internal only. Returns serialized content of the record if it is still available, the record is not serialized by this
+   * call.
+   */
+  public static byte[] getSource(final ORecord record) {
+    return ((ORecordAbstract) record)._source;
+  }
+
   public static void addIdentityChangeListener(final ORecord record, final OIdentityChangeListener identityChangeListener) {
     ((ORecordAbstract) record).addIdentityChangeListener(identityChangeListener);
   }
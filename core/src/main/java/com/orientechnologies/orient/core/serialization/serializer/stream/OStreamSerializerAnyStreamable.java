@@ -32,6 +32,7 @@ import com.orientechnologies.orient.core.serialization.OBinaryProtocol;
 import com.orientechnologies.orient.core.serialization.OSerializableStream;
 import com.orientechnologies.orient.core.sql.OCommandSQL;
 import com.orientechnologies.orient.core.sql.query.OLiveQuery;
+import com.orientechnologies.orient.core.sql.query.OSQLPreparedQuery;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 
 public class OStreamSerializerAnyStreamable implements OStreamSerializer {
@@ -41,6 +42,8 @@ public class OStreamSerializerAnyStreamable implements OStreamSerializer {
   private static final byte[]                        SQL_COMMAND_CLASS_ASBYTES    = SQL_COMMAND_CLASS.getBytes();
   private static final String                        QUERY_COMMAND_CLASS          = "q";
   private static final byte[]                        QUERY_COMMAND_CLASS_ASBYTES  = QUERY_COMMAND_CLASS.getBytes();
+  private static final String                        PREPARED_QUERY_CLASS         = "p";
+  private static final byte[]                        PREPARED_QUERY_CLASS_ASBYTES = PREPARED_QUERY_CLASS.getBytes();
 
   public static final OStreamSerializerAnyStreamable INSTANCE                     = new OStreamSerializerAnyStreamable();
   public static final String                         NAME                         = "at";
@@ -71,6 +74,9 @@ public class OStreamSerializerAnyStreamable implements OStreamSerializer {
       if (className.equalsIgnoreCase("q"))
         // QUERY
         stream = new OSQLSynchQuery<Object>();
+      else if (className.equalsIgnoreCase("p"))
+        // PREPARED QUERY
+        stream = new OSQLPreparedQuery<Object>();
       else if (className.equalsIgnoreCase("c"))
         // SQL COMMAND
         stream = new OCommandSQL();
@@ -107,6 +113,8 @@ public class OStreamSerializerAnyStreamable implements OStreamSerializer {
     final byte[] className;
     if (iObject instanceof OLiveQuery<?>)
       className = iObject.getClass().getName().getBytes("UTF-8");
+    else if (iObject instanceof OSQLPreparedQuery<?>)
+      className = PREPARED_QUERY_CLASS_ASBYTES;
     else if (iObject instanceof OSQLSynchQuery<?>)
       className = QUERY_COMMAND_CLASS_ASBYTES;
     else if (iObject instanceof OCommandSQL)
@@ -0,0 +1,227 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.common.serialization.types.OLongSerializer;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.BytesContainer;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OBinaryField;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.ORecordSerializerBinary;
+import com.orientechnologies.orient.core.serialization.serializer.record.binary.OVarIntSerializer;
+import com.orientechnologies.orient.core.sql.filter.OSQLFilterItem;
+import com.orientechnologies.orient.core.sql.filter.OSQLFilterItemField;
+import com.orientechnologies.orient.core.sql.functions.OBatchableSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionRuntime;
+import com.orientechnologies.orient.core.sql.functions.OSQLValueBlock;
+import com.orientechnologies.orient.core.sql.functions.misc.OSQLFunctionCount;
+
+import java.util.Map;
+
+/**
+ * Executes aggregate projections of a query without GROUP BY in blocks. Numeric values of the fields passed to aggregate functions
+ * are read directly from the serialized records when it is possible, are collected into blocks of primitives and every block is
+ * passed to {@link OBatchableSQLFunction#aggregate(OSQLValueBlock)}. Values which can not be represented as primitives are passed
+ * to the function record by record as before.
+ *
+ * @see OBatchableSQLFunction
+ */
+public class OBatchAggregator {
+  private final OSQLFunction[]   functions;
+  private final String[]         fields;
+  private final OSQLValueBlock[] blocks;
+  private final OCommandContext  context;
+  private final boolean          binary;
+
+  private OBatchAggregator(final OSQLFunction[] functions, final String[] fields, final OCommandContext context) {
+    this.functions = functions;
+    this.fields = fields;
+    this.context = context;
+
+    blocks = new OSQLValueBlock[functions.length];
+    for (int i = 0; i < blocks.length; i++)
+      blocks[i] = new OSQLValueBlock();
+
+    final ODatabaseDocumentInternal db = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+    binary = db != null && db.getSerializer() instanceof ORecordSerializerBinary;
+  }
+
+  /**
+   * Creates aggregator for passed projections.
+   *
+   * @return aggregator or <code>null</code> if at least one of projections can not be executed in blocks
+   */
+  public static OBatchAggregator create(final Map<String, Object> projections, final OCommandContext context) {
+    if (projections == null || projections.isEmpty())
+      return null;
+
+    final OSQLFunction[] functions = new OSQLFunction[projections.size()];
+    final String[] fields = new String[projections.size()];
+
+    int i = 0;
+    for (Object projection : projections.values()) {
+      if (!(projection instanceof OSQLFunctionRuntime))
+        return null;
+
+      final OSQLFunctionRuntime runtime = (OSQLFunctionRuntime) projection;
+      final OSQLFunction function = runtime.getFunction();
+      if (!(function instanceof OBatchableSQLFunction) || !function.aggregateResults())
+        return null;
+
+      final Object[] parameters = runtime.getConfiguredParameters();
+      if (parameters == null || parameters.length != 1)
+        return null;
+
+      final Object parameter = parameters[0];
+      if (parameter instanceof OSQLFilterItemField) {
+        final OSQLFilterItemField field = (OSQLFilterItemField) parameter;
+        final String root = field.getRoot();
+        if (field.hasChainOperators() || root == null || root.length() == 0 || root.startsWith("@") || root.startsWith("$")
+            || root.equals("*"))
+          return null;
+
+        fields[i] = root;
+      } else if (function instanceof OSQLFunctionCount && parameter != null && !(parameter instanceof OSQLFilterItem)
+          && !(parameter instanceof OSQLFunctionRuntime))
+        // COUNT(*) OR COUNT OF A CONSTANT: EVERY RECORD IS COUNTED
+        fields[i] = null;
+      else
+        return null;
+
+      functions[i] = function;
+      i++;
+    }
+
+    return new OBatchAggregator(functions, fields, context);
+  }
+
+  /**
+   * Adds values of the record to the blocks, blocks which become full are passed to the aggregate functions.
+   */
+  public void aggregate(final ODocument record) {
+    final byte[] source = binary && !record.isDirty() && record.getIdentity().isPersistent() ? ORecordInternal.getSource(record) : null;
+
+    for (int i = 0; i < functions.length; i++) {
+      final OSQLValueBlock block = blocks[i];
+
+      if (fields[i] == null) {
+        addLong(i, OType.LONG, 1);
+        continue;
+      }
+
+      if (source != null) {
+        // READ THE VALUE DIRECTLY FROM THE SERIALIZED RECORD WITHOUT UNMARSHALLING OF THE DOCUMENT
+        final OBinaryField field = ORecordSerializerBinary.INSTANCE.getCurrentSerializer()
+            .deserializeField(new BytesContainer(source).skip(1), record.getSchemaClass(), fields[i]);
+
+        if (field != null) {
+          final BytesContainer bytes = field.bytes;
+          switch (field.type) {
+          case SHORT:
+          case INTEGER:
+          case LONG:
+            addLong(i, field.type, OVarIntSerializer.readAsLong(bytes));
+            continue;
+          case FLOAT:
+            addDouble(i, OType.FLOAT, Float.intBitsToFloat(OIntegerSerializer.INSTANCE.deserializeLiteral(bytes.bytes, bytes.offset)));
+            continue;
+          case DOUBLE:
+            addDouble(i, OType.DOUBLE, Double.longBitsToDouble(OLongSerializer.INSTANCE.deserializeLiteral(bytes.bytes, bytes.offset)));
+            continue;
+          default:
+            break;
+          }
+        }
+      }
+
+      final Object value = record.rawField(fields[i]);
+      if (value == null) {
+        if (block.isFull())
+          flush(i);
+
+        block.addNull();
+      } else if (value instanceof Integer)
+        addLong(i, OType.INTEGER, (Integer) value);
+      else if (value instanceof Long)
+        addLong(i, OType.LONG, (Long) value);
+      else if (value instanceof Short)
+        addLong(i, OType.SHORT, (Short) value);
+      else if (value instanceof Double)
+        addDouble(i, OType.DOUBLE, (Double) value);
+      else if (value instanceof Float)
+        addDouble(i, OType.FLOAT, (Float) value);
+      else {
+        // NOT A PRIMITIVE VALUE: AGGREGATE IT RECORD BY RECORD
+        flush(i);
+        functions[i].execute(record, record, null, new Object[] { value }, context);
+      }
+    }
+  }
+
+  /**
+   * Passes all collected values to the aggregate functions.
+   */
+  public void flush() {
+    for (int i = 0; i < functions.length; i++)
+      flush(i);
+  }
+
+  /**
+   * Adds the values aggregated by another aggregator of the same projections, created for another thread of a parallel query. Both
+   * the aggregators are flushed before merging the functions.
+   */
+  public void merge(final OBatchAggregator partial) {
+    flush();
+    partial.flush();
+    for (int i = 0; i < functions.length; i++)
+      ((OBatchableSQLFunction) functions[i]).merge((OBatchableSQLFunction) partial.functions[i]);
+  }
+
+  private void addLong(final int index, final OType type, final long value) {
+    final OSQLValueBlock block = blocks[index];
+    if (block.isFull() || !block.accepts(type))
+      flush(index);
+
+    block.addLong(type, value);
+  }
+
+  private void addDouble(final int index, final OType type, final double value) {
+    final OSQLValueBlock block = blocks[index];
+    if (block.isFull() || !block.accepts(type))
+      flush(index);
+
+    block.addDouble(type, value);
+  }
+
+  private void flush(final int index) {
+    final OSQLValueBlock block = blocks[index];
+    if (block.isEmpty())
+      return;
+
+    ((OBatchableSQLFunction) functions[index]).aggregate(block);
+    block.clear();
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.storage.OStorage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * Splits the clusters scanned by a parallel query in ranges of contiguous positions and hands them out to the threads of the
+ * query. The ranges are dealt in contiguous blocks to a deque per thread: every thread takes the ranges from the head of its deque and,
+ * once it is empty, steals them from the tail of the deques of the other threads, so the threads stay busy until the end of the
+ * scan even when the clusters have different sizes or only one cluster is scanned.
+ */
+public class OClusterRangeScheduler {
+
+  /**
+   * Range of positions of a cluster, both the limits are included.
+   */
+  public static final class ORange {
+    private final int  clusterId;
+    private final long firstPosition;
+    private final long lastPosition;
+
+    private ORange(final int iClusterId, final long iFirstPosition, final long iLastPosition) {
+      clusterId = iClusterId;
+      firstPosition = iFirstPosition;
+      lastPosition = iLastPosition;
+    }
+
+    public int getClusterId() {
+      return clusterId;
+    }
+
+    public long getFirstPosition() {
+      return firstPosition;
+    }
+
+    public long getLastPosition() {
+      return lastPosition;
+    }
+
+    @Override
+    public String toString() {
+      return "#" + clusterId + ":" + firstPosition + "-" + lastPosition;
+    }
+  }
+
+  private final List<LinkedBlockingDeque<ORange>> queues;
+
+  /**
+   * @param iStorage
+   *          storage of the clusters
+   * @param iClusterIds
+   *          clusters to scan
+   * @param iRangeSize
+   *          number of positions of every range
+   * @param iMaxThreads
+   *          maximum number of threads that scan the clusters
+   */
+  public OClusterRangeScheduler(final OStorage iStorage, final int[] iClusterIds, final long iRangeSize, final int iMaxThreads) {
+    final List<ORange> ranges = new ArrayList<ORange>();
+    for (int clusterId : iClusterIds) {
+      final long[] dataRange = iStorage.getClusterDataRange(clusterId);
+      if (dataRange.length < 2 || dataRange[0] == ORID.CLUSTER_POS_INVALID || dataRange[1] == ORID.CLUSTER_POS_INVALID)
+        // EMPTY CLUSTER
+        continue;
+
+      for (long first = dataRange[0]; first <= dataRange[1]; first += iRangeSize)
+        ranges.add(new ORange(clusterId, first, Math.min(first + iRangeSize - 1, dataRange[1])));
+    }
+
+    final int threads = Math.max(1, Math.min(iMaxThreads, ranges.size()));
+    queues = new ArrayList<LinkedBlockingDeque<ORange>>(threads);
+    for (int i = 0; i < threads; ++i)
+      queues.add(new LinkedBlockingDeque<ORange>());
+
+    // CONTIGUOUS RANGES TO THE SAME THREAD, SO EVERY THREAD STARTS FROM A DIFFERENT PART OF THE CLUSTERS
+    final int rangesPerThread = (ranges.size() + threads - 1) / threads;
+    for (int i = 0; i < ranges.size(); ++i)
+      queues.get(i / Math.max(1, rangesPerThread)).add(ranges.get(i));
+  }
+
+  /**
+   * @return the number of threads that scan the clusters
+   */
+  public int getThreads() {
+    return queues.size();
+  }
+
+  /**
+   * Returns the next range to scan for a thread, taken from its own ranges or, when they are finished, stolen from the other
+   * threads.
+   *
+   * @param iThread
+   *          thread number, from 0 to {@link #getThreads()} - 1
+   * @return the next range, or null when all the ranges have been taken
+   */
+  public ORange next(final int iThread) {
+    final ORange range = queues.get(iThread).pollFirst();
+    if (range != null)
+      return range;
+
+    for (int i = 1; i < queues.size(); ++i) {
+      final ORange stolen = queues.get((iThread + i) % queues.size()).pollLast();
+      if (stolen != null)
+        return stolen;
+    }
+    return null;
+  }
+}
@@ -35,6 +35,7 @@ import com.orientechnologies.orient.core.metadata.schema.OClassImpl;
 import com.orientechnologies.orient.core.metadata.security.ORule;
 import com.orientechnologies.orient.core.sql.parser.OStatement;
 import com.orientechnologies.orient.core.sql.parser.OStatementCache;
+import com.orientechnologies.orient.core.sql.query.OSQLPreparedQuery;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -73,6 +74,7 @@ public abstract class OCommandExecutorSQLAbstract extends OCommandExecutorAbstra
   public static final String METADATA_PREFIX          = "METADATA:";
   public static final String METADATA_SCHEMA          = "SCHEMA";
   public static final String METADATA_INDEXMGR        = "INDEXMANAGER";
+  public static final String METADATA_STORAGE         = "STORAGE";
 
   public static final String DEFAULT_PARAM_USER       = "$user";
 
@@ -228,6 +230,10 @@ public abstract class OCommandExecutorSQLAbstract extends OCommandExecutorAbstra
         final OStatement result = OStatementCache.get(queryText, getDatabase());
         preParsedStatement = result;
 
+        if (iRequest instanceof OSQLPreparedQuery && OPreparedQueryCache.isEnabled() && OPreparedQueryCache.isReusable(result))
+          // THE PARAMETERS ARE BOUND AT EVERY EXECUTION
+          return result.toString();
+
         if (iRequest instanceof OCommandRequestAbstract) {
           final Map<Object, Object> params = ((OCommandRequestAbstract) iRequest).getParameters();
           StringBuilder builder = new StringBuilder();
@@ -0,0 +1,109 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.command.OCommandDistributedReplicateRequest;
+import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.statistics.OIndexStatisticsManager;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL ANALYZE command: computes the statistics of the indexes used by the query planner to estimate the selectivity of the
+ * conditions. Without a target all the automatic indexes are analyzed.
+ */
+public class OCommandExecutorSQLAnalyze extends OCommandExecutorSQLAbstract implements OCommandDistributedReplicateRequest {
+  public static final String KEYWORD_ANALYZE = "ANALYZE";
+  public static final String KEYWORD_INDEX   = "INDEX";
+  public static final String KEYWORD_CLASS   = "CLASS";
+
+  private String             indexName;
+  private String             className;
+
+  @Override
+  public OCommandExecutorSQLAnalyze parse(final OCommandRequest iRequest) {
+    init((OCommandRequestText) iRequest);
+
+    parserRequiredKeyword(KEYWORD_ANALYZE);
+    if (parserOptionalKeyword(KEYWORD_INDEX, KEYWORD_CLASS)) {
+      if (parserGetLastWord().equals(KEYWORD_INDEX))
+        indexName = parserRequiredWord(false, "Expected <index-name>");
+      else
+        className = parserRequiredWord(false, "Expected <class-name>");
+    }
+
+    return this;
+  }
+
+  /**
+   * Execute the ANALYZE.
+   *
+   * @return the statistics of the analyzed indexes
+   */
+  @Override
+  public Object execute(final Map<Object, Object> iArgs) {
+    final ODatabaseDocumentInternal database = getDatabase();
+    final boolean single = indexName != null && !indexName.equals("*");
+    final Collection<? extends OIndex<?>> indexes;
+
+    if (single) {
+      final OIndex<?> index = database.getMetadata().getIndexManager().getIndex(indexName);
+      if (index == null)
+        throw new OCommandExecutionException("Index '" + indexName + "' not found");
+      final List<OIndex<?>> list = new ArrayList<OIndex<?>>();
+      list.add(index);
+      indexes = list;
+    } else if (className != null) {
+      final OClass cls = database.getMetadata().getSchema().getClass(className);
+      if (cls == null)
+        throw new OCommandExecutionException("Class '" + className + "' not found");
+      indexes = cls.getIndexes();
+    } else
+      indexes = database.getMetadata().getIndexManager().getIndexes();
+
+    final OIndexStatisticsManager statistics = OIndexStatisticsManager.get(database);
+    final List<ODocument> result = new ArrayList<ODocument>();
+    for (OIndex<?> index : indexes) {
+      // MANUAL INDEXES ARE NOT USED BY THE QUERIES, THEY ARE ANALYZED ONLY ON REQUEST
+      if (single || index.isAutomatic())
+        result.add(statistics.analyze(index).toDocument());
+    }
+    return result;
+  }
+
+  @Override
+  public String getSyntax() {
+    return "ANALYZE [INDEX <index-name>|* | CLASS <class-name>]";
+  }
+
+  @Override
+  public QUORUM_TYPE getQuorumType() {
+    return QUORUM_TYPE.ALL;
+  }
+}
@@ -19,13 +19,16 @@
  */
 package com.orientechnologies.orient.core.sql;
 
+import com.orientechnologies.orient.core.cache.OCommandCacheDependency;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.command.OCommandDistributedReplicateRequest;
 import com.orientechnologies.orient.core.command.OCommandExecutor;
 import com.orientechnologies.orient.core.command.OCommandExecutorNotFoundException;
 import com.orientechnologies.orient.core.command.OCommandRequest;
 import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.sql.query.OSQLPreparedQuery;
 
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +41,9 @@ import java.util.Set;
  */
 public class OCommandExecutorSQLDelegate extends OCommandExecutorSQLAbstract implements OCommandDistributedReplicateRequest {
   protected OCommandExecutor delegate;
+  private OPreparedQueryCache preparedCache;
+  private String              preparedKey;
+  private long                preparedMetadataVersion;
 
   @SuppressWarnings("unchecked")
   public OCommandExecutorSQLDelegate parse(final OCommandRequest iCommand) {
@@ -47,6 +53,9 @@ public class OCommandExecutorSQLDelegate extends OCommandExecutorSQLAbstract imp
       if (text == null)
         throw new IllegalArgumentException("Command text is null");
 
+      if (iCommand instanceof OSQLPreparedQuery && OPreparedQueryCache.isEnabled() && reusePreparedExecutor(textRequest))
+        return this;
+
       final String textUpperCase = upperCase(text);
 
       delegate = OSQLEngine.getInstance().getCommand(textUpperCase);
@@ -71,7 +80,36 @@ public class OCommandExecutorSQLDelegate extends OCommandExecutorSQLAbstract imp
   }
 
   public Object execute(final Map<Object, Object> iArgs) {
-    return delegate.execute(iArgs);
+    final Object result = delegate.execute(iArgs);
+
+    if (preparedCache != null && delegate instanceof OCommandExecutorSQLSelect && ((OCommandExecutorSQLSelect) delegate).isReusable())
+      // THE NEXT EXECUTION OF THE PREPARED QUERY CAN SKIP THE PARSING
+      preparedCache.release(preparedKey, (OCommandExecutorSQLSelect) delegate, preparedMetadataVersion);
+
+    return result;
+  }
+
+  /**
+   * Takes the executor parsed by a previous execution of the prepared query, if any. Otherwise remembers the key and the version of
+   * the schema the executor is going to be parsed with, to cache it at the end of the execution.
+   */
+  private boolean reusePreparedExecutor(final OCommandRequestText iRequest) {
+    final ODatabaseDocumentInternal db = getDatabase();
+    preparedCache = OPreparedQueryCache.get(db);
+    preparedKey = iRequest.getLimit() + ":" + iRequest.getText();
+    preparedMetadataVersion = OPreparedQueryCache.getMetadataVersion(db);
+
+    final OCommandExecutorSQLSelect executor = preparedCache.acquire(preparedKey, preparedMetadataVersion);
+    if (executor == null)
+      return false;
+
+    executor.setContext(context);
+    executor.reuse(iRequest);
+    executor.setProgressListener(progressListener);
+    if (executor.getFetchPlan() != null)
+      iRequest.setFetchPlan(executor.getFetchPlan());
+    delegate = executor;
+    return true;
   }
 
   @Override
@@ -107,6 +145,11 @@ public class OCommandExecutorSQLDelegate extends OCommandExecutorSQLAbstract imp
     return delegate.isCacheable();
   }
 
+  @Override
+  public OCommandCacheDependency getCacheDependency() {
+    return delegate.getCacheDependency();
+  }
+
   @Override
   public QUORUM_TYPE getQuorumType() {
     if (delegate instanceof OCommandDistributedReplicateRequest)
@@ -152,18 +152,24 @@ public abstract class OCommandExecutorSQLResultsetAbstract extends OCommandExecu
     final OCommandRequestText textRequest = (OCommandRequestText) iRequest;
 
     init(textRequest);
+    bindRequest(textRequest);
+    return this;
+  }
 
+  /**
+   * Sets the request that receives the results of the execution.
+   */
+  protected void bindRequest(final OCommandRequestText iRequest) {
     if (iRequest instanceof OSQLSynchQuery) {
       request = (OSQLSynchQuery<ODocument>) iRequest;
     } else if (iRequest instanceof OSQLAsynchQuery)
       request = (OSQLAsynchQuery<ODocument>) iRequest;
     else {
       // BUILD A QUERY OBJECT FROM THE COMMAND REQUEST
-      request = new OSQLSynchQuery<ODocument>(textRequest.getText());
-      if (textRequest.getResultListener() != null)
-        request.setResultListener(textRequest.getResultListener());
+      request = new OSQLSynchQuery<ODocument>(iRequest.getText());
+      if (iRequest.getResultListener() != null)
+        request.setResultListener(iRequest.getResultListener());
     }
-    return this;
   }
 
   @Override
@@ -31,9 +31,11 @@ import com.orientechnologies.common.util.OPair;
 import com.orientechnologies.common.util.OPatternConst;
 import com.orientechnologies.common.util.OSizeable;
 import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.cache.OCommandCacheDependency;
 import com.orientechnologies.orient.core.command.OBasicCommandContext;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.command.OCommandRequestAbstract;
 import com.orientechnologies.orient.core.command.OCommandRequestText;
 import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
@@ -65,8 +67,11 @@ import com.orientechnologies.orient.core.metadata.security.OSecurityUser;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.ORecordInternal;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentComparator;
 import com.orientechnologies.orient.core.record.impl.ODocumentHelper;
 import com.orientechnologies.orient.core.serialization.serializer.OStringSerializerHelper;
+import com.orientechnologies.orient.core.sql.executor.OSelectExecutionPlan;
+import com.orientechnologies.orient.core.sql.executor.OTopNCollection;
 import com.orientechnologies.orient.core.sql.filter.*;
 import com.orientechnologies.orient.core.sql.functions.OSQLFunctionRuntime;
 import com.orientechnologies.orient.core.sql.functions.coll.OSQLFunctionDistinct;
@@ -106,7 +111,6 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
   public static final  String KEYWORD_NOCACHE               = "NOCACHE";
   private static final String KEYWORD_AS                    = "AS";
   private static final String KEYWORD_PARALLEL              = "PARALLEL";
-  private static final int    PARTIAL_SORT_BUFFER_THRESHOLD = 10000;
 
   private static class AsyncResult {
     final OIdentifiable   record;
@@ -130,6 +134,8 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
   private       List<OPair<String, String>> orderedFields        = new ArrayList<OPair<String, String>>();
   private List<String> groupByFields;
   private ConcurrentHashMap<Object, ORuntimeResult> groupedResult = new ConcurrentHashMap<Object, ORuntimeResult>();
+  private ORuntimeResult                            batchAggregatorGroup;
+  private OBatchAggregator                          batchAggregator;
   private boolean                                   aggregate     = false;
   private List<String> unwindFields;
   private Object       expandTarget;
@@ -142,6 +148,7 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
   private          Boolean isAnyFunctionAggregates = null;
   private volatile boolean parallel                = false;
   private volatile boolean parallelRunning;
+  private final ThreadLocal<OBatchAggregator> parallelAggregator = new ThreadLocal<OBatchAggregator>();
   private final ArrayBlockingQueue<AsyncResult> resultQueue = new ArrayBlockingQueue<AsyncResult>(
       OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE.getValueAsInteger());
 
@@ -153,6 +160,8 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
   private AtomicLong tmpQueueOffer = new AtomicLong();
   private Object     resultLock    = new Object();
 
+  private OSelectExecutionPlanner streamingPlanner;
+
   public OCommandExecutorSQLSelect() {
   }
 
@@ -343,6 +352,7 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
         throw new IllegalArgumentException("Limit must be > 0 or = -1 (no limit)");
       }
       validateQuery();
+      streamingPlanner = createStreamingPlanner(queryText, iRequest);
     } finally {
       textRequest.setText(originalQuery);
     }
@@ -416,6 +426,106 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
     return clusters;
   }
 
+  /**
+   * The result of a query against classes or clusters that reads only the fields of the fetched records depends only on the
+   * records matching the condition: the other records of the involved clusters cannot affect it.
+   *
+   * @return the dependency on the records matching the condition, or null if the query reads linked records, variables,
+   *         sub-queries or the result of functions
+   */
+  @Override
+  public OCommandCacheDependency getCacheDependency() {
+    if (parsedTarget == null || parsedTarget.getTargetQuery() != null || parsedTarget.getTargetIndex() != null
+        || (parsedTarget.getTargetClasses() == null && parsedTarget.getTargetClusters() == null))
+      return null;
+
+    if (let != null || expandTarget != null || unwindFields != null)
+      return null;
+
+    final OSQLFilter filter = compiledFilter;
+    if (filter != null && !isRecordLocal(filter.getRootCondition()))
+      return null;
+
+    if (projections != null)
+      for (Object projection : projections.values())
+        if (projection instanceof OSQLFunctionRuntime) {
+          final OSQLFunctionRuntime function = (OSQLFunctionRuntime) projection;
+          if (!function.aggregateResults() || function.hasChainOperators() || !isRecordLocal(function.configuredParameters))
+            return null;
+        } else if (!isRecordLocal(projection))
+          return null;
+
+    if (groupByFields != null)
+      for (String field : groupByFields)
+        if (!isRecordField(field))
+          return null;
+
+    for (OPair<String, String> field : orderedFields)
+      if (!isRecordField(field.getKey()))
+        return null;
+
+    return new OCommandCacheDependency() {
+      @Override
+      public boolean isAffectedBy(final ORecord iRecord) {
+        if (filter == null || filter.getRootCondition() == null)
+          return true;
+
+        // THE WRITERS EVALUATE THE CONDITION CONCURRENTLY: WORK ON A COPY SINCE THE EVALUATION REPLACES THE CONSTANTS WITH THEIR
+        // BINARY FORM
+        final OSQLFilterCondition condition = (OSQLFilterCondition) copyCondition(filter.getRootCondition());
+        return Boolean.TRUE.equals(condition.evaluate(iRecord, null, new OBasicCommandContext()));
+      }
+    };
+  }
+
+  /**
+   * @return a copy of the tree of conditions, sharing the operands that are not conditions
+   */
+  private static Object copyCondition(final Object iValue) {
+    if (!(iValue instanceof OSQLFilterCondition))
+      return iValue;
+
+    final OSQLFilterCondition condition = (OSQLFilterCondition) iValue;
+    return new OSQLFilterCondition(copyCondition(condition.getLeft()), condition.getOperator(),
+        copyCondition(condition.getRight()));
+  }
+
+  /**
+   * @return true if the value is a literal, a field of the record without chained fields or methods, or a condition on them
+   */
+  private static boolean isRecordLocal(final Object iValue) {
+    if (iValue instanceof OSQLFilterCondition) {
+      final OSQLFilterCondition condition = (OSQLFilterCondition) iValue;
+      final OQueryOperator operator = condition.getOperator();
+      if (operator instanceof OQueryOperatorTraverse)
+        return false;
+
+      if (!(operator instanceof OQueryOperatorAnd || operator instanceof OQueryOperatorOr || operator instanceof OQueryOperatorNot)
+          && (condition.getLeft() instanceof OSQLFilterCondition || condition.getRight() instanceof OSQLFilterCondition))
+        // CONDITION ON THE ITEMS OF A COLLECTION, THAT CAN BE LINKED RECORDS
+        return false;
+
+      return isRecordLocal(condition.getLeft()) && isRecordLocal(condition.getRight());
+    }
+
+    if (iValue instanceof OSQLFilterItemField)
+      return !((OSQLFilterItemField) iValue).hasChainOperators();
+
+    if (iValue instanceof OSQLFilterItem || iValue instanceof OSQLPredicate || iValue instanceof OSQLQuery)
+      return false;
+
+    if (OMultiValue.isMultiValue(iValue))
+      for (Object item : OMultiValue.getMultiValueIterable(iValue))
+        if (!isRecordLocal(item))
+          return false;
+
+    return true;
+  }
+
+  private static boolean isRecordField(final String iField) {
+    return iField.indexOf('.') < 0 && iField.indexOf('(') < 0;
+  }
+
   /**
    * @return {@code ture} if any of the sql functions perform aggregation, {@code false} otherwise
    */
@@ -478,6 +588,9 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
       getContext().beginExecution(timeoutMs, timeoutStrategy);
     }
 
+    if (streamingPlanner != null)
+      return executeStreaming(iArgs);
+
     if (!optimizeExecution()) {
       fetchLimit = getQueryFetchLimit();
 
@@ -491,10 +604,90 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
     return getResult();
   }
 
+  /**
+   * Tells if the executor can execute the statement again for the next execution of a prepared query. This is possible when the
+   * step based executor runs the statement, because it does not change the parsed state, and the parameters have been parsed as
+   * placeholders.
+   */
+  public boolean isReusable() {
+    return streamingPlanner != null && OPreparedQueryCache.isReusable(preParsedStatement);
+  }
+
+  /**
+   * Binds the request of a new execution of a prepared query to the executor, parsed by a previous execution with the same text.
+   */
+  public OCommandExecutorSQLSelect reuse(final OCommandRequest iRequest) {
+    getDatabase().checkSecurity(ORule.ResourceGeneric.COMMAND, ORole.PERMISSION_READ);
+    bindRequest((OCommandRequestText) iRequest);
+    tempResult = null;
+    resultCount = 0;
+    initContext();
+    return this;
+  }
+
+  /**
+   * Returns the planner of the step based executor if it is enabled and supports the statement, null otherwise.
+   */
+  private OSelectExecutionPlanner createStreamingPlanner(final String queryText, final OCommandRequest iRequest) {
+    if (!OGlobalConfiguration.QUERY_STREAMING_EXECUTION.getValueAsBoolean() || !(preParsedStatement instanceof OSelectStatement))
+      return null;
+    if (expandTarget != null || (let != null && !let.isEmpty()) || unwindFields != null || lockingStrategy != LOCKING_STRATEGY.DEFAULT)
+      return null;
+
+    OSelectStatement statement = (OSelectStatement) preParsedStatement;
+    if (iRequest instanceof OCommandRequestAbstract && ((OCommandRequestAbstract) iRequest).getParameters() != null
+        && !((OCommandRequestAbstract) iRequest).getParameters().isEmpty())
+      // THE CACHED STATEMENT HAS THE PARAMETERS, THE PRE-PARSED TEXT HAS THEIR VALUES
+      statement = (OSelectStatement) OStatementCache.parse(queryText);
+
+    return OSelectExecutionPlanner.isSupported(statement) ? new OSelectExecutionPlanner(statement) : null;
+  }
+
+  /**
+   * Pulls the records from the execution plan and sends them to the listener one at a time, until the listener stops accepting
+   * them.
+   */
+  private Object executeStreaming(final Map<Object, Object> iArgs) {
+    parameters = iArgs;
+    context.setInputParameters(iArgs);
+    if (iArgs != null && iArgs.size() > 0 && compiledFilter != null)
+      compiledFilter.bindParameters(iArgs);
+
+    final OSelectExecutionPlan plan = streamingPlanner.createExecutionPlan(this, context);
+    try {
+      int fetched = 0;
+      while ((limit == -1 || fetched < limit) && plan.hasNext()) {
+        if (!pushResult(plan.next()))
+          break;
+        fetched++;
+      }
+    } finally {
+      plan.close();
+      if (context.isRecordingMetrics())
+        context.setVariable("executionPlan", plan.toDocument());
+    }
+    return getResult();
+  }
+
   public Map<String, Object> getProjections() {
     return projections;
   }
 
+  public OSQLFilter getCompiledFilter() {
+    return compiledFilter;
+  }
+
+  public List<String> getGroupByFields() {
+    return groupByFields;
+  }
+
+  /**
+   * @return true if the projections aggregate the records, with or without GROUP BY
+   */
+  public boolean isAggregate() {
+    return aggregate;
+  }
+
   @Override
   public String getSyntax() {
     return "SELECT [<Projections>] FROM <Target> [LET <Assignment>*] [WHERE <Condition>*] [ORDER BY <Fields>* [ASC|DESC]*] [LIMIT <MaxRecords>] [TIMEOUT <TimeoutInMs>] [LOCK none|record] [NOCACHE]";
@@ -518,6 +711,10 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
       return;
     }
 
+    if (aggregate && (groupByFields == null || groupByFields.isEmpty()))
+      // SINGLE GROUP: RESOLVE ITS AGGREGATOR ONCE FOR ALL THE RECORDS
+      getBatchAggregator(context);
+
     fetchFromTarget(target);
   }
 
@@ -612,6 +809,13 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
         }
 
         if (parallel) {
+          final OBatchAggregator aggregator = parallelAggregator.get();
+          if (aggregator != null && record instanceof ODocument) {
+            // AGGREGATED BY THE CURRENT THREAD: THE AGGREGATORS OF ALL THE THREADS ARE MERGED AT THE END
+            aggregator.aggregate((ODocument) record);
+            return true;
+          }
+
           try {
             applyGroupBy(record, iContext);
             resultQueue.put(new AsyncResult(record, iContext));
@@ -740,9 +944,7 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
 
       // COLLECT ALL THE RECORDS AND ORDER THEM AT THE END
       if (tempResult == null)
-        tempResult = new ArrayList<OIdentifiable>();
-
-      applyPartialOrderBy();
+        tempResult = createResultBuffer();
 
       for (OIdentifiable iRes : allResults) {
         ((Collection<OIdentifiable>) tempResult).add(iRes);
@@ -756,6 +958,12 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
     if (!aggregate)
       return null;
 
+    if (batchAggregator != null && !parallel && iRecord instanceof ODocument) {
+      // RESOLVED BEFORE THE SCAN, ONLY WITHOUT GROUP BY
+      batchAggregator.aggregate((ODocument) iRecord);
+      return null;
+    }
+
     // AGGREGATION/GROUP BY
     Object fieldValue = null;
     if (groupByFields != null && !groupByFields.isEmpty()) {
@@ -786,30 +994,42 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
     return getProjectionGroup(fieldValue, iContext).applyRecord(iRecord);
   }
 
+  /**
+   * Resolves the aggregator of the single group of the aggregates without GROUP BY, and keeps it until the group is flushed.
+   *
+   * @return aggregator which executes projections of the current group in blocks or <code>null</code> if projections can not be
+   * executed in blocks
+   */
+  private OBatchAggregator getBatchAggregator(final OCommandContext iContext) {
+    final ORuntimeResult group = getProjectionGroup(null, iContext);
+    if (group != batchAggregatorGroup) {
+      batchAggregatorGroup = group;
+      batchAggregator = OGlobalConfiguration.QUERY_BATCH_AGGREGATION.getValueAsBoolean() ?
+          OBatchAggregator.create(group.getProjections(), iContext) :
+          null;
+    }
+
+    return batchAggregator;
+  }
+
   private boolean allowsStreamedResult() {
     return (fullySortedByIndex || orderedFields.isEmpty()) && expandTarget == null && unwindFields == null;
   }
 
   /**
-   * in case of ORDER BY + SKIP + LIMIT, this method applies ORDER BY operation on partial result and discards overflowing results
-   * (results > skip + limit)
+   * in case of ORDER BY + SKIP + LIMIT, the records are collected in a bounded heap that keeps only the first skip + limit records,
+   * instead of keeping all of them until the end
    */
-  private void applyPartialOrderBy() {
-    if (expandTarget != null || (unwindFields != null && unwindFields.size() > 0) || orderedFields.isEmpty() || fullySortedByIndex
-        || isRidOnlySort()) {
-      return;
-    }
-
-    if (limit > 0) {
+  private Collection<OIdentifiable> createResultBuffer() {
+    if (limit > 0 && expandTarget == null && (unwindFields == null || unwindFields.isEmpty()) && !orderedFields.isEmpty()
+        && !fullySortedByIndex && !isRidOnlySort()) {
       int sortBufferSize = limit + 1;
       if (skip > 0) {
         sortBufferSize += skip;
       }
-      if (tempResult instanceof List && ((List) tempResult).size() >= sortBufferSize + PARTIAL_SORT_BUFFER_THRESHOLD) {
-        applyOrderBy(false);
-        tempResult = new ArrayList(((List) tempResult).subList(0, sortBufferSize));
-      }
+      return new OTopNCollection(sortBufferSize, new ODocumentComparator(orderedFields, context));
     }
+    return new ArrayList<OIdentifiable>();
   }
 
   private Collection<OIdentifiable> unwind(final OIdentifiable iRecord, final List<String> unwindFields,
@@ -1135,7 +1355,7 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
     return parserGetCurrentPosition();
   }
 
-  protected Map<String, Object> createProjectionFromDefinition() {
+  public Map<String, Object> createProjectionFromDefinition() {
     if (projectionDefinition == null) {
       return new LinkedHashMap<String, Object>();
     }
@@ -1574,7 +1794,7 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
       return false;
 
     if (iTarget instanceof ORecordIteratorClusters) {
-      if (clusterIds.length > 1) {
+      if (clusterIds.length > 0) {
         final long totalRecords = getDatabase().getStorage().count(clusterIds);
         if (totalRecords > OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.getValueAsLong()) {
           // ACTIVATE PARALLEL
@@ -1652,10 +1872,22 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
   private boolean execParallelWithPool(final ORecordIteratorClusters iTarget, final ODatabaseDocumentTx db) {
     final int[] clusterIds = iTarget.getClusterIds();
 
-    // CREATE ONE THREAD PER CLUSTER
-    final int jobNumbers = clusterIds.length;
+    // SPLIT THE CLUSTERS IN RANGES OF POSITIONS SCANNED BY ONE THREAD PER CORE
+    final int maxThreads = OGlobalConfiguration.QUERY_PARALLEL_MAX_THREADS.getValueAsInteger();
+    final OClusterRangeScheduler scheduler = new OClusterRangeScheduler(db.getStorage(), clusterIds,
+        OGlobalConfiguration.QUERY_PARALLEL_RANGE_SIZE.getValueAsLong(),
+        maxThreads > 0 ? maxThreads : Runtime.getRuntime().availableProcessors());
+    final int jobNumbers = scheduler.getThreads();
     final List<Future<?>> jobs = new ArrayList<Future<?>>();
 
+    // AGGREGATES WITHOUT GROUP BY ARE COMPUTED BY EVERY THREAD ON ITS RECORDS AND MERGED AT THE END
+    final OBatchAggregator aggregator =
+        aggregate && (groupByFields == null || groupByFields.isEmpty()) ? getBatchAggregator(context) : null;
+    final OBatchAggregator[] aggregators = new OBatchAggregator[jobNumbers];
+    if (aggregator != null)
+      for (int i = 0; i < jobNumbers; ++i)
+        aggregators[i] = OBatchAggregator.create(createProjectionFromDefinition(), context);
+
     OLogManager.instance()
         .debug(this, "Executing parallel query with strategy executors. clusterIds=%d, jobs=%d", clusterIds.length, jobNumbers);
 
@@ -1689,10 +1921,13 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
               // CREATE A SNAPSHOT TO AVOID DEADLOCKS
               db.getMetadata().getSchema().makeSnapshot();
 
-              scanClusterWithIterator(localDatabase, threadContext, clusterIds[current], current, results);
+              parallelAggregator.set(aggregators[current]);
+
+              scanClusterRanges(localDatabase, threadContext, scheduler, current, results);
             } catch (RuntimeException t) {
               exceptions[current] = t;
             } finally {
+              parallelAggregator.remove();
               runningJobs.decrementAndGet();
               resultQueue.offer(PARALLEL_END_EXECUTION_THREAD);
 
@@ -1768,6 +2003,10 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
           throw OException.wrapException(new OCommandExecutionException("Error on executing parallel query"), e);
         }
       }
+
+      if (aggregator != null)
+        for (OBatchAggregator partial : aggregators)
+          aggregator.merge(partial);
     }
 
     // CHECK FOR ANY EXCEPTION
@@ -1782,21 +2021,25 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
     return true;
   }
 
-  private void scanClusterWithIterator(final ODatabaseDocumentInternal localDatabase, final OCommandContext iContext,
-      final int iClusterId, final int current, final boolean[] results) {
-    final ORecordIteratorCluster it = new ORecordIteratorCluster(localDatabase, localDatabase, iClusterId);
+  private void scanClusterRanges(final ODatabaseDocumentInternal localDatabase, final OCommandContext iContext,
+      final OClusterRangeScheduler iScheduler, final int current, final boolean[] results) {
+    OClusterRangeScheduler.ORange range;
+    while ((range = iScheduler.next(current)) != null) {
+      final ORecordIteratorCluster it = new ORecordIteratorCluster(localDatabase, localDatabase, range.getClusterId(),
+          range.getFirstPosition(), range.getLastPosition(), false, LOCKING_STRATEGY.DEFAULT);
 
-    while (it.hasNext()) {
-      final ORecord next = it.next();
+      while (it.hasNext()) {
+        final ORecord next = it.next();
 
-      if (!executeSearchRecord(next, iContext, false)) {
-        results[current] = false;
-        break;
-      }
+        if (!executeSearchRecord(next, iContext, false)) {
+          results[current] = false;
+          return;
+        }
 
-      if (parallel && !parallelRunning)
-        // EXECUTION ENDED
-        break;
+        if (parallel && !parallelRunning)
+          // EXECUTION ENDED
+          return;
+      }
     }
   }
 
@@ -2140,24 +2383,9 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
               }
             }
 
-            final int searchResultFieldsCount = searchResult.fields().size();
-            final List<Object> keyParams = new ArrayList<Object>(searchResultFieldsCount);
-            // We get only subset contained in processed sub query.
-            for (final String fieldName : indexDefinition.getFields().subList(0, searchResultFieldsCount)) {
-              Object fieldValue = searchResult.fieldValuePairs.get(fieldName);
-              if (fieldValue instanceof OSQLQuery<?> || fieldValue instanceof OSQLFilterCondition) {
-                return false;
-              }
-
-              if (fieldValue != null) {
-                keyParams.add(fieldValue);
-              } else {
-                if (searchResult.lastValue instanceof OSQLQuery<?> || searchResult.lastValue instanceof OSQLFilterCondition) {
-                  return false;
-                }
-
-                keyParams.add(searchResult.lastValue);
-              }
+            final List<Object> keyParams = getKeyParams(indexDefinition, searchResult);
+            if (keyParams == null) {
+              return false;
             }
 
             OIndexCursor cursor;
@@ -2200,7 +2428,11 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
             }
 
             if (index.getRebuildVersion() == indexRebuildVersion) {
-              cursors.add(OIndexChangesWrapper.wrap(index, cursor, indexRebuildVersion));
+              cursor = OIndexChangesWrapper.wrap(index, cursor, indexRebuildVersion);
+              if (!indexIsUsedInOrderBy) {
+                cursor = intersectIndexes(iSchemaClass, indexSearchResults, searchResult, index, cursor);
+              }
+              cursors.add(cursor);
               indexUseAttempts.add(new IndexUsageLog(index, keyParams, indexDefinition));
               indexUsed = true;
               break;
@@ -2282,6 +2514,129 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
     }
   }
 
+  /**
+   * @return the values of the index key for the fields of the query subset, or null if a value is a sub query
+   */
+  private List<Object> getKeyParams(final OIndexDefinition indexDefinition, final OIndexSearchResult searchResult) {
+    final int searchResultFieldsCount = searchResult.fields().size();
+    final List<Object> keyParams = new ArrayList<Object>(searchResultFieldsCount);
+    // We get only subset contained in processed sub query.
+    for (final String fieldName : indexDefinition.getFields().subList(0, searchResultFieldsCount)) {
+      Object fieldValue = searchResult.fieldValuePairs.get(fieldName);
+      if (fieldValue instanceof OSQLQuery<?> || fieldValue instanceof OSQLFilterCondition) {
+        return null;
+      }
+
+      if (fieldValue != null) {
+        keyParams.add(fieldValue);
+      } else {
+        if (searchResult.lastValue instanceof OSQLQuery<?> || searchResult.lastValue instanceof OSQLFilterCondition) {
+          return null;
+        }
+
+        keyParams.add(searchResult.lastValue);
+      }
+    }
+    return keyParams;
+  }
+
+  /**
+   * Intersects the RIDs of the cursor with the ones of the indexes of the other query subsets in AND, so only the records that
+   * match all the indexed conditions are loaded. An index is used only if it does not return many more RIDs than the ones found
+   * so far, see {@link OGlobalConfiguration#QUERY_INDEX_INTERSECTION_RATIO}. The RIDs are sorted, so the order of the keys is lost.
+   *
+   * @return a cursor on the RIDs returned by all the used indexes, or the cursor itself if there is nothing to intersect
+   */
+  private OIndexCursor intersectIndexes(final OClass iSchemaClass, final List<OIndexSearchResult> indexSearchResults,
+      final OIndexSearchResult usedSearchResult, final OIndex<?> usedIndex, final OIndexCursor cursor) {
+    final int ratio = OGlobalConfiguration.QUERY_INDEX_INTERSECTION_RATIO.getValueAsInteger();
+    if (ratio <= 0 || fetchLimit > 0 || usedSearchResult.lastField.isLong()) {
+      return cursor;
+    }
+
+    final Set<String> usedFields = new HashSet<String>(usedSearchResult.fields());
+    final List<OIndexSearchResult> candidates = new ArrayList<OIndexSearchResult>();
+    for (OIndexSearchResult searchResult : indexSearchResults) {
+      if (!searchResult.lastField.isLong() && Collections.disjoint(usedFields, searchResult.fields())) {
+        candidates.add(searchResult);
+      }
+    }
+    if (candidates.isEmpty()) {
+      return cursor;
+    }
+
+    final OIndexIntersection intersection = new OIndexIntersection(cursor);
+    final List<String> indexNames = new ArrayList<String>();
+    indexNames.add(usedIndex.getName());
+
+    for (OIndexSearchResult searchResult : candidates) {
+      if (intersection.size() <= 1) {
+        // LOADING ONE RECORD COSTS LESS THAN ANOTHER INDEX LOOKUP
+        break;
+      }
+      if (!Collections.disjoint(usedFields, searchResult.fields())) {
+        continue;
+      }
+
+      for (OIndex<?> index : filterAnalyzer.getInvolvedIndexes(iSchemaClass, searchResult)) {
+        final long indexRebuildVersion = index.getRebuildVersion();
+        final OIndexCursor indexCursor = openIndexCursor(index, searchResult);
+        if (indexCursor == null) {
+          continue;
+        }
+
+        if (intersection.intersect(OIndexChangesWrapper.wrap(index, indexCursor, indexRebuildVersion),
+            (long) intersection.size() * ratio)) {
+          metricRecorder.recordInvolvedIndexesMetric(index);
+          indexNames.add(index.getName());
+          usedFields.addAll(searchResult.fields());
+        }
+        break;
+      }
+    }
+
+    if (indexNames.size() > 1) {
+      metricRecorder.recordIndexIntersectionMetric(indexNames);
+    }
+    return new OIndexCursorCollectionValue(intersection.getRids(), null);
+  }
+
+  /**
+   * @return the cursor of the index for the query subset, or null if the index cannot be used for it
+   */
+  private OIndexCursor openIndexCursor(final OIndex<?> index, final OIndexSearchResult searchResult) {
+    if (index.isRebuilding() || index instanceof OChainedIndexProxy) {
+      return null;
+    }
+
+    final OIndexDefinition indexDefinition = index.getDefinition();
+    if (searchResult.containsNullValues && indexDefinition.isNullValuesIgnored()) {
+      return null;
+    }
+
+    if (!OIndexSearchResult.isIndexEqualityOperator(searchResult.lastOperator)) {
+      final String lastField = searchResult.lastField.getItemName(searchResult.lastField.getItemCount() - 1);
+      if (!lastField.equals(indexDefinition.getFields().get(searchResult.fieldValuePairs.size()))) {
+        return null;
+      }
+    }
+
+    final List<Object> keyParams = getKeyParams(indexDefinition, searchResult);
+    if (keyParams == null) {
+      return null;
+    }
+
+    try {
+      return searchResult.lastOperator.executeIndexQuery(context, index, keyParams, true);
+    } catch (OIndexEngineException e) {
+      throw e;
+    } catch (Exception e) {
+      // THE CONDITION IS CHECKED ON THE RECORDS ANYWAY
+      OLogManager.instance().debug(this, "Error on using index %s for the intersection", e, index.getName());
+      return null;
+    }
+  }
+
   private Iterator<OIdentifiable> tryIndexedFunctions(OClass iSchemaClass) {
     // TODO profiler
     if (this.preParsedStatement == null) {
@@ -2506,7 +2861,7 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
 
     final long startOrderBy = System.currentTimeMillis();
     try {
-      if (tempResult instanceof OMultiCollectionIterator) {
+      if (tempResult != null && !(tempResult instanceof List)) {
         final List<OIdentifiable> list = new ArrayList<OIdentifiable>();
         for (OIdentifiable o : tempResult) {
           list.add(o);
@@ -2844,6 +3199,13 @@ public class OCommandExecutorSQLSelect extends OCommandExecutorSQLResultsetAbstr
   }
 
   private void handleGroupBy(final OCommandContext iContext) {
+    if (batchAggregator != null) {
+      batchAggregator.flush();
+
+      batchAggregator = null;
+      batchAggregatorGroup = null;
+    }
+
     if (aggregate && tempResult == null) {
 
       final long startGroupBy = System.currentTimeMillis();
@@ -45,6 +45,10 @@ import java.util.*;
  * <p>
  * <code>SELECT FROM (TRAVERSE children FROM #5:23 WHERE $depth BETWEEN 1 AND 3) WHERE city.name = 'Rome'</code>
  * </p>
+ * <p>
+ * With <code>STRATEGY BREADTH_FIRST PARALLEL</code> records reached at the same step are loaded and checked by several threads,
+ * the result is the same as without <code>PARALLEL</code>.
+ * </p>
  * 
  * @author Luca Garulli
  */
@@ -54,6 +58,7 @@ public class OCommandExecutorSQLTraverse extends OCommandExecutorSQLResultsetAbs
   public static final String KEYWORD_TRAVERSE = "TRAVERSE";
   public static final String KEYWORD_STRATEGY = "STRATEGY";
   public static final String KEYWORD_MAXDEPTH = "MAXDEPTH";
+  public static final String KEYWORD_PARALLEL = "PARALLEL";
 
   // HANDLES ITERATION IN LAZY WAY
   private OTraverse          traverse         = new OTraverse();
@@ -111,7 +116,7 @@ public class OCommandExecutorSQLTraverse extends OCommandExecutorSQLResultsetAbs
 
       while (!parserIsEnded()) {
         if (parserOptionalKeyword(KEYWORD_LIMIT, KEYWORD_SKIP, KEYWORD_OFFSET, KEYWORD_TIMEOUT, KEYWORD_MAXDEPTH,
-            KEYWORD_STRATEGY)) {
+            KEYWORD_STRATEGY, KEYWORD_PARALLEL)) {
           final String w = parserGetLastWord();
           if (w.equals(KEYWORD_LIMIT))
             parseLimit(w);
@@ -123,6 +128,8 @@ public class OCommandExecutorSQLTraverse extends OCommandExecutorSQLResultsetAbs
             parseMaxDepth(w);
           else if (w.equals(KEYWORD_STRATEGY))
             parseStrategy(w);
+          else if (w.equals(KEYWORD_PARALLEL))
+            traverse.setParallel(true);
         }
       }
 
@@ -192,7 +199,7 @@ public class OCommandExecutorSQLTraverse extends OCommandExecutorSQLResultsetAbs
   }
 
   public String getSyntax() {
-    return "TRAVERSE <field>* FROM <target> [MAXDEPTH <max-depth>] [WHILE <condition>] [STRATEGY <strategy>]";
+    return "TRAVERSE <field>* FROM <target> [MAXDEPTH <max-depth>] [WHILE <condition>] [STRATEGY <strategy>] [PARALLEL]";
   }
 
   protected void warnDeprecatedWhere() {
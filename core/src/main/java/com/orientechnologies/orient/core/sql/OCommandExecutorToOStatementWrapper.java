@@ -20,6 +20,7 @@
 package com.orientechnologies.orient.core.sql;
 
 import com.orientechnologies.common.listener.OProgressListener;
+import com.orientechnologies.orient.core.cache.OCommandCacheDependency;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.command.OCommandExecutor;
 import com.orientechnologies.orient.core.command.OCommandRequest;
@@ -131,6 +132,10 @@ public class OCommandExecutorToOStatementWrapper implements OCommandExecutor {
     return false;
   }
 
+  @Override public OCommandCacheDependency getCacheDependency() {
+    return null;
+  }
+
   @Override public long getDistributedTimeout() {
     return 0;
   }
@@ -102,6 +102,7 @@ public class ODefaultCommandExecutorSQLFactory implements OCommandExecutorSQLFac
 
     commands.put(OMatchStatement.KEYWORD_MATCH, OMatchStatement.class);
     commands.put(OCommandExecutorSQLOptimizeDatabase.KEYWORD_OPTIMIZE, OCommandExecutorSQLOptimizeDatabase.class);
+    commands.put(OCommandExecutorSQLAnalyze.KEYWORD_ANALYZE, OCommandExecutorSQLAnalyze.class);
 
     commands.put(OProfileStorageStatement.KEYWORD_PROFILE, OCommandExecutorToOStatementWrapper.class);
 
@@ -0,0 +1,264 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OPhysicalPosition;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.OStorageProxy;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Number of edges per vertex (fan-out) of the vertex classes, by direction and edge class, shared by all the connections to a
+ * storage and used by MATCH to estimate the cost of its execution plans. Statistics are computed on a random sample of the vertices
+ * of the class, whose size is set by {@link OGlobalConfiguration#QUERY_MATCH_STATISTICS_SAMPLE_SIZE}, reading the size of their
+ * <code>out_*</code> and <code>in_*</code> fields. They are computed again when the number of vertices of the class or the number of
+ * edges of the edge class change by more than 10%.
+ */
+public class OEdgeFanOutStatistics {
+  private static final double                  REFRESH_RATIO   = 0.1;
+  private static final String                  EDGE_CLASS_NAME = "E";
+
+  private final ConcurrentMap<String, OFanOut> fanOuts         = new ConcurrentHashMap<String, OFanOut>();
+  private final Random                         random          = new Random();
+
+  /**
+   * Fan-out of a vertex class in a direction.
+   */
+  public static class OFanOut {
+    private final double average;
+    private final int    percentile90;
+    private final int    max;
+    private final int    sampleSize;
+    private final long   vertexCount;
+    private final long   edgeCount;
+
+    public OFanOut(final double average, final int percentile90, final int max, final int sampleSize, final long vertexCount,
+        final long edgeCount) {
+      this.average = average;
+      this.percentile90 = percentile90;
+      this.max = max;
+      this.sampleSize = sampleSize;
+      this.vertexCount = vertexCount;
+      this.edgeCount = edgeCount;
+    }
+
+    public double getAverage() {
+      return average;
+    }
+
+    public int getPercentile90() {
+      return percentile90;
+    }
+
+    public int getMax() {
+      return max;
+    }
+
+    public int getSampleSize() {
+      return sampleSize;
+    }
+
+    @Override
+    public String toString() {
+      return "avg=" + average + " p90=" + percentile90 + " max=" + max + " sample=" + sampleSize;
+    }
+  }
+
+  /**
+   * @return The statistics of the storage of the database or <code>null</code> if they are disabled or the database is remote.
+   */
+  public static OEdgeFanOutStatistics get(final ODatabaseDocumentInternal iDatabase) {
+    if (OGlobalConfiguration.QUERY_MATCH_STATISTICS_SAMPLE_SIZE.getValueAsInteger() <= 0
+        || iDatabase.getStorage() instanceof OStorageProxy)
+      return null;
+
+    return iDatabase.getStorage().getResource(OEdgeFanOutStatistics.class.getSimpleName(), new Callable<OEdgeFanOutStatistics>() {
+      @Override
+      public OEdgeFanOutStatistics call() {
+        return new OEdgeFanOutStatistics();
+      }
+    });
+  }
+
+  /**
+   * Returns the fan-out of the vertices of a class, computing it if it is not known yet or if it is stale.
+   *
+   * @param iDatabase
+   *          Database to read the sample from
+   * @param iClassName
+   *          Vertex class
+   * @param iDirection
+   *          "out", "in" or "both"
+   * @param iLabels
+   *          Edge classes to consider, all of them if <code>null</code> or empty
+   * @return The fan-out or <code>null</code> if the class does not exist
+   */
+  public OFanOut getFanOut(final ODatabaseDocumentInternal iDatabase, final String iClassName, final String iDirection,
+      final String[] iLabels) {
+    final OSchema schema = iDatabase.getMetadata().getSchema();
+    final OClass cls = schema.getClass(iClassName);
+    if (cls == null)
+      return null;
+
+    final String direction = iDirection.toLowerCase(Locale.ENGLISH);
+    final String[] labels = iLabels != null ? iLabels.clone() : new String[0];
+    for (int i = 0; i < labels.length; i++)
+      labels[i] = labels[i].toLowerCase(Locale.ENGLISH);
+    Arrays.sort(labels);
+
+    final long vertexCount = cls.count();
+    long edgeCount = 0;
+    if (labels.length == 0) {
+      // ALL THE EDGE CLASSES EXTEND E
+      final OClass edgeClass = schema.getClass(EDGE_CLASS_NAME);
+      if (edgeClass != null)
+        edgeCount = edgeClass.count();
+    } else
+      for (String label : labels) {
+        final OClass edgeClass = schema.getClass(label);
+        if (edgeClass != null)
+          edgeCount += edgeClass.count();
+      }
+
+    final String key = cls.getName().toLowerCase(Locale.ENGLISH) + "|" + direction + "|" + Arrays.toString(labels);
+    OFanOut fanOut = fanOuts.get(key);
+    if (fanOut == null || isStale(fanOut.vertexCount, vertexCount) || isStale(fanOut.edgeCount, edgeCount)) {
+      fanOut = sample(iDatabase, cls, direction, labels, vertexCount, edgeCount);
+      fanOuts.put(key, fanOut);
+    }
+    return fanOut;
+  }
+
+  public void clear() {
+    fanOuts.clear();
+  }
+
+  private static boolean isStale(final long iSampled, final long iCurrent) {
+    return Math.abs(iCurrent - iSampled) > iSampled * REFRESH_RATIO;
+  }
+
+  private OFanOut sample(final ODatabaseDocumentInternal iDatabase, final OClass iClass, final String iDirection,
+      final String[] iLabels, final long iVertexCount, final long iEdgeCount) {
+    final int sampleSize = OGlobalConfiguration.QUERY_MATCH_STATISTICS_SAMPLE_SIZE.getValueAsInteger();
+    final OSchema schema = iDatabase.getMetadata().getSchema();
+
+    final int[] degrees = new int[(int) Math.min(sampleSize, iVertexCount)];
+    int sampled = 0;
+
+    if (iVertexCount <= sampleSize) {
+      // SMALL CLASS: READ ALL THE VERTICES
+      for (ODocument vertex : iDatabase.browseClass(iClass.getName())) {
+        if (sampled >= degrees.length)
+          break;
+        degrees[sampled++] = degree(vertex, iDirection, iLabels, schema);
+      }
+    } else {
+      final OStorage storage = iDatabase.getStorage();
+      final int[] clusterIds = iClass.getPolymorphicClusterIds();
+      final long[] clusterSizes = new long[clusterIds.length];
+      long total = 0;
+      for (int i = 0; i < clusterIds.length; i++) {
+        clusterSizes[i] = iDatabase.countClusterElements(clusterIds[i]);
+        total += clusterSizes[i];
+      }
+
+      // PICK RANDOM POSITIONS OF THE CLUSTERS, PROPORTIONALLY TO THEIR SIZE, SKIPPING THE HOLES LEFT BY DELETED RECORDS
+      for (int attempt = 0; attempt < sampleSize * 2 && sampled < degrees.length && total > 0; attempt++) {
+        long pick = (long) (random.nextDouble() * total);
+        int cluster = 0;
+        while (cluster < clusterIds.length - 1 && pick >= clusterSizes[cluster])
+          pick -= clusterSizes[cluster++];
+
+        final long[] range = storage.getClusterDataRange(clusterIds[cluster]);
+        if (range.length < 2 || range[0] < 0 || range[1] < range[0])
+          continue;
+
+        final long position = range[0] + (long) (random.nextDouble() * (range[1] - range[0] + 1));
+        final OPhysicalPosition[] positions = storage.ceilingPhysicalPositions(clusterIds[cluster], new OPhysicalPosition(position));
+        if (positions.length == 0)
+          continue;
+
+        final ORecord record = iDatabase.load(new ORecordId(clusterIds[cluster], positions[0].clusterPosition));
+        if (record instanceof ODocument)
+          degrees[sampled++] = degree((ODocument) record, iDirection, iLabels, schema);
+      }
+    }
+
+    if (sampled == 0)
+      return new OFanOut(0, 0, 0, 0, iVertexCount, iEdgeCount);
+
+    Arrays.sort(degrees, 0, sampled);
+    long sum = 0;
+    for (int i = 0; i < sampled; i++)
+      sum += degrees[i];
+
+    final int percentile90 = degrees[Math.max(0, (int) Math.ceil(sampled * 0.9) - 1)];
+    return new OFanOut((double) sum / sampled, percentile90, degrees[sampled - 1], sampled, iVertexCount, iEdgeCount);
+  }
+
+  /**
+   * @return The number of edges of the vertex in the direction, counting the edges of the passed classes and of their subclasses
+   */
+  private static int degree(final ODocument iVertex, final String iDirection, final String[] iLabels, final OSchema iSchema) {
+    int degree = 0;
+    for (String fieldName : iVertex.fieldNames()) {
+      final String label;
+      if (fieldName.startsWith("out_") && !"in".equals(iDirection))
+        label = fieldName.substring("out_".length());
+      else if (fieldName.startsWith("in_") && !"out".equals(iDirection))
+        label = fieldName.substring("in_".length());
+      else
+        continue;
+
+      if (matchesLabel(label, iLabels, iSchema)) {
+        final Object value = iVertex.rawField(fieldName);
+        degree += value instanceof OIdentifiable ? 1 : OMultiValue.getSize(value);
+      }
+    }
+    return degree;
+  }
+
+  private static boolean matchesLabel(final String iLabel, final String[] iLabels, final OSchema iSchema) {
+    if (iLabels.length == 0)
+      return true;
+
+    final OClass edgeClass = iSchema.getClass(iLabel);
+    for (String label : iLabels) {
+      if (label.equalsIgnoreCase(iLabel) || (edgeClass != null && edgeClass.isSubClassOf(label)))
+        return true;
+    }
+    return false;
+  }
+}
@@ -21,10 +21,17 @@
 package com.orientechnologies.orient.core.sql;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexDefinition;
+import com.orientechnologies.orient.core.index.OIndexDefinitionMultiValue;
+import com.orientechnologies.orient.core.index.statistics.OIndexStatistics;
+import com.orientechnologies.orient.core.index.statistics.OIndexStatisticsManager;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.sql.filter.OSQLFilterCondition;
 import com.orientechnologies.orient.core.sql.filter.OSQLFilterItemField;
+import com.orientechnologies.orient.core.sql.query.OSQLQuery;
 import com.orientechnologies.orient.core.sql.operator.*;
 
 import java.util.*;
@@ -86,7 +93,7 @@ public class OFilterAnalyzer {
 
   /**
    * Analyzes a query filter for a possible indexation options. The results are sorted by amount of fields. So the most specific
-   * items go first.
+   * items go first. If the involved indexes have been analyzed, the results are sorted by the estimated amount of entries instead.
    *
    * @param condition   to analyze
    * @param schemaClass the class that is scanned by query
@@ -107,10 +114,139 @@ public class OFilterAnalyzer {
         return searchResultTwo.getFieldCount() - searchResultOne.getFieldCount();
       }
     });
+    sortBySelectivity(schemaClass, indexSearchResults, context);
 
     return indexSearchResults;
   }
 
+  /**
+   * Sorts the variants by the amount of entries they are expected to fetch from the index, so the most selective one goes first. It
+   * is done only if all the variants can be estimated with the statistics computed by ANALYZE, otherwise the order is not changed.
+   */
+  private void sortBySelectivity(final OClass schemaClass, final List<OIndexSearchResult> indexSearchResults,
+      final OCommandContext context) {
+    if (indexSearchResults.size() < 2)
+      return;
+
+    final ODatabaseDocumentInternal database = ODatabaseRecordThreadLocal.INSTANCE.getIfDefined();
+    if (database == null)
+      return;
+
+    final OIndexStatisticsManager statistics = OIndexStatisticsManager.get(database);
+    final Map<OIndexSearchResult, Long> estimates = new IdentityHashMap<OIndexSearchResult, Long>();
+    for (OIndexSearchResult searchResult : indexSearchResults) {
+      final long estimate = estimate(statistics, schemaClass, searchResult, context);
+      if (estimate < 0)
+        return;
+      estimates.put(searchResult, estimate);
+    }
+
+    Collections.sort(indexSearchResults, new Comparator<OIndexSearchResult>() {
+      public int compare(final OIndexSearchResult searchResultOne, final OIndexSearchResult searchResultTwo) {
+        return estimates.get(searchResultOne).compareTo(estimates.get(searchResultTwo));
+      }
+    });
+  }
+
+  /**
+   * @return the estimated amount of entries the variant fetches from the first analyzed index that supports it, -1 if it cannot
+   *         be estimated
+   */
+  private long estimate(final OIndexStatisticsManager statistics, final OClass schemaClass, final OIndexSearchResult searchResult,
+      final OCommandContext context) {
+    if (searchResult.lastField.isLong())
+      return -1;
+
+    for (OIndex<?> index : schemaClass.getInvolvedIndexes(searchResult.fields())) {
+      final OIndexStatistics indexStatistics = statistics.getStatistics(index);
+      if (indexStatistics == null)
+        continue;
+
+      try {
+        final long estimate = estimate(indexStatistics, index.getDefinition(), searchResult, context);
+        if (estimate >= 0)
+          return estimate;
+      } catch (RuntimeException e) {
+        // THE VALUES CANNOT BE CONVERTED TO THE KEY TYPES: THE INDEX WILL NOT BE USED ANYWAY
+      }
+    }
+    return -1;
+  }
+
+  private long estimate(final OIndexStatistics statistics, final OIndexDefinition definition,
+      final OIndexSearchResult searchResult, final OCommandContext context) {
+    if (definition instanceof OIndexDefinitionMultiValue)
+      return -1;
+
+    final int fieldCount = searchResult.getFieldCount();
+    final List<String> indexFields = definition.getFields();
+    final OQueryOperator operator = searchResult.lastOperator;
+
+    if (operator instanceof OQueryOperatorEquals) {
+      if (fieldCount < indexFields.size())
+        // THE KEY IS A PREFIX: THE DISTINCT VALUES OF THE PREFIX ARE ENOUGH
+        return statistics.estimateEquals(null, fieldCount);
+
+      final List<Object> keyParams = new ArrayList<Object>(fieldCount);
+      for (String field : indexFields) {
+        final Object value = searchResult.fieldValuePairs.containsKey(field) ? searchResult.fieldValuePairs.get(field)
+            : searchResult.lastValue;
+        if (value == null || value instanceof OSQLQuery<?> || value instanceof OSQLFilterCondition)
+          return -1;
+        // PARAMETERS ARE REPLACED BY THEIR VALUES
+        keyParams.add(OSQLHelper.getValue(value, null, context));
+      }
+
+      final Object key = definition.createValue(keyParams);
+      return key != null ? statistics.estimateEquals(key, fieldCount) : -1;
+    }
+
+    // RANGES AND IN ARE ESTIMATED ONLY ON SINGLE FIELD INDEXES
+    if (fieldCount != 1 || indexFields.size() != 1)
+      return -1;
+
+    if (operator instanceof OQueryOperatorIn) {
+      if (!(searchResult.lastValue instanceof List<?>))
+        return -1;
+
+      long total = 0;
+      for (Object value : (List<?>) searchResult.lastValue) {
+        final Object key = definition.createValue(Collections.singletonList(OSQLHelper.getValue(value, null, context)));
+        if (key == null)
+          return -1;
+        total += statistics.estimateEquals(key, 1);
+      }
+      return total;
+    }
+
+    if (operator instanceof OQueryOperatorBetween) {
+      if (!(searchResult.lastValue instanceof Object[]))
+        return -1;
+
+      final Object[] betweenKeys = (Object[]) searchResult.lastValue;
+      final Object from = definition.createValue(Collections.singletonList(OSQLHelper.getValue(betweenKeys[0], null, context)));
+      final Object to = definition.createValue(Collections.singletonList(OSQLHelper.getValue(betweenKeys[2], null, context)));
+      if (from == null || to == null)
+        return -1;
+      return statistics.estimateRange(from, true, to, true);
+    }
+
+    final Object key = definition.createValue(
+        Collections.singletonList(OSQLHelper.getValue(searchResult.lastValue, null, context)));
+    if (key == null)
+      return -1;
+
+    if (operator instanceof OQueryOperatorMajor)
+      return statistics.estimateRange(key, false, null, false);
+    if (operator instanceof OQueryOperatorMajorEquals)
+      return statistics.estimateRange(key, true, null, false);
+    if (operator instanceof OQueryOperatorMinor)
+      return statistics.estimateRange(null, false, key, false);
+    if (operator instanceof OQueryOperatorMinorEquals)
+      return statistics.estimateRange(null, false, key, true);
+    return -1;
+  }
+
   private OIndexSearchResult analyzeFilterBranch(final OClass iSchemaClass, OSQLFilterCondition condition,
       final List<OIndexSearchResult> iIndexSearchResults, OCommandContext iContext) {
     if (condition == null) {
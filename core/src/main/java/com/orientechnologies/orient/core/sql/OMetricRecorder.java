@@ -21,6 +21,7 @@
 package com.orientechnologies.orient.core.sql;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
@@ -57,6 +58,16 @@ public class OMetricRecorder {
     }
   }
 
+  /**
+   * @param indexNames
+   *          the indexes whose RIDs have been intersected, in the order they have been used
+   */
+  public void recordIndexIntersectionMetric(List<String> indexNames) {
+    if (context.isRecordingMetrics()) {
+      context.setVariable("indexIntersection", indexNames);
+    }
+  }
+
   OCommandContext orderByElapsed(long startOrderBy) {
     return context.setVariable("orderByElapsed", (System.currentTimeMillis() - startOrderBy));
   }
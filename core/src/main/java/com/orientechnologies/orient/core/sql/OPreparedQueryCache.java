@@ -0,0 +1,180 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.sql.parser.OSelectStatement;
+import com.orientechnologies.orient.core.sql.parser.OStatement;
+import com.orientechnologies.orient.core.sql.query.OSQLPreparedQuery;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * LRU cache of the parsed executors of the {@link OSQLPreparedQuery} instances, per database. It stores itself in the storage as
+ * a resource, like {@link com.orientechnologies.orient.core.sql.parser.OStatementCache}.
+ * <p>
+ * An executor is used by one execution at a time: it is removed from the cache when an execution starts and put back when it ends,
+ * so a statement executed by many threads at the same time gets more executors. All the executors are discarded as soon as the
+ * schema or the indexes change, because their plans could use classes and indexes that do not exist anymore or miss the new ones.
+ */
+public class OPreparedQueryCache {
+  /**
+   * Maximum number of executors kept for the same statement.
+   */
+  private static final int                                    MAX_EXECUTORS_PER_STATEMENT = 16;
+
+  private final Map<String, Deque<OCommandExecutorSQLSelect>> map;
+  private final int                                           mapSize;
+  private long                                                metadataVersion             = -1;
+  private long                                                hits;
+  private long                                                misses;
+
+  /**
+   * @param size
+   *          the maximum number of statements kept in cache
+   */
+  public OPreparedQueryCache(final int size) {
+    this.mapSize = size;
+    map = new LinkedHashMap<String, Deque<OCommandExecutorSQLSelect>>(16, 0.75f, true) {
+      protected boolean removeEldestEntry(final Map.Entry<String, Deque<OCommandExecutorSQLSelect>> eldest) {
+        return super.size() > mapSize;
+      }
+    };
+  }
+
+  /**
+   * @param db
+   *          the current database
+   * @return the cache of the database, created the first time it is requested
+   */
+  public static OPreparedQueryCache get(final ODatabaseDocumentInternal db) {
+    return db.getStorage().getResource(OPreparedQueryCache.class.getSimpleName(), new Callable<OPreparedQueryCache>() {
+      @Override
+      public OPreparedQueryCache call() throws Exception {
+        return new OPreparedQueryCache(OGlobalConfiguration.PREPARED_QUERY_CACHE_SIZE.getValueAsInteger());
+      }
+    });
+  }
+
+  /**
+   * Tells if the executors of the prepared queries are cached: only the step based executor can run the same statement more than
+   * once, so the legacy executor parses the prepared queries at every execution, reusing the statement parsed by the
+   * {@link com.orientechnologies.orient.core.sql.parser.OStatementCache}.
+   * 
+   * @return true if the step based executor is enabled
+   */
+  public static boolean isEnabled() {
+    return OGlobalConfiguration.QUERY_STREAMING_EXECUTION.getValueAsBoolean();
+  }
+
+  /**
+   * @param db
+   *          the current database
+   * @return a number that changes every time the schema or the indexes of the database change
+   */
+  public static long getMetadataVersion(final ODatabaseDocumentInternal db) {
+    return ((long) db.getMetadata().getSchema().getVersion() << 32) | (db.getMetadata().getIndexManager().getVersion() & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Tells if the executor of the statement can be reused with other parameters: this is the case of the SELECT statements that
+   * have the parameters in the WHERE condition only, where the executor binds them at every execution. The other parameters, like
+   * the ones of LIMIT, are replaced by their values before parsing.
+   * 
+   * @param statement
+   *          the statement parsed by the strict SQL parser
+   * @return true if the parameters of the statement can be bound at execution time
+   */
+  public static boolean isReusable(final OStatement statement) {
+    return statement instanceof OSelectStatement && ((OSelectStatement) statement).hasParametersInWhereOnly();
+  }
+
+  /**
+   * Takes an executor of the statement out of the cache. If the schema or the indexes changed since the executors have been
+   * cached, all the executors are discarded.
+   * 
+   * @param statement
+   *          the key of the statement
+   * @param metadataVersion
+   *          the current version of the metadata, as returned by {@link #getMetadataVersion(ODatabaseDocumentInternal)}
+   * @return an executor already parsed, or null if there are none available
+   */
+  public synchronized OCommandExecutorSQLSelect acquire(final String statement, final long metadataVersion) {
+    if (metadataVersion != this.metadataVersion) {
+      map.clear();
+      this.metadataVersion = metadataVersion;
+    }
+
+    final Deque<OCommandExecutorSQLSelect> executors = map.get(statement);
+    final OCommandExecutorSQLSelect executor = executors != null ? executors.poll() : null;
+    if (executor != null)
+      hits++;
+    else
+      misses++;
+    return executor;
+  }
+
+  /**
+   * Puts back an executor at the end of its execution, so that the next execution of the statement can reuse it.
+   * 
+   * @param statement
+   *          the key of the statement
+   * @param executor
+   *          the executor, that must be reusable
+   * @param metadataVersion
+   *          the version of the metadata when the executor has been parsed
+   */
+  public synchronized void release(final String statement, final OCommandExecutorSQLSelect executor, final long metadataVersion) {
+    if (mapSize <= 0 || metadataVersion != this.metadataVersion)
+      // PARSED WITH ANOTHER SCHEMA
+      return;
+
+    Deque<OCommandExecutorSQLSelect> executors = map.get(statement);
+    if (executors == null) {
+      executors = new ArrayDeque<OCommandExecutorSQLSelect>();
+      map.put(statement, executors);
+    }
+    if (executors.size() < MAX_EXECUTORS_PER_STATEMENT)
+      executors.push(executor);
+  }
+
+  /**
+   * @return the number of executions that reused a cached executor
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * @return the number of executions that had to parse the statement
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  public synchronized void clear() {
+    map.clear();
+  }
+}
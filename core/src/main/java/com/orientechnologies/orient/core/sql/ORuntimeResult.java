@@ -280,4 +280,8 @@ public class ORuntimeResult {
   public Object getFieldValue() {
     return fieldValue;
   }
+
+  public Map<String, Object> getProjections() {
+    return projections;
+  }
 }
@@ -0,0 +1,120 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Base class of the execution steps: keeps the record fetched in advance by {@link #hasNext()} and counts the returned records and
+ * the time spent to fetch them. Subclasses implement {@link #fetchNext()} only.
+ */
+public abstract class OAbstractExecutionStep implements OExecutionStep {
+  protected final OExecutionStep  previous;
+  protected final OCommandContext context;
+
+  private OIdentifiable           nextRecord;
+  private boolean                 fetched;
+  private boolean                 ended;
+  private long                    rows;
+  private long                    elapsedNanos;
+
+  protected OAbstractExecutionStep(final OExecutionStep previous, final OCommandContext context) {
+    this.previous = previous;
+    this.context = context;
+  }
+
+  /**
+   * @return the next record, or null if there are no more records
+   */
+  protected abstract OIdentifiable fetchNext();
+
+  @Override
+  public final boolean hasNext() {
+    if (!fetched && !ended) {
+      final long start = System.nanoTime();
+      try {
+        nextRecord = fetchNext();
+      } finally {
+        elapsedNanos += System.nanoTime() - start;
+      }
+      fetched = true;
+
+      if (nextRecord == null)
+        ended = true;
+      else
+        rows++;
+    }
+    return nextRecord != null;
+  }
+
+  @Override
+  public final OIdentifiable next() {
+    if (!hasNext())
+      throw new NoSuchElementException();
+
+    final OIdentifiable result = nextRecord;
+    nextRecord = null;
+    fetched = false;
+    return result;
+  }
+
+  @Override
+  public void close() {
+    if (previous != null)
+      previous.close();
+  }
+
+  @Override
+  public OExecutionStep getPrevious() {
+    return previous;
+  }
+
+  @Override
+  public String getDescription() {
+    return null;
+  }
+
+  @Override
+  public long getRows() {
+    return rows;
+  }
+
+  @Override
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Makes the record available as $current to the filters and projections evaluated on it.
+   */
+  protected void setCurrent(final OIdentifiable record) {
+    context.setVariable("current", record);
+  }
+
+  /**
+   * @return the next record of the previous step, or null if there are no more records
+   */
+  protected OIdentifiable fetchFromPrevious() {
+    return previous.hasNext() ? previous.next() : null;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.ORecord;
+
+import java.util.Iterator;
+
+/**
+ * First step of a plan: reads the records of the query target. The iterator is created at the first request, so a plan that is
+ * never consumed does not touch the storage.
+ */
+public abstract class OAbstractFetchStep extends OAbstractExecutionStep {
+  private Iterator<? extends OIdentifiable> iterator;
+
+  protected OAbstractFetchStep(final OCommandContext context) {
+    super(null, context);
+  }
+
+  protected abstract Iterator<? extends OIdentifiable> createIterator();
+
+  @Override
+  protected OIdentifiable fetchNext() {
+    if (iterator == null)
+      iterator = createIterator();
+
+    while (iterator.hasNext()) {
+      if (!context.checkTimeout())
+        return null;
+
+      final OIdentifiable next = iterator.next();
+      if (next == null)
+        continue;
+
+      // RECORDS DELETED IN THE MEANTIME ARE SKIPPED
+      final ORecord record = next.getRecord();
+      if (record != null)
+        return record;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,264 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandExecutorSQLSelect;
+import com.orientechnologies.orient.core.sql.ORuntimeResult;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the aggregate projections (count, sum, max...) of every group of records. The groups are kept in a hash table, so the
+ * memory used depends on the number of groups, not on the number of records. Without GROUP BY all the records are in a single
+ * group, which is returned also when there are no records, like count(*) = 0.
+ * <p>
+ * When the groups reach {@link OGlobalConfiguration#QUERY_GROUP_BY_MAX_GROUPS} the table stops growing: the records of the groups
+ * already in the table are still aggregated in memory, the records of the other groups are written to temporary files partitioned
+ * by the hash of the group key. After the groups in memory are returned every partition is aggregated in the same way, partitioned
+ * again with a different hash if it still has too many groups. All the records of a group end up in the same partition, so every
+ * group is returned once.
+ */
+public class OAggregateStep extends OAbstractExecutionStep {
+  private static final int                PARTITIONS = 16;
+
+  private final OCommandExecutorSQLSelect select;
+  private final List<String>              groupByFields;
+  private final int                       maxGroups;
+
+  private Iterator<ORuntimeResult>        groups;
+  private final LinkedList<Partition>     partitions = new LinkedList<Partition>();
+  private long                            totalGroups;
+  private int                             spilledPartitions;
+  private long                            spilledRecords;
+  private long                            spilledBytes;
+
+  private static class Partition {
+    private final OSpillFile file;
+    private final int        level;
+
+    private Partition(final OSpillFile file, final int level) {
+      this.file = file;
+      this.level = level;
+    }
+  }
+
+  public OAggregateStep(final OExecutionStep previous, final OCommandExecutorSQLSelect select, final OCommandContext context) {
+    super(previous, context);
+    this.select = select;
+    this.groupByFields = select.getGroupByFields() != null ? select.getGroupByFields() : Collections.<String> emptyList();
+    this.maxGroups = isSpillable(groupByFields) ? OGlobalConfiguration.QUERY_GROUP_BY_MAX_GROUPS.getValueAsInteger() : 0;
+  }
+
+  @Override
+  protected OIdentifiable fetchNext() {
+    if (groups == null)
+      groups = aggregate(null, 0).values().iterator();
+
+    while (true) {
+      while (groups.hasNext()) {
+        final ODocument result = groups.next().getResult();
+        groups.remove();
+
+        if (result != null && !result.isEmpty())
+          return result;
+      }
+
+      if (partitions.isEmpty())
+        return null;
+
+      // THE GROUPS IN MEMORY ARE RETURNED: AGGREGATES THE NEXT PARTITION
+      final Partition partition = partitions.removeFirst();
+      try {
+        groups = aggregate(partition, partition.level + 1).values().iterator();
+      } finally {
+        partition.file.delete();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    for (Partition partition : partitions)
+      partition.file.delete();
+    partitions.clear();
+    super.close();
+  }
+
+  /**
+   * Aggregates the records of the previous step, or of a partition.
+   *
+   * @param level
+   *          the level of the partitions the records of the new groups are spilled to
+   */
+  private Map<Object, ORuntimeResult> aggregate(final Partition input, final int level) {
+    final Map<Object, ORuntimeResult> result = new LinkedHashMap<Object, ORuntimeResult>();
+    Partition[] spilled = null;
+
+    DataInputStream in = null;
+    try {
+      if (input != null)
+        in = input.file.openReader();
+
+      OIdentifiable record;
+      while ((record = input != null ? OSpillFile.read(in) : fetchFromPrevious()) != null) {
+        setCurrent(record);
+
+        final Object key = getGroupKey(record);
+        ORuntimeResult group = result.get(key);
+        if (group == null) {
+          if (maxGroups > 0 && result.size() >= maxGroups) {
+            if (spilled == null)
+              spilled = createPartitions(level);
+            spilled[getPartition(key, level)].file.write(record);
+            continue;
+          }
+
+          group = createGroup(key);
+          result.put(key, group);
+        }
+        group.applyRecord(record);
+      }
+
+      if (spilled != null)
+        for (Partition partition : spilled) {
+          partition.file.closeWriting();
+          if (partition.file.getRecords() == 0) {
+            partitions.remove(partition);
+            partition.file.delete();
+          } else {
+            spilledPartitions++;
+            spilledRecords += partition.file.getRecords();
+            spilledBytes += partition.file.getBytes();
+          }
+        }
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Error on aggregating records spilled to temporary file"), e);
+    } finally {
+      if (in != null)
+        try {
+          in.close();
+        } catch (IOException e) {
+          // IGNORE IT, THE FILE IS DELETED ANYWAY
+        }
+    }
+
+    if (input == null && result.isEmpty() && groupByFields.isEmpty()) {
+      final Object key = Collections.emptyList();
+      result.put(key, createGroup(key));
+    }
+
+    totalGroups += result.size();
+    return result;
+  }
+
+  private Partition[] createPartitions(final int level) throws IOException {
+    final Partition[] result = new Partition[PARTITIONS];
+    for (int i = 0; i < PARTITIONS; i++) {
+      // ADDED TO THE PENDING PARTITIONS NOW, SO THEY ARE DELETED ON CLOSE EVEN IF THE AGGREGATION FAILS
+      result[i] = new Partition(new OSpillFile("orientdb-groupby-", OSpillFile.getDefaultDirectory()), level);
+      partitions.add(result[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Every level uses a different hash of the key, so the groups of a partition are spread again on the partitions of the next
+   * level.
+   */
+  private static int getPartition(final Object key, final int level) {
+    int hash = (key != null ? key.hashCode() : 0) ^ (level * 0x9E3779B9);
+    hash ^= hash >>> 16;
+    hash *= 0x85EBCA6B;
+    hash ^= hash >>> 13;
+    hash *= 0xC2B2AE35;
+    hash ^= hash >>> 16;
+    return (hash & Integer.MAX_VALUE) % PARTITIONS;
+  }
+
+  /**
+   * @return the value of the only GROUP BY field, or the list of the values of the GROUP BY fields
+   */
+  private Object getGroupKey(final OIdentifiable record) {
+    if (groupByFields.size() == 1)
+      return getGroupValue(record, groupByFields.get(0));
+
+    final List<Object> key = new ArrayList<Object>(groupByFields.size());
+    for (String field : groupByFields)
+      key.add(getGroupValue(record, field));
+    return key;
+  }
+
+  private Object getGroupValue(final OIdentifiable record, final String field) {
+    if (field.startsWith("$"))
+      return context.getVariable(field);
+    return ((ODocument) record.getRecord()).field(field);
+  }
+
+  private ORuntimeResult createGroup(final Object key) {
+    // EVERY GROUP HAS ITS OWN INSTANCES OF THE FUNCTIONS
+    return new ORuntimeResult(key, select.createProjectionFromDefinition(), select.getTemporaryRIDCounter(context), context);
+  }
+
+  /**
+   * Records are spilled only if the group key depends on the record alone: context variables are not available when a spilled
+   * record is read back.
+   */
+  private static boolean isSpillable(final List<String> groupByFields) {
+    if (groupByFields.isEmpty())
+      return false;
+    for (String field : groupByFields)
+      if (field.startsWith("$"))
+        return false;
+    return true;
+  }
+
+  @Override
+  public String getName() {
+    return "AGGREGATE";
+  }
+
+  @Override
+  public String getDescription() {
+    if (groupByFields.isEmpty())
+      return null;
+
+    final StringBuilder buffer = new StringBuilder("GROUP BY ").append(groupByFields);
+    if (groups != null)
+      buffer.append(" (").append(totalGroups).append(" groups)");
+    if (spilledPartitions > 0)
+      buffer.append(" (").append(spilledPartitions).append(" partitions spilled, ").append(spilledRecords).append(" records, ")
+          .append(spilledBytes).append(" bytes)");
+    return buffer.toString();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+
+/**
+ * Step of an execution plan. Steps are chained: every step pulls the records it needs from the previous one, so records flow
+ * through the plan one at a time and only the steps that need all their input (like ORDER BY) keep records in memory.
+ */
+public interface OExecutionStep {
+  /**
+   * @return true if the step has at least another record
+   */
+  boolean hasNext();
+
+  /**
+   * @return the next record
+   * @throws java.util.NoSuchElementException
+   *           if there are no more records
+   */
+  OIdentifiable next();
+
+  /**
+   * Releases the resources held by this step and by the previous ones.
+   */
+  void close();
+
+  /**
+   * @return the step that provides the input of this one, null for the first step
+   */
+  OExecutionStep getPrevious();
+
+  /**
+   * @return the name of the step, like FILTER or LIMIT
+   */
+  String getName();
+
+  /**
+   * @return the details of the step, like the condition of a filter, or null
+   */
+  String getDescription();
+
+  /**
+   * @return the records returned so far
+   */
+  long getRows();
+
+  /**
+   * @return the time spent in this step and in the previous ones, in nanoseconds
+   */
+  long getElapsedNanos();
+}
@@ -0,0 +1,262 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.record.ORecord;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts records that may not fit in memory. The records are collected in memory until the size of their serialized content
+ * exceeds the memory budget, then they are sorted and written to a temporary file, a run. At the end the runs are merged with the
+ * records left in memory, reading one record at a time from every run. Records that compare as equal keep the order they were
+ * added in. The records read back from the runs are new instances filled with the serialized content.
+ */
+public class OExternalRecordSorter {
+  private final Comparator<OIdentifiable> comparator;
+  private final long                      memoryBudget;
+  private final File                      directory;
+  private List<OIdentifiable>             records = new ArrayList<OIdentifiable>();
+  private long                            recordsSize;
+  private final List<OSpillFile>          runs    = new ArrayList<OSpillFile>();
+  private int                             spilledRuns;
+  private long                            spilledBytes;
+  private PriorityQueue<Run>              queue;
+
+  /**
+   * @param memoryBudget
+   *          maximum size in bytes of the serialized records kept in memory, 0 to keep all of them in memory
+   * @param directory
+   *          directory of the temporary files, null for the default temporary directory
+   */
+  public OExternalRecordSorter(final Comparator<OIdentifiable> comparator, final long memoryBudget, final File directory) {
+    this.comparator = comparator;
+    this.memoryBudget = memoryBudget;
+    this.directory = directory != null ? directory : OSpillFile.getDefaultDirectory();
+  }
+
+  public void add(final OIdentifiable record) {
+    if (queue != null)
+      throw new IllegalStateException("Cannot add records to a sorter that is already read");
+
+    records.add(record);
+    if (memoryBudget > 0) {
+      final ORecord rec = record.getRecord();
+      if (rec != null)
+        recordsSize += rec.toStream().length;
+
+      if (recordsSize > memoryBudget)
+        spill();
+    }
+  }
+
+  /**
+   * Sorts the records left in memory and returns an iterator that merges them with the spilled ones. No more records can be added
+   * after this call.
+   */
+  public Iterator<OIdentifiable> sort() {
+    if (queue != null)
+      throw new IllegalStateException("Sorter is already read");
+
+    Collections.sort(records, comparator);
+
+    queue = new PriorityQueue<Run>(runs.size() + 1);
+    try {
+      for (int i = 0; i < runs.size(); i++) {
+        final FileRun run = new FileRun(runs.get(i), i);
+        if (run.advance())
+          queue.add(run);
+        else
+          run.close();
+      }
+    } catch (IOException e) {
+      close();
+      throw OException.wrapException(new OCommandExecutionException("Error on reading sorted records from temporary file"), e);
+    }
+
+    // THE RECORDS IN MEMORY ARE THE LAST ADDED
+    final MemoryRun memoryRun = new MemoryRun(records, runs.size());
+    records = null;
+    if (memoryRun.advance())
+      queue.add(memoryRun);
+
+    return new Iterator<OIdentifiable>() {
+      @Override
+      public boolean hasNext() {
+        return !queue.isEmpty();
+      }
+
+      @Override
+      public OIdentifiable next() {
+        final Run run = queue.poll();
+        if (run == null)
+          throw new NoSuchElementException();
+
+        final OIdentifiable result = run.current;
+        try {
+          if (run.advance())
+            queue.add(run);
+          else
+            run.close();
+        } catch (IOException e) {
+          run.close();
+          throw OException.wrapException(new OCommandExecutionException("Error on reading sorted records from temporary file"), e);
+        }
+        return result;
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException("remove");
+      }
+    };
+  }
+
+  /**
+   * Releases the records and deletes the temporary files.
+   */
+  public void close() {
+    if (queue != null) {
+      for (Run run : queue)
+        run.close();
+      queue.clear();
+    }
+
+    for (OSpillFile run : runs)
+      run.delete();
+    runs.clear();
+    records = null;
+  }
+
+  /**
+   * @return the number of runs written to temporary files
+   */
+  public int getSpilledRuns() {
+    return spilledRuns;
+  }
+
+  /**
+   * @return the bytes written to temporary files
+   */
+  public long getSpilledBytes() {
+    return spilledBytes;
+  }
+
+  private void spill() {
+    Collections.sort(records, comparator);
+
+    try {
+      final OSpillFile run = new OSpillFile("orientdb-sort-", directory);
+      runs.add(run);
+      for (OIdentifiable record : records)
+        run.write(record);
+      run.closeWriting();
+
+      spilledRuns++;
+      spilledBytes += run.getBytes();
+    } catch (IOException e) {
+      throw OException.wrapException(new OCommandExecutionException("Error on writing sorted records to temporary file"), e);
+    }
+
+    records = new ArrayList<OIdentifiable>();
+    recordsSize = 0;
+  }
+
+  private abstract class Run implements Comparable<Run> {
+    private final int position;
+    OIdentifiable     current;
+
+    Run(final int position) {
+      this.position = position;
+    }
+
+    abstract boolean advance() throws IOException;
+
+    abstract void close();
+
+    @Override
+    public int compareTo(final Run other) {
+      final int result = comparator.compare(current, other.current);
+      if (result != 0)
+        return result;
+      return position < other.position ? -1 : (position == other.position ? 0 : 1);
+    }
+  }
+
+  private class MemoryRun extends Run {
+    private final List<OIdentifiable> records;
+    private int                       next;
+
+    MemoryRun(final List<OIdentifiable> records, final int position) {
+      super(position);
+      this.records = records;
+    }
+
+    @Override
+    boolean advance() {
+      if (next >= records.size())
+        return false;
+
+      // RELEASES THE RECORDS ALREADY RETURNED
+      current = records.set(next++, null);
+      return true;
+    }
+
+    @Override
+    void close() {
+    }
+  }
+
+  private class FileRun extends Run {
+    private final DataInputStream in;
+
+    FileRun(final OSpillFile file, final int position) throws IOException {
+      super(position);
+      in = file.openReader();
+    }
+
+    @Override
+    boolean advance() throws IOException {
+      current = OSpillFile.read(in);
+      return current != null;
+    }
+
+    @Override
+    void close() {
+      try {
+        in.close();
+      } catch (IOException e) {
+        // IGNORE IT, THE FILE IS DELETED ANYWAY
+      }
+    }
+  }
+}
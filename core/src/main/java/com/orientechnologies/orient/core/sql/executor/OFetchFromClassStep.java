@@ -0,0 +1,66 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.iterator.ORecordIteratorClass;
+import com.orientechnologies.orient.core.iterator.ORecordIteratorClassDescendentOrder;
+import com.orientechnologies.orient.core.metadata.security.ORole;
+import com.orientechnologies.orient.core.metadata.security.ORule;
+import com.orientechnologies.orient.core.record.ORecord;
+
+import java.util.Iterator;
+
+/**
+ * Scans all the clusters of a class and of its subclasses.
+ */
+public class OFetchFromClassStep extends OAbstractFetchStep {
+  private final String  className;
+  private final boolean ascending;
+
+  public OFetchFromClassStep(final String className, final boolean ascending, final OCommandContext context) {
+    super(context);
+    this.className = className;
+    this.ascending = ascending;
+  }
+
+  @Override
+  protected Iterator<? extends OIdentifiable> createIterator() {
+    final ODatabaseDocumentInternal database = ODatabaseRecordThreadLocal.INSTANCE.get();
+    database.checkSecurity(ORule.ResourceGeneric.CLASS, ORole.PERMISSION_READ, className.toLowerCase());
+
+    if (ascending)
+      return new ORecordIteratorClass<ORecord>(database, database, className, true, false);
+    return new ORecordIteratorClassDescendentOrder<ORecord>(database, database, className, true);
+  }
+
+  @Override
+  public String getName() {
+    return "FETCH FROM CLASS";
+  }
+
+  @Override
+  public String getDescription() {
+    return ascending ? className : className + " DESC";
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.iterator.ORecordIteratorClusters;
+import com.orientechnologies.orient.core.record.ORecord;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Scans a list of clusters.
+ */
+public class OFetchFromClustersStep extends OAbstractFetchStep {
+  private final int[] clusterIds;
+
+  public OFetchFromClustersStep(final int[] clusterIds, final OCommandContext context) {
+    super(context);
+    this.clusterIds = clusterIds;
+  }
+
+  @Override
+  protected Iterator<? extends OIdentifiable> createIterator() {
+    final ODatabaseDocumentInternal database = ODatabaseRecordThreadLocal.INSTANCE.get();
+    return new ORecordIteratorClusters<ORecord>(database, database, clusterIds);
+  }
+
+  @Override
+  public String getName() {
+    return "FETCH FROM CLUSTERS";
+  }
+
+  @Override
+  public String getDescription() {
+    return Arrays.toString(clusterIds);
+  }
+}
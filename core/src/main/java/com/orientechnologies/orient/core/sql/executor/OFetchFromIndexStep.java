@@ -0,0 +1,95 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the records returned by an index lookup. The lookup can return a superset of the records of the query, so unless the index
+ * covers the whole condition this step is followed by a {@link OFilterStep}. An index of a superclass can return records of other
+ * subclasses, they are skipped. When more than one lookup is merged (conditions in OR) the same record can be returned twice: in
+ * this case the RIDs already returned are remembered and skipped.
+ */
+public class OFetchFromIndexStep extends OAbstractFetchStep {
+  private final OClass                            targetClass;
+  private final List<OIndex>                      indexes;
+  private final Iterable<? extends OIdentifiable> lookup;
+  private final String                            description;
+  private final Set<ORID>                         returned;
+
+  public OFetchFromIndexStep(final OClass targetClass, final List<OIndex> indexes, final Iterable<? extends OIdentifiable> lookup,
+      final String description, final boolean distinct, final OCommandContext context) {
+    super(context);
+    this.targetClass = targetClass;
+    this.indexes = indexes;
+    this.lookup = lookup;
+    this.description = description;
+    this.returned = distinct ? new HashSet<ORID>() : null;
+  }
+
+  @Override
+  protected Iterator<? extends OIdentifiable> createIterator() {
+    return lookup.iterator();
+  }
+
+  @Override
+  protected OIdentifiable fetchNext() {
+    OIdentifiable next;
+    while ((next = super.fetchNext()) != null) {
+      if (next instanceof ODocument && !targetClass.isSuperClassOf(ODocumentInternal.getImmutableSchemaClass((ODocument) next)))
+        continue;
+      if (returned == null || returned.add(next.getIdentity()))
+        return next;
+    }
+    return null;
+  }
+
+  public OClass getTargetClass() {
+    return targetClass;
+  }
+
+  /**
+   * @return The indexes used for the lookup, one for each block of conditions in OR
+   */
+  public List<OIndex> getIndexes() {
+    return indexes;
+  }
+
+  @Override
+  public String getName() {
+    return "FETCH FROM INDEX";
+  }
+
+  @Override
+  public String getDescription() {
+    return description;
+  }
+}
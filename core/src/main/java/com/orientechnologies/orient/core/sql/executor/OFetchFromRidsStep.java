@@ -0,0 +1,54 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Loads the records of a list of RIDs.
+ */
+public class OFetchFromRidsStep extends OAbstractFetchStep {
+  private final List<ORID> rids;
+
+  public OFetchFromRidsStep(final List<ORID> rids, final OCommandContext context) {
+    super(context);
+    this.rids = rids;
+  }
+
+  @Override
+  protected Iterator<? extends OIdentifiable> createIterator() {
+    return rids.iterator();
+  }
+
+  @Override
+  public String getName() {
+    return "FETCH FROM RIDS";
+  }
+
+  @Override
+  public String getDescription() {
+    return rids.toString();
+  }
+}
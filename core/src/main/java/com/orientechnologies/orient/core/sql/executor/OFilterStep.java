@@ -0,0 +1,59 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.filter.OSQLFilter;
+
+/**
+ * Returns only the records that match a WHERE condition.
+ */
+public class OFilterStep extends OAbstractExecutionStep {
+  private final OSQLFilter filter;
+
+  public OFilterStep(final OExecutionStep previous, final OSQLFilter filter, final OCommandContext context) {
+    super(previous, context);
+    this.filter = filter;
+  }
+
+  @Override
+  protected OIdentifiable fetchNext() {
+    OIdentifiable record;
+    while ((record = fetchFromPrevious()) != null) {
+      setCurrent(record);
+      context.updateMetric("evaluated", +1);
+
+      if (Boolean.TRUE.equals(filter.evaluate(record, null, context)))
+        return record;
+    }
+    return null;
+  }
+
+  @Override
+  public String getName() {
+    return "FILTER";
+  }
+
+  @Override
+  public String getDescription() {
+    return filter.toString();
+  }
+}
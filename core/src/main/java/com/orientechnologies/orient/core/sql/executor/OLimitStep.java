@@ -0,0 +1,57 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+
+/**
+ * Stops the plan after a number of records: the previous steps are not asked for more records than needed.
+ */
+public class OLimitStep extends OAbstractExecutionStep {
+  private final long limit;
+  private long       returned;
+
+  public OLimitStep(final OExecutionStep previous, final long limit, final OCommandContext context) {
+    super(previous, context);
+    this.limit = limit;
+  }
+
+  @Override
+  protected OIdentifiable fetchNext() {
+    if (returned >= limit)
+      return null;
+
+    final OIdentifiable record = fetchFromPrevious();
+    if (record != null)
+      returned++;
+    return record;
+  }
+
+  @Override
+  public String getName() {
+    return "LIMIT";
+  }
+
+  @Override
+  public String getDescription() {
+    return String.valueOf(limit);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.impl.ODocumentComparator;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Sorts the records. This step needs all the records of the previous step before returning the first one. When the number of
+ * records to return is known (ORDER BY followed by LIMIT) only the first ones are kept in memory, otherwise the records that do not
+ * fit in the memory budget set by {@link OGlobalConfiguration#QUERY_SORT_MEMORY_BUDGET} are sorted in temporary files.
+ */
+public class OOrderByStep extends OAbstractExecutionStep {
+  private final List<OPair<String, String>> orderCriteria;
+  private final int                         maxRecords;
+
+  private Iterator<OIdentifiable>           sorted;
+  private OExternalRecordSorter             sorter;
+
+  /**
+   * @param orderCriteria
+   *          pairs of field name and ASC/DESC
+   * @param maxRecords
+   *          the number of records that will be read from this step, -1 if they are all read
+   */
+  public OOrderByStep(final OExecutionStep previous, final List<OPair<String, String>> orderCriteria, final int maxRecords,
+      final OCommandContext context) {
+    super(previous, context);
+    this.orderCriteria = orderCriteria;
+    this.maxRecords = maxRecords;
+  }
+
+  @Override
+  protected OIdentifiable fetchNext() {
+    if (sorted == null) {
+      final ODocumentComparator comparator = new ODocumentComparator(orderCriteria, context);
+
+      OIdentifiable record;
+      if (maxRecords > 0) {
+        final OTopNCollection top = new OTopNCollection(maxRecords, comparator);
+        while ((record = fetchFromPrevious()) != null)
+          top.add(record);
+        sorted = top.iterator();
+      } else {
+        sorter = new OExternalRecordSorter(comparator,
+            OGlobalConfiguration.QUERY_SORT_MEMORY_BUDGET.getValueAsLong() * 1024 * 1024, null);
+        while ((record = fetchFromPrevious()) != null)
+          sorter.add(record);
+        sorted = sorter.sort();
+      }
+    }
+
+    return sorted.hasNext() ? sorted.next() : null;
+  }
+
+  @Override
+  public void close() {
+    if (sorter != null)
+      sorter.close();
+    super.close();
+  }
+
+  @Override
+  public String getName() {
+    return "ORDER BY";
+  }
+
+  @Override
+  public String getDescription() {
+    final StringBuilder buffer = new StringBuilder();
+    for (OPair<String, String> criteria : orderCriteria) {
+      if (buffer.length() > 0)
+        buffer.append(", ");
+      buffer.append(criteria.getKey()).append(' ').append(criteria.getValue());
+    }
+    if (maxRecords > 0)
+      buffer.append(" (top ").append(maxRecords).append(')');
+    if (sorter != null && sorter.getSpilledRuns() > 0)
+      buffer.append(" (").append(sorter.getSpilledRuns()).append(" runs spilled, ").append(sorter.getSpilledBytes())
+          .append(" bytes)");
+    return buffer.toString();
+  }
+}
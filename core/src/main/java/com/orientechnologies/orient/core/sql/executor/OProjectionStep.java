@@ -0,0 +1,72 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.ORuntimeResult;
+import com.orientechnologies.orient.core.sql.OTemporaryRidGenerator;
+
+import java.util.Map;
+
+/**
+ * Computes the projections of every record. The result is a new document with a temporary RID. Records excluded by the
+ * projections, like the duplicates of distinct(), are skipped.
+ */
+public class OProjectionStep extends OAbstractExecutionStep {
+  private final Map<String, Object>    projections;
+  private final OTemporaryRidGenerator ridGenerator;
+
+  /**
+   * @param projections
+   *          the compiled projections, by alias, in the order of the result
+   */
+  public OProjectionStep(final OExecutionStep previous, final Map<String, Object> projections,
+      final OTemporaryRidGenerator ridGenerator, final OCommandContext context) {
+    super(previous, context);
+    this.projections = projections;
+    this.ridGenerator = ridGenerator;
+  }
+
+  @Override
+  protected OIdentifiable fetchNext() {
+    OIdentifiable record;
+    while ((record = fetchFromPrevious()) != null) {
+      setCurrent(record);
+
+      final ODocument result = ORuntimeResult.getProjectionResult(ridGenerator.getTemporaryRIDCounter(context), projections,
+          context, record);
+      if (result != null)
+        return result;
+    }
+    return null;
+  }
+
+  @Override
+  public String getName() {
+    return "PROJECT";
+  }
+
+  @Override
+  public String getDescription() {
+    return projections.keySet().toString();
+  }
+}
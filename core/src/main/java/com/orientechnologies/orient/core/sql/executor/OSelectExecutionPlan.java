@@ -0,0 +1,107 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Execution plan of a SELECT: a chain of steps, the records are pulled from the last one. Records are computed only when they
+ * are requested, so a client that stops iterating does not pay for the records it does not read.
+ */
+public class OSelectExecutionPlan implements Iterator<OIdentifiable> {
+  private final OExecutionStep last;
+
+  public OSelectExecutionPlan(final OExecutionStep last) {
+    this.last = last;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return last.hasNext();
+  }
+
+  @Override
+  public OIdentifiable next() {
+    return last.next();
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("remove");
+  }
+
+  public void close() {
+    last.close();
+  }
+
+  /**
+   * @return the steps of the plan, from the first one
+   */
+  public List<OExecutionStep> getSteps() {
+    final List<OExecutionStep> steps = new ArrayList<OExecutionStep>();
+    for (OExecutionStep step = last; step != null; step = step.getPrevious())
+      steps.add(step);
+    Collections.reverse(steps);
+    return steps;
+  }
+
+  /**
+   * @return the plan with the records returned and the time spent by every step, as reported by EXPLAIN. The time of a step does
+   *         not include the time of the previous steps.
+   */
+  public ODocument toDocument() {
+    final List<ODocument> steps = new ArrayList<ODocument>();
+    for (OExecutionStep step : getSteps()) {
+      final long previousTime = step.getPrevious() != null ? step.getPrevious().getElapsedNanos() : 0;
+
+      final ODocument document = new ODocument();
+      document.field("name", step.getName());
+      if (step.getDescription() != null)
+        document.field("description", step.getDescription());
+      document.field("rows", step.getRows());
+      document.field("elapsedMs", Math.max(0, step.getElapsedNanos() - previousTime) / 1000000f);
+      steps.add(document);
+    }
+
+    final ODocument plan = new ODocument();
+    plan.field("steps", steps, OType.EMBEDDEDLIST);
+    return plan;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder buffer = new StringBuilder();
+    for (OExecutionStep step : getSteps()) {
+      if (buffer.length() > 0)
+        buffer.append('\n');
+      buffer.append("+ ").append(step.getName());
+      if (step.getDescription() != null)
+        buffer.append(' ').append(step.getDescription());
+    }
+    return buffer.toString();
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+
+/**
+ * Discards the first records.
+ */
+public class OSkipStep extends OAbstractExecutionStep {
+  private final long skip;
+  private long       skipped;
+
+  public OSkipStep(final OExecutionStep previous, final long skip, final OCommandContext context) {
+    super(previous, context);
+    this.skip = skip;
+  }
+
+  @Override
+  protected OIdentifiable fetchNext() {
+    for (; skipped < skip; skipped++)
+      if (fetchFromPrevious() == null)
+        return null;
+
+    return fetchFromPrevious();
+  }
+
+  @Override
+  public String getName() {
+    return "SKIP";
+  }
+
+  @Override
+  public String getDescription() {
+    return String.valueOf(skip);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.ORecordInternal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Temporary file of serialized records, written by the steps that cannot keep all their records in memory. The records read back
+ * are new instances filled with the serialized content, with the same identity and version of the original ones: they are meant to
+ * be returned as result, not to be modified and saved.
+ */
+class OSpillFile {
+  private static final int IO_BUFFER_SIZE     = 64 * 1024;
+  // RECORD TYPE, CLUSTER ID, CLUSTER POSITION, VERSION AND CONTENT LENGTH
+  private static final int RECORD_HEADER_SIZE = 1 + 4 + 8 + 4 + 4;
+
+  private final File       file;
+  private DataOutputStream out;
+  private long             records;
+  private long             bytes;
+
+  /**
+   * Creates the file and opens it for writing.
+   */
+  OSpillFile(final String prefix, final File directory) throws IOException {
+    file = File.createTempFile(prefix, ".records", directory);
+    try {
+      out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), IO_BUFFER_SIZE));
+    } catch (IOException e) {
+      file.delete();
+      throw e;
+    }
+  }
+
+  static File getDefaultDirectory() {
+    return new File(System.getProperty("java.io.tmpdir"));
+  }
+
+  void write(final OIdentifiable record) throws IOException {
+    final ORecord rec = record.getRecord();
+    final byte[] content = rec.toStream();
+    final ORID rid = rec.getIdentity();
+
+    out.writeByte(ORecordInternal.getRecordType(rec));
+    out.writeInt(rid.getClusterId());
+    out.writeLong(rid.getClusterPosition());
+    out.writeInt(rec.getVersion());
+    out.writeInt(content.length);
+    out.write(content);
+    records++;
+    // NOT TAKEN FROM THE STREAM, WHOSE COUNTER STOPS AT 2GB
+    bytes += RECORD_HEADER_SIZE + content.length;
+  }
+
+  /**
+   * Flushes and closes the file, no more records can be written.
+   */
+  void closeWriting() throws IOException {
+    if (out != null) {
+      try {
+        out.close();
+      } finally {
+        out = null;
+      }
+    }
+  }
+
+  DataInputStream openReader() throws IOException {
+    return new DataInputStream(new BufferedInputStream(new FileInputStream(file), IO_BUFFER_SIZE));
+  }
+
+  /**
+   * @return the next record of the file, null at the end of the file
+   */
+  static ORecord read(final DataInputStream in) throws IOException {
+    final byte recordType;
+    try {
+      recordType = in.readByte();
+    } catch (EOFException e) {
+      return null;
+    }
+
+    final ORecordId rid = new ORecordId(in.readInt(), in.readLong());
+    final int version = in.readInt();
+    final byte[] content = new byte[in.readInt()];
+    in.readFully(content);
+
+    final ORecord record = Orient.instance().getRecordFactoryManager().newInstance(recordType);
+    ORecordInternal.fill(record, rid, version, content, false);
+    return record;
+  }
+
+  long getRecords() {
+    return records;
+  }
+
+  long getBytes() {
+    return bytes;
+  }
+
+  void delete() {
+    try {
+      closeWriting();
+    } catch (IOException e) {
+      // IGNORE IT, THE FILE IS DELETED ANYWAY
+    }
+    file.delete();
+  }
+}
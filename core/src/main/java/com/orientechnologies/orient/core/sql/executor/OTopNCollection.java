@@ -0,0 +1,124 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps only the first N records in the order of a comparator, so ORDER BY with LIMIT does not hold all the sorted records in
+ * memory. The records are kept in a heap with the greatest one on top: a new record replaces it only if it comes before. Records
+ * that compare as equal keep the order they were added in, like a stable sort of all the records would do.
+ * <p>
+ * The iterator returns the records in sorted order.
+ */
+public class OTopNCollection extends AbstractCollection<OIdentifiable> {
+  private final int                               maxSize;
+  private final Comparator<? super OIdentifiable> comparator;
+  private final Comparator<Entry>                 entryComparator;
+  private final PriorityQueue<Entry>              heap;
+  private long                                    added;
+
+  private static class Entry {
+    private final OIdentifiable record;
+    private final long          sequence;
+
+    private Entry(final OIdentifiable record, final long sequence) {
+      this.record = record;
+      this.sequence = sequence;
+    }
+  }
+
+  /**
+   * @param maxSize
+   *          the number of records to keep, greater than zero
+   */
+  public OTopNCollection(final int maxSize, final Comparator<? super OIdentifiable> comparator) {
+    if (maxSize < 1)
+      throw new IllegalArgumentException("The number of records to keep must be greater than zero");
+
+    this.maxSize = maxSize;
+    this.comparator = comparator;
+    this.entryComparator = new Comparator<Entry>() {
+      @Override
+      public int compare(final Entry entry1, final Entry entry2) {
+        final int result = OTopNCollection.this.comparator.compare(entry1.record, entry2.record);
+        if (result != 0)
+          return result;
+        return entry1.sequence < entry2.sequence ? -1 : (entry1.sequence == entry2.sequence ? 0 : 1);
+      }
+    };
+    this.heap = new PriorityQueue<Entry>(Math.min(maxSize, 1024), Collections.reverseOrder(entryComparator));
+  }
+
+  /**
+   * @return true if the record is kept, that is it is one of the first N records added so far
+   */
+  @Override
+  public boolean add(final OIdentifiable record) {
+    final Entry entry = new Entry(record, added++);
+    if (heap.size() < maxSize) {
+      heap.add(entry);
+      return true;
+    }
+
+    if (entryComparator.compare(entry, heap.peek()) >= 0)
+      return false;
+
+    heap.poll();
+    heap.add(entry);
+    return true;
+  }
+
+  @Override
+  public Iterator<OIdentifiable> iterator() {
+    return toSortedList().iterator();
+  }
+
+  @Override
+  public int size() {
+    return heap.size();
+  }
+
+  /**
+   * @return the number of records added, kept or not
+   */
+  public long getAdded() {
+    return added;
+  }
+
+  public List<OIdentifiable> toSortedList() {
+    final Entry[] entries = heap.toArray(new Entry[heap.size()]);
+    Arrays.sort(entries, entryComparator);
+
+    final List<OIdentifiable> result = new ArrayList<OIdentifiable>(entries.length);
+    for (Entry entry : entries)
+      result.add(entry.record);
+    return result;
+  }
+}
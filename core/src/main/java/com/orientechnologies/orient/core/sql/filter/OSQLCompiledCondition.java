@@ -0,0 +1,446 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.filter;
+
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OProperty;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
+import com.orientechnologies.orient.core.sql.OSQLHelper;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperator;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorAnd;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorEquals;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorMajor;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorMajorEquals;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorMinor;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorMinorEquals;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorNot;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorNotEquals;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorNotEquals2;
+import com.orientechnologies.orient.core.sql.operator.OQueryOperatorOr;
+
+import java.util.Date;
+
+/**
+ * Condition compiled in a tree of evaluators, built once per parsed filter and reused for every record. AND, OR and NOT are
+ * evaluated directly. The comparisons (=, <>, !=, <, <=, >, >=) between a field and a constant or a parameter are specialised on
+ * the type of the field declared by the schema class of the record: the value of the field is read and compared with the constant,
+ * converted once, without going through the operator and the conversions of {@link OSQLFilterCondition}. The other conditions,
+ * and the records whose field has not the declared type, are evaluated by {@link OSQLFilterCondition}, so the result is always
+ * the same.
+ */
+public abstract class OSQLCompiledCondition {
+  private static final int EQ = 0;
+  private static final int NE = 1;
+  private static final int GT = 2;
+  private static final int GE = 3;
+  private static final int LT = 4;
+  private static final int LE = 5;
+
+  public abstract Object evaluate(OIdentifiable iRecord, ODocument iCurrentResult, OCommandContext iContext);
+
+  public static OSQLCompiledCondition compile(final OSQLFilterCondition iCondition) {
+    final OQueryOperator operator = iCondition.getOperator();
+    final Object left = iCondition.getLeft();
+    final Object right = iCondition.getRight();
+
+    if (operator == null) {
+      if (left instanceof OSQLFilterCondition && right == null)
+        // CONDITION IN BRACES
+        return compile((OSQLFilterCondition) left);
+      return new OInterpreted(iCondition);
+    }
+
+    final Class<?> operatorClass = operator.getClass();
+    if (operatorClass == OQueryOperatorAnd.class && left instanceof OSQLFilterCondition && right instanceof OSQLFilterCondition)
+      return new OAnd(compile((OSQLFilterCondition) left), compile((OSQLFilterCondition) right));
+
+    if (operatorClass == OQueryOperatorOr.class && left instanceof OSQLFilterCondition && right instanceof OSQLFilterCondition)
+      return new OOr(compile((OSQLFilterCondition) left), compile((OSQLFilterCondition) right));
+
+    if (operatorClass == OQueryOperatorNot.class && ((OQueryOperatorNot) operator).getNext() == null
+        && left instanceof OSQLFilterCondition && right == null)
+      return new ONot(compile((OSQLFilterCondition) left));
+
+    final int op = getComparison(operatorClass);
+    if (op > -1) {
+      if (isPlainField(left) && isOperand(right))
+        return new OFieldComparison(iCondition, (OSQLFilterItemField) left, op, right, false);
+      if (isPlainField(right) && isOperand(left))
+        return new OFieldComparison(iCondition, (OSQLFilterItemField) right, reverse(op), left, true);
+    }
+
+    return new OInterpreted(iCondition);
+  }
+
+  private static int getComparison(final Class<?> iOperatorClass) {
+    if (iOperatorClass == OQueryOperatorEquals.class)
+      return EQ;
+    if (iOperatorClass == OQueryOperatorNotEquals.class || iOperatorClass == OQueryOperatorNotEquals2.class)
+      return NE;
+    if (iOperatorClass == OQueryOperatorMajor.class)
+      return GT;
+    if (iOperatorClass == OQueryOperatorMajorEquals.class)
+      return GE;
+    if (iOperatorClass == OQueryOperatorMinor.class)
+      return LT;
+    if (iOperatorClass == OQueryOperatorMinorEquals.class)
+      return LE;
+    return -1;
+  }
+
+  private static int reverse(final int iComparison) {
+    switch (iComparison) {
+    case GT:
+      return LT;
+    case GE:
+      return LE;
+    case LT:
+      return GT;
+    case LE:
+      return GE;
+    default:
+      return iComparison;
+    }
+  }
+
+  private static boolean isPlainField(final Object iValue) {
+    return iValue instanceof OSQLFilterItemField && ((OSQLFilterItemField) iValue).isPlainField();
+  }
+
+  private static boolean isOperand(final Object iValue) {
+    if (iValue instanceof OSQLFilterItemParameter)
+      return true;
+    if (iValue instanceof String)
+      return !OSQLHelper.NOT_NULL.equals(iValue) && !OSQLHelper.DEFINED.equals(iValue);
+    return iValue instanceof Number || iValue instanceof Boolean || iValue instanceof Date;
+  }
+
+  private static Boolean toBoolean(final int iComparison, final int iCompare) {
+    switch (iComparison) {
+    case EQ:
+      return iCompare == 0;
+    case NE:
+      return iCompare != 0;
+    case GT:
+      return iCompare > 0;
+    case GE:
+      return iCompare >= 0;
+    case LT:
+      return iCompare < 0;
+    default:
+      return iCompare <= 0;
+    }
+  }
+
+  /**
+   * Evaluates the condition with {@link OSQLFilterCondition}.
+   */
+  private static final class OInterpreted extends OSQLCompiledCondition {
+    private final OSQLFilterCondition condition;
+
+    private OInterpreted(final OSQLFilterCondition iCondition) {
+      condition = iCondition;
+    }
+
+    @Override
+    public Object evaluate(final OIdentifiable iRecord, final ODocument iCurrentResult, final OCommandContext iContext) {
+      return condition.evaluate(iRecord, iCurrentResult, iContext);
+    }
+  }
+
+  /**
+   * Same result of {@link OQueryOperatorAnd}: true only if both the conditions are true.
+   */
+  private static final class OAnd extends OSQLCompiledCondition {
+    private final OSQLCompiledCondition left;
+    private final OSQLCompiledCondition right;
+
+    private OAnd(final OSQLCompiledCondition iLeft, final OSQLCompiledCondition iRight) {
+      left = iLeft;
+      right = iRight;
+    }
+
+    @Override
+    public Object evaluate(final OIdentifiable iRecord, final ODocument iCurrentResult, final OCommandContext iContext) {
+      if (!Boolean.TRUE.equals(left.evaluate(iRecord, iCurrentResult, iContext)))
+        return Boolean.FALSE;
+      return Boolean.TRUE.equals(right.evaluate(iRecord, iCurrentResult, iContext));
+    }
+  }
+
+  /**
+   * Same result of {@link OQueryOperatorOr}: true if the first condition is true, or if it's false and the second is true.
+   */
+  private static final class OOr extends OSQLCompiledCondition {
+    private final OSQLCompiledCondition left;
+    private final OSQLCompiledCondition right;
+
+    private OOr(final OSQLCompiledCondition iLeft, final OSQLCompiledCondition iRight) {
+      left = iLeft;
+      right = iRight;
+    }
+
+    @Override
+    public Object evaluate(final OIdentifiable iRecord, final ODocument iCurrentResult, final OCommandContext iContext) {
+      final Object l = left.evaluate(iRecord, iCurrentResult, iContext);
+      if (Boolean.TRUE.equals(l))
+        return Boolean.TRUE;
+      if (!Boolean.FALSE.equals(l))
+        return Boolean.FALSE;
+      return Boolean.TRUE.equals(right.evaluate(iRecord, iCurrentResult, iContext));
+    }
+  }
+
+  /**
+   * Same result of {@link OQueryOperatorNot}: true only if the condition is false.
+   */
+  private static final class ONot extends OSQLCompiledCondition {
+    private final OSQLCompiledCondition condition;
+
+    private ONot(final OSQLCompiledCondition iCondition) {
+      condition = iCondition;
+    }
+
+    @Override
+    public Object evaluate(final OIdentifiable iRecord, final ODocument iCurrentResult, final OCommandContext iContext) {
+      return Boolean.FALSE.equals(condition.evaluate(iRecord, iCurrentResult, iContext));
+    }
+  }
+
+  /**
+   * Comparison between a field and a constant or a parameter. The comparison is specialised on the schema class of the first
+   * record and on the value of the operand, and specialised again only when they change.
+   */
+  private static final class OFieldComparison extends OSQLCompiledCondition {
+    private final OSQLFilterCondition  condition;
+    private final OSQLFilterItemField  field;
+    private final String               fieldName;
+    private final int                  comparison;
+    private final Object               operand;
+    private final boolean              reversed;
+    private volatile OSpecialisation   specialisation;
+
+    private OFieldComparison(final OSQLFilterCondition iCondition, final OSQLFilterItemField iField, final int iComparison,
+        final Object iOperand, final boolean iReversed) {
+      condition = iCondition;
+      field = iField;
+      fieldName = iField.getRoot();
+      comparison = iComparison;
+      operand = iOperand;
+      reversed = iReversed;
+    }
+
+    @Override
+    public Object evaluate(final OIdentifiable iRecord, final ODocument iCurrentResult, final OCommandContext iContext) {
+      final ORecord record = iRecord != null ? iRecord.getRecord() : null;
+      if (!(record instanceof ODocument))
+        return condition.evaluate(iRecord, iCurrentResult, iContext);
+
+      final ODocument document = (ODocument) record;
+      final OClass schemaClass = ODocumentInternal.getImmutableSchemaClass(document);
+      final Object operandValue = operand instanceof OSQLFilterItemParameter ? ((OSQLFilterItemParameter) operand).getValue(
+          iRecord, iCurrentResult, iContext) : operand;
+
+      OSpecialisation current = specialisation;
+      if (current == null || current.schemaClass != schemaClass || current.operand != operandValue) {
+        current = new OSpecialisation(schemaClass, operandValue, specialise(schemaClass, operandValue));
+        specialisation = current;
+      }
+
+      final OTypedComparison typed = current.comparison;
+      if (typed != null) {
+        final Object value = document.rawField(fieldName);
+        if (value == null)
+          // THE COMPARISON OPERATORS ARE FALSE ON NULL VALUES
+          return Boolean.FALSE;
+
+        if (value.getClass() == typed.fieldClass)
+          return toBoolean(comparison, typed.compare(value));
+      }
+
+      return condition.evaluate(iRecord, iCurrentResult, iContext);
+    }
+
+    /**
+     * @return the comparison specialised on the type of the field, or null if the condition has to be interpreted
+     */
+    private OTypedComparison specialise(final OClass iSchemaClass, final Object iOperand) {
+      if (iSchemaClass == null || iOperand == null)
+        return null;
+
+      final OProperty property = iSchemaClass.getProperty(fieldName);
+      if (property == null || !isDefault(property.getCollate()) || !isDefault(field.getCollate(iSchemaClass)))
+        return null;
+
+      switch (property.getType()) {
+      case BYTE:
+        return OLongComparison.create(iOperand, Byte.class, 0, reversed);
+      case SHORT:
+        return OLongComparison.create(iOperand, Short.class, 1, reversed);
+      case INTEGER:
+        return OLongComparison.create(iOperand, Integer.class, 2, reversed);
+      case LONG:
+        return OLongComparison.create(iOperand, Long.class, 3, reversed);
+      case FLOAT:
+        if (iOperand instanceof Float)
+          return new OFloatComparison((Float) iOperand);
+        break;
+      case DOUBLE:
+        if (iOperand instanceof Double)
+          return new ODoubleComparison((Double) iOperand);
+        break;
+      case STRING:
+        if (iOperand instanceof String)
+          return new OObjectComparison(iOperand, String.class);
+        break;
+      case BOOLEAN:
+        if (iOperand instanceof Boolean)
+          return new OObjectComparison(iOperand, Boolean.class);
+        break;
+      case DATE:
+      case DATETIME:
+        if (iOperand.getClass() == Date.class)
+          return new OObjectComparison(iOperand, Date.class);
+        break;
+      default:
+      }
+      return null;
+    }
+
+    private static boolean isDefault(final OCollate iCollate) {
+      return iCollate == null || ODefaultCollate.NAME.equals(iCollate.getName());
+    }
+  }
+
+  /**
+   * Schema class and value of the operand for which a comparison has been specialised. The comparison is null when it cannot be
+   * specialised, and the condition is always interpreted.
+   */
+  private static final class OSpecialisation {
+    private final OClass           schemaClass;
+    private final Object           operand;
+    private final OTypedComparison comparison;
+
+    private OSpecialisation(final OClass iSchemaClass, final Object iOperand, final OTypedComparison iComparison) {
+      schemaClass = iSchemaClass;
+      operand = iOperand;
+      comparison = iComparison;
+    }
+  }
+
+  /**
+   * Comparison of the values of a field of a type with the operand.
+   */
+  private abstract static class OTypedComparison {
+    protected final Class<?> fieldClass;
+
+    protected OTypedComparison(final Class<?> iFieldClass) {
+      fieldClass = iFieldClass;
+    }
+
+    /**
+     * @param iValue
+     *          value of the field, of class {@link #fieldClass}
+     * @return the result of the comparison of the value of the field with the operand
+     */
+    protected abstract int compare(Object iValue);
+  }
+
+  /**
+   * Comparison of integer fields. The operand can be an integer of a smaller type, since it is converted to the type of the field
+   * without loss, but not when it's on the left side, because the operators convert the field to the type of the operand.
+   */
+  private static final class OLongComparison extends OTypedComparison {
+    private static final Class<?>[] INTEGER_CLASSES = { Byte.class, Short.class, Integer.class, Long.class };
+
+    private final long              key;
+
+    private OLongComparison(final Number iOperand, final Class<?> iFieldClass) {
+      super(iFieldClass);
+      key = iOperand.longValue();
+    }
+
+    private static OTypedComparison create(final Object iOperand, final Class<?> iFieldClass, final int iFieldRank,
+        final boolean iExact) {
+      for (int i = 0; i <= iFieldRank; ++i)
+        if (iOperand.getClass() == INTEGER_CLASSES[i] && (i == iFieldRank || !iExact))
+          return new OLongComparison((Number) iOperand, iFieldClass);
+      return null;
+    }
+
+    @Override
+    protected int compare(final Object iValue) {
+      final long value = ((Number) iValue).longValue();
+      return value < key ? -1 : (value == key ? 0 : 1);
+    }
+  }
+
+  private static final class OFloatComparison extends OTypedComparison {
+    private final float key;
+
+    private OFloatComparison(final float iOperand) {
+      super(Float.class);
+      key = iOperand;
+    }
+
+    @Override
+    protected int compare(final Object iValue) {
+      return Float.compare((Float) iValue, key);
+    }
+  }
+
+  private static final class ODoubleComparison extends OTypedComparison {
+    private final double key;
+
+    private ODoubleComparison(final double iOperand) {
+      super(Double.class);
+      key = iOperand;
+    }
+
+    @Override
+    protected int compare(final Object iValue) {
+      return Double.compare((Double) iValue, key);
+    }
+  }
+
+  /**
+   * Comparison of strings, booleans and dates, whose natural order is the one of the operators.
+   */
+  private static final class OObjectComparison extends OTypedComparison {
+    private final Object operand;
+
+    private OObjectComparison(final Object iOperand, final Class<?> iFieldClass) {
+      super(iFieldClass);
+      operand = iOperand;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    protected int compare(final Object iValue) {
+      return ((Comparable<Object>) iValue).compareTo(operand);
+    }
+  }
+}
@@ -22,6 +22,7 @@ package com.orientechnologies.orient.core.sql.filter;
 import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.command.OCommandPredicate;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OQueryParsingException;
 import com.orientechnologies.orient.core.record.impl.ODocument;
@@ -32,6 +33,8 @@ import com.orientechnologies.orient.core.record.impl.ODocument;
  * @author Luca Garulli
  */
 public class OSQLFilter extends OSQLPredicate implements OCommandPredicate {
+  private volatile OSQLCompiledCondition compiledCondition;
+
   public OSQLFilter(final String iText, final OCommandContext iContext, final String iFilterKeyword) {
     super();
 
@@ -100,9 +103,25 @@ public class OSQLFilter extends OSQLPredicate implements OCommandPredicate {
       return true;
     }
 
+    if (OGlobalConfiguration.QUERY_COMPILE_CONDITIONS.getValueAsBoolean()) {
+      OSQLCompiledCondition compiled = compiledCondition;
+      if (compiled == null) {
+        // COMPILE THE CONDITION AT THE FIRST EVALUATION, ONCE THE FILTER HAS BEEN OPTIMIZED
+        compiled = OSQLCompiledCondition.compile(rootCondition);
+        compiledCondition = compiled;
+      }
+      return compiled.evaluate(iRecord, iCurrentResult, iContext);
+    }
+
     return rootCondition.evaluate(iRecord, iCurrentResult, iContext);
   }
 
+  @Override
+  public void setRootCondition(final OSQLFilterCondition iCondition) {
+    super.setRootCondition(iCondition);
+    compiledCondition = null;
+  }
+
   public OSQLFilterCondition getRootCondition() {
     return rootCondition;
   }
@@ -217,6 +217,21 @@ public class OSQLFilterItemField extends OSQLFilterItemAbstract {
     return collate;
   }
 
+  /**
+   * Returns true if the item is the value of a field of the current record, without methods or special fields.
+   */
+  boolean isPlainField() {
+    return stringValue == null && (operationsChain == null || operationsChain.isEmpty()) && name != null && !name.isEmpty()
+        && name.charAt(0) != '@' && name.indexOf('.') < 0 && (preLoadedFields == null || !preLoadedFields.contains("@rid"));
+  }
+
+  /**
+   * Returns the collate of the field for the records of the class.
+   */
+  OCollate getCollate(final OClass iClass) {
+    return collatePreset ? collate : getCollateForField(iClass, name);
+  }
+
   /**
    * get the collate of this expression, based on the fully evaluated field chain starting from the passed object.
    *
@@ -31,6 +31,9 @@ import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.serialization.serializer.OStringSerializerHelper;
 import com.orientechnologies.orient.core.sql.*;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import com.orientechnologies.orient.core.storage.impl.local.paginated.OClusterCompactor;
 
 import java.util.*;
 
@@ -237,6 +240,13 @@ public class OSQLTarget extends OBaseParser {
           } else if (metadataTarget.equals(OCommandExecutorSQLAbstract.METADATA_INDEXMGR)) {
             ((ArrayList<OIdentifiable>) targetRecords).add(new ORecordId(ODatabaseRecordThreadLocal.INSTANCE.get().getStorage()
                 .getConfiguration().indexMgrRecordId));
+          } else if (metadataTarget.equals(OCommandExecutorSQLAbstract.METADATA_STORAGE)) {
+            final OStorage storage = ODatabaseRecordThreadLocal.INSTANCE.get().getStorage().getUnderlying();
+            if (storage instanceof OAbstractPaginatedStorage) {
+              final OClusterCompactor compactor = ((OAbstractPaginatedStorage) storage).getClusterCompactor();
+              if (compactor != null)
+                ((ArrayList<OIdentifiable>) targetRecords).addAll(compactor.getClusterStatistics());
+            }
           } else
             throw new OQueryParsingException("Metadata element not supported: " + metadataTarget);
 
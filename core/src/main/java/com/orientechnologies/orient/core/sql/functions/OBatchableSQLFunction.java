@@ -0,0 +1,46 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions;
+
+/**
+ * This interface represents aggregate SQL functions which are able to consume values of a field in blocks of primitives instead
+ * of boxed values passed record by record through {@link OSQLFunction#execute}. Used by the query executor for queries like
+ * <code>select sum(amount), max(amount) from Payment</code> where all projections are aggregates over plain fields.
+ *
+ * @see OSQLValueBlock
+ */
+public interface OBatchableSQLFunction extends OSQLFunction {
+
+  /**
+   * Aggregates all the values of the block. Result is the same as if {@link OSQLFunction#execute} were called for each value of the
+   * block, values are boxed only once per block.
+   *
+   * @param block the block of values of the field passed as a parameter to the function
+   */
+  void aggregate(OSQLValueBlock block);
+
+  /**
+   * Adds the values aggregated by another instance of the same function. Used by parallel queries, where every thread aggregates
+   * its own records in its own instance of the function.
+   *
+   * @param partial the instance of the function, of the same class of this one, which aggregated a part of the values
+   */
+  void merge(OBatchableSQLFunction partial);
+}
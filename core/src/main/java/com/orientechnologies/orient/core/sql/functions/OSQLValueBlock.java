@@ -0,0 +1,163 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.functions;
+
+import com.orientechnologies.orient.core.metadata.schema.OType;
+
+import java.util.Arrays;
+
+/**
+ * Block of numeric values of a single field read from consecutive records. Integer values ({@link OType#SHORT},
+ * {@link OType#INTEGER} and {@link OType#LONG}) are kept in <code>long[]</code> array, floating point values ({@link OType#FLOAT}
+ * and {@link OType#DOUBLE}) in <code>double[]</code> array. Missing values are tracked in a null bitmap. All the not null values
+ * of the block have the same type, so aggregates computed over the block keep the same type as in row by row execution.
+ *
+ * @see OBatchableSQLFunction
+ */
+public class OSQLValueBlock {
+  public static final int DEFAULT_SIZE = 1024;
+
+  private final long[]   longs;
+  private final double[] doubles;
+  private final long[]   nulls;
+
+  private OType type;
+  private int   size;
+  private int   nullCount;
+
+  public OSQLValueBlock() {
+    this(DEFAULT_SIZE);
+  }
+
+  public OSQLValueBlock(final int capacity) {
+    longs = new long[capacity];
+    doubles = new double[capacity];
+    nulls = new long[(capacity + 63) >>> 6];
+  }
+
+  /**
+   * @return type of not null values of the block or <code>null</code> if block contains only nulls
+   */
+  public OType getType() {
+    return type;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int nullCount() {
+    return nullCount;
+  }
+
+  public int capacity() {
+    return longs.length;
+  }
+
+  public boolean isFull() {
+    return size == longs.length;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return <code>true</code> if value of passed type can be added to the block
+   */
+  public boolean accepts(final OType valueType) {
+    return type == null || type == valueType;
+  }
+
+  public boolean isNull(final int index) {
+    return (nulls[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * @return integer values of the block, value of index <code>i</code> is valid only if it is not null
+   */
+  public long[] getLongs() {
+    return longs;
+  }
+
+  /**
+   * @return floating point values of the block, value of index <code>i</code> is valid only if it is not null
+   */
+  public double[] getDoubles() {
+    return doubles;
+  }
+
+  public boolean isFloatingPoint() {
+    return type == OType.FLOAT || type == OType.DOUBLE;
+  }
+
+  public void addLong(final OType valueType, final long value) {
+    assert valueType == OType.SHORT || valueType == OType.INTEGER || valueType == OType.LONG;
+    assert accepts(valueType);
+
+    type = valueType;
+    longs[size++] = value;
+  }
+
+  public void addDouble(final OType valueType, final double value) {
+    assert valueType == OType.FLOAT || valueType == OType.DOUBLE;
+    assert accepts(valueType);
+
+    type = valueType;
+    doubles[size++] = value;
+  }
+
+  public void addNull() {
+    nulls[size >>> 6] |= 1L << size;
+    size++;
+    nullCount++;
+  }
+
+  /**
+   * Converts integer value computed over the block into the boxed value of the same type as in row by row execution.
+   */
+  public Number boxLong(final long value) {
+    if (type == OType.LONG || value > Integer.MAX_VALUE || value < Integer.MIN_VALUE)
+      return value;
+
+    if (type == OType.SHORT && value <= Short.MAX_VALUE && value >= Short.MIN_VALUE)
+      return (short) value;
+
+    return (int) value;
+  }
+
+  /**
+   * Converts floating point value computed over the block into the boxed value of the same type as in row by row execution.
+   */
+  public Number boxDouble(final double value) {
+    if (type == OType.FLOAT)
+      return (float) value;
+
+    return value;
+  }
+
+  public void clear() {
+    Arrays.fill(nulls, 0, ((size + 63) >>> 6), 0);
+
+    type = null;
+    size = 0;
+    nullCount = 0;
+  }
+}
@@ -23,6 +23,8 @@ import com.orientechnologies.common.collection.OMultiValue;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.functions.OBatchableSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.OSQLValueBlock;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -37,7 +39,7 @@ import java.util.Map;
  * @author Luca Garulli (l.garulli--at--orientechnologies.com)
  * 
  */
-public class OSQLFunctionAverage extends OSQLFunctionMathAbstract {
+public class OSQLFunctionAverage extends OSQLFunctionMathAbstract implements OBatchableSQLFunction {
   public static final String NAME  = "avg";
 
   private Number             sum;
@@ -65,6 +67,32 @@ public class OSQLFunctionAverage extends OSQLFunctionMathAbstract {
     return getResult();
   }
 
+  @Override
+  public void aggregate(final OSQLValueBlock block) {
+    final Number blockSum = OSQLFunctionSum.sumBlock(block);
+    if (blockSum == null)
+      return;
+
+    total += block.size() - block.nullCount();
+    if (sum == null)
+      sum = blockSum;
+    else
+      sum = OType.increment(sum, blockSum);
+  }
+
+  @Override
+  public void merge(final OBatchableSQLFunction partial) {
+    final OSQLFunctionAverage average = (OSQLFunctionAverage) partial;
+    if (average.sum == null)
+      return;
+
+    total += average.total;
+    if (sum == null)
+      sum = average.sum;
+    else
+      sum = OType.increment(sum, average.sum);
+  }
+
   protected void sum(Number value) {
     if (value != null) {
       total++;
@@ -22,6 +22,8 @@ package com.orientechnologies.orient.core.sql.functions.math;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.functions.OBatchableSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.OSQLValueBlock;
 
 import java.util.Collection;
 import java.util.List;
@@ -33,7 +35,7 @@ import java.util.List;
  * @author Luca Garulli (l.garulli--at--orientechnologies.com)
  * 
  */
-public class OSQLFunctionMin extends OSQLFunctionMathAbstract {
+public class OSQLFunctionMin extends OSQLFunctionMathAbstract implements OBatchableSQLFunction {
   public static final String NAME = "min";
 
   private Object             context;
@@ -91,6 +93,46 @@ public class OSQLFunctionMin extends OSQLFunctionMathAbstract {
     return min;
   }
 
+  @Override
+  public void aggregate(final OSQLValueBlock block) {
+    final int size = block.size();
+    if (size == block.nullCount())
+      return;
+
+    final boolean hasNulls = block.nullCount() > 0;
+    final Number min;
+
+    if (block.isFloatingPoint()) {
+      final double[] values = block.getDoubles();
+      double result = Double.NaN;
+      for (int i = 0; i < size; i++)
+        if ((!hasNulls || !block.isNull(i)) && (Double.isNaN(result) || values[i] < result))
+          result = values[i];
+
+      min = block.boxDouble(result);
+    } else {
+      final long[] values = block.getLongs();
+      long result = 0;
+      boolean first = true;
+      for (int i = 0; i < size; i++)
+        if ((!hasNulls || !block.isNull(i)) && (first || values[i] < result)) {
+          result = values[i];
+          first = false;
+        }
+
+      min = block.boxLong(result);
+    }
+
+    execute(null, null, null, new Object[] { min }, null);
+  }
+
+  @Override
+  public void merge(final OBatchableSQLFunction partial) {
+    final Object partialContext = ((OSQLFunctionMin) partial).context;
+    if (partialContext != null)
+      execute(null, null, null, new Object[] { partialContext }, null);
+  }
+
   public boolean aggregateResults() {
     // LET definitions (contain $current) does not require results aggregation
     return ((configuredParameters.length == 1) && !configuredParameters[0].toString().contains("$current"));
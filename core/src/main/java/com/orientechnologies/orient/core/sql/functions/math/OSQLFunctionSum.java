@@ -23,6 +23,8 @@ import com.orientechnologies.common.collection.OMultiValue;
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.sql.functions.OBatchableSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.OSQLValueBlock;
 
 import java.util.List;
 
@@ -33,7 +35,7 @@ import java.util.List;
  * @author Luca Garulli (l.garulli--at--orientechnologies.com)
  * 
  */
-public class OSQLFunctionSum extends OSQLFunctionMathAbstract {
+public class OSQLFunctionSum extends OSQLFunctionMathAbstract implements OBatchableSQLFunction {
   public static final String NAME = "sum";
 
   private Number             sum;
@@ -58,6 +60,61 @@ public class OSQLFunctionSum extends OSQLFunctionMathAbstract {
     return sum;
   }
 
+  @Override
+  public void aggregate(final OSQLValueBlock block) {
+    sum(sumBlock(block));
+  }
+
+  @Override
+  public void merge(final OBatchableSQLFunction partial) {
+    sum(((OSQLFunctionSum) partial).sum);
+  }
+
+  /**
+   * @return sum of not null values of the block boxed into the same type as in row by row execution or <code>null</code> if
+   * block does not contain any value
+   */
+  static Number sumBlock(final OSQLValueBlock block) {
+    final int size = block.size();
+    final int count = size - block.nullCount();
+    if (count == 0)
+      return null;
+
+    final boolean hasNulls = block.nullCount() > 0;
+
+    if (block.getType() == OType.FLOAT) {
+      final double[] values = block.getDoubles();
+      float result = 0;
+      for (int i = 0; i < size; i++)
+        if (!hasNulls || !block.isNull(i))
+          result += (float) values[i];
+
+      return result;
+    }
+
+    if (block.isFloatingPoint()) {
+      final double[] values = block.getDoubles();
+      double result = 0;
+      for (int i = 0; i < size; i++)
+        if (!hasNulls || !block.isNull(i))
+          result += values[i];
+
+      return result;
+    }
+
+    final long[] values = block.getLongs();
+    long result = 0;
+    for (int i = 0; i < size; i++)
+      if (!hasNulls || !block.isNull(i))
+        result += values[i];
+
+    if (block.getType() == OType.SHORT && count > 1)
+      // SUM OF SHORTS IS INTEGER
+      return result > Integer.MAX_VALUE || result < Integer.MIN_VALUE ? (Number) result : (Number) (int) result;
+
+    return block.boxLong(result);
+  }
+
   protected void sum(final Number value) {
     if (value != null) {
       if (sum == null)
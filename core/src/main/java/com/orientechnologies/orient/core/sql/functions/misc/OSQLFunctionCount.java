@@ -21,6 +21,8 @@ package com.orientechnologies.orient.core.sql.functions.misc;
 
 import com.orientechnologies.orient.core.command.OCommandContext;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.sql.functions.OBatchableSQLFunction;
+import com.orientechnologies.orient.core.sql.functions.OSQLValueBlock;
 import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMathAbstract;
 
 import java.util.List;
@@ -32,7 +34,7 @@ import java.util.List;
  * @author Luca Garulli (l.garulli--at--orientechnologies.com)
  * 
  */
-public class OSQLFunctionCount extends OSQLFunctionMathAbstract {
+public class OSQLFunctionCount extends OSQLFunctionMathAbstract implements OBatchableSQLFunction {
   public static final String NAME  = "count";
 
   private long               total = 0;
@@ -49,6 +51,16 @@ public class OSQLFunctionCount extends OSQLFunctionMathAbstract {
     return total;
   }
 
+  @Override
+  public void aggregate(final OSQLValueBlock block) {
+    total += block.size() - block.nullCount();
+  }
+
+  @Override
+  public void merge(final OBatchableSQLFunction partial) {
+    total += ((OSQLFunctionCount) partial).total;
+  }
+
   public boolean aggregateResults() {
     return true;
   }
@@ -72,6 +72,9 @@ public class OBaseExpression extends OMathExpression {
     if (string != null && string.length() > 1) {
       result = OStringSerializerHelper.decode(string.substring(1, string.length() - 1));
     }
+    if (inputParam != null && ctx != null) {
+      result = inputParam.getValue(ctx.getInputParameters());
+    }
     if (modifier != null) {
       result = modifier.execute(iCurrentRecord, result, ctx);
     }
@@ -37,6 +37,13 @@ public class OInputParameter extends SimpleNode {
     return null;
   }
 
+  /**
+   * @return the value of the parameter as passed by the user, or null if it was not passed
+   */
+  public Object getValue(Map<Object, Object> params) {
+    return null;
+  }
+
   protected Object toParsedTree(Object value) {
     if (value == null) {
       return null;
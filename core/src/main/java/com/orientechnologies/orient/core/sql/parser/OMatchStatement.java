@@ -3,21 +3,29 @@
 package com.orientechnologies.orient.core.sql.parser;
 
 import com.orientechnologies.common.exception.OErrorCode;
+import com.orientechnologies.common.exception.OException;
 import com.orientechnologies.common.listener.OProgressListener;
 import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.cache.OCommandCacheDependency;
 import com.orientechnologies.orient.core.command.*;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.OExecutionThreadLocal;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.exception.OCommandExecutionException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.metadata.schema.OType;
 import com.orientechnologies.orient.core.metadata.security.ORole;
 import com.orientechnologies.orient.core.metadata.security.ORule;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.OCommandSQLParsingException;
+import com.orientechnologies.orient.core.sql.OEdgeFanOutStatistics;
 import com.orientechnologies.orient.core.sql.OIterableRecordSource;
 import com.orientechnologies.orient.core.sql.filter.OSQLTarget;
 import com.orientechnologies.orient.core.sql.query.OBasicResultSet;
@@ -27,6 +35,14 @@ import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class OMatchStatement extends OStatement implements OCommandExecutor, OIterableRecordSource {
 
@@ -37,6 +53,11 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
   long threshold = 20;
   private int limitFromProtocol = -1;
 
+  /**
+   * root candidates claimed at once by the threads of a parallel execution
+   */
+  private static final int PARALLEL_CHUNK_SIZE = 32;
+
   class MatchContext {
     int currentEdgeNumber = 0;
 
@@ -80,6 +101,15 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
     public List<EdgeTraversal> sortedEdges;
     public Map<String, Long> preFetchedAliases = new HashMap<String, Long>();
     public String rootAlias;
+    /**
+     * estimated partial matches after the root and after every edge of sortedEdges
+     */
+    public double[] estimatedRows;
+    public double   estimatedCost;
+    /**
+     * partial matches actually found after the root and after every edge of sortedEdges
+     */
+    public long[]   actualRows;
   }
 
   public static final String                 KEYWORD_MATCH    = "MATCH";
@@ -88,6 +118,7 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
   protected           List<OExpression>      returnItems      = new ArrayList<OExpression>();
   protected           List<OIdentifier>      returnAliases    = new ArrayList<OIdentifier>();
   protected OLimit limit;
+  protected boolean parallel = false;
 
   protected Pattern pattern;
 
@@ -155,6 +186,7 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
       this.returnItems = result.returnItems;
       this.returnAliases = result.returnAliases;
       this.limit = result.limit;
+      this.parallel = result.parallel;
     } catch (ParseException e) {
       OCommandSQLParsingException ex = new OCommandSQLParsingException(e, queryText);
       OErrorCode.QUERY_PARSE_ERROR.throwException(ex.getMessage(), ex);
@@ -260,13 +292,15 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
         return new OBasicResultSet();// some aliases do not match on any classes
       }
 
-      List<EdgeTraversal> sortedEdges = getTopologicalSortedSchedule(estimatedRootEntries, pattern);
-      MatchExecutionPlan executionPlan = new MatchExecutionPlan();
-      executionPlan.sortedEdges = sortedEdges;
+      MatchExecutionPlan executionPlan = createExecutionPlan(estimatedRootEntries, pattern, context);
 
       calculateMatch(pattern, estimatedRootEntries, new MatchContext(), aliasClasses, aliasFilters, aliasRids, context, request,
           executionPlan);
 
+      if (context.isRecordingMetrics()) {
+        context.setVariable("matchPlan", planToDocument(executionPlan));
+      }
+
       return getResult(request);
     } finally {
       if (request.getResultListener() != null) {
@@ -276,6 +310,64 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
 
   }
 
+  /**
+   * Chooses the schedule of the edges. Without statistics on the edges it is the one starting from the alias with less candidates.
+   * Otherwise the schedules starting from every alias with known candidates, with the edges of every node sorted by their estimated
+   * expansion, are compared and the one that reads less rows is chosen.
+   */
+  private MatchExecutionPlan createExecutionPlan(Map<String, Long> estimatedRootEntries, Pattern pattern, OCommandContext ctx) {
+    ODatabaseDocumentInternal db = getDatabase();
+    PatternCostEstimator estimator = new PatternCostEstimator(db, OEdgeFanOutStatistics.get(db), aliasClasses, aliasRids,
+        estimatedRootEntries, ctx);
+
+    List<EdgeTraversal> sortedEdges = getTopologicalSortedSchedule(estimatedRootEntries, pattern, null, null);
+    PatternCostEstimator.Estimate estimate = estimator.estimate(sortedEdges);
+
+    if (estimator.hasStatistics() && pattern.numOfEdges > 0) {
+      for (String root : estimatedRootEntries.keySet()) {
+        List<EdgeTraversal> schedule = getTopologicalSortedSchedule(estimatedRootEntries, pattern, root, estimator);
+        if (!estimator.isExecutable(schedule)) {
+          continue;
+        }
+        PatternCostEstimator.Estimate scheduleEstimate = estimator.estimate(schedule);
+        if (scheduleEstimate.cost < estimate.cost) {
+          sortedEdges = schedule;
+          estimate = scheduleEstimate;
+        }
+      }
+    }
+
+    MatchExecutionPlan executionPlan = new MatchExecutionPlan();
+    executionPlan.sortedEdges = sortedEdges;
+    executionPlan.estimatedRows = estimate.rows;
+    executionPlan.estimatedCost = estimate.cost;
+    executionPlan.actualRows = new long[sortedEdges.size() + 1];
+    return executionPlan;
+  }
+
+  private ODocument planToDocument(MatchExecutionPlan executionPlan) {
+    ODocument result = new ODocument();
+    result.field("root", executionPlan.rootAlias);
+    result.field("estimatedCost", Math.round(executionPlan.estimatedCost));
+    result.field("rootEstimatedRows", Math.round(executionPlan.estimatedRows[0]));
+    result.field("rootActualRows", executionPlan.actualRows[0]);
+
+    List<ODocument> steps = new ArrayList<ODocument>();
+    for (int i = 0; i < executionPlan.sortedEdges.size(); i++) {
+      EdgeTraversal traversal = executionPlan.sortedEdges.get(i);
+      ODocument step = new ODocument();
+      step.field("from", traversal.out ? traversal.edge.out.alias : traversal.edge.in.alias);
+      step.field("to", traversal.out ? traversal.edge.in.alias : traversal.edge.out.alias);
+      step.field("edge", traversal.edge.item.toString());
+      step.field("direction", traversal.out ? "out" : "in");
+      step.field("estimatedRows", Math.round(executionPlan.estimatedRows[i + 1]));
+      step.field("actualRows", executionPlan.actualRows[i + 1]);
+      steps.add(step);
+    }
+    result.field("steps", steps, OType.EMBEDDEDLIST);
+    return result;
+  }
+
   /**
    * Start a depth-first traversal from the starting node, adding all viable unscheduled edges and vertices.
    *
@@ -286,9 +378,11 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
    * @param remainingDependencies dependency map including only the dependencies that haven't yet been satisfied (mutated in this
    *                              function)
    * @param resultingSchedule     the schedule being computed i.e. appended to (mutated in this function)
+   * @param estimator             if not null, the edges of every node are scheduled in order of estimated expansion, otherwise
+   *                              in the order they are written in the query
    */
   private void updateScheduleStartingAt(PatternNode startNode, Set<PatternNode> visitedNodes, Set<PatternEdge> visitedEdges,
-      Map<String, Set<String>> remainingDependencies, List<EdgeTraversal> resultingSchedule) {
+      Map<String, Set<String>> remainingDependencies, List<EdgeTraversal> resultingSchedule, PatternCostEstimator estimator) {
     // OrientDB requires the schedule to contain all edges present in the query, which is a stronger condition
     // than simply visiting all nodes in the query. Consider the following example query:
     //     MATCH {
@@ -323,7 +417,12 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
       edges.put(inEdge, false);
     }
 
-    for (Map.Entry<PatternEdge, Boolean> edgeData : edges.entrySet()) {
+    List<Map.Entry<PatternEdge, Boolean>> sortedEdges = new ArrayList<Map.Entry<PatternEdge, Boolean>>(edges.entrySet());
+    if (estimator != null) {
+      sortEdgesByExpansion(sortedEdges, visitedNodes, estimator);
+    }
+
+    for (Map.Entry<PatternEdge, Boolean> edgeData : sortedEdges) {
       PatternEdge edge = edgeData.getKey();
       boolean isOutbound = edgeData.getValue();
       PatternNode neighboringNode = isOutbound ? edge.in : edge.out;
@@ -369,11 +468,33 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
 
         visitedEdges.add(edge);
         resultingSchedule.add(new EdgeTraversal(edge, isOutbound));
-        updateScheduleStartingAt(neighboringNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule);
+        updateScheduleStartingAt(neighboringNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule, estimator);
       }
     }
   }
 
+  /**
+   * Sorts the edges of a node so that the edges toward visited nodes, that only check the records already matched, come first and
+   * then the others from the one expected to produce less rows. The sort is stable, so edges with the same estimation keep the
+   * order they are written in the query.
+   */
+  private void sortEdgesByExpansion(List<Map.Entry<PatternEdge, Boolean>> edges, Set<PatternNode> visitedNodes,
+      PatternCostEstimator estimator) {
+    final Map<PatternEdge, Double> expansions = new IdentityHashMap<PatternEdge, Double>();
+    for (Map.Entry<PatternEdge, Boolean> edgeData : edges) {
+      PatternEdge edge = edgeData.getKey();
+      boolean isOutbound = edgeData.getValue();
+      PatternNode neighboringNode = isOutbound ? edge.in : edge.out;
+      expansions.put(edge, visitedNodes.contains(neighboringNode) ? 0d : estimator.expansion(edge, isOutbound));
+    }
+    Collections.sort(edges, new Comparator<Map.Entry<PatternEdge, Boolean>>() {
+      @Override
+      public int compare(Map.Entry<PatternEdge, Boolean> o1, Map.Entry<PatternEdge, Boolean> o2) {
+        return Double.compare(expansions.get(o1.getKey()), expansions.get(o2.getKey()));
+      }
+    });
+  }
+
   /**
    * Calculate the set of dependency aliases for each alias in the pattern.
    *
@@ -403,8 +524,12 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
 
   /**
    * sort edges in the order they will be matched
+   *
+   * @param firstRoot alias to start from, if null the one with less estimated entries
+   * @param estimator if not null, used to sort the edges of every node
    */
-  private List<EdgeTraversal> getTopologicalSortedSchedule(Map<String, Long> estimatedRootEntries, Pattern pattern) {
+  private List<EdgeTraversal> getTopologicalSortedSchedule(Map<String, Long> estimatedRootEntries, Pattern pattern,
+      String firstRoot, PatternCostEstimator estimator) {
     List<EdgeTraversal> resultingSchedule = new ArrayList<EdgeTraversal>();
     Map<String, Set<String>> remainingDependencies = getDependencies(pattern);
     Set<PatternNode> visitedNodes = new HashSet<PatternNode>();
@@ -419,6 +544,9 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
 
     // Add the starting vertices, in the correct order, to an ordered set.
     Set<String> remainingStarts = new LinkedHashSet<String>();
+    if (firstRoot != null) {
+      remainingStarts.add(firstRoot);
+    }
     for (OPair<Long, String> item : rootWeights) {
       remainingStarts.add(item.getValue());
     }
@@ -459,7 +587,7 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
 
       // 2. Having found a starting vertex, traverse its neighbors depth-first,
       //    adding any non-visited ones with satisfied dependencies to our schedule.
-      updateScheduleStartingAt(startingNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule);
+      updateScheduleStartingAt(startingNode, visitedNodes, visitedEdges, remainingDependencies, resultingSchedule, estimator);
     }
 
     if (resultingSchedule.size() != pattern.numOfEdges) {
@@ -527,6 +655,11 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
       allCandidates = (Iterable) getDatabase().query(new OSQLSynchQuery<Object>(select.toString()));
     }
 
+    if (isParallel(allCandidates)) {
+      return processContextFromCandidatesInParallel(pattern, executionPlan, matchContext, aliasClasses, aliasFilters, aliasRids,
+          iCommandContext, request, (Collection<OIdentifiable>) allCandidates, smallestAlias);
+    }
+
     if (!processContextFromCandidates(pattern, executionPlan, matchContext, aliasClasses, aliasFilters, aliasRids, iCommandContext,
         request, allCandidates, smallestAlias, 0)) {
       return false;
@@ -534,6 +667,174 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
     return true;
   }
 
+  /**
+   * @return true if the root candidates have to be processed by several threads: the statement is PARALLEL (or parallel queries
+   * are enabled automatically), the candidates are enough and there is no active transaction, whose changes would not be visible
+   * to the other threads
+   */
+  private boolean isParallel(Iterable<OIdentifiable> rootCandidates) {
+    if (!parallel && !OGlobalConfiguration.QUERY_PARALLEL_AUTO.getValueAsBoolean()) {
+      return false;
+    }
+    ODatabaseDocumentInternal db = getDatabase();
+    return rootCandidates instanceof Collection && db instanceof ODatabaseDocumentTx && !db.getTransaction().isActive()
+        && ((Collection) rootCandidates).size() >= OGlobalConfiguration.QUERY_PARALLEL_MATCH_MINIMUM_ROOTS.getValueAsInteger();
+  }
+
+  /**
+   * Processes the root candidates with the threads of the Orient executor, each one with its own copy of the database and of the
+   * command context, that claim chunks of candidates until they are over. Matches found by the threads are passed to the current
+   * thread through a bounded queue and from there to the result listener, as soon as they are found. When the limit is reached, or
+   * the listener stops the query, the threads stop at the next match.
+   *
+   * @return false if the limit was reached
+   */
+  private boolean processContextFromCandidatesInParallel(final Pattern pattern, final MatchExecutionPlan executionPlan,
+      final MatchContext matchContext, final Map<String, String> aliasClasses, final Map<String, OWhereClause> aliasFilters,
+      final Map<String, ORID> aliasRids, final OCommandContext iCommandContext, final OSQLAsynchQuery<ODocument> request,
+      final Collection<OIdentifiable> candidates, final String alias) {
+    final ODatabaseDocumentTx db = (ODatabaseDocumentTx) getDatabase();
+    final List<OIdentifiable> roots = new ArrayList<OIdentifiable>(candidates);
+    final int threads = Math.min(Runtime.getRuntime().availableProcessors(),
+        (roots.size() + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE);
+
+    final BlockingQueue<Object> results = new ArrayBlockingQueue<Object>(
+        OGlobalConfiguration.QUERY_PARALLEL_RESULT_QUEUE_SIZE.getValueAsInteger());
+    final AtomicBoolean running = new AtomicBoolean(true);
+    final AtomicInteger nextChunk = new AtomicInteger();
+    final AtomicInteger runningThreads = new AtomicInteger(threads);
+    final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+    final MatchExecutionPlan[] threadPlans = new MatchExecutionPlan[threads];
+
+    final OCommandResultListener queueListener = new OCommandResultListener() {
+      @Override
+      public boolean result(Object iRecord) {
+        try {
+          while (running.get()) {
+            if (results.offer(iRecord, 100, TimeUnit.MILLISECONDS)) {
+              return true;
+            }
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return false;
+      }
+
+      @Override
+      public void end() {
+      }
+
+      @Override
+      public Object getResult() {
+        return null;
+      }
+    };
+
+    final List<Future<?>> jobs = new ArrayList<Future<?>>();
+    for (int i = 0; i < threads; i++) {
+      final MatchExecutionPlan threadPlan = copyExecutionPlan(executionPlan);
+      threadPlans[i] = threadPlan;
+
+      jobs.add(Orient.instance().submit(new Runnable() {
+        @Override
+        public void run() {
+          ODatabaseDocumentTx localDatabase = null;
+          try {
+            localDatabase = db.copy();
+            localDatabase.activateOnCurrentThread();
+
+            final OCommandContext threadContext = iCommandContext.copy();
+            threadContext.setInputParameters(iCommandContext.getInputParameters());
+            final OSQLAsynchQuery<ODocument> threadRequest = new OSQLAsynchQuery<ODocument>(request.getText(), queueListener);
+
+            int from;
+            while (running.get() && (from = nextChunk.getAndIncrement() * PARALLEL_CHUNK_SIZE) < roots.size()) {
+              final List<OIdentifiable> chunk = roots.subList(from, Math.min(roots.size(), from + PARALLEL_CHUNK_SIZE));
+              if (!processContextFromCandidates(pattern, threadPlan, matchContext, aliasClasses, aliasFilters, aliasRids,
+                  threadContext, threadRequest, chunk, alias, 0)) {
+                break;
+              }
+            }
+          } catch (Throwable t) {
+            error.compareAndSet(null, t);
+            running.set(false);
+          } finally {
+            runningThreads.decrementAndGet();
+            if (localDatabase != null) {
+              localDatabase.close();
+            }
+          }
+        }
+      }));
+    }
+
+    boolean limitNotReached = true;
+    try {
+      while (running.get()) {
+        if (OExecutionThreadLocal.isInterruptCurrentOperation()) {
+          throw new InterruptedException("Operation has been interrupted");
+        }
+
+        final Object record = results.poll(100, TimeUnit.MILLISECONDS);
+        if (record == null) {
+          if (runningThreads.get() == 0 && results.isEmpty()) {
+            break;
+          }
+          continue;
+        }
+
+        if (!request.getResultListener().result(record) || isLimitReached(
+            ((OBasicCommandContext) iCommandContext).getResultsProcessed().incrementAndGet())) {
+          limitNotReached = false;
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.interrupted();
+      limitNotReached = false;
+    } finally {
+      running.set(false);
+
+      for (Future<?> job : jobs) {
+        try {
+          job.get();
+        } catch (InterruptedException e) {
+          Thread.interrupted();
+          break;
+        } catch (ExecutionException e) {
+          error.compareAndSet(null, e.getCause());
+        }
+      }
+      db.activateOnCurrentThread();
+
+      for (MatchExecutionPlan threadPlan : threadPlans) {
+        for (int i = 0; i < executionPlan.actualRows.length; i++) {
+          executionPlan.actualRows[i] += threadPlan.actualRows[i];
+        }
+      }
+    }
+
+    final Throwable t = error.get();
+    if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    } else if (t != null) {
+      throw OException.wrapException(new OCommandExecutionException("Error on executing parallel MATCH"), t);
+    }
+    return limitNotReached;
+  }
+
+  private MatchExecutionPlan copyExecutionPlan(MatchExecutionPlan executionPlan) {
+    MatchExecutionPlan result = new MatchExecutionPlan();
+    result.sortedEdges = executionPlan.sortedEdges;
+    result.preFetchedAliases = executionPlan.preFetchedAliases;
+    result.rootAlias = executionPlan.rootAlias;
+    result.estimatedRows = executionPlan.estimatedRows;
+    result.estimatedCost = executionPlan.estimatedCost;
+    result.actualRows = new long[executionPlan.actualRows.length];
+    return result;
+  }
+
   private boolean processContextFromCandidates(Pattern pattern, MatchExecutionPlan executionPlan, MatchContext matchContext,
       Map<String, String> aliasClasses, Map<String, OWhereClause> aliasFilters, Map<String, ORID> aliasRids,
       OCommandContext iCommandContext, OSQLAsynchQuery<ODocument> request, Iterable<OIdentifiable> candidates, String alias,
@@ -565,6 +866,9 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
       OCommandContext iCommandContext, OSQLAsynchQuery<ODocument> request) {
 
     iCommandContext.setVariable("$matched", matchContext.matched);
+    if (matchContext.currentEdgeNumber < executionPlan.actualRows.length) {
+      executionPlan.actualRows[matchContext.currentEdgeNumber]++;
+    }
 
     if (pattern.getNumOfEdges() == matchContext.matchedEdges.size() && allNodesCalculated(matchContext, pattern)) {
       // false if limit reached
@@ -932,19 +1236,25 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
    */
   private boolean addSingleResult(OSQLAsynchQuery<ODocument> request, OBasicCommandContext ctx, ORecord record) {
     if (((OBasicCommandContext) context).addToUniqueResult(record)) {
-      request.getResultListener().result(record);
-      long currentCount = ctx.getResultsProcessed().incrementAndGet();
-      long limitValue = limitFromProtocol;
-      if (limit != null) {
-        limitValue = limit.num.getValue().longValue();
+      if (!request.getResultListener().result(record)) {
+        return false;
       }
-      if (limitValue > -1 && limitValue <= currentCount) {
+      long currentCount = ctx.getResultsProcessed().incrementAndGet();
+      if (isLimitReached(currentCount)) {
         return false;
       }
     }
     return true;
   }
 
+  private boolean isLimitReached(long currentCount) {
+    long limitValue = limitFromProtocol;
+    if (limit != null) {
+      limitValue = limit.num.getValue().longValue();
+    }
+    return limitValue > -1 && limitValue <= currentCount;
+  }
+
   private boolean returnsPathElements() {
     for (OExpression item : returnItems) {
       if (item.toString().equalsIgnoreCase("$pathElements")) {
@@ -1288,6 +1598,11 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
     return false;
   }
 
+  @Override
+  public OCommandCacheDependency getCacheDependency() {
+    return null;
+  }
+
   @Override
   public long getDistributedTimeout() {
     return -1;
@@ -1327,6 +1642,9 @@ public class OMatchStatement extends OStatement implements OCommandExecutor, OIt
     if (limit != null) {
       limit.toString(params, builder);
     }
+    if (parallel) {
+      builder.append(" PARALLEL");
+    }
   }
 
   @Override
@@ -53,5 +53,14 @@ public class ONamedParameter extends OInputParameter {
     return this;
   }
 
+  @Override
+  public Object getValue(Map<Object, Object> params) {
+    if (params == null)
+      return null;
+    if (params.containsKey(paramName))
+      return params.get(paramName);
+    return params.get(paramNumber);
+  }
+
 }
 /* JavaCC - OriginalChecksum=8a00a9cf51a15dd75202f6372257fc1c (do not edit this line) */
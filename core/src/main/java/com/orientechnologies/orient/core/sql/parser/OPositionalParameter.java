@@ -50,5 +50,10 @@ public class OPositionalParameter extends OInputParameter {
     return this;
   }
 
+  @Override
+  public Object getValue(Map<Object, Object> params) {
+    return params == null ? null : params.get(paramNumber);
+  }
+
 }
 /* JavaCC - OriginalChecksum=f73bea7d9b3994a9d4e79d2c330d8ba2 (do not edit this line) */
@@ -0,0 +1,224 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.sql.OCommandExecutorSQLSelect;
+import com.orientechnologies.orient.core.sql.executor.OAggregateStep;
+import com.orientechnologies.orient.core.sql.executor.OExecutionStep;
+import com.orientechnologies.orient.core.sql.executor.OFetchFromClassStep;
+import com.orientechnologies.orient.core.sql.executor.OFetchFromClustersStep;
+import com.orientechnologies.orient.core.sql.executor.OFetchFromIndexStep;
+import com.orientechnologies.orient.core.sql.executor.OFetchFromRidsStep;
+import com.orientechnologies.orient.core.sql.executor.OFilterStep;
+import com.orientechnologies.orient.core.sql.executor.OLimitStep;
+import com.orientechnologies.orient.core.sql.executor.OOrderByStep;
+import com.orientechnologies.orient.core.sql.executor.OProjectionStep;
+import com.orientechnologies.orient.core.sql.executor.OSelectExecutionPlan;
+import com.orientechnologies.orient.core.sql.executor.OSkipStep;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translates a {@link OSelectStatement} into a chain of execution steps:
+ * 
+ * <pre>
+ * FETCH (class, clusters, RIDs or index) -> FILTER -> PROJECT or AGGREGATE -> ORDER BY -> SKIP -> LIMIT
+ * </pre>
+ * 
+ * The statement gives the structure of the plan. Conditions and projections are evaluated with the filter and the projections
+ * compiled by the {@link OCommandExecutorSQLSelect}, that cover all the operators and functions of the language. ORDER BY is
+ * moved before the projections when it sorts on fields that are not projected. The statements that use features not covered by
+ * the steps (LET, UNWIND, LOCK, sub-queries...) are not supported: {@link #isSupported(OSelectStatement)} returns false and the
+ * caller executes them with the legacy executor.
+ */
+public class OSelectExecutionPlanner {
+  private final OSelectStatement statement;
+
+  public OSelectExecutionPlanner(final OSelectStatement statement) {
+    this.statement = statement;
+  }
+
+  /**
+   * @return true if the statement can be executed by the steps of the new executor
+   */
+  public static boolean isSupported(final OSelectStatement statement) {
+    if (statement.letClause != null || statement.unwind != null || statement.lockRecord != null || statement.fetchPlan != null)
+      return false;
+
+    final OFromItem target = statement.target != null ? statement.target.item : null;
+    if (target == null || target.modifier != null)
+      return false;
+    if ((target.rids == null || target.rids.isEmpty()) && target.cluster == null && target.clusterList == null
+        && (target.identifier == null || !target.identifier.isBaseIdentifier() || target.identifier.suffix == null
+            || target.identifier.suffix.identifier == null))
+      return false;
+
+    if ((statement.skip != null && statement.skip.inputParam != null)
+        || (statement.limit != null && statement.limit.inputParam != null))
+      return false;
+
+    if (statement.orderBy != null && statement.orderBy.getItems() != null)
+      for (OOrderByItem item : statement.orderBy.getItems())
+        if (item.modifier != null || item.rid != null || (item.alias == null && item.recordAttr == null))
+          return false;
+
+    return true;
+  }
+
+  /**
+   * Creates the steps. Index lookups are executed here, the other steps are lazy.
+   */
+  public OSelectExecutionPlan createExecutionPlan(final OCommandExecutorSQLSelect select, final OCommandContext ctx) {
+    final List<OPair<String, String>> orderCriteria = getOrderCriteria();
+
+    OExecutionStep step = createFetchStep(orderCriteria, ctx);
+    if (step instanceof OFetchFromClassStep && isScanOrder(orderCriteria))
+      // THE CLASS IS SCANNED IN THE REQUESTED ORDER
+      orderCriteria.clear();
+
+    if (select.getCompiledFilter() != null && select.getCompiledFilter().getRootCondition() != null && !isCoveredByIndex(step, ctx))
+      step = new OFilterStep(step, select.getCompiledFilter(), ctx);
+
+    final long skip = statement.skip != null && statement.skip.num != null ? statement.skip.num.getValue().longValue() : 0;
+    final long limit = statement.limit != null && statement.limit.num != null ? statement.limit.num.getValue().longValue() : -1;
+    // ORDER BY FOLLOWED BY SKIP AND LIMIT KEEPS ONLY THE FIRST RECORDS
+    final int sortedRecords = limit > 0 && skip + limit < Integer.MAX_VALUE ? (int) (skip + limit) : -1;
+
+    final Map<String, Object> projections = select.getProjections();
+    if (select.isAggregate()) {
+      step = new OAggregateStep(step, select, ctx);
+      if (!orderCriteria.isEmpty())
+        step = new OOrderByStep(step, orderCriteria, sortedRecords, ctx);
+    } else if (projections == null || projections.isEmpty()) {
+      if (!orderCriteria.isEmpty())
+        step = new OOrderByStep(step, orderCriteria, sortedRecords, ctx);
+    } else if (projections.containsKey("*") || containsAll(projections, orderCriteria)) {
+      step = new OProjectionStep(step, projections, select, ctx);
+      if (!orderCriteria.isEmpty())
+        step = new OOrderByStep(step, orderCriteria, sortedRecords, ctx);
+    } else {
+      // SORTS ON FIELDS THAT ARE NOT PROJECTED. THE PROJECTION CAN DISCARD RECORDS (DISTINCT), SO ALL OF THEM ARE SORTED
+      if (!orderCriteria.isEmpty())
+        step = new OOrderByStep(step, orderCriteria, -1, ctx);
+      step = new OProjectionStep(step, projections, select, ctx);
+    }
+
+    if (skip > 0)
+      step = new OSkipStep(step, skip, ctx);
+
+    if (limit > -1)
+      step = new OLimitStep(step, limit, ctx);
+
+    return new OSelectExecutionPlan(step);
+  }
+
+  private OExecutionStep createFetchStep(final List<OPair<String, String>> orderCriteria, final OCommandContext ctx) {
+    final ODatabaseDocumentInternal database = ODatabaseRecordThreadLocal.INSTANCE.get();
+    final OFromItem target = statement.target.item;
+
+    if (target.rids != null && !target.rids.isEmpty()) {
+      final List<ORID> rids = new ArrayList<ORID>(target.rids.size());
+      for (ORid rid : target.rids)
+        rids.add(new ORecordId(rid.cluster.getValue().intValue(), rid.position.getValue().longValue()));
+      return new OFetchFromRidsStep(rids, ctx);
+    }
+
+    if (target.cluster != null) {
+      final int clusterId = target.cluster.clusterNumber != null ? target.cluster.clusterNumber
+          : getClusterId(database, target.cluster.clusterName);
+      return new OFetchFromClustersStep(new int[] { clusterId }, ctx);
+    }
+
+    if (target.clusterList != null) {
+      final int[] clusterIds = new int[target.clusterList.clusters.size()];
+      for (int i = 0; i < clusterIds.length; i++)
+        clusterIds[i] = getClusterId(database, target.clusterList.clusters.get(i).getStringValue());
+      return new OFetchFromClustersStep(clusterIds, ctx);
+    }
+
+    final String className = target.identifier.suffix.identifier.getStringValue();
+    final OClass oClass = database.getMetadata().getSchema().getClass(className);
+    if (oClass == null)
+      throw new OCommandExecutionException("Class not found in database schema: " + className);
+
+    if (statement.whereClause != null) {
+      final List<OIndex> usedIndexes = new ArrayList<OIndex>();
+      final Iterable lookup = statement.whereClause.fetchFromIndexes(oClass, ctx, usedIndexes);
+      if (lookup != null)
+        return new OFetchFromIndexStep(oClass, usedIndexes, lookup, className + " WHERE " + statement.whereClause,
+            statement.whereClause.flatten().size() > 1, ctx);
+    }
+
+    final boolean descending = isScanOrder(orderCriteria) && orderCriteria.get(0).getValue().equals(OOrderByItem.DESC);
+    return new OFetchFromClassStep(oClass.getName(), !descending, ctx);
+  }
+
+  /**
+   * @return true if the records fetched from the index chosen for the lookup already match the whole condition, so the filter can
+   *         be skipped like the legacy executor does
+   */
+  private boolean isCoveredByIndex(final OExecutionStep fetchStep, final OCommandContext ctx) {
+    if (!(fetchStep instanceof OFetchFromIndexStep))
+      return false;
+
+    final List<OIndex> indexes = ((OFetchFromIndexStep) fetchStep).getIndexes();
+    return indexes.size() == 1 && statement.whereClause.isCoveredByIndex(indexes.get(0), ctx);
+  }
+
+  private List<OPair<String, String>> getOrderCriteria() {
+    final List<OPair<String, String>> orderCriteria = new ArrayList<OPair<String, String>>();
+    if (statement.orderBy != null && statement.orderBy.getItems() != null)
+      for (OOrderByItem item : statement.orderBy.getItems())
+        orderCriteria.add(new OPair<String, String>(item.alias != null ? item.alias : item.recordAttr, item.getType()));
+    return orderCriteria;
+  }
+
+  /**
+   * @return true if the records are sorted only by RID, that is the order of the class scan
+   */
+  private static boolean isScanOrder(final List<OPair<String, String>> orderCriteria) {
+    return orderCriteria.size() == 1 && orderCriteria.get(0).getKey().equalsIgnoreCase("@rid");
+  }
+
+  private static boolean containsAll(final Map<String, Object> projections, final List<OPair<String, String>> orderCriteria) {
+    for (OPair<String, String> criteria : orderCriteria)
+      if (!projections.containsKey(criteria.getKey()))
+        return false;
+    return true;
+  }
+
+  private static int getClusterId(final ODatabaseDocumentInternal database, final String clusterName) {
+    final int clusterId = database.getClusterIdByName(clusterName);
+    if (clusterId < 0)
+      throw new OCommandExecutionException("Cluster '" + clusterName + "' was not found");
+    return clusterId;
+  }
+}
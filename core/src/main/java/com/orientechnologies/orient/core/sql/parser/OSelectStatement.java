@@ -147,6 +147,24 @@ public class OSelectStatement extends OStatement {
     this.letClause = letClause;
   }
 
+  /**
+   * @return true if all the input parameters of the statement, if any, are in the WHERE condition
+   */
+  public boolean hasParametersInWhereOnly() {
+    return countInputParameters(this) == (whereClause != null ? countInputParameters(whereClause) : 0);
+  }
+
+  private static int countInputParameters(final Node node) {
+    if (node instanceof OPositionalParameter || node instanceof ONamedParameter)
+      return 1;
+
+    int count = 0;
+    for (int i = 0; i < node.jjtGetNumChildren(); i++)
+      if (node.jjtGetChild(i) != null)
+        count += countInputParameters(node.jjtGetChild(i));
+    return count;
+  }
+
   public void toString(Map<Object, Object> params, StringBuilder builder) {
 
     builder.append("SELECT");
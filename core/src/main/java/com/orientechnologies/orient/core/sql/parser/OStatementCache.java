@@ -93,7 +93,7 @@ public class OStatementCache {
    * @return the corresponding executor
    * @throws OCommandSQLParsingException if the input parameter is not a valid SQL statement
    */
-  protected static OStatement parse(String statement) throws OCommandSQLParsingException {
+  public static OStatement parse(String statement) throws OCommandSQLParsingException {
     try {
       final InputStream is = new ByteArrayInputStream(statement.getBytes());
       final OrientSql osql = new OrientSql(is);
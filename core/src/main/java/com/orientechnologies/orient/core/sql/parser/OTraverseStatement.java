@@ -24,6 +24,8 @@ public class OTraverseStatement extends OStatement {
 
   protected OInteger                      maxDepth;
 
+  protected boolean                       parallel    = false;
+
   public OTraverseStatement(int id) {
     super(id);
   }
@@ -75,6 +77,10 @@ public class OTraverseStatement extends OStatement {
       }
     }
 
+    if (parallel) {
+      builder.append(" PARALLEL");
+    }
+
   }
 
 }
@@ -3,11 +3,19 @@
 package com.orientechnologies.orient.core.sql.parser;
 
 import com.orientechnologies.common.collection.OMultiCollectionIterator;
+import com.orientechnologies.common.profiler.OProfiler;
 import com.orientechnologies.common.util.OSizeable;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.collate.OCollate;
+import com.orientechnologies.orient.core.collate.ODefaultCollate;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.index.*;
+import com.orientechnologies.orient.core.index.statistics.OIndexStatistics;
+import com.orientechnologies.orient.core.index.statistics.OIndexStatisticsManager;
 import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.metadata.schema.OType;
 
@@ -107,10 +115,16 @@ public class OWhereClause extends SimpleNode {
       key = new OCompositeKey();
       for (int i = 0; i < nMatchingKeys; i++) {
         Object keyValue = convert(conditions.get(definitionFields.get(i)), definition.getTypes()[i]);
-        ((OCompositeKey) key).addKey(conditions.get(definitionFields.get(i)));
+        ((OCompositeKey) key).addKey(keyValue);
       }
     }
     if (key != null) {
+      // AFTER ANALYZE THE STATISTICS AVOID TO LOAD THE RIDS OF THE KEY
+      final OIndexStatistics statistics = OIndexStatisticsManager.get(ODatabaseRecordThreadLocal.INSTANCE.get())
+          .getStatistics(index);
+      if (statistics != null)
+        return statistics.estimateEquals(key, nMatchingKeys);
+
       Object result = index.get(key);
       if(result instanceof OIdentifiable){
         return 1;
@@ -126,6 +140,14 @@ public class OWhereClause extends SimpleNode {
   }
 
   public Iterable fetchFromIndexes(OClass oClass, OCommandContext ctx) {
+    return fetchFromIndexes(oClass, ctx, null);
+  }
+
+  /**
+   * @param usedIndexes
+   *          if not null, receives the indexes chosen for the lookups, one for each block of conditions in OR
+   */
+  public Iterable fetchFromIndexes(OClass oClass, OCommandContext ctx, List<OIndex> usedIndexes) {
 
     List<OAndBlock> flattenedConditions = flatten();
     if (flattenedConditions == null || flattenedConditions.size() == 0) {
@@ -134,11 +156,13 @@ public class OWhereClause extends SimpleNode {
     Set<OIndex<?>> indexes = oClass.getIndexes();
     List<OIndex> bestIndexes = new ArrayList<OIndex>();
     List<Map<String, Object>> indexConditions = new ArrayList<Map<String, Object>>();
+    List<Map<OIndex, Long>> otherIndexes = new ArrayList<Map<OIndex, Long>>();
     for (OAndBlock condition : flattenedConditions) {
       Map<String, Object> conditions = getEqualityOperations(condition, ctx);
       long conditionEstimation = Long.MAX_VALUE;
       OIndex bestIndex = null;
       Map<String, Object> bestCondition = null;
+      Map<OIndex, Long> estimations = new LinkedHashMap<OIndex, Long>();
 
       for (OIndex index : indexes) {
         List<String> indexedFields = index.getDefinition().getFields();
@@ -150,8 +174,12 @@ public class OWhereClause extends SimpleNode {
             break;
           }
         }
-        if (nMatchingKeys > 0) {
+        // A LOOKUP ON A PART OF A COMPOSITE KEY WOULD NOT FIND ANYTHING
+        if (nMatchingKeys > 0 && nMatchingKeys == indexedFields.size()) {
           long newCount = estimateFromIndex(index, conditions, nMatchingKeys);
+          if (newCount >= 0) {
+            estimations.put(index, newCount);
+          }
           if (newCount >= 0 && newCount <= conditionEstimation) {
             conditionEstimation = newCount;
             bestIndex = index;
@@ -164,17 +192,121 @@ public class OWhereClause extends SimpleNode {
       }
       bestIndexes.add(bestIndex);
       indexConditions.add(bestCondition);
+      estimations.remove(bestIndex);
+      otherIndexes.add(estimations);
     }
     OMultiCollectionIterator result = new OMultiCollectionIterator();
+    if (usedIndexes != null) {
+      usedIndexes.addAll(bestIndexes);
+    }
 
     for (int i = 0; i < bestIndexes.size(); i++) {
       OIndex index = bestIndexes.get(i);
       Map<String, Object> condition = indexConditions.get(i);
-      result.add(fetchFromIndex(index, indexConditions.get(i)));
+      result.add(intersectIndexes(index, condition, otherIndexes.get(i), ctx));
+
+      final OProfiler profiler = Orient.instance().getProfiler();
+      if (profiler.isRecording())
+        profiler.updateCounter(profiler.getDatabaseMetric(index.getDatabaseName(), "query.indexUsed"), "Used index in query", +1);
     }
     return result;
   }
 
+  /**
+   * Intersects the RIDs of the best index with the ones of the other indexes on different fields of the same AND block, from the
+   * most selective one, so only the records that match all the indexed conditions are loaded. An index is used only if it is not
+   * expected to return many more RIDs than the ones found so far, see {@link OGlobalConfiguration#QUERY_INDEX_INTERSECTION_RATIO}.
+   */
+  private Iterable intersectIndexes(OIndex bestIndex, Map<String, Object> conditions, final Map<OIndex, Long> estimations,
+      OCommandContext ctx) {
+    Iterable lookup = fetchFromIndex(bestIndex, conditions);
+    int ratio = OGlobalConfiguration.QUERY_INDEX_INTERSECTION_RATIO.getValueAsInteger();
+    if (lookup == null || ratio <= 0 || estimations.isEmpty()) {
+      return lookup;
+    }
+
+    List<OIndex> others = new ArrayList<OIndex>(estimations.keySet());
+    Collections.sort(others, new Comparator<OIndex>() {
+      @Override
+      public int compare(OIndex o1, OIndex o2) {
+        return estimations.get(o1).compareTo(estimations.get(o2));
+      }
+    });
+
+    Set<String> usedFields = new HashSet<String>(bestIndex.getDefinition().getFields());
+    List<String> indexNames = new ArrayList<String>();
+    indexNames.add(bestIndex.getName());
+    OIndexIntersection intersection = null;
+    for (OIndex index : others) {
+      List<String> fields = index.getDefinition().getFields();
+      if (!Collections.disjoint(usedFields, fields)) {
+        continue;
+      }
+      if (intersection == null) {
+        intersection = new OIndexIntersection(lookup.iterator());
+      }
+      long maxRids = (long) intersection.size() * ratio;
+      if (intersection.size() <= 1 || estimations.get(index) > maxRids) {
+        break;
+      }
+
+      Iterable other = fetchFromIndex(index, conditions);
+      if (other != null && intersection.intersect(other.iterator(), maxRids)) {
+        usedFields.addAll(fields);
+        indexNames.add(index.getName());
+      }
+    }
+
+    if (intersection == null) {
+      return lookup;
+    }
+    if (indexNames.size() > 1 && ctx != null && ctx.isRecordingMetrics()) {
+      ctx.setVariable("indexIntersection", indexNames);
+    }
+    return intersection.getRids();
+  }
+
+  /**
+   * Tells if the records returned by a lookup on the passed index need no further check: the condition is made only of equalities
+   * on all the fields of the index, none of them is against null, and the index keys are the plain values of the fields.
+   */
+  public boolean isCoveredByIndex(OIndex index, OCommandContext ctx) {
+    List<OAndBlock> flattenedConditions = flatten();
+    if (flattenedConditions == null || flattenedConditions.size() != 1) {
+      return false;
+    }
+    OAndBlock condition = flattenedConditions.get(0);
+    Map<String, Object> conditions = getEqualityOperations(condition, ctx);
+    if (conditions.size() != condition.subBlocks.size() || conditions.containsValue(null)) {
+      return false;
+    }
+    List<String> indexedFields = index.getDefinition().getFields();
+    return indexedFields.size() == conditions.size() && conditions.keySet().containsAll(indexedFields) && isExactIndex(index);
+  }
+
+  /**
+   * @return true if a lookup by key returns only the records with exactly the values of the key: FULLTEXT indexes, indexes on the
+   *         items of collections and indexes with a collate other than the default one can return other records
+   */
+  private static boolean isExactIndex(OIndex index) {
+    if (!index.getInternal().canBeUsedInEqualityOperators()) {
+      return false;
+    }
+    OIndexDefinition definition = index.getDefinition();
+    if (definition instanceof OCompositeIndexDefinition) {
+      if (((OCompositeIndexDefinition) definition).getMultiValueDefinition() != null) {
+        return false;
+      }
+      for (OCollate collate : ((OCompositeCollate) definition.getCollate()).getCollates()) {
+        if (!ODefaultCollate.NAME.equals(collate.getName())) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return definition.getClass() == OPropertyIndexDefinition.class && ODefaultCollate.NAME.equals(definition.getCollate().getName());
+  }
+
   private Iterable fetchFromIndex(OIndex index, Map<String, Object> conditions) {
     OIndexDefinition definition = index.getDefinition();
     List<String> definitionFields = definition.getFields();
@@ -189,7 +321,7 @@ public class OWhereClause extends SimpleNode {
           break;
         }
         Object keyValue = convert(conditions.get(keyName), definition.getTypes()[i]);
-        ((OCompositeKey) key).addKey(conditions.get(keyName));
+        ((OCompositeKey) key).addKey(keyValue);
       }
     }
     if (key != null) {
@@ -1606,6 +1606,15 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jj_la1[47] = jj_gen;
         ;
       }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case PARALLEL:
+        jj_consume_token(PARALLEL);
+                       jjtn000.parallel = true;
+        break;
+      default:
+        jj_la1[48] = jj_gen;
+        ;
+      }
       jjtree.closeNodeScope(jjtn000, true);
       jjtc000 = false;
       jjtn000.jjtSetLastToken(getToken(0));
@@ -1652,7 +1661,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           ;
           break;
         default:
-          jj_la1[48] = jj_gen;
+          jj_la1[49] = jj_gen;
           break label_3;
         }
         jj_consume_token(COMMA);
@@ -1668,7 +1677,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         lastReturnAlias = Identifier();
         break;
       default:
-        jj_la1[49] = jj_gen;
+        jj_la1[50] = jj_gen;
         ;
       }
             jjtn000.returnAliases.add(lastReturnAlias);
@@ -1680,7 +1689,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           ;
           break;
         default:
-          jj_la1[50] = jj_gen;
+          jj_la1[51] = jj_gen;
           break label_4;
         }
         jj_consume_token(COMMA);
@@ -1692,7 +1701,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           lastReturnAlias = Identifier();
           break;
         default:
-          jj_la1[51] = jj_gen;
+          jj_la1[52] = jj_gen;
           ;
         }
                 jjtn000.returnAliases.add(lastReturnAlias);
@@ -1703,7 +1712,16 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[52] = jj_gen;
+        jj_la1[53] = jj_gen;
+        ;
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case PARALLEL:
+        jj_consume_token(PARALLEL);
+                       jjtn000.parallel = true;
+        break;
+      default:
+        jj_la1[54] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -1750,7 +1768,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                               jjtn000.returnBefore = true;
         break;
       default:
-        jj_la1[53] = jj_gen;
+        jj_la1[55] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1759,7 +1777,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[54] = jj_gen;
+        jj_la1[56] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1767,7 +1785,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[55] = jj_gen;
+        jj_la1[57] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1776,7 +1794,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[56] = jj_gen;
+        jj_la1[58] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -1821,7 +1839,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                   jjtn000.from = true;
         break;
       default:
-        jj_la1[57] = jj_gen;
+        jj_la1[59] = jj_gen;
         ;
       }
       jjtn000.fromClause = FromClause();
@@ -1832,7 +1850,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                               jjtn000.returnBefore = true;
         break;
       default:
-        jj_la1[58] = jj_gen;
+        jj_la1[60] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1841,7 +1859,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[59] = jj_gen;
+        jj_la1[61] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1849,7 +1867,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[60] = jj_gen;
+        jj_la1[62] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1857,7 +1875,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[61] = jj_gen;
+        jj_la1[63] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -1966,7 +1984,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
               ;
               break;
             default:
-              jj_la1[62] = jj_gen;
+              jj_la1[64] = jj_gen;
               break label_5;
             }
             jj_consume_token(COMMA);
@@ -1975,13 +1993,13 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           }
           break;
         default:
-          jj_la1[63] = jj_gen;
+          jj_la1[65] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[64] = jj_gen;
+        jj_la1[66] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1990,7 +2008,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[65] = jj_gen;
+        jj_la1[67] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -2127,7 +2145,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.className = Identifier();
         break;
       default:
-        jj_la1[66] = jj_gen;
+        jj_la1[68] = jj_gen;
         ;
       }
       jj_consume_token(FROM);
@@ -2153,7 +2171,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
               ;
               break;
             default:
-              jj_la1[67] = jj_gen;
+              jj_la1[69] = jj_gen;
               break label_6;
             }
             jj_consume_token(COMMA);
@@ -2162,7 +2180,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           }
           break;
         default:
-          jj_la1[68] = jj_gen;
+          jj_la1[70] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
@@ -2280,7 +2298,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.leftIdentifier = Identifier();
         break;
       default:
-        jj_la1[69] = jj_gen;
+        jj_la1[71] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2309,7 +2327,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                 ;
                 break;
               default:
-                jj_la1[70] = jj_gen;
+                jj_la1[72] = jj_gen;
                 break label_7;
               }
               jj_consume_token(COMMA);
@@ -2318,7 +2336,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
             }
             break;
           default:
-            jj_la1[71] = jj_gen;
+            jj_la1[73] = jj_gen;
             ;
           }
           jj_consume_token(RBRACKET);
@@ -2436,13 +2454,13 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           jjtn000.rightIdentifier = Identifier();
           break;
         default:
-          jj_la1[72] = jj_gen;
+          jj_la1[74] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[73] = jj_gen;
+        jj_la1[75] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2451,7 +2469,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[74] = jj_gen;
+        jj_la1[76] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2459,7 +2477,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[75] = jj_gen;
+        jj_la1[77] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2467,7 +2485,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[76] = jj_gen;
+        jj_la1[78] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -2530,7 +2548,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
               ;
               break;
             default:
-              jj_la1[77] = jj_gen;
+              jj_la1[79] = jj_gen;
               break label_8;
             }
             jj_consume_token(COMMA);
@@ -2539,7 +2557,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           }
           break;
         default:
-          jj_la1[78] = jj_gen;
+          jj_la1[80] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
@@ -2657,7 +2675,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.rightIdentifier = Identifier();
         break;
       default:
-        jj_la1[79] = jj_gen;
+        jj_la1[81] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2667,7 +2685,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[80] = jj_gen;
+        jj_la1[82] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2675,7 +2693,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[81] = jj_gen;
+        jj_la1[83] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2683,7 +2701,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[82] = jj_gen;
+        jj_la1[84] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -2745,7 +2763,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
               ;
               break;
             default:
-              jj_la1[83] = jj_gen;
+              jj_la1[85] = jj_gen;
               break label_9;
             }
             jj_consume_token(COMMA);
@@ -2754,7 +2772,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           }
           break;
         default:
-          jj_la1[84] = jj_gen;
+          jj_la1[86] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
@@ -2872,7 +2890,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.rightIdentifier = Identifier();
         break;
       default:
-        jj_la1[85] = jj_gen;
+        jj_la1[87] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -2882,7 +2900,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[86] = jj_gen;
+        jj_la1[88] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2890,7 +2908,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[87] = jj_gen;
+        jj_la1[89] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -2898,7 +2916,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[88] = jj_gen;
+        jj_la1[90] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -3035,7 +3053,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.className = Identifier();
         break;
       default:
-        jj_la1[89] = jj_gen;
+        jj_la1[91] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3044,7 +3062,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[90] = jj_gen;
+        jj_la1[92] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3052,7 +3070,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[91] = jj_gen;
+        jj_la1[93] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3060,7 +3078,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[92] = jj_gen;
+        jj_la1[94] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -3116,7 +3134,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           ;
           break;
         default:
-          jj_la1[93] = jj_gen;
+          jj_la1[95] = jj_gen;
           break label_10;
         }
       }
@@ -3126,7 +3144,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                      jjtn000.upsert = true;
         break;
       default:
-        jj_la1[94] = jj_gen;
+        jj_la1[96] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3142,7 +3160,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                                                                         jjtn000.returnAfter = true;
           break;
         default:
-          jj_la1[95] = jj_gen;
+          jj_la1[97] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3261,12 +3279,12 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           jjtn000.returnProjection = Projection();
           break;
         default:
-          jj_la1[96] = jj_gen;
+          jj_la1[98] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[97] = jj_gen;
+        jj_la1[99] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3275,7 +3293,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[98] = jj_gen;
+        jj_la1[100] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3299,13 +3317,13 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                         jjtn000.lockRecord = com.orientechnologies.orient.core.storage.OStorage.LOCKING_STRATEGY.DEFAULT;
           break;
         default:
-          jj_la1[99] = jj_gen;
+          jj_la1[101] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[100] = jj_gen;
+        jj_la1[102] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3313,7 +3331,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[101] = jj_gen;
+        jj_la1[103] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3321,7 +3339,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.timeout = Timeout();
         break;
       default:
-        jj_la1[102] = jj_gen;
+        jj_la1[104] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -3376,7 +3394,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           ;
           break;
         default:
-          jj_la1[103] = jj_gen;
+          jj_la1[105] = jj_gen;
           break label_11;
         }
       }
@@ -3386,7 +3404,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                      jjtn000.upsert = true;
         break;
       default:
-        jj_la1[104] = jj_gen;
+        jj_la1[106] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3406,7 +3424,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                                                                                                               jjtn000.returnCount = true;
           break;
         default:
-          jj_la1[105] = jj_gen;
+          jj_la1[107] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3525,12 +3543,12 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           jjtn000.returnProjection = Projection();
           break;
         default:
-          jj_la1[106] = jj_gen;
+          jj_la1[108] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[107] = jj_gen;
+        jj_la1[109] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3538,7 +3556,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.let = LetClause();
         break;
       default:
-        jj_la1[108] = jj_gen;
+        jj_la1[110] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3547,7 +3565,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.whereClause = WhereClause();
         break;
       default:
-        jj_la1[109] = jj_gen;
+        jj_la1[111] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3571,13 +3589,13 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                             jjtn000.lockRecord = com.orientechnologies.orient.core.storage.OStorage.LOCKING_STRATEGY.DEFAULT;
           break;
         default:
-          jj_la1[110] = jj_gen;
+          jj_la1[112] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[111] = jj_gen;
+        jj_la1[113] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3585,7 +3603,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.limit = Limit();
         break;
       default:
-        jj_la1[112] = jj_gen;
+        jj_la1[114] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3593,7 +3611,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.timeout = Timeout();
         break;
       default:
-        jj_la1[113] = jj_gen;
+        jj_la1[115] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -3646,7 +3664,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
             ;
             break;
           default:
-            jj_la1[114] = jj_gen;
+            jj_la1[116] = jj_gen;
             break label_12;
           }
           jj_consume_token(COMMA);
@@ -3666,7 +3684,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
             ;
             break;
           default:
-            jj_la1[115] = jj_gen;
+            jj_la1[117] = jj_gen;
             break label_13;
           }
           jj_consume_token(COMMA);
@@ -3686,7 +3704,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                             jjtn000.type = OUpdateOperations.TYPE_CONTENT;
           break;
         default:
-          jj_la1[116] = jj_gen;
+          jj_la1[118] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3704,7 +3722,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                         jjtn000.type = OUpdateOperations.TYPE_ADD;
           break;
         default:
-          jj_la1[117] = jj_gen;
+          jj_la1[119] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -3717,7 +3735,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
             ;
             break;
           default:
-            jj_la1[118] = jj_gen;
+            jj_la1[120] = jj_gen;
             break label_14;
           }
           jj_consume_token(COMMA);
@@ -3737,7 +3755,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
             ;
             break;
           default:
-            jj_la1[119] = jj_gen;
+            jj_la1[121] = jj_gen;
             break label_15;
           }
           jj_consume_token(COMMA);
@@ -3746,7 +3764,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         }
         break;
       default:
-        jj_la1[120] = jj_gen;
+        jj_la1[122] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3791,7 +3809,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.leftModifier = Modifier();
         break;
       default:
-        jj_la1[121] = jj_gen;
+        jj_la1[123] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3816,7 +3834,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                         jjtn000.operator = OUpdateItem.OPERATOR_SLASHASSIGN;
         break;
       default:
-        jj_la1[122] = jj_gen;
+        jj_la1[124] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -3862,7 +3880,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.leftModifier = Modifier();
         break;
       default:
-        jj_la1[123] = jj_gen;
+        jj_la1[125] = jj_gen;
         ;
       }
       jj_consume_token(EQ);
@@ -3908,7 +3926,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.leftModifier = Modifier();
         break;
       default:
-        jj_la1[124] = jj_gen;
+        jj_la1[126] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -3917,7 +3935,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.right = Expression();
         break;
       default:
-        jj_la1[125] = jj_gen;
+        jj_la1[127] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -4137,7 +4155,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
             jjtn000.targetClusterName = Identifier();
             break;
           default:
-            jj_la1[126] = jj_gen;
+            jj_la1[128] = jj_gen;
             ;
           }
           break;
@@ -4146,7 +4164,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           jjtn000.targetCluster = Cluster();
           break;
         default:
-          jj_la1[127] = jj_gen;
+          jj_la1[129] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -4162,7 +4180,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.returnStatement = Projection();
         break;
       default:
-        jj_la1[128] = jj_gen;
+        jj_la1[130] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4175,7 +4193,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                    jjtn000.selectWithFrom = true;
           break;
         default:
-          jj_la1[129] = jj_gen;
+          jj_la1[131] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4183,7 +4201,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           jjtn000.selectStatement = SelectStatement();
           break;
         default:
-          jj_la1[130] = jj_gen;
+          jj_la1[132] = jj_gen;
           if (jj_2_57(2)) {
             jj_consume_token(LPAREN);
             jjtn000.selectStatement = SelectStatement();
@@ -4196,7 +4214,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         }
         break;
       default:
-        jj_la1[131] = jj_gen;
+        jj_la1[133] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4205,7 +4223,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
                  jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[132] = jj_gen;
+        jj_la1[134] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -4256,7 +4274,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
             ;
             break;
           default:
-            jj_la1[133] = jj_gen;
+            jj_la1[135] = jj_gen;
             break label_16;
           }
           jj_consume_token(COMMA);
@@ -4278,7 +4296,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
             ;
             break;
           default:
-            jj_la1[134] = jj_gen;
+            jj_la1[136] = jj_gen;
             break label_17;
           }
           jj_consume_token(COMMA);
@@ -4293,7 +4311,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
             ;
             break;
           default:
-            jj_la1[135] = jj_gen;
+            jj_la1[137] = jj_gen;
             break label_18;
           }
           jj_consume_token(COMMA);
@@ -4309,7 +4327,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
               ;
               break;
             default:
-              jj_la1[136] = jj_gen;
+              jj_la1[138] = jj_gen;
               break label_19;
             }
             jj_consume_token(COMMA);
@@ -4333,7 +4351,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
             ;
             break;
           default:
-            jj_la1[137] = jj_gen;
+            jj_la1[139] = jj_gen;
             break label_20;
           }
           jj_consume_token(COMMA);
@@ -4350,7 +4368,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           jjtn000.content = Json();
           break;
         default:
-          jj_la1[138] = jj_gen;
+          jj_la1[140] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -4420,7 +4438,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.targetClusterName = Identifier();
         break;
       default:
-        jj_la1[139] = jj_gen;
+        jj_la1[141] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -4467,7 +4485,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           jjtn000.targetClusterName = Identifier();
           break;
         default:
-          jj_la1[140] = jj_gen;
+          jj_la1[142] = jj_gen;
           ;
         }
       } else if (jj_2_61(2147483647)) {
@@ -4482,7 +4500,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.returnStatement = Projection();
         break;
       default:
-        jj_la1[141] = jj_gen;
+        jj_la1[143] = jj_gen;
         ;
       }
       if (jj_2_62(2147483647)) {
@@ -4665,12 +4683,12 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
           jjtn000.targetClusterName = Identifier();
           break;
         default:
-          jj_la1[142] = jj_gen;
+          jj_la1[144] = jj_gen;
           ;
         }
         break;
       default:
-        jj_la1[143] = jj_gen;
+        jj_la1[145] = jj_gen;
         ;
       }
       jj_consume_token(FROM);
@@ -4684,7 +4702,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.body = InsertBody();
         break;
       default:
-        jj_la1[144] = jj_gen;
+        jj_la1[146] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4692,7 +4710,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.retry = Retry();
         break;
       default:
-        jj_la1[145] = jj_gen;
+        jj_la1[147] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4700,7 +4718,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.wait = Wait();
         break;
       default:
-        jj_la1[146] = jj_gen;
+        jj_la1[148] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -4708,7 +4726,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         jjtn000.batch = Batch();
         break;
       default:
-        jj_la1[147] = jj_gen;
+        jj_la1[149] = jj_gen;
         ;
       }
     jjtree.closeNodeScope(jjtn000, true);
@@ -4753,7 +4771,7 @@ public class OrientSql/*@bgen(jjtree)*/implements OrientSqlTreeConstants, Orient
         result = NamedParameter();
         break;
       default:
-        jj_la1[148] = jj_gen;
+        jj_la1[150] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4923,7 +4941,7 @@ Token token;
                              jjtn000.paramName = token.image;
         break;
       default:
-        jj_la1[149] = jj_gen;
+        jj_la1[151] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -4973,7 +4991,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[150] = jj_gen;
+          jj_la1[152] = jj_gen;
           break label_21;
         }
         jj_consume_token(COMMA);
@@ -5022,7 +5040,7 @@ Token token;
         jjtn000.alias = Alias();
         break;
       default:
-        jj_la1[151] = jj_gen;
+        jj_la1[153] = jj_gen;
         ;
       }
    jjtree.closeNodeScope(jjtn000, true);
@@ -5155,7 +5173,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[152] = jj_gen;
+          jj_la1[154] = jj_gen;
           break label_22;
         }
         jj_consume_token(COMMA);
@@ -5209,13 +5227,13 @@ Token token;
                                                                                 jjtn000.newRange = true;
           break;
         default:
-          jj_la1[153] = jj_gen;
+          jj_la1[155] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[154] = jj_gen;
+        jj_la1[156] = jj_gen;
         ;
       }
       jjtn000.toSelector = ArrayNumberSelector();
@@ -5433,7 +5451,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[155] = jj_gen;
+            jj_la1[157] = jj_gen;
             break label_23;
           }
           jj_consume_token(COMMA);
@@ -5442,7 +5460,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[156] = jj_gen;
+        jj_la1[158] = jj_gen;
         ;
       }
       jj_consume_token(RPAREN);
@@ -5604,7 +5622,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[157] = jj_gen;
+            jj_la1[159] = jj_gen;
             break label_24;
           }
           jj_consume_token(COMMA);
@@ -5613,7 +5631,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[158] = jj_gen;
+        jj_la1[160] = jj_gen;
         ;
       }
       jj_consume_token(RPAREN);
@@ -5660,7 +5678,7 @@ Token token;
                  jjtn000.self = true;
           break;
         default:
-          jj_la1[159] = jj_gen;
+          jj_la1[161] = jj_gen;
           if (jj_2_69(2147483647)) {
             jjtn000.collection = Collection();
           } else {
@@ -5714,7 +5732,7 @@ Token token;
                    jjtn000.star = true;
           break;
         default:
-          jj_la1[160] = jj_gen;
+          jj_la1[162] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -5812,7 +5830,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[161] = jj_gen;
+        jj_la1[163] = jj_gen;
         if (jj_2_77(2147483647)) {
           jjtn000.methodCall = MethodCall();
         } else {
@@ -5822,7 +5840,7 @@ Token token;
             jjtn000.suffix = SuffixIdentifier();
             break;
           default:
-            jj_la1[162] = jj_gen;
+            jj_la1[164] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -5873,7 +5891,7 @@ Token token;
                 jjtn000.value = null;
         break;
       default:
-        jj_la1[163] = jj_gen;
+        jj_la1[165] = jj_gen;
         if (jj_2_79(2147483647)) {
           jjtn000.value = Rid();
         } else if (jj_2_80(2147483647)) {
@@ -5892,7 +5910,7 @@ Token token;
                  jjtn000.value = false;
             break;
           default:
-            jj_la1[164] = jj_gen;
+            jj_la1[166] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -5952,7 +5970,7 @@ Token token;
                                                                                                                jjtn000.operators.add(OMathExpression.Operator.MINUS);
           break;
         default:
-          jj_la1[165] = jj_gen;
+          jj_la1[167] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6021,7 +6039,7 @@ Token token;
                         jjtn000.operators.add( OMathExpression.Operator.REM);
           break;
         default:
-          jj_la1[166] = jj_gen;
+          jj_la1[168] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6230,7 +6248,7 @@ Token token;
           jjtn000.statement = InsertStatement();
           break;
         default:
-          jj_la1[167] = jj_gen;
+          jj_la1[169] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6402,7 +6420,7 @@ Token token;
                                               jjtn000.string = token.image;
           break;
         default:
-          jj_la1[168] = jj_gen;
+          jj_la1[170] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6413,7 +6431,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[169] = jj_gen;
+        jj_la1[171] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -6496,7 +6514,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[170] = jj_gen;
+          jj_la1[172] = jj_gen;
           break label_27;
         }
         jj_consume_token(COMMA);
@@ -6549,7 +6567,7 @@ Token token;
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[171] = jj_gen;
+          jj_la1[173] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -6619,7 +6637,7 @@ Token token;
         jjtn000.clusterList = ClusterList();
         break;
       default:
-        jj_la1[172] = jj_gen;
+        jj_la1[174] = jj_gen;
         if (jj_2_91(2147483647)) {
           jjtn000.index = IndexIdentifier();
         } else {
@@ -6742,7 +6760,7 @@ Token token;
             }
             break;
           default:
-            jj_la1[173] = jj_gen;
+            jj_la1[175] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -6792,7 +6810,7 @@ Token token;
                                                  jjtn000.clusterNumber = Integer.parseInt(cName.image.split(":")[1]);
         break;
       default:
-        jj_la1[174] = jj_gen;
+        jj_la1[176] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -6923,7 +6941,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[175] = jj_gen;
+            jj_la1[177] = jj_gen;
             break label_28;
           }
           jj_consume_token(COMMA);
@@ -6932,7 +6950,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[176] = jj_gen;
+        jj_la1[178] = jj_gen;
         ;
       }
       jj_consume_token(RBRACKET);
@@ -7000,7 +7018,7 @@ Token token;
                              builder.append("__@recordmap@___");
         break;
       default:
-        jj_la1[177] = jj_gen;
+        jj_la1[179] = jj_gen;
         ;
       }
       lastIdentifier = Identifier();
@@ -7013,7 +7031,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[178] = jj_gen;
+          jj_la1[180] = jj_gen;
           break label_29;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -7026,7 +7044,7 @@ Token token;
                       builder.append("-");
           break;
         default:
-          jj_la1[179] = jj_gen;
+          jj_la1[181] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -7091,14 +7109,14 @@ Token token;
                                                        jjtn000.type = OIndexIdentifier.Type.VALUESDESC;
           break;
         default:
-          jj_la1[180] = jj_gen;
+          jj_la1[182] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
                 jjtn000.indexNameString = token.image.split(":")[1];
         break;
       default:
-        jj_la1[181] = jj_gen;
+        jj_la1[183] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7180,7 +7198,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[182] = jj_gen;
+          jj_la1[184] = jj_gen;
           break label_30;
         }
         jj_consume_token(OR);
@@ -7230,7 +7248,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[183] = jj_gen;
+          jj_la1[185] = jj_gen;
           break label_31;
         }
         jj_consume_token(AND);
@@ -7405,7 +7423,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[184] = jj_gen;
+        jj_la1[186] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7521,7 +7539,7 @@ Token token;
               result = OBooleanExpression.FALSE;
           break;
         default:
-          jj_la1[185] = jj_gen;
+          jj_la1[187] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -7602,7 +7620,7 @@ Token token;
         result = ScAndOperator();
         break;
       default:
-        jj_la1[186] = jj_gen;
+        jj_la1[188] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -7923,7 +7941,7 @@ Token token;
                  jjtn000.doubleEquals = true;
         break;
       default:
-        jj_la1[187] = jj_gen;
+        jj_la1[189] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8138,7 +8156,7 @@ Token token;
                                                  jjtn000.rightString = token.image;
         break;
       default:
-        jj_la1[188] = jj_gen;
+        jj_la1[190] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -8317,7 +8335,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[189] = jj_gen;
+              jj_la1[191] = jj_gen;
               break label_32;
             }
             jj_consume_token(COMMA);
@@ -8326,7 +8344,7 @@ Token token;
           }
           break;
         default:
-          jj_la1[190] = jj_gen;
+          jj_la1[192] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
@@ -8456,7 +8474,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[191] = jj_gen;
+              jj_la1[193] = jj_gen;
               break label_33;
             }
             jj_consume_token(COMMA);
@@ -8465,7 +8483,7 @@ Token token;
           }
           break;
         default:
-          jj_la1[192] = jj_gen;
+          jj_la1[194] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
@@ -8592,7 +8610,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[193] = jj_gen;
+              jj_la1[195] = jj_gen;
               break label_34;
             }
             jj_consume_token(COMMA);
@@ -8601,13 +8619,13 @@ Token token;
           }
           break;
         default:
-          jj_la1[194] = jj_gen;
+          jj_la1[196] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[195] = jj_gen;
+        jj_la1[197] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9022,7 +9040,7 @@ Token token;
           jjtn000.rightMathExpression = MathExpression();
           break;
         default:
-          jj_la1[196] = jj_gen;
+          jj_la1[198] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -9183,7 +9201,7 @@ Token token;
           jjtn000.rightMathExpression = MathExpression();
           break;
         default:
-          jj_la1[197] = jj_gen;
+          jj_la1[199] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -9321,7 +9339,7 @@ Token token;
         jjtn000.rightParam = InputParameter();
         break;
       default:
-        jj_la1[198] = jj_gen;
+        jj_la1[200] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9571,7 +9589,7 @@ Token token;
                                                        lastItem.modifier = lastModifier;
             break;
           default:
-            jj_la1[199] = jj_gen;
+            jj_la1[201] = jj_gen;
             ;
           }
           break;
@@ -9585,7 +9603,7 @@ Token token;
                                                      lastItem.recordAttr = lastToken.image;
           break;
         default:
-          jj_la1[200] = jj_gen;
+          jj_la1[202] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -9602,13 +9620,13 @@ Token token;
                                                                       lastItem.type = OOrderByItem.ASC;
             break;
           default:
-            jj_la1[201] = jj_gen;
+            jj_la1[203] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[202] = jj_gen;
+          jj_la1[204] = jj_gen;
           ;
         }
         break;
@@ -9720,7 +9738,7 @@ Token token;
                                                        lastItem.modifier = lastModifier;
             break;
           default:
-            jj_la1[203] = jj_gen;
+            jj_la1[205] = jj_gen;
             ;
           }
           break;
@@ -9734,7 +9752,7 @@ Token token;
                                                      lastItem.recordAttr = lastToken.image;
           break;
         default:
-          jj_la1[204] = jj_gen;
+          jj_la1[206] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -9751,19 +9769,19 @@ Token token;
                                                                       lastItem.type = OOrderByItem.ASC;
             break;
           default:
-            jj_la1[205] = jj_gen;
+            jj_la1[207] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[206] = jj_gen;
+          jj_la1[208] = jj_gen;
           ;
         }
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[207] = jj_gen;
+        jj_la1[209] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -9774,7 +9792,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[208] = jj_gen;
+          jj_la1[210] = jj_gen;
           break label_35;
         }
         jj_consume_token(COMMA);
@@ -9983,7 +10001,7 @@ Token token;
                                                            lastItem.modifier = lastModifier;
               break;
             default:
-              jj_la1[209] = jj_gen;
+              jj_la1[211] = jj_gen;
               ;
             }
             break;
@@ -9997,7 +10015,7 @@ Token token;
                                                          lastItem.recordAttr = lastToken.image;
             break;
           default:
-            jj_la1[210] = jj_gen;
+            jj_la1[212] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -10014,13 +10032,13 @@ Token token;
                                                                           lastItem.type = OOrderByItem.ASC;
               break;
             default:
-              jj_la1[211] = jj_gen;
+              jj_la1[213] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[212] = jj_gen;
+            jj_la1[214] = jj_gen;
             ;
           }
           break;
@@ -10132,7 +10150,7 @@ Token token;
                                                            lastItem.modifier = lastModifier;
               break;
             default:
-              jj_la1[213] = jj_gen;
+              jj_la1[215] = jj_gen;
               ;
             }
             break;
@@ -10146,7 +10164,7 @@ Token token;
                                                          lastItem.recordAttr = lastToken.image;
             break;
           default:
-            jj_la1[214] = jj_gen;
+            jj_la1[216] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -10163,19 +10181,19 @@ Token token;
                                                                           lastItem.type = OOrderByItem.ASC;
               break;
             default:
-              jj_la1[215] = jj_gen;
+              jj_la1[217] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[216] = jj_gen;
+            jj_la1[218] = jj_gen;
             ;
           }
           jj_consume_token(RPAREN);
           break;
         default:
-          jj_la1[217] = jj_gen;
+          jj_la1[219] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10225,7 +10243,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[218] = jj_gen;
+          jj_la1[220] = jj_gen;
           break label_36;
         }
         jj_consume_token(COMMA);
@@ -10276,7 +10294,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[219] = jj_gen;
+          jj_la1[221] = jj_gen;
           break label_37;
         }
         jj_consume_token(COMMA);
@@ -10328,7 +10346,7 @@ Token token;
         jjtn000.inputParam = InputParameter();
         break;
       default:
-        jj_la1[220] = jj_gen;
+        jj_la1[222] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -10379,7 +10397,7 @@ Token token;
           jjtn000.inputParam = InputParameter();
           break;
         default:
-          jj_la1[221] = jj_gen;
+          jj_la1[223] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -10396,13 +10414,13 @@ Token token;
           jjtn000.inputParam = InputParameter();
           break;
         default:
-          jj_la1[222] = jj_gen;
+          jj_la1[224] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[223] = jj_gen;
+        jj_la1[225] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -10451,7 +10469,7 @@ Token token;
         jjtn000.inputParam = InputParameter();
         break;
       default:
-        jj_la1[224] = jj_gen;
+        jj_la1[226] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -10505,13 +10523,13 @@ Token token;
                                 jjtn000.failureStrategy = OTimeout.EXCEPTION;
           break;
         default:
-          jj_la1[225] = jj_gen;
+          jj_la1[227] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[226] = jj_gen;
+        jj_la1[228] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -10742,7 +10760,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[227] = jj_gen;
+            jj_la1[229] = jj_gen;
             break label_38;
           }
           jj_consume_token(COMMA);
@@ -10751,7 +10769,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[228] = jj_gen;
+        jj_la1[230] = jj_gen;
         ;
       }
       jj_consume_token(RBRACKET);
@@ -10894,7 +10912,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[229] = jj_gen;
+          jj_la1[231] = jj_gen;
           break label_39;
         }
         lastItem = FetchPlanItem();
@@ -11048,14 +11066,14 @@ Token token;
                              jjtn000.leftStar = true;
             break;
           default:
-            jj_la1[230] = jj_gen;
+            jj_la1[232] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           jj_consume_token(RBRACKET);
           break;
         default:
-          jj_la1[231] = jj_gen;
+          jj_la1[233] = jj_gen;
           ;
         }
         lastIdentifier = Identifier();
@@ -11066,7 +11084,7 @@ Token token;
                                                                              lastStarred = true;
           break;
         default:
-          jj_la1[232] = jj_gen;
+          jj_la1[234] = jj_gen;
           ;
         }
                 String field = lastIdentifier.getValue();
@@ -11081,7 +11099,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[233] = jj_gen;
+            jj_la1[235] = jj_gen;
             break label_40;
           }
           jj_consume_token(DOT);
@@ -11093,7 +11111,7 @@ Token token;
                                                                                         lastStarred = true;
             break;
           default:
-            jj_la1[234] = jj_gen;
+            jj_la1[236] = jj_gen;
             ;
           }
                      field = lastIdentifier.getValue();
@@ -11104,7 +11122,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[235] = jj_gen;
+        jj_la1[237] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -11395,7 +11413,7 @@ Token token;
                                               lastItem.leftString = token.image.substring(1, token.image.length() - 1);
           break;
         default:
-          jj_la1[236] = jj_gen;
+          jj_la1[238] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -11409,7 +11427,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[237] = jj_gen;
+            jj_la1[239] = jj_gen;
             break label_41;
           }
           jj_consume_token(COMMA);
@@ -11524,7 +11542,7 @@ Token token;
                                                   lastItem.leftString = token.image.substring(1, token.image.length() - 1);
             break;
           default:
-            jj_la1[238] = jj_gen;
+            jj_la1[240] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -11534,7 +11552,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[239] = jj_gen;
+        jj_la1[241] = jj_gen;
         ;
       }
       jj_consume_token(RBRACE);
@@ -11583,7 +11601,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[240] = jj_gen;
+          jj_la1[242] = jj_gen;
           break label_42;
         }
         if (jj_2_122(3)) {
@@ -11600,7 +11618,7 @@ Token token;
             nextItem = InPathItem();
             break;
           default:
-            jj_la1[241] = jj_gen;
+            jj_la1[243] = jj_gen;
             if (jj_2_126(2147483647)) {
               nextItem = BothPathItem();
             } else {
@@ -11651,7 +11669,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[242] = jj_gen;
+        jj_la1[244] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -11694,7 +11712,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[243] = jj_gen;
+        jj_la1[245] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -11751,7 +11769,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[244] = jj_gen;
+        jj_la1[246] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -11817,7 +11835,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[245] = jj_gen;
+          jj_la1[247] = jj_gen;
           break label_44;
         }
       }
@@ -11827,7 +11845,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[246] = jj_gen;
+        jj_la1[248] = jj_gen;
         ;
       }
        jjtree.closeNodeScope(jjtn000, true);
@@ -11883,7 +11901,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[247] = jj_gen;
+            jj_la1[249] = jj_gen;
             break label_45;
           }
           jj_consume_token(COMMA);
@@ -11892,7 +11910,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[248] = jj_gen;
+        jj_la1[250] = jj_gen;
         ;
       }
       jj_consume_token(RBRACE);
@@ -11983,13 +12001,13 @@ Token token;
                           jjtn000.optional = false;
           break;
         default:
-          jj_la1[249] = jj_gen;
+          jj_la1[251] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[250] = jj_gen;
+        jj_la1[252] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -12128,7 +12146,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[251] = jj_gen;
+          jj_la1[253] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -12137,7 +12155,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[252] = jj_gen;
+        jj_la1[254] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -12289,7 +12307,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[253] = jj_gen;
+          jj_la1[255] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -12298,7 +12316,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[254] = jj_gen;
+        jj_la1[256] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -12448,7 +12466,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[255] = jj_gen;
+          jj_la1[257] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -12457,7 +12475,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[256] = jj_gen;
+        jj_la1[258] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -12607,7 +12625,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[257] = jj_gen;
+          jj_la1[259] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -12616,7 +12634,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[258] = jj_gen;
+        jj_la1[260] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -12626,7 +12644,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[259] = jj_gen;
+        jj_la1[261] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -12775,7 +12793,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[260] = jj_gen;
+          jj_la1[262] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -12784,7 +12802,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[261] = jj_gen;
+        jj_la1[263] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -12793,7 +12811,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[262] = jj_gen;
+        jj_la1[264] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -12941,7 +12959,7 @@ Token token;
           edgeName = Identifier();
           break;
         default:
-          jj_la1[263] = jj_gen;
+          jj_la1[265] = jj_gen;
           ;
         }
         jj_consume_token(MINUS);
@@ -12950,7 +12968,7 @@ Token token;
         jj_consume_token(DECR);
         break;
       default:
-        jj_la1[264] = jj_gen;
+        jj_la1[266] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -12959,7 +12977,7 @@ Token token;
         jjtn000.filter = MatchFilter();
         break;
       default:
-        jj_la1[265] = jj_gen;
+        jj_la1[267] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -13018,7 +13036,7 @@ Token token;
                        jjtn000.on = false;
         break;
       default:
-        jj_la1[266] = jj_gen;
+        jj_la1[268] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -13051,7 +13069,7 @@ Token token;
                          jjtn000.polymorphic = true;
         break;
       default:
-        jj_la1[267] = jj_gen;
+        jj_la1[269] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -13060,7 +13078,7 @@ Token token;
                     jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[268] = jj_gen;
+        jj_la1[270] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -13201,7 +13219,7 @@ Token token;
         jjtn000.clusterNumber = Integer();
         break;
       default:
-        jj_la1[269] = jj_gen;
+        jj_la1[271] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -13211,7 +13229,7 @@ Token token;
                     jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[270] = jj_gen;
+        jj_la1[272] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -13272,7 +13290,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[271] = jj_gen;
+              jj_la1[273] = jj_gen;
               break label_46;
             }
             jj_consume_token(COMMA);
@@ -13281,13 +13299,13 @@ Token token;
           }
           break;
         default:
-          jj_la1[272] = jj_gen;
+          jj_la1[274] = jj_gen;
           ;
         }
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[273] = jj_gen;
+        jj_la1[275] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -13339,7 +13357,7 @@ Token token;
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[274] = jj_gen;
+        jj_la1[276] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -13448,7 +13466,7 @@ Token token;
             lastTarget = Identifier();
             break;
           default:
-            jj_la1[275] = jj_gen;
+            jj_la1[277] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -13461,7 +13479,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[276] = jj_gen;
+            jj_la1[278] = jj_gen;
             break label_47;
           }
           jj_consume_token(COMMA);
@@ -13567,7 +13585,7 @@ Token token;
             lastTarget = Cluster();
             break;
           default:
-            jj_la1[277] = jj_gen;
+            jj_la1[279] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -13576,7 +13594,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[278] = jj_gen;
+        jj_la1[280] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -13625,7 +13643,7 @@ Token token;
                                        jjtn000.ifNotExists = true;
         break;
       default:
-        jj_la1[279] = jj_gen;
+        jj_la1[281] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -13640,7 +13658,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[280] = jj_gen;
+            jj_la1[282] = jj_gen;
             break label_48;
           }
           jj_consume_token(COMMA);
@@ -13649,7 +13667,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[281] = jj_gen;
+        jj_la1[283] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -13664,7 +13682,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[282] = jj_gen;
+            jj_la1[284] = jj_gen;
             break label_49;
           }
           jj_consume_token(COMMA);
@@ -13673,7 +13691,7 @@ Token token;
         }
         break;
       default:
-        jj_la1[283] = jj_gen;
+        jj_la1[285] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -13682,7 +13700,7 @@ Token token;
         jjtn000.totalClusterNo = Integer();
         break;
       default:
-        jj_la1[284] = jj_gen;
+        jj_la1[286] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -13691,7 +13709,7 @@ Token token;
                                jjtn000.abstractClass = true;
         break;
       default:
-        jj_la1[285] = jj_gen;
+        jj_la1[287] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -13843,7 +13861,7 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[286] = jj_gen;
+          jj_la1[288] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -13864,13 +13882,13 @@ Token token;
                                                  jjtn000.remove = true;
             break;
           default:
-            jj_la1[287] = jj_gen;
+            jj_la1[289] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[288] = jj_gen;
+          jj_la1[290] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -13975,7 +13993,7 @@ Token token;
                                          jjtn000.identifierValue = null;
           break;
         default:
-          jj_la1[289] = jj_gen;
+          jj_la1[291] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -14088,7 +14106,7 @@ Token token;
               ;
               break;
             default:
-              jj_la1[290] = jj_gen;
+              jj_la1[292] = jj_gen;
               break label_50;
             }
             jj_consume_token(COMMA);
@@ -14101,7 +14119,7 @@ Token token;
                                          jjtn000.identifierListValue = null;
           break;
         default:
-          jj_la1[291] = jj_gen;
+          jj_la1[293] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -14221,7 +14239,7 @@ Token token;
           jjtn000.numberValue = Integer();
           break;
         default:
-          jj_la1[292] = jj_gen;
+          jj_la1[294] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -14331,7 +14349,7 @@ Token token;
           jjtn000.numberValue = Integer();
           break;
         default:
-          jj_la1[293] = jj_gen;
+          jj_la1[295] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -14346,7 +14364,7 @@ Token token;
           jjtn000.customValue = Expression();
           break;
         default:
-          jj_la1[294] = jj_gen;
+          jj_la1[296] = jj_gen;
           ;
         }
         break;
@@ -14464,7 +14482,7 @@ Token token;
                                                                 jjtn000.customString = token.image.substring(1, token.image.length() - 1);
           break;
         default:
-          jj_la1[295] = jj_gen;
+          jj_la1[297] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -14578,13 +14596,13 @@ Token token;
           jj_consume_token(NULL);
           break;
         default:
-          jj_la1[296] = jj_gen;
+          jj_la1[298] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[297] = jj_gen;
+        jj_la1[299] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -14594,7 +14612,7 @@ Token token;
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[298] = jj_gen;
+        jj_la1[300] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -14641,7 +14659,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[299] = jj_gen;
+        jj_la1[301] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14650,7 +14668,7 @@ Token token;
                      jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[300] = jj_gen;
+        jj_la1[302] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -14815,7 +14833,7 @@ Token token;
         jjtn000.linkedType = Identifier();
         break;
       default:
-        jj_la1[301] = jj_gen;
+        jj_la1[303] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14830,7 +14848,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[302] = jj_gen;
+            jj_la1[304] = jj_gen;
             break label_51;
           }
           jj_consume_token(COMMA);
@@ -14840,7 +14858,7 @@ Token token;
         jj_consume_token(RPAREN);
         break;
       default:
-        jj_la1[303] = jj_gen;
+        jj_la1[305] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -14849,7 +14867,7 @@ Token token;
                              jjtn000.unsafe = true;
         break;
       default:
-        jj_la1[304] = jj_gen;
+        jj_la1[306] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -15041,7 +15059,7 @@ Token token;
                    }
           break;
         default:
-          jj_la1[305] = jj_gen;
+          jj_la1[307] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15092,7 +15110,7 @@ Token token;
                           jjtn000.ifExists = true;
         break;
       default:
-        jj_la1[306] = jj_gen;
+        jj_la1[308] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15101,7 +15119,7 @@ Token token;
                     jjtn000.force = true;
         break;
       default:
-        jj_la1[307] = jj_gen;
+        jj_la1[309] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -15254,7 +15272,7 @@ Token token;
                     jjtn000.propertyList.add(lastProperty);
           break;
         default:
-          jj_la1[308] = jj_gen;
+          jj_la1[310] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15271,13 +15289,13 @@ Token token;
                               lastProperty.byValue = true;
             break;
           default:
-            jj_la1[309] = jj_gen;
+            jj_la1[311] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
           break;
         default:
-          jj_la1[310] = jj_gen;
+          jj_la1[312] = jj_gen;
           ;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15286,7 +15304,7 @@ Token token;
           lastProperty.collate = Identifier();
           break;
         default:
-          jj_la1[311] = jj_gen;
+          jj_la1[313] = jj_gen;
           ;
         }
         label_52:
@@ -15296,7 +15314,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[312] = jj_gen;
+            jj_la1[314] = jj_gen;
             break label_52;
           }
           jj_consume_token(COMMA);
@@ -15407,7 +15425,7 @@ Token token;
                         jjtn000.propertyList.add(lastProperty);
             break;
           default:
-            jj_la1[313] = jj_gen;
+            jj_la1[315] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -15424,13 +15442,13 @@ Token token;
                                   lastProperty.byValue = true;
               break;
             default:
-              jj_la1[314] = jj_gen;
+              jj_la1[316] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
             break;
           default:
-            jj_la1[315] = jj_gen;
+            jj_la1[317] = jj_gen;
             ;
           }
           switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -15439,7 +15457,7 @@ Token token;
             lastProperty.collate = Identifier();
             break;
           default:
-            jj_la1[316] = jj_gen;
+            jj_la1[318] = jj_gen;
             ;
           }
         }
@@ -15544,7 +15562,7 @@ Token token;
           jjtn000.type = Identifier();
           break;
         default:
-          jj_la1[317] = jj_gen;
+          jj_la1[319] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -15755,7 +15773,7 @@ Token token;
                   ;
                   break;
                 default:
-                  jj_la1[318] = jj_gen;
+                  jj_la1[320] = jj_gen;
                   break label_53;
                 }
                 jj_consume_token(COMMA);
@@ -15768,19 +15786,19 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[319] = jj_gen;
+                jj_la1[321] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[320] = jj_gen;
+              jj_la1[322] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[321] = jj_gen;
+          jj_la1[323] = jj_gen;
           ;
         }
       } else {
@@ -15987,7 +16005,7 @@ Token token;
                   ;
                   break;
                 default:
-                  jj_la1[322] = jj_gen;
+                  jj_la1[324] = jj_gen;
                   break label_54;
                 }
                 jj_consume_token(COMMA);
@@ -16000,19 +16018,19 @@ Token token;
                 jjtn000.metadata = Json();
                 break;
               default:
-                jj_la1[323] = jj_gen;
+                jj_la1[325] = jj_gen;
                 ;
               }
               break;
             default:
-              jj_la1[324] = jj_gen;
+              jj_la1[326] = jj_gen;
               jj_consume_token(-1);
               throw new ParseException();
             }
           }
           break;
         default:
-          jj_la1[325] = jj_gen;
+          jj_la1[327] = jj_gen;
           ;
         }
       }
@@ -16155,7 +16173,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[326] = jj_gen;
+        jj_la1[328] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -16298,7 +16316,7 @@ Token token;
                      jjtn000.all = true;
         break;
       default:
-        jj_la1[327] = jj_gen;
+        jj_la1[329] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -16347,7 +16365,7 @@ Token token;
                                  jjtn000.blob = true;
         break;
       default:
-        jj_la1[328] = jj_gen;
+        jj_la1[330] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -16358,7 +16376,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[329] = jj_gen;
+        jj_la1[331] = jj_gen;
         ;
       }
           jjtree.closeNodeScope(jjtn000, true);
@@ -16404,7 +16422,7 @@ Token token;
                    jjtn000.starred = true;
         break;
       default:
-        jj_la1[330] = jj_gen;
+        jj_la1[332] = jj_gen;
         ;
       }
       jjtn000.attributeName = Identifier();
@@ -16547,7 +16565,7 @@ Token token;
         jjtn000.id = Integer();
         break;
       default:
-        jj_la1[331] = jj_gen;
+        jj_la1[333] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -16692,7 +16710,7 @@ Token token;
           jjtn000.settingValue = Expression();
           break;
         default:
-          jj_la1[332] = jj_gen;
+          jj_la1[334] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -16776,7 +16794,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[333] = jj_gen;
+          jj_la1[335] = jj_gen;
           break label_55;
         }
         lastOption = CommandLineOption();
@@ -16925,7 +16943,7 @@ Token token;
         jjtn000.sourceRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[334] = jj_gen;
+        jj_la1[336] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17033,7 +17051,7 @@ Token token;
         jjtn000.destRecordAttr = RecordAttribute();
         break;
       default:
-        jj_la1[335] = jj_gen;
+        jj_la1[337] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17043,7 +17061,7 @@ Token token;
                       jjtn000.inverse = true;
         break;
       default:
-        jj_la1[336] = jj_gen;
+        jj_la1[338] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17146,7 +17164,7 @@ Token token;
                  jjtn000.permission = "NONE";
         break;
       default:
-        jj_la1[337] = jj_gen;
+        jj_la1[339] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17276,7 +17294,7 @@ Token token;
         jjtn000.identifier = Identifier();
         break;
       default:
-        jj_la1[338] = jj_gen;
+        jj_la1[340] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -17326,7 +17344,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[339] = jj_gen;
+          jj_la1[341] = jj_gen;
           break label_56;
         }
         jj_consume_token(DOT);
@@ -17381,7 +17399,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[340] = jj_gen;
+          jj_la1[342] = jj_gen;
           break label_57;
         }
         jj_consume_token(DOT);
@@ -17445,7 +17463,7 @@ Token token;
             ;
             break;
           default:
-            jj_la1[341] = jj_gen;
+            jj_la1[343] = jj_gen;
             break label_58;
           }
           jj_consume_token(COMMA);
@@ -17455,7 +17473,7 @@ Token token;
         jj_consume_token(RBRACKET);
         break;
       default:
-        jj_la1[342] = jj_gen;
+        jj_la1[344] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17471,13 +17489,13 @@ Token token;
                           jjtn000.idempotent = false;
           break;
         default:
-          jj_la1[343] = jj_gen;
+          jj_la1[345] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[344] = jj_gen;
+        jj_la1[346] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -17486,7 +17504,7 @@ Token token;
         jjtn000.language = Identifier();
         break;
       default:
-        jj_la1[345] = jj_gen;
+        jj_la1[347] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17575,7 +17593,7 @@ Token token;
         jjtn000.isolation = Identifier();
         break;
       default:
-        jj_la1[346] = jj_gen;
+        jj_la1[348] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17619,7 +17637,7 @@ Token token;
         jjtn000.retry = Integer();
         break;
       default:
-        jj_la1[347] = jj_gen;
+        jj_la1[349] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17793,7 +17811,7 @@ Token token;
         jjtn000.expression = Expression();
         break;
       default:
-        jj_la1[348] = jj_gen;
+        jj_la1[350] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -17868,7 +17886,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[349] = jj_gen;
+          jj_la1[351] = jj_gen;
           break label_59;
         }
         if (jj_2_141(2147483647)) {
@@ -17884,7 +17902,7 @@ Token token;
             jj_consume_token(SEMICOLON);
             break;
           default:
-            jj_la1[350] = jj_gen;
+            jj_la1[352] = jj_gen;
             jj_consume_token(-1);
             throw new ParseException();
           }
@@ -18017,7 +18035,7 @@ Token token;
         jjtn000.start = Expression();
         break;
       default:
-        jj_la1[351] = jj_gen;
+        jj_la1[353] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18026,7 +18044,7 @@ Token token;
         jjtn000.increment = Expression();
         break;
       default:
-        jj_la1[352] = jj_gen;
+        jj_la1[354] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18035,7 +18053,7 @@ Token token;
         jjtn000.cache = Expression();
         break;
       default:
-        jj_la1[353] = jj_gen;
+        jj_la1[355] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18081,7 +18099,7 @@ Token token;
         jjtn000.start = Expression();
         break;
       default:
-        jj_la1[354] = jj_gen;
+        jj_la1[356] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18090,7 +18108,7 @@ Token token;
         jjtn000.increment = Expression();
         break;
       default:
-        jj_la1[355] = jj_gen;
+        jj_la1[357] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18099,7 +18117,7 @@ Token token;
         jjtn000.cache = Expression();
         break;
       default:
-        jj_la1[356] = jj_gen;
+        jj_la1[358] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -18187,7 +18205,7 @@ Token token;
           ;
           break;
         default:
-          jj_la1[357] = jj_gen;
+          jj_la1[359] = jj_gen;
           break label_60;
         }
         switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -18219,7 +18237,7 @@ Token token;
                                      jjtn000.outputText = true;
           break;
         default:
-          jj_la1[358] = jj_gen;
+          jj_la1[360] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
@@ -18322,13 +18340,13 @@ Token token;
                           jjtn000.modeMerge = true;
           break;
         default:
-          jj_la1[359] = jj_gen;
+          jj_la1[361] = jj_gen;
           jj_consume_token(-1);
           throw new ParseException();
         }
         break;
       default:
-        jj_la1[360] = jj_gen;
+        jj_la1[362] = jj_gen;
         ;
       }
       jjtree.closeNodeScope(jjtn000, true);
@@ -19345,19 +19363,6 @@ Token token;
     finally { jj_save(140, xla); }
   }
 
-  private boolean jj_3R_772() {
-    if (jj_3R_108()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_837()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_183() {
-    if (jj_3R_381()) return true;
-    return false;
-  }
-
   private boolean jj_3R_94() {
     if (jj_scan_token(HA)) return true;
     if (jj_scan_token(STATUS)) return true;
@@ -19808,7 +19813,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_827() {
+  private boolean jj_3R_829() {
     if (jj_3R_639()) return true;
     return false;
   }
@@ -19834,7 +19839,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_826() {
+  private boolean jj_3R_828() {
     if (jj_3R_62()) return true;
     return false;
   }
@@ -19842,9 +19847,9 @@ Token token;
   private boolean jj_3R_753() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_826()) {
+    if (jj_3R_828()) {
     jj_scanpos = xsp;
-    if (jj_3R_827()) {
+    if (jj_3R_829()) {
     jj_scanpos = xsp;
     if (jj_scan_token(176)) return true;
     }
@@ -20221,7 +20226,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_814() {
+  private boolean jj_3R_816() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
@@ -20256,7 +20261,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_813() {
+  private boolean jj_3R_815() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
@@ -20285,9 +20290,9 @@ Token token;
     if (jj_scan_token(IDEMPOTENT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_813()) {
+    if (jj_3R_815()) {
     jj_scanpos = xsp;
-    if (jj_3R_814()) return true;
+    if (jj_3R_816()) return true;
     }
     return false;
   }
@@ -20317,7 +20322,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_812() {
+  private boolean jj_3R_814() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_108()) return true;
     return false;
@@ -20363,7 +20368,7 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_812()) { jj_scanpos = xsp; break; }
+      if (jj_3R_814()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
@@ -20638,7 +20643,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_825() {
+  private boolean jj_3R_827() {
     if (jj_3R_108()) return true;
     return false;
   }
@@ -20653,12 +20658,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_824() {
+  private boolean jj_3R_826() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_823() {
+  private boolean jj_3R_825() {
     if (jj_scan_token(CLUSTER)) return true;
     return false;
   }
@@ -20681,11 +20686,11 @@ Token token;
   private boolean jj_3R_747() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_823()) {
+    if (jj_3R_825()) {
     jj_scanpos = xsp;
-    if (jj_3R_824()) {
+    if (jj_3R_826()) {
     jj_scanpos = xsp;
-    if (jj_3R_825()) return true;
+    if (jj_3R_827()) return true;
     }
     }
     return false;
@@ -20696,7 +20701,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_822() {
+  private boolean jj_3R_824() {
     if (jj_scan_token(NONE)) return true;
     return false;
   }
@@ -20720,7 +20725,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_821() {
+  private boolean jj_3R_823() {
     if (jj_scan_token(ALL)) return true;
     return false;
   }
@@ -20730,7 +20735,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_820() {
+  private boolean jj_3R_822() {
     if (jj_scan_token(EXECUTE)) return true;
     return false;
   }
@@ -20761,7 +20766,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_819() {
+  private boolean jj_3R_821() {
     if (jj_scan_token(DELETE)) return true;
     return false;
   }
@@ -20776,7 +20781,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_818() {
+  private boolean jj_3R_820() {
     if (jj_scan_token(UPDATE)) return true;
     return false;
   }
@@ -20786,7 +20791,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_817() {
+  private boolean jj_3R_819() {
     if (jj_scan_token(READ)) return true;
     return false;
   }
@@ -20796,7 +20801,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_816() {
+  private boolean jj_3R_818() {
     if (jj_scan_token(CREATE)) return true;
     return false;
   }
@@ -20809,10 +20814,6 @@ Token token;
   private boolean jj_3R_746() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_816()) {
-    jj_scanpos = xsp;
-    if (jj_3R_817()) {
-    jj_scanpos = xsp;
     if (jj_3R_818()) {
     jj_scanpos = xsp;
     if (jj_3R_819()) {
@@ -20821,7 +20822,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3R_821()) {
     jj_scanpos = xsp;
-    if (jj_3R_822()) return true;
+    if (jj_3R_822()) {
+    jj_scanpos = xsp;
+    if (jj_3R_823()) {
+    jj_scanpos = xsp;
+    if (jj_3R_824()) return true;
     }
     }
     }
@@ -20997,14 +21002,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_798() {
-    if (jj_3R_390()) return true;
+  private boolean jj_3R_800() {
+    if (jj_scan_token(PARALLEL)) return true;
     return false;
   }
 
-  private boolean jj_3R_850() {
-    if (jj_scan_token(AS)) return true;
-    if (jj_3R_108()) return true;
+  private boolean jj_3R_799() {
+    if (jj_3R_390()) return true;
     return false;
   }
 
@@ -21013,6 +21017,12 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_852() {
+    if (jj_scan_token(AS)) return true;
+    if (jj_3R_108()) return true;
+    return false;
+  }
+
   private boolean jj_3R_64() {
     if (jj_scan_token(DELETE)) return true;
     if (jj_scan_token(FROM)) return true;
@@ -21070,16 +21080,16 @@ Token token;
   }
 
   private boolean jj_3R_745() {
-    if (jj_3R_815()) return true;
+    if (jj_3R_817()) return true;
     return false;
   }
 
-  private boolean jj_3R_797() {
+  private boolean jj_3R_798() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_113()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_850()) jj_scanpos = xsp;
+    if (jj_3R_852()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21093,7 +21103,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_796() {
+  private boolean jj_3R_797() {
     if (jj_scan_token(AS)) return true;
     if (jj_3R_108()) return true;
     return false;
@@ -21110,7 +21120,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_795() {
+  private boolean jj_3R_796() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_609()) return true;
     return false;
@@ -21121,7 +21131,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_815() {
+  private boolean jj_3R_817() {
     if (jj_scan_token(MINUS)) return true;
     if (jj_3R_108()) return true;
     return false;
@@ -21138,23 +21148,20 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_795()) { jj_scanpos = xsp; break; }
+      if (jj_3R_796()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RETURN)) return true;
     if (jj_3R_113()) return true;
     xsp = jj_scanpos;
-    if (jj_3R_796()) jj_scanpos = xsp;
+    if (jj_3R_797()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_797()) { jj_scanpos = xsp; break; }
+      if (jj_3R_798()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_798()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_848() {
-    if (jj_scan_token(BREADTH_FIRST)) return true;
+    if (jj_3R_799()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_800()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21164,11 +21171,21 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_847() {
+  private boolean jj_3R_850() {
+    if (jj_scan_token(BREADTH_FIRST)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_849() {
     if (jj_scan_token(DEPTH_FIRST)) return true;
     return false;
   }
 
+  private boolean jj_3R_795() {
+    if (jj_scan_token(PARALLEL)) return true;
+    return false;
+  }
+
   private boolean jj_3R_622() {
     if (jj_scan_token(SC_AND)) return true;
     return false;
@@ -21182,22 +21199,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_794() {
-    if (jj_scan_token(STRATEGY)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_847()) {
-    jj_scanpos = xsp;
-    if (jj_3R_848()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_793() {
-    if (jj_3R_390()) return true;
-    return false;
-  }
-
   private boolean jj_3R_743() {
     if (jj_3R_61()) return true;
     return false;
@@ -21215,26 +21216,30 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_792() {
-    if (jj_scan_token(WHILE)) return true;
-    if (jj_3R_385()) return true;
+  private boolean jj_3R_794() {
+    if (jj_scan_token(STRATEGY)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_849()) {
+    jj_scanpos = xsp;
+    if (jj_3R_850()) return true;
+    }
     return false;
   }
 
-  private boolean jj_3R_846() {
-    if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_691()) return true;
+  private boolean jj_3R_793() {
+    if (jj_3R_390()) return true;
     return false;
   }
 
-  private boolean jj_3R_791() {
-    if (jj_scan_token(MAXDEPTH)) return true;
-    if (jj_3R_61()) return true;
+  private boolean jj_3R_742() {
+    if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_742() {
-    if (jj_3R_108()) return true;
+  private boolean jj_3R_792() {
+    if (jj_scan_token(WHILE)) return true;
+    if (jj_3R_385()) return true;
     return false;
   }
 
@@ -21243,12 +21248,24 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_848() {
+    if (jj_scan_token(COMMA)) return true;
+    if (jj_3R_691()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_791() {
+    if (jj_scan_token(MAXDEPTH)) return true;
+    if (jj_3R_61()) return true;
+    return false;
+  }
+
   private boolean jj_3R_608() {
     if (jj_3R_691()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_846()) { jj_scanpos = xsp; break; }
+      if (jj_3R_848()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -21258,13 +21275,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_574() {
-    if (jj_3R_390()) return true;
+  private boolean jj_3R_620() {
+    if (jj_scan_token(NEAR)) return true;
     return false;
   }
 
-  private boolean jj_3R_620() {
-    if (jj_scan_token(NEAR)) return true;
+  private boolean jj_3R_574() {
+    if (jj_3R_390()) return true;
     return false;
   }
 
@@ -21295,11 +21312,8 @@ Token token;
     if (jj_3R_793()) jj_scanpos = xsp;
     xsp = jj_scanpos;
     if (jj_3R_794()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_427() {
-    if (jj_scan_token(DEFAULT_)) return true;
+    xsp = jj_scanpos;
+    if (jj_3R_795()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21313,6 +21327,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_427() {
+    if (jj_scan_token(DEFAULT_)) return true;
+    return false;
+  }
+
   private boolean jj_3R_426() {
     if (jj_scan_token(SHARED)) return true;
     return false;
@@ -21333,11 +21352,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_424() {
-    if (jj_scan_token(RECORD)) return true;
-    return false;
-  }
-
   private boolean jj_3R_91() {
     if (jj_scan_token(ALTER)) return true;
     if (jj_scan_token(CLUSTER)) return true;
@@ -21350,6 +21364,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_424() {
+    if (jj_scan_token(RECORD)) return true;
+    return false;
+  }
+
   private boolean jj_3R_617() {
     if (jj_scan_token(LIKE)) return true;
     return false;
@@ -21361,6 +21380,12 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_171() {
+    if (jj_scan_token(BLOB)) return true;
+    if (jj_scan_token(CLUSTER)) return true;
+    return false;
+  }
+
   private boolean jj_3R_589() {
     if (jj_3R_573()) return true;
     return false;
@@ -21374,12 +21399,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_171() {
-    if (jj_scan_token(BLOB)) return true;
-    if (jj_scan_token(CLUSTER)) return true;
-    return false;
-  }
-
   private boolean jj_3R_234() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
@@ -21420,28 +21439,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_232() {
-    if (jj_3R_423()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_588() {
-    if (jj_3R_390()) return true;
-    return false;
-  }
-
   private boolean jj_3R_616() {
     if (jj_scan_token(LE)) return true;
     return false;
   }
 
-  private boolean jj_3R_230() {
-    if (jj_3R_420()) return true;
+  private boolean jj_3R_232() {
+    if (jj_3R_423()) return true;
     return false;
   }
 
-  private boolean jj_3R_229() {
-    if (jj_3R_419()) return true;
+  private boolean jj_3R_588() {
+    if (jj_3R_390()) return true;
     return false;
   }
 
@@ -21450,8 +21459,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_228() {
-    if (jj_3R_418()) return true;
+  private boolean jj_3R_230() {
+    if (jj_3R_420()) return true;
     return false;
   }
 
@@ -21469,9 +21478,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_227() {
-    if (jj_scan_token(WHERE)) return true;
-    if (jj_3R_385()) return true;
+  private boolean jj_3R_229() {
+    if (jj_3R_419()) return true;
     return false;
   }
 
@@ -21480,16 +21488,27 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_226() {
-    if (jj_3R_396()) return true;
+  private boolean jj_3R_228() {
+    if (jj_3R_418()) return true;
     return false;
   }
 
-  private boolean jj_3R_740() {
+  private boolean jj_3R_227() {
+    if (jj_scan_token(WHERE)) return true;
+    if (jj_3R_385()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_740() {
     if (jj_3R_454()) return true;
     return false;
   }
 
+  private boolean jj_3R_226() {
+    if (jj_3R_396()) return true;
+    return false;
+  }
+
   private boolean jj_3R_225() {
     if (jj_3R_273()) return true;
     return false;
@@ -21540,24 +21559,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_448() {
-    if (jj_3R_573()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_588()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_276() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_448()) {
-    jj_scanpos = xsp;
-    if (jj_3R_449()) return true;
-    }
-    return false;
-  }
-
   private boolean jj_3R_90() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(INDEX)) return true;
@@ -21580,8 +21581,21 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_453() {
-    if (jj_scan_token(DEFAULT_)) return true;
+  private boolean jj_3R_448() {
+    if (jj_3R_573()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_588()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_276() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_448()) {
+    jj_scanpos = xsp;
+    if (jj_3R_449()) return true;
+    }
     return false;
   }
 
@@ -21590,6 +21604,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_453() {
+    if (jj_scan_token(DEFAULT_)) return true;
+    return false;
+  }
+
   private boolean jj_3R_452() {
     if (jj_scan_token(SHARED)) return true;
     return false;
@@ -21610,18 +21629,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_450() {
-    if (jj_scan_token(RECORD)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_869() {
+  private boolean jj_3R_871() {
     if (jj_scan_token(METADATA)) return true;
     if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_868() {
+  private boolean jj_3R_870() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_108()) return true;
     return false;
@@ -21632,6 +21646,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_450() {
+    if (jj_scan_token(RECORD)) return true;
+    return false;
+  }
+
   private boolean jj_3R_629() {
     if (jj_scan_token(REBUILD)) return true;
     if (jj_scan_token(INDEX)) return true;
@@ -21644,6 +21663,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_611() {
+    if (jj_scan_token(LT)) return true;
+    return false;
+  }
+
   private boolean jj_3R_279() {
     if (jj_scan_token(LOCK)) return true;
     Token xsp;
@@ -21661,35 +21685,25 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_278() {
-    if (jj_3R_391()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_611() {
-    if (jj_scan_token(LT)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_277() {
-    if (jj_3R_423()) return true;
+  private boolean jj_3R_498() {
+    if (jj_3R_622()) return true;
     return false;
   }
 
-  private boolean jj_3R_498() {
-    if (jj_3R_622()) return true;
+  private boolean jj_3R_278() {
+    if (jj_3R_391()) return true;
     return false;
   }
 
-  private boolean jj_3R_859() {
+  private boolean jj_3R_861() {
     if (jj_3R_108()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_868()) { jj_scanpos = xsp; break; }
+      if (jj_3R_870()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_869()) jj_scanpos = xsp;
+    if (jj_3R_871()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21698,6 +21712,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_277() {
+    if (jj_3R_423()) return true;
+    return false;
+  }
+
   private boolean jj_3R_496() {
     if (jj_3R_620()) return true;
     return false;
@@ -21723,12 +21742,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_811() {
+  private boolean jj_3R_813() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_136()) {
     jj_scanpos = xsp;
-    if (jj_3R_859()) return true;
+    if (jj_3R_861()) return true;
     }
     return false;
   }
@@ -21744,13 +21763,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_867() {
+  private boolean jj_3R_869() {
     if (jj_scan_token(METADATA)) return true;
     if (jj_3R_161()) return true;
     return false;
   }
 
-  private boolean jj_3R_866() {
+  private boolean jj_3R_868() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_108()) return true;
     return false;
@@ -21761,23 +21780,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_275() {
-    if (jj_3R_420()) return true;
-    return false;
-  }
-
   private boolean jj_3R_490() {
     if (jj_3R_614()) return true;
     return false;
   }
 
-  private boolean jj_3R_274() {
-    if (jj_3R_396()) return true;
+  private boolean jj_3R_489() {
+    if (jj_3R_613()) return true;
     return false;
   }
 
-  private boolean jj_3R_489() {
-    if (jj_3R_613()) return true;
+  private boolean jj_3R_275() {
+    if (jj_3R_420()) return true;
     return false;
   }
 
@@ -21786,8 +21800,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_41() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3R_274() {
+    if (jj_3R_396()) return true;
     return false;
   }
 
@@ -21796,33 +21810,15 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_720() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_811()) jj_scanpos = xsp;
+  private boolean jj_3_41() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
-  private boolean jj_3R_105() {
-    if (jj_scan_token(SELECT)) return true;
-    if (jj_3R_273()) return true;
+  private boolean jj_3R_720() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_274()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_275()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_276()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_277()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_278()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_279()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_280()) jj_scanpos = xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_281()) jj_scanpos = xsp;
+    if (jj_3R_813()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21831,15 +21827,15 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_858() {
+  private boolean jj_3R_860() {
     if (jj_3R_108()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_866()) { jj_scanpos = xsp; break; }
+      if (jj_3R_868()) { jj_scanpos = xsp; break; }
     }
     xsp = jj_scanpos;
-    if (jj_3R_867()) jj_scanpos = xsp;
+    if (jj_3R_869()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21848,8 +21844,26 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_40() {
-    if (jj_3R_98()) return true;
+  private boolean jj_3R_105() {
+    if (jj_scan_token(SELECT)) return true;
+    if (jj_3R_273()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_274()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_275()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_276()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_277()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_278()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_279()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_280()) jj_scanpos = xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_281()) jj_scanpos = xsp;
     return false;
   }
 
@@ -21858,8 +21872,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_326() {
-    if (jj_3R_99()) return true;
+  private boolean jj_3_40() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
@@ -21906,18 +21920,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_810() {
+  private boolean jj_3R_812() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_135()) {
     jj_scanpos = xsp;
-    if (jj_3R_858()) return true;
+    if (jj_3R_860()) return true;
     }
     return false;
   }
 
-  private boolean jj_3R_325() {
-    if (jj_3R_485()) return true;
+  private boolean jj_3R_326() {
+    if (jj_3R_99()) return true;
     return false;
   }
 
@@ -21932,8 +21946,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_324() {
-    if (jj_3R_484()) return true;
+  private boolean jj_3R_325() {
+    if (jj_3R_485()) return true;
     return false;
   }
 
@@ -21947,8 +21961,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_323() {
-    if (jj_3R_105()) return true;
+  private boolean jj_3R_324() {
+    if (jj_3R_484()) return true;
     return false;
   }
 
@@ -21962,6 +21976,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_323() {
+    if (jj_3R_105()) return true;
+    return false;
+  }
+
   private boolean jj_3_105() {
     if (jj_3R_146()) return true;
     return false;
@@ -21972,37 +21991,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_322() {
-    if (jj_3R_98()) return true;
-    return false;
-  }
-
   private boolean jj_3R_339() {
     if (jj_3R_149()) return true;
     return false;
   }
 
-  private boolean jj_3_104() {
-    if (jj_3R_145()) return true;
+  private boolean jj_3R_322() {
+    if (jj_3R_98()) return true;
     return false;
   }
 
-  private boolean jj_3R_134() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_322()) {
-    jj_scanpos = xsp;
-    if (jj_3R_323()) {
-    jj_scanpos = xsp;
-    if (jj_3R_324()) {
-    jj_scanpos = xsp;
-    if (jj_3R_325()) {
-    jj_scanpos = xsp;
-    if (jj_3R_326()) return true;
-    }
-    }
-    }
-    }
+  private boolean jj_3_104() {
+    if (jj_3R_145()) return true;
     return false;
   }
 
@@ -22016,21 +22016,40 @@ Token token;
     if (jj_3R_108()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_810()) jj_scanpos = xsp;
+    if (jj_3R_812()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_865() {
+  private boolean jj_3R_867() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_857() {
+  private boolean jj_3R_859() {
     if (jj_scan_token(COLLATE)) return true;
     if (jj_3R_108()) return true;
     return false;
   }
 
+  private boolean jj_3R_134() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_322()) {
+    jj_scanpos = xsp;
+    if (jj_3R_323()) {
+    jj_scanpos = xsp;
+    if (jj_3R_324()) {
+    jj_scanpos = xsp;
+    if (jj_3R_325()) {
+    jj_scanpos = xsp;
+    if (jj_3R_326()) return true;
+    }
+    }
+    }
+    }
+    return false;
+  }
+
   private boolean jj_3R_337() {
     if (jj_3R_147()) return true;
     return false;
@@ -22046,7 +22065,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_864() {
+  private boolean jj_3R_866() {
     if (jj_scan_token(KEY)) return true;
     return false;
   }
@@ -22061,49 +22080,39 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_39() {
-    if (jj_3R_97()) return true;
-    return false;
-  }
-
   private boolean jj_3R_335() {
     if (jj_3R_145()) return true;
     return false;
   }
 
-  private boolean jj_3R_374() {
-    if (jj_3R_541()) return true;
-    return false;
-  }
-
   private boolean jj_3_100() {
     if (jj_3R_141()) return true;
     return false;
   }
 
-  private boolean jj_3R_856() {
+  private boolean jj_3R_858() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_864()) {
+    if (jj_3R_866()) {
     jj_scanpos = xsp;
-    if (jj_3R_865()) return true;
+    if (jj_3R_867()) return true;
     }
     return false;
   }
 
-  private boolean jj_3_101() {
-    if (jj_3R_142()) return true;
+  private boolean jj_3_39() {
+    if (jj_3R_97()) return true;
     return false;
   }
 
-  private boolean jj_3_38() {
-    if (jj_3R_96()) return true;
+  private boolean jj_3_101() {
+    if (jj_3R_142()) return true;
     return false;
   }
 
-  private boolean jj_3R_373() {
-    if (jj_3R_540()) return true;
+  private boolean jj_3R_374() {
+    if (jj_3R_541()) return true;
     return false;
   }
 
@@ -22117,8 +22126,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_37() {
-    if (jj_3R_95()) return true;
+  private boolean jj_3_38() {
+    if (jj_3R_96()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_373() {
+    if (jj_3R_540()) return true;
     return false;
   }
 
@@ -22132,13 +22146,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_855() {
-    if (jj_3R_116()) return true;
+  private boolean jj_3_37() {
+    if (jj_3R_95()) return true;
     return false;
   }
 
-  private boolean jj_3_36() {
-    if (jj_3R_94()) return true;
+  private boolean jj_3R_857() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
@@ -22147,8 +22161,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_539() {
-    if (jj_3R_639()) return true;
+  private boolean jj_3_36() {
+    if (jj_3R_94()) return true;
     return false;
   }
 
@@ -22157,8 +22171,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_538() {
-    if (jj_3R_638()) return true;
+  private boolean jj_3R_539() {
+    if (jj_3R_639()) return true;
     return false;
   }
 
@@ -22172,13 +22186,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_854() {
+  private boolean jj_3R_856() {
     if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_537() {
-    if (jj_3R_637()) return true;
+  private boolean jj_3R_538() {
+    if (jj_3R_638()) return true;
     return false;
   }
 
@@ -22187,8 +22201,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_536() {
-    if (jj_3R_636()) return true;
+  private boolean jj_3R_537() {
+    if (jj_3R_637()) return true;
     return false;
   }
 
@@ -22197,28 +22211,28 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_535() {
-    if (jj_3R_635()) return true;
+  private boolean jj_3R_536() {
+    if (jj_3R_636()) return true;
     return false;
   }
 
-  private boolean jj_3R_809() {
+  private boolean jj_3R_811() {
     if (jj_scan_token(COMMA)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_854()) {
+    if (jj_3R_856()) {
     jj_scanpos = xsp;
-    if (jj_3R_855()) return true;
+    if (jj_3R_857()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_856()) jj_scanpos = xsp;
+    if (jj_3R_858()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_857()) jj_scanpos = xsp;
+    if (jj_3R_859()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_534() {
-    if (jj_3R_634()) return true;
+  private boolean jj_3R_535() {
+    if (jj_3R_635()) return true;
     return false;
   }
 
@@ -22227,8 +22241,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_533() {
-    if (jj_3R_633()) return true;
+  private boolean jj_3R_534() {
+    if (jj_3R_634()) return true;
     return false;
   }
 
@@ -22237,24 +22251,29 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_853() {
+  private boolean jj_3R_855() {
     if (jj_scan_token(VALUE)) return true;
     return false;
   }
 
-  private boolean jj_3R_808() {
+  private boolean jj_3R_810() {
     if (jj_scan_token(COLLATE)) return true;
     if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3R_532() {
-    if (jj_3R_632()) return true;
+  private boolean jj_3R_533() {
+    if (jj_3R_633()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_854() {
+    if (jj_scan_token(KEY)) return true;
     return false;
   }
 
-  private boolean jj_3R_852() {
-    if (jj_scan_token(KEY)) return true;
+  private boolean jj_3R_532() {
+    if (jj_3R_632()) return true;
     return false;
   }
 
@@ -22273,23 +22292,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_35() {
-    if (jj_3R_93()) return true;
-    return false;
-  }
-
   private boolean jj_3_95() {
     if (jj_3R_136()) return true;
     return false;
   }
 
-  private boolean jj_3R_807() {
+  private boolean jj_3R_809() {
     if (jj_scan_token(BY)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_852()) {
+    if (jj_3R_854()) {
     jj_scanpos = xsp;
-    if (jj_3R_853()) return true;
+    if (jj_3R_855()) return true;
     }
     return false;
   }
@@ -22349,8 +22363,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_34() {
-    if (jj_3R_92()) return true;
+  private boolean jj_3_35() {
+    if (jj_3R_93()) return true;
     return false;
   }
 
@@ -22359,8 +22373,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_31() {
-    if (jj_3R_89()) return true;
+  private boolean jj_3_34() {
+    if (jj_3R_92()) return true;
     return false;
   }
 
@@ -22369,8 +22383,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_529() {
-    if (jj_3R_91()) return true;
+  private boolean jj_3_31() {
+    if (jj_3R_89()) return true;
     return false;
   }
 
@@ -22381,13 +22395,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_30() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3R_808() {
+    if (jj_3R_116()) return true;
     return false;
   }
 
-  private boolean jj_3R_806() {
-    if (jj_3R_116()) return true;
+  private boolean jj_3R_529() {
+    if (jj_3R_91()) return true;
     return false;
   }
 
@@ -22396,6 +22410,16 @@ Token token;
     return false;
   }
 
+  private boolean jj_3_30() {
+    if (jj_3R_88()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_687() {
+    if (jj_3R_136()) return true;
+    return false;
+  }
+
   private boolean jj_3_32() {
     if (jj_3R_90()) return true;
     return false;
@@ -22406,17 +22430,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_687() {
-    if (jj_3R_136()) return true;
-    return false;
-  }
-
   private boolean jj_3R_528() {
     if (jj_3R_629()) return true;
     return false;
   }
 
-  private boolean jj_3R_805() {
+  private boolean jj_3R_807() {
     if (jj_3R_108()) return true;
     return false;
   }
@@ -22426,23 +22445,18 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_527() {
-    if (jj_3R_89()) return true;
-    return false;
-  }
-
   private boolean jj_3R_685() {
     if (jj_3R_136()) return true;
     return false;
   }
 
-  private boolean jj_3_27() {
-    if (jj_3R_85()) return true;
+  private boolean jj_3R_527() {
+    if (jj_3R_89()) return true;
     return false;
   }
 
-  private boolean jj_3R_526() {
-    if (jj_3R_88()) return true;
+  private boolean jj_3_27() {
+    if (jj_3R_85()) return true;
     return false;
   }
 
@@ -22461,6 +22475,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_526() {
+    if (jj_3R_88()) return true;
+    return false;
+  }
+
   private boolean jj_3R_525() {
     if (jj_3R_87()) return true;
     return false;
@@ -22486,39 +22505,29 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_23() {
-    if (jj_3R_81()) return true;
-    return false;
-  }
-
   private boolean jj_3_134() {
     if (jj_scan_token(ON)) return true;
     if (jj_3R_108()) return true;
     if (jj_scan_token(LPAREN)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_805()) {
+    if (jj_3R_807()) {
     jj_scanpos = xsp;
-    if (jj_3R_806()) return true;
+    if (jj_3R_808()) return true;
     }
     xsp = jj_scanpos;
-    if (jj_3R_807()) jj_scanpos = xsp;
+    if (jj_3R_809()) jj_scanpos = xsp;
     xsp = jj_scanpos;
-    if (jj_3R_808()) jj_scanpos = xsp;
+    if (jj_3R_810()) jj_scanpos = xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_809()) { jj_scanpos = xsp; break; }
+      if (jj_3R_811()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     if (jj_3R_108()) return true;
     return false;
   }
 
-  private boolean jj_3_26() {
-    if (jj_3R_84()) return true;
-    return false;
-  }
-
   private boolean jj_3R_597() {
     if (jj_scan_token(NOT)) return true;
     Token xsp;
@@ -22530,8 +22539,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_523() {
-    if (jj_3R_83()) return true;
+  private boolean jj_3_23() {
+    if (jj_3R_81()) return true;
+    return false;
+  }
+
+  private boolean jj_3_26() {
+    if (jj_3R_84()) return true;
     return false;
   }
 
@@ -22553,13 +22567,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_22() {
-    if (jj_3R_80()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_522() {
-    if (jj_3R_82()) return true;
+  private boolean jj_3R_523() {
+    if (jj_3R_83()) return true;
     return false;
   }
 
@@ -22573,12 +22582,22 @@ Token token;
     return false;
   }
 
+  private boolean jj_3_22() {
+    if (jj_3R_80()) return true;
+    return false;
+  }
+
   private boolean jj_3R_469() {
     if (jj_scan_token(AND)) return true;
     if (jj_3R_468()) return true;
     return false;
   }
 
+  private boolean jj_3R_522() {
+    if (jj_3R_82()) return true;
+    return false;
+  }
+
   private boolean jj_3_21() {
     if (jj_3R_79()) return true;
     return false;
@@ -22594,18 +22613,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_520() {
-    if (jj_3R_628()) return true;
-    return false;
-  }
-
   private boolean jj_3R_223() {
     if (jj_scan_token(FORCE)) return true;
     return false;
   }
 
-  private boolean jj_3_19() {
-    if (jj_3R_77()) return true;
+  private boolean jj_3R_520() {
+    if (jj_3R_628()) return true;
     return false;
   }
 
@@ -22621,8 +22635,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_519() {
-    if (jj_3R_80()) return true;
+  private boolean jj_3_19() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
@@ -22636,6 +22650,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_519() {
+    if (jj_3R_80()) return true;
+    return false;
+  }
+
   private boolean jj_3_18() {
     if (jj_3R_76()) return true;
     return false;
@@ -22646,11 +22665,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_17() {
-    if (jj_3R_75()) return true;
-    return false;
-  }
-
   private boolean jj_3R_89() {
     if (jj_scan_token(DROP)) return true;
     if (jj_scan_token(PROPERTY)) return true;
@@ -22665,8 +22679,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_517() {
-    if (jj_3R_78()) return true;
+  private boolean jj_3_17() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
@@ -22680,13 +22694,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_16() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_517() {
+    if (jj_3R_78()) return true;
     return false;
   }
 
-  private boolean jj_3R_516() {
-    if (jj_3R_77()) return true;
+  private boolean jj_3_16() {
+    if (jj_3R_74()) return true;
     return false;
   }
 
@@ -22695,8 +22709,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_515() {
-    if (jj_3R_76()) return true;
+  private boolean jj_3R_516() {
+    if (jj_3R_77()) return true;
     return false;
   }
 
@@ -22706,8 +22720,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_514() {
-    if (jj_3R_75()) return true;
+  private boolean jj_3R_515() {
+    if (jj_3R_76()) return true;
     return false;
   }
 
@@ -22716,13 +22730,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_456() {
-    if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
+  private boolean jj_3R_514() {
+    if (jj_3R_75()) return true;
     return false;
   }
 
-  private boolean jj_3R_513() {
-    if (jj_3R_74()) return true;
+  private boolean jj_3R_456() {
+    if (jj_scan_token(INDEXVALUESASC_IDENTIFIER)) return true;
     return false;
   }
 
@@ -22731,6 +22745,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_513() {
+    if (jj_3R_74()) return true;
+    return false;
+  }
+
   private boolean jj_3_133() {
     if (jj_scan_token(CUSTOM)) return true;
     if (jj_3R_108()) return true;
@@ -22772,17 +22791,17 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_11() {
-    if (jj_3R_69()) return true;
-    return false;
-  }
-
   private boolean jj_3R_282() {
     if (jj_scan_token(INDEX_COLON)) return true;
     if (jj_3R_454()) return true;
     return false;
   }
 
+  private boolean jj_3_11() {
+    if (jj_3R_69()) return true;
+    return false;
+  }
+
   private boolean jj_3_10() {
     if (jj_3R_68()) return true;
     return false;
@@ -22803,11 +22822,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_9() {
-    if (jj_3R_67()) return true;
-    return false;
-  }
-
   private boolean jj_3R_106() {
     Token xsp;
     xsp = jj_scanpos;
@@ -22818,23 +22832,23 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_512() {
-    if (jj_3R_477()) return true;
+  private boolean jj_3_9() {
+    if (jj_3R_67()) return true;
     return false;
   }
 
-  private boolean jj_3_8() {
-    if (jj_3R_66()) return true;
+  private boolean jj_3R_512() {
+    if (jj_3R_477()) return true;
     return false;
   }
 
-  private boolean jj_3R_851() {
+  private boolean jj_3R_853() {
     if (jj_3R_113()) return true;
     return false;
   }
 
-  private boolean jj_3_7() {
-    if (jj_3R_65()) return true;
+  private boolean jj_3_8() {
+    if (jj_3R_66()) return true;
     return false;
   }
 
@@ -22843,19 +22857,19 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_677() {
-    if (jj_scan_token(DOT)) return true;
+  private boolean jj_3_7() {
+    if (jj_3R_65()) return true;
     return false;
   }
 
-  private boolean jj_3_6() {
-    if (jj_3R_64()) return true;
+  private boolean jj_3R_677() {
+    if (jj_scan_token(DOT)) return true;
     return false;
   }
 
-  private boolean jj_3R_804() {
+  private boolean jj_3R_806() {
     if (jj_scan_token(COMMA)) return true;
-    if (jj_3R_803()) return true;
+    if (jj_3R_805()) return true;
     return false;
   }
 
@@ -22864,8 +22878,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_511() {
-    if (jj_3R_134()) return true;
+  private boolean jj_3_6() {
+    if (jj_3R_64()) return true;
     return false;
   }
 
@@ -22874,13 +22888,18 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_511() {
+    if (jj_3R_134()) return true;
+    return false;
+  }
+
   private boolean jj_3R_717() {
     if (jj_scan_token(LPAREN)) return true;
-    if (jj_3R_803()) return true;
+    if (jj_3R_805()) return true;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_804()) { jj_scanpos = xsp; break; }
+      if (jj_3R_806()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     return false;
@@ -22897,11 +22916,11 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_803() {
+  private boolean jj_3R_805() {
     if (jj_3R_108()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_851()) jj_scanpos = xsp;
+    if (jj_3R_853()) jj_scanpos = xsp;
     return false;
   }
 
@@ -22915,6 +22934,18 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_454() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_590()) jj_scanpos = xsp;
+    if (jj_3R_108()) return true;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_3R_591()) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
   private boolean jj_3R_372() {
     Token xsp;
     xsp = jj_scanpos;
@@ -23063,18 +23094,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_454() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_590()) jj_scanpos = xsp;
-    if (jj_3R_108()) return true;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_3R_591()) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
   private boolean jj_3R_164() {
     Token xsp;
     xsp = jj_scanpos;
@@ -23088,7 +23107,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_836() {
+  private boolean jj_3R_838() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_108()) return true;
     return false;
@@ -23099,7 +23118,7 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_836()) { jj_scanpos = xsp; break; }
+      if (jj_3R_838()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -23115,11 +23134,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_5() {
-    if (jj_3R_63()) return true;
-    return false;
-  }
-
   private boolean jj_3R_68() {
     if (jj_scan_token(CREATE)) return true;
     if (jj_scan_token(PROPERTY)) return true;
@@ -23139,16 +23153,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_4() {
-    if (jj_3R_61()) return true;
+  private boolean jj_3_5() {
+    if (jj_3R_63()) return true;
     return false;
-  }
-
-  private boolean jj_3R_162() {
-    if (jj_3R_164()) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_scan_token(176)) jj_scanpos = xsp;
+  }
+
+  private boolean jj_3_4() {
+    if (jj_3R_61()) return true;
     return false;
   }
 
@@ -23157,8 +23168,11 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_567() {
-    if (jj_3R_63()) return true;
+  private boolean jj_3R_162() {
+    if (jj_3R_164()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_scan_token(176)) jj_scanpos = xsp;
     return false;
   }
 
@@ -23190,6 +23204,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_567() {
+    if (jj_3R_63()) return true;
+    return false;
+  }
+
   private boolean jj_3R_286() {
     if (jj_scan_token(CLUSTER_NUMBER_IDENTIFIER)) return true;
     return false;
@@ -23201,13 +23220,13 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_566() {
-    if (jj_3R_61()) return true;
+  private boolean jj_3R_285() {
+    if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
     return false;
   }
 
-  private boolean jj_3R_285() {
-    if (jj_scan_token(CLUSTER_IDENTIFIER)) return true;
+  private boolean jj_3R_566() {
+    if (jj_3R_61()) return true;
     return false;
   }
 
@@ -23223,6 +23242,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_416() {
+    if (jj_scan_token(STRING_LITERAL)) return true;
+    return false;
+  }
+
   private boolean jj_3R_408() {
     Token xsp;
     xsp = jj_scanpos;
@@ -23233,16 +23257,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_416() {
-    if (jj_scan_token(STRING_LITERAL)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_165() {
-    if (jj_scan_token(MINUS)) return true;
-    return false;
-  }
-
   private boolean jj_3R_644() {
     if (jj_3R_123()) return true;
     return false;
@@ -23253,6 +23267,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_165() {
+    if (jj_scan_token(MINUS)) return true;
+    return false;
+  }
+
   private boolean jj_3R_218() {
     if (jj_scan_token(UNSAFE)) return true;
     return false;
@@ -23323,11 +23342,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_163() {
-    if (jj_scan_token(MINUS)) return true;
-    return false;
-  }
-
   private boolean jj_3R_561() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_560()) return true;
@@ -23339,6 +23353,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_163() {
+    if (jj_scan_token(MINUS)) return true;
+    return false;
+  }
+
   private boolean jj_3R_547() {
     if (jj_3R_106()) return true;
     return false;
@@ -23363,6 +23382,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_545() {
+    if (jj_3R_110()) return true;
+    return false;
+  }
+
   private boolean jj_3R_61() {
     Token xsp;
     xsp = jj_scanpos;
@@ -23371,11 +23395,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_545() {
-    if (jj_3R_110()) return true;
-    return false;
-  }
-
   private boolean jj_3R_412() {
     if (jj_3R_61()) return true;
     return false;
@@ -23691,7 +23710,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_802() {
+  private boolean jj_3R_804() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_61()) return true;
     return false;
@@ -23710,7 +23729,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_801() {
+  private boolean jj_3R_803() {
     if (jj_scan_token(COMMA)) return true;
     if (jj_3R_108()) return true;
     return false;
@@ -23781,7 +23800,7 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_802()) { jj_scanpos = xsp; break; }
+      if (jj_3R_804()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -23823,7 +23842,7 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_801()) { jj_scanpos = xsp; break; }
+      if (jj_3R_803()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -24172,6 +24191,38 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_113() {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_289()) {
+    jj_scanpos = xsp;
+    if (jj_3R_290()) {
+    jj_scanpos = xsp;
+    if (jj_3R_291()) {
+    jj_scanpos = xsp;
+    if (jj_3R_292()) {
+    jj_scanpos = xsp;
+    if (jj_3R_293()) {
+    jj_scanpos = xsp;
+    if (jj_3R_294()) return true;
+    }
+    }
+    }
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3_74() {
+    if (jj_3R_119()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_199() {
+    if (jj_scan_token(UNSAFE)) return true;
+    return false;
+  }
+
   private boolean jj_3R_108() {
     Token xsp;
     xsp = jj_scanpos;
@@ -24458,43 +24509,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_113() {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_289()) {
-    jj_scanpos = xsp;
-    if (jj_3R_290()) {
-    jj_scanpos = xsp;
-    if (jj_3R_291()) {
-    jj_scanpos = xsp;
-    if (jj_3R_292()) {
-    jj_scanpos = xsp;
-    if (jj_3R_293()) {
-    jj_scanpos = xsp;
-    if (jj_3R_294()) return true;
-    }
-    }
-    }
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3_3() {
-    if (jj_3R_62()) return true;
-    return false;
-  }
-
-  private boolean jj_3_74() {
-    if (jj_3R_119()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_199() {
-    if (jj_scan_token(UNSAFE)) return true;
-    return false;
-  }
-
   private boolean jj_3R_313() {
     if (jj_3R_123()) return true;
     return false;
@@ -24505,6 +24519,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3_3() {
+    if (jj_3R_62()) return true;
+    return false;
+  }
+
   private boolean jj_3R_312() {
     if (jj_scan_token(DOT)) return true;
     if (jj_3R_118()) return true;
@@ -24591,6 +24610,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3_72() {
+    if (jj_3R_117()) return true;
+    return false;
+  }
+
   private boolean jj_3_1() {
     if (jj_scan_token(245)) return true;
     if (jj_3R_61()) return true;
@@ -24599,11 +24623,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3_72() {
-    if (jj_3R_117()) return true;
-    return false;
-  }
-
   private boolean jj_3_2() {
     if (jj_3R_61()) return true;
     if (jj_scan_token(COLON)) return true;
@@ -24641,6 +24660,11 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_606() {
+    if (jj_3R_117()) return true;
+    return false;
+  }
+
   private boolean jj_3R_111() {
     Token xsp;
     xsp = jj_scanpos;
@@ -24651,11 +24675,6 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_606() {
-    if (jj_3R_117()) return true;
-    return false;
-  }
-
   private boolean jj_3R_370() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
@@ -24945,7 +24964,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_876() {
+  private boolean jj_3R_878() {
     if (jj_3R_108()) return true;
     return false;
   }
@@ -24970,11 +24989,11 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_874() {
+  private boolean jj_3R_876() {
     if (jj_scan_token(MINUS)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_876()) jj_scanpos = xsp;
+    if (jj_3R_878()) jj_scanpos = xsp;
     if (jj_scan_token(MINUS)) return true;
     return false;
   }
@@ -24984,11 +25003,11 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_870() {
+  private boolean jj_3R_872() {
     if (jj_scan_token(LT)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_874()) {
+    if (jj_3R_876()) {
     jj_scanpos = xsp;
     if (jj_scan_token(197)) return true;
     }
@@ -25086,12 +25105,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_800() {
+  private boolean jj_3R_802() {
     if (jj_scan_token(FALSE)) return true;
     return false;
   }
 
-  private boolean jj_3R_799() {
+  private boolean jj_3R_801() {
     if (jj_scan_token(TRUE)) return true;
     return false;
   }
@@ -25119,9 +25138,9 @@ Token token;
     if (jj_scan_token(COLON)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_799()) {
+    if (jj_3R_801()) {
     jj_scanpos = xsp;
-    if (jj_3R_800()) return true;
+    if (jj_3R_802()) return true;
     }
     return false;
   }
@@ -25327,7 +25346,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_871() {
+  private boolean jj_3R_873() {
     if (jj_3R_363()) return true;
     return false;
   }
@@ -25431,7 +25450,7 @@ Token token;
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_871()) jj_scanpos = xsp;
+    if (jj_3R_873()) jj_scanpos = xsp;
     return false;
   }
 
@@ -25453,12 +25472,12 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_873() {
+  private boolean jj_3R_875() {
     if (jj_3R_363()) return true;
     return false;
   }
 
-  private boolean jj_3R_872() {
+  private boolean jj_3R_874() {
     if (jj_3R_152()) return true;
     return false;
   }
@@ -25478,15 +25497,15 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_872()) { jj_scanpos = xsp; break; }
+      if (jj_3R_874()) { jj_scanpos = xsp; break; }
     }
     if (jj_scan_token(RPAREN)) return true;
     xsp = jj_scanpos;
-    if (jj_3R_873()) jj_scanpos = xsp;
+    if (jj_3R_875()) jj_scanpos = xsp;
     return false;
   }
 
-  private boolean jj_3R_875() {
+  private boolean jj_3R_877() {
     if (jj_3R_363()) return true;
     return false;
   }
@@ -25522,7 +25541,7 @@ Token token;
     if (jj_3R_114()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_875()) jj_scanpos = xsp;
+    if (jj_3R_877()) jj_scanpos = xsp;
     return false;
   }
 
@@ -25546,7 +25565,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_863() {
+  private boolean jj_3R_865() {
     if (jj_3R_156()) return true;
     return false;
   }
@@ -25559,8 +25578,8 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_862() {
-    if (jj_3R_870()) return true;
+  private boolean jj_3R_864() {
+    if (jj_3R_872()) return true;
     return false;
   }
 
@@ -25570,7 +25589,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_861() {
+  private boolean jj_3R_863() {
     if (jj_3R_155()) return true;
     return false;
   }
@@ -25604,7 +25623,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_849() {
+  private boolean jj_3R_851() {
     Token xsp;
     xsp = jj_scanpos;
     if (jj_3_122()) {
@@ -25613,11 +25632,11 @@ Token token;
     jj_scanpos = xsp;
     if (jj_3_124()) {
     jj_scanpos = xsp;
-    if (jj_3R_861()) {
+    if (jj_3R_863()) {
     jj_scanpos = xsp;
-    if (jj_3R_862()) {
+    if (jj_3R_864()) {
     jj_scanpos = xsp;
-    if (jj_3R_863()) return true;
+    if (jj_3R_865()) return true;
     }
     }
     }
@@ -25632,7 +25651,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_845() {
+  private boolean jj_3R_847() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -25660,7 +25679,7 @@ Token token;
     Token xsp;
     while (true) {
       xsp = jj_scanpos;
-      if (jj_3R_849()) { jj_scanpos = xsp; break; }
+      if (jj_3R_851()) { jj_scanpos = xsp; break; }
     }
     return false;
   }
@@ -25815,7 +25834,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_860() {
+  private boolean jj_3R_862() {
     if (jj_3R_123()) return true;
     return false;
   }
@@ -25837,7 +25856,7 @@ Token token;
     if (jj_3R_478()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_860()) jj_scanpos = xsp;
+    if (jj_3R_862()) jj_scanpos = xsp;
     return false;
   }
 
@@ -25858,7 +25877,7 @@ Token token;
     if (jj_3R_108()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_845()) jj_scanpos = xsp;
+    if (jj_3R_847()) jj_scanpos = xsp;
     return false;
   }
 
@@ -25894,7 +25913,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_844() {
+  private boolean jj_3R_846() {
     if (jj_scan_token(STAR)) return true;
     return false;
   }
@@ -25904,7 +25923,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_843() {
+  private boolean jj_3R_845() {
     if (jj_3R_61()) return true;
     return false;
   }
@@ -25937,9 +25956,9 @@ Token token;
     if (jj_scan_token(LBRACKET)) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_843()) {
+    if (jj_3R_845()) {
     jj_scanpos = xsp;
-    if (jj_3R_844()) return true;
+    if (jj_3R_846()) return true;
     }
     if (jj_scan_token(RBRACKET)) return true;
     return false;
@@ -26333,7 +26352,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_842() {
+  private boolean jj_3R_844() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
@@ -26389,7 +26408,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_835() {
+  private boolean jj_3R_837() {
     if (jj_scan_token(255)) return true;
     return false;
   }
@@ -26419,7 +26438,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_834() {
+  private boolean jj_3R_836() {
     if (jj_scan_token(254)) return true;
     return false;
   }
@@ -26427,9 +26446,9 @@ Token token;
   private boolean jj_3R_755() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_834()) {
+    if (jj_3R_836()) {
     jj_scanpos = xsp;
-    if (jj_3R_835()) return true;
+    if (jj_3R_837()) return true;
     }
     return false;
   }
@@ -26454,7 +26473,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_839() {
+  private boolean jj_3R_841() {
     if (jj_scan_token(ASC)) return true;
     return false;
   }
@@ -26575,7 +26594,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_840() {
+  private boolean jj_3R_842() {
     if (jj_3R_123()) return true;
     return false;
   }
@@ -26590,7 +26609,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_841() {
+  private boolean jj_3R_843() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
@@ -26598,9 +26617,9 @@ Token token;
   private boolean jj_3R_779() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_841()) {
+    if (jj_3R_843()) {
     jj_scanpos = xsp;
-    if (jj_3R_842()) return true;
+    if (jj_3R_844()) return true;
     }
     return false;
   }
@@ -26639,7 +26658,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_833() {
+  private boolean jj_3R_835() {
     if (jj_scan_token(253)) return true;
     return false;
   }
@@ -26658,7 +26677,7 @@ Token token;
     if (jj_3R_108()) return true;
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_840()) jj_scanpos = xsp;
+    if (jj_3R_842()) jj_scanpos = xsp;
     return false;
   }
 
@@ -26694,7 +26713,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_832() {
+  private boolean jj_3R_834() {
     if (jj_scan_token(252)) return true;
     return false;
   }
@@ -26704,7 +26723,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_831() {
+  private boolean jj_3R_833() {
     if (jj_scan_token(251)) return true;
     return false;
   }
@@ -26714,7 +26733,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_830() {
+  private boolean jj_3R_832() {
     if (jj_scan_token(250)) return true;
     return false;
   }
@@ -26724,7 +26743,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_829() {
+  private boolean jj_3R_831() {
     if (jj_scan_token(249)) return true;
     return false;
   }
@@ -26746,7 +26765,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_828() {
+  private boolean jj_3R_830() {
     if (jj_scan_token(248)) return true;
     return false;
   }
@@ -26754,17 +26773,17 @@ Token token;
   private boolean jj_3R_754() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_828()) {
-    jj_scanpos = xsp;
-    if (jj_3R_829()) {
-    jj_scanpos = xsp;
     if (jj_3R_830()) {
     jj_scanpos = xsp;
     if (jj_3R_831()) {
     jj_scanpos = xsp;
     if (jj_3R_832()) {
     jj_scanpos = xsp;
-    if (jj_3R_833()) return true;
+    if (jj_3R_833()) {
+    jj_scanpos = xsp;
+    if (jj_3R_834()) {
+    jj_scanpos = xsp;
+    if (jj_3R_835()) return true;
     }
     }
     }
@@ -26792,7 +26811,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_837() {
+  private boolean jj_3R_839() {
     if (jj_3R_123()) return true;
     return false;
   }
@@ -26807,7 +26826,7 @@ Token token;
     return false;
   }
 
-  private boolean jj_3R_838() {
+  private boolean jj_3R_840() {
     if (jj_scan_token(DESC)) return true;
     return false;
   }
@@ -26815,9 +26834,9 @@ Token token;
   private boolean jj_3R_775() {
     Token xsp;
     xsp = jj_scanpos;
-    if (jj_3R_838()) {
+    if (jj_3R_840()) {
     jj_scanpos = xsp;
-    if (jj_3R_839()) return true;
+    if (jj_3R_841()) return true;
     }
     return false;
   }
@@ -26849,6 +26868,19 @@ Token token;
     return false;
   }
 
+  private boolean jj_3R_772() {
+    if (jj_3R_108()) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_839()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_183() {
+    if (jj_3R_381()) return true;
+    return false;
+  }
+
   /** Generated Token Manager. */
   public OrientSqlTokenManager token_source;
   /** Current token. */
@@ -26859,7 +26891,7 @@ Token token;
   private Token jj_scanpos, jj_lastpos;
   private int jj_la;
   private int jj_gen;
-  final private int[] jj_la1 = new int[361];
+  final private int[] jj_la1 = new int[363];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -26879,28 +26911,28 @@ Token token;
       jj_la1_init_7();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x9f800,0x0,0xfc400000,0x0,0x0,0x0,0x3800,0x4000,0x0,0x0,0x0,0x9f800,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x10000000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_0 = new int[] {0x9f800,0x0,0xfc400000,0x0,0x0,0x0,0x3800,0x4000,0x0,0x0,0x0,0x9f800,0x3800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x1000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x200000,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x400000,0x800000,0x0,0x0,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xfc400000,0x800000,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x800000,0x0,0x0,0x0,0x0,0xf0000000,0x100000,0x0,0xfc400000,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x20000000,0x0,0x0,0xf0000000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x200000,0x800,0x200800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x10000000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc404000,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1800000,0x0,0x1800000,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x0,0xfc400000,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x0,0x0,0x0,0xfc400000,0x0,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0x0,0xfc400000,0x4000000,0x0,0x0,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0x0,0x0,0xfc400000,0xfc400000,0xfc400000,0xfc400000,0x0,0x0,0x0,0xfc400000,0xfc400000,0x0,0xfc400000,0xfc400000,0x0,0x98000,0xfc400000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfc400000,0x9f800,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x4080000,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x4080000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x0,0x8802183,0x0,0x0,0x400,0x0,0x80000000,0x0,0x10000,0x0,0x10000,0x400,0x80000,0x0,0x400,0x20000000,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x400,0x1000,0x0,0x0,0x8802183,0x0,0x400,0x1000,0x0,0x0,0x8802183,0x0,0x400,0x1000,0x8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0x88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0x88021a3,0x80000,0x4000000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x8802183,0x80000,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x8802183,0x1,0x2000000,0x1000000,0x1000,0x0,0x8802d83,0x0,0x10000,0x0,0x0,0x0,0x0,0x88021a3,0x0,0x88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x88021a3,0x0,0x8802183,0x0,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0x88021a3,0x0,0x0,0x0,0x8802183,0x0,0x88021a3,0x0,0x88021a3,0x0,0x88021a3,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0x88021a3,0x8802183,0x0,0x0,0x0,0x0,0x0,0x8802183,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x10000,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x20000000,0x8802183,0x20000000,0x0,0x0,0x0,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x88021a3,0x0,0x0,0x88021a3,0x0,0x88021a3,0x8802183,0x8802183,0x0,0x8802183,0x88021a3,0x0,0x20000000,0x0,0x20000000,0x8802183,0x0,0x0,0x20000000,0x8802183,0x0,0x0,0x8802183,0x0,0x200,0x0,0x0,0x8802183,0x0,0x200,0x0,0x8802183,0x0,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x8802183,0x8802183,0x8802183,0x0,0x0,0x0,0x8802183,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x88021a3,0x4080000,0x0,0x0,0x4,0x8000000,0x0,0x4,0x8000000,0x0,0x0,0x0,0x0,};
+      jj_la1_1 = new int[] {0x4080000,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x4080000,0x0,0x4000000,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x88021a3,0x4000000,0x0,0x100,0x80,0x0,0x400,0x2800,0x2c00,0x2c00,0x40000,0x4000,0x800000,0x400000,0x40000000,0x10000000,0x0,0x8802183,0x0,0x0,0x400,0x0,0x80000000,0x40000000,0x0,0x10000,0x0,0x10000,0x400,0x40000000,0x80000,0x0,0x400,0x20000000,0x0,0x80000,0x0,0x400,0x1000,0x0,0x0,0x0,0x1000,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x400,0x1000,0x0,0x0,0x8802183,0x0,0x400,0x1000,0x0,0x0,0x8802183,0x0,0x400,0x1000,0x8802183,0x0,0x400,0x1000,0x7,0x0,0x300000,0x88021a3,0x80000,0x0,0x800000,0x400000,0x400,0x4000,0x7,0x0,0x300000,0x88021a3,0x80000,0x4000000,0x0,0x800000,0x400000,0x400,0x4000,0x0,0x0,0x1,0x4,0x0,0x0,0x7,0x0,0x0,0x0,0x0,0x0,0x0,0x8802183,0x80000,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x0,0x80000,0x0,0x8802183,0x1,0x2000000,0x1000000,0x1000,0x0,0x8802d83,0x0,0x10000,0x0,0x0,0x0,0x0,0x88021a3,0x0,0x88021a3,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x88021a3,0x0,0x8802183,0x0,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x10,0x8,0x88021a3,0x0,0x0,0x0,0x8802183,0x0,0x88021a3,0x0,0x88021a3,0x0,0x88021a3,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x8802183,0x28000,0x28000,0x0,0x8802183,0x28000,0x28000,0x8802183,0x0,0x0,0x0,0x0,0x0,0x2800,0x0,0x80000,0x80000,0x0,0x88021a3,0x8802183,0x0,0x0,0x0,0x0,0x0,0x8802183,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000,0x0,0x10000,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x20000000,0x8802183,0x20000000,0x0,0x0,0x0,0x0,0x8802183,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x88021a3,0x0,0x0,0x88021a3,0x0,0x88021a3,0x8802183,0x8802183,0x0,0x8802183,0x88021a3,0x0,0x20000000,0x0,0x20000000,0x8802183,0x0,0x0,0x20000000,0x8802183,0x0,0x0,0x8802183,0x0,0x200,0x0,0x0,0x8802183,0x0,0x200,0x0,0x8802183,0x0,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x8802183,0x8802183,0x8802183,0x0,0x0,0x0,0x8802183,0x8802183,0x0,0x8802183,0x8802183,0x0,0x0,0x8802183,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000000,0x88021a3,0x4080000,0x0,0x0,0x4,0x8000000,0x0,0x4,0x8000000,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x10a2000,0x0,0xfffbff9c,0x0,0x0,0x0,0x80000,0x0,0x2000,0x0,0x0,0x10a2000,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x40,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x1c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x1c,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x540,0x0,0x540,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x18000,0x40000,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x200000,0x0,0x0,0x400000,0x800000,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0xfe800a00,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x10a2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_2 = new int[] {0x10a2000,0x0,0xfffbff9c,0x0,0x0,0x0,0x80000,0x0,0x2000,0x0,0x0,0x10a2000,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x40,0x0,0x0,0x3,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x1c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x1c,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x1000,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x540,0x0,0x540,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x18000,0x40000,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0x0,0x0,0x0,0x200000,0x0,0x0,0x400000,0x800000,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0xfe800a00,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0xfffbff9c,0xfffbff9c,0xfffbff9c,0x0,0x0,0x0,0xfffbff9c,0xfffbff9c,0x0,0xfffbff9c,0xfffbff9c,0x0,0x0,0xfffbff9c,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xfffbff9c,0x10a2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0xf00e2408,0x80000000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0xf00c2000,0xf00e2408,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x7,0x0,0x80000000,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x80000000,0x20,0xffffffff,0x0,0x0,0x100,0x0,0xffffffff,0x0,0x0,0x100,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x0,0x800,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x10000,0xf00000,0xffffffff,0x0,0x0,0x0,0x2000000,0x0,0x4000000,0x8000000,0x0,0x0,0xffffffff,0xf00e2408,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_3 = new int[] {0xf00e2408,0x80000000,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0xf00c2000,0xf00e2408,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0xffffffff,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0xffffffff,0x0,0x0,0xffffffff,0x0,0xffffffff,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x7,0x0,0x80000000,0x0,0xffffffff,0x0,0x0,0x0,0xffffffff,0x80000000,0x20,0xffffffff,0x0,0x0,0x100,0x0,0xffffffff,0x0,0x0,0x100,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0x0,0x40,0xffffffff,0xffffffff,0xffffffff,0xffffffff,0x0,0x800,0x0,0xffffffff,0xffffffff,0x0,0xffffffff,0xffffffff,0x10000,0xf00000,0xffffffff,0x0,0x0,0x0,0x2000000,0x0,0x4000000,0x8000000,0x0,0x0,0xffffffff,0xf00e2408,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x406,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x406,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30,0x0,0x0,0x0,0x1007ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x7ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x1ffff,0x0,0x10000000,0x1001ffff,0x0,0x10000000,0x1001ffff,0x0,0x0,0x0,0x0,0x0,0x10000000,0x1001ffff,0x0,0x0,0x0,0x0,0x10000000,0x1001ffff,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x1007ffff,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x0,0x200,0x1007ffff,0x0,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x1007ffff,0x0,0x1007ffff,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1007ffff,0x0,0x1007ffff,0x0,0x0,0x10000000,0x7ffff,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1007ffff,0x0,0x0,0x0,0x1ffff,0x0,0x1007ffff,0x0,0x1007ffff,0x0,0x1007ffff,0x0,0x1007ffff,0x1007ffff,0x0,0x0,0x1005ffff,0x0,0x0,0x0,0x1005ffff,0x0,0x0,0x1005ffff,0x0,0x0,0x1005ffff,0x0,0x0,0x0,0x1005ffff,0x0,0x0,0x1005ffff,0x0,0x0,0x10000000,0x10000000,0x10000000,0x0,0x10000000,0x0,0x0,0x0,0x1007ffff,0x1ffff,0x10000000,0x0,0x0,0x0,0x0,0x1ffff,0x5ffff,0x0,0x5ffff,0x5ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8100,0x0,0x8100,0x1ffff,0x0,0x1ffff,0x0,0x1ffff,0x0,0x1ffff,0x0,0x0,0x1ffff,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x1001ffff,0x0,0x0,0x10000000,0x10000000,0x10000000,0x1ffff,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x1ffff,0x0,0x1ffff,0x1001ffff,0x1001ffff,0x0,0x1ffff,0x1ffff,0x0,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x5ffff,0x0,0x0,0x0,0x0,0x5ffff,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x1ffff,0x1ffff,0x0,0x0,0x1ffff,0x1ffff,0x1ffff,0x1ffff,0x8,0x0,0x0,0x1001ffff,0x1ffff,0x0,0x5ffff,0x5ffff,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x1007ffff,0x406,0x0,0x80,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_4 = new int[] {0x406,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6,0x406,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30,0x0,0x0,0x0,0x1007ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x7ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10000000,0x10000000,0x0,0x1ffff,0x0,0x10000000,0x1001ffff,0x0,0x10000000,0x1001ffff,0x0,0x0,0x0,0x0,0x0,0x10000000,0x1001ffff,0x0,0x0,0x0,0x0,0x10000000,0x1001ffff,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x1007ffff,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x0,0x200,0x1007ffff,0x0,0x0,0x0,0x30,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x1007ffff,0x0,0x1007ffff,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1007ffff,0x0,0x1007ffff,0x0,0x0,0x10000000,0x7ffff,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1007ffff,0x0,0x0,0x0,0x1ffff,0x0,0x1007ffff,0x0,0x1007ffff,0x0,0x1007ffff,0x0,0x1007ffff,0x1007ffff,0x0,0x0,0x1005ffff,0x0,0x0,0x0,0x1005ffff,0x0,0x0,0x1005ffff,0x0,0x0,0x1005ffff,0x0,0x0,0x0,0x1005ffff,0x0,0x0,0x1005ffff,0x0,0x0,0x10000000,0x10000000,0x10000000,0x0,0x10000000,0x0,0x0,0x0,0x1007ffff,0x1ffff,0x10000000,0x0,0x0,0x0,0x0,0x1ffff,0x5ffff,0x0,0x5ffff,0x5ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8100,0x0,0x8100,0x1ffff,0x0,0x1ffff,0x0,0x1ffff,0x0,0x1ffff,0x0,0x0,0x1ffff,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x1001ffff,0x0,0x0,0x10000000,0x10000000,0x10000000,0x1ffff,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x1ffff,0x0,0x1ffff,0x1001ffff,0x1001ffff,0x0,0x1ffff,0x1ffff,0x0,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x5ffff,0x0,0x0,0x0,0x0,0x5ffff,0x0,0x0,0x0,0x1ffff,0x0,0x0,0x1ffff,0x1ffff,0x0,0x0,0x1ffff,0x1ffff,0x1ffff,0x1ffff,0x8,0x0,0x0,0x1001ffff,0x1ffff,0x0,0x5ffff,0x5ffff,0x0,0x0,0x1ffff,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x0,0x1007ffff,0x406,0x0,0x80,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x10000,0x10000,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30005761,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x4000,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x4000,0x0,0x0,0x20000,0x0,0x30004400,0x20000,0x0,0x30004400,0x0,0x0,0x0,0x0,0x20000,0x0,0x30004400,0x0,0x0,0x0,0x20000,0x0,0x30004400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30005761,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30005761,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x20000,0x20000,0x0,0x44000,0x400000,0x44000,0x44000,0x400000,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x20000,0x20000,0x20000,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x30000000,0x0,0x20000,0x0,0x20000,0x0,0x0,0x20000,0x30005761,0x20000,0x30005761,0x0,0x0,0x4000,0x40000,0x0,0x1300,0x0,0x0,0x30005761,0x60,0x30004061,0x20000,0x400,0x0,0x30004400,0x0,0x20000,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x30005761,0x300,0xc3c00000,0xc00000,0x60,0x20000,0x30005761,0x20000,0x30005761,0x20000,0x30005761,0xc3c00000,0x30004461,0x30004461,0x30000060,0x44000,0x0,0x0,0x0,0x44000,0x0,0x0,0x0,0x400,0x20000,0x44000,0x0,0x0,0x0,0x44000,0x0,0x0,0x0,0x400,0x20000,0x20000,0x30000000,0x30000000,0x30000000,0x0,0x30000000,0x0,0x0,0x20000,0x30005761,0x4000,0x0,0x4000,0x0,0x40000,0x0,0x4000,0x60,0x20000,0x60,0x60,0x1040000,0x1000000,0x1000,0x1000,0x1000,0x1000000,0x1000,0x20000,0x0,0x300,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x1000,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x4000,0x400,0x0,0x20000,0x0,0x4000,0x0,0x20000,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x400000,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x20000,0x0,0x300,0x0,0x0,0x0,0x0,0x30005761,0x10000,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_5 = new int[] {0x10000,0x10000,0x0,0x0,0x0,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30005761,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x4000,0x0,0x0,0x20000,0x0,0x30004400,0x20000,0x0,0x30004400,0x0,0x0,0x0,0x0,0x20000,0x0,0x30004400,0x0,0x0,0x0,0x20000,0x0,0x30004400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30005761,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x30005761,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x20000,0x0,0x0,0x20000,0x20000,0x0,0x44000,0x400000,0x44000,0x44000,0x400000,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x20000,0x20000,0x20000,0x20000,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x30000000,0x0,0x20000,0x0,0x20000,0x0,0x0,0x20000,0x30005761,0x20000,0x30005761,0x0,0x0,0x4000,0x40000,0x0,0x1300,0x0,0x0,0x30005761,0x60,0x30004061,0x20000,0x400,0x0,0x30004400,0x0,0x20000,0x0,0x0,0x40000,0x40000,0x0,0x0,0x0,0x0,0x30005761,0x300,0xc3c00000,0xc00000,0x60,0x20000,0x30005761,0x20000,0x30005761,0x20000,0x30005761,0xc3c00000,0x30004461,0x30004461,0x30000060,0x44000,0x0,0x0,0x0,0x44000,0x0,0x0,0x0,0x400,0x20000,0x44000,0x0,0x0,0x0,0x44000,0x0,0x0,0x0,0x400,0x20000,0x20000,0x30000000,0x30000000,0x30000000,0x0,0x30000000,0x0,0x0,0x20000,0x30005761,0x4000,0x0,0x4000,0x0,0x40000,0x0,0x4000,0x60,0x20000,0x60,0x60,0x1040000,0x1000000,0x1000,0x1000,0x1000,0x1000000,0x1000,0x20000,0x0,0x300,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1000,0x0,0x0,0x1000,0x0,0x0,0x1000,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x4000,0x400,0x0,0x20000,0x0,0x4000,0x0,0x20000,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x400000,0x40,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x400,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x20000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x40000,0x40000,0x20000,0x0,0x300,0x0,0x0,0x0,0x0,0x30005761,0x10000,0x10000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_6() {
-      jj_la1_6 = new int[] {0x0,0x0,0x20000000,0x80,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x80,0x0,0x20000000,0x0,0x80,0x20000080,0x0,0x80,0x20000080,0x0,0x0,0x0,0x0,0x0,0x80,0x20000080,0x0,0x0,0x0,0x0,0x80,0x20000080,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x20000180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x78000,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x8000080,0x8000080,0x0,0x20000180,0x0,0x20000180,0x0,0x100,0x0,0x0,0x0,0x0,0xc0,0x2300,0x20000180,0x0,0x20000180,0x0,0x0,0x80,0x20000100,0x0,0x0,0x20000000,0x0,0x80,0x80,0x0,0x0,0x0,0x0,0x30000180,0x0,0x4000000b,0x0,0x20000000,0x0,0x20000180,0x0,0x20000180,0x0,0x20000180,0x4000000b,0x20000180,0x20000180,0x0,0x0,0x20000080,0x0,0x0,0x0,0x20000080,0x0,0x0,0x20000080,0x0,0x0,0x20000080,0x0,0x0,0x0,0x20000080,0x0,0x0,0x20000080,0x0,0x0,0x80,0x80,0x80,0x0,0x80,0x0,0x0,0x0,0x20000180,0x20000100,0x180,0x0,0x100,0x0,0x100,0x20000100,0x20000000,0x0,0x20000000,0x20000000,0xa0,0x0,0x0,0x0,0x0,0xa0,0x0,0x0,0x0,0x0,0x0,0x20000000,0xa0,0x20000000,0xa0,0x20000000,0xa0,0x20000000,0xa0,0x0,0x20000000,0xa0,0x0,0x20000000,0xa0,0x0,0x0,0x0,0x0,0x20000080,0x0,0x0,0x80,0x80,0x80,0x20000000,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0xc0,0xc0,0x20000000,0x0,0x20000000,0x20000080,0x20000080,0x0,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x20000000,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x20000000,0x0,0x0,0x20000000,0x20000000,0x0,0x0,0x20000000,0x20000000,0x20000100,0x20000100,0x0,0x0,0x100,0x20000080,0x20000000,0x80,0x20000000,0x20000000,0x0,0x0,0x20000100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_6 = new int[] {0x0,0x0,0x20000000,0x80,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x80,0x0,0x20000000,0x0,0x80,0x20000080,0x0,0x80,0x20000080,0x0,0x0,0x0,0x0,0x0,0x80,0x20000080,0x0,0x0,0x0,0x0,0x80,0x20000080,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x20000180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x78000,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x8000080,0x8000080,0x0,0x20000180,0x0,0x20000180,0x0,0x100,0x0,0x0,0x0,0x0,0xc0,0x2300,0x20000180,0x0,0x20000180,0x0,0x0,0x80,0x20000100,0x0,0x0,0x20000000,0x0,0x80,0x80,0x0,0x0,0x0,0x0,0x30000180,0x0,0x4000000b,0x0,0x20000000,0x0,0x20000180,0x0,0x20000180,0x0,0x20000180,0x4000000b,0x20000180,0x20000180,0x0,0x0,0x20000080,0x0,0x0,0x0,0x20000080,0x0,0x0,0x20000080,0x0,0x0,0x20000080,0x0,0x0,0x0,0x20000080,0x0,0x0,0x20000080,0x0,0x0,0x80,0x80,0x80,0x0,0x80,0x0,0x0,0x0,0x20000180,0x20000100,0x180,0x0,0x100,0x0,0x100,0x20000100,0x20000000,0x0,0x20000000,0x20000000,0xa0,0x0,0x0,0x0,0x0,0xa0,0x0,0x0,0x0,0x0,0x0,0x20000000,0xa0,0x20000000,0xa0,0x20000000,0xa0,0x20000000,0xa0,0x0,0x20000000,0xa0,0x0,0x20000000,0xa0,0x0,0x0,0x0,0x0,0x20000080,0x0,0x0,0x80,0x80,0x80,0x20000000,0x0,0x20000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000000,0xc0,0xc0,0x20000000,0x0,0x20000000,0x20000080,0x20000080,0x0,0x20000000,0x20000000,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x20000000,0x0,0x0,0x20000000,0x0,0x0,0x0,0x0,0x20000000,0x0,0x0,0x0,0x20000000,0x0,0x0,0x20000000,0x20000000,0x0,0x0,0x20000000,0x20000000,0x20000100,0x20000100,0x0,0x0,0x100,0x20000080,0x20000000,0x80,0x20000000,0x20000000,0x0,0x0,0x20000100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x20000180,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_7() {
-      jj_la1_7 = new int[] {0x0,0x0,0xc80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0x0,0xc80,0x0,0x200000,0x200c80,0x0,0x200000,0x200c80,0x0,0x0,0x0,0x0,0x0,0x200000,0x200c80,0x0,0x0,0x0,0x0,0x200000,0x200c80,0x0,0x0,0x0,0xc80,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x30c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x0,0x200,0xc80,0x0,0x0,0x0,0x0,0x0,0xc80,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0xc80,0x0,0x0,0x230200,0x40c80,0x30000,0x0,0xc80,0x400000,0x0,0x0,0xe000,0xf000,0x0,0x0,0x200c80,0x0,0x8,0x0,0xc80,0x0,0x200c80,0x0,0x200c80,0x0,0x200c80,0x9,0xc80,0xc80,0x0,0x0,0x200c80,0x0,0x0,0x0,0x200c80,0x0,0x0,0x200c80,0x0,0x0,0x200c80,0x0,0x0,0x0,0x200c80,0x0,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0xc80,0x0,0x0,0x0,0x0,0x0,0xc80,0xc80,0x0,0xc80,0xc80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc80,0x0,0xc80,0x0,0xc80,0x0,0xc80,0x0,0x0,0xc80,0x0,0x0,0xc80,0x0,0x0,0x0,0x0,0x0,0xc80,0x0,0x0,0x200000,0x200000,0x200000,0xc80,0x0,0x30c80,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0xc80,0x0,0x0,0xc80,0x0,0xc80,0xc80,0xc80,0x0,0x800c80,0xc80,0x0,0x0,0x0,0x0,0xc80,0x0,0x0,0x0,0xc80,0x0,0x0,0xc80,0x80,0x0,0x0,0x0,0xc80,0x80,0x0,0x0,0xc80,0x0,0x0,0xc80,0xc80,0x0,0x0,0xc80,0xc80,0x400c80,0x400c80,0x200,0x0,0x0,0xc80,0xc80,0x0,0xc80,0xc80,0x0,0x0,0xe80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3f000000,0x3f000000,0xc0000000,0xc0000000,};
+      jj_la1_7 = new int[] {0x0,0x0,0xc80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200000,0x200000,0x0,0xc80,0x0,0x200000,0x200c80,0x0,0x200000,0x200c80,0x0,0x0,0x0,0x0,0x0,0x200000,0x200c80,0x0,0x0,0x0,0x0,0x200000,0x200c80,0x0,0x0,0x0,0xc80,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x30c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x0,0x200,0xc80,0x0,0x0,0x0,0x0,0x0,0xc80,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0xc80,0x0,0x0,0x230200,0x40c80,0x30000,0x0,0xc80,0x400000,0x0,0x0,0xe000,0xf000,0x0,0x0,0x200c80,0x0,0x8,0x0,0xc80,0x0,0x200c80,0x0,0x200c80,0x0,0x200c80,0x9,0xc80,0xc80,0x0,0x0,0x200c80,0x0,0x0,0x0,0x200c80,0x0,0x0,0x200c80,0x0,0x0,0x200c80,0x0,0x0,0x0,0x200c80,0x0,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0xc80,0x0,0x0,0x0,0x0,0x0,0xc80,0xc80,0x0,0xc80,0xc80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xc80,0x0,0xc80,0x0,0xc80,0x0,0xc80,0x0,0x0,0xc80,0x0,0x0,0xc80,0x0,0x0,0x0,0x0,0x0,0xc80,0x0,0x0,0x200000,0x200000,0x200000,0xc80,0x0,0x30c80,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0xc80,0x0,0x0,0xc80,0x0,0xc80,0xc80,0xc80,0x0,0x800c80,0xc80,0x0,0x0,0x0,0x0,0xc80,0x0,0x0,0x0,0xc80,0x0,0x0,0xc80,0x80,0x0,0x0,0x0,0xc80,0x80,0x0,0x0,0xc80,0x0,0x0,0xc80,0xc80,0x0,0x0,0xc80,0xc80,0x400c80,0x400c80,0x200,0x0,0x0,0xc80,0xc80,0x0,0xc80,0xc80,0x0,0x0,0xe80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200c80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x3f000000,0x3f000000,0xc0000000,0xc0000000,};
    }
   final private JJCalls[] jj_2_rtns = new JJCalls[141];
   private boolean jj_rescan = false;
@@ -26912,7 +26944,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 361; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 363; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -26923,7 +26955,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 361; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 363; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -26933,7 +26965,7 @@ Token token;
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 361; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 363; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -26944,7 +26976,7 @@ Token token;
     jj_ntk = -1;
     jjtree.reset();
     jj_gen = 0;
-    for (int i = 0; i < 361; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 363; i++) jj_la1[i] = -1;
     for (int i = 0; i < jj_2_rtns.length; i++) jj_2_rtns[i] = new JJCalls();
   }
 
@@ -27061,7 +27093,7 @@ Token token;
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 361; i++) {
+    for (int i = 0; i < 363; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
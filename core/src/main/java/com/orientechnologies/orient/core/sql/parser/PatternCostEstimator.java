@@ -0,0 +1,247 @@
+package com.orientechnologies.orient.core.sql.parser;
+
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.sql.OEdgeFanOutStatistics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the rows produced by the traversals of a MATCH pattern, from the number of candidates of the aliases and the number of
+ * edges per vertex kept by {@link OEdgeFanOutStatistics}. The cost of a schedule is the number of rows read: the candidates of the
+ * root plus the neighbours reached by every traversal.
+ */
+class PatternCostEstimator {
+  /**
+   * Fan-out of traversals without statistics, like the ones with a while condition.
+   */
+  static final double DEFAULT_FAN_OUT = 10;
+
+  static class Estimate {
+    final double[] rows;
+    final double   cost;
+
+    Estimate(double[] rows, double cost) {
+      this.rows = rows;
+      this.cost = cost;
+    }
+  }
+
+  private final ODatabaseDocumentInternal db;
+  private final OEdgeFanOutStatistics     statistics;
+  private final Map<String, String>       aliasClasses;
+  private final Map<String, ORID>         aliasRids;
+  private final Map<String, Long>         estimatedRootEntries;
+  private final OCommandContext           context;
+  private final Map<String, Long>         classCounts = new HashMap<String, Long>();
+
+  PatternCostEstimator(ODatabaseDocumentInternal db, OEdgeFanOutStatistics statistics, Map<String, String> aliasClasses,
+      Map<String, ORID> aliasRids, Map<String, Long> estimatedRootEntries, OCommandContext context) {
+    this.db = db;
+    this.statistics = statistics;
+    this.aliasClasses = aliasClasses;
+    this.aliasRids = aliasRids;
+    this.estimatedRootEntries = estimatedRootEntries;
+    this.context = context;
+  }
+
+  boolean hasStatistics() {
+    return statistics != null;
+  }
+
+  /**
+   * @return the estimated number of neighbours of the matching records reached traversing the edge in the given direction that
+   * also match the filters of the alias on the other side
+   */
+  double expansion(PatternEdge edge, boolean out) {
+    PatternNode target = out ? edge.in : edge.out;
+    return fanOut(edge, out) * selectivity(target.alias);
+  }
+
+  /**
+   * @return the estimated number of neighbours reached from a record traversing the edge in the given direction
+   */
+  double fanOut(PatternEdge edge, boolean out) {
+    OMatchPathItem item = edge.item;
+    if (statistics == null || item.method == null || item instanceof OMultiMatchPathItem) {
+      return DEFAULT_FAN_OUT;
+    }
+    if (item.filter != null && (item.filter.getWhileCondition() != null || item.filter.getMaxDepth() != null)) {
+      return DEFAULT_FAN_OUT;
+    }
+
+    String method = item.method.methodName.getStringValue().toLowerCase(Locale.ENGLISH);
+    if (!out) {
+      method = reverse(method);
+      if (method == null) {
+        return DEFAULT_FAN_OUT;
+      }
+    }
+
+    if (method.equals("outv") || method.equals("inv")) {
+      return 1;
+    }
+    if (method.equals("bothv")) {
+      return 2;
+    }
+
+    String direction;
+    if (method.startsWith("out")) {
+      direction = "out";
+    } else if (method.startsWith("in")) {
+      direction = "in";
+    } else if (method.startsWith("both")) {
+      direction = "both";
+    } else {
+      return DEFAULT_FAN_OUT;
+    }
+
+    String className = aliasClasses.get(out ? edge.out.alias : edge.in.alias);
+    if (className == null) {
+      className = "V";
+    }
+    OEdgeFanOutStatistics.OFanOut fanOut = statistics.getFanOut(db, className, direction, getLabels(item.method));
+    return fanOut == null ? DEFAULT_FAN_OUT : fanOut.getAverage();
+  }
+
+  /**
+   * @return true if all the traversals of the schedule that go against the direction of their edge can be executed in reverse
+   */
+  boolean isExecutable(List<OMatchStatement.EdgeTraversal> schedule) {
+    for (OMatchStatement.EdgeTraversal traversal : schedule) {
+      if (!traversal.out && !traversal.edge.item.isBidirectional()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  Estimate estimate(List<OMatchStatement.EdgeTraversal> schedule) {
+    double[] rows = new double[schedule.size() + 1];
+    if (schedule.isEmpty()) {
+      return new Estimate(rows, 0);
+    }
+
+    Set<String> matched = new HashSet<String>();
+    OMatchStatement.EdgeTraversal first = schedule.get(0);
+    String root = first.out ? first.edge.out.alias : first.edge.in.alias;
+    double current = candidates(root);
+    double cost = current;
+    rows[0] = current;
+    matched.add(root);
+
+    for (int i = 0; i < schedule.size(); i++) {
+      OMatchStatement.EdgeTraversal traversal = schedule.get(i);
+      PatternNode source = traversal.out ? traversal.edge.out : traversal.edge.in;
+      PatternNode target = traversal.out ? traversal.edge.in : traversal.edge.out;
+
+      if (!matched.contains(source.alias)) {
+        // disjoint pattern, restarted from the candidates of another alias
+        current *= candidates(source.alias);
+        cost += current;
+        matched.add(source.alias);
+      }
+
+      double traversed = current * fanOut(traversal.edge, traversal.out);
+      cost += traversed;
+
+      double next;
+      if (matched.contains(target.alias)) {
+        // the neighbours are only checked against the record already matched
+        next = Math.min(current, traversed / Math.max(1, classCount(target.alias)));
+      } else {
+        next = traversed * selectivity(target.alias);
+      }
+      if (target.isOptionalNode()) {
+        next = Math.max(next, current);
+      }
+
+      current = next;
+      matched.add(target.alias);
+      rows[i + 1] = current;
+    }
+    return new Estimate(rows, cost);
+  }
+
+  private double candidates(String alias) {
+    Long estimate = estimatedRootEntries.get(alias);
+    if (estimate != null) {
+      return estimate;
+    }
+    return classCount(alias);
+  }
+
+  private double selectivity(String alias) {
+    long count = classCount(alias);
+    if (count <= 0) {
+      return 1;
+    }
+    if (aliasRids.get(alias) != null) {
+      return 1d / count;
+    }
+    Long estimate = estimatedRootEntries.get(alias);
+    if (estimate == null) {
+      return 1;
+    }
+    return Math.min(1d, (double) estimate / count);
+  }
+
+  private long classCount(String alias) {
+    String className = aliasClasses.get(alias);
+    if (className == null) {
+      className = "V";
+    }
+    Long count = classCounts.get(className);
+    if (count == null) {
+      OClass oClass = db.getMetadata().getSchema().getClass(className);
+      count = oClass == null ? 0 : oClass.count();
+      classCounts.put(className, count);
+    }
+    return count;
+  }
+
+  private String[] getLabels(OMethodCall method) {
+    List<String> labels = new ArrayList<String>();
+    for (OExpression param : method.params) {
+      Object value = param.execute((OIdentifiable) null, context);
+      if (value instanceof String) {
+        labels.add((String) value);
+      }
+    }
+    return labels.toArray(new String[labels.size()]);
+  }
+
+  private static String reverse(String method) {
+    if (method.equals("out")) {
+      return "in";
+    }
+    if (method.equals("in")) {
+      return "out";
+    }
+    if (method.equals("both")) {
+      return "both";
+    }
+    if (method.equals("oute")) {
+      return "outv";
+    }
+    if (method.equals("outv")) {
+      return "oute";
+    }
+    if (method.equals("ine")) {
+      return "inv";
+    }
+    if (method.equals("inv")) {
+      return "ine";
+    }
+    return null;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.query;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.ODatabaseRecordThreadLocal;
+import com.orientechnologies.orient.core.metadata.OMetadataInternal;
+
+import java.util.List;
+
+/**
+ * SQL query whose result is read through a cursor open on the server, when executed against a remote database. The server
+ * executes the query while the client reads the result, keeping ready at most a page of records, and the client fetches the pages
+ * on demand keeping in memory only the current one. Against an embedded database, or a server that does not support cursors, it
+ * works like {@link OSQLSynchQuery}.
+ * <p>
+ * The returned list is meant to be iterated once: the records are discarded as soon as the iterator leaves their page, while
+ * {@code size()}, {@code get()} and the other methods of the list load all the remaining records. A cursor not read until the
+ * end is closed by the server after {@link OGlobalConfiguration#NETWORK_BINARY_CURSOR_TIMEOUT} ms.
+ *
+ * @param <T>
+ * @see OGlobalConfiguration#NETWORK_BINARY_CURSOR_PAGE_SIZE
+ */
+@SuppressWarnings({ "unchecked", "serial" })
+public class OSQLCursorQuery<T extends Object> extends OSQLSynchQuery<T> {
+  private int pageSize = OGlobalConfiguration.NETWORK_BINARY_CURSOR_PAGE_SIZE.getValueAsInteger();
+
+  public OSQLCursorQuery() {
+  }
+
+  public OSQLCursorQuery(final String iText) {
+    super(iText);
+  }
+
+  public OSQLCursorQuery(final String iText, final int iPageSize) {
+    super(iText);
+    setPageSize(iPageSize);
+  }
+
+  @Override
+  public List<T> run(final Object... iArgs) {
+    final ODatabaseDocumentInternal database = ODatabaseRecordThreadLocal.INSTANCE.get();
+    if (database == null || !database.getStorage().isRemote())
+      return super.run(iArgs);
+
+    // THE RESULT IS NOT COLLECTED BY THE QUERY: IT WOULD LOAD ALL THE PAGES
+    ((OMetadataInternal) database.getMetadata()).makeThreadLocalSchemaSnapshot();
+    try {
+      setParameters(iArgs);
+      return (List<T>) database.getStorage().command(this);
+
+    } finally {
+      ((OMetadataInternal) database.getMetadata()).clearThreadLocalSchemaSnapshot();
+    }
+  }
+
+  /**
+   * @return the number of records fetched at a time from the server
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  public OSQLCursorQuery<T> setPageSize(final int iPageSize) {
+    if (iPageSize < 1)
+      throw new IllegalArgumentException("Page size must be greater than 0, found " + iPageSize);
+    pageSize = iPageSize;
+    return this;
+  }
+}
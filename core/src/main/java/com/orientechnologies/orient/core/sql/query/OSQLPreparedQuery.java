@@ -0,0 +1,57 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL synchronous query meant to be executed many times with different parameters. The first execution parses the statement
+ * keeping the parameters as placeholders, the following ones reuse the parsed executor kept by the database, so only the
+ * parameters have to be bound. Use it for SELECT statements that pass all the variable values as parameters:
+ * 
+ * <pre>
+ * OSQLPreparedQuery&lt;ODocument&gt; query = db.prepare(&quot;select from Person where name = ?&quot;);
+ * List&lt;ODocument&gt; result = db.query(query, &quot;Luke&quot;);
+ * </pre>
+ * 
+ * The statement is reused only if it runs on the step based executor and its parameters are in the WHERE condition, otherwise
+ * it is parsed at every execution like any other query. Unlike {@link OSQLSynchQuery} every execution returns a new list and
+ * never continues from the last record returned by the previous one.
+ * 
+ * @param <T>
+ * @see com.orientechnologies.orient.core.sql.OPreparedQueryCache
+ */
+@SuppressWarnings({ "unchecked", "serial" })
+public class OSQLPreparedQuery<T extends Object> extends OSQLSynchQuery<T> {
+
+  public OSQLPreparedQuery() {
+  }
+
+  public OSQLPreparedQuery(final String iText) {
+    super(iText);
+  }
+
+  @Override
+  public List<T> run(final Object... iArgs) {
+    resetPagination();
+    return new ArrayList<T>(super.run(iArgs));
+  }
+}
@@ -133,6 +133,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
   private volatile int defaultClusterId = -1;
   protected volatile OAtomicOperationsManager atomicOperationsManager;
+  private volatile OClusterCompactor        clusterCompactor;
   private volatile OLowDiskSpaceInformation lowDiskSpace      = null;
   private volatile boolean                  checkpointRequest = false;
 
@@ -321,6 +322,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
       status = STATUS.OPEN;
 
+      startClusterCompactor();
+
       readCache.loadCacheState(writeCache);
     } catch (Exception e) {
       for (OCluster c : clusters) {
@@ -506,6 +509,8 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       clearStorageDirty();
 
       writeCache.startFuzzyCheckpoints();
+      startClusterCompactor();
+
       postCreateSteps();
 
     } catch (OStorageException e) {
@@ -1191,6 +1196,67 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     return atomicOperationsManager;
   }
 
+  /**
+   * @return online compactor of clusters of this storage or <code>null</code> if storage is not opened
+   */
+  public OClusterCompactor getClusterCompactor() {
+    return clusterCompactor;
+  }
+
+  /**
+   * Moves records of cluster from sparsely filled pages into densely filled ones, cluster positions of records are not changed.
+   *
+   * @see OPaginatedCluster#relocateRecords(long, int, float)
+   */
+  public OPaginatedCluster.RelocationResult relocateClusterRecords(final int clusterId, final long fromPosition,
+      final int batchSize, final float maxFillFactor) {
+    checkOpeness();
+    checkLowDiskSpaceFullCheckpointRequestsAndBackgroundDataFlushExceptions();
+
+    stateLock.acquireReadLock();
+    try {
+      checkOpeness();
+
+      final OCluster cluster = getClusterById(clusterId);
+      if (!(cluster instanceof OPaginatedCluster))
+        throw new OStorageException("Records of cluster '" + cluster.getName() + "' can not be relocated");
+
+      return ((OPaginatedCluster) cluster).relocateRecords(fromPosition, batchSize, maxFillFactor);
+    } catch (IOException ioe) {
+      throw OException.wrapException(
+          new OStorageException("Error during relocation of records of cluster " + clusterId + " in storage '" + name + '\''), ioe);
+    } finally {
+      stateLock.releaseReadLock();
+    }
+  }
+
+  private void startClusterCompactor() {
+    // ALWAYS CREATED FOR ITS STATISTICS AND THE COMPACTION ON DEMAND, THE INTERVAL ONLY SCHEDULES THE BACKGROUND RUNS
+    clusterCompactor = new OClusterCompactor(this);
+    try {
+      clusterCompactor.registerMBean();
+    } catch (Exception e) {
+      OLogManager.instance().error(this, "MBean for cluster compactor cannot be registered", e);
+    }
+
+    clusterCompactor.start();
+  }
+
+  private void stopClusterCompactor() {
+    final OClusterCompactor compactor = clusterCompactor;
+    if (compactor == null)
+      return;
+
+    clusterCompactor = null;
+    compactor.shutdown();
+
+    try {
+      compactor.unregisterMBean();
+    } catch (Exception e) {
+      OLogManager.instance().error(this, "MBean for cluster compactor cannot be unregistered", e);
+    }
+  }
+
   public OWriteAheadLog getWALInstance() {
     return writeAheadLog;
   }
@@ -1398,7 +1464,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           startStorageTx(clientTx);
 
           lockClusters(clustersToLock);
-          lockRidBags(clustersToLock, indexesToCommit);
+          lockRidBags(clustersToLock, indexesToCommit, entries);
           lockIndexes(indexesToCommit);
 
           Map<ORecordOperation, OPhysicalPosition> positions = new IdentityHashMap<ORecordOperation, OPhysicalPosition>();
@@ -2619,7 +2685,7 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
           // CACHE THE COMMAND RESULT
           db.getMetadata().getCommandCache()
               .put(db.getUser(), iCommand.getText(), result, iCommand.getLimit(), executor.getInvolvedClusters(),
-                  System.currentTimeMillis() - beginTime);
+                  executor.getCacheDependency(), System.currentTimeMillis() - beginTime);
       }
 
       // CALL AFTER COMMAND
@@ -3465,6 +3531,9 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
 
     final long timer = Orient.instance().getProfiler().startChrono();
 
+    // compaction uses storage state lock, so it should be stopped before the lock is acquired
+    stopClusterCompactor();
+
     stateLock.acquireWriteLock();
     try {
       if (status == STATUS.CLOSED)
@@ -4253,12 +4322,18 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
       cluster.acquireAtomicExclusiveLock();
   }
 
-  private void lockRidBags(final TreeMap<Integer, OCluster> clusters, final TreeMap<String, OTransactionIndexChanges> indexes) {
+  private void lockRidBags(final TreeMap<Integer, OCluster> clusters, final TreeMap<String, OTransactionIndexChanges> indexes,
+      final Iterable<ORecordOperation> entries) {
     final OAtomicOperation atomicOperation = atomicOperationsManager.getCurrentOperation();
 
-    for (Integer clusterId : clusters.keySet())
-      atomicOperationsManager
-          .acquireExclusiveLockTillOperationComplete(atomicOperation, OSBTreeCollectionManagerAbstract.generateLockName(clusterId));
+    if (OSBTreeCollectionManagerAbstract.getFilesPerCluster() == 1) {
+      for (Integer clusterId : clusters.keySet())
+        atomicOperationsManager
+            .acquireExclusiveLockTillOperationComplete(atomicOperation, OSBTreeCollectionManagerAbstract.generateLockName(clusterId));
+    } else {
+      for (String lockName : getRidBagLockNames(atomicOperation, clusters, entries))
+        atomicOperationsManager.acquireExclusiveLockTillOperationComplete(atomicOperation, lockName);
+    }
 
     for (Map.Entry<String, OTransactionIndexChanges> entry : indexes.entrySet()) {
       final String indexName = entry.getKey();
@@ -4270,6 +4345,32 @@ public abstract class OAbstractPaginatedStorage extends OStorageAbstract
     }
   }
 
+  /**
+   * Collections of cluster are spread among several files, so instead of locking all of them only the files which contain
+   * collections of committed documents and the files where current thread creates new collections are locked. Lock names are
+   * sorted to acquire them in the same order in all transactions.
+   */
+  private Set<String> getRidBagLockNames(final OAtomicOperation atomicOperation, final TreeMap<Integer, OCluster> clusters,
+      final Iterable<ORecordOperation> entries) {
+    final int threadFileIndex = OSBTreeCollectionManagerAbstract.getCurrentThreadFileIndex();
+
+    final Set<String> lockNames = new TreeSet<String>();
+    for (Integer clusterId : clusters.keySet())
+      lockNames.add(OSBTreeCollectionManagerAbstract.generateLockName(clusterId, threadFileIndex));
+
+    for (ORecordOperation txEntry : entries) {
+      final ORecord record = txEntry.getRecord();
+      if (record instanceof ODocument)
+        for (OBonsaiCollectionPointer pointer : ORidBagPointerCollector.collectPointers((ODocument) record)) {
+          final String fileName = atomicOperation.fileNameById(pointer.getFileId());
+          if (fileName != null)
+            lockNames.add(fileName);
+        }
+    }
+
+    return lockNames;
+  }
+
   public AtomicLong getRecordScanned() {
     return recordScanned;
   }
@@ -0,0 +1,349 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.exception.OStorageException;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.storage.OCluster;
+import com.orientechnologies.orient.core.storage.OStorage;
+import com.orientechnologies.orient.core.storage.OStorageAbstract;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+
+import javax.management.*;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Online compaction of clusters of paginated storage. Compactor periodically walks through all clusters of storage and moves
+ * records from sparsely filled pages into densely filled ones by calling {@link OPaginatedCluster#relocateRecords(long, int,
+ * float)}. Pages which became empty are reused by cluster to store new records. Records keep their rids, so compaction may be
+ * performed while database is in use. To limit influence on the rest of the system records are processed in small batches with
+ * a pause between them.
+ * <p>
+ * Statistic of compaction is available through JMX and as a result of <code>SELECT FROM metadata:storage</code> query.
+ *
+ * @see OGlobalConfiguration#STORAGE_CLUSTER_COMPACTION_INTERVAL
+ */
+public class OClusterCompactor implements OClusterCompactorMXBean {
+  public static final String MBEAN_NAME = "com.orientechnologies.orient.core.storage.impl.local.paginated:type=OClusterCompactorMXBean";
+
+  private final OAbstractPaginatedStorage storage;
+
+  private final int   batchSize;
+  private final int   batchPause;
+  private final float fillFactor;
+
+  private final ScheduledExecutorService compactionExecutor;
+
+  private final AtomicBoolean mbeanIsRegistered = new AtomicBoolean();
+  private final AtomicBoolean running           = new AtomicBoolean();
+
+  private volatile boolean stopped;
+
+  private volatile String currentCluster;
+  private volatile int    progress;
+
+  private final AtomicLong processedRecords = new AtomicLong();
+  private final AtomicLong relocatedRecords = new AtomicLong();
+  private final AtomicLong reclaimedBytes   = new AtomicLong();
+  private final AtomicLong completedRuns    = new AtomicLong();
+
+  private final ConcurrentMap<String, ClusterStatistic> clusterStatistics = new ConcurrentHashMap<String, ClusterStatistic>();
+
+  public OClusterCompactor(OAbstractPaginatedStorage storage) {
+    this.storage = storage;
+
+    this.batchSize = OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_BATCH_SIZE.getValueAsInteger();
+    this.batchPause = OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_BATCH_PAUSE.getValueAsInteger();
+    this.fillFactor = OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_FILL_FACTOR.getValueAsInteger() / 100.0f;
+
+    this.compactionExecutor = Executors.newSingleThreadScheduledExecutor(new CompactionThreadFactory(storage.getName()));
+  }
+
+  /**
+   * Schedules periodical compaction of clusters if it is enabled by
+   * {@link OGlobalConfiguration#STORAGE_CLUSTER_COMPACTION_INTERVAL} setting.
+   */
+  public void start() {
+    final int interval = OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_INTERVAL.getValueAsInteger();
+    if (interval > 0)
+      compactionExecutor.scheduleWithFixedDelay(new CompactionTask(), interval, interval, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Stops compaction and waits till the current batch of records is processed.
+   */
+  public void shutdown() {
+    // thread is not interrupted because interruption of I/O operation closes file channel
+    stopped = true;
+    compactionExecutor.shutdown();
+    try {
+      if (!compactionExecutor.awaitTermination(5, TimeUnit.MINUTES))
+        OLogManager.instance().error(this, "Can not stop compaction of clusters of storage %s", storage.getName());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void compact() {
+    compactionExecutor.submit(new CompactionTask());
+  }
+
+  /**
+   * Compacts all clusters of storage in the current thread.
+   */
+  public void compactClusters() {
+    if (!running.compareAndSet(false, true))
+      return;
+
+    try {
+      for (OCluster cluster : storage.getClusterInstances()) {
+        if (!(cluster instanceof OPaginatedCluster))
+          continue;
+
+        if (isStopped())
+          return;
+
+        compactCluster((OPaginatedCluster) cluster);
+      }
+
+      completedRuns.incrementAndGet();
+    } finally {
+      currentCluster = null;
+      progress = 0;
+
+      running.set(false);
+    }
+  }
+
+  private void compactCluster(OPaginatedCluster cluster) {
+    final String clusterName = cluster.getName();
+    final long entries = cluster.getEntries();
+
+    currentCluster = clusterName;
+    progress = 0;
+
+    ClusterStatistic statistic = clusterStatistics.get(clusterName);
+    if (statistic == null) {
+      statistic = new ClusterStatistic();
+
+      final ClusterStatistic oldStatistic = clusterStatistics.putIfAbsent(clusterName, statistic);
+      if (oldStatistic != null)
+        statistic = oldStatistic;
+    }
+
+    long position = 0;
+    long processed = 0;
+
+    try {
+      while (!isStopped()) {
+        final OPaginatedCluster.RelocationResult result = storage.relocateClusterRecords(cluster.getId(), position, batchSize,
+            fillFactor);
+        if (result.lastPosition < 0) {
+          statistic.lastCompaction = System.currentTimeMillis();
+          break;
+        }
+
+        processed += result.processedRecords;
+
+        processedRecords.addAndGet(result.processedRecords);
+        relocatedRecords.addAndGet(result.relocatedRecords);
+        reclaimedBytes.addAndGet((long) result.releasedPages * OClusterPage.PAGE_SIZE);
+
+        statistic.relocatedRecords.addAndGet(result.relocatedRecords);
+        statistic.reclaimedBytes.addAndGet((long) result.releasedPages * OClusterPage.PAGE_SIZE);
+
+        if (entries > 0)
+          progress = (int) Math.min(100, processed * 100 / entries);
+
+        position = result.lastPosition + 1;
+
+        if (batchPause > 0)
+          Thread.sleep(batchPause);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      OLogManager.instance().error(this, "Error during compaction of cluster %s", e, clusterName);
+    }
+  }
+
+  private boolean isStopped() {
+    return stopped || Thread.currentThread().isInterrupted() || storage.getStatus() != OStorage.STATUS.OPEN;
+  }
+
+  /**
+   * @return documents which contain size and compaction statistic of each cluster of storage
+   */
+  public List<ODocument> getClusterStatistics() {
+    final List<ODocument> result = new ArrayList<ODocument>();
+
+    for (OCluster cluster : storage.getClusterInstances()) {
+      final ODocument document = new ODocument();
+      document.field("name", cluster.getName());
+      document.field("id", cluster.getId());
+      document.field("records", cluster.getEntries());
+      try {
+        document.field("recordsSize", cluster.getRecordsSize());
+      } catch (IOException e) {
+        throw OException.wrapException(new OStorageException("Cannot calculate records size of cluster " + cluster.getName()), e);
+      }
+
+      final ClusterStatistic statistic = clusterStatistics.get(cluster.getName());
+      document.field("compacting", cluster.getName().equals(currentCluster));
+      document.field("relocatedRecords", statistic != null ? statistic.relocatedRecords.get() : 0L);
+      document.field("reclaimedBytes", statistic != null ? statistic.reclaimedBytes.get() : 0L);
+      if (statistic != null && statistic.lastCompaction > 0)
+        document.field("lastCompaction", new Date(statistic.lastCompaction));
+
+      result.add(document);
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running.get();
+  }
+
+  @Override
+  public String getCurrentCluster() {
+    return currentCluster;
+  }
+
+  @Override
+  public int getProgress() {
+    return progress;
+  }
+
+  @Override
+  public long getProcessedRecords() {
+    return processedRecords.get();
+  }
+
+  @Override
+  public long getRelocatedRecords() {
+    return relocatedRecords.get();
+  }
+
+  @Override
+  public long getReclaimedBytes() {
+    return reclaimedBytes.get();
+  }
+
+  @Override
+  public long getCompletedRuns() {
+    return completedRuns.get();
+  }
+
+  public void registerMBean() {
+    if (mbeanIsRegistered.compareAndSet(false, true)) {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName mbeanName = new ObjectName(getMBeanName());
+
+        if (!server.isRegistered(mbeanName)) {
+          server.registerMBean(this, mbeanName);
+        } else {
+          mbeanIsRegistered.set(false);
+          OLogManager.instance().warn(this,
+              "MBean with name %s has already registered. Probably your system was not shutdown correctly "
+                  + "or you have several running applications which use OrientDB engine inside", mbeanName.getCanonicalName());
+        }
+
+      } catch (MalformedObjectNameException e) {
+        throw OException.wrapException(new OStorageException("Error during registration of cluster compactor MBean"), e);
+      } catch (InstanceAlreadyExistsException e) {
+        throw OException.wrapException(new OStorageException("Error during registration of cluster compactor MBean"), e);
+      } catch (MBeanRegistrationException e) {
+        throw OException.wrapException(new OStorageException("Error during registration of cluster compactor MBean"), e);
+      } catch (NotCompliantMBeanException e) {
+        throw OException.wrapException(new OStorageException("Error during registration of cluster compactor MBean"), e);
+      }
+    }
+  }
+
+  private String getMBeanName() {
+    return MBEAN_NAME + ",name=" + ObjectName.quote(storage.getName()) + ",id=" + storage.getId();
+  }
+
+  public void unregisterMBean() {
+    if (mbeanIsRegistered.compareAndSet(true, false)) {
+      try {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName mbeanName = new ObjectName(getMBeanName());
+        server.unregisterMBean(mbeanName);
+      } catch (MalformedObjectNameException e) {
+        throw OException.wrapException(new OStorageException("Error during unregistration of cluster compactor MBean"), e);
+      } catch (InstanceNotFoundException e) {
+        throw OException.wrapException(new OStorageException("Error during unregistration of cluster compactor MBean"), e);
+      } catch (MBeanRegistrationException e) {
+        throw OException.wrapException(new OStorageException("Error during unregistration of cluster compactor MBean"), e);
+      }
+    }
+  }
+
+  private final class CompactionTask implements Runnable {
+    @Override
+    public void run() {
+      try {
+        compactClusters();
+      } catch (RuntimeException e) {
+        OLogManager.instance().error(this, "Error during compaction of clusters of storage %s", e, storage.getName());
+      }
+    }
+  }
+
+  private static final class ClusterStatistic {
+    private final AtomicLong relocatedRecords = new AtomicLong();
+    private final AtomicLong reclaimedBytes   = new AtomicLong();
+
+    private volatile long lastCompaction;
+  }
+
+  private static class CompactionThreadFactory implements ThreadFactory {
+    private final String storageName;
+
+    private CompactionThreadFactory(String storageName) {
+      this.storageName = storageName;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+      Thread thread = new Thread(OStorageAbstract.storageThreadGroup, r);
+      thread.setDaemon(true);
+      thread.setPriority(Thread.MIN_PRIORITY);
+      thread.setName("OrientDB Cluster Compaction Task (" + storageName + ")");
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+/**
+ * JMX interface of online compaction of clusters.
+ *
+ * @see OClusterCompactor
+ */
+public interface OClusterCompactorMXBean {
+  /**
+   * @return <code>true</code> if compaction of clusters is in progress
+   */
+  boolean isRunning();
+
+  /**
+   * @return name of the cluster which is compacted at the moment or <code>null</code> if compaction is not running
+   */
+  String getCurrentCluster();
+
+  /**
+   * @return progress of compaction of current cluster in percents
+   */
+  int getProgress();
+
+  /**
+   * @return amount of records checked by compaction since storage was opened
+   */
+  long getProcessedRecords();
+
+  /**
+   * @return amount of records moved into densely filled pages since storage was opened
+   */
+  long getRelocatedRecords();
+
+  /**
+   * @return amount of bytes in pages which became empty because of compaction since storage was opened
+   */
+  long getReclaimedBytes();
+
+  /**
+   * @return amount of finished compaction runs since storage was opened
+   */
+  long getCompletedRuns();
+
+  /**
+   * Starts compaction of all clusters of storage if it is not running already.
+   */
+  void compact();
+}
@@ -60,6 +60,12 @@ public class OClusterPage extends ODurablePage {
 
   public static final int  MAX_RECORD_SIZE            = MAX_ENTRY_SIZE - 3 * OIntegerSerializer.INT_SIZE;
 
+  /**
+   * Maximum amount of unchanged bytes which may separate two changed regions of record before they are written as two
+   * separate patches. Every patch has its own overhead inside of WAL record so it is cheaper to merge close regions.
+   */
+  private static final int PATCH_GAP_SIZE             = 2 * OLongSerializer.LONG_SIZE;
+
   public OClusterPage(OCacheEntry cacheEntry, boolean newPage, OWALChanges changes) throws IOException {
     super(cacheEntry, changes);
 
@@ -157,19 +163,60 @@ public class OClusterPage extends ODurablePage {
     int recordSize = getIntValue(entryPosition) - 3 * OIntegerSerializer.INT_SIZE;
     int writtenBytes;
     if (record.length <= recordSize) {
-      setIntValue(entryPointer + 2 * OIntegerSerializer.INT_SIZE, record.length);
-      setBinaryValue(entryPointer + 3 * OIntegerSerializer.INT_SIZE, record);
+      final int currentSize = getIntValue(entryPointer + 2 * OIntegerSerializer.INT_SIZE);
+
+      if (currentSize == record.length) {
+        patchRecordContent(entryPointer + 3 * OIntegerSerializer.INT_SIZE, record, record.length);
+      } else {
+        setIntValue(entryPointer + 2 * OIntegerSerializer.INT_SIZE, record.length);
+        setBinaryValue(entryPointer + 3 * OIntegerSerializer.INT_SIZE, record);
+      }
+
       writtenBytes = record.length;
     } else {
-      byte[] newRecord = new byte[recordSize];
-      System.arraycopy(record, 0, newRecord, 0, newRecord.length);
-      setBinaryValue(entryPointer + 3 * OIntegerSerializer.INT_SIZE, newRecord);
-      writtenBytes = newRecord.length;
+      patchRecordContent(entryPointer + 3 * OIntegerSerializer.INT_SIZE, record, recordSize);
+      writtenBytes = recordSize;
     }
 
     return writtenBytes;
   }
 
+  /**
+   * Writes only those parts of record content which differ from content already stored in the page. Because page changes
+   * are logged as a set of modified byte ranges, an update which changes only a few fixed width fields of record (counters,
+   * flags, dates) produces a WAL record which is proportional to the size of the change but not to the size of the record.
+   *
+   * @param contentPosition position of record content inside of page
+   * @param record          new record content
+   * @param length          amount of bytes of new record content to write
+   */
+  private void patchRecordContent(final int contentPosition, final byte[] record, final int length) throws IOException {
+    final byte[] content = getBinaryValue(contentPosition, length);
+
+    int index = 0;
+    while (index < length) {
+      if (content[index] == record[index]) {
+        index++;
+        continue;
+      }
+
+      final int patchStart = index;
+      int patchEnd = index + 1;
+
+      index++;
+      while (index < length && index - patchEnd <= PATCH_GAP_SIZE) {
+        if (content[index] != record[index])
+          patchEnd = index + 1;
+
+        index++;
+      }
+
+      final byte[] patch = new byte[patchEnd - patchStart];
+      System.arraycopy(record, patchStart, patch, 0, patch.length);
+      setBinaryValue(contentPosition + patchStart, patch);
+    }
+  }
+
   public int getRecordVersion(int position) {
     int indexesLength = getIntValue(PAGE_INDEXES_LENGTH_OFFSET);
     if (position >= indexesLength)
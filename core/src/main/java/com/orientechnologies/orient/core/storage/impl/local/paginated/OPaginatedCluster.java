@@ -51,6 +51,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static com.orientechnologies.orient.core.config.OGlobalConfiguration.DISK_CACHE_PAGE_SIZE;
+import static com.orientechnologies.orient.core.config.OGlobalConfiguration.PAGINATED_STORAGE_BIG_RECORD_PREFETCH_PAGES;
 import static com.orientechnologies.orient.core.config.OGlobalConfiguration.PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY;
 
 /**
@@ -65,13 +66,14 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
 
   private final boolean addRidMetadata = OGlobalConfiguration.STORAGE_TRACK_CHANGED_RECORDS_IN_WAL.getValueAsBoolean();
 
-  public static final  String DEF_EXTENSION            = ".pcl";
-  private static final int    DISK_PAGE_SIZE           = DISK_CACHE_PAGE_SIZE.getValueAsInteger();
-  private static final int    LOWEST_FREELIST_BOUNDARY = PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY.getValueAsInteger();
-  private final static int    FREE_LIST_SIZE           = DISK_PAGE_SIZE - LOWEST_FREELIST_BOUNDARY;
-  private static final int    PAGE_INDEX_OFFSET        = 16;
-  private static final int    RECORD_POSITION_MASK     = 0xFFFF;
-  private static final int    ONE_KB                   = 1024;
+  public static final  String DEF_EXTENSION             = ".pcl";
+  private static final int    DISK_PAGE_SIZE            = DISK_CACHE_PAGE_SIZE.getValueAsInteger();
+  private static final int    LOWEST_FREELIST_BOUNDARY  = PAGINATED_STORAGE_LOWEST_FREELIST_BOUNDARY.getValueAsInteger();
+  private static final int    BIG_RECORD_PREFETCH_PAGES = PAGINATED_STORAGE_BIG_RECORD_PREFETCH_PAGES.getValueAsInteger();
+  private final static int    FREE_LIST_SIZE            = DISK_PAGE_SIZE - LOWEST_FREELIST_BOUNDARY;
+  private static final int    PAGE_INDEX_OFFSET         = 16;
+  private static final int    RECORD_POSITION_MASK      = 0xFFFF;
+  private static final int    ONE_KB                    = 1024;
 
   private volatile OCompression                          compression;
   private volatile OEncryption                           encryption;
@@ -1457,6 +1459,158 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     }
   }
 
+  /**
+   * Moves records which are stored in sparsely filled pages into pages which are filled more densely. In contrast to
+   * {@link #compact()} cluster is not rebuilt, so it may be used on live database. Records keep their cluster positions
+   * because only {@link OClusterPositionMap} entries are changed. Records are processed in small batches each of which is
+   * executed inside of separate atomic operation, so the exclusive lock of cluster is held only for short periods of time.
+   * Records which do not fit into a single page are not moved.
+   *
+   * @param fromPosition  cluster position starting from which records are processed
+   * @param batchSize     maximum amount of records which are processed by this call
+   * @param maxFillFactor records are moved only from pages which have fill factor less than this value
+   *
+   * @return result of relocation which contains position of the last processed record or <code>-1</code> if there are no
+   * records to process
+   */
+  public RelocationResult relocateRecords(final long fromPosition, final int batchSize, final float maxFillFactor)
+      throws IOException {
+    startOperation();
+    try {
+      final OPhysicalPosition[] positions = ceilingPositions(new OPhysicalPosition(fromPosition));
+      if (positions.length == 0)
+        return new RelocationResult(-1, 0, 0, 0);
+
+      final int recordsToProcess = Math.min(positions.length, batchSize);
+
+      int relocatedRecords = 0;
+      int releasedPages = 0;
+
+      OAtomicOperation atomicOperation = startAtomicOperation(true);
+      acquireExclusiveLock();
+      try {
+        for (int i = 0; i < recordsToProcess; i++) {
+          final int relocationResult = relocateRecord(positions[i].clusterPosition, maxFillFactor, atomicOperation);
+
+          if (relocationResult >= 0) {
+            relocatedRecords++;
+            releasedPages += relocationResult;
+          }
+        }
+
+        endAtomicOperation(false, null);
+      } catch (RuntimeException e) {
+        endAtomicOperation(true, e);
+        throw OException.wrapException(new OPaginatedClusterException("Error during relocation of records", this), e);
+      } catch (IOException e) {
+        endAtomicOperation(true, e);
+        throw e;
+      } finally {
+        releaseExclusiveLock();
+      }
+
+      return new RelocationResult(positions[recordsToProcess - 1].clusterPosition, recordsToProcess, relocatedRecords,
+          releasedPages);
+    } finally {
+      completeOperation();
+    }
+  }
+
+  /**
+   * Moves single page record into the page which is filled more densely than the page where record is stored now.
+   *
+   * @return <code>-1</code> if record was not moved, otherwise amount of pages which became empty because of movement of the
+   * record
+   */
+  private int relocateRecord(final long clusterPosition, final float maxFillFactor, final OAtomicOperation atomicOperation)
+      throws IOException {
+    final OClusterPositionMapBucket.PositionEntry positionEntry = clusterPositionMap.get(clusterPosition, 1);
+    if (positionEntry == null)
+      return -1;
+
+    final long pageIndex = positionEntry.getPageIndex();
+    final int recordPosition = positionEntry.getRecordPosition();
+
+    if (getFilledUpTo(atomicOperation, fileId) <= pageIndex)
+      return -1;
+
+    final byte[] entryContent;
+    final int recordVersion;
+    final int pageFreeSpace;
+
+    OCacheEntry cacheEntry = loadPage(atomicOperation, fileId, pageIndex, false);
+    cacheEntry.acquireSharedLock();
+    try {
+      final OClusterPage localPage = new OClusterPage(cacheEntry, false, getChanges(atomicOperation, cacheEntry));
+      if (localPage.isDeleted(recordPosition))
+        return -1;
+
+      pageFreeSpace = localPage.getFreeSpace();
+      if (OClusterPage.PAGE_SIZE - pageFreeSpace >= maxFillFactor * OClusterPage.PAGE_SIZE)
+        return -1;
+
+      entryContent = localPage.getRecordBinaryValue(recordPosition, 0, localPage.getRecordSize(recordPosition));
+      if (OLongSerializer.INSTANCE.deserializeNative(entryContent, entryContent.length - OLongSerializer.LONG_SIZE) >= 0)
+        return -1;
+
+      recordVersion = localPage.getRecordVersion(recordPosition);
+    } finally {
+      cacheEntry.releaseSharedLock();
+      releasePage(atomicOperation, cacheEntry);
+    }
+
+    final FindFreePageResult findFreePageResult = findFreePage(fileId, pinnedStateEntryIndex, entryContent.length,
+        atomicOperation);
+    if (findFreePageResult.pageIndex == pageIndex || findFreePageResult.freePageIndex >= FREE_LIST_SIZE - 1)
+      return -1;
+
+    // record is moved only into the page which is filled more than the current one, otherwise records would be moved back
+    // and forth between sparse pages
+    cacheEntry = loadPage(atomicOperation, fileId, findFreePageResult.pageIndex, false);
+    cacheEntry.acquireSharedLock();
+    try {
+      final OClusterPage targetPage = new OClusterPage(cacheEntry, false, getChanges(atomicOperation, cacheEntry));
+      if (targetPage.getFreeSpace() >= pageFreeSpace)
+        return -1;
+    } finally {
+      cacheEntry.releaseSharedLock();
+      releasePage(atomicOperation, cacheEntry);
+    }
+
+    final AddEntryResult addEntryResult = addEntry(fileId, pinnedStateEntryIndex, recordVersion, entryContent, findFreePageResult,
+        atomicOperation);
+
+    final int freePageIndex;
+    final int releasedSpace;
+    final boolean pageReleased;
+
+    cacheEntry = loadPage(atomicOperation, fileId, pageIndex, false);
+    cacheEntry.acquireExclusiveLock();
+    try {
+      final OClusterPage localPage = new OClusterPage(cacheEntry, false, getChanges(atomicOperation, cacheEntry));
+      freePageIndex = calculateFreePageIndex(localPage);
+
+      localPage.deleteRecord(recordPosition);
+
+      releasedSpace = localPage.getFreeSpace() - pageFreeSpace;
+      pageReleased = localPage.getRecordsCount() == 0;
+    } finally {
+      cacheEntry.releaseExclusiveLock();
+      releasePage(atomicOperation, cacheEntry);
+    }
+
+    updateFreePagesIndex(fileId, pinnedStateEntryIndex, freePageIndex, pageIndex, atomicOperation);
+
+    clusterPositionMap.update(clusterPosition,
+        new OClusterPositionMapBucket.PositionEntry(addEntryResult.pageIndex, addEntryResult.pagePosition));
+
+    updateClusterState(fileId, pinnedStateEntryIndex, 0, addEntryResult.recordsSizeDiff - releasedSpace, atomicOperation);
+
+    addAtomicOperationMetadata(new ORecordId(id, clusterPosition), atomicOperation);
+
+    return pageReleased ? 1 : 0;
+  }
+
   @Override
   public OPhysicalPosition getPhysicalPosition(OPhysicalPosition position) throws IOException {
     startOperation();
@@ -1913,59 +2067,81 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     if (getFilledUpTo(atomicOperation, fileId) <= pageIndex)
       return null;
 
-    final List<byte[]> recordChunks = new ArrayList<byte[]>();
-    int contentSize = 0;
+    byte[] fullContent = null;
+    int fullContentPosition = 0;
+    int pagesToLoad = pageCount;
 
     long nextPagePointer;
-    boolean firstEntry = true;
     do {
-      OCacheEntry cacheEntry = loadPage(atomicOperation, fileId, pageIndex, false, pageCount);
+      OCacheEntry cacheEntry = loadPage(atomicOperation, fileId, pageIndex, false, pagesToLoad);
       cacheEntry.acquireSharedLock();
       try {
         final OClusterPage localPage = new OClusterPage(cacheEntry, false, getChanges(atomicOperation, cacheEntry));
 
         if (localPage.isDeleted(recordPosition)) {
-          if (recordChunks.isEmpty())
+          if (fullContent == null)
             return null;
           else
             throw new OPaginatedClusterException("Content of record " + new ORecordId(id, clusterPosition) + " was broken", this);
         }
 
         byte[] content = localPage.getRecordBinaryValue(recordPosition, 0, localPage.getRecordSize(recordPosition));
+        nextPagePointer = OLongSerializer.INSTANCE.deserializeNative(content, content.length - OLongSerializer.LONG_SIZE);
 
-        if (firstEntry && content[content.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] == 0)
-          return null;
+        if (fullContent == null) {
+          if (content[content.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE] == 0)
+            return null;
 
-        recordChunks.add(content);
-        nextPagePointer = OLongSerializer.INSTANCE.deserializeNative(content, content.length - OLongSerializer.LONG_SIZE);
-        contentSize += content.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE;
+          if (nextPagePointer < 0)
+            return content;
+
+          // size of the whole record is known from the first chunk, so chunks are copied directly into the result
+          final int contentLength = OIntegerSerializer.INSTANCE.deserializeNative(content, OByteSerializer.BYTE_SIZE);
+          fullContent = new byte[OByteSerializer.BYTE_SIZE + OIntegerSerializer.INT_SIZE + contentLength + OLongSerializer.LONG_SIZE
+              + OByteSerializer.BYTE_SIZE];
+        }
 
-        firstEntry = false;
+        final int chunkSize = content.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE;
+        if (fullContentPosition + chunkSize > fullContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE)
+          throw new OPaginatedClusterException("Content of record " + new ORecordId(id, clusterPosition) + " was broken", this);
+
+        System.arraycopy(content, 0, fullContent, fullContentPosition, chunkSize);
+        fullContentPosition += chunkSize;
       } finally {
         cacheEntry.releaseSharedLock();
         releasePage(atomicOperation, cacheEntry);
       }
 
-      pageIndex = getPageIndex(nextPagePointer);
-      recordPosition = getRecordPosition(nextPagePointer);
-    } while (nextPagePointer >= 0);
+      if (nextPagePointer >= 0) {
+        final long nextPageIndex = getPageIndex(nextPagePointer);
 
-    byte[] fullContent;
-    if (recordChunks.size() == 1)
-      fullContent = recordChunks.get(0);
-    else {
-      fullContent = new byte[contentSize + OLongSerializer.LONG_SIZE + OByteSerializer.BYTE_SIZE];
-      int fullContentPosition = 0;
-      for (byte[] recordChuck : recordChunks) {
-        System.arraycopy(recordChuck, 0, fullContent, fullContentPosition,
-            recordChuck.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE);
-        fullContentPosition += recordChuck.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE;
+        if (nextPageIndex == pageIndex + 1) {
+          final int remainingSize = fullContent.length - OLongSerializer.LONG_SIZE - OByteSerializer.BYTE_SIZE - fullContentPosition;
+          pagesToLoad = Math.max(pageCount, calculateBigRecordPrefetchPages(remainingSize));
+        } else
+          pagesToLoad = pageCount;
+
+        pageIndex = nextPageIndex;
+        recordPosition = getRecordPosition(nextPagePointer);
       }
-    }
+    } while (nextPagePointer >= 0);
 
     return fullContent;
   }
 
+  /**
+   * Calculates amount of pages which may be read at once to fetch the rest of a record which does not fit into single page.
+   * Chunks which occupy the whole page can be placed only into empty pages, when there are no empty pages left by deleted records
+   * they are appended to the end of the cluster file one after another, so they are fetched by single vectored read instead of a
+   * separate I/O operation for each chunk.
+   */
+  private static int calculateBigRecordPrefetchPages(final int remainingSize) {
+    final int chunkSize = OClusterPage.MAX_RECORD_SIZE - OByteSerializer.BYTE_SIZE - OLongSerializer.LONG_SIZE;
+    final int pages = (remainingSize + chunkSize - 1) / chunkSize;
+
+    return Math.max(1, Math.min(pages, BIG_RECORD_PREFETCH_PAGES));
+  }
+
   private static long createPagePointer(long pageIndex, int pagePosition) {
     return pageIndex << PAGE_INDEX_OFFSET | pagePosition;
   }
@@ -1981,7 +2157,11 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
   private AddEntryResult addEntry(long fileId, long pinnedStateEntryIndex, final int recordVersion, byte[] entryContent,
       OAtomicOperation atomicOperation) throws IOException {
     final FindFreePageResult findFreePageResult = findFreePage(fileId, pinnedStateEntryIndex, entryContent.length, atomicOperation);
+    return addEntry(fileId, pinnedStateEntryIndex, recordVersion, entryContent, findFreePageResult, atomicOperation);
+  }
 
+  private AddEntryResult addEntry(long fileId, long pinnedStateEntryIndex, final int recordVersion, byte[] entryContent,
+      FindFreePageResult findFreePageResult, OAtomicOperation atomicOperation) throws IOException {
     int freePageIndex = findFreePageResult.freePageIndex;
     long pageIndex = findFreePageResult.pageIndex;
 
@@ -2202,7 +2382,9 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
 
   private int calculateFreePageIndex(OClusterPage localPage) {
     int newFreePageIndex;
-    if (localPage.isEmpty())
+    // PAGES EMPTIED BY DELETION KEEP THE SLOTS OF THEIR RECORDS, THE ONES THAT CAN STILL HOLD A CHUNK OF A WHOLE PAGE ARE REUSED
+    // FOR BIG RECORDS LIKE EMPTY PAGES
+    if (localPage.isEmpty() || localPage.getMaxRecordSize() >= OClusterPage.MAX_RECORD_SIZE)
       newFreePageIndex = FREE_LIST_SIZE - 1;
     else {
       newFreePageIndex = (localPage.getMaxRecordSize() - (ONE_KB - 1)) / ONE_KB;
@@ -2352,6 +2534,30 @@ public class OPaginatedCluster extends ODurableComponent implements OCluster {
     return "plocal cluster: " + getName();
   }
 
+  /**
+   * Result of {@link #relocateRecords(long, int, float)} call.
+   */
+  public static final class RelocationResult {
+    /**
+     * Cluster position of the last processed record or <code>-1</code> if there are no more records to process.
+     */
+    public final long lastPosition;
+    public final int  processedRecords;
+    public final int  relocatedRecords;
+
+    /**
+     * Amount of pages which became empty and therefore may be reused to store any other records.
+     */
+    public final int releasedPages;
+
+    private RelocationResult(long lastPosition, int processedRecords, int relocatedRecords, int releasedPages) {
+      this.lastPosition = lastPosition;
+      this.processedRecords = processedRecords;
+      this.relocatedRecords = relocatedRecords;
+      this.releasedPages = releasedPages;
+    }
+  }
+
   private static class RecordCreationResult {
     private final long pageIndex;
     private final int  recordPosition;
@@ -76,6 +76,8 @@ public class OChannelBinaryProtocol {
   public static final byte REQUEST_POSITIONS_CEILING                 = 42;                 // since 1.3.0
   public static final byte REQUEST_RECORD_HIDE                       = 43;                 // since 1.7
   public static final byte REQUEST_RECORD_LOAD_IF_VERSION_NOT_LATEST = 44;                 // since 2.1
+  public static final byte REQUEST_COMMAND_CURSOR_FETCH              = 45;                 // since 2.2
+  public static final byte REQUEST_COMMAND_CURSOR_CLOSE              = 46;                 // since 2.2
 
   public static final byte REQUEST_TX_COMMIT = 60;
 
@@ -149,8 +151,9 @@ public class OChannelBinaryProtocol {
 
   public static final int PROTOCOL_VERSION_35 = 35;
   public static final int PROTOCOL_VERSION_36 = 36;                 //ABILITY TO CREATE DATABASE FROM INCREMENTAL BACKUP
+  public static final int PROTOCOL_VERSION_37 = 37;                 // SERVER SIDE CURSORS
 
-  public static final int CURRENT_PROTOCOL_VERSION = PROTOCOL_VERSION_36;
+  public static final int CURRENT_PROTOCOL_VERSION = PROTOCOL_VERSION_37;
 
   public static OIdentifiable readIdentifiable(final OChannelBinary network) throws IOException {
     final int classId = network.readShort();
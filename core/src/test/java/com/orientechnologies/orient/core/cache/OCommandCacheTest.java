@@ -25,14 +25,19 @@ import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.metadata.security.OUser;
 import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandExecutorSQLSelect;
 import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import javax.management.ObjectName;
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Created by Enrico Risa on 25/11/15.
@@ -112,4 +117,206 @@ public class OCommandCacheTest {
 
     Assert.assertEquals(f.exists(), false);
   }
+
+  @Test
+  public void testPerRecordInvalidation() throws Exception {
+    OGlobalConfiguration.COMMAND_CACHE_ENABLED.setValue(true);
+    OGlobalConfiguration.COMMAND_CACHE_MIN_EXECUTION_TIME.setValue(0);
+    OGlobalConfiguration.COMMAND_CACHE_EVICT_STRATEGY.setValue(OCommandCache.STRATEGY.PER_RECORD);
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + OCommandCacheTest.class.getSimpleName() + "PerRecord");
+    db.create();
+
+    try {
+      db.getMetadata().getSchema().createClass("Person");
+      final ODocument[] persons = new ODocument[10];
+      for (int i = 0; i < persons.length; i++)
+        persons[i] = db.save(new ODocument("Person").field("age", i).field("friend", i > 0 ? persons[i - 1] : null));
+
+      final OCommandCacheSoftRefs commandCache = (OCommandCacheSoftRefs) db.getMetadata().getCommandCache();
+      final String old = "select from Person where age > 5";
+      final String young = "select from Person where age < 3";
+      final String friends = "select from Person where friend.age > 5";
+      final String count = "select count(*) from Person";
+
+      query(db, old);
+      query(db, young);
+      query(db, friends);
+      query(db, count);
+      Assert.assertEquals(commandCache.size(), 4);
+
+      // THE RECORD MATCHES ONLY THE SECOND QUERY, BEFORE AND AFTER THE CHANGE
+      persons[1].field("age", 2).save();
+      Assert.assertNotNull(commandCache.get(db.getUser(), old, -1));
+      Assert.assertNull(commandCache.get(db.getUser(), young, -1));
+      Assert.assertNull(commandCache.get(db.getUser(), friends, -1));
+      Assert.assertNull(commandCache.get(db.getUser(), count, -1));
+
+      Assert.assertEquals(query(db, young).size(), 3);
+      // THE RECORD MATCHES NONE OF THE QUERIES
+      persons[4].field("age", 5).save();
+      Assert.assertNotNull(commandCache.get(db.getUser(), old, -1));
+      Assert.assertNotNull(commandCache.get(db.getUser(), young, -1));
+
+      // THE RECORD MATCHED THE FIRST QUERY BEFORE THE CHANGE AND MATCHES THE SECOND AFTER IT
+      persons[7].field("age", 0).save();
+      Assert.assertNull(commandCache.get(db.getUser(), old, -1));
+      Assert.assertNull(commandCache.get(db.getUser(), young, -1));
+
+      Assert.assertEquals(query(db, old).size(), 3);
+      Assert.assertEquals(query(db, young).size(), 4);
+      db.save(new ODocument("Person").field("age", 8));
+      Assert.assertNull(commandCache.get(db.getUser(), old, -1));
+      Assert.assertNotNull(commandCache.get(db.getUser(), young, -1));
+
+      persons[0].delete();
+      Assert.assertNull(commandCache.get(db.getUser(), young, -1));
+      Assert.assertEquals(query(db, young).size(), 3);
+
+      Assert.assertTrue(commandCache.getInvalidations() >= 7);
+      final ObjectName mbeanName = new ObjectName(OCommandCacheSoftRefs.MBEAN_NAME + ObjectName.quote(db.getName()));
+      Assert.assertEquals(ManagementFactory.getPlatformMBeanServer().getAttribute(mbeanName, "Hits"), commandCache.getHits());
+      Assert.assertEquals(ManagementFactory.getPlatformMBeanServer().getAttribute(mbeanName, "Invalidations"),
+          commandCache.getInvalidations());
+    } finally {
+      db.drop();
+      OGlobalConfiguration.COMMAND_CACHE_EVICT_STRATEGY.setValue(OCommandCache.STRATEGY.PER_CLUSTER);
+    }
+  }
+
+  @Test
+  public void testPerRecordDependencyDoesNotChangeTheQuery() {
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + OCommandCacheTest.class.getSimpleName() + "Dependency");
+    db.create();
+
+    try {
+      db.getMetadata().getSchema().createClass("Person");
+      final ODocument person = db.save(new ODocument("Person").field("age", 7));
+
+      final OCommandExecutorSQLSelect executor = new OCommandExecutorSQLSelect().parse(new OSQLSynchQuery<ODocument>(
+          "select from Person where age > 5"));
+      final OCommandCacheDependency dependency = executor.getCacheDependency();
+      Assert.assertNotNull(dependency);
+
+      Assert.assertTrue(dependency.isAffectedBy(person));
+      Assert.assertFalse(dependency.isAffectedBy(person.field("age", 3)));
+
+      // THE CONDITION OF THE EXECUTOR IS SHARED BY THE WRITERS: ITS OPERANDS ARE NOT REPLACED
+      Assert.assertEquals(executor.getCompiledFilter().getRootCondition().getRight(), 5);
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testMaxMemory() {
+    OGlobalConfiguration.COMMAND_CACHE_ENABLED.setValue(true);
+    OGlobalConfiguration.COMMAND_CACHE_MIN_EXECUTION_TIME.setValue(0);
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + OCommandCacheTest.class.getSimpleName() + "MaxMemory");
+    db.create();
+
+    try {
+      final OCommandCacheSoftRefs commandCache = ((OCommandCacheSoftRefs) db.getMetadata().getCommandCache()).setMaxMemory(1);
+      final Set<String> clusters = Collections.singleton("person");
+      final StringBuilder content = new StringBuilder();
+      for (int i = 0; i < 300 * 1024; i++)
+        content.append('x');
+
+      for (int i = 0; i < 3; i++)
+        commandCache.put(db.getUser(), "query" + i, new ODocument().field("content", content.toString()), -1,
+            clusters, 0);
+      Assert.assertEquals(commandCache.size(), 3);
+      Assert.assertEquals(commandCache.getEvictions(), 0);
+
+      // THE FIRST ONE IS NOW THE MOST RECENTLY USED
+      Assert.assertNotNull(commandCache.get(db.getUser(), "query0", -1));
+      commandCache.put(db.getUser(), "query3", new ODocument().field("content", content.toString()), -1,
+          clusters, 0);
+
+      Assert.assertEquals(commandCache.getEvictions(), 1);
+      Assert.assertTrue(commandCache.getUsedMemory() <= commandCache.getMaxMemory());
+      Assert.assertNotNull(commandCache.get(db.getUser(), "query0", -1));
+      Assert.assertNull(commandCache.get(db.getUser(), "query1", -1));
+      Assert.assertNotNull(commandCache.get(db.getUser(), "query3", -1));
+
+      // BIGGER THAN THE WHOLE CACHE
+      content.append(content).append(content).append(content);
+      commandCache.put(db.getUser(), "query4", new ODocument().field("content", content.toString()), -1,
+          clusters, 0);
+      Assert.assertNull(commandCache.get(db.getUser(), "query4", -1));
+      Assert.assertEquals(commandCache.size(), 3);
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testSizeOfStoredRecords() {
+    OGlobalConfiguration.COMMAND_CACHE_ENABLED.setValue(true);
+    OGlobalConfiguration.COMMAND_CACHE_MIN_EXECUTION_TIME.setValue(0);
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + OCommandCacheTest.class.getSimpleName() + "StoredSize");
+    db.create();
+
+    try {
+      db.getMetadata().getSchema().createClass("Person");
+      for (int i = 0; i < 5; i++)
+        db.save(new ODocument("Person").field("name", "person" + i));
+
+      final OCommandCacheSoftRefs commandCache = (OCommandCacheSoftRefs) db.getMetadata().getCommandCache();
+      commandCache.clear();
+      final List<ODocument> result = query(db, "select from Person");
+      Assert.assertEquals(result.size(), 5);
+
+      // THE RECORDS READ FROM THE STORAGE ARE MEASURED BY THEIR STORED SIZE
+      long expected = 64;
+      for (ODocument doc : result) {
+        Assert.assertTrue(doc.getSize() > 0);
+        expected += 64 + doc.getSize();
+      }
+      Assert.assertEquals(commandCache.getUsedMemory(), expected);
+    } finally {
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testHasResultsOfCluster() {
+    OGlobalConfiguration.COMMAND_CACHE_ENABLED.setValue(true);
+    OGlobalConfiguration.COMMAND_CACHE_MIN_EXECUTION_TIME.setValue(0);
+    OGlobalConfiguration.COMMAND_CACHE_EVICT_STRATEGY.setValue(OCommandCache.STRATEGY.PER_RECORD);
+    ODatabaseDocument db = new ODatabaseDocumentTx("memory:" + OCommandCacheTest.class.getSimpleName() + "HasResults");
+    db.create();
+
+    try {
+      db.getMetadata().getSchema().createClass("Person");
+      db.getMetadata().getSchema().createClass("Car");
+      final ODocument person = db.save(new ODocument("Person").field("age", 3));
+      final ODocument car = db.save(new ODocument("Car").field("age", 3));
+
+      final OCommandCacheSoftRefs commandCache = (OCommandCacheSoftRefs) db.getMetadata().getCommandCache();
+      final String personCluster = db.getClusterNameById(person.getIdentity().getClusterId());
+      final String carCluster = db.getClusterNameById(car.getIdentity().getClusterId());
+      Assert.assertFalse(commandCache.hasResultsOfCluster(personCluster));
+
+      Assert.assertEquals(query(db, "select from Person where age > 5").size(), 0);
+      Assert.assertTrue(commandCache.hasResultsOfCluster(personCluster));
+      Assert.assertFalse(commandCache.hasResultsOfCluster(carCluster));
+
+      // NO CACHED RESULT ON THE CLUSTER OF THE CAR: ITS UPDATE DOES NOT TOUCH THE CACHE
+      car.field("age", 8).save();
+      Assert.assertNotNull(commandCache.get(db.getUser(), "select from Person where age > 5", -1));
+
+      person.field("age", 8).save();
+      Assert.assertNull(commandCache.get(db.getUser(), "select from Person where age > 5", -1));
+      Assert.assertEquals(query(db, "select from Person where age > 5").size(), 1);
+    } finally {
+      db.drop();
+      OGlobalConfiguration.COMMAND_CACHE_EVICT_STRATEGY.setValue(OCommandCache.STRATEGY.PER_CLUSTER);
+    }
+  }
+
+  private static List<ODocument> query(final ODatabaseDocument db, final String text) {
+    final OSQLSynchQuery<ODocument> query = new OSQLSynchQuery<ODocument>(text);
+    query.setCacheableResult(true);
+    return db.query(query);
+  }
 }
@@ -0,0 +1,125 @@
+package com.orientechnologies.orient.core.cache;
+
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class OGraphTopologyCacheTest {
+
+  @Test
+  public void testPutAndGet() {
+    final OGraphTopologyCache cache = new OGraphTopologyCache("testPutAndGet", 1024 * 1024);
+    try {
+      final List<ORID> neighbors = Arrays.<ORID> asList(new ORecordId(10, 1), new ORecordId(11, 2), new ORecordId(10, 0));
+      cache.put(new ORecordId(9, 0), "OUT", new String[] { "Follows", "Likes" }, neighbors, cache.getVersion());
+
+      // LABELS ARE NOT CASE SENSITIVE AND THEIR ORDER DOES NOT MATTER
+      Assert.assertEquals(cache.get(new ORecordId(9, 0), "OUT", new String[] { "likes", "FOLLOWS" }), neighbors);
+
+      Assert.assertNull(cache.get(new ORecordId(9, 0), "OUT", new String[] { "Follows" }));
+      Assert.assertNull(cache.get(new ORecordId(9, 0), "IN", new String[] { "Follows", "Likes" }));
+      Assert.assertNull(cache.get(new ORecordId(9, 1), "OUT", new String[] { "Follows", "Likes" }));
+
+      Assert.assertEquals(cache.getHits(), 1);
+      Assert.assertEquals(cache.getMisses(), 3);
+      Assert.assertEquals(cache.getHitRate(), 25f);
+    } finally {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void testInvalidate() {
+    final OGraphTopologyCache cache = new OGraphTopologyCache("testInvalidate", 1024 * 1024);
+    try {
+      final ORID vertex = new ORecordId(9, 0);
+      cache.put(vertex, "OUT", null, Collections.singletonList(new ORecordId(9, 1)), cache.getVersion());
+      cache.put(vertex, "BOTH", null, Collections.<ORID> emptyList(), cache.getVersion());
+      Assert.assertEquals(cache.get(vertex, "BOTH", null), Collections.emptyList());
+
+      cache.invalidate(vertex);
+      Assert.assertNull(cache.get(vertex, "OUT", null));
+      Assert.assertNull(cache.get(vertex, "BOTH", null));
+      Assert.assertEquals(cache.getInvalidations(), 2);
+    } finally {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void testStaleNeighborsAreNotCached() {
+    final OGraphTopologyCache cache = new OGraphTopologyCache("testStaleNeighborsAreNotCached", 1024 * 1024);
+    try {
+      final long version = cache.getVersion();
+      // NEIGHBOURS READ, THEN A CHANGE IS COMMITTED BEFORE THEY ARE CACHED
+      cache.invalidate(new ORecordId(9, 5));
+      cache.put(new ORecordId(9, 0), "OUT", null, Collections.singletonList(new ORecordId(9, 1)), version);
+
+      Assert.assertNull(cache.get(new ORecordId(9, 0), "OUT", null));
+    } finally {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void testNotPersistentRidsAreNotCached() {
+    final OGraphTopologyCache cache = new OGraphTopologyCache("testNotPersistentRidsAreNotCached", 1024 * 1024);
+    try {
+      cache.put(new ORecordId(9, 0), "OUT", null, Collections.singletonList(new ORecordId(9, -2)), cache.getVersion());
+      cache.put(new ORecordId(9, -3), "OUT", null, Collections.singletonList(new ORecordId(9, 1)), cache.getVersion());
+
+      Assert.assertNull(cache.get(new ORecordId(9, 0), "OUT", null));
+      Assert.assertNull(cache.get(new ORecordId(9, -3), "OUT", null));
+    } finally {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void testEvictionWhenFull() {
+    // 1024 ENTRIES
+    final OGraphTopologyCache cache = new OGraphTopologyCache("testEvictionWhenFull", 8 * 1024);
+    try {
+      final List<ORID> neighbors = new ArrayList<ORID>();
+      for (int i = 0; i < 99; i++)
+        neighbors.add(new ORecordId(10, i));
+
+      for (int i = 0; i < 11; i++)
+        cache.put(new ORecordId(9, i), "OUT", null, neighbors, cache.getVersion());
+
+      Assert.assertEquals(cache.getEvictions(), 1);
+      Assert.assertNull(cache.get(new ORecordId(9, 0), "OUT", null));
+      Assert.assertEquals(cache.get(new ORecordId(9, 10), "OUT", null), neighbors);
+      Assert.assertEquals(cache.getMemoryUsed(), 8 * 1024);
+    } finally {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void testMaxNeighbors() {
+    // 1024 ENTRIES
+    final OGraphTopologyCache cache = new OGraphTopologyCache("testMaxNeighbors", 8 * 1024);
+    try {
+      Assert.assertEquals(cache.getMaxNeighbors(), 255);
+
+      final List<ORID> neighbors = new ArrayList<ORID>();
+      for (int i = 0; i < cache.getMaxNeighbors(); i++)
+        neighbors.add(new ORecordId(10, i));
+      cache.put(new ORecordId(9, 0), "OUT", null, neighbors, cache.getVersion());
+      Assert.assertEquals(cache.get(new ORecordId(9, 0), "OUT", null), neighbors);
+
+      neighbors.add(new ORecordId(10, neighbors.size()));
+      cache.put(new ORecordId(9, 1), "OUT", null, neighbors, cache.getVersion());
+      Assert.assertNull(cache.get(new ORecordId(9, 1), "OUT", null));
+    } finally {
+      cache.close();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.orientechnologies.orient.core.command.traverse;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.filter.OSQLPredicate;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class OParallelTraverseTest {
+  private static final int    NODES  = 3000;
+  private static final int    DEGREE = 4;
+
+  private ODatabaseDocumentTx db;
+  private ORID                root;
+  private int                 minimumGeneration;
+
+  @BeforeClass
+  public void before() {
+    minimumGeneration = OGlobalConfiguration.QUERY_PARALLEL_TRAVERSE_MINIMUM_GENERATION.getValueAsInteger();
+    OGlobalConfiguration.QUERY_PARALLEL_TRAVERSE_MINIMUM_GENERATION.setValue(10);
+
+    db = new ODatabaseDocumentTx("memory:" + OParallelTraverseTest.class.getSimpleName());
+    db.create();
+    db.getMetadata().getSchema().createClass("Node");
+
+    final List<ODocument> nodes = new ArrayList<ODocument>();
+    for (int i = 0; i < NODES; i++)
+      nodes.add(new ODocument("Node").field("id", i).save());
+
+    final Random random = new Random(17);
+    for (ODocument node : nodes) {
+      final List<ODocument> out = new ArrayList<ODocument>();
+      for (int k = 0; k < DEGREE; k++)
+        out.add(nodes.get(random.nextInt(NODES)));
+
+      node.field("out", out);
+      if (random.nextInt(4) == 0)
+        node.field("next", nodes.get(random.nextInt(NODES)));
+      node.save();
+    }
+
+    root = nodes.get(0).getIdentity();
+  }
+
+  @AfterClass
+  public void after() {
+    db.drop();
+    OGlobalConfiguration.QUERY_PARALLEL_TRAVERSE_MINIMUM_GENERATION.setValue(minimumGeneration);
+  }
+
+  @Test
+  public void testWholeGraph() {
+    final List<OIdentifiable> expected = traverse(false, null, -1, "out", "next");
+    Assert.assertTrue(expected.size() > 1000);
+    Assert.assertEquals(traverse(true, null, -1, "out", "next"), expected);
+  }
+
+  @Test
+  public void testPredicateOnDepth() {
+    final List<OIdentifiable> expected = traverse(false, "$depth <= 4", -1, "out");
+    Assert.assertEquals(traverse(true, "$depth <= 4", -1, "out"), expected);
+  }
+
+  @Test
+  public void testPredicateOnField() {
+    final List<OIdentifiable> expected = traverse(false, "id % 3 > 0 or $depth = 0", -1, "*");
+    Assert.assertEquals(traverse(true, "id % 3 > 0 or $depth = 0", -1, "*"), expected);
+  }
+
+  @Test
+  public void testMaxDepth() {
+    final List<OIdentifiable> expected = traverse(false, null, 4, "out", "next");
+    Assert.assertEquals(traverse(true, null, 4, "out", "next"), expected);
+  }
+
+  @Test
+  public void testLinksAndCollectionsOrder() {
+    final ODocument aa = new ODocument("Node").save();
+    final ODocument ab = new ODocument("Node").save();
+    final ODocument a = new ODocument("Node").field("aa", aa).field("ab", ab).save();
+    final ODocument c1a = new ODocument("Node").save();
+    final ODocument c1 = new ODocument("Node").field("c1a", c1a).save();
+    final ODocument c2 = new ODocument("Node").save();
+    final ODocument top = new ODocument("Node").field("a", a).field("c", Arrays.asList(c1, c2)).save();
+
+    final OTraverse traverse = new OTraverse();
+    traverse.setStrategy(OTraverse.STRATEGY.BREADTH_FIRST);
+    traverse.setParallel(true);
+    traverse.target(top).fields("*");
+
+    Assert.assertEquals(traverse.execute(), Arrays.<OIdentifiable> asList(top, a, aa, ab, c1, c2, c1a));
+  }
+
+  @Test
+  public void testSQL() {
+    final List<ODocument> expected = db.query(new OSQLSynchQuery<ODocument>(
+        "traverse out from " + root + " while $depth < 5 strategy breadth_first"));
+    final List<ODocument> actual = db.query(new OSQLSynchQuery<ODocument>(
+        "traverse out from " + root + " while $depth < 5 strategy breadth_first parallel"));
+
+    Assert.assertTrue(expected.size() > 10);
+    Assert.assertEquals(actual, expected);
+  }
+
+  @Test
+  public void testLimit() {
+    final OTraverse traverse = new OTraverse();
+    traverse.setStrategy(OTraverse.STRATEGY.BREADTH_FIRST);
+    traverse.setParallel(true);
+    traverse.target(root).fields("out").limit(50);
+
+    Assert.assertEquals(traverse.execute(), traverse(false, null, -1, "out").subList(0, 50));
+  }
+
+  private List<OIdentifiable> traverse(final boolean parallel, final String predicate, final int maxDepth,
+      final String... fields) {
+    db.getLocalCache().clear();
+
+    final OTraverse traverse = new OTraverse();
+    traverse.setStrategy(OTraverse.STRATEGY.BREADTH_FIRST);
+    traverse.setParallel(parallel);
+    traverse.setMaxDepth(maxDepth);
+    if (predicate != null)
+      traverse.predicate(new OSQLPredicate(predicate));
+
+    traverse.target(root).fields(fields);
+
+    final List<OIdentifiable> result = new ArrayList<OIdentifiable>();
+    for (OIdentifiable identifiable : traverse)
+      result.add(identifiable.getIdentity());
+
+    return result;
+  }
+}
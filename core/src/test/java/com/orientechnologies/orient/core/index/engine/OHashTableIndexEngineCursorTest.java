@@ -0,0 +1,68 @@
+package com.orientechnologies.orient.core.index.engine;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.OIndexCursor;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Test
+public class OHashTableIndexEngineCursorTest {
+  private ODatabaseDocumentTx db;
+
+  @BeforeClass
+  public void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:" + OHashTableIndexEngineCursorTest.class.getSimpleName());
+    db.create();
+
+    final OClass cls = db.getMetadata().getSchema().createClass("Item");
+    cls.createProperty("unique", OType.INTEGER).createIndex(OClass.INDEX_TYPE.UNIQUE_HASH_INDEX);
+    cls.createProperty("group", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX);
+
+    for (int i = 0; i < 100; i++)
+      new ODocument("Item").field("unique", i).field("group", i % 10).save();
+  }
+
+  @AfterClass
+  public void afterClass() {
+    db.drop();
+  }
+
+  public void testCursor() {
+    checkAllEntries(getIndex("Item.unique").cursor(), 100, 100);
+    checkAllEntries(getIndex("Item.group").cursor(), 100, 10);
+  }
+
+  public void testDescCursor() {
+    checkAllEntries(getIndex("Item.unique").descCursor(), 100, 100);
+    checkAllEntries(getIndex("Item.group").descCursor(), 100, 10);
+  }
+
+  private OIndex<?> getIndex(final String name) {
+    return db.getMetadata().getIndexManager().getIndex(name);
+  }
+
+  private static void checkAllEntries(final OIndexCursor cursor, final int entries, final int keys) {
+    final Set<OIdentifiable> values = new HashSet<OIdentifiable>();
+    final Set<Object> distinctKeys = new HashSet<Object>();
+
+    Map.Entry<Object, OIdentifiable> entry;
+    while ((entry = cursor.nextEntry()) != null) {
+      distinctKeys.add(entry.getKey());
+      values.add(entry.getValue());
+    }
+
+    Assert.assertEquals(values.size(), entries);
+    Assert.assertEquals(distinctKeys.size(), keys);
+  }
+}
@@ -0,0 +1,92 @@
+package com.orientechnologies.orient.core.index.sbtreebonsai.local;
+
+import com.orientechnologies.common.serialization.types.OIntegerSerializer;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.sbtree.OSBTreeRidBag;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.serialization.serializer.binary.impl.OLinkSerializer;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Test
+public class OSBTreeBonsaiBagSizeTest {
+  private static final int                             KEYS_COUNT = 5000;
+
+  private ODatabaseDocumentTx                          databaseDocumentTx;
+  private OSBTreeBonsaiLocal<OIdentifiable, Integer> sbTree;
+
+  @BeforeMethod
+  public void beforeMethod() {
+    databaseDocumentTx = new ODatabaseDocumentTx("memory:" + OSBTreeBonsaiBagSizeTest.class.getSimpleName());
+    databaseDocumentTx.create();
+
+    sbTree = new OSBTreeBonsaiLocal<OIdentifiable, Integer>("bagSizeSBTreeBonsaiTest", ".irs",
+        (OAbstractPaginatedStorage) databaseDocumentTx.getStorage());
+    sbTree.create(OLinkSerializer.INSTANCE, OIntegerSerializer.INSTANCE);
+  }
+
+  @AfterMethod
+  public void afterMethod() {
+    sbTree.clear();
+    sbTree.delete();
+    databaseDocumentTx.drop();
+  }
+
+  public void testSizeOfTreeWithUnitValues() {
+    for (int i = 0; i < KEYS_COUNT; i++)
+      sbTree.put(new ORecordId(10, i), 1);
+
+    // ROOT WAS SPLIT SEVERAL TIMES
+    Assert.assertTrue(sbTree.hasUnitValues());
+    Assert.assertEquals(sbTree.getRealBagSize(new HashMap<OIdentifiable, OSBTreeRidBag.Change>()), KEYS_COUNT);
+
+    for (int i = 0; i < KEYS_COUNT; i += 2)
+      sbTree.remove(new ORecordId(10, i));
+
+    Assert.assertTrue(sbTree.hasUnitValues());
+    Assert.assertEquals(sbTree.getRealBagSize(new HashMap<OIdentifiable, OSBTreeRidBag.Change>()), KEYS_COUNT / 2);
+
+    final Map<OIdentifiable, OSBTreeRidBag.Change> changes = new HashMap<OIdentifiable, OSBTreeRidBag.Change>();
+    changes.put(new ORecordId(10, 1), diff(-1));
+    changes.put(new ORecordId(10, 3), diff(2));
+    changes.put(new ORecordId(10, 0), diff(3));
+    changes.put(new ORecordId(10, 2), diff(-1));
+    changes.put(new ORecordId(11, 0), diff(1));
+
+    Assert.assertEquals(sbTree.getRealBagSize(changes), KEYS_COUNT / 2 - 1 + 2 + 3 + 1);
+  }
+
+  public void testSizeOfTreeWithDuplicates() {
+    for (int i = 0; i < KEYS_COUNT; i++)
+      sbTree.put(new ORecordId(10, i), 1);
+
+    sbTree.put(new ORecordId(10, 7), 3);
+
+    Assert.assertFalse(sbTree.hasUnitValues());
+    Assert.assertEquals(sbTree.getRealBagSize(new HashMap<OIdentifiable, OSBTreeRidBag.Change>()), KEYS_COUNT + 2);
+
+    // FLAG IS NOT RESTORED UNTIL TREE IS CLEARED
+    sbTree.put(new ORecordId(10, 7), 1);
+    Assert.assertFalse(sbTree.hasUnitValues());
+    Assert.assertEquals(sbTree.getRealBagSize(new HashMap<OIdentifiable, OSBTreeRidBag.Change>()), KEYS_COUNT);
+
+    sbTree.clear();
+    Assert.assertTrue(sbTree.hasUnitValues());
+    Assert.assertEquals(sbTree.getRealBagSize(new HashMap<OIdentifiable, OSBTreeRidBag.Change>()), 0);
+  }
+
+  private static OSBTreeRidBag.Change diff(final int delta) {
+    final byte[] stream = new byte[OSBTreeRidBag.Change.SIZE];
+    stream[0] = 0;
+    OIntegerSerializer.INSTANCE.serializeLiteral(delta, stream, 1);
+
+    return OSBTreeRidBag.ChangeSerializationHelper.INSTANCE.deserializeChange(stream, 0);
+  }
+}
@@ -0,0 +1,55 @@
+package com.orientechnologies.orient.core.index.statistics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+@Test
+public class OIndexStatisticsTest {
+
+  public void testHyperLogLog() {
+    final OHyperLogLog small = new OHyperLogLog();
+    for (long i = 0; i < 100; i++)
+      small.add(hash(i));
+    Assert.assertEquals(small.estimate(), 100, 5);
+
+    final OHyperLogLog big = new OHyperLogLog();
+    for (long i = 0; i < 100000; i++) {
+      // EVERY VALUE IS ADDED TWICE
+      big.add(hash(i));
+      big.add(hash(i));
+    }
+    Assert.assertEquals(big.estimate(), 100000, 5000);
+
+    final OHyperLogLog other = new OHyperLogLog();
+    for (long i = 50000; i < 150000; i++)
+      other.add(hash(i));
+    other.merge(big);
+    Assert.assertEquals(other.estimate(), 150000, 7500);
+  }
+
+  public void testHistogram() {
+    final OIndexHistogram.Builder builder = new OIndexHistogram.Builder(10000, 10);
+    // 0..8999 ONCE, 9000 IS A FREQUENT KEY WITH 1000 ENTRIES
+    for (int i = 0; i < 9000; i++)
+      builder.add(i, 1);
+    builder.add(9000, 1000);
+    final OIndexHistogram histogram = builder.build();
+
+    Assert.assertEquals(histogram.getEntries(), 10000);
+    Assert.assertEquals(histogram.estimateEquals(9000), 1000);
+    Assert.assertEquals(histogram.estimateEquals(10), 1);
+    Assert.assertEquals(histogram.estimateEquals(-5), 0);
+
+    Assert.assertEquals(histogram.estimateRange(null, false, null, false), 10000);
+    Assert.assertEquals(histogram.estimateRange(1000, true, 2999, true), 2000, 100);
+    Assert.assertEquals(histogram.estimateRange(8500, false, null, false), 1499, 100);
+    Assert.assertEquals(histogram.estimateRange(null, false, 100, false), 100, 50);
+  }
+
+  private static long hash(final long value) {
+    long h = value * 0x9E3779B97F4A7C15L;
+    h ^= h >>> 32;
+    h *= 0xBF58476D1CE4E5B9L;
+    return h ^ (h >>> 29);
+  }
+}
@@ -0,0 +1,173 @@
+package com.orientechnologies.orient.core.iterator;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OSortedRidIteratorTest {
+  private ODatabaseDocumentTx db;
+
+  @BeforeMethod
+  public void before() {
+    db = new ODatabaseDocumentTx("memory:" + OSortedRidIteratorTest.class.getSimpleName());
+    db.create();
+    db.getMetadata().getSchema().createClass("Neighbour", 3);
+  }
+
+  @AfterMethod
+  public void after() {
+    db.drop();
+  }
+
+  @Test
+  public void testEmbeddedBagIsIteratedInPageOrder() {
+    checkPageOrder(new ORidBag(Integer.MAX_VALUE, -1), 30, 7);
+  }
+
+  @Test
+  public void testTreeBagIsIteratedInPageOrder() {
+    checkPageOrder(new ORidBag(-1, -1), 500, 64);
+  }
+
+  @Test
+  public void testRecordsAreLoadedAndDeletedSkipped() {
+    final ODocument owner = new ODocument();
+    final ORidBag bag = new ORidBag(-1, -1);
+    owner.field("links", bag);
+
+    final List<ORID> expected = new ArrayList<ORID>();
+    for (int i = 0; i < 100; i++) {
+      final ODocument neighbour = new ODocument("Neighbour").field("value", i).save();
+      bag.add(neighbour);
+      expected.add(neighbour.getIdentity());
+    }
+    owner.save();
+
+    for (int i = 0; i < 100; i += 10) {
+      db.delete(expected.get(i));
+      expected.set(i, null);
+    }
+    expected.removeAll(Collections.singleton(null));
+    Collections.sort(expected);
+
+    db.getLocalCache().clear();
+
+    final ODocument loadedOwner = db.load(owner.getIdentity());
+    final ORidBag loadedBag = loadedOwner.field("links");
+
+    final List<ORID> actual = new ArrayList<ORID>();
+    final Iterator<OIdentifiable> iterator = new OSortedRidIterator(loadedBag.rawIterator(), 1000, true);
+    while (iterator.hasNext()) {
+      final OIdentifiable identifiable = iterator.next();
+      Assert.assertTrue(identifiable instanceof ODocument);
+      actual.add(identifiable.getIdentity());
+    }
+
+    Assert.assertEquals(actual, expected);
+  }
+
+  @Test(expectedExceptions = UnsupportedOperationException.class)
+  public void testRemovalIsNotSupported() {
+    final ORidBag bag = new ORidBag();
+    bag.add(new ODocument("Neighbour").save());
+
+    final Iterator<OIdentifiable> iterator = new OSortedRidIterator(bag.rawIterator(), 10, false);
+    iterator.next();
+    iterator.remove();
+  }
+
+  @Test
+  public void testFirstBatchesAreSmall() {
+    final List<ORID> links = new ArrayList<ORID>();
+    for (int i = 0; i < 100; i++)
+      links.add(new ORecordId(9, 100 - i));
+
+    final AtomicInteger read = new AtomicInteger();
+    final Iterator<ORID> source = new Iterator<ORID>() {
+      private final Iterator<ORID> iterator = links.iterator();
+
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public ORID next() {
+        read.incrementAndGet();
+        return iterator.next();
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+
+    final Iterator<OIdentifiable> iterator = new OSortedRidIterator(source, 64, false);
+    Assert.assertEquals(iterator.next().getIdentity(), new ORecordId(9, 100));
+    Assert.assertEquals(read.get(), 1);
+
+    // SECOND BATCH HAS TWO LINKS SORTED BY POSITION
+    Assert.assertEquals(iterator.next().getIdentity(), new ORecordId(9, 98));
+    Assert.assertEquals(iterator.next().getIdentity(), new ORecordId(9, 99));
+    Assert.assertEquals(read.get(), 3);
+  }
+
+  private void checkPageOrder(final ORidBag bag, final int size, final int batchSize) {
+    final ODocument owner = new ODocument();
+    owner.field("links", bag);
+
+    final List<ODocument> neighbours = new ArrayList<ODocument>();
+    for (int i = 0; i < size; i++)
+      neighbours.add(new ODocument("Neighbour").field("value", i).save());
+
+    Collections.shuffle(neighbours, new Random(42));
+    for (ODocument neighbour : neighbours)
+      bag.add(neighbour);
+    owner.save();
+
+    final ODocument loadedOwner = db.load(owner.getIdentity());
+    final ORidBag loadedBag = loadedOwner.field("links");
+
+    final List<ORID> actual = new ArrayList<ORID>();
+    final Iterator<OIdentifiable> iterator = new OSortedRidIterator(loadedBag.rawIterator(), batchSize, false);
+    while (iterator.hasNext())
+      actual.add(iterator.next().getIdentity());
+
+    Assert.assertEquals(actual.size(), size);
+
+    // BATCHES GROW FROM A SINGLE LINK UP TO THE MAXIMUM SIZE
+    int start = 0;
+    for (int currentBatchSize = 1; start < size; currentBatchSize = Math.min(currentBatchSize << 1, batchSize)) {
+      final List<ORID> batch = actual.subList(start, Math.min(size, start + currentBatchSize));
+      final List<ORID> sorted = new ArrayList<ORID>(batch);
+      Collections.sort(sorted);
+
+      Assert.assertEquals(batch, sorted);
+      start += currentBatchSize;
+    }
+
+    final List<ORID> expected = new ArrayList<ORID>();
+    for (ODocument neighbour : neighbours)
+      expected.add(neighbour.getIdentity());
+    Collections.sort(expected);
+
+    final List<ORID> all = new ArrayList<ORID>(actual);
+    Collections.sort(all);
+    Assert.assertEquals(all, expected);
+  }
+}
@@ -0,0 +1,196 @@
+package com.orientechnologies.orient.core.ridbag;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.exception.OConcurrentModificationException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ORidBagFilesPerClusterTest {
+  private static final int    THREADS           = 8;
+  private static final int    HUBS_PER_THREAD   = 20;
+  private static final int    LINKS_PER_BAG     = 30;
+
+  private ODatabaseDocumentTx db;
+  private int                 filesPerCluster;
+
+  @BeforeMethod
+  public void before() {
+    filesPerCluster = OGlobalConfiguration.SBTREEBONSAI_FILES_PER_CLUSTER.getValueAsInteger();
+    OGlobalConfiguration.SBTREEBONSAI_FILES_PER_CLUSTER.setValue(4);
+
+    db = new ODatabaseDocumentTx("memory:" + ORidBagFilesPerClusterTest.class.getSimpleName());
+    db.create();
+    db.getMetadata().getSchema().createClass("Hub", 1);
+  }
+
+  @AfterMethod
+  public void after() {
+    db.activateOnCurrentThread();
+    db.drop();
+
+    OGlobalConfiguration.SBTREEBONSAI_FILES_PER_CLUSTER.setValue(filesPerCluster);
+  }
+
+  @Test
+  public void testConcurrentTransactions() throws Exception {
+    checkConcurrentCreation(true);
+  }
+
+  @Test
+  public void testConcurrentNonTransactionalSaves() throws Exception {
+    checkConcurrentCreation(false);
+  }
+
+  @Test
+  public void testNewCollectionIsPlacedInFileOfOtherCollectionOfDocument() throws Exception {
+    final ODocument hub = new ODocument("Hub");
+    final ORidBag in = new ORidBag(-1, -1);
+    in.add(new ORecordId(1, 1));
+    hub.field("in", in);
+    hub.save();
+
+    final ORID rid = hub.getIdentity();
+    final long fileId = in.getPointer().getFileId();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final List<Future<Long>> futures = new ArrayList<Future<Long>>();
+      for (int i = 0; i < THREADS; i++) {
+        final String fieldName = "out" + i;
+
+        futures.add(executor.submit(new Callable<Long>() {
+          @Override
+          public Long call() throws Exception {
+            final ODatabaseDocumentTx threadDb = new ODatabaseDocumentTx(db.getURL());
+            threadDb.open("admin", "admin");
+            try {
+              for (int n = 0; n < 10; n++) {
+                try {
+                  final ODocument document = threadDb.load(rid);
+                  final ORidBag out = new ORidBag(-1, -1);
+                  out.add(new ORecordId(1, 2));
+                  document.field(fieldName, out);
+                  document.save();
+
+                  return out.getPointer().getFileId();
+                } catch (OConcurrentModificationException e) {
+                  // RETRY
+                }
+              }
+
+              return -1L;
+            } finally {
+              threadDb.close();
+            }
+          }
+        }));
+      }
+
+      for (Future<Long> future : futures)
+        Assert.assertEquals(future.get().longValue(), fileId);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private void checkConcurrentCreation(final boolean transactional) throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    final List<Future<List<ORID>>> futures = new ArrayList<Future<List<ORID>>>();
+    try {
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(executor.submit(new Callable<List<ORID>>() {
+          @Override
+          public List<ORID> call() throws Exception {
+            final ODatabaseDocumentTx threadDb = new ODatabaseDocumentTx(db.getURL());
+            threadDb.open("admin", "admin");
+            try {
+              final List<ORID> hubs = new ArrayList<ORID>();
+              for (int n = 0; n < HUBS_PER_THREAD; n++) {
+                if (transactional)
+                  threadDb.begin();
+
+                final ODocument hub = new ODocument("Hub");
+                final ORidBag in = new ORidBag(-1, -1);
+                final ORidBag out = new ORidBag(-1, -1);
+                for (int k = 0; k < LINKS_PER_BAG; k++) {
+                  in.add(new ORecordId(1, k));
+                  out.add(new ORecordId(2, k));
+                }
+                hub.field("in", in);
+                hub.field("out", out);
+                hub.save();
+
+                if (transactional)
+                  threadDb.commit();
+
+                hubs.add(hub.getIdentity());
+              }
+
+              return hubs;
+            } finally {
+              threadDb.close();
+            }
+          }
+        }));
+      }
+
+      final List<ORID> hubs = new ArrayList<ORID>();
+      for (Future<List<ORID>> future : futures)
+        hubs.addAll(future.get());
+
+      db.activateOnCurrentThread();
+      db.getLocalCache().clear();
+
+      final Set<Long> fileIds = new HashSet<Long>();
+      for (ORID rid : hubs) {
+        final ODocument hub = db.load(rid);
+        final ORidBag in = hub.field("in");
+        final ORidBag out = hub.field("out");
+
+        Assert.assertFalse(in.isEmbedded());
+        Assert.assertEquals(in.getPointer().getFileId(), out.getPointer().getFileId());
+        fileIds.add(in.getPointer().getFileId());
+
+        checkContent(in, 1);
+        checkContent(out, 2);
+      }
+
+      Assert.assertTrue(fileIds.size() > 1);
+      Assert.assertTrue(fileIds.size() <= 4);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private void checkContent(final ORidBag bag, final int clusterId) {
+    bag.setAutoConvertToRecord(false);
+
+    final Set<ORID> expected = new HashSet<ORID>();
+    for (int k = 0; k < LINKS_PER_BAG; k++)
+      expected.add(new ORecordId(clusterId, k));
+
+    final Set<ORID> actual = new HashSet<ORID>();
+    for (OIdentifiable identifiable : bag)
+      actual.add(identifiable.getIdentity());
+
+    Assert.assertEquals(bag.size(), LINKS_PER_BAG);
+    Assert.assertEquals(actual, expected);
+  }
+}
@@ -0,0 +1,125 @@
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.index.OIndex;
+import com.orientechnologies.orient.core.index.statistics.OIndexStatistics;
+import com.orientechnologies.orient.core.index.statistics.OIndexStatisticsManager;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.filter.OSQLFilter;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Test
+public class OCommandExecutorSQLAnalyzeTest {
+  private ODatabaseDocumentTx db;
+
+  @BeforeClass
+  public void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OCommandExecutorSQLAnalyzeTest");
+    db.create();
+
+    final OClass order = db.getMetadata().getSchema().createClass("Order");
+    order.createProperty("status", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    order.createProperty("customer", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    order.createProperty("amount", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE_HASH_INDEX);
+
+    // 95% OF THE ORDERS ARE OPEN, 200 CUSTOMERS WITH 5 ORDERS EACH
+    for (int i = 0; i < 1000; i++)
+      new ODocument("Order").field("status", i % 20 == 0 ? "CLOSED" : "OPEN").field("customer", "c" + (i % 200))
+          .field("amount", i % 100).save();
+  }
+
+  @AfterClass
+  public void afterClass() {
+    db.drop();
+  }
+
+  public void testAnalyzeIndex() {
+    final List<ODocument> result = db.command(new OCommandSQL("analyze index Order.customer")).execute();
+    Assert.assertEquals(result.size(), 1);
+    Assert.assertEquals(result.get(0).field("index"), "Order.customer");
+    Assert.assertEquals(result.get(0).field("entries"), 1000L);
+    Assert.assertEquals((Long) ((List<?>) result.get(0).field("distinct")).get(0), 200, 10);
+
+    final OIndex<?> index = db.getMetadata().getIndexManager().getIndex("Order.customer");
+    final OIndexStatistics statistics = OIndexStatisticsManager.get(db).getStatistics(index);
+    Assert.assertEquals(statistics.estimateEquals("c7", 1), 5, 2);
+    Assert.assertEquals(statistics.estimateRange("c1", true, "c2", false), 5 * 111, 100);
+  }
+
+  public void testAnalyzeClass() {
+    final List<ODocument> result = db.command(new OCommandSQL("analyze class Order")).execute();
+    Assert.assertEquals(result.size(), 3);
+
+    final OIndex<?> status = db.getMetadata().getIndexManager().getIndex("Order.status");
+    Assert.assertEquals(OIndexStatisticsManager.get(db).getStatistics(status).estimateEquals("OPEN", 1), 950);
+
+    // HASH INDEXES HAVE NO HISTOGRAM
+    final OIndex<?> amount = db.getMetadata().getIndexManager().getIndex("Order.amount");
+    final OIndexStatistics amountStatistics = OIndexStatisticsManager.get(db).getStatistics(amount);
+    Assert.assertNull(amountStatistics.getHistogram());
+    Assert.assertEquals(amountStatistics.estimateEquals(5, 1), 10, 2);
+  }
+
+  @Test(expectedExceptions = OCommandExecutionException.class)
+  public void testUnknownIndex() {
+    db.command(new OCommandSQL("analyze index Order.unknown")).execute();
+  }
+
+  public void testMostSelectiveIndexIsUsed() {
+    final String query = "select from Order where status = 'OPEN' and customer = 'c3'";
+
+    db.command(new OCommandSQL("analyze")).execute();
+
+    final ODocument explain = db.command(new OCommandSQL("explain " + query)).execute();
+    final ODocument plan = explain.field("executionPlan");
+    if (plan != null) {
+      // STREAMING EXECUTION: ONLY THE ORDERS OF THE CUSTOMER ARE FETCHED
+      final List<ODocument> steps = plan.field("steps");
+      Assert.assertEquals(steps.get(0).field("name"), "FETCH FROM INDEX");
+      Assert.assertEquals(steps.get(0).field("rows"), 5l);
+    } else {
+      final Collection<?> involvedIndexes = explain.field("involvedIndexes");
+      Assert.assertEquals(involvedIndexes.size(), 1);
+      Assert.assertEquals(involvedIndexes.iterator().next(), "Order.customer");
+    }
+
+    Assert.assertEquals(db.query(new OSQLSynchQuery<ODocument>(query)).size(), 5);
+  }
+
+  public void testEstimateWithPositionalParameter() {
+    final OClass event = db.getMetadata().getSchema().createClass("Event");
+    event.createProperty("kind", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    event.createProperty("day", OType.DATE).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+    // ALMOST ALL THE EVENTS ARE ON THE SAME DAY, 100 KINDS WITH 2 EVENTS EACH
+    final long dayMillis = 24L * 60 * 60 * 1000;
+    for (int i = 0; i < 200; i++)
+      new ODocument("Event").field("kind", "k" + (i % 100)).field("day", new Date(i == 0 ? dayMillis : 0)).save();
+    db.command(new OCommandSQL("analyze class Event")).execute();
+
+    final OSQLFilter filter = OSQLEngine.getInstance().parseCondition("kind = 'k7' and day = ?", null, "WHERE");
+    final Map<Object, Object> params = new HashMap<Object, Object>();
+    params.put(0, new Date(0));
+    filter.bindParameters(params);
+
+    final List<OIndexSearchResult> searchResults = new OFilterAnalyzer().analyzeCondition(filter.getRootCondition(), event,
+        new OBasicCommandContext());
+    Assert.assertEquals(searchResults.size(), 2);
+    Assert.assertEquals(searchResults.get(0).fields(), Collections.singletonList("kind"));
+  }
+}
@@ -0,0 +1,101 @@
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Test
+public class OCommandExecutorSQLIndexIntersectionTest {
+  private ODatabaseDocumentTx db;
+
+  @BeforeClass
+  public void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OCommandExecutorSQLIndexIntersectionTest");
+    db.create();
+
+    final OClass item = db.getMetadata().getSchema().createClass("Item");
+    item.createProperty("color", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    item.createProperty("size", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+    item.createProperty("price", OType.INTEGER).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+    // EVERY COUPLE OF COLOR AND SIZE HAS 10 ITEMS
+    for (int i = 0; i < 1000; i++)
+      new ODocument("Item").field("color", "c" + (i % 10)).field("size", "s" + (i / 10 % 10)).field("price", i).save();
+  }
+
+  @AfterClass
+  public void afterClass() {
+    db.drop();
+  }
+
+  public void testIntersection() {
+    final String query = "select from Item where color = 'c1' and size = 's2'";
+    final List<ODocument> result = query(query);
+    Assert.assertEquals(result.size(), 10);
+    for (ODocument item : result) {
+      Assert.assertEquals(item.field("color"), "c1");
+      Assert.assertEquals(item.field("size"), "s2");
+    }
+
+    final ODocument explain = db.command(new OCommandSQL("explain " + query)).execute();
+    final Collection<?> intersection = explain.field("indexIntersection");
+    Assert.assertEquals(new HashSet<Object>(intersection), set("Item.color", "Item.size"));
+
+    final ODocument plan = explain.field("executionPlan");
+    if (plan != null) {
+      // STREAMING EXECUTION: ONLY THE ITEMS IN BOTH THE INDEXES ARE FETCHED
+      final List<ODocument> steps = plan.field("steps");
+      Assert.assertEquals(steps.get(0).field("rows"), 10l);
+    }
+  }
+
+  public void testIntersectionWithRange() {
+    final List<ODocument> result = query("select from Item where color = 'c1' and price < 300");
+    Assert.assertEquals(result.size(), 30);
+    for (ODocument item : result)
+      Assert.assertTrue((Integer) item.field("price") < 300);
+  }
+
+  public void testUnionOfIntersections() {
+    final List<ODocument> result = query(
+        "select from Item where (color = 'c1' and size = 's2') or (color = 'c3' and size = 's4') or (color = 'c1' and size = 's2')");
+    Assert.assertEquals(result.size(), 20);
+  }
+
+  public void testNoIntersection() {
+    final Object ratio = OGlobalConfiguration.QUERY_INDEX_INTERSECTION_RATIO.getValue();
+    OGlobalConfiguration.QUERY_INDEX_INTERSECTION_RATIO.setValue(0);
+    try {
+      final String query = "select from Item where color = 'c1' and size = 's2'";
+      Assert.assertEquals(query(query).size(), 10);
+
+      final ODocument explain = db.command(new OCommandSQL("explain " + query)).execute();
+      Assert.assertNull(explain.field("indexIntersection"));
+    } finally {
+      OGlobalConfiguration.QUERY_INDEX_INTERSECTION_RATIO.setValue(ratio);
+    }
+  }
+
+  private List<ODocument> query(final String sql) {
+    return db.query(new OSQLSynchQuery<ODocument>(sql));
+  }
+
+  private static Set<Object> set(final Object... values) {
+    final Set<Object> set = new HashSet<Object>();
+    for (Object value : values)
+      set.add(value);
+    return set;
+  }
+}
@@ -0,0 +1,137 @@
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OEdgeFanOutStatisticsTest {
+  private static int          dbCounter = 0;
+
+  private ODatabaseDocumentTx db;
+  private List<ODocument>     targets;
+
+  @BeforeMethod
+  public void setUp() {
+    db = new ODatabaseDocumentTx("memory:OEdgeFanOutStatisticsTest" + dbCounter++);
+    db.create();
+
+    final OSchema schema = db.getMetadata().getSchema();
+    schema.createClass("Person");
+    final OClass knows = schema.createClass("Knows");
+    schema.createClass("Follows", knows);
+    schema.createClass("Likes");
+
+    targets = new ArrayList<ODocument>();
+    for (int i = 0; i < 10; i++)
+      targets.add(new ODocument("Person").field("name", "target" + i).save());
+
+    // SOURCE i KNOWS i TARGETS AND LIKES 1 TARGET
+    for (int i = 0; i < 10; i++)
+      createSource(i);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    db.drop();
+  }
+
+  @Test
+  public void testFanOut() {
+    final OEdgeFanOutStatistics statistics = OEdgeFanOutStatistics.get(db);
+    Assert.assertNotNull(statistics);
+
+    final OEdgeFanOutStatistics.OFanOut knows = statistics.getFanOut(db, "Person", "out", new String[] { "Knows" });
+    Assert.assertEquals(knows.getSampleSize(), 20);
+    Assert.assertEquals(knows.getAverage(), 2.25);
+    Assert.assertEquals(knows.getPercentile90(), 7);
+    Assert.assertEquals(knows.getMax(), 9);
+
+    final OEdgeFanOutStatistics.OFanOut all = statistics.getFanOut(db, "Person", "out", null);
+    Assert.assertEquals(all.getAverage(), 2.75);
+
+    Assert.assertEquals(statistics.getFanOut(db, "Person", "in", new String[] { "Knows" }).getAverage(), 0d);
+    Assert.assertNull(statistics.getFanOut(db, "NotExists", "out", null));
+  }
+
+  @Test
+  public void testSubclassesOfLabels() {
+    final ODocument source = new ODocument("Person");
+    final ORidBag follows = new ORidBag();
+    follows.add(targets.get(0));
+    source.field("out_Follows", follows);
+    source.save();
+
+    final OEdgeFanOutStatistics statistics = OEdgeFanOutStatistics.get(db);
+    // 45 KNOWS AND 1 FOLLOWS ON 21 VERTICES
+    Assert.assertEquals(statistics.getFanOut(db, "Person", "out", new String[] { "knows" }).getAverage(), 46d / 21);
+    Assert.assertEquals(statistics.getFanOut(db, "Person", "out", new String[] { "Follows" }).getAverage(), 1d / 21);
+  }
+
+  @Test
+  public void testRefreshedWhenClassGrows() {
+    final OEdgeFanOutStatistics statistics = OEdgeFanOutStatistics.get(db);
+    Assert.assertEquals(statistics.getFanOut(db, "Person", "out", new String[] { "Likes" }).getAverage(), 0.5);
+
+    // LESS THAN 10% MORE VERTICES: STATISTICS ARE NOT COMPUTED AGAIN
+    createSource(0);
+    Assert.assertEquals(statistics.getFanOut(db, "Person", "out", new String[] { "Likes" }).getAverage(), 0.5);
+
+    for (int i = 0; i < 10; i++)
+      createSource(0);
+    Assert.assertEquals(statistics.getFanOut(db, "Person", "out", new String[] { "Likes" }).getAverage(), 21d / 31);
+  }
+
+  @Test
+  public void testRefreshedWhenOnlyEdgesAreAdded() {
+    final OSchema schema = db.getMetadata().getSchema();
+    final OClass edge = schema.getClass("E") != null ? schema.getClass("E") : schema.createClass("E");
+    schema.createClass("Owns", edge);
+
+    final OEdgeFanOutStatistics statistics = OEdgeFanOutStatistics.get(db);
+    Assert.assertEquals(statistics.getFanOut(db, "Person", "out", null).getAverage(), 2.75);
+
+    // NO NEW VERTICES: ONLY THE NUMBER OF EDGES CHANGES
+    final ODocument source = targets.get(0);
+    final ORidBag owns = new ORidBag();
+    for (int i = 0; i < 20; i++)
+      owns.add(new ODocument("Owns").field("out", source).field("in", targets.get(i % targets.size())).save());
+    source.field("out_Owns", owns);
+    source.save();
+
+    Assert.assertEquals(statistics.getFanOut(db, "Person", "out", null).getAverage(), 75d / 20);
+  }
+
+  @Test
+  public void testSampling() {
+    for (int i = 0; i < 200; i++)
+      createSource(4);
+
+    final OEdgeFanOutStatistics.OFanOut likes = OEdgeFanOutStatistics.get(db).getFanOut(db, "Person", "out",
+        new String[] { "Likes" });
+    Assert.assertTrue(likes.getSampleSize() > 0 && likes.getSampleSize() <= 100);
+    Assert.assertTrue(likes.getAverage() > 0.5 && likes.getAverage() <= 1);
+    Assert.assertEquals(likes.getMax(), 1);
+  }
+
+  private void createSource(final int knows) {
+    final ODocument source = new ODocument("Person");
+    final ORidBag knowsBag = new ORidBag();
+    for (int i = 0; i < knows; i++)
+      knowsBag.add(targets.get(i));
+    source.field("out_Knows", knowsBag);
+
+    final ORidBag likesBag = new ORidBag();
+    likesBag.add(targets.get(0));
+    source.field("out_Likes", likesBag);
+    source.save();
+  }
+}
@@ -0,0 +1,116 @@
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Test
+public class OParallelScanTest {
+  private ODatabaseDocumentTx db;
+  private Object              oldMinimumRecords;
+  private Object              oldRangeSize;
+  private Object              oldMaxThreads;
+
+  @BeforeClass
+  public void beforeClass() {
+    oldMinimumRecords = OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.getValue();
+    oldRangeSize = OGlobalConfiguration.QUERY_PARALLEL_RANGE_SIZE.getValue();
+    OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(0);
+    oldMaxThreads = OGlobalConfiguration.QUERY_PARALLEL_MAX_THREADS.getValue();
+    OGlobalConfiguration.QUERY_PARALLEL_RANGE_SIZE.setValue(37);
+    OGlobalConfiguration.QUERY_PARALLEL_MAX_THREADS.setValue(4);
+
+    db = new ODatabaseDocumentTx("memory:OParallelScanTest");
+    db.create();
+
+    final OClass item = db.getMetadata().getSchema().createClass("Item");
+    item.setClusterSelection("default");
+    item.createProperty("value", OType.INTEGER);
+    while (item.getClusterIds().length > 1)
+      item.removeClusterId(item.getClusterIds()[1]);
+
+    for (int i = 0; i < 1000; i++)
+      new ODocument("Item").field("value", i).save();
+
+    // HOLES IN THE CLUSTER
+    db.command(new OCommandSQL("delete from Item where value >= 100 and value < 200")).execute();
+  }
+
+  @AfterClass
+  public void afterClass() {
+    db.drop();
+
+    OGlobalConfiguration.QUERY_PARALLEL_MINIMUM_RECORDS.setValue(oldMinimumRecords);
+    OGlobalConfiguration.QUERY_PARALLEL_RANGE_SIZE.setValue(oldRangeSize);
+    OGlobalConfiguration.QUERY_PARALLEL_MAX_THREADS.setValue(oldMaxThreads);
+  }
+
+  public void testSingleClusterScan() {
+    final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>("select from Item where value >= 50 parallel"));
+    Assert.assertEquals(result.size(), 850);
+
+    final Set<Object> values = new HashSet<Object>();
+    for (ODocument doc : result)
+      values.add(doc.field("value"));
+    Assert.assertEquals(values.size(), 850);
+  }
+
+  public void testAggregates() {
+    final ODocument parallel = aggregate("select count(*), sum(value), min(value), max(value), avg(value) from Item parallel");
+    final ODocument serial = aggregate("select count(*), sum(value), min(value), max(value), avg(value) from Item");
+
+    Assert.assertEquals(parallel.field("count"), 900l);
+    Assert.assertEquals(parallel.field("count"), serial.field("count"));
+    Assert.assertEquals(parallel.field("sum"), serial.field("sum"));
+    Assert.assertEquals(parallel.field("min"), 0);
+    Assert.assertEquals(parallel.field("max"), 999);
+    Assert.assertEquals(parallel.field("avg"), serial.field("avg"));
+  }
+
+  public void testLimit() {
+    final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>("select from Item limit 10 parallel"));
+    Assert.assertEquals(result.size(), 10);
+  }
+
+  public void testSchedulerHandsOutEveryRangeOnce() {
+    final int clusterId = db.getMetadata().getSchema().getClass("Item").getDefaultClusterId();
+    final OClusterRangeScheduler scheduler = new OClusterRangeScheduler(db.getStorage(), new int[] { clusterId }, 100, 4);
+    Assert.assertEquals(scheduler.getThreads(), 4);
+
+    // THE FIRST THREAD TAKES ALL THE RANGES, ALSO THE ONES OF THE OTHER THREADS
+    long next = 0;
+    OClusterRangeScheduler.ORange range;
+    final Set<Long> firstPositions = new HashSet<Long>();
+    while ((range = scheduler.next(0)) != null) {
+      Assert.assertEquals(range.getLastPosition() - range.getFirstPosition(), 99);
+      firstPositions.add(range.getFirstPosition());
+      next++;
+    }
+    Assert.assertEquals(next, 10);
+    Assert.assertEquals(firstPositions.size(), 10);
+    Assert.assertNull(scheduler.next(3));
+
+    final OClusterRangeScheduler empty = new OClusterRangeScheduler(db.getStorage(),
+        new int[] { db.addCluster("empty") }, 100, 4);
+    Assert.assertEquals(empty.getThreads(), 1);
+    Assert.assertNull(empty.next(0));
+  }
+
+  private ODocument aggregate(final String iQuery) {
+    final List<OIdentifiable> result = db.query(new OSQLSynchQuery<OIdentifiable>(iQuery));
+    Assert.assertEquals(result.size(), 1);
+    return result.get(0).getRecord();
+  }
+}
@@ -0,0 +1,146 @@
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLPreparedQuery;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Test
+public class OPreparedQueryTest {
+  private ODatabaseDocumentTx db;
+  private OPreparedQueryCache cache;
+  private Object              streamingExecution;
+
+  @BeforeClass
+  public void beforeClass() {
+    streamingExecution = OGlobalConfiguration.QUERY_STREAMING_EXECUTION.getValue();
+    OGlobalConfiguration.QUERY_STREAMING_EXECUTION.setValue(true);
+
+    db = new ODatabaseDocumentTx("memory:OPreparedQueryTest");
+    db.create();
+
+    final OClass person = db.getMetadata().getSchema().createClass("Person");
+    person.createProperty("name", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+    for (int i = 0; i < 20; i++)
+      new ODocument("Person").field("name", "p" + i).field("age", i).save();
+
+    cache = OPreparedQueryCache.get(db);
+  }
+
+  @AfterClass
+  public void afterClass() {
+    db.drop();
+    OGlobalConfiguration.QUERY_STREAMING_EXECUTION.setValue(streamingExecution);
+  }
+
+  public void testReuse() {
+    final OSQLPreparedQuery<ODocument> query = db.prepare("select name from Person where age >= ? order by age desc");
+    final long hits = cache.getHits();
+
+    final List<ODocument> first = db.query(query, 17);
+    Assert.assertEquals(names(first), list("p19", "p18", "p17"));
+    Assert.assertEquals(names(db.query(query, 18)), list("p19", "p18"));
+    Assert.assertEquals(names(db.query(query, 19)), list("p19"));
+
+    Assert.assertEquals(cache.getHits(), hits + 2);
+    // EVERY EXECUTION RETURNS A NEW LIST
+    Assert.assertEquals(first.size(), 3);
+  }
+
+  public void testNamedParametersAndIndex() {
+    final OSQLPreparedQuery<ODocument> query = db.prepare("select from Person where name = :name");
+    final long hits = cache.getHits();
+
+    for (int i = 0; i < 5; i++) {
+      final Map<String, Object> params = new HashMap<String, Object>();
+      params.put("name", "p" + i);
+      final List<ODocument> result = db.query(query, params);
+      Assert.assertEquals(result.size(), 1);
+      Assert.assertEquals(result.get(0).field("age"), i);
+    }
+    Assert.assertEquals(cache.getHits(), hits + 4);
+  }
+
+  public void testSameStatementInDifferentQueries() {
+    final String sql = "select from Person where age between ? and ?";
+    db.query(db.prepare(sql), 0, 1);
+    final long hits = cache.getHits();
+
+    Assert.assertEquals(db.query(db.prepare(sql), 2, 5).size(), 4);
+    Assert.assertEquals(cache.getHits(), hits + 1);
+  }
+
+  public void testParametersOutsideWhereAreNotReused() {
+    final OSQLPreparedQuery<ODocument> query = db.prepare("select from Person where age < ? order by age limit ?");
+    final long hits = cache.getHits();
+
+    Assert.assertEquals(db.query(query, 10, 2).size(), 2);
+    Assert.assertEquals(db.query(query, 10, 5).size(), 5);
+    Assert.assertEquals(db.query(query, 3, 5).size(), 3);
+    Assert.assertEquals(cache.getHits(), hits);
+  }
+
+  public void testIndexChangeDiscardsTheCachedPlans() {
+    final OClass city = db.getMetadata().getSchema().createClass("City");
+    for (int i = 0; i < 10; i++)
+      new ODocument("City").field("name", "c" + i).save();
+
+    final OSQLPreparedQuery<ODocument> query = db.prepare("select from City where name = ?");
+    Assert.assertEquals(db.query(query, "c1").size(), 1);
+    long hits = cache.getHits();
+    Assert.assertEquals(db.query(query, "c2").size(), 1);
+    Assert.assertEquals(cache.getHits(), hits + 1);
+
+    city.createProperty("name", OType.STRING).createIndex(OClass.INDEX_TYPE.UNIQUE);
+
+    hits = cache.getHits();
+    Assert.assertEquals(db.query(query, "c3").size(), 1);
+    Assert.assertEquals(cache.getHits(), hits);
+    Assert.assertEquals(db.query(query, "c4").size(), 1);
+    Assert.assertEquals(cache.getHits(), hits + 1);
+  }
+
+  public void testLegacyExecutorIsNotReused() {
+    final OSQLPreparedQuery<ODocument> query = db.prepare("select from Person where age >= ? order by age desc");
+    final long hits = cache.getHits();
+    final long misses = cache.getMisses();
+
+    OGlobalConfiguration.QUERY_STREAMING_EXECUTION.setValue(false);
+    try {
+      Assert.assertEquals(names(db.query(query, 17)), list("p19", "p18", "p17"));
+      Assert.assertEquals(names(db.query(query, 18)), list("p19", "p18"));
+      Assert.assertEquals(names(db.query(query, 19)), list("p19"));
+    } finally {
+      OGlobalConfiguration.QUERY_STREAMING_EXECUTION.setValue(true);
+    }
+
+    Assert.assertEquals(cache.getHits(), hits);
+    Assert.assertEquals(cache.getMisses(), misses);
+  }
+
+  private static List<Object> names(final List<?> result) {
+    final List<Object> names = new ArrayList<Object>();
+    for (Object doc : result)
+      names.add(((ODocument) doc).field("name"));
+    return names;
+  }
+
+  private static List<Object> list(final Object... values) {
+    final List<Object> list = new ArrayList<Object>();
+    for (Object value : values)
+      list.add(value);
+    return list;
+  }
+}
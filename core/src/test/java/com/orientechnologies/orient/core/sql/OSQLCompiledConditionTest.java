@@ -0,0 +1,135 @@
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Test
+public class OSQLCompiledConditionTest {
+  private ODatabaseDocumentTx db;
+  private Date                date;
+
+  @BeforeClass
+  public void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OSQLCompiledConditionTest");
+    db.create();
+
+    final OClass item = db.getMetadata().getSchema().createClass("Item");
+    item.createProperty("byteValue", OType.BYTE);
+    item.createProperty("intValue", OType.INTEGER);
+    item.createProperty("longValue", OType.LONG);
+    item.createProperty("floatValue", OType.FLOAT);
+    item.createProperty("doubleValue", OType.DOUBLE);
+    item.createProperty("name", OType.STRING);
+    item.createProperty("ciName", OType.STRING).setCollate("ci");
+    item.createProperty("flag", OType.BOOLEAN);
+    item.createProperty("created", OType.DATETIME);
+
+    date = new Date(1000000L);
+    for (int i = 0; i < 30; i++) {
+      final ODocument doc = new ODocument("Item");
+      if (i % 7 != 0) {
+        doc.field("byteValue", (byte) i);
+        doc.field("intValue", i);
+        doc.field("longValue", (long) i * 1000000000L);
+        doc.field("floatValue", i / 2f);
+        doc.field("doubleValue", i / 4d);
+        doc.field("name", "n" + i);
+        doc.field("ciName", i % 2 == 0 ? "Even" : "ODD");
+        doc.field("flag", i % 3 == 0);
+        doc.field("created", new Date(date.getTime() + (i - 15) * 1000L));
+      }
+      doc.field("untyped", i % 5);
+      doc.save();
+    }
+    // VALUE NOT OF THE DECLARED TYPE
+    new ODocument("Item").field("intValue", "12", OType.STRING).field("name", 12, OType.INTEGER).save();
+    new ODocument().field("intValue", 3).save();
+  }
+
+  @AfterClass
+  public void afterClass() {
+    db.drop();
+  }
+
+  public void testComparisons() {
+    assertSame("select from Item where intValue = 3", 1);
+    assertSame("select from Item where intValue <> 3", -1);
+    assertSame("select from Item where intValue != 3", -1);
+    assertSame("select from Item where intValue > 20", 7);
+    assertSame("select from Item where intValue >= 20", 8);
+    assertSame("select from Item where intValue < 5", -1);
+    assertSame("select from Item where intValue <= 5", -1);
+    assertSame("select from Item where 20 < intValue", 7);
+    assertSame("select from Item where 20 >= intValue", -1);
+    assertSame("select from Item where byteValue > 10", -1);
+    assertSame("select from Item where byteValue > 1000", 0);
+    assertSame("select from Item where longValue >= 20000000000", -1);
+    assertSame("select from Item where longValue > 5", -1);
+    assertSame("select from Item where floatValue >= 10.5", -1);
+    assertSame("select from Item where doubleValue < 2.5", -1);
+    assertSame("select from Item where name = 'n12'", 1);
+    assertSame("select from Item where name > 'n2'", -1);
+    assertSame("select from Item where name = 12", -1);
+    assertSame("select from Item where ciName = 'even'", -1);
+    assertSame("select from Item where flag = true", -1);
+    assertSame("select from Item where flag <> false", -1);
+    assertSame("select from Item where untyped = 2", 6);
+    assertSame("select from Item where intValue is null", -1);
+    assertSame("select from Item where name is not null", -1);
+  }
+
+  public void testLogicalOperators() {
+    assertSame("select from Item where intValue > 5 and intValue < 10", 3);
+    assertSame("select from Item where intValue < 3 or name = 'n20'", -1);
+    assertSame("select from Item where not (intValue > 5)", -1);
+    assertSame("select from Item where not (intValue > 5 and flag = true) or untyped = 0", -1);
+    assertSame("select from Item where (intValue > 5 or name = 'n1') and (flag = false or doubleValue > 6)", -1);
+    assertSame("select from Item where intValue > 5 and name like 'n1%'", -1);
+  }
+
+  public void testParameters() {
+    assertSame("select from Item where intValue > ?", -1, 10);
+    assertSame("select from Item where intValue > ?", -1, 20L);
+    assertSame("select from Item where intValue > ?", -1, "15");
+    assertSame("select from Item where created > ?", -1, date);
+    assertSame("select from Item where created <= ? and name <> ?", -1, date, "n1");
+    assertSame("select from Item where ? < floatValue", -1, 5.5f);
+  }
+
+  private void assertSame(final String iQuery, final int iExpectedSize, final Object... iArgs) {
+    final Set<Object> compiled = execute(iQuery, true, iArgs);
+    final Set<Object> interpreted = execute(iQuery, false, iArgs);
+
+    Assert.assertEquals(compiled, interpreted, iQuery);
+    if (iExpectedSize > -1)
+      Assert.assertEquals(compiled.size(), iExpectedSize, iQuery);
+  }
+
+  private Set<Object> execute(final String iQuery, final boolean iCompile, final Object... iArgs) {
+    final boolean old = OGlobalConfiguration.QUERY_COMPILE_CONDITIONS.getValueAsBoolean();
+    OGlobalConfiguration.QUERY_COMPILE_CONDITIONS.setValue(iCompile);
+    try {
+      final List<OIdentifiable> result = db.query(new OSQLSynchQuery<OIdentifiable>(iQuery), iArgs);
+      final Set<Object> rids = new HashSet<Object>();
+      for (OIdentifiable r : result)
+        rids.add(r.getIdentity());
+      return rids;
+    } finally {
+      OGlobalConfiguration.QUERY_COMPILE_CONDITIONS.setValue(old);
+    }
+  }
+}
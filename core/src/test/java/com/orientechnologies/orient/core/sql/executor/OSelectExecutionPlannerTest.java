@@ -0,0 +1,295 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.command.OCommandResultListener;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLAsynchQuery;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Test
+public class OSelectExecutionPlannerTest {
+  private ODatabaseDocumentTx db;
+  private boolean             streamingExecution;
+
+  @BeforeClass
+  public void beforeClass() {
+    streamingExecution = OGlobalConfiguration.QUERY_STREAMING_EXECUTION.getValueAsBoolean();
+    OGlobalConfiguration.QUERY_STREAMING_EXECUTION.setValue(true);
+
+    db = new ODatabaseDocumentTx("memory:OSelectExecutionPlannerTest");
+    db.create();
+
+    final OClass person = db.getMetadata().getSchema().createClass("Person");
+    person.createProperty("name", OType.STRING).createIndex(OClass.INDEX_TYPE.NOTUNIQUE);
+
+    // 20 PERSONS, AGE i, IN 3 CITIES
+    for (int i = 0; i < 20; i++)
+      new ODocument("Person").field("name", "p" + i).field("age", i).field("city", "c" + (i % 3)).save();
+  }
+
+  @AfterClass
+  public void afterClass() {
+    db.drop();
+    OGlobalConfiguration.QUERY_STREAMING_EXECUTION.setValue(streamingExecution);
+  }
+
+  public void testFilterAndProjection() {
+    final List<ODocument> result = query("select name, name.toUpperCase() as upper from Person where age >= 17");
+    Assert.assertEquals(result.size(), 3);
+    for (ODocument doc : result) {
+      Assert.assertEquals(doc.fieldNames().length, 2);
+      Assert.assertEquals(doc.field("upper"), ((String) doc.field("name")).toUpperCase());
+    }
+
+    final List<String> steps = stepNames("select name from Person where age >= 17");
+    Assert.assertEquals(steps.get(0), "FETCH FROM CLASS");
+    Assert.assertEquals(steps.get(1), "FILTER");
+    Assert.assertEquals(steps.get(2), "PROJECT");
+  }
+
+  public void testIndex() {
+    final List<ODocument> result = query("select from Person where name = 'p3' and age = 3");
+    Assert.assertEquals(result.size(), 1);
+    Assert.assertEquals(result.get(0).field("age"), 3);
+
+    final List<ODocument> steps = explainSteps("select from Person where name = 'p3' and age = 3");
+    Assert.assertEquals(steps.get(0).field("name"), "FETCH FROM INDEX");
+    Assert.assertEquals(steps.get(0).field("rows"), 1l);
+    Assert.assertEquals(steps.get(1).field("name"), "FILTER");
+
+    Assert.assertEquals(query("select from Person where name = 'p3' and age = 4").size(), 0);
+  }
+
+  public void testIndexCoveringTheCondition() {
+    final List<ODocument> result = db.command(new OSQLSynchQuery<ODocument>("select from Person where name = ? limit 1")).execute("p3");
+    Assert.assertEquals(names(result), list("p3"));
+    Assert.assertEquals(stepNames("select from Person where name = 'p3'"), list("FETCH FROM INDEX"));
+  }
+
+  public void testFullTextIndexDoesNotCoverTheCondition() {
+    final OClass note = db.getMetadata().getSchema().createClass("Note");
+    note.createProperty("text", OType.STRING).createIndex(OClass.INDEX_TYPE.FULLTEXT);
+    new ODocument("Note").field("text", "foo").save();
+    new ODocument("Note").field("text", "foo bar").save();
+
+    final List<ODocument> result = query("select from Note where text = 'foo'");
+    Assert.assertEquals(result.size(), 1);
+    Assert.assertEquals(result.get(0).field("text"), "foo");
+    Assert.assertEquals(stepNames("select from Note where text = 'foo'"), list("FETCH FROM INDEX", "FILTER"));
+  }
+
+  public void testIndexWithOr() {
+    final List<ODocument> result = query("select from Person where name = 'p3' or name = 'p5' or name = 'p3'");
+    Assert.assertEquals(result.size(), 2);
+  }
+
+  public void testDistinct() {
+    final List<ODocument> result = query("select distinct(city) as city from Person");
+    Assert.assertEquals(result.size(), 3);
+  }
+
+  public void testAggregate() {
+    final List<ODocument> result = query("select count(*), max(age), avg(age) as average from Person where age < 10");
+    Assert.assertEquals(result.size(), 1);
+    Assert.assertEquals(result.get(0).field("count"), 10l);
+    Assert.assertEquals(result.get(0).field("max"), 9);
+    Assert.assertEquals(((Number) result.get(0).field("average")).intValue(), 4);
+
+    final List<ODocument> empty = query("select count(*) from Person where age > 100");
+    Assert.assertEquals(empty.size(), 1);
+    Assert.assertEquals(empty.get(0).field("count"), 0l);
+
+    Assert.assertEquals(stepNames("select count(*) from Person").get(1), "AGGREGATE");
+  }
+
+  public void testGroupBy() {
+    final List<ODocument> result = query("select city, count(*) as persons, sum(age) as total from Person group by city order by total desc");
+    Assert.assertEquals(result.size(), 3);
+    // c0: 0,3,...,18 = 63; c1: 1,4,...,19 = 70; c2: 2,5,...,17 = 57
+    Assert.assertEquals(result.get(0).field("city"), "c1");
+    Assert.assertEquals(result.get(0).field("persons"), 7l);
+    Assert.assertEquals(result.get(0).field("total"), 70);
+    Assert.assertEquals(result.get(1).field("city"), "c0");
+    Assert.assertEquals(result.get(2).field("city"), "c2");
+    Assert.assertEquals(result.get(2).field("persons"), 6l);
+  }
+
+  public void testGroupBySpillsToDisk() {
+    final int maxGroups = OGlobalConfiguration.QUERY_GROUP_BY_MAX_GROUPS.getValueAsInteger();
+    OGlobalConfiguration.QUERY_GROUP_BY_MAX_GROUPS.setValue(2);
+    try {
+      // c0 AND c1 ARE AGGREGATED IN MEMORY, THE RECORDS OF c2 ARE SPILLED
+      final String sql = "select city, count(*) as persons, sum(age) as total from Person group by city order by total desc";
+      final List<ODocument> result = query(sql);
+      Assert.assertEquals(result.size(), 3);
+      Assert.assertEquals(result.get(0).field("total"), 70);
+      Assert.assertEquals(result.get(1).field("total"), 63);
+      Assert.assertEquals(result.get(2).field("city"), "c2");
+      Assert.assertEquals(result.get(2).field("persons"), 6l);
+      Assert.assertEquals(result.get(2).field("total"), 57);
+
+      final String description = explainSteps(sql).get(1).field("description");
+      Assert.assertTrue(description.startsWith("GROUP BY [city] (3 groups) (1 partitions spilled, 6 records, "), description);
+
+      // 20 GROUPS, 2 AT A TIME: THE PARTITIONS ARE PARTITIONED AGAIN
+      final List<ODocument> ages = query("select age, count(*) as persons from Person group by age order by age");
+      Assert.assertEquals(ages.size(), 20);
+      for (int i = 0; i < 20; i++) {
+        Assert.assertEquals(ages.get(i).field("age"), i);
+        Assert.assertEquals(ages.get(i).field("persons"), 1l);
+      }
+    } finally {
+      OGlobalConfiguration.QUERY_GROUP_BY_MAX_GROUPS.setValue(maxGroups);
+    }
+  }
+
+  public void testOrderSkipLimit() {
+    final List<ODocument> result = query("select name from Person order by age desc skip 2 limit 3");
+    Assert.assertEquals(names(result), list("p17", "p16", "p15"));
+
+    final List<String> steps = stepNames("select name from Person order by age desc skip 2 limit 3");
+    Assert.assertEquals(steps, list("FETCH FROM CLASS", "ORDER BY", "PROJECT", "SKIP", "LIMIT"));
+  }
+
+  public void testOrderByKeepsTheTopRecords() {
+    final List<ODocument> result = query("select from Person order by city desc, age skip 1 limit 4");
+    Assert.assertEquals(names(result), list("p5", "p8", "p11", "p14"));
+
+    final List<ODocument> steps = explainSteps("select from Person order by city desc, age skip 1 limit 4");
+    Assert.assertEquals(steps.get(1).field("name"), "ORDER BY");
+    Assert.assertEquals(steps.get(1).field("description"), "city DESC, age ASC (top 5)");
+  }
+
+  public void testOrderBySpillsToDisk() {
+    final int memoryBudget = OGlobalConfiguration.QUERY_SORT_MEMORY_BUDGET.getValueAsInteger();
+    OGlobalConfiguration.QUERY_SORT_MEMORY_BUDGET.setValue(1);
+    try {
+      db.getMetadata().getSchema().createClass("Big");
+      final StringBuilder text = new StringBuilder();
+      for (int i = 0; i < 4096; i++)
+        text.append('x');
+
+      // ABOUT 2.5MB OF RECORDS
+      for (int i = 0; i < 600; i++)
+        new ODocument("Big").field("n", (i * 7) % 600).field("group", i % 10).field("text", text.toString()).save();
+
+      final List<ODocument> result = query("select from Big order by group, n desc");
+      Assert.assertEquals(result.size(), 600);
+      for (int i = 1; i < result.size(); i++) {
+        final int group = result.get(i).<Integer>field("group");
+        final int previousGroup = result.get(i - 1).<Integer>field("group");
+        Assert.assertTrue(previousGroup < group
+            || (previousGroup == group && result.get(i - 1).<Integer>field("n") > result.get(i).<Integer>field("n")));
+        Assert.assertEquals(result.get(i).field("text"), text.toString());
+        Assert.assertTrue(result.get(i).getIdentity().isPersistent());
+      }
+
+      final String description = explainSteps("select from Big order by group, n desc").get(1).field("description");
+      Assert.assertTrue(description.startsWith("group ASC, n DESC (2 runs spilled"), description);
+
+      final List<ODocument> projected = query("select n, group from Big order by group, n desc");
+      Assert.assertEquals(projected.get(0).field("n"), 590);
+      Assert.assertEquals(projected.get(599).field("n"), 3);
+    } finally {
+      OGlobalConfiguration.QUERY_SORT_MEMORY_BUDGET.setValue(memoryBudget);
+    }
+  }
+
+  public void testOrderByRid() {
+    final List<ODocument> result = query("select from Person order by @rid desc limit 2");
+    Assert.assertEquals(names(result), list("p19", "p18"));
+    Assert.assertEquals(stepNames("select from Person order by @rid desc limit 2"), list("FETCH FROM CLASS", "LIMIT"));
+  }
+
+  public void testLimitStopsTheScan() {
+    final List<ODocument> steps = explainSteps("select from Person where age >= 5 limit 2");
+    Assert.assertEquals(steps.get(0).field("rows"), 7l);
+    Assert.assertEquals(steps.get(1).field("rows"), 2l);
+    Assert.assertEquals(steps.get(2).field("rows"), 2l);
+  }
+
+  public void testParameters() {
+    List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>("select from Person where age = ?"), 7);
+    Assert.assertEquals(names(result), list("p7"));
+
+    final Map<String, Object> params = new HashMap<String, Object>();
+    params.put("name", "p8");
+    result = db.query(new OSQLSynchQuery<ODocument>("select from Person where name = :name"), params);
+    Assert.assertEquals(names(result), list("p8"));
+  }
+
+  public void testListenerStopsTheExecution() {
+    final List<Object> received = new ArrayList<Object>();
+    db.query(new OSQLAsynchQuery<ODocument>("select from Person", new OCommandResultListener() {
+      @Override
+      public boolean result(final Object iRecord) {
+        received.add(iRecord);
+        return received.size() < 3;
+      }
+
+      @Override
+      public void end() {
+      }
+
+      @Override
+      public Object getResult() {
+        return null;
+      }
+    }));
+    Assert.assertEquals(received.size(), 3);
+  }
+
+  public void testUnsupportedStatements() {
+    ODocument explain = db.command(new OCommandSQL("explain select from Person let $a = 1 limit 1")).execute();
+    Assert.assertNull(explain.field("executionPlan"));
+    Assert.assertEquals(query("select from Person let $a = 1 where age = 1").size(), 1);
+
+    explain = db.command(new OCommandSQL("explain select expand(name) from Person")).execute();
+    Assert.assertNull(explain.field("executionPlan"));
+  }
+
+  private List<ODocument> query(final String sql) {
+    return db.query(new OSQLSynchQuery<ODocument>(sql));
+  }
+
+  private List<ODocument> explainSteps(final String sql) {
+    final ODocument explain = db.command(new OCommandSQL("explain " + sql)).execute();
+    final ODocument plan = explain.field("executionPlan");
+    Assert.assertNotNull(plan);
+    return plan.field("steps");
+  }
+
+  private List<String> stepNames(final String sql) {
+    final List<String> names = new ArrayList<String>();
+    for (ODocument step : explainSteps(sql))
+      names.add((String) step.field("name"));
+    return names;
+  }
+
+  private static List<String> names(final List<ODocument> result) {
+    final List<String> names = new ArrayList<String>();
+    for (ODocument doc : result)
+      names.add((String) doc.field("name"));
+    return names;
+  }
+
+  private static List<String> list(final String... values) {
+    final List<String> list = new ArrayList<String>();
+    for (String value : values)
+      list.add(value);
+    return list;
+  }
+}
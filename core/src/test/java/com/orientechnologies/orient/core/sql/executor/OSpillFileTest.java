@@ -0,0 +1,44 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.common.io.OFileUtils;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ORecordBytes;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.DataInputStream;
+import java.io.File;
+
+@Test
+public class OSpillFileTest {
+
+  public void testWriteAndRead() throws Exception {
+    final File directory = new File(System.getProperty("java.io.tmpdir"), OSpillFileTest.class.getSimpleName());
+    OFileUtils.deleteRecursively(directory);
+    directory.mkdirs();
+
+    final OSpillFile file = new OSpillFile("test", directory);
+    try {
+      for (int i = 0; i < 100; i++)
+        file.write(new ORecordBytes(new byte[i]));
+      file.closeWriting();
+
+      Assert.assertEquals(file.getRecords(), 100);
+      Assert.assertEquals(file.getBytes(), directory.listFiles()[0].length());
+
+      final DataInputStream in = file.openReader();
+      try {
+        for (int i = 0; i < 100; i++) {
+          final ORecord record = OSpillFile.read(in);
+          Assert.assertEquals(record.toStream().length, i);
+        }
+        Assert.assertNull(OSpillFile.read(in));
+      } finally {
+        in.close();
+      }
+    } finally {
+      file.delete();
+      OFileUtils.deleteRecursively(directory);
+    }
+  }
+}
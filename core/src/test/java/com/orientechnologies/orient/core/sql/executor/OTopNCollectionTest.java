@@ -0,0 +1,57 @@
+package com.orientechnologies.orient.core.sql.executor;
+
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORecordId;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+@Test
+public class OTopNCollectionTest {
+  // ORDER BY CLUSTER ID ONLY, THE POSITION TELLS THE ORDER OF INSERTION
+  private static final Comparator<OIdentifiable> BY_CLUSTER = new Comparator<OIdentifiable>() {
+    @Override
+    public int compare(final OIdentifiable o1, final OIdentifiable o2) {
+      return o1.getIdentity().getClusterId() - o2.getIdentity().getClusterId();
+    }
+  };
+
+  public void testKeepsTheFirstRecords() {
+    final Random random = new Random(42);
+    final List<OIdentifiable> all = new ArrayList<OIdentifiable>();
+    final OTopNCollection top = new OTopNCollection(25, BY_CLUSTER);
+    for (int i = 0; i < 1000; i++) {
+      final ORecordId rid = new ORecordId(random.nextInt(100), i);
+      all.add(rid);
+      top.add(rid);
+    }
+
+    // SAME RESULT OF A STABLE SORT OF ALL THE RECORDS
+    Collections.sort(all, BY_CLUSTER);
+    Assert.assertEquals(top.size(), 25);
+    Assert.assertEquals(top.getAdded(), 1000);
+    Assert.assertEquals(top.toSortedList(), all.subList(0, 25));
+  }
+
+  public void testLessRecordsThanTheSize() {
+    final OTopNCollection top = new OTopNCollection(10, BY_CLUSTER);
+    top.add(new ORecordId(3, 0));
+    top.add(new ORecordId(1, 1));
+    top.add(new ORecordId(3, 2));
+
+    final List<OIdentifiable> result = new ArrayList<OIdentifiable>();
+    for (OIdentifiable rid : top)
+      result.add(rid);
+    Assert.assertEquals(result.toString(), "[#1:1, #3:0, #3:2]");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testZeroSize() {
+    new OTopNCollection(0, BY_CLUSTER);
+  }
+}
@@ -0,0 +1,139 @@
+package com.orientechnologies.orient.core.sql.functions.math;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.functions.OSQLValueBlock;
+import com.orientechnologies.orient.core.sql.functions.misc.OSQLFunctionCount;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Tests that aggregate functions executed over blocks of values return the same results as in record by record execution.
+ */
+@Test
+public class OSQLFunctionBatchAggregateTest {
+  private ODatabaseDocumentTx db;
+
+  @BeforeClass
+  public void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OSQLFunctionBatchAggregateTest");
+    db.create();
+
+    db.getMetadata().getSchema().createClass("Payment").createProperty("amount", OType.INTEGER);
+    db.getMetadata().getSchema().createClass("Mixed");
+
+    for (int i = 0; i < 3000; i++) {
+      ODocument payment = new ODocument("Payment");
+      if (i % 7 != 0)
+        payment.field("amount", i - 1000);
+      payment.field("price", i / 4.0d);
+      payment.field("total", i * 1000000000L);
+      payment.save();
+
+      ODocument mixed = new ODocument("Mixed");
+      if (i % 3 == 0)
+        mixed.field("value", i);
+      else if (i % 3 == 1)
+        mixed.field("value", (double) i);
+      if (i % 5 == 0)
+        mixed.field("label", "text" + i);
+      mixed.save();
+    }
+  }
+
+  @AfterClass
+  public void afterClass() {
+    db.drop();
+  }
+
+  public void testBlockOfIntegers() {
+    OSQLValueBlock block = new OSQLValueBlock(8);
+    block.addLong(OType.INTEGER, 5);
+    block.addNull();
+    block.addLong(OType.INTEGER, -3);
+    block.addLong(OType.INTEGER, 10);
+
+    OSQLFunctionSum sum = new OSQLFunctionSum();
+    sum.aggregate(block);
+    assertEquals(sum.getResult(), 12);
+
+    OSQLFunctionMin min = new OSQLFunctionMin();
+    min.config(new Object[] { "amount" });
+    min.aggregate(block);
+    assertEquals(min.getResult(), -3);
+
+    OSQLFunctionMax max = new OSQLFunctionMax();
+    max.config(new Object[] { "amount" });
+    max.aggregate(block);
+    assertEquals(max.getResult(), 10);
+
+    OSQLFunctionAverage avg = new OSQLFunctionAverage();
+    avg.config(new Object[] { "amount" });
+    avg.aggregate(block);
+    assertEquals(avg.getResult(), 4);
+
+    OSQLFunctionCount count = new OSQLFunctionCount();
+    count.aggregate(block);
+    assertEquals(count.getResult(), 3L);
+  }
+
+  public void testBlockOfNulls() {
+    OSQLValueBlock block = new OSQLValueBlock(8);
+    block.addNull();
+    block.addNull();
+
+    OSQLFunctionSum sum = new OSQLFunctionSum();
+    sum.aggregate(block);
+    assertNull(sum.getResult());
+
+    OSQLFunctionMax max = new OSQLFunctionMax();
+    max.config(new Object[] { "amount" });
+    max.aggregate(block);
+    assertNull(max.getResult());
+  }
+
+  public void testSumOfIntegersOverflowsToLong() {
+    OSQLValueBlock block = new OSQLValueBlock(8);
+    block.addLong(OType.INTEGER, Integer.MAX_VALUE);
+    block.addLong(OType.INTEGER, Integer.MAX_VALUE);
+
+    OSQLFunctionSum sum = new OSQLFunctionSum();
+    sum.aggregate(block);
+    assertEquals(sum.getResult(), 2L * Integer.MAX_VALUE);
+  }
+
+  public void testSameResultAsRecordByRecord() {
+    final String[] queries = new String[] {
+        "select count(*) as c, count(amount) as ca, sum(amount) as s, min(amount) as mi, max(amount) as ma, avg(amount) as a from Payment",
+        "select sum(price) as s, min(price) as mi, max(price) as ma, avg(price) as a from Payment where amount > 100",
+        "select sum(total) as s, max(total) as ma from Payment", "select count(value) as c, min(value) as mi, max(value) as ma, sum(value) as s from Mixed",
+        "select count(label) as c, min(label) as mi, max(label) as ma from Mixed",
+        "select sum(value) as s from Mixed where value > 2000", "select sum(missing) as s, count(missing) as c from Payment" };
+
+    for (String query : queries) {
+      final List<ODocument> batch = db.query(new OSQLSynchQuery<ODocument>(query));
+
+      OGlobalConfiguration.QUERY_BATCH_AGGREGATION.setValue(false);
+      final List<ODocument> rowByRow;
+      try {
+        rowByRow = db.query(new OSQLSynchQuery<ODocument>(query));
+      } finally {
+        OGlobalConfiguration.QUERY_BATCH_AGGREGATION.setValue(true);
+      }
+
+      assertEquals(batch.size(), rowByRow.size(), query);
+      for (int i = 0; i < batch.size(); i++)
+        for (String field : rowByRow.get(i).fieldNames())
+          assertEquals(batch.get(i).field(field), rowByRow.get(i).field(field), query + " : " + field);
+    }
+  }
+}
@@ -177,6 +177,13 @@ public class OMatchStatementTest {
     checkWrongSyntax("MATCH {rid:'foo', as: foo}-->{} RETURN foo");
   }
 
+  @Test
+  public void testParallel() {
+    checkRightSyntax("MATCH {class: 'V', as: foo}-->{as: bar} RETURN foo PARALLEL");
+    checkRightSyntax("MATCH {class: 'V', as: foo}-->{as: bar} RETURN foo, bar LIMIT 10 PARALLEL");
+    checkWrongSyntax("MATCH {class: 'V', as: foo}-->{as: bar} RETURN foo PARALLEL LIMIT 10");
+  }
+
   private void printTree(String s) {
     OrientSql osql = getParserFor(s);
     try {
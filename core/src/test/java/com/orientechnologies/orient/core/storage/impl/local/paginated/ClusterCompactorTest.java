@@ -0,0 +1,120 @@
+package com.orientechnologies.orient.core.storage.impl.local.paginated;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+public class ClusterCompactorTest {
+
+  @Test
+  public void testCompactorWithDefaultConfiguration() throws Exception {
+    final Object interval = OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_INTERVAL.getValue();
+    OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_INTERVAL.setValue(
+        OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_INTERVAL.getDefValue());
+
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:ClusterCompactorDefaultTest");
+    db.create();
+    try {
+      db.getMetadata().getSchema().createClass("Compacted", 1);
+      new ODocument("Compacted").field("index", 0).save();
+
+      // NO BACKGROUND COMPACTION, BUT STATISTICS AND COMPACTION ON DEMAND ARE AVAILABLE
+      final OClusterCompactor compactor = ((OAbstractPaginatedStorage) db.getStorage().getUnderlying()).getClusterCompactor();
+      Assert.assertNotNull(compactor);
+      Assert.assertEquals(compactor.getCompletedRuns(), 0);
+
+      final Set<ObjectName> mbeans = ManagementFactory.getPlatformMBeanServer().queryNames(
+          new ObjectName(OClusterCompactor.MBEAN_NAME + ",name=" + ObjectName.quote(db.getName()) + ",*"), null);
+      Assert.assertEquals(mbeans.size(), 1);
+
+      final List<ODocument> statistics = db.query(new OSQLSynchQuery<ODocument>("select from metadata:storage where name = ?"),
+          db.getClusterNameById(db.getMetadata().getSchema().getClass("Compacted").getDefaultClusterId()));
+      Assert.assertEquals(statistics.size(), 1);
+      Assert.assertEquals(((Number) statistics.get(0).field("records")).longValue(), 1);
+
+      compactor.compactClusters();
+      Assert.assertEquals(compactor.getCompletedRuns(), 1);
+    } finally {
+      db.drop();
+      OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_INTERVAL.setValue(interval);
+    }
+  }
+
+  @Test
+  public void testRecordsAreMovedIntoDensePages() {
+    final Object interval = OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_INTERVAL.getValue();
+    // LONG ENOUGH NOT TO RUN DURING THE TEST
+    OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_INTERVAL.setValue(3600);
+
+    ODatabaseDocumentTx db = new ODatabaseDocumentTx("memory:ClusterCompactorTest");
+    db.create();
+    try {
+      db.getMetadata().getSchema().createClass("Compacted", 1);
+
+      final char[] chars = new char[1000];
+      Arrays.fill(chars, 'a');
+      final String value = new String(chars);
+
+      final List<ORID> rids = new ArrayList<ORID>();
+      for (int i = 0; i < 1000; i++) {
+        ODocument document = new ODocument("Compacted");
+        document.field("index", i);
+        document.field("value", value);
+        document.save();
+
+        rids.add(document.getIdentity());
+      }
+
+      // first half of cluster becomes sparse, second half is half filled
+      final List<ORID> alive = new ArrayList<ORID>();
+      for (int i = 0; i < rids.size(); i++) {
+        final boolean keep = i < rids.size() / 2 ? i % 20 == 0 : i % 2 == 0;
+        if (keep)
+          alive.add(rids.get(i));
+        else
+          db.delete(rids.get(i));
+      }
+
+      final OAbstractPaginatedStorage storage = (OAbstractPaginatedStorage) db.getStorage().getUnderlying();
+      final OClusterCompactor compactor = storage.getClusterCompactor();
+      Assert.assertNotNull(compactor);
+
+      compactor.compactClusters();
+
+      Assert.assertTrue(compactor.getRelocatedRecords() > 0);
+      Assert.assertTrue(compactor.getReclaimedBytes() > 0);
+      Assert.assertEquals(compactor.getCompletedRuns(), 1);
+
+      db.getLocalCache().clear();
+      for (ORID rid : alive) {
+        ODocument document = db.load(rid);
+        Assert.assertNotNull(document);
+        Assert.assertEquals(document.field("value"), value);
+        Assert.assertEquals(rids.indexOf(rid), ((Integer) document.field("index")).intValue());
+      }
+
+      Assert.assertEquals(db.countClass("Compacted"), alive.size());
+
+      final List<ODocument> statistics = db.query(new OSQLSynchQuery<ODocument>("select from metadata:storage where name = ?"),
+          db.getClusterNameById(db.getMetadata().getSchema().getClass("Compacted").getDefaultClusterId()));
+      Assert.assertEquals(statistics.size(), 1);
+      Assert.assertEquals(((Number) statistics.get(0).field("records")).longValue(), alive.size());
+      Assert.assertTrue(((Number) statistics.get(0).field("relocatedRecords")).longValue() > 0);
+    } finally {
+      db.drop();
+      OGlobalConfiguration.STORAGE_CLUSTER_COMPACTION_INTERVAL.setValue(interval);
+    }
+  }
+}
@@ -1213,6 +1213,44 @@ public class ClusterPageTest {
     Assert.assertEquals(localPage.getRecordVersion(index), recordVersion);
   }
 
+  public void testReplaceRecordLogsOnlyChangedBytes() throws Exception {
+    OByteBufferPool bufferPool = OByteBufferPool.instance();
+    ByteBuffer buffer = bufferPool.acquireDirect(true);
+
+    OCachePointer cachePointer = new OCachePointer(buffer, bufferPool, new OLogSequenceNumber(0, 0), 0, 0);
+    cachePointer.incrementReferrer();
+
+    OCacheEntry cacheEntry = new OCacheEntry(0, 0, cachePointer, false);
+    cacheEntry.acquireExclusiveLock();
+    try {
+      OClusterPage directLocalPage = new OClusterPage(cacheEntry, true, null);
+
+      final byte[] record = new byte[2048];
+      new Random(42).nextBytes(record);
+
+      int index = directLocalPage.appendRecord(1, record);
+
+      final byte[] updatedRecord = new byte[record.length];
+      System.arraycopy(record, 0, updatedRecord, 0, record.length);
+      updatedRecord[100]++;
+      updatedRecord[104]++;
+      updatedRecord[1500]++;
+
+      final OWALChangesTree changes = new OWALChangesTree();
+      OClusterPage localPage = new OClusterPage(cacheEntry, false, changes);
+
+      int written = localPage.replaceRecord(index, updatedRecord, 2);
+      Assert.assertEquals(written, updatedRecord.length);
+
+      Assert.assertTrue(changes.serializedSize() < 128);
+      Assert.assertEquals(localPage.getRecordBinaryValue(index, 0, updatedRecord.length), updatedRecord);
+      Assert.assertEquals(localPage.getRecordVersion(index), 2);
+    } finally {
+      cacheEntry.releaseExclusiveLock();
+      cachePointer.decrementReferrer();
+    }
+  }
+
   private void assertChangesTracking(OClusterPage localPage, ByteBuffer buffer, OByteBufferPool bufferPool) throws IOException {
     ByteBuffer restoredBuffer = bufferPool.acquireDirect(true);
 
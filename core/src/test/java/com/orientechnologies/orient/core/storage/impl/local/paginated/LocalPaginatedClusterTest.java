@@ -122,6 +122,51 @@ public class LocalPaginatedClusterTest {
     Assert.assertEquals(rawBuffer.recordType, 1);
   }
 
+  public void testBigRecordIsStoredInContiguousPages() throws IOException {
+    byte[] smallRecord = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 0 };
+    paginatedCluster.createRecord(smallRecord, 1, (byte) 1, null);
+
+    byte[] bigRecord = new byte[5 * 65536 + 100];
+    Random random = new Random();
+    random.nextBytes(bigRecord);
+
+    OPhysicalPosition physicalPosition = paginatedCluster.createRecord(bigRecord, 1, (byte) 1, null);
+
+    OPaginatedClusterDebug debug = paginatedCluster.readDebug(physicalPosition.clusterPosition);
+    Assert.assertTrue(debug.pages.size() > 2);
+
+    for (int i = 1; i < debug.pages.size() - 1; i++)
+      Assert.assertEquals(debug.pages.get(i).pageIndex, debug.pages.get(i - 1).pageIndex + 1);
+
+    ORawBuffer rawBuffer = paginatedCluster.readRecord(physicalPosition.clusterPosition, false);
+    Assert.assertNotNull(rawBuffer);
+    Assert.assertEquals(rawBuffer.buffer, bigRecord);
+  }
+
+  public void testBigRecordReusesFreedPages() throws IOException {
+    byte[] bigRecord = new byte[5 * 65536 + 100];
+    Random random = new Random();
+    random.nextBytes(bigRecord);
+
+    OPhysicalPosition physicalPosition = paginatedCluster.createRecord(bigRecord, 1, (byte) 1, null);
+    long maxPageIndex = -1;
+    for (OClusterPageDebug page : paginatedCluster.readDebug(physicalPosition.clusterPosition).pages)
+      maxPageIndex = Math.max(maxPageIndex, page.pageIndex);
+
+    for (int i = 0; i < 10; i++) {
+      Assert.assertTrue(paginatedCluster.deleteRecord(physicalPosition.clusterPosition));
+
+      random.nextBytes(bigRecord);
+      physicalPosition = paginatedCluster.createRecord(bigRecord, 1, (byte) 1, null);
+      for (OClusterPageDebug page : paginatedCluster.readDebug(physicalPosition.clusterPosition).pages)
+        Assert.assertTrue(page.pageIndex <= maxPageIndex);
+    }
+
+    ORawBuffer rawBuffer = paginatedCluster.readRecord(physicalPosition.clusterPosition, false);
+    Assert.assertNotNull(rawBuffer);
+    Assert.assertEquals(rawBuffer.buffer, bigRecord);
+  }
+
   public void testAddManySmallRecords() throws IOException {
     final int records = 10000;
 
@@ -0,0 +1,387 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.graph.analytics;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientVertexType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Whole graph algorithms executed on a {@link OGraphSnapshot} of the graph topology. Every iteration is split in ranges of
+ * vertices processed in parallel by a pool of threads dedicated to graph algorithms and by the calling thread, results can be written back to the vertices
+ * with {@link OGraphAnalyticsResult#write(String, int)}.
+ * <p>
+ * Usage:
+ * <p>
+ * <code>
+ * OGraphAnalyticsResult ranks = graph.getAnalytics().setEdgeClasses("Follows").pageRank();<br>
+ * ranks.write("rank", 1000);
+ * </code>
+ */
+public class OGraphAnalytics {
+  public static final int       DEFAULT_PAGE_RANK_ITERATIONS         = 20;
+  public static final int       DEFAULT_LABEL_PROPAGATION_ITERATIONS = 20;
+  public static final double    DEFAULT_DAMPING_FACTOR               = 0.85;
+  public static final double    DEFAULT_TOLERANCE                    = 1e-6;
+
+  private static final int      CHUNK_SIZE                           = 4096;
+
+  /**
+   * Threads that help the calling thread. They are not taken from the Orient worker pool, because the calling thread can be one of
+   * its threads and would wait for helpers queued behind it when the pool is full.
+   */
+  private static final ExecutorService HELPERS = Executors.newCachedThreadPool(new HelperThreadFactory());
+
+  private final OrientBaseGraph graph;
+  private String                vertexClass                          = OrientVertexType.CLASS_NAME;
+  private String[]              edgeClasses                          = new String[0];
+  private int                   threads                              = Runtime.getRuntime().availableProcessors();
+  private int                   maxIterations                        = -1;
+  private double                dampingFactor                        = DEFAULT_DAMPING_FACTOR;
+  private double                tolerance                            = DEFAULT_TOLERANCE;
+
+  public OGraphAnalytics(final OrientBaseGraph graph) {
+    this.graph = graph;
+  }
+
+  /**
+   * Ranks the vertices by the PageRank algorithm following outgoing edges. Iterations stop when the sum of the changes of all the
+   * ranks is lower than the tolerance or after the maximum amount of iterations. Ranks of all the vertices sum to 1.
+   */
+  public OGraphAnalyticsResult pageRank() {
+    // RANK FLOWS ALONG OUTGOING EDGES, SO EVERY VERTEX COLLECTS IT FROM THE VERTICES OF INCOMING EDGES
+    final OGraphSnapshot snapshot = OGraphSnapshot.build(graph, vertexClass, Direction.IN, edgeClasses);
+    final int vertices = snapshot.getVertexCount();
+    final int iterationsLimit = maxIterations > 0 ? maxIterations : DEFAULT_PAGE_RANK_ITERATIONS;
+
+    final int[] outDegrees = new int[vertices];
+    for (int i = 0; i < snapshot.getEdgeCount(); i++)
+      outDegrees[snapshot.getNeighbor(i)]++;
+
+    double[] ranks = new double[vertices];
+    Arrays.fill(ranks, 1d / vertices);
+    final double[] contributions = new double[vertices];
+    final double[] deltas = new double[(vertices + CHUNK_SIZE - 1) / CHUNK_SIZE];
+
+    int iterations = 0;
+    while (iterations < iterationsLimit) {
+      iterations++;
+
+      double danglingRank = 0;
+      for (int v = 0; v < vertices; v++) {
+        if (outDegrees[v] == 0)
+          danglingRank += ranks[v];
+        else
+          contributions[v] = ranks[v] / outDegrees[v];
+      }
+
+      // RANK OF VERTICES WITHOUT OUTGOING EDGES IS SPREAD AMONG ALL THE VERTICES
+      final double base = (1 - dampingFactor) / vertices + dampingFactor * danglingRank / vertices;
+      final double[] current = ranks;
+      final double[] next = new double[vertices];
+
+      parallelFor(vertices, new ORangeTask() {
+        @Override
+        public void execute(final int from, final int to) {
+          double delta = 0;
+          for (int v = from; v < to; v++) {
+            double sum = 0;
+            for (int i = snapshot.getFirstNeighbor(v); i < snapshot.getLastNeighbor(v); i++)
+              sum += contributions[snapshot.getNeighbor(i)];
+
+            next[v] = base + dampingFactor * sum;
+            delta += Math.abs(next[v] - current[v]);
+          }
+          deltas[from / CHUNK_SIZE] = delta;
+        }
+      });
+
+      ranks = next;
+
+      double delta = 0;
+      for (double d : deltas)
+        delta += d;
+      if (delta < tolerance)
+        break;
+    }
+
+    return new OGraphAnalyticsResult(graph, snapshot, ranks, iterations);
+  }
+
+  /**
+   * Finds the weakly connected components of the graph: vertices connected by edges, whatever is their direction, get the same
+   * component number. Components are numbered from 0 in order of their first vertex.
+   */
+  public OGraphAnalyticsResult connectedComponents() {
+    final OGraphSnapshot snapshot = OGraphSnapshot.build(graph, vertexClass, Direction.BOTH, edgeClasses);
+    final int vertices = snapshot.getVertexCount();
+
+    // EVERY VERTEX TAKES THE LOWEST NUMBER OF ITS COMPONENT, NUMBERS ONLY DECREASE SO CONCURRENT UPDATES CAN BE READ SAFELY
+    final int[] components = new int[vertices];
+    for (int v = 0; v < vertices; v++)
+      components[v] = v;
+
+    final AtomicBoolean changed = new AtomicBoolean(true);
+    int iterations = 0;
+    while (changed.get() && (maxIterations <= 0 || iterations < maxIterations)) {
+      iterations++;
+      changed.set(false);
+
+      parallelFor(vertices, new ORangeTask() {
+        @Override
+        public void execute(final int from, final int to) {
+          boolean updated = false;
+          for (int v = from; v < to; v++) {
+            int component = components[v];
+            for (int i = snapshot.getFirstNeighbor(v); i < snapshot.getLastNeighbor(v); i++)
+              component = Math.min(component, components[snapshot.getNeighbor(i)]);
+
+            // JUMP TO THE LOWEST KNOWN NUMBER OF THE COMPONENT
+            while (components[component] < component)
+              component = components[component];
+
+            if (component < components[v]) {
+              components[v] = component;
+              updated = true;
+            }
+          }
+          if (updated)
+            changed.set(true);
+        }
+      });
+    }
+
+    return new OGraphAnalyticsResult(graph, snapshot, renumber(components), iterations);
+  }
+
+  /**
+   * Detects communities by label propagation: at every iteration each vertex takes the label shared by most of its neighbours,
+   * keeping its own label in case of ties with it and taking the lowest one in case of other ties. Iterations are synchronous, so
+   * the result does not depend on the amount of threads, and stop when no label changes or after the maximum amount of iterations.
+   * Communities are numbered from 0 in order of their first vertex.
+   */
+  public OGraphAnalyticsResult labelPropagation() {
+    final OGraphSnapshot snapshot = OGraphSnapshot.build(graph, vertexClass, Direction.BOTH, edgeClasses);
+    final int vertices = snapshot.getVertexCount();
+    final int iterationsLimit = maxIterations > 0 ? maxIterations : DEFAULT_LABEL_PROPAGATION_ITERATIONS;
+
+    int[] labels = new int[vertices];
+    for (int v = 0; v < vertices; v++)
+      labels[v] = v;
+
+    final AtomicBoolean changed = new AtomicBoolean(true);
+    int iterations = 0;
+    while (changed.get() && iterations < iterationsLimit) {
+      iterations++;
+      changed.set(false);
+
+      final int[] current = labels;
+      final int[] next = new int[vertices];
+
+      parallelFor(vertices, new ORangeTask() {
+        @Override
+        public void execute(final int from, final int to) {
+          int[] neighborLabels = new int[16];
+          boolean updated = false;
+
+          for (int v = from; v < to; v++) {
+            final int first = snapshot.getFirstNeighbor(v);
+            final int degree = snapshot.getLastNeighbor(v) - first;
+            if (degree == 0) {
+              next[v] = current[v];
+              continue;
+            }
+
+            if (neighborLabels.length < degree)
+              neighborLabels = new int[Math.max(degree, neighborLabels.length << 1)];
+            for (int i = 0; i < degree; i++)
+              neighborLabels[i] = current[snapshot.getNeighbor(first + i)];
+            Arrays.sort(neighborLabels, 0, degree);
+
+            int best = current[v];
+            int bestCount = 0;
+            for (int i = 0; i < degree; ) {
+              int j = i;
+              while (j < degree && neighborLabels[j] == neighborLabels[i])
+                j++;
+
+              final int count = j - i;
+              if (count > bestCount || (count == bestCount && neighborLabels[i] == current[v])) {
+                best = neighborLabels[i];
+                bestCount = count;
+              }
+              i = j;
+            }
+
+            next[v] = best;
+            if (best != current[v])
+              updated = true;
+          }
+
+          if (updated)
+            changed.set(true);
+        }
+      });
+
+      labels = next;
+    }
+
+    return new OGraphAnalyticsResult(graph, snapshot, renumber(labels), iterations);
+  }
+
+  public OGraphAnalytics setVertexClass(final String vertexClass) {
+    this.vertexClass = vertexClass;
+    return this;
+  }
+
+  public OGraphAnalytics setEdgeClasses(final String... edgeClasses) {
+    this.edgeClasses = edgeClasses != null ? edgeClasses : new String[0];
+    return this;
+  }
+
+  /**
+   * Sets the maximum amount of threads, including the calling one, used by every iteration.
+   */
+  public OGraphAnalytics setThreads(final int threads) {
+    this.threads = threads;
+    return this;
+  }
+
+  /**
+   * Sets the maximum amount of iterations, if not positive the default of the algorithm is used. Connected components run until
+   * convergence by default.
+   */
+  public OGraphAnalytics setMaxIterations(final int maxIterations) {
+    this.maxIterations = maxIterations;
+    return this;
+  }
+
+  public OGraphAnalytics setDampingFactor(final double dampingFactor) {
+    this.dampingFactor = dampingFactor;
+    return this;
+  }
+
+  public OGraphAnalytics setTolerance(final double tolerance) {
+    this.tolerance = tolerance;
+    return this;
+  }
+
+  private static int[] renumber(final int[] values) {
+    final int[] numbers = new int[values.length];
+    Arrays.fill(numbers, -1);
+
+    int next = 0;
+    final int[] result = new int[values.length];
+    for (int v = 0; v < values.length; v++) {
+      if (numbers[values[v]] < 0)
+        numbers[values[v]] = next++;
+      result[v] = numbers[values[v]];
+    }
+    return result;
+  }
+
+  private interface ORangeTask {
+    void execute(int from, int to);
+  }
+
+  /**
+   * Executes the task over all the vertices. Ranges of {@link #CHUNK_SIZE} vertices are claimed by the helper threads and by the
+   * calling thread, which waits for all of them before returning, so the next iteration can safely read
+   * what this one wrote.
+   */
+  private void parallelFor(final int size, final ORangeTask task) {
+    final int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    final int workers = Math.min(threads, chunks);
+
+    if (workers < 2) {
+      for (int from = 0; from < size; from += CHUNK_SIZE)
+        task.execute(from, Math.min(size, from + CHUNK_SIZE));
+      return;
+    }
+
+    final AtomicInteger nextChunk = new AtomicInteger();
+    final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+    final Runnable worker = new Runnable() {
+      @Override
+      public void run() {
+        int chunk;
+        while (error.get() == null && (chunk = nextChunk.getAndIncrement()) < chunks) {
+          try {
+            task.execute(chunk * CHUNK_SIZE, Math.min(size, (chunk + 1) * CHUNK_SIZE));
+          } catch (Throwable t) {
+            error.compareAndSet(null, t);
+          }
+        }
+      }
+    };
+
+    final List<Future<?>> helpers = new ArrayList<Future<?>>(workers - 1);
+    for (int i = 0; i < workers - 1; i++)
+      helpers.add(HELPERS.submit(worker));
+
+    worker.run();
+
+    for (Future<?> helper : helpers) {
+      try {
+        helper.get();
+      } catch (CancellationException e) {
+        // NOT STARTED
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw OException.wrapException(new OCommandExecutionException("The graph algorithm has been interrupted"), e);
+      } catch (ExecutionException e) {
+        error.compareAndSet(null, e.getCause());
+      }
+    }
+
+    final Throwable t = error.get();
+    if (t instanceof RuntimeException)
+      throw (RuntimeException) t;
+    if (t != null)
+      throw OException.wrapException(new OCommandExecutionException("Error on executing graph algorithm"), t);
+  }
+
+  private static class HelperThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(final Runnable r) {
+      final Thread thread = new Thread(r, "OrientDB Graph Analytics " + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
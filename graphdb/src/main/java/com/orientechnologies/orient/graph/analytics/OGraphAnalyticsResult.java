@@ -0,0 +1,166 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.graph.analytics;
+
+import com.orientechnologies.common.concur.ONeedRetryException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Value computed by a {@link OGraphAnalytics} algorithm for every vertex of a {@link OGraphSnapshot}: a <code>double</code> for
+ * ranks, an <code>int</code> for components and communities.
+ */
+public class OGraphAnalyticsResult {
+  private static final int     MAX_RETRIES = 10;
+
+  private final OrientBaseGraph graph;
+  private final OGraphSnapshot  snapshot;
+  private final double[]        doubleValues;
+  private final int[]           intValues;
+  private final int             iterations;
+
+  OGraphAnalyticsResult(final OrientBaseGraph graph, final OGraphSnapshot snapshot, final double[] values, final int iterations) {
+    this.graph = graph;
+    this.snapshot = snapshot;
+    this.doubleValues = values;
+    this.intValues = null;
+    this.iterations = iterations;
+  }
+
+  OGraphAnalyticsResult(final OrientBaseGraph graph, final OGraphSnapshot snapshot, final int[] values, final int iterations) {
+    this.graph = graph;
+    this.snapshot = snapshot;
+    this.doubleValues = null;
+    this.intValues = values;
+    this.iterations = iterations;
+  }
+
+  public int size() {
+    return snapshot.getVertexCount();
+  }
+
+  public ORID getVertex(final int index) {
+    return snapshot.getRid(index);
+  }
+
+  /**
+   * @return Index of the vertex in the result or <code>-1</code> if the vertex has not been processed.
+   */
+  public int getVertexIndex(final OIdentifiable vertex) {
+    return snapshot.getVertex(vertex);
+  }
+
+  public Number getValue(final int index) {
+    return doubleValues != null ? (Number) doubleValues[index] : (Number) intValues[index];
+  }
+
+  /**
+   * @return Number of iterations executed by the algorithm.
+   */
+  public int getIterations() {
+    return iterations;
+  }
+
+  /**
+   * Writes the values in a property of the vertices. Vertices are updated in transactions of <code>batchSize</code> vertices on a
+   * separate connection, so a transaction already begun on the graph is not affected. A batch failed because of concurrent updates
+   * is retried reloading its vertices.
+   *
+   * @return Number of vertices updated
+   */
+  public long write(final String property, final int batchSize) {
+    final ODatabaseDocumentTx current = graph.getRawGraph();
+    final ODatabaseDocumentTx db = current.copy();
+    try {
+      db.activateOnCurrentThread();
+
+      final int size = size();
+      final int batch = Math.max(batchSize, 1);
+      long written = 0;
+      for (int from = 0; from < size; from += batch) {
+        final int to = Math.min(size, from + batch);
+
+        for (int retry = 0; ; ++retry) {
+          try {
+            written += writeBatch(db, property, from, to);
+            break;
+          } catch (ONeedRetryException e) {
+            if (db.getTransaction().isActive())
+              db.rollback();
+            if (retry >= MAX_RETRIES)
+              throw e;
+          }
+        }
+      }
+      return written;
+    } finally {
+      db.close();
+      current.activateOnCurrentThread();
+    }
+  }
+
+  /**
+   * @return One document for every vertex, with the vertex in the <code>vertex</code> field and the value in the passed field.
+   */
+  public List<ODocument> toDocuments(final String field) {
+    final int size = size();
+    final List<ODocument> result = new ArrayList<ODocument>(size);
+    for (int i = 0; i < size; i++) {
+      final ODocument doc = new ODocument().setTrackingChanges(false);
+      doc.field("vertex", getVertex(i));
+      doc.field(field, getValue(i));
+      result.add(doc);
+    }
+    return result;
+  }
+
+  private int writeBatch(final ODatabaseDocumentTx db, final String property, final int from, final int to) {
+    int written = 0;
+    db.begin();
+    try {
+      for (int i = from; i < to; i++) {
+        // IGNORE THE CACHE TO GET THE LAST VERSION IN CASE OF RETRY
+        final ODocument vertex = db.load(getVertex(i), null, true);
+        if (vertex == null)
+          // DELETED IN THE MEANTIME
+          continue;
+
+        vertex.field(property, getValue(i));
+        vertex.save();
+        written++;
+      }
+      db.commit();
+    } catch (ONeedRetryException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      db.rollback();
+      throw OException.wrapException(new OCommandExecutionException("Error on writing the results of graph algorithm"), e);
+    }
+    return written;
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.graph.analytics;
+
+import com.orientechnologies.common.collection.OLongIntHashMap;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * Read only snapshot of the topology of a graph in compressed sparse row (CSR) format: vertices are numbered from 0 to
+ * {@link #getVertexCount()} - 1 and the neighbours of vertex <code>v</code> are the entries of the targets array between
+ * <code>offsets[v]</code> and <code>offsets[v + 1]</code>. Offsets, targets and vertex rids are kept in direct buffers, out of the
+ * Java heap, so algorithms iterate over plain arrays of ints instead of documents and rid bags.
+ * <p>
+ * The snapshot is built by browsing the vertices of a class and the connections of every vertex, see
+ * {@link OrientVertex#browseConnections(Direction, OrientVertex.ConnectionListener, String...)}. Connections towards vertices not
+ * included in the snapshot are dropped. Snapshot can be read by several threads at the same time.
+ */
+public class OGraphSnapshot {
+  private final int        vertexCount;
+  private final int        edgeCount;
+  private final IntBuffer  offsets;
+  private final IntBuffer  targets;
+  private final LongBuffer rids;
+
+  private OGraphSnapshot(final int vertexCount, final int edgeCount, final IntBuffer offsets, final IntBuffer targets,
+      final LongBuffer rids) {
+    this.vertexCount = vertexCount;
+    this.edgeCount = edgeCount;
+    this.offsets = offsets;
+    this.targets = targets;
+    this.rids = rids;
+  }
+
+  /**
+   * Builds the snapshot of a graph.
+   *
+   * @param graph       Graph to read
+   * @param vertexClass Class of the vertices to include, subclasses are included too
+   * @param direction   Direction of the connections to read, {@link Direction#BOTH} makes the snapshot undirected
+   * @param edgeClasses Classes of the edges to follow, all the edges if empty
+   */
+  public static OGraphSnapshot build(final OrientBaseGraph graph, final String vertexClass, final Direction direction,
+      final String... edgeClasses) {
+    graph.makeActive();
+
+    final Builder builder = new Builder();
+    for (ODocument doc : graph.getRawGraph().browseClass(vertexClass)) {
+      final int vertex = builder.startVertex(doc.getIdentity());
+      if (vertex < 0)
+        continue;
+
+      graph.getVertex(doc).browseConnections(direction, builder, edgeClasses != null ? edgeClasses.clone() : new String[0]);
+      builder.endVertex(vertex);
+    }
+
+    return builder.build();
+  }
+
+  public int getVertexCount() {
+    return vertexCount;
+  }
+
+  public int getEdgeCount() {
+    return edgeCount;
+  }
+
+  public int getDegree(final int vertex) {
+    return offsets.get(vertex + 1) - offsets.get(vertex);
+  }
+
+  /**
+   * @return Index in the targets array of the first neighbour of the vertex.
+   */
+  public int getFirstNeighbor(final int vertex) {
+    return offsets.get(vertex);
+  }
+
+  /**
+   * @return Index in the targets array after the last neighbour of the vertex.
+   */
+  public int getLastNeighbor(final int vertex) {
+    return offsets.get(vertex + 1);
+  }
+
+  /**
+   * @return Vertex stored at the passed index of the targets array.
+   */
+  public int getNeighbor(final int index) {
+    return targets.get(index);
+  }
+
+  public ORID getRid(final int vertex) {
+    final long key = rids.get(vertex);
+    return new ORecordId((int) (key >>> 48), key & ((1L << 48) - 1));
+  }
+
+  /**
+   * @return Vertex number of the record or <code>-1</code> if the record is not part of the snapshot. It is a binary search
+   *         because vertices are numbered in rid order.
+   */
+  public int getVertex(final OIdentifiable record) {
+    final long key = pack(record.getIdentity());
+    if (key < 0)
+      return -1;
+
+    int low = 0;
+    int high = vertexCount - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final long value = rids.get(middle);
+      if (value < key)
+        low = middle + 1;
+      else if (value > key)
+        high = middle - 1;
+      else
+        return middle;
+    }
+    return -1;
+  }
+
+  private static long pack(final ORID rid) {
+    final int clusterId = rid.getClusterId();
+    final long clusterPosition = rid.getClusterPosition();
+    if (clusterId < 0 || clusterId > Short.MAX_VALUE || clusterPosition < 0 || clusterPosition >= (1L << 48))
+      return -1;
+
+    return ((long) clusterId << 48) | clusterPosition;
+  }
+
+  private static IntBuffer allocateInts(final long size) {
+    if (size * 4 > Integer.MAX_VALUE)
+      throw new OCommandExecutionException("Graph is too big to be loaded in a snapshot: " + size + " entries");
+    return ByteBuffer.allocateDirect((int) size * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+  }
+
+  /**
+   * Collects the connections while vertices are browsed. Vertices get temporary numbers in order of appearance, as vertices or as
+   * neighbours, which are replaced by the final ones, in rid order and without the neighbours not included in the snapshot, once all
+   * the vertices have been browsed.
+   */
+  private static class Builder implements OrientVertex.ConnectionListener {
+    private final OLongIntHashMap numbers  = new OLongIntHashMap();
+    private long[]                keys     = new long[1024];
+    private int[]                 first    = new int[1024];
+    private int[]                 degrees  = new int[1024];
+    private boolean[]             browsed  = new boolean[1024];
+    private int                   vertices;
+
+    private IntBuffer             targets  = allocateInts(1024);
+    private int                   size;
+
+    private int startVertex(final ORID rid) {
+      final long key = pack(rid);
+      if (key < 0)
+        // NOT PERSISTENT
+        return -1;
+
+      final int vertex = getNumber(key);
+      if (browsed[vertex])
+        return -1;
+
+      browsed[vertex] = true;
+      first[vertex] = size;
+      return vertex;
+    }
+
+    private void endVertex(final int vertex) {
+      degrees[vertex] = size - first[vertex];
+    }
+
+    @Override
+    public boolean onConnection(final ODocument iEdge, final OIdentifiable iVertex) {
+      final long key = pack(iVertex.getIdentity());
+      if (key < 0)
+        return true;
+
+      if (size == targets.capacity()) {
+        final IntBuffer newTargets = allocateInts((long) size << 1);
+        targets.rewind();
+        newTargets.put(targets);
+        targets = newTargets;
+      }
+
+      targets.put(size++, getNumber(key));
+      return true;
+    }
+
+    private int getNumber(final long key) {
+      int vertex = numbers.get(key, -1);
+      if (vertex < 0) {
+        if (vertices == keys.length) {
+          keys = Arrays.copyOf(keys, vertices << 1);
+          first = Arrays.copyOf(first, vertices << 1);
+          degrees = Arrays.copyOf(degrees, vertices << 1);
+          browsed = Arrays.copyOf(browsed, vertices << 1);
+        }
+
+        vertex = vertices++;
+        keys[vertex] = key;
+        numbers.put(key, vertex, -1);
+      }
+      return vertex;
+    }
+
+    private OGraphSnapshot build() {
+      // FINAL NUMBERS FOLLOW THE RID ORDER OF THE BROWSED VERTICES
+      int count = 0;
+      final long[] sortedKeys = new long[vertices];
+      for (int i = 0; i < vertices; i++)
+        if (browsed[i])
+          sortedKeys[count++] = keys[i];
+      Arrays.sort(sortedKeys, 0, count);
+
+      final LongBuffer rids = ByteBuffer.allocateDirect(Math.max(count, 1) * 8).order(ByteOrder.nativeOrder()).asLongBuffer();
+      final int[] renumbering = new int[vertices];
+      Arrays.fill(renumbering, -1);
+      for (int i = 0; i < count; i++) {
+        rids.put(i, sortedKeys[i]);
+        renumbering[numbers.get(sortedKeys[i], -1)] = i;
+      }
+
+      final IntBuffer offsets = allocateInts(count + 1);
+      long edges = 0;
+      for (int i = 0; i < count; i++) {
+        final int vertex = numbers.get(sortedKeys[i], -1);
+        offsets.put(i, (int) edges);
+        for (int j = first[vertex]; j < first[vertex] + degrees[vertex]; j++)
+          if (renumbering[targets.get(j)] > -1)
+            edges++;
+      }
+      offsets.put(count, (int) edges);
+
+      final IntBuffer finalTargets = allocateInts(Math.max(edges, 1));
+      int index = 0;
+      for (int i = 0; i < count; i++) {
+        final int vertex = numbers.get(sortedKeys[i], -1);
+        for (int j = first[vertex]; j < first[vertex] + degrees[vertex]; j++) {
+          final int target = renumbering[targets.get(j)];
+          if (target > -1)
+            finalTargets.put(index++, target);
+        }
+      }
+
+      return new OGraphSnapshot(count, (int) edges, offsets, finalTargets, rids);
+    }
+  }
+}
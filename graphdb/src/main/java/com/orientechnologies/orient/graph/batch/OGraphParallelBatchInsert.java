@@ -0,0 +1,723 @@
+package com.orientechnologies.orient.graph.batch;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.config.OStorageEntryConfiguration;
+import com.orientechnologies.orient.core.db.ODatabase;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OSchema;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.tinkerpop.blueprints.impls.orient.OrientEdgeType;
+import com.tinkerpop.blueprints.impls.orient.OrientVertexType;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * API for the batch import of big graphs, with one class for vertices and one class for edges, by several threads. Differently
+ * from {@link OGraphBatchInsert} this class allows
+ * <ul>
+ * <li>any kind of vertex ids (Long, String, ...) as long as they implement equals() and hashCode()</li>
+ * <li>creation of vertices and edges by several threads at the same time</li>
+ * <li>more edges than the ones that fit in memory</li>
+ * </ul>
+ *
+ * Vertices and edges with properties are written as soon as they are created by <code>parallel</code> writer threads, each one
+ * with its own cluster of the vertex class and of the edge class. The RID of every record is assigned when it's created, so the
+ * edges can point to vertices that are not written yet.<br>
+ * The links between vertices are kept in two buffers, sorted by vertex, that are spilled to temporary files when full. On end()
+ * the buffers are merged and every vertex is updated once with all its edges, in the order of the RIDs: bags bigger than the
+ * bonsai threshold are created directly as SBTree bonsai and filled in key order.
+ *
+ * Typical usage: <code>
+ *   OGraphParallelBatchInsert batch = new OGraphParallelBatchInsert("plocal:your/db", "admin", "admin");
+ *   batch.setParallel(8);
+ *   batch.begin();
+ *
+ *   // FROM ANY NUMBER OF THREADS
+ *   batch.createVertex("a", properties);
+ *   batch.createEdge("a", "b", null);
+ *   ...
+ *
+ *   batch.end();
+ * </code>
+ *
+ * Vertices referenced by an edge are created if they do not exist, properties passed to createVertex() for an existing vertex are
+ * added to the ones it already has. The database must not be used by other clients during the import.
+ */
+public class OGraphParallelBatchInsert {
+  private static final int                  MAX_CLUSTER_ID   = 0x7FFF;
+  private static final long                 MAX_POSITION     = 0xFFFFFFFFFFFFL;
+  private static final Object               END              = new Object();
+
+  private final String                      userName;
+  private final String                      dbUrl;
+  private final String                      password;
+  private String                            idPropertyName   = "uid";
+  private String                            edgeClass        = OrientEdgeType.CLASS_NAME;
+  private String                            vertexClass      = OrientVertexType.CLASS_NAME;
+  private int                               parallel         = Runtime.getRuntime().availableProcessors();
+  private int                               bonsaiThreshold  = OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD
+                                                                 .getValueAsInteger();
+  private int                               edgeBufferSize   = 4 * 1024 * 1024;
+  private int                               queueSize        = 10000;
+  private File                              temporaryDirectory;
+  private Boolean                           useLightWeigthEdges;
+
+  private ODatabaseDocumentTx               db;
+  private boolean                           walActive;
+  private Writer[]                          writers;
+  private ConcurrentHashMap<Object, ORecordId> vertices;
+  private OSortedEdgeBuffer                 outEdges;
+  private OSortedEdgeBuffer                 inEdges;
+  private String                            outField;
+  private String                            inField;
+  private final AtomicInteger               nextEdgeWriter   = new AtomicInteger();
+  private final AtomicLong                  createdEdges     = new AtomicLong();
+  private final AtomicReference<Throwable>  error            = new AtomicReference<Throwable>();
+  private volatile boolean                  running;
+
+  private static class NewRecord {
+    final ORecordId           rid;
+    final Object              vertexId;
+    final Map<String, Object> properties;
+    final ORecordId           out;
+    final ORecordId           in;
+
+    NewRecord(ORecordId rid, Object vertexId, Map<String, Object> properties, ORecordId out, ORecordId in) {
+      this.rid = rid;
+      this.vertexId = vertexId;
+      this.properties = properties;
+      this.out = out;
+      this.in = in;
+    }
+  }
+
+  private static class NewProperties {
+    final ORecordId           rid;
+    final Map<String, Object> properties;
+
+    NewProperties(ORecordId rid, Map<String, Object> properties) {
+      this.rid = rid;
+      this.properties = properties;
+    }
+  }
+
+  private static class Links {
+    final ORecordId rid;
+    final long[]    out;
+    final long[]    in;
+
+    Links(ORecordId rid, long[] out, long[] in) {
+      this.rid = rid;
+      this.out = out;
+      this.in = in;
+    }
+  }
+
+  /**
+   * Writes the records of one cluster of the vertex class and of one cluster of the edge class, in the order of their positions.
+   */
+  private class Writer extends Thread {
+    final int                   vertexClusterId;
+    final int                   edgeClusterId;
+    final BlockingQueue<Object> queue = new ArrayBlockingQueue<Object>(queueSize);
+    // GUARDED BY THIS
+    long                        nextVertexPosition;
+    long                        nextEdgePosition;
+
+    Writer(int index, int vertexClusterId, long nextVertexPosition, int edgeClusterId, long nextEdgePosition) {
+      super("OrientDB GraphBatchInsert writer " + index);
+      setDaemon(true);
+      this.vertexClusterId = vertexClusterId;
+      this.nextVertexPosition = nextVertexPosition;
+      this.edgeClusterId = edgeClusterId;
+      this.nextEdgePosition = nextEdgePosition;
+    }
+
+    @Override
+    public void run() {
+      final ODatabaseDocumentTx db = new ODatabaseDocumentTx(dbUrl);
+      try {
+        db.open(userName, password);
+        db.declareIntent(new OIntentMassiveInsert());
+
+        final String vertexClusterName = db.getClusterNameById(vertexClusterId);
+        final String edgeClusterName = db.getClusterNameById(edgeClusterId);
+
+        while (true) {
+          final Object task = queue.take();
+          if (task == END)
+            break;
+
+          if (task instanceof NewRecord)
+            write(db, (NewRecord) task, vertexClusterName, edgeClusterName);
+          else if (task instanceof NewProperties)
+            write(db, (NewProperties) task);
+          else
+            write(db, (Links) task);
+        }
+      } catch (Throwable t) {
+        error.compareAndSet(null, t);
+      } finally {
+        queue.clear();
+        db.activateOnCurrentThread();
+        if (!db.isClosed()) {
+          db.declareIntent(null);
+          db.close();
+        }
+      }
+    }
+
+    private void write(final ODatabaseDocumentTx db, final NewRecord task, final String vertexClusterName,
+        final String edgeClusterName) {
+      final ODocument doc;
+      final String clusterName;
+      if (task.vertexId != null) {
+        doc = new ODocument(vertexClass);
+        doc.field(idPropertyName, task.vertexId);
+        clusterName = vertexClusterName;
+      } else {
+        doc = new ODocument(edgeClass);
+        doc.field("out", task.out);
+        doc.field("in", task.in);
+        clusterName = edgeClusterName;
+      }
+      if (task.properties != null)
+        doc.fromMap(task.properties);
+
+      db.save(doc, clusterName);
+
+      if (!doc.getIdentity().equals(task.rid))
+        throw new ODatabaseException("Record " + task.rid + " has been written as " + doc.getIdentity()
+            + ": the cluster has been changed by another client during the batch insert");
+    }
+
+    private void write(final ODatabaseDocumentTx db, final NewProperties task) {
+      final ODocument doc = db.load(task.rid);
+      doc.fromMap(task.properties);
+      db.save(doc);
+    }
+
+    private void write(final ODatabaseDocumentTx db, final Links task) {
+      final ODocument doc = db.load(task.rid);
+      if (task.out != null)
+        doc.field(outField, createBag(task.out));
+      if (task.in != null)
+        doc.field(inField, createBag(task.in));
+      db.save(doc);
+    }
+  }
+
+  /**
+   * Creates a new batch insert procedure by using admin user. It's intended to be used only for a single batch cycle (begin,
+   * create..., end)
+   *
+   * @param iDbURL
+   *          db connection URL (plocal:/your/db/path)
+   */
+  public OGraphParallelBatchInsert(final String iDbURL) {
+    this(iDbURL, "admin", "admin");
+  }
+
+  /**
+   * Creates a new batch insert procedure. It's intended to be used only for a single batch cycle (begin, create..., end)
+   *
+   * @param iDbURL
+   *          db connection URL (plocal:/your/db/path)
+   * @param iUserName
+   *          db user name (use admin for new db)
+   * @param iPassword
+   *          db password (use admin for new db)
+   */
+  public OGraphParallelBatchInsert(final String iDbURL, final String iUserName, final String iPassword) {
+    this.dbUrl = iDbURL;
+    this.userName = iUserName;
+    this.password = iPassword;
+  }
+
+  /**
+   * Creates the database (if it does not exist), the clusters for the writers and starts them. Call this once, before starting to
+   * create vertices and edges.
+   */
+  public void begin() {
+    if (running)
+      throw new IllegalStateException("Batch insert is already started");
+    if (parallel <= 0)
+      throw new IllegalArgumentException("Invalid number of parallel writers: " + parallel);
+
+    walActive = OGlobalConfiguration.USE_WAL.getValueAsBoolean();
+    if (walActive)
+      OGlobalConfiguration.USE_WAL.setValue(false);
+
+    db = new ODatabaseDocumentTx(dbUrl);
+    if (db.exists())
+      db.open(userName, password);
+    else
+      db.create();
+
+    if (useLightWeigthEdges == null) {
+      final List<OStorageEntryConfiguration> custom = (List<OStorageEntryConfiguration>) db.get(ODatabase.ATTRIBUTES.CUSTOM);
+      for (OStorageEntryConfiguration c : custom) {
+        if (c.name.equalsIgnoreCase("useLightweightEdges")) {
+          useLightWeigthEdges = Boolean.parseBoolean(c.value);
+          break;
+        }
+      }
+      if (useLightWeigthEdges == null)
+        useLightWeigthEdges = true;
+    }
+
+    createBaseSchema();
+
+    outField = OrientEdgeType.CLASS_NAME.equals(edgeClass) ? "out_" : ("out_" + edgeClass);
+    inField = OrientEdgeType.CLASS_NAME.equals(edgeClass) ? "in_" : ("in_" + edgeClass);
+
+    final int[] vertexClusters = getClusters(vertexClass);
+    final int[] edgeClusters = getClusters(edgeClass);
+
+    final File directory = temporaryDirectory != null ? temporaryDirectory : new File(System.getProperty("java.io.tmpdir"));
+    outEdges = new OSortedEdgeBuffer(directory, "orientdb-batch-out-", edgeBufferSize);
+    inEdges = new OSortedEdgeBuffer(directory, "orientdb-batch-in-", edgeBufferSize);
+    vertices = new ConcurrentHashMap<Object, ORecordId>(1024, 0.75f, parallel);
+    createdEdges.set(0);
+    error.set(null);
+
+    writers = new Writer[parallel];
+    for (int i = 0; i < parallel; i++)
+      writers[i] = new Writer(i, vertexClusters[i], getNextPosition(vertexClusters[i]), edgeClusters[i],
+          getNextPosition(edgeClusters[i]));
+
+    running = true;
+    for (Writer writer : writers)
+      writer.start();
+  }
+
+  /**
+   * Links the vertices, waits for all the records to be written and closes the db. Call this once, after vertices and edges
+   * creation.
+   */
+  public void end() {
+    if (!running)
+      throw new IllegalStateException("Batch insert is not started");
+
+    try {
+      linkVertices();
+    } finally {
+      running = false;
+      for (Writer writer : writers)
+        stop(writer);
+
+      outEdges.close();
+      inEdges.close();
+
+      db.activateOnCurrentThread();
+      db.close();
+      if (walActive)
+        OGlobalConfiguration.USE_WAL.setValue(true);
+    }
+
+    checkError();
+  }
+
+  /**
+   * Creates a new vertex, if it does not exist yet.
+   *
+   * @param id
+   *          the vertex ID
+   */
+  public void createVertex(final Object id) {
+    createVertex(id, null);
+  }
+
+  /**
+   * Creates a new vertex or adds the properties to the existing one.
+   *
+   * @param id
+   *          the vertex ID
+   * @param properties
+   *          properties of the vertex, can be null
+   */
+  public void createVertex(final Object id, final Map<String, Object> properties) {
+    checkRunning();
+    getVertex(id, properties != null && properties.size() > 0 ? properties : null);
+  }
+
+  /**
+   * Creates a new edge between two vertices. If vertices do not exist, they will be created.
+   *
+   * @param from
+   *          id of the vertex that is starting point of the edge
+   * @param to
+   *          id of the vertex that is end point of the edge
+   * @param properties
+   *          properties of the edge, can be null. Edges with properties, or all the edges if the database does not use lightweight
+   *          edges, are written as records of the edge class
+   */
+  public void createEdge(final Object from, final Object to, final Map<String, Object> properties) {
+    checkRunning();
+
+    final ORecordId fromRid = getVertex(from, null);
+    final ORecordId toRid = getVertex(to, null);
+
+    if (useLightWeigthEdges && (properties == null || properties.size() == 0)) {
+      outEdges.add(toLong(fromRid), toLong(toRid));
+      inEdges.add(toLong(toRid), toLong(fromRid));
+    } else {
+      final Writer writer = writers[(nextEdgeWriter.getAndIncrement() & Integer.MAX_VALUE) % writers.length];
+
+      final ORecordId edgeRid;
+      synchronized (writer) {
+        edgeRid = new ORecordId(writer.edgeClusterId, writer.nextEdgePosition++);
+        enqueue(writer, new NewRecord(edgeRid, null, properties, fromRid, toRid));
+      }
+
+      final long edge = toLong(edgeRid);
+      outEdges.add(toLong(fromRid), edge);
+      inEdges.add(toLong(toRid), edge);
+    }
+    createdEdges.incrementAndGet();
+  }
+
+  /**
+   * @return the number of vertices created so far
+   */
+  public long getCreatedVertices() {
+    return vertices == null ? 0 : vertices.size();
+  }
+
+  /**
+   * @return the number of edges created so far
+   */
+  public long getCreatedEdges() {
+    return createdEdges.get();
+  }
+
+  /**
+   * @return the property name where ids are written on vertices
+   */
+  public String getIdPropertyName() {
+    return idPropertyName;
+  }
+
+  /**
+   * @param idPropertyName
+   *          the property name where ids are written on vertices
+   */
+  public void setIdPropertyName(final String idPropertyName) {
+    this.idPropertyName = idPropertyName;
+  }
+
+  /**
+   * @return the edge class name (E by default)
+   */
+  public String getEdgeClass() {
+    return edgeClass;
+  }
+
+  /**
+   * @param edgeClass
+   *          the edge class name
+   */
+  public void setEdgeClass(final String edgeClass) {
+    this.edgeClass = edgeClass;
+  }
+
+  /**
+   * @return the vertex class name (V by default)
+   */
+  public String getVertexClass() {
+    return vertexClass;
+  }
+
+  /**
+   * @param vertexClass
+   *          the vertex class name
+   */
+  public void setVertexClass(final String vertexClass) {
+    this.vertexClass = vertexClass;
+  }
+
+  /**
+   * @return number of parallel writers used for batch import
+   */
+  public int getParallel() {
+    return parallel;
+  }
+
+  /**
+   * Sets the number of parallel writers, every one writes its own cluster of vertex and edge classes. Clusters are added to the
+   * classes if they have less. Use it before calling begin()
+   *
+   * @param parallel
+   *          number of writers (number of cores by default)
+   */
+  public void setParallel(final int parallel) {
+    this.parallel = parallel;
+  }
+
+  /**
+   * @return the number of edges of a vertex from which they are written as SBTree bonsai instead of embedded
+   */
+  public int getBonsaiThreshold() {
+    return bonsaiThreshold;
+  }
+
+  /**
+   * Sets the number of edges of a vertex from which they are written as SBTree bonsai instead of embedded (by default
+   * OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD)
+   */
+  public void setBonsaiThreshold(final int bonsaiThreshold) {
+    this.bonsaiThreshold = bonsaiThreshold;
+  }
+
+  /**
+   * @return the number of edges kept in memory, for each direction, before spilling them to a temporary file
+   */
+  public int getEdgeBufferSize() {
+    return edgeBufferSize;
+  }
+
+  /**
+   * Sets the number of edges kept in memory, for each direction, before spilling them to a temporary file. Every edge takes 16
+   * bytes for each direction. Use it before calling begin()
+   */
+  public void setEdgeBufferSize(final int edgeBufferSize) {
+    this.edgeBufferSize = edgeBufferSize;
+  }
+
+  /**
+   * @return the number of records waiting to be written by every writer, after which the creation of records blocks
+   */
+  public int getQueueSize() {
+    return queueSize;
+  }
+
+  /**
+   * Sets the number of records waiting to be written by every writer, after which the creation of records blocks. Use it before
+   * calling begin()
+   */
+  public void setQueueSize(final int queueSize) {
+    this.queueSize = queueSize;
+  }
+
+  /**
+   * @return the directory where edges are spilled, null for the default temporary directory
+   */
+  public File getTemporaryDirectory() {
+    return temporaryDirectory;
+  }
+
+  /**
+   * Sets the directory where edges are spilled when they do not fit in memory. Use it before calling begin()
+   */
+  public void setTemporaryDirectory(final File temporaryDirectory) {
+    this.temporaryDirectory = temporaryDirectory;
+  }
+
+  int getSpilledRuns() {
+    return outEdges.getSpilledRuns() + inEdges.getSpilledRuns();
+  }
+
+  private ORecordId getVertex(final Object id, final Map<String, Object> properties) {
+    if (id == null)
+      throw new IllegalArgumentException("Invalid vertex id: null");
+
+    ORecordId rid = vertices.get(id);
+    if (rid != null && properties == null)
+      return rid;
+
+    // THE SAME ID IS ALWAYS CREATED BY THE SAME WRITER, SO ITS RID IS ASSIGNED ONLY ONCE
+    final Writer writer = writers[(id.hashCode() & Integer.MAX_VALUE) % writers.length];
+    synchronized (writer) {
+      rid = vertices.get(id);
+      if (rid == null) {
+        rid = new ORecordId(writer.vertexClusterId, writer.nextVertexPosition++);
+        enqueue(writer, new NewRecord(rid, id, properties, null, null));
+        vertices.put(id, rid);
+      } else if (properties != null)
+        enqueue(writer, new NewProperties(rid, properties));
+    }
+    return rid;
+  }
+
+  private void linkVertices() {
+    final OSortedEdgeBuffer.Cursor out = outEdges.sort();
+    final OSortedEdgeBuffer.Cursor in = inEdges.sort();
+
+    final LongList outValues = new LongList();
+    final LongList inValues = new LongList();
+
+    boolean hasOut = out.next();
+    boolean hasIn = in.next();
+    while (hasOut || hasIn) {
+      final long key;
+      if (!hasIn)
+        key = out.key();
+      else if (!hasOut)
+        key = in.key();
+      else
+        key = Math.min(out.key(), in.key());
+
+      outValues.clear();
+      while (hasOut && out.key() == key) {
+        outValues.add(out.value());
+        hasOut = out.next();
+      }
+
+      inValues.clear();
+      while (hasIn && in.key() == key) {
+        inValues.add(in.value());
+        hasIn = in.next();
+      }
+
+      final ORecordId rid = toRid(key);
+      enqueue(getWriter(rid.getClusterId()), new Links(rid, outValues.toArray(), inValues.toArray()));
+    }
+  }
+
+  private ORidBag createBag(final long[] rids) {
+    // BIG BAGS ARE CREATED AS TREES, THE RIDS ARE SORTED SO THE TREE IS FILLED IN KEY ORDER
+    final ORidBag bag = rids.length >= bonsaiThreshold ? new ORidBag(-1, -1) : new ORidBag(bonsaiThreshold, -1);
+    for (long rid : rids)
+      bag.add(toRid(rid));
+    return bag;
+  }
+
+  private Writer getWriter(final int clusterId) {
+    for (Writer writer : writers)
+      if (writer.vertexClusterId == clusterId)
+        return writer;
+    throw new IllegalStateException("Cluster " + clusterId + " is not written by the batch insert");
+  }
+
+  private void enqueue(final Writer writer, final Object task) {
+    try {
+      while (!writer.queue.offer(task, 100, TimeUnit.MILLISECONDS))
+        checkError();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw OException.wrapException(new ODatabaseException("Batch insert has been interrupted"), e);
+    }
+    checkError();
+  }
+
+  private void stop(final Writer writer) {
+    try {
+      while (writer.isAlive() && !writer.queue.offer(END, 100, TimeUnit.MILLISECONDS))
+        ;
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void checkRunning() {
+    if (!running)
+      throw new IllegalStateException("Batch insert is not started");
+  }
+
+  private void checkError() {
+    final Throwable t = error.get();
+    if (t != null)
+      throw OException.wrapException(new ODatabaseException("Error on writing records of the batch insert"), t);
+  }
+
+  private int[] getClusters(final String className) {
+    final OClass oClass = db.getMetadata().getSchema().getClass(className);
+    for (int c = oClass.getClusterIds().length; c < parallel; c++)
+      oClass.addCluster(oClass.getName() + "_" + c);
+
+    final int[] clusters = oClass.getClusterIds();
+    for (int i = 0; i < parallel; i++)
+      if (clusters[i] > MAX_CLUSTER_ID)
+        throw new IllegalStateException("Cluster id " + clusters[i] + " is too big for batch insert");
+    return clusters;
+  }
+
+  private long getNextPosition(final int clusterId) {
+    try {
+      // THERE IS NO PUBLIC API FOR RETRIEVE THE LAST CLUSTER POSITION
+      return ((ODatabaseDocumentInternal) db).getStorage().getClusterById(clusterId).getLastPosition() + 1;
+    } catch (Exception e) {
+      throw OException.wrapException(new ODatabaseException("Error on reading last position of cluster " + clusterId), e);
+    }
+  }
+
+  private void createBaseSchema() {
+    final OSchema schema = db.getMetadata().getSchema();
+    OClass v;
+    OClass e;
+    if (!schema.existsClass(OrientVertexType.CLASS_NAME)) {
+      v = schema.createClass(OrientVertexType.CLASS_NAME);
+    } else {
+      v = schema.getClass(OrientVertexType.CLASS_NAME);
+    }
+    if (!schema.existsClass(OrientEdgeType.CLASS_NAME)) {
+      e = schema.createClass(OrientEdgeType.CLASS_NAME);
+    } else {
+      e = schema.getClass(OrientEdgeType.CLASS_NAME);
+    }
+    if (!schema.existsClass(this.vertexClass)) {
+      schema.createClass(this.vertexClass, v);
+    }
+    if (!schema.existsClass(this.edgeClass)) {
+      schema.createClass(this.edgeClass, e);
+    }
+  }
+
+  /**
+   * Packs a RID in a long, with the cluster id in the 16 high bits: the longs are sorted as the RIDs.
+   */
+  private static long toLong(final ORID rid) {
+    final long position = rid.getClusterPosition();
+    if (position < 0 || position > MAX_POSITION)
+      throw new IllegalStateException("Cluster position " + position + " is too big for batch insert");
+    return ((long) rid.getClusterId() << 48) | position;
+  }
+
+  private static ORecordId toRid(final long value) {
+    return new ORecordId((int) (value >>> 48), value & MAX_POSITION);
+  }
+
+  private static class LongList {
+    private long[] values = new long[16];
+    private int    size;
+
+    void add(final long value) {
+      if (size == values.length) {
+        final long[] newValues = new long[size << 1];
+        System.arraycopy(values, 0, newValues, 0, size);
+        values = newValues;
+      }
+      values[size++] = value;
+    }
+
+    void clear() {
+      size = 0;
+    }
+
+    long[] toArray() {
+      if (size == 0)
+        return null;
+      final long[] result = new long[size];
+      System.arraycopy(values, 0, result, 0, size);
+      return result;
+    }
+  }
+}
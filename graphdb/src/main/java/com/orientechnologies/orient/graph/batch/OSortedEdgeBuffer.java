@@ -0,0 +1,334 @@
+package com.orientechnologies.orient.graph.batch;
+
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.orient.core.exception.ODatabaseException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Buffer of edges as pairs of longs (the vertex that owns the edge and the record it points to), sorted by vertex and then by
+ * pointed record. When the buffer is full its content is sorted and spilled to a temporary file, at the end the spilled runs are
+ * merged with the content left in memory, so all the edges of a vertex are read one after the other.
+ *
+ * Methods that add edges can be called by several threads.
+ */
+class OSortedEdgeBuffer {
+  private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  private final File       directory;
+  private final String     prefix;
+  private final long[]     keys;
+  private final long[]     values;
+  private int              size;
+  private long             total;
+  private final List<File> runs    = new ArrayList<File>();
+  private Cursor           cursor;
+
+  /**
+   * Sequential reader of the sorted edges.
+   */
+  interface Cursor {
+    /**
+     * Moves to the next edge.
+     *
+     * @return false if there are no more edges
+     */
+    boolean next();
+
+    long key();
+
+    long value();
+
+    void close();
+  }
+
+  OSortedEdgeBuffer(final File directory, final String prefix, final int capacity) {
+    this.directory = directory;
+    this.prefix = prefix;
+    this.keys = new long[capacity];
+    this.values = new long[capacity];
+  }
+
+  synchronized void add(final long key, final long value) {
+    if (cursor != null)
+      throw new IllegalStateException("Cannot add edges to a buffer that is already read");
+
+    if (size == keys.length)
+      spill();
+
+    keys[size] = key;
+    values[size] = value;
+    size++;
+    total++;
+  }
+
+  synchronized long size() {
+    return total;
+  }
+
+  synchronized int getSpilledRuns() {
+    return runs.size();
+  }
+
+  /**
+   * Sorts the edges left in memory and returns a cursor that merges them with the spilled ones. No more edges can be added after
+   * this call.
+   */
+  synchronized Cursor sort() {
+    if (cursor != null)
+      throw new IllegalStateException("Buffer is already read");
+
+    sort(keys, values, 0, size - 1);
+
+    final PriorityQueue<Run> queue = new PriorityQueue<Run>(runs.size() + 1);
+    try {
+      final MemoryRun memoryRun = new MemoryRun();
+      if (memoryRun.advance())
+        queue.add(memoryRun);
+
+      for (File file : runs) {
+        final FileRun fileRun = new FileRun(file);
+        if (fileRun.advance())
+          queue.add(fileRun);
+        else
+          fileRun.close();
+      }
+    } catch (IOException e) {
+      for (Run run : queue)
+        run.close();
+      throw OException.wrapException(new ODatabaseException("Error on reading edges from temporary file"), e);
+    }
+
+    cursor = new MergeCursor(queue);
+    return cursor;
+  }
+
+  /**
+   * Closes the cursor, if any, and deletes the temporary files.
+   */
+  synchronized void close() {
+    if (cursor != null)
+      cursor.close();
+
+    for (File file : runs)
+      file.delete();
+    runs.clear();
+    size = 0;
+  }
+
+  private void spill() {
+    sort(keys, values, 0, size - 1);
+
+    try {
+      final File file = File.createTempFile(prefix, ".edges", directory);
+      runs.add(file);
+
+      final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), IO_BUFFER_SIZE));
+      try {
+        for (int i = 0; i < size; i++) {
+          out.writeLong(keys[i]);
+          out.writeLong(values[i]);
+        }
+      } finally {
+        out.close();
+      }
+    } catch (IOException e) {
+      throw OException.wrapException(new ODatabaseException("Error on writing edges to temporary file"), e);
+    }
+
+    size = 0;
+  }
+
+  private static int compare(final long key1, final long value1, final long key2, final long value2) {
+    if (key1 != key2)
+      return key1 < key2 ? -1 : 1;
+    if (value1 != value2)
+      return value1 < value2 ? -1 : 1;
+    return 0;
+  }
+
+  /**
+   * Quicksort of the pairs, the two arrays are sorted together.
+   */
+  private static void sort(final long[] keys, final long[] values, int from, int to) {
+    while (to - from > 16) {
+      final int middle = (from + to) >>> 1;
+      // MEDIAN OF THREE AS PIVOT
+      if (compare(keys[middle], values[middle], keys[from], values[from]) < 0)
+        swap(keys, values, middle, from);
+      if (compare(keys[to], values[to], keys[from], values[from]) < 0)
+        swap(keys, values, to, from);
+      if (compare(keys[to], values[to], keys[middle], values[middle]) < 0)
+        swap(keys, values, to, middle);
+
+      final long pivotKey = keys[middle];
+      final long pivotValue = values[middle];
+
+      int i = from;
+      int j = to;
+      while (i <= j) {
+        while (compare(keys[i], values[i], pivotKey, pivotValue) < 0)
+          i++;
+        while (compare(keys[j], values[j], pivotKey, pivotValue) > 0)
+          j--;
+        if (i <= j) {
+          swap(keys, values, i, j);
+          i++;
+          j--;
+        }
+      }
+
+      // RECURSION ON THE SMALLER PART ONLY
+      if (j - from < to - i) {
+        sort(keys, values, from, j);
+        from = i;
+      } else {
+        sort(keys, values, i, to);
+        to = j;
+      }
+    }
+
+    for (int i = from + 1; i <= to; i++) {
+      final long key = keys[i];
+      final long value = values[i];
+      int j = i - 1;
+      while (j >= from && compare(keys[j], values[j], key, value) > 0) {
+        keys[j + 1] = keys[j];
+        values[j + 1] = values[j];
+        j--;
+      }
+      keys[j + 1] = key;
+      values[j + 1] = value;
+    }
+  }
+
+  private static void swap(final long[] keys, final long[] values, final int i, final int j) {
+    final long key = keys[i];
+    keys[i] = keys[j];
+    keys[j] = key;
+
+    final long value = values[i];
+    values[i] = values[j];
+    values[j] = value;
+  }
+
+  private abstract static class Run implements Comparable<Run> {
+    long key;
+    long value;
+
+    abstract boolean advance() throws IOException;
+
+    abstract void close();
+
+    @Override
+    public int compareTo(final Run other) {
+      return compare(key, value, other.key, other.value);
+    }
+  }
+
+  private class MemoryRun extends Run {
+    private int position = 0;
+
+    @Override
+    boolean advance() {
+      if (position >= size)
+        return false;
+
+      key = keys[position];
+      value = values[position];
+      position++;
+      return true;
+    }
+
+    @Override
+    void close() {
+    }
+  }
+
+  private static class FileRun extends Run {
+    private final DataInputStream in;
+
+    FileRun(final File file) throws IOException {
+      in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), IO_BUFFER_SIZE));
+    }
+
+    @Override
+    boolean advance() throws IOException {
+      try {
+        key = in.readLong();
+      } catch (EOFException e) {
+        return false;
+      }
+      value = in.readLong();
+      return true;
+    }
+
+    @Override
+    void close() {
+      try {
+        in.close();
+      } catch (IOException e) {
+        // IGNORE IT, THE FILE IS DELETED ANYWAY
+      }
+    }
+  }
+
+  private static class MergeCursor implements Cursor {
+    private final PriorityQueue<Run> queue;
+    private long                     key;
+    private long                     value;
+
+    MergeCursor(final PriorityQueue<Run> queue) {
+      this.queue = queue;
+    }
+
+    @Override
+    public boolean next() {
+      final Run run = queue.poll();
+      if (run == null)
+        return false;
+
+      key = run.key;
+      value = run.value;
+
+      try {
+        if (run.advance())
+          queue.add(run);
+        else
+          run.close();
+      } catch (IOException e) {
+        run.close();
+        throw OException.wrapException(new ODatabaseException("Error on reading edges from temporary file"), e);
+      }
+      return true;
+    }
+
+    @Override
+    public long key() {
+      return key;
+    }
+
+    @Override
+    public long value() {
+      return value;
+    }
+
+    @Override
+    public void close() {
+      for (Run run : queue)
+        run.close();
+      queue.clear();
+    }
+  }
+}
@@ -38,6 +38,9 @@ public class OGraphFunctionFactory implements OSQLFunctionFactory {
     register(OSQLFunctionDijkstra.NAME, new OSQLFunctionDijkstra());
     register(OSQLFunctionAstar.NAME, OSQLFunctionAstar.class);
     register(OSQLFunctionShortestPath.NAME, new OSQLFunctionShortestPath());
+    register(OSQLFunctionPageRank.NAME, new OSQLFunctionPageRank());
+    register(OSQLFunctionConnectedComponents.NAME, new OSQLFunctionConnectedComponents());
+    register(OSQLFunctionLabelPropagation.NAME, new OSQLFunctionLabelPropagation());
 
     register(OSQLFunctionLabel.NAME, new OSQLFunctionLabel());
     register(OSQLFunctionOut.NAME, new OSQLFunctionOut());
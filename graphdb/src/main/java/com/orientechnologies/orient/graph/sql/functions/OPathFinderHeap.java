@@ -0,0 +1,101 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.graph.sql.functions;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of vertex ids (see {@link OPathFinderNodeIndex}) ordered by a <code>double</code> priority and kept in primitive
+ * arrays. Priority of a vertex is decreased by adding it again, stale entries are skipped by the caller when they are polled.
+ */
+final class OPathFinderHeap {
+  private double[] priorities = new double[16];
+  private int[]    ids        = new int[16];
+  private int      size;
+
+  void add(final int id, final double priority) {
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, size << 1);
+      priorities = Arrays.copyOf(priorities, size << 1);
+    }
+
+    int index = size++;
+    while (index > 0) {
+      final int parent = (index - 1) >>> 1;
+      if (priorities[parent] <= priority)
+        break;
+
+      ids[index] = ids[parent];
+      priorities[index] = priorities[parent];
+      index = parent;
+    }
+
+    ids[index] = id;
+    priorities[index] = priority;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return Priority of the head of the heap or {@link Double#POSITIVE_INFINITY} if heap is empty.
+   */
+  double peekPriority() {
+    return size > 0 ? priorities[0] : Double.POSITIVE_INFINITY;
+  }
+
+  int peekId() {
+    return ids[0];
+  }
+
+  void remove() {
+    size--;
+    if (size == 0)
+      return;
+
+    final int id = ids[size];
+    final double priority = priorities[size];
+
+    int index = 0;
+    while (true) {
+      int child = (index << 1) + 1;
+      if (child >= size)
+        break;
+
+      if (child + 1 < size && priorities[child + 1] < priorities[child])
+        child++;
+
+      if (priorities[child] >= priority)
+        break;
+
+      ids[index] = ids[child];
+      priorities[index] = priorities[child];
+      index = child;
+    }
+
+    ids[index] = id;
+    priorities[index] = priority;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.graph.sql.functions;
+
+import com.orientechnologies.common.collection.OLongIntHashMap;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns dense <code>int</code> ids to the vertices visited by path finding functions, so the state kept per vertex, like
+ * distances and predecessors, is stored in primitive arrays indexed by such ids instead of maps keyed by vertices. Persistent rids
+ * are packed in a <code>long</code> (cluster id in the highest 16 bits, cluster position in the others), rids which can not be
+ * packed, like the ones of records created in the current transaction, are kept in a regular map.
+ */
+final class OPathFinderNodeIndex {
+  static final int                 NOT_FOUND = -1;
+
+  private final OLongIntHashMap    packedIds = new OLongIntHashMap();
+  private final Map<ORID, Integer> otherIds  = new HashMap<ORID, Integer>();
+  private ORID[]                   rids      = new ORID[64];
+  private int                      size;
+
+  /**
+   * @return Id of the vertex or {@link #NOT_FOUND} if the vertex has not been indexed yet.
+   */
+  int getId(final OIdentifiable vertex) {
+    final ORID rid = vertex.getIdentity();
+    final long key = pack(rid);
+    if (key < 0) {
+      final Integer id = otherIds.get(rid);
+      return id != null ? id : NOT_FOUND;
+    }
+
+    return packedIds.get(key, NOT_FOUND);
+  }
+
+  int getOrCreateId(final OIdentifiable vertex) {
+    final ORID rid = vertex.getIdentity();
+    final long key = pack(rid);
+    if (key < 0) {
+      final Integer id = otherIds.get(rid);
+      if (id != null)
+        return id;
+
+      otherIds.put(rid, size);
+    } else {
+      final int id = packedIds.get(key, NOT_FOUND);
+      if (id != NOT_FOUND)
+        return id;
+
+      packedIds.put(key, size, NOT_FOUND);
+    }
+
+    if (size == rids.length)
+      rids = Arrays.copyOf(rids, size << 1);
+
+    rids[size] = rid;
+    return size++;
+  }
+
+  ORID getRid(final int id) {
+    return rids[id];
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Grows an array of per vertex state, if needed, so it can be indexed by all the ids assigned so far. New slots are filled with
+   * <code>fill</code> value.
+   */
+  int[] ensureCapacity(final int[] array, final int fill) {
+    if (array.length >= size)
+      return array;
+
+    final int[] result = Arrays.copyOf(array, Math.max(size, array.length << 1));
+    Arrays.fill(result, array.length, result.length, fill);
+    return result;
+  }
+
+  double[] ensureCapacity(final double[] array, final double fill) {
+    if (array.length >= size)
+      return array;
+
+    final double[] result = Arrays.copyOf(array, Math.max(size, array.length << 1));
+    Arrays.fill(result, array.length, result.length, fill);
+    return result;
+  }
+
+  private static long pack(final ORID rid) {
+    final int clusterId = rid.getClusterId();
+    final long clusterPosition = rid.getClusterPosition();
+    if (clusterId < 0 || clusterId > Short.MAX_VALUE || clusterPosition < 0 || clusterPosition >= (1L << 48))
+      return -1;
+
+    return ((long) clusterId << 48) | clusterPosition;
+  }
+}
@@ -19,13 +19,21 @@
  */
 package com.orientechnologies.orient.graph.sql.functions;
 
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.command.OCommandExecutorAbstract;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OSQLHelper;
+import com.orientechnologies.orient.graph.sql.OGraphCommandExecutorSQLFactory;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientVertex;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.LinkedList;
-import java.util.Map;
 
 /**
  * Dijkstra's algorithm describes how to find the cheapest path from one node to another node in a directed weighted graph.
@@ -34,13 +42,21 @@ import java.util.Map;
  * represents 'weight'.
  * <p>
  * If property is not defined in edge or is null, distance between vertexes are 0.
+ * <p>
+ * The search is bidirectional: it runs from the source along the requested direction and from the destination along the opposite
+ * one, always expanding the side with the smaller frontier, and stops as soon as no path shorter than the best one met so far can
+ * be found. Vertices are identified by dense int ids (see {@link OPathFinderNodeIndex}), distances and predecessors are kept in
+ * primitive arrays, only the vertices being expanded are loaded and only the weight field is read from the edge records.
  *
  * @author Luca Garulli (l.garulli--at--orientechnologies.com)
  */
 public class OSQLFunctionDijkstra extends OSQLFunctionPathFinder {
   public static final String NAME = "dijkstra";
 
-  private String paramWeightFieldName;
+  // PREDECESSOR OF VERTICES NOT REACHED BY A SIDE
+  private static final int NOT_REACHED = -2;
+  // PREDECESSOR OF THE VERTEX A SIDE STARTS FROM
+  private static final int NO_VERTEX   = -1;
 
   public OSQLFunctionDijkstra() {
     super(NAME, 3, 4);
@@ -48,25 +64,49 @@ public class OSQLFunctionDijkstra extends OSQLFunctionPathFinder {
 
   public LinkedList<OrientVertex> execute(final Object iThis, final OIdentifiable iCurrentRecord, final Object iCurrentResult,
       final Object[] iParams, final OCommandContext iContext) {
-    return new OSQLFunctionAstar().execute(this, iCurrentRecord, iCurrentResult, toAStarParams(iParams), iContext);
-  }
+    return OGraphCommandExecutorSQLFactory
+        .runWithAnyGraph(new OGraphCommandExecutorSQLFactory.GraphCallBack<LinkedList<OrientVertex>>() {
+          @Override
+          public LinkedList<OrientVertex> call(final OrientBaseGraph graph) {
+            final ORecord record = iCurrentRecord != null ? iCurrentRecord.getRecord() : null;
 
-  private Object[] toAStarParams(Object[] iParams) {
-    Object[] result = new Object[4];
-    result[0] = iParams[0];
-    result[1] = iParams[1];
-    result[2] = iParams[2];
-    Map<String, Object> options = new HashMap<String, Object>();
-    options.put("emptyIfMaxDepth", true);
-    if(iParams.length > 3) {
-      options.put("direction", iParams[3]);
-    }
-    result[3] = options;
-    return result;
-  }
+            Object source = iParams[0];
+            if (OMultiValue.isMultiValue(source)) {
+              if (OMultiValue.getSize(source) > 1)
+                throw new IllegalArgumentException("Only one sourceVertex is allowed");
+              source = OMultiValue.getFirstValue(source);
+            }
+            final OrientVertex sourceVertex = graph.getVertex(OSQLHelper.getValue(source, record, iContext));
+
+            Object dest = iParams[1];
+            if (OMultiValue.isMultiValue(dest)) {
+              if (OMultiValue.getSize(dest) > 1)
+                throw new IllegalArgumentException("Only one destinationVertex is allowed");
+              dest = OMultiValue.getFirstValue(dest);
+            }
+            final OrientVertex destinationVertex = graph.getVertex(OSQLHelper.getValue(dest, record, iContext));
+
+            final String weightFieldName = OIOUtils.getStringContent(iParams[2]);
 
-  private LinkedList<OrientVertex> internalExecute(final OCommandContext iContext) {
-    return super.execute(iContext);
+            Direction direction = Direction.OUT;
+            if (iParams.length > 3 && iParams[3] != null) {
+              if (iParams[3] instanceof Direction)
+                direction = (Direction) iParams[3];
+              else
+                direction = Direction.valueOf(iParams[3].toString().toUpperCase());
+            }
+
+            iContext.setVariable("getNeighbors", 0);
+
+            if (sourceVertex.equals(destinationVertex)) {
+              final LinkedList<OrientVertex> result = new LinkedList<OrientVertex>();
+              result.add(sourceVertex);
+              return result;
+            }
+
+            return new OBidirectionalSearch(graph, iContext, weightFieldName, direction).execute(sourceVertex, destinationVertex);
+          }
+        });
   }
 
   public String getSyntax() {
@@ -81,4 +121,150 @@ public class OSQLFunctionDijkstra extends OSQLFunctionPathFinder {
   protected boolean isVariableEdgeWeight() {
     return true;
   }
+
+  private static final class OBidirectionalSearch {
+    private final OrientBaseGraph      graph;
+    private final OCommandContext      context;
+    private final String               weightFieldName;
+    private final OPathFinderNodeIndex nodes        = new OPathFinderNodeIndex();
+    private final OSearchSide          forward;
+    private final OSearchSide          backward;
+
+    private double                     bestDistance = Double.POSITIVE_INFINITY;
+    private int                        meeting      = NO_VERTEX;
+
+    private OBidirectionalSearch(final OrientBaseGraph graph, final OCommandContext context, final String weightFieldName,
+        final Direction direction) {
+      this.graph = graph;
+      this.context = context;
+      this.weightFieldName = weightFieldName;
+
+      forward = new OSearchSide(this, direction);
+      backward = new OSearchSide(this, direction.opposite());
+      forward.other = backward;
+      backward.other = forward;
+    }
+
+    private LinkedList<OrientVertex> execute(final OrientVertex sourceVertex, final OrientVertex destinationVertex) {
+      forward.start(nodes.getOrCreateId(sourceVertex));
+      backward.start(nodes.getOrCreateId(destinationVertex));
+
+      while (!forward.queue.isEmpty() && !backward.queue.isEmpty()) {
+        if (forward.queue.peekPriority() + backward.queue.peekPriority() >= bestDistance)
+          // NO SHORTER PATH CAN BE FOUND
+          break;
+
+        if (!OCommandExecutorAbstract.checkInterruption(context))
+          break;
+
+        if (forward.queue.size() <= backward.queue.size())
+          forward.expand();
+        else
+          backward.expand();
+      }
+
+      final LinkedList<OrientVertex> path = new LinkedList<OrientVertex>();
+      if (meeting == NO_VERTEX)
+        return path;
+
+      for (int id = meeting; id != NO_VERTEX; id = forward.predecessors[id])
+        path.addFirst(graph.getVertex(nodes.getRid(id)));
+      for (int id = backward.predecessors[meeting]; id != NO_VERTEX; id = backward.predecessors[id])
+        path.addLast(graph.getVertex(nodes.getRid(id)));
+
+      return path;
+    }
+
+    private int reach(final OIdentifiable vertex) {
+      final int id = nodes.getOrCreateId(vertex);
+      forward.ensureCapacity();
+      backward.ensureCapacity();
+      return id;
+    }
+
+    private double getWeight(final ODocument iEdge) {
+      if (iEdge != null) {
+        final Object fieldValue = iEdge.rawField(weightFieldName);
+        if (fieldValue instanceof Number)
+          return ((Number) fieldValue).doubleValue();
+      }
+
+      // LIGHTWEIGHT EDGE OR NO WEIGHT
+      return MIN;
+    }
+  }
+
+  /**
+   * State of the search from one of the two ends of the path.
+   */
+  private static final class OSearchSide implements OrientVertex.ConnectionListener {
+    private final OBidirectionalSearch search;
+    private final Direction            direction;
+    private final OPathFinderHeap      queue        = new OPathFinderHeap();
+    private OSearchSide                other;
+
+    private double[]                   distances    = new double[64];
+    private int[]                      predecessors = new int[64];
+    private boolean[]                  settled      = new boolean[64];
+    private int                        current;
+
+    private OSearchSide(final OBidirectionalSearch search, final Direction direction) {
+      this.search = search;
+      this.direction = direction;
+
+      Arrays.fill(distances, Double.POSITIVE_INFINITY);
+      Arrays.fill(predecessors, NOT_REACHED);
+    }
+
+    private void start(final int id) {
+      ensureCapacity();
+      distances[id] = 0;
+      predecessors[id] = NO_VERTEX;
+      queue.add(id, 0);
+    }
+
+    private void expand() {
+      current = queue.peekId();
+      queue.remove();
+
+      if (settled[current])
+        // STALE ENTRY, VERTEX HAS BEEN REACHED BEFORE WITH A SHORTER DISTANCE
+        return;
+      settled[current] = true;
+
+      search.context.incrementVariable("getNeighbors");
+
+      final OrientVertex vertex = search.graph.getVertex(search.nodes.getRid(current));
+      if (vertex != null)
+        vertex.browseConnections(direction, this);
+    }
+
+    @Override
+    public boolean onConnection(final ODocument iEdge, final OIdentifiable iVertex) {
+      final int neighbor = search.reach(iVertex);
+
+      final double distance = distances[current] + search.getWeight(iEdge);
+      if (distance < distances[neighbor] && !settled[neighbor]) {
+        distances[neighbor] = distance;
+        predecessors[neighbor] = current;
+        queue.add(neighbor, distance);
+      }
+
+      final double pathDistance = distances[neighbor] + other.distances[neighbor];
+      if (pathDistance < search.bestDistance) {
+        // THE TWO SIDES MET: SHORTEST PATH FOUND SO FAR
+        search.bestDistance = pathDistance;
+        search.meeting = neighbor;
+      }
+
+      return true;
+    }
+
+    private void ensureCapacity() {
+      distances = search.nodes.ensureCapacity(distances, Double.POSITIVE_INFINITY);
+      predecessors = search.nodes.ensureCapacity(predecessors, NOT_REACHED);
+      if (settled.length < distances.length)
+        settled = Arrays.copyOf(settled, distances.length);
+    }
+  }
 }
@@ -0,0 +1,149 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.graph.sql.functions;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.functions.OSQLFunctionAbstract;
+import com.orientechnologies.orient.graph.analytics.OGraphAnalytics;
+import com.orientechnologies.orient.graph.analytics.OGraphAnalyticsResult;
+import com.orientechnologies.orient.graph.sql.OGraphCommandExecutorSQLFactory;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class of the functions running a whole graph algorithm of {@link OGraphAnalytics}. The only parameter is an optional map of
+ * options:
+ * <ul>
+ * <li><code>vertexClass</code>: class of the vertices to process, <code>V</code> by default</li>
+ * <li><code>edgeTypeNames</code>: classes of the edges to follow, all by default</li>
+ * <li><code>maxIterations</code>, <code>threads</code>, <code>dampingFactor</code> and <code>tolerance</code>: see
+ * {@link OGraphAnalytics}</li>
+ * <li><code>writeProperty</code>: property of the vertices where results are written, if set the function returns a document with
+ * the statistics of the execution instead of the results</li>
+ * <li><code>batchSize</code>: vertices written per transaction, 1000 by default</li>
+ * </ul>
+ * The function should be invoked without a target, like <code>select pageRank({edgeTypeNames:['Follows']})</code>, otherwise the
+ * whole algorithm is executed for every record of the target.
+ */
+public abstract class OSQLFunctionGraphAnalyticsAbstract extends OSQLFunctionAbstract {
+  public static final String PARAM_VERTEX_CLASS    = "vertexClass";
+  public static final String PARAM_EDGE_TYPE_NAMES = "edgeTypeNames";
+  public static final String PARAM_MAX_ITERATIONS  = "maxIterations";
+  public static final String PARAM_THREADS         = "threads";
+  public static final String PARAM_DAMPING_FACTOR  = "dampingFactor";
+  public static final String PARAM_TOLERANCE       = "tolerance";
+  public static final String PARAM_WRITE_PROPERTY  = "writeProperty";
+  public static final String PARAM_BATCH_SIZE      = "batchSize";
+
+  public static final int    DEFAULT_BATCH_SIZE    = 1000;
+
+  protected OSQLFunctionGraphAnalyticsAbstract(final String iName) {
+    super(iName, 0, 1);
+  }
+
+  /**
+   * Executes the algorithm on the configured analytics.
+   */
+  protected abstract OGraphAnalyticsResult compute(OGraphAnalytics analytics);
+
+  /**
+   * @return Name of the field containing the value of every vertex in the returned documents.
+   */
+  protected abstract String getValueField();
+
+  public Object execute(final Object iThis, final OIdentifiable iCurrentRecord, final Object iCurrentResult, final Object[] iParams,
+      final OCommandContext iContext) {
+    return OGraphCommandExecutorSQLFactory.runWithAnyGraph(new OGraphCommandExecutorSQLFactory.GraphCallBack<Object>() {
+      @Override
+      public Object call(final OrientBaseGraph graph) {
+        final Map<String, Object> options = toMap(iParams.length > 0 ? iParams[0] : null);
+
+        final OGraphAnalytics analytics = graph.getAnalytics();
+        final Object vertexClass = options.get(PARAM_VERTEX_CLASS);
+        if (vertexClass != null)
+          analytics.setVertexClass(vertexClass.toString());
+        analytics.setEdgeClasses(toStringArray(options.get(PARAM_EDGE_TYPE_NAMES)));
+        analytics.setMaxIterations(toNumber(options.get(PARAM_MAX_ITERATIONS), -1).intValue());
+        analytics.setThreads(toNumber(options.get(PARAM_THREADS), Runtime.getRuntime().availableProcessors()).intValue());
+        analytics
+            .setDampingFactor(toNumber(options.get(PARAM_DAMPING_FACTOR), OGraphAnalytics.DEFAULT_DAMPING_FACTOR).doubleValue());
+        analytics.setTolerance(toNumber(options.get(PARAM_TOLERANCE), OGraphAnalytics.DEFAULT_TOLERANCE).doubleValue());
+
+        final long start = System.currentTimeMillis();
+        final OGraphAnalyticsResult result = compute(analytics);
+
+        final Object writeProperty = options.get(PARAM_WRITE_PROPERTY);
+        if (writeProperty == null)
+          return result.toDocuments(getValueField());
+
+        final long written = result.write(writeProperty.toString(),
+            toNumber(options.get(PARAM_BATCH_SIZE), DEFAULT_BATCH_SIZE).intValue());
+
+        final ODocument stats = new ODocument().setTrackingChanges(false);
+        stats.field("vertices", result.size());
+        stats.field("iterations", result.getIterations());
+        stats.field("written", written);
+        stats.field("elapsed", System.currentTimeMillis() - start);
+        return stats;
+      }
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> toMap(final Object iParam) {
+    if (iParam instanceof Map)
+      return (Map<String, Object>) iParam;
+    if (iParam instanceof OIdentifiable)
+      return ((ODocument) ((OIdentifiable) iParam).getRecord()).toMap();
+    if (iParam == null)
+      return Collections.emptyMap();
+
+    throw new IllegalArgumentException("Options of function " + getName() + "() must be a map, found: " + iParam);
+  }
+
+  private static String[] toStringArray(final Object iValue) {
+    if (iValue == null)
+      return new String[0];
+    if (iValue instanceof String[])
+      return (String[]) iValue;
+    if (!OMultiValue.isMultiValue(iValue))
+      return new String[] { iValue.toString() };
+
+    final List<String> result = new ArrayList<String>();
+    for (Object item : OMultiValue.getMultiValueIterable(iValue))
+      result.add(item.toString());
+    return result.toArray(new String[result.size()]);
+  }
+
+  private static Number toNumber(final Object iValue, final Number defaultValue) {
+    if (iValue instanceof Number)
+      return (Number) iValue;
+    if (iValue != null)
+      return Double.parseDouble(iValue.toString());
+    return defaultValue;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.graph.sql.functions;
+
+import com.orientechnologies.orient.graph.analytics.OGraphAnalytics;
+import com.orientechnologies.orient.graph.analytics.OGraphAnalyticsResult;
+
+/**
+ * Detects the communities of the graph by label propagation, see {@link OGraphAnalytics#labelPropagation()}.
+ *
+ * @see OSQLFunctionGraphAnalyticsAbstract
+ */
+public class OSQLFunctionLabelPropagation extends OSQLFunctionGraphAnalyticsAbstract {
+  public static final String NAME = "labelPropagation";
+
+  public OSQLFunctionLabelPropagation() {
+    super(NAME);
+  }
+
+  @Override
+  protected OGraphAnalyticsResult compute(final OGraphAnalytics analytics) {
+    return analytics.labelPropagation();
+  }
+
+  @Override
+  protected String getValueField() {
+    return "community";
+  }
+
+  public String getSyntax() {
+    return "labelPropagation([<options>])\n // options : {vertexClass:'V', edgeTypeNames:[], maxIterations:20, threads:<cores>, writeProperty:'<property>', batchSize:1000}";
+  }
+}
@@ -19,11 +19,16 @@
  */
 package com.orientechnologies.orient.graph.sql.functions;
 
+import com.orientechnologies.common.collection.OMultiCollectionIterator;
 import com.orientechnologies.common.collection.OMultiValue;
 import com.orientechnologies.common.io.OIOUtils;
 import com.orientechnologies.common.util.OCallable;
+import com.orientechnologies.common.util.OSizeable;
+import com.orientechnologies.orient.core.cache.OGraphTopologyCache;
 import com.orientechnologies.orient.core.command.OCommandContext;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.metadata.schema.OImmutableClass;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.record.impl.ODocumentInternal;
@@ -36,7 +41,10 @@ import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientEdge;
 import com.tinkerpop.blueprints.impls.orient.OrientVertex;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -93,19 +101,53 @@ public abstract class OSQLFunctionMove extends OSQLFunctionConfigurableAbstract
 
   protected Object v2v(final OrientBaseGraph graph, final OIdentifiable iRecord, final Direction iDirection,
       final String[] iLabels) {
+    final OGraphTopologyCache cache = getTopologyCache(graph);
+    long cacheVersion = 0;
+    if (cache != null) {
+      final List<ORID> neighbors = cache.get(iRecord.getIdentity(), iDirection.name(), iLabels);
+      if (neighbors != null) {
+        // VERTICES ARE LOADED ONLY IF THE CALLER NEEDS THEM
+        final List<OrientVertex> result = new ArrayList<OrientVertex>(neighbors.size());
+        for (ORID neighbor : neighbors)
+          result.add(new OrientVertex(graph, neighbor));
+        return result;
+      }
+      cacheVersion = cache.getVersion();
+    }
+
     final ODocument rec = iRecord.getRecord();
 
     OImmutableClass immutableClass = ODocumentInternal.getImmutableSchemaClass(rec);
     if (immutableClass != null && immutableClass.isVertexType()) {
       // VERTEX
       final OrientVertex vertex = graph.getVertex(rec);
-      if (vertex != null)
-        return vertex.getVertices(iDirection, iLabels);
+      if (vertex != null) {
+        // IF ENABLED, SUPERNODES ARE EXPANDED IN PAGE ORDER OF NEIGHBOURS TO AVOID RANDOM READS
+        final Iterable<Vertex> vertices = vertex.getVerticesInPageOrder(iDirection,
+            cache != null && iLabels != null ? iLabels.clone() : iLabels);
+        if (cache == null)
+          return vertices;
+
+        return new OMultiCollectionIterator<Vertex>().add(new OCachingIterable(vertices, cache, rec.getIdentity(),
+            iDirection.name(), iLabels, cacheVersion));
+      }
     }
 
     return null;
   }
 
+  /**
+   * @return The topology cache if it is enabled and the current transaction, if any, did not change any record, otherwise
+   *         <code>null</code>.
+   */
+  protected OGraphTopologyCache getTopologyCache(final OrientBaseGraph graph) {
+    final ODatabaseDocumentTx db = graph.getRawGraph();
+    if (db.getTransaction().isActive() && db.getTransaction().getEntryCount() > 0)
+      return null;
+
+    return OGraphTopologyCache.get(db);
+  }
+
   protected Object v2e(final OrientBaseGraph graph, final OIdentifiable iRecord, final Direction iDirection,
       final String[] iLabels) {
     final ODocument rec = iRecord.getRecord();
@@ -142,4 +184,76 @@ public abstract class OSQLFunctionMove extends OSQLFunctionConfigurableAbstract
 
     return null;
   }
+
+  /**
+   * Streams the neighbours of a vertex collecting them for the topology cache. The collection is dropped as soon as the neighbours
+   * are too many to be cached, so supernodes are still browsed lazily.
+   */
+  private static class OCachingIterable implements Iterable<Vertex>, OSizeable {
+    private final Iterable<Vertex>    vertices;
+    private final OGraphTopologyCache cache;
+    private final ORID                rid;
+    private final String              direction;
+    private final String[]            labels;
+    private final long                cacheVersion;
+
+    private OCachingIterable(final Iterable<Vertex> iVertices, final OGraphTopologyCache iCache, final ORID iRid,
+        final String iDirection, final String[] iLabels, final long iCacheVersion) {
+      vertices = iVertices;
+      cache = iCache;
+      rid = iRid;
+      direction = iDirection;
+      labels = iLabels;
+      cacheVersion = iCacheVersion;
+    }
+
+    @Override
+    public int size() {
+      if (vertices instanceof OSizeable)
+        return ((OSizeable) vertices).size();
+
+      int size = 0;
+      for (Iterator<Vertex> it = vertices.iterator(); it.hasNext(); it.next())
+        size++;
+      return size;
+    }
+
+    @Override
+    public Iterator<Vertex> iterator() {
+      final Iterator<Vertex> iterator = vertices.iterator();
+      final int maxNeighbors = cache.getMaxNeighbors();
+
+      return new Iterator<Vertex>() {
+        private List<OrientVertex> collected = new ArrayList<OrientVertex>();
+
+        @Override
+        public boolean hasNext() {
+          final boolean hasNext = iterator.hasNext();
+          if (!hasNext && collected != null) {
+            cache.put(rid, direction, labels, collected, cacheVersion);
+            collected = null;
+          }
+          return hasNext;
+        }
+
+        @Override
+        public Vertex next() {
+          final Vertex v = iterator.next();
+          if (collected != null) {
+            if (collected.size() < maxNeighbors)
+              collected.add((OrientVertex) v);
+            else
+              // TOO MANY NEIGHBOURS TO BE CACHED: STOP COLLECTING
+              collected = null;
+          }
+          return v;
+        }
+
+        @Override
+        public void remove() {
+          throw new UnsupportedOperationException("remove");
+        }
+      };
+    }
+  }
 }
@@ -0,0 +1,50 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.graph.sql.functions;
+
+import com.orientechnologies.orient.graph.analytics.OGraphAnalytics;
+import com.orientechnologies.orient.graph.analytics.OGraphAnalyticsResult;
+
+/**
+ * Computes the PageRank of the vertices following their outgoing edges, see {@link OGraphAnalytics#pageRank()}.
+ *
+ * @see OSQLFunctionGraphAnalyticsAbstract
+ */
+public class OSQLFunctionPageRank extends OSQLFunctionGraphAnalyticsAbstract {
+  public static final String NAME = "pageRank";
+
+  public OSQLFunctionPageRank() {
+    super(NAME);
+  }
+
+  @Override
+  protected OGraphAnalyticsResult compute(final OGraphAnalytics analytics) {
+    return analytics.pageRank();
+  }
+
+  @Override
+  protected String getValueField() {
+    return "rank";
+  }
+
+  public String getSyntax() {
+    return "pageRank([<options>])\n // options : {vertexClass:'V', edgeTypeNames:[], maxIterations:20, threads:<cores>, dampingFactor:0.85, tolerance:0.000001, writeProperty:'<property>', batchSize:1000}";
+  }
+}
@@ -31,20 +31,20 @@ import com.orientechnologies.orient.core.sql.OSQLHelper;
 import com.orientechnologies.orient.core.sql.functions.math.OSQLFunctionMathAbstract;
 import com.orientechnologies.orient.graph.sql.OGraphCommandExecutorSQLFactory;
 import com.tinkerpop.blueprints.Direction;
-import com.tinkerpop.blueprints.Vertex;
 import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
 import com.tinkerpop.blueprints.impls.orient.OrientVertex;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Shortest path algorithm to find the shortest path from one node to another node in a directed graph.
+ * <p>
+ * The search is bidirectional: at every step the side with the smaller frontier is expanded by one level. Visited vertices are
+ * identified by dense int ids (see {@link OPathFinderNodeIndex}), frontiers and predecessors are kept in primitive arrays, and the
+ * neighbours of a vertex are browsed by identity, so only the vertices of the frontiers being expanded are loaded.
  *
  * @author Luca Garulli (l.garulli--at--orientechnologies.com)
  */
@@ -58,27 +58,97 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
     super(NAME, 2, 5);
   }
 
+  // PREDECESSOR OF VERTICES NOT VISITED BY A SIDE
+  private static final int NOT_VISITED = -2;
+  // PREDECESSOR OF THE VERTEX A SIDE STARTS FROM
+  private static final int NO_VERTEX   = -1;
+
   private class OShortestPathContext {
-    OrientVertex sourceVertex;
-    OrientVertex destinationVertex;
+    OrientBaseGraph graph;
+    OrientVertex    sourceVertex;
+    OrientVertex    destinationVertex;
     Direction directionLeft  = Direction.BOTH;
     Direction directionRight = Direction.BOTH;
 
     String   edgeType;
     String[] edgeTypeParam;
 
-    ArrayDeque<OrientVertex> queueLeft  = new ArrayDeque<OrientVertex>();
-    ArrayDeque<OrientVertex> queueRight = new ArrayDeque<OrientVertex>();
+    final OPathFinderNodeIndex nodes = new OPathFinderNodeIndex();
+
+    OFrontier queueLeft  = new OFrontier();
+    OFrontier queueRight = new OFrontier();
 
-    final Set<ORID> leftVisited  = new HashSet<ORID>();
-    final Set<ORID> rightVisited = new HashSet<ORID>();
+    // PREDECESSOR OF EVERY VERTEX VISITED FROM THE SOURCE AND SUCCESSOR OF EVERY VERTEX VISITED FROM THE DESTINATION
+    int[] previouses = new int[64];
+    int[] nexts      = new int[64];
 
-    final Map<ORID, ORID> previouses = new HashMap<ORID, ORID>();
-    final Map<ORID, ORID> nexts      = new HashMap<ORID, ORID>();
+    {
+      Arrays.fill(previouses, NOT_VISITED);
+      Arrays.fill(nexts, NOT_VISITED);
+    }
 
-    OrientVertex current;
-    OrientVertex currentRight;
     public Integer maxDepth;
+
+    int visit(final OIdentifiable vertex) {
+      final int id = nodes.getOrCreateId(vertex);
+      previouses = nodes.ensureCapacity(previouses, NOT_VISITED);
+      nexts = nodes.ensureCapacity(nexts, NOT_VISITED);
+      return id;
+    }
+  }
+
+  /**
+   * Vertices of a level of the search.
+   */
+  private static class OFrontier {
+    int[] ids = new int[16];
+    int   size;
+
+    void add(final int id) {
+      if (size == ids.length)
+        ids = Arrays.copyOf(ids, size << 1);
+      ids[size++] = id;
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+  }
+
+  /**
+   * Expands a level of one side of the search, stops at the first vertex already visited by the other side.
+   */
+  private static class OLevelWalker implements OrientVertex.ConnectionListener {
+    private final OShortestPathContext ctx;
+    private final boolean              left;
+    private final OFrontier            nextLevel = new OFrontier();
+    private int                        current;
+    private int                        meeting   = NO_VERTEX;
+
+    private OLevelWalker(final OShortestPathContext ctx, final boolean left) {
+      this.ctx = ctx;
+      this.left = left;
+    }
+
+    @Override
+    public boolean onConnection(final ODocument iEdge, final OIdentifiable iVertex) {
+      final int neighbor = ctx.visit(iVertex);
+
+      final int[] visited = left ? ctx.previouses : ctx.nexts;
+      final int[] otherVisited = left ? ctx.nexts : ctx.previouses;
+
+      if (otherVisited[neighbor] != NOT_VISITED) {
+        visited[neighbor] = current;
+        meeting = neighbor;
+        return false;
+      }
+
+      if (visited[neighbor] == NOT_VISITED) {
+        visited[neighbor] = current;
+        nextLevel.add(neighbor);
+      }
+      return true;
+    }
   }
 
   public List<ORID> execute(Object iThis, final OIdentifiable iCurrentRecord, final Object iCurrentResult, final Object[] iParams,
@@ -90,6 +160,7 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
         final ORecord record = iCurrentRecord != null ? iCurrentRecord.getRecord() : null;
 
         final OShortestPathContext ctx = new OShortestPathContext();
+        ctx.graph = graph;
 
         Object source = iParams[0];
         if (OMultiValue.isMultiValue(source)) {
@@ -126,17 +197,19 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
         if (iParams.length > 3) {
           ctx.edgeType = iParams[3] == null ? null : "" + iParams[3];
         }
-        ctx.edgeTypeParam = new String[] { ctx.edgeType };
+        ctx.edgeTypeParam = ctx.edgeType == null ? new String[0] : new String[] { ctx.edgeType };
 
         if (iParams.length > 4) {
           bindAdditionalParams(iParams[4], ctx);
         }
 
-        ctx.queueLeft.add(ctx.sourceVertex);
-        ctx.leftVisited.add(ctx.sourceVertex.getIdentity());
+        final int sourceId = ctx.visit(ctx.sourceVertex);
+        ctx.queueLeft.add(sourceId);
+        ctx.previouses[sourceId] = NO_VERTEX;
 
-        ctx.queueRight.add(ctx.destinationVertex);
-        ctx.rightVisited.add(ctx.destinationVertex.getIdentity());
+        final int destinationId = ctx.visit(ctx.destinationVertex);
+        ctx.queueRight.add(destinationId);
+        ctx.nexts[destinationId] = NO_VERTEX;
 
         int depth = 1;
         while (true) {
@@ -154,7 +227,7 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
 
           List<ORID> neighborIdentity;
 
-          if (ctx.queueLeft.size() <= ctx.queueRight.size()) {
+          if (ctx.queueLeft.size <= ctx.queueRight.size) {
             // START EVALUATING FROM LEFT
             neighborIdentity = walkLeft(ctx);
             if (neighborIdentity != null)
@@ -234,86 +307,51 @@ public class OSQLFunctionShortestPath extends OSQLFunctionMathAbstract {
   }
 
   protected List<ORID> walkLeft(final OSQLFunctionShortestPath.OShortestPathContext ctx) {
-    ArrayDeque<OrientVertex> nextLevelQueue = new ArrayDeque<OrientVertex>();
-    while (!ctx.queueLeft.isEmpty()) {
-      ctx.current = ctx.queueLeft.poll();
-
-      Iterable<Vertex> neighbors;
-      if (ctx.edgeType == null) {
-        neighbors = ctx.current.getVertices(ctx.directionLeft);
-      } else {
-        neighbors = ctx.current.getVertices(ctx.directionLeft, ctx.edgeTypeParam);
-      }
-      for (Vertex neighbor : neighbors) {
-        final OrientVertex v = (OrientVertex) neighbor;
-        final ORID neighborIdentity = v.getIdentity();
-
-        if (ctx.rightVisited.contains(neighborIdentity)) {
-          ctx.previouses.put(neighborIdentity, ctx.current.getIdentity());
-          return computePath(ctx.previouses, ctx.nexts, neighborIdentity);
-        }
-        if (!ctx.leftVisited.contains(neighborIdentity)) {
-          ctx.previouses.put(neighborIdentity, ctx.current.getIdentity());
-
-          nextLevelQueue.offer(v);
-          ctx.leftVisited.add(neighborIdentity);
-        }
+    final OLevelWalker walker = new OLevelWalker(ctx, true);
+    if (!walk(ctx, ctx.queueLeft, ctx.directionLeft, walker))
+      return computePath(ctx, walker.meeting);
 
-      }
-    }
-    ctx.queueLeft = nextLevelQueue;
+    ctx.queueLeft = walker.nextLevel;
     return null;
   }
 
   protected List<ORID> walkRight(final OSQLFunctionShortestPath.OShortestPathContext ctx) {
-    final ArrayDeque<OrientVertex> nextLevelQueue = new ArrayDeque<OrientVertex>();
-
-    while (!ctx.queueRight.isEmpty()) {
-      ctx.currentRight = ctx.queueRight.poll();
-
-      Iterable<Vertex> neighbors;
-      if (ctx.edgeType == null) {
-        neighbors = ctx.currentRight.getVertices(ctx.directionRight);
-      } else {
-        neighbors = ctx.currentRight.getVertices(ctx.directionRight, ctx.edgeTypeParam);
-      }
-      for (Vertex neighbor : neighbors) {
-        final OrientVertex v = (OrientVertex) neighbor;
-        final ORID neighborIdentity = v.getIdentity();
+    final OLevelWalker walker = new OLevelWalker(ctx, false);
+    if (!walk(ctx, ctx.queueRight, ctx.directionRight, walker))
+      return computePath(ctx, walker.meeting);
 
-        if (ctx.leftVisited.contains(neighborIdentity)) {
-          ctx.nexts.put(neighborIdentity, ctx.currentRight.getIdentity());
-          return computePath(ctx.previouses, ctx.nexts, neighborIdentity);
-        }
-        if (!ctx.rightVisited.contains(neighborIdentity)) {
-
-          ctx.nexts.put(neighborIdentity, ctx.currentRight.getIdentity());
-
-          nextLevelQueue.offer(v);
-          ctx.rightVisited.add(neighborIdentity);
-        }
+    ctx.queueRight = walker.nextLevel;
+    return null;
+  }
 
-      }
+  /**
+   * @return <code>false</code> if the walker met the other side of the search
+   */
+  private boolean walk(final OShortestPathContext ctx, final OFrontier level, final Direction direction,
+      final OLevelWalker walker) {
+    for (int i = 0; i < level.size; i++) {
+      walker.current = level.ids[i];
+
+      final OrientVertex vertex = ctx.graph.getVertex(ctx.nodes.getRid(walker.current));
+      if (vertex != null && !vertex.browseConnections(direction, walker, ctx.edgeTypeParam))
+        return false;
     }
-    ctx.queueRight = nextLevelQueue;
-    return null;
+    return true;
   }
 
-  private List<ORID> computePath(final Map<ORID, ORID> leftDistances, final Map<ORID, ORID> rightDistances, final ORID neighbor) {
+  private List<ORID> computePath(final OShortestPathContext ctx, final int meeting) {
     final List<ORID> result = new ArrayList<ORID>();
 
-    ORID current = neighbor;
-    while (current != null) {
-      result.add(0, current);
-      current = leftDistances.get(current);
+    int current = meeting;
+    while (current != NO_VERTEX) {
+      result.add(0, ctx.nodes.getRid(current));
+      current = ctx.previouses[current];
     }
 
-    current = neighbor;
-    while (current != null) {
-      current = rightDistances.get(current);
-      if (current != null) {
-        result.add(current);
-      }
+    current = ctx.nexts[meeting];
+    while (current != NO_VERTEX) {
+      result.add(ctx.nodes.getRid(current));
+      current = ctx.nexts[current];
     }
 
     return result;
@@ -0,0 +1,206 @@
+/*
+ *
+ *  *  Copyright 2014 Orient Technologies LTD (info(at)orientechnologies.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientechnologies.com
+ *
+ */
+package com.orientechnologies.orient.graph.stresstest;
+
+import com.orientechnologies.common.util.OCallable;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.graph.batch.OGraphParallelBatchInsert;
+import com.orientechnologies.orient.stresstest.ODatabaseIdentifier;
+import com.orientechnologies.orient.stresstest.OStressTester;
+import com.orientechnologies.orient.stresstest.OStressTesterSettings;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Workload which measures the throughput of {@link OGraphParallelBatchInsert}: the threads of the stress tester create the
+ * vertices, each one connected to the requested number of random vertices, then the batch insert links all the vertices. The
+ * time of the two phases is reported separately.
+ */
+public class OGraphBatchInsertWorkload extends OBaseGraphWorkload {
+
+  static final String     INVALID_FORM_MESSAGE = "GRAPH BATCH INSERT workload must be in form of V<vertices>E<edges-per-vertex>W<writers>.";
+
+  private int             edgesPerVertex       = 10;
+  private int             writers              = Runtime.getRuntime().availableProcessors();
+  private OWorkLoadResult resultVertices       = new OWorkLoadResult();
+  private long            linkTime;
+  private long            createdEdges;
+
+  public OGraphBatchInsertWorkload() {
+    className = "BatchVertex";
+  }
+
+  @Override
+  public String getName() {
+    return "GBATCHINSERT";
+  }
+
+  @Override
+  public void parseParameters(final String args) {
+    final String ops = args.toUpperCase();
+    char state = ' ';
+    final StringBuilder number = new StringBuilder();
+
+    for (int pos = 0; pos < ops.length(); ++pos) {
+      final char c = ops.charAt(pos);
+
+      if (c == ' ' || c == 'V' || c == 'E' || c == 'W') {
+        state = assignState(state, number, c);
+      } else if (c >= '0' && c <= '9')
+        number.append(c);
+      else
+        throw new IllegalArgumentException(
+            "Character '" + c + "' is not valid on " + getName() + " workload. " + INVALID_FORM_MESSAGE);
+    }
+    assignState(state, number, ' ');
+
+    if (resultVertices.total <= 0 || edgesPerVertex < 0 || writers <= 0)
+      throw new IllegalArgumentException(INVALID_FORM_MESSAGE);
+  }
+
+  @Override
+  public void execute(final OStressTesterSettings settings, final ODatabaseIdentifier databaseIdentifier) {
+    if (databaseIdentifier.getMode() == OStressTester.OMode.REMOTE || databaseIdentifier.getMode() == OStressTester.OMode.DISTRIBUTED)
+      throw new IllegalArgumentException(getName() + " workload can be executed only on plocal or memory databases");
+
+    final OGraphParallelBatchInsert batch = new OGraphParallelBatchInsert(databaseIdentifier.getUrl());
+    batch.setVertexClass(className);
+    batch.setParallel(writers);
+    batch.begin();
+
+    try {
+      executeOperation(databaseIdentifier, resultVertices, settings, new OCallable<Void, OBaseWorkLoadContext>() {
+        @Override
+        public Void call(final OBaseWorkLoadContext context) {
+          final long id = context.currentIdx;
+
+          final Map<String, Object> properties = new HashMap<String, Object>();
+          properties.put("ts", System.currentTimeMillis());
+          batch.createVertex(id, properties);
+
+          final Random random = ((OBatchContext) context).random;
+          for (int i = 0; i < edgesPerVertex; i++)
+            batch.createEdge(id, (long) random.nextInt(resultVertices.total), null);
+
+          resultVertices.current.incrementAndGet();
+          return null;
+        }
+      });
+    } finally {
+      final long start = System.currentTimeMillis();
+      batch.end();
+      linkTime = System.currentTimeMillis() - start;
+      createdEdges = batch.getCreatedEdges();
+    }
+  }
+
+  @Override
+  public String getPartialResult() {
+    return String.format("%d%% [Vertices: %d]", ((100 * resultVertices.current.get() / resultVertices.total)),
+        resultVertices.current.get());
+  }
+
+  @Override
+  public String getFinalResult() {
+    final StringBuilder buffer = new StringBuilder(getErrors());
+
+    buffer.append(String.format("- Created %d vertices and %d edges in %.3f secs, linked by %d writers in %.3f secs",
+        resultVertices.current.get(), createdEdges, resultVertices.totalTime / 1000f, writers, linkTime / 1000f));
+
+    final long totalTime = resultVertices.totalTime + linkTime;
+    buffer.append(String.format("\n- Total throughput: %.3f edges/sec",
+        totalTime > 0 ? createdEdges * 1000f / totalTime : 0f));
+    buffer.append(resultVertices.toOutput(1));
+
+    return buffer.toString();
+  }
+
+  @Override
+  public String getFinalResultAsJson() {
+    final ODocument json = new ODocument();
+
+    json.field("type", getName());
+    json.field("edgesPerVertex", edgesPerVertex);
+    json.field("writers", writers);
+    json.field("edges", createdEdges);
+    json.field("linkTime", linkTime / 1000f);
+
+    json.field("vertices", resultVertices.toJSON(), OType.EMBEDDED);
+
+    return json.toJSON("");
+  }
+
+  @Override
+  protected OBaseWorkLoadContext getContext() {
+    return new OBatchContext();
+  }
+
+  @Override
+  protected void beginTransaction(final OBaseWorkLoadContext context) {
+  }
+
+  @Override
+  protected void commitTransaction(final OBaseWorkLoadContext context) {
+  }
+
+  private char assignState(final char state, final StringBuilder number, final char c) {
+    if (number.length() > 0) {
+      if (state == 'V')
+        resultVertices.total = Integer.parseInt(number.toString());
+      else if (state == 'E')
+        edgesPerVertex = Integer.parseInt(number.toString());
+      else if (state == 'W')
+        writers = Integer.parseInt(number.toString());
+    }
+
+    number.setLength(0);
+    return c;
+  }
+
+  public int getVertices() {
+    return resultVertices.total;
+  }
+
+  public int getEdgesPerVertex() {
+    return edgesPerVertex;
+  }
+
+  public int getWriters() {
+    return writers;
+  }
+
+  /**
+   * Records are written by the batch insert, the threads of the stress tester do not need a database.
+   */
+  private class OBatchContext extends OBaseWorkLoadContext {
+    final Random random = new Random();
+
+    @Override
+    public void init(final ODatabaseIdentifier dbIdentifier, final int operationsPerTransaction) {
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
@@ -36,9 +36,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * CRUD implementation of the workload.
+ * <p>
+ * Besides the latency of every block of shortest paths computed from the same starting vertex, the latency of every single
+ * shortestPath() call is recorded in a logarithmic histogram and reported as percentiles.
  *
  * @author Luca Garulli
  */
@@ -52,6 +56,7 @@ public class OGraphShortestPathWorkload extends OBaseGraphWorkload {
   private final AtomicLong maxDepth             = new AtomicLong();
   private final AtomicLong notConnected         = new AtomicLong();
   private final List<ORID> startingVertices     = new ArrayList<ORID>(limit > -1 ? limit : 1000);
+  private final OLatencyHistogram latencies     = new OLatencyHistogram();
 
   public OGraphShortestPathWorkload() {
     connectionStrategy = OStorageRemote.CONNECTION_STRATEGY.ROUND_ROBIN_REQUEST;
@@ -111,8 +116,10 @@ public class OGraphShortestPathWorkload extends OBaseGraphWorkload {
         final OrientBaseGraph graph = graphContext.graph;
 
         for (int i = 0; i < startingVertices.size(); ++i) {
+          final long start = System.nanoTime();
           final Iterable<OrientVertex> commandResult = graph.command(new OCommandSQL("select shortestPath(?,?, 'both')"))
               .execute(startingVertices.get(context.currentIdx), startingVertices.get(i));
+          latencies.record(System.nanoTime() - start);
 
           for (OrientVertex v : commandResult) {
             Collection depth = v.getRecord().field("shortestPath");
@@ -149,6 +156,10 @@ public class OGraphShortestPathWorkload extends OBaseGraphWorkload {
     buffer.append(String.format("- Executed %d shortest paths in %.3f secs", result.current.get(), result.totalTime / 1000f));
     buffer.append(String.format("\n- Path depth: maximum %d, average %.3f, not connected %d", maxDepth.get(),
         totalDepth.get() / (float) startingVertices.size() / (float) startingVertices.size(), notConnected.get()));
+    buffer.append(String.format(
+        "\n- Shortest path latency: Min: %.3fms - 50th Perc: %.3fms - 90th Perc: %.3fms - 99th Perc: %.3fms - 99.9th Perc: %.3fms - Max: %.3fms",
+        latencies.getMin() / 1000000f, latencies.getPercentile(50) / 1000000f, latencies.getPercentile(90) / 1000000f,
+        latencies.getPercentile(99) / 1000000f, latencies.getPercentile(99.9) / 1000000f, latencies.getMax() / 1000000f));
     buffer.append(result.toOutput(1));
 
     return buffer.toString();
@@ -162,6 +173,15 @@ public class OGraphShortestPathWorkload extends OBaseGraphWorkload {
 
     json.field("shortestPath", result.toJSON(), OType.EMBEDDED);
 
+    final ODocument latency = new ODocument();
+    latency.field("min", latencies.getMin() / 1000000f);
+    latency.field("perc50", latencies.getPercentile(50) / 1000000f);
+    latency.field("perc90", latencies.getPercentile(90) / 1000000f);
+    latency.field("perc99", latencies.getPercentile(99) / 1000000f);
+    latency.field("perc99_9", latencies.getPercentile(99.9) / 1000000f);
+    latency.field("max", latencies.getMax() / 1000000f);
+    json.field("shortestPathLatency", latency, OType.EMBEDDED);
+
     return json.toJSON("");
   }
 
@@ -183,4 +203,76 @@ public class OGraphShortestPathWorkload extends OBaseGraphWorkload {
   public int getLimit() {
     return limit;
   }
+
+  /**
+   * Lock free histogram of latencies in nanoseconds. Every power of two is split in {@link #SUB_BUCKETS} buckets, so percentiles
+   * are reported with a relative error lower than 1/{@link #SUB_BUCKETS} whatever is the amount of recorded values.
+   */
+  static class OLatencyHistogram {
+    private static final int  SUB_BUCKETS_BITS = 3;
+    private static final int  SUB_BUCKETS      = 1 << SUB_BUCKETS_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+    private final AtomicLong      total  = new AtomicLong();
+    private final AtomicLong      min    = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong      max    = new AtomicLong();
+
+    void record(final long valueNs) {
+      final long value = Math.max(valueNs, 0);
+      counts.incrementAndGet(bucket(value));
+      total.incrementAndGet();
+
+      long current = min.get();
+      while (value < current && !min.compareAndSet(current, value))
+        current = min.get();
+
+      current = max.get();
+      while (value > current && !max.compareAndSet(current, value))
+        current = max.get();
+    }
+
+    long getMin() {
+      return total.get() > 0 ? min.get() : 0;
+    }
+
+    long getMax() {
+      return max.get();
+    }
+
+    /**
+     * @return Upper bound of the bucket which contains the requested percentile, never higher than the maximum recorded value.
+     */
+    long getPercentile(final double percentile) {
+      final long count = total.get();
+      if (count == 0)
+        return 0;
+
+      final long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+      long seen = 0;
+      for (int i = 0; i < counts.length(); i++) {
+        seen += counts.get(i);
+        if (seen >= rank)
+          return Math.min(upperBound(i), max.get());
+      }
+      return max.get();
+    }
+
+    private static int bucket(final long value) {
+      if (value < SUB_BUCKETS)
+        return (int) value;
+
+      final int exponent = 63 - Long.numberOfLeadingZeros(value);
+      final int mantissa = (int) (value >>> (exponent - SUB_BUCKETS_BITS)) & (SUB_BUCKETS - 1);
+      return (exponent - SUB_BUCKETS_BITS + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    private static long upperBound(final int bucket) {
+      if (bucket < SUB_BUCKETS)
+        return bucket;
+
+      final int exponent = bucket / SUB_BUCKETS + SUB_BUCKETS_BITS - 1;
+      final long mantissa = bucket % SUB_BUCKETS;
+      return ((SUB_BUCKETS + mantissa + 1) << (exponent - SUB_BUCKETS_BITS)) - 1;
+    }
+  }
 }
@@ -0,0 +1,188 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.graph.stresstest;
+
+import com.orientechnologies.common.util.OCallable;
+import com.orientechnologies.orient.client.remote.OStorageRemote;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.stresstest.ODatabaseIdentifier;
+import com.orientechnologies.orient.stresstest.OStressTesterSettings;
+import com.tinkerpop.blueprints.impls.orient.OrientBaseGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Workload which measures expansion of a supernode: a vertex with a huge amount of outgoing edges is created and then all its
+ * neighbours are loaded by <code>out()</code> the requested amount of times. Edges are created in random order of neighbours, so
+ * insertion order of edges does not match order of neighbours on disk.
+ */
+public class OGraphSupernodeWorkload extends OBaseGraphWorkload {
+
+  static final String      INVALID_FORM_MESSAGE = "SUPERNODE workload must be in form of E<edges>X<expansions>.";
+
+  private int              edges                = 200000;
+  private OWorkLoadResult  result               = new OWorkLoadResult();
+  private final AtomicLong loadedNeighbours     = new AtomicLong();
+  private ORID             supernode;
+
+  public OGraphSupernodeWorkload() {
+    connectionStrategy = OStorageRemote.CONNECTION_STRATEGY.ROUND_ROBIN_REQUEST;
+    className = "SupernodeVertex";
+  }
+
+  @Override
+  public String getName() {
+    return "GSUPERNODE";
+  }
+
+  @Override
+  public void parseParameters(final String args) {
+    result.total = 10;
+
+    if (args == null)
+      return;
+
+    final String ops = args.toUpperCase();
+    char state = ' ';
+    final StringBuilder number = new StringBuilder();
+
+    for (int pos = 0; pos < ops.length(); ++pos) {
+      final char c = ops.charAt(pos);
+
+      if (c == ' ' || c == 'E' || c == 'X') {
+        state = assignState(state, number, c);
+      } else if (c >= '0' && c <= '9')
+        number.append(c);
+      else
+        throw new IllegalArgumentException(
+            "Character '" + c + "' is not valid on " + getName() + " workload. " + INVALID_FORM_MESSAGE);
+    }
+    assignState(state, number, ' ');
+
+    if (edges <= 0 || result.total <= 0)
+      throw new IllegalArgumentException(INVALID_FORM_MESSAGE);
+  }
+
+  @Override
+  public void execute(final OStressTesterSettings settings, final ODatabaseIdentifier databaseIdentifier) {
+    connectionStrategy = settings.loadBalancing;
+
+    // CREATE THE SUPERNODE CONNECTING NEIGHBOURS IN RANDOM ORDER
+    final OrientGraphNoTx g = getGraphNoTx(databaseIdentifier);
+    try {
+      if (g.getVertexType(className) == null)
+        g.createVertexType(className);
+
+      final List<OrientVertex> neighbours = new ArrayList<OrientVertex>(edges);
+      for (int i = 0; i < edges; ++i)
+        neighbours.add(g.addVertex("class:" + className, "_id", i));
+
+      Collections.shuffle(neighbours, new Random(edges));
+
+      final OrientVertex hub = g.addVertex("class:" + className, "_id", -1);
+      for (OrientVertex neighbour : neighbours)
+        hub.addEdge("E", neighbour);
+
+      supernode = hub.getIdentity();
+    } finally {
+      g.shutdown();
+    }
+
+    executeOperation(databaseIdentifier, result, settings, new OCallable<Void, OBaseWorkLoadContext>() {
+      @Override
+      public Void call(final OBaseWorkLoadContext context) {
+        final OrientBaseGraph graph = ((OWorkLoadContext) context).graph;
+
+        final Iterable<OrientVertex> commandResult = graph.command(new OCommandSQL("select expand(out()) from ?")).execute(supernode);
+
+        long loaded = 0;
+        for (OrientVertex v : commandResult)
+          if (v.getRecord() != null)
+            loaded++;
+
+        loadedNeighbours.addAndGet(loaded);
+        result.current.incrementAndGet();
+
+        return null;
+      }
+    });
+  }
+
+  @Override
+  public String getPartialResult() {
+    return String.format("%d%% [Supernode expansions (edges=%d) executed: %d/%d]", ((100 * result.current.get() / result.total)),
+        edges, result.current.get(), result.total);
+  }
+
+  @Override
+  public String getFinalResult() {
+    final StringBuilder buffer = new StringBuilder(getErrors());
+
+    buffer.append(String.format("- Expanded supernode with %d edges %d times in %.3f secs", edges, result.current.get(),
+        result.totalTime / 1000f));
+    buffer.append(String.format("\n- Loaded neighbours: %d, %.3f neighbours/sec", loadedNeighbours.get(),
+        result.totalTime > 0 ? loadedNeighbours.get() * 1000f / result.totalTime : 0f));
+    buffer.append(result.toOutput(1));
+
+    return buffer.toString();
+  }
+
+  @Override
+  public String getFinalResultAsJson() {
+    final ODocument json = new ODocument();
+
+    json.field("type", getName());
+    json.field("edges", edges);
+    json.field("loadedNeighbours", loadedNeighbours.get());
+
+    json.field("expansions", result.toJSON(), OType.EMBEDDED);
+
+    return json.toJSON("");
+  }
+
+  private char assignState(final char state, final StringBuilder number, final char c) {
+    if (number.length() > 0) {
+      if (state == 'E')
+        edges = Integer.parseInt(number.toString());
+      else if (state == 'X')
+        result.total = Integer.parseInt(number.toString());
+    }
+
+    number.setLength(0);
+    return c;
+  }
+
+  public int getEdges() {
+    return edges;
+  }
+
+  public int getExpansions() {
+    return result.total;
+  }
+}
@@ -54,6 +54,7 @@ import com.orientechnologies.orient.core.sql.OCommandSQL;
 import com.orientechnologies.orient.core.storage.OStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OAbstractPaginatedStorage;
 import com.orientechnologies.orient.core.storage.impl.local.OStorageRecoverListener;
+import com.orientechnologies.orient.graph.analytics.OGraphAnalytics;
 import com.tinkerpop.blueprints.*;
 import com.tinkerpop.blueprints.util.ExceptionFactory;
 import com.tinkerpop.blueprints.util.StringFactory;
@@ -1189,6 +1190,16 @@ public abstract class OrientBaseGraph extends OrientConfigurableGraph implements
     return getDatabase();
   }
 
+  /**
+   * Returns the entry point of the whole graph algorithms, like PageRank and connected components, executed on a snapshot of the
+   * graph topology.
+   */
+  public OGraphAnalytics getAnalytics() {
+    makeActive();
+
+    return new OGraphAnalytics(this);
+  }
+
   /**
    * begins current transaction (if the graph is transactional)
    */
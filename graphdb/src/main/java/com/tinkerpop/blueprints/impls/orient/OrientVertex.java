@@ -23,16 +23,21 @@ package com.tinkerpop.blueprints.impls.orient;
 import com.orientechnologies.common.collection.OMultiCollectionIterator;
 import com.orientechnologies.common.log.OLogManager;
 import com.orientechnologies.common.util.OPair;
+import com.orientechnologies.common.util.OResettable;
+import com.orientechnologies.common.util.OSizeable;
 import com.orientechnologies.common.util.OTriple;
 import com.orientechnologies.orient.core.command.OCommandPredicate;
 import com.orientechnologies.orient.core.command.traverse.OTraverse;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
 import com.orientechnologies.orient.core.db.record.OAutoConvertToRecord;
 import com.orientechnologies.orient.core.db.record.OIdentifiable;
 import com.orientechnologies.orient.core.db.record.ORecordLazyList;
 import com.orientechnologies.orient.core.db.record.ORecordLazyMultiValue;
 import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.exception.OSchemaException;
 import com.orientechnologies.orient.core.id.ORID;
 import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.iterator.OSortedRidIterator;
 import com.orientechnologies.orient.core.metadata.schema.*;
 import com.orientechnologies.orient.core.record.ORecord;
 import com.orientechnologies.orient.core.record.ORecordInternal;
@@ -57,6 +62,19 @@ public class OrientVertex extends OrientElement implements OrientExtendedVertex
 
   private static final long serialVersionUID = 1L;
 
+  /**
+   * Receives the connections browsed by {@link OrientVertex#browseConnections(Direction, ConnectionListener, String...)}.
+   */
+  public interface ConnectionListener {
+    /**
+     * @param iEdge   Edge record, partially unmarshalled, or <code>null</code> if vertices are connected by a lightweight edge
+     * @param iVertex Identity of the vertex on the other side of the connection, the vertex is not loaded
+     *
+     * @return <code>false</code> to stop browsing
+     */
+    boolean onConnection(ODocument iEdge, OIdentifiable iVertex);
+  }
+
   /**
    * (Internal) Called by serialization.
    */
@@ -394,6 +412,24 @@ public class OrientVertex extends OrientElement implements OrientExtendedVertex
    */
   @Override
   public Iterable<Vertex> getVertices(final Direction iDirection, final String... iLabels) {
+    return getVertices(iDirection, 0, iLabels);
+  }
+
+  /**
+   * Returns a lazy iterable instance against vertices which resolves connections in batches to the vertices on the other side,
+   * loads the vertices of each batch in the order they are placed in clusters and returns them in such order. It avoids random
+   * reads in order of edge creation when vertex with huge amount of edges is expanded. Batches grow up to
+   * {@link OGlobalConfiguration#RID_BAG_SORTED_ITERATION_BATCH_SIZE} neighbours, see {@link OSortedRidIterator}. If the setting is
+   * not positive, which is the default, result is the same as of {@link #getVertices(Direction, String...)}.
+   *
+   * @param iDirection The direction between OUT, IN or BOTH
+   * @param iLabels    Optional varargs of Strings representing edge label to consider
+   */
+  public Iterable<Vertex> getVerticesInPageOrder(final Direction iDirection, final String... iLabels) {
+    return getVertices(iDirection, OGlobalConfiguration.RID_BAG_SORTED_ITERATION_BATCH_SIZE.getValueAsInteger(), iLabels);
+  }
+
+  protected Iterable<Vertex> getVertices(final Direction iDirection, final int iSortBatchSize, final String... iLabels) {
     setCurrentGraphInThreadLocal();
 
     OrientBaseGraph.getEdgeClassNames(getGraph(), iLabels);
@@ -426,19 +462,197 @@ public class OrientVertex extends OrientElement implements OrientExtendedVertex
           } else {
             // CREATE LAZY Iterable AGAINST COLLECTION FIELD
             if (coll instanceof ORecordLazyMultiValue)
-              iterable.add(new OrientVertexIterator(this, coll, ((ORecordLazyMultiValue) coll).rawIterator(), connection, iLabels,
-                  coll.size()));
+              iterable.add(new OrientVertexIterator(this, coll, getConnectedVertices(((ORecordLazyMultiValue) coll).rawIterator(),
+                  connection, iSortBatchSize, iLabels), connection, iLabels, coll.size()));
             else
-              iterable.add(new OrientVertexIterator(this, coll, coll.iterator(), connection, iLabels, -1));
+              iterable.add(new OrientVertexIterator(this, coll, getConnectedVertices(coll.iterator(), connection, iSortBatchSize,
+                  iLabels), connection, iLabels, -1));
           }
         } else if (fieldValue instanceof ORidBag) {
-          iterable.add(new OrientVertexIterator(this, fieldValue, ((ORidBag) fieldValue).rawIterator(), connection, iLabels, -1));
+          iterable.add(new OrientVertexIterator(this, fieldValue, getConnectedVertices(((ORidBag) fieldValue).rawIterator(),
+              connection, iSortBatchSize, iLabels), connection, iLabels, -1));
         }
     }
 
     return iterable;
   }
 
+  /**
+   * Returns the iterator to pass to {@link OrientVertexIterator} for the connections of a field. If a sort batch size is passed the
+   * connections are resolved to the vertices on the other side, which are loaded in batches in page order.
+   */
+  private Iterator<?> getConnectedVertices(final Iterator<?> iConnections, final OPair<Direction, String> iConnection,
+      final int iSortBatchSize, final String[] iLabels) {
+    if (iSortBatchSize <= 0)
+      return iConnections;
+
+    return new OSortedRidIterator(new ConnectedVertexIterator(iConnections, iConnection.getKey(), iLabels), iSortBatchSize, true);
+  }
+
+  /**
+   * (Internal only) Browses the connections of the vertex without creating graph elements and without loading connected
+   * vertices. The kind of every connection is resolved by the cluster of the connected record, so edge records are the only
+   * records loaded and only the fields read from them, like the opposite vertex and the weight, are unmarshalled. Used by
+   * the path finding functions which visit many vertices but need only their identities.
+   *
+   * @param iDirection The direction between OUT, IN or BOTH
+   * @param iListener  Listener which receives the connections
+   * @param iLabels    Optional varargs of Strings representing edge label to consider
+   *
+   * @return <code>false</code> if browsing has been stopped by the listener
+   */
+  public boolean browseConnections(final Direction iDirection, final ConnectionListener iListener, final String... iLabels) {
+    setCurrentGraphInThreadLocal();
+
+    OrientBaseGraph.getEdgeClassNames(getGraph(), iLabels);
+    OrientBaseGraph.encodeClassNames(iLabels);
+
+    final ODocument doc = getRecord();
+    final OImmutableSchema schema = getGraph().getRawGraph().getMetadata().getImmutableSchemaSnapshot();
+
+    for (OTriple<String, Direction, String> connectionField : getConnectionFields(iDirection, iLabels)) {
+      final Object fieldValue = doc.rawField(connectionField.getKey());
+      if (fieldValue == null)
+        continue;
+
+      final Direction connectionDirection = connectionField.getValue().getKey();
+
+      if (fieldValue instanceof OIdentifiable) {
+        if (!browseConnection(schema, (OIdentifiable) fieldValue, connectionDirection, iListener, iLabels))
+          return false;
+        continue;
+      }
+
+      final Iterator<?> iterator;
+      if (fieldValue instanceof ORecordLazyMultiValue)
+        iterator = ((ORecordLazyMultiValue) fieldValue).rawIterator();
+      else if (fieldValue instanceof ORidBag)
+        iterator = ((ORidBag) fieldValue).rawIterator();
+      else if (fieldValue instanceof Collection<?>)
+        iterator = ((Collection<?>) fieldValue).iterator();
+      else
+        continue;
+
+      while (iterator.hasNext()) {
+        final Object connection = iterator.next();
+        if (connection instanceof OIdentifiable && !browseConnection(schema, (OIdentifiable) connection, connectionDirection,
+            iListener, iLabels))
+          return false;
+      }
+    }
+
+    return true;
+  }
+
+  private boolean browseConnection(final OImmutableSchema schema, final OIdentifiable iConnection, final Direction iDirection,
+      final ConnectionListener iListener, final String[] iLabels) {
+    OClass cls = null;
+    final ORID rid = iConnection.getIdentity();
+    if (rid.isPersistent() && !(iConnection instanceof ODocument))
+      try {
+        cls = schema.getClassByClusterId(rid.getClusterId());
+      } catch (OSchemaException e) {
+        // CLUSTERS CAN BE SHARED AMONG CLASSES IN THIS DATABASE, CLASS IS RESOLVED BY THE RECORD
+      }
+
+    ODocument record = null;
+    if (!(cls instanceof OImmutableClass)) {
+      final ORecord rec = iConnection.getRecord();
+      if (!(rec instanceof ODocument))
+        return true;
+
+      record = (ODocument) rec;
+      cls = ODocumentInternal.getImmutableSchemaClass(record);
+    }
+
+    final OImmutableClass immutableClass = (OImmutableClass) cls;
+    if (immutableClass != null && immutableClass.isVertexType())
+      // DIRECT VERTEX: NOTHING TO LOAD
+      return iListener.onConnection(null, iConnection);
+
+    if (immutableClass != null && immutableClass.isEdgeType()) {
+      if (record == null) {
+        final ORecord rec = iConnection.getRecord();
+        if (!(rec instanceof ODocument))
+          return true;
+        record = (ODocument) rec;
+      }
+
+      if (!settings.isUseVertexFieldsForEdgeLabels() && !OrientEdge.isLabeled(OrientEdge.getRecordLabel(record), iLabels))
+        return true;
+
+      final OIdentifiable vertex = OrientEdge.getConnection(record, iDirection.opposite());
+      return vertex == null || iListener.onConnection(record, vertex);
+    }
+
+    throw new IllegalStateException("Invalid content found between connections: " + iConnection);
+  }
+
+  /**
+   * Iterator over the identities of the vertices on the other side of connections. Edge records are loaded to read the vertex,
+   * vertices are not loaded.
+   */
+  private class ConnectedVertexIterator implements Iterator<OIdentifiable>, OResettable, OSizeable, ConnectionListener {
+    private final Iterator<?>      connections;
+    private final Direction        direction;
+    private final String[]         labels;
+    private final OImmutableSchema schema;
+    private OIdentifiable          nextVertex;
+
+    private ConnectedVertexIterator(final Iterator<?> iConnections, final Direction iDirection, final String[] iLabels) {
+      connections = iConnections;
+      direction = iDirection;
+      labels = iLabels;
+      schema = getGraph().getRawGraph().getMetadata().getImmutableSchemaSnapshot();
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (nextVertex == null && connections.hasNext()) {
+        final Object connection = connections.next();
+        if (connection instanceof OIdentifiable)
+          browseConnection(schema, (OIdentifiable) connection, direction, this, labels);
+      }
+      return nextVertex != null;
+    }
+
+    @Override
+    public OIdentifiable next() {
+      if (!hasNext())
+        throw new NoSuchElementException();
+
+      final OIdentifiable vertex = nextVertex;
+      nextVertex = null;
+      return vertex;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("remove");
+    }
+
+    @Override
+    public void reset() {
+      if (connections instanceof OResettable)
+        ((OResettable) connections).reset();
+      nextVertex = null;
+    }
+
+    @Override
+    public int size() {
+      if (connections instanceof OSizeable)
+        return ((OSizeable) connections).size();
+
+      return 0;
+    }
+
+    @Override
+    public boolean onConnection(final ODocument iEdge, final OIdentifiable iVertex) {
+      nextVertex = iVertex;
+      return true;
+    }
+  }
+
   /**
    * Executes a query against the current vertex. The returning type is a OrientVertexQuery.
    */
@@ -814,7 +1028,56 @@ public class OrientVertex extends OrientElement implements OrientExtendedVertex
    * @return
    */
   public Iterable<Edge> getEdges(final OrientVertex iDestination, final Direction iDirection, final String... iLabels) {
+    if (iDestination != null && settings.isUseVertexFieldsForEdgeLabels() && getIdentity().isPersistent()
+        && iDestination.getIdentity().isPersistent() && !getIdentity().equals(iDestination.getIdentity())) {
+      // THE SAME EDGES ARE KEPT BY BOTH THE VERTICES: BROWSE THE ONE WITH LESS EDGES, IF BOTH THE SIZES ARE KNOWN WITHOUT A SCAN
+      final String[] labels = iLabels != null ? iLabels.clone() : null;
+      OrientBaseGraph.getEdgeClassNames(getGraph(), labels);
+      OrientBaseGraph.encodeClassNames(labels);
+
+      final long sourceEdges = countEdgesWithoutScan(iDirection, labels);
+      if (sourceEdges > 0) {
+        final long destinationEdges = iDestination.countEdgesWithoutScan(iDirection.opposite(), labels);
+        if (destinationEdges > -1 && destinationEdges < sourceEdges)
+          return iDestination.getEdgesFromSource(this, iDirection.opposite(), iLabels);
+      }
+    }
+
+    return getEdgesFromSource(iDestination, iDirection, iLabels);
+  }
+
+  /**
+   * Counts the edges like {@link #countEdges(Direction, String...)} reading only the sizes of the edge fields, with labels already
+   * encoded.
+   *
+   * @return the number of edges, or -1 if the size of a tree based bag of edges is not known without browsing it
+   */
+  private long countEdgesWithoutScan(final Direction iDirection, final String[] iLabels) {
+    checkIfAttached();
+
+    long counter = 0;
+    final ODocument doc = getRecord();
+    for (String fieldName : doc.fieldNames()) {
+      if (getConnection(iDirection, fieldName, iLabels) == null)
+        // SKIP THIS FIELD
+        continue;
+
+      final Object fieldValue = doc.rawField(fieldName);
+      if (fieldValue instanceof ORidBag) {
+        if (!((ORidBag) fieldValue).isSizeKnown())
+          return -1;
+        counter += ((ORidBag) fieldValue).size();
+      } else if (fieldValue instanceof Collection<?>)
+        counter += ((Collection<?>) fieldValue).size();
+      else if (fieldValue instanceof Map<?, ?>)
+        counter += ((Map<?, ?>) fieldValue).size();
+      else if (fieldValue != null)
+        counter++;
+    }
+    return counter;
+  }
 
+  private Iterable<Edge> getEdgesFromSource(final OrientVertex iDestination, final Direction iDirection, final String... iLabels) {
     setCurrentGraphInThreadLocal();
 
     final ODocument doc = getRecord();
@@ -0,0 +1,69 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.graph.stresstest.OGraphBatchInsertWorkload;
+import com.orientechnologies.orient.stresstest.ODatabaseIdentifier;
+import com.orientechnologies.orient.stresstest.OStressTester;
+import com.orientechnologies.orient.stresstest.OStressTesterSettings;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for Graph batch insert workload.
+ */
+public class TestGraphBatchInsertWorkload {
+
+  @Test
+  public void testParsing() throws Exception {
+    final OGraphBatchInsertWorkload workload = new OGraphBatchInsertWorkload();
+    workload.parseParameters("V1000E5W3");
+    Assert.assertEquals(1000, workload.getVertices());
+    Assert.assertEquals(5, workload.getEdgesPerVertex());
+    Assert.assertEquals(3, workload.getWriters());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidParameters() throws Exception {
+    new OGraphBatchInsertWorkload().parseParameters("V1000X5");
+  }
+
+  @Test
+  public void testExecution() throws Exception {
+    final OStressTesterSettings settings = new OStressTesterSettings();
+    settings.dbName = "TestGraphBatchInsertWorkload";
+    settings.mode = OStressTester.OMode.MEMORY;
+    settings.concurrencyLevel = 2;
+
+    final OGraphBatchInsertWorkload workload = new OGraphBatchInsertWorkload();
+    workload.parseParameters("V200E3W2");
+    final ODatabaseIdentifier databaseIdentifier = new ODatabaseIdentifier(settings);
+    workload.execute(settings, databaseIdentifier);
+
+    final ODatabaseDocumentTx db = new ODatabaseDocumentTx(databaseIdentifier.getUrl()).open("admin", "admin");
+    try {
+      Assert.assertEquals(200, db.countClass("BatchVertex"));
+    } finally {
+      db.drop();
+    }
+    Assert.assertTrue(workload.getFinalResult().contains("200 vertices and 600 edges"));
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient;
+
+import com.orientechnologies.orient.graph.stresstest.OGraphSupernodeWorkload;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for Graph supernode expansion workload.
+ */
+public class TestSupernodeWorkload {
+
+  @Test
+  public void testParsing() throws Exception {
+    final OGraphSupernodeWorkload workload = new OGraphSupernodeWorkload();
+    workload.parseParameters("E1000X5");
+    Assert.assertEquals(1000, workload.getEdges());
+    Assert.assertEquals(5, workload.getExpansions());
+
+    new OGraphSupernodeWorkload().parseParameters("");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidParameters() throws Exception {
+    new OGraphSupernodeWorkload().parseParameters("E1000Y5");
+  }
+}
@@ -0,0 +1,204 @@
+package com.orientechnologies.orient.graph.analytics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import com.tinkerpop.blueprints.impls.orient.OrientGraphNoTx;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+
+public class OGraphAnalyticsTest {
+  private static int      dbCounter = 0;
+
+  private OrientGraphNoTx graph;
+
+  @Before
+  public void setUp() {
+    graph = new OrientGraphNoTx("memory:OGraphAnalyticsTest" + dbCounter++);
+    graph.createEdgeType("Link");
+    graph.createEdgeType("Other");
+  }
+
+  @After
+  public void tearDown() {
+    graph.drop();
+  }
+
+  @Test
+  public void testConnectedComponents() {
+    final OrientVertex[] v = createVertices(6);
+    // A CYCLE, A PAIR CONNECTED BY AN INCOMING EDGE AND AN ISOLATED VERTEX
+    graph.addEdge(null, v[0], v[1], "Link");
+    graph.addEdge(null, v[1], v[2], "Link");
+    graph.addEdge(null, v[2], v[0], "Link");
+    graph.addEdge(null, v[4], v[3], "Link");
+
+    final OGraphAnalyticsResult result = graph.getAnalytics().connectedComponents();
+    assertEquals(6, result.size());
+
+    final int[] components = valuesOf(result, v);
+    assertEquals(components[0], components[1]);
+    assertEquals(components[0], components[2]);
+    assertEquals(components[3], components[4]);
+    assertNotEquals(components[0], components[3]);
+    assertNotEquals(components[0], components[5]);
+    assertNotEquals(components[3], components[5]);
+
+    // NUMBERED FROM 0
+    final Set<Integer> distinct = new HashSet<Integer>();
+    for (int component : components)
+      distinct.add(component);
+    assertEquals(3, distinct.size());
+    assertTrue(distinct.contains(0) && distinct.contains(1) && distinct.contains(2));
+  }
+
+  @Test
+  public void testConnectedComponentsFollowOnlyRequestedEdges() {
+    final OrientVertex[] v = createVertices(3);
+    graph.addEdge(null, v[0], v[1], "Link");
+    graph.addEdge(null, v[1], v[2], "Other");
+
+    final int[] components = valuesOf(graph.getAnalytics().setEdgeClasses("Link").connectedComponents(), v);
+    assertEquals(components[0], components[1]);
+    assertNotEquals(components[1], components[2]);
+  }
+
+  @Test
+  public void testPageRank() {
+    final OrientVertex[] v = createVertices(5);
+    graph.addEdge(null, v[0], v[1], "Link");
+    graph.addEdge(null, v[1], v[2], "Link");
+    graph.addEdge(null, v[2], v[0], "Link");
+    // v[4] IS POINTED BY v[3], v[3] BY NOBODY
+    graph.addEdge(null, v[3], v[4], "Link");
+
+    final OGraphAnalyticsResult result = graph.getAnalytics().setMaxIterations(100).setTolerance(1e-9).pageRank();
+
+    double sum = 0;
+    final double[] ranks = new double[v.length];
+    for (int i = 0; i < result.size(); i++)
+      sum += result.getValue(i).doubleValue();
+    for (int i = 0; i < v.length; i++)
+      ranks[i] = result.getValue(result.getVertexIndex(v[i])).doubleValue();
+
+    assertEquals(1.0, sum, 1e-6);
+    assertEquals(ranks[0], ranks[1], 1e-6);
+    assertEquals(ranks[0], ranks[2], 1e-6);
+    assertTrue(ranks[4] > ranks[3]);
+    assertTrue(result.getIterations() > 1);
+  }
+
+  @Test
+  public void testLabelPropagation() {
+    final OrientVertex[] v = createVertices(8);
+    // TWO CLIQUES OF 4 VERTICES CONNECTED BY A SINGLE EDGE
+    for (int c = 0; c < 8; c += 4)
+      for (int i = c; i < c + 4; i++)
+        for (int j = i + 1; j < c + 4; j++)
+          graph.addEdge(null, v[i], v[j], "Link");
+    graph.addEdge(null, v[3], v[4], "Link");
+
+    final int[] communities = valuesOf(graph.getAnalytics().labelPropagation(), v);
+    for (int i = 1; i < 4; i++) {
+      assertEquals(communities[0], communities[i]);
+      assertEquals(communities[4], communities[4 + i]);
+    }
+    assertNotEquals(communities[0], communities[4]);
+  }
+
+  @Test
+  public void testParallelIterationsGiveSameResults() {
+    // A CHAIN OF RINGS BIG ENOUGH TO BE SPLIT IN SEVERAL RANGES
+    final OrientVertex[] v = createVertices(10000);
+    for (int i = 0; i < v.length; i++)
+      if (i % 1000 != 999)
+        graph.addEdge(null, v[i], v[i + 1], "Link");
+      else
+        graph.addEdge(null, v[i], v[i - 999], "Link");
+
+    final int[] sequential = valuesOf(graph.getAnalytics().setThreads(1).connectedComponents(), v);
+    final int[] parallel = valuesOf(graph.getAnalytics().setThreads(4).connectedComponents(), v);
+    for (int i = 0; i < v.length; i++)
+      assertEquals(sequential[i], parallel[i]);
+
+    final Set<Integer> distinct = new HashSet<Integer>();
+    for (int component : parallel)
+      distinct.add(component);
+    assertEquals(10, distinct.size());
+
+    final OGraphAnalyticsResult sequentialRanks = graph.getAnalytics().setThreads(1).pageRank();
+    final OGraphAnalyticsResult parallelRanks = graph.getAnalytics().setThreads(4).pageRank();
+    for (int i = 0; i < sequentialRanks.size(); i++)
+      assertEquals(sequentialRanks.getValue(i).doubleValue(), parallelRanks.getValue(i).doubleValue(), 0);
+  }
+
+  @Test
+  public void testWrite() {
+    final OrientVertex[] v = createVertices(5);
+    graph.addEdge(null, v[0], v[1], "Link");
+    graph.addEdge(null, v[2], v[3], "Link");
+
+    final OGraphAnalyticsResult result = graph.getAnalytics().connectedComponents();
+    assertEquals(5, result.write("component", 2));
+
+    for (int i = 0; i < v.length; i++) {
+      v[i].reload();
+      assertEquals(result.getValue(result.getVertexIndex(v[i])), v[i].getProperty("component"));
+    }
+  }
+
+  @Test
+  public void testSQLFunctions() {
+    final OrientVertex[] v = createVertices(4);
+    graph.addEdge(null, v[0], v[1], "Link");
+    graph.addEdge(null, v[2], v[3], "Other");
+
+    List<ODocument> result = graph.getRawGraph().query(
+        new OSQLSynchQuery<ODocument>("select connectedComponents() as components"));
+    assertEquals(1, result.size());
+    List<ODocument> components = result.get(0).field("components");
+    assertEquals(4, components.size());
+    for (ODocument component : components)
+      assertTrue(component.field("component") instanceof Integer);
+
+    final List<ODocument> stats = graph.getRawGraph().command(
+        new OCommandSQL("select pageRank({edgeTypeNames:['Link'], writeProperty:'rank', batchSize:3}) as stats")).execute();
+    final ODocument statsDoc = stats.get(0).field("stats");
+    assertEquals(4, (int) statsDoc.<Integer> field("vertices"));
+    assertEquals(4L, (long) statsDoc.<Long> field("written"));
+
+    for (OrientVertex vertex : v) {
+      vertex.reload();
+      assertTrue(vertex.getProperty("rank") instanceof Double);
+    }
+
+    result = graph.getRawGraph().query(new OSQLSynchQuery<ODocument>(
+        "select labelPropagation({maxIterations:5}) as communities"));
+    assertEquals(4, ((List<?>) result.get(0).field("communities")).size());
+  }
+
+  private OrientVertex[] createVertices(final int count) {
+    final OrientVertex[] vertices = new OrientVertex[count];
+    for (int i = 0; i < count; i++)
+      vertices[i] = graph.addVertex(null);
+    return vertices;
+  }
+
+  private static int[] valuesOf(final OGraphAnalyticsResult result, final OrientVertex[] vertices) {
+    final int[] values = new int[vertices.length];
+    for (int i = 0; i < vertices.length; i++)
+      values[i] = result.getValue(result.getVertexIndex(vertices[i])).intValue();
+    return values;
+  }
+}
@@ -0,0 +1,220 @@
+package com.orientechnologies.orient.graph.batch;
+
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OGraphParallelBatchInsertTest {
+  private static int          dbCounter = 0;
+
+  private String              dbUrl;
+  private ODatabaseDocumentTx db;
+
+  @Before
+  public void before() {
+    dbUrl = "memory:OGraphParallelBatchInsertTest" + dbCounter++;
+  }
+
+  @After
+  public void after() {
+    if (db != null) {
+      db.activateOnCurrentThread();
+      db.drop();
+    }
+  }
+
+  @Test
+  public void testConcurrentCreation() throws Exception {
+    final OGraphParallelBatchInsert batch = new OGraphParallelBatchInsert(dbUrl);
+    batch.setParallel(3);
+    batch.setVertexClass("Person");
+    batch.setEdgeClass("Knows");
+    batch.begin();
+
+    // 4 THREADS, EVERY PERSON KNOWS THE NEXT 3
+    final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+    final List<Thread> threads = new ArrayList<Thread>();
+    for (int t = 0; t < 4; t++) {
+      final int thread = t;
+      threads.add(new Thread() {
+        @Override
+        public void run() {
+          try {
+            for (int i = thread; i < 1000; i += 4) {
+              final Map<String, Object> properties = new HashMap<String, Object>();
+              properties.put("age", i % 50);
+              batch.createVertex("p" + i, properties);
+              for (int k = 1; k <= 3; k++)
+                batch.createEdge("p" + i, "p" + ((i + k) % 1000), null);
+            }
+          } catch (Throwable e) {
+            error.set(e);
+          }
+        }
+      });
+    }
+    for (Thread thread : threads)
+      thread.start();
+    for (Thread thread : threads)
+      thread.join();
+    assertNull(error.get());
+
+    assertEquals(1000, batch.getCreatedVertices());
+    assertEquals(3000, batch.getCreatedEdges());
+    batch.end();
+
+    openDatabase();
+    assertEquals(1000, db.countClass("Person"));
+    assertEquals(0, db.countClass("Knows"));
+
+    final ODocument p10 = query("select from Person where uid = 'p10'").get(0);
+    assertEquals(10, p10.field("age"));
+    assertEquals(set("p11", "p12", "p13"), names(query("select expand(out('Knows')) from Person where uid = 'p10'")));
+    assertEquals(set("p7", "p8", "p9"), names(query("select expand(in('Knows')) from Person where uid = 'p10'")));
+    assertEquals(set("p999", "p998", "p997"), names(query("select expand(in('Knows')) from Person where uid = 'p0'")));
+  }
+
+  @Test
+  public void testSpilledEdges() {
+    final OGraphParallelBatchInsert batch = new OGraphParallelBatchInsert(dbUrl);
+    batch.setParallel(2);
+    batch.setEdgeBufferSize(100);
+    batch.begin();
+
+    for (long i = 0; i < 500; i++) {
+      batch.createEdge(i, (i + 1) % 500, null);
+      batch.createEdge(i, (i + 7) % 500, null);
+    }
+    assertTrue(batch.getSpilledRuns() > 10);
+    batch.end();
+
+    openDatabase();
+    assertEquals(500, db.countClass("V"));
+    for (ODocument v : query("select uid, out().uid as out, in().uid as in from V")) {
+      final long uid = v.field("uid");
+      assertEquals(set((uid + 1) % 500, (uid + 7) % 500), new HashSet<Object>((List<Object>) v.field("out")));
+      assertEquals(set((uid + 499) % 500, (uid + 493) % 500), new HashSet<Object>((List<Object>) v.field("in")));
+    }
+  }
+
+  @Test
+  public void testEdgesWithProperties() {
+    final OGraphParallelBatchInsert batch = new OGraphParallelBatchInsert(dbUrl);
+    batch.setParallel(2);
+    batch.setEdgeClass("Knows");
+    batch.begin();
+
+    final Map<String, Object> properties = new HashMap<String, Object>();
+    properties.put("since", 2010);
+    batch.createEdge("a", "b", properties);
+    batch.createEdge("a", "c", null);
+    batch.createVertex("d");
+    batch.end();
+
+    openDatabase();
+    assertEquals(4, db.countClass("V"));
+
+    final List<ODocument> edges = query("select from Knows");
+    assertEquals(1, edges.size());
+    assertEquals(2010, edges.get(0).field("since"));
+    assertEquals("a", ((ODocument) edges.get(0).field("out")).field("uid"));
+    assertEquals("b", ((ODocument) edges.get(0).field("in")).field("uid"));
+
+    assertEquals(set("b", "c"), names(query("select expand(out('Knows')) from V where uid = 'a'")));
+    assertEquals(set("a"), names(query("select expand(in('Knows')) from V where uid = 'b'")));
+    assertEquals(0, query("select expand(both()) from V where uid = 'd'").size());
+  }
+
+  @Test
+  public void testPropertiesOfExistingVertex() {
+    final OGraphParallelBatchInsert batch = new OGraphParallelBatchInsert(dbUrl);
+    batch.setParallel(2);
+    batch.begin();
+
+    batch.createEdge(0L, 1L, null);
+    final Map<String, Object> properties = new HashMap<String, Object>();
+    properties.put("foo", "bar");
+    batch.createVertex(0L, properties);
+    batch.end();
+
+    openDatabase();
+    final ODocument v = query("select from V where uid = 0").get(0);
+    assertEquals("bar", v.field("foo"));
+    assertEquals(1, query("select expand(out()) from V where uid = 0").size());
+  }
+
+  @Test
+  public void testBonsai() {
+    final OGraphParallelBatchInsert batch = new OGraphParallelBatchInsert(dbUrl);
+    batch.setParallel(2);
+    batch.setBonsaiThreshold(10);
+    batch.begin();
+
+    for (int i = 1; i <= 50; i++)
+      batch.createEdge("hub", "n" + i, null);
+    batch.createEdge("n1", "n2", null);
+    batch.end();
+
+    openDatabase();
+    final ODocument hub = query("select from V where uid = 'hub'").get(0);
+    final ORidBag hubBag = hub.field("out_");
+    assertFalse(hubBag.isEmbedded());
+    assertEquals(50, hubBag.size());
+
+    final Set<OIdentifiable> neighbours = new HashSet<OIdentifiable>();
+    for (OIdentifiable neighbour : hubBag)
+      neighbours.add(neighbour);
+    assertEquals(50, neighbours.size());
+
+    final ODocument n1 = query("select from V where uid = 'n1'").get(0);
+    assertTrue(((ORidBag) n1.field("out_")).isEmbedded());
+    assertEquals(50, query("select expand(out()) from V where uid = 'hub'").size());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testNotStarted() {
+    new OGraphParallelBatchInsert(dbUrl).createVertex("a");
+  }
+
+  private void openDatabase() {
+    db = new ODatabaseDocumentTx(dbUrl);
+    db.open("admin", "admin");
+  }
+
+  private List<ODocument> query(final String query) {
+    return db.command(new OCommandSQL(query)).execute();
+  }
+
+  private static Set<Object> names(final List<ODocument> vertices) {
+    final Set<Object> names = new HashSet<Object>();
+    for (ODocument v : vertices)
+      names.add(v.field("uid"));
+    return names;
+  }
+
+  private static Set<Object> set(final Object... values) {
+    final Set<Object> set = new HashSet<Object>();
+    for (Object value : values)
+      set.add(value);
+    return set;
+  }
+}
@@ -0,0 +1,147 @@
+package com.orientechnologies.orient.graph.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.orientechnologies.orient.core.cache.OGraphTopologyCache;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+
+public class GraphTopologyCacheTest {
+  private static int          dbCounter = 0;
+
+  private Object              oldCacheSize;
+  private ODatabaseDocumentTx db;
+  private OGraphTopologyCache cache;
+
+  @Before
+  public void setUp() {
+    oldCacheSize = OGlobalConfiguration.GRAPH_TOPOLOGY_CACHE_SIZE.getValue();
+    OGlobalConfiguration.GRAPH_TOPOLOGY_CACHE_SIZE.setValue(1);
+
+    db = new ODatabaseDocumentTx("memory:GraphTopologyCacheTest" + dbCounter++);
+    db.create();
+    cache = OGraphTopologyCache.get(db);
+    assertNotNull(cache);
+
+    db.command(new OCommandSQL("create class Person extends V")).execute();
+    db.command(new OCommandSQL("create class Knows extends E")).execute();
+    for (String name : new String[] { "a", "b", "c", "d" })
+      db.command(new OCommandSQL("create vertex Person set name = ?")).execute(name);
+    createEdge("a", "b");
+    createEdge("a", "c");
+  }
+
+  @After
+  public void tearDown() {
+    db.drop();
+    OGlobalConfiguration.GRAPH_TOPOLOGY_CACHE_SIZE.setValue(oldCacheSize);
+  }
+
+  @Test
+  public void testOutIsCached() {
+    assertEquals(names("b", "c"), friendsOf("a"));
+    final long hits = cache.getHits();
+
+    assertEquals(names("b", "c"), friendsOf("a"));
+    assertEquals(hits + 1, cache.getHits());
+  }
+
+  @Test
+  public void testCreateEdgeInvalidates() {
+    assertEquals(names("b", "c"), friendsOf("a"));
+    createEdge("a", "d");
+    assertEquals(names("b", "c", "d"), friendsOf("a"));
+  }
+
+  @Test
+  public void testDeleteEdgeInvalidates() {
+    assertEquals(names("b", "c"), friendsOf("a"));
+    db.command(new OCommandSQL(
+        "delete edge Knows from (select from Person where name = 'a') to (select from Person where name = 'b')")).execute();
+    assertEquals(names("c"), friendsOf("a"));
+  }
+
+  @Test
+  public void testDeleteVertexInvalidates() {
+    assertEquals(names("b", "c"), friendsOf("a"));
+    db.command(new OCommandSQL("delete vertex Person where name = 'c'")).execute();
+    assertEquals(names("b"), friendsOf("a"));
+  }
+
+  @Test
+  public void testTruncateInvalidates() {
+    assertEquals(names("b", "c"), friendsOf("a"));
+    final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>("select from Person where name = 'a'"));
+    final ODocument a = result.get(0);
+    assertNotNull(cache.get(a.getIdentity(), "OUT", new String[] { "Knows" }));
+
+    // TRUNCATION DOES NOT CALL HOOKS
+    db.command(new OCommandSQL("truncate class Knows unsafe")).execute();
+    assertNull(cache.get(a.getIdentity(), "OUT", new String[] { "Knows" }));
+  }
+
+  @Test
+  public void testMatch() {
+    createEdge("b", "d");
+
+    for (int i = 0; i < 2; i++) {
+      final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>(
+          "match {class: Person, as: p, where: (name = 'a')}.out('Knows').out('Knows'){as: f} return f.name as name"));
+      assertEquals(1, result.size());
+      assertEquals("d", result.get(0).field("name"));
+    }
+    assertTrue(cache.getHits() >= 2);
+  }
+
+  @Test
+  public void testTransactionChangesAreVisible() {
+    assertEquals(names("b", "c"), friendsOf("a"));
+
+    db.begin();
+    try {
+      createEdge("a", "d");
+      assertEquals(names("b", "c", "d"), friendsOf("a"));
+    } finally {
+      db.rollback();
+    }
+
+    assertEquals(names("b", "c"), friendsOf("a"));
+  }
+
+  private void createEdge(final String from, final String to) {
+    db.command(new OCommandSQL(
+        "create edge Knows from (select from Person where name = ?) to (select from Person where name = ?)")).execute(from, to);
+  }
+
+  private Set<String> friendsOf(final String name) {
+    final List<ODocument> result = db
+        .query(new OSQLSynchQuery<ODocument>("select expand(out('Knows')) from Person where name = ?"), name);
+
+    final Set<String> names = new HashSet<String>();
+    for (OIdentifiable friend : result)
+      names.add(((ODocument) friend.getRecord()).<String> field("name"));
+    return names;
+  }
+
+  private static Set<String> names(final String... names) {
+    final Set<String> result = new HashSet<String>();
+    for (String name : names)
+      result.add(name);
+    return result;
+  }
+}
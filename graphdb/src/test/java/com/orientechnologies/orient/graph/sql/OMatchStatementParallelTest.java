@@ -0,0 +1,146 @@
+package com.orientechnologies.orient.graph.sql;
+
+import com.orientechnologies.orient.core.command.OCommandResultListener;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLAsynchQuery;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OMatchStatementParallelTest {
+  private static final int    PEOPLE = 500;
+  private static final String QUERY  = "match {class: Person, as: p}.out('Friend'){as: f}.out('Friend'){as: ff, where: (age < 30)} "
+                                         + "return p.name as p, ff.name as ff";
+
+  private static ODatabaseDocumentTx db;
+  private static Object              minimumRoots;
+
+  @BeforeClass
+  public static void beforeClass() {
+    minimumRoots = OGlobalConfiguration.QUERY_PARALLEL_MATCH_MINIMUM_ROOTS.getValue();
+    OGlobalConfiguration.QUERY_PARALLEL_MATCH_MINIMUM_ROOTS.setValue(50);
+
+    db = new ODatabaseDocumentTx("memory:OMatchStatementParallelTest");
+    db.create();
+    db.command(new OCommandSQL("create class Person extends V")).execute();
+    db.command(new OCommandSQL("create class Friend extends E")).execute();
+    db.command(new OCommandSQL("create property Person.name STRING")).execute();
+    db.command(new OCommandSQL("create index Person.name on Person (name) UNIQUE")).execute();
+
+    for (int i = 0; i < PEOPLE; i++)
+      db.command(new OCommandSQL("create vertex Person set name = ?, age = ?")).execute("p" + i, i % 50);
+
+    // EVERY PERSON IS FRIEND OF THE NEXT 3
+    for (int i = 0; i < PEOPLE; i++)
+      for (int k = 1; k <= 3; k++)
+        db.command(new OCommandSQL("create edge Friend from (select from Person where name = ?) to (select from Person where name = ?)"))
+            .execute("p" + i, "p" + ((i + k) % PEOPLE));
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.drop();
+    OGlobalConfiguration.QUERY_PARALLEL_MATCH_MINIMUM_ROOTS.setValue(minimumRoots);
+  }
+
+  @Test
+  public void testSameResultsAsSequential() {
+    final Set<String> sequential = toPairs(query(QUERY));
+    final Set<String> parallel = toPairs(query(QUERY + " parallel"));
+
+    assertTrue(sequential.size() > 0);
+    assertEquals(sequential, parallel);
+  }
+
+  @Test
+  public void testLimit() {
+    final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>(QUERY + " limit 10 parallel"));
+    assertEquals(10, result.size());
+  }
+
+  @Test
+  public void testStopByListener() {
+    final AtomicInteger received = new AtomicInteger();
+    db.query(new OSQLAsynchQuery<ODocument>(QUERY + " parallel", new OCommandResultListener() {
+      @Override
+      public boolean result(Object iRecord) {
+        return received.incrementAndGet() < 5;
+      }
+
+      @Override
+      public void end() {
+      }
+
+      @Override
+      public Object getResult() {
+        return null;
+      }
+    }));
+    assertEquals(5, received.get());
+  }
+
+  @Test
+  public void testParameters() {
+    final String query = "match {class: Person, as: p, where: (age < ?)}.out('Friend'){as: f} return p.name as p, f.name as ff";
+
+    final Set<String> sequential = toPairs(query(query, 10));
+    final Set<String> parallel = toPairs(query(query + " parallel", 10));
+
+    // 100 PEOPLE ARE YOUNGER THAN 10, EACH ONE WITH 3 FRIENDS
+    assertEquals(300, sequential.size());
+    assertEquals(sequential, parallel);
+  }
+
+  @Test
+  public void testParallelAuto() {
+    final Set<String> sequential = toPairs(query(QUERY));
+
+    final Object parallelAuto = OGlobalConfiguration.QUERY_PARALLEL_AUTO.getValue();
+    OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(true);
+    try {
+      assertEquals(sequential, toPairs(query(QUERY)));
+    } finally {
+      OGlobalConfiguration.QUERY_PARALLEL_AUTO.setValue(parallelAuto);
+    }
+  }
+
+  @Test
+  public void testInTransaction() {
+    db.begin();
+    try {
+      db.command(new OCommandSQL("create edge Friend from (select from Person where name = 'p0') to (select from Person where name = 'p7')"))
+          .execute();
+
+      // THE TRANSACTION IS NOT VISIBLE TO OTHER THREADS, SO THE QUERY RUNS ON THE CURRENT ONE
+      final Set<String> result = toPairs(query(
+          "match {class: Person, as: p}.out('Friend'){as: f, where: (name = 'p7')} return p.name as p, f.name as ff parallel"));
+      assertEquals(4, result.size());
+      assertTrue(result.contains("p0->p7"));
+    } finally {
+      db.rollback();
+    }
+  }
+
+  private static List<ODocument> query(final String query, final Object... args) {
+    return db.command(new OCommandSQL(query)).execute(args);
+  }
+
+  private static Set<String> toPairs(final List<ODocument> result) {
+    final Set<String> pairs = new HashSet<String>();
+    for (ODocument doc : result)
+      pairs.add(doc.field("p") + "->" + doc.field("ff"));
+    return pairs;
+  }
+}
@@ -0,0 +1,121 @@
+package com.orientechnologies.orient.graph.sql;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.OCommandSQL;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class OMatchStatementPlannerTest {
+  private static final String CHAIN_QUERY = "match {class: A, as: a}.out('AB'){class: B, as: b}"
+                                              + ".out('BC'){class: C, as: c, where: (name = 'c0')} return a, b, c";
+  private static final String STAR_QUERY  = "match {class: P, as: p, where: (name = 'p0')}.out('Many'){as: m}, "
+                                              + "{as: p}.out('One'){as: o} return m, o";
+
+  private static ODatabaseDocumentTx db;
+
+  @BeforeClass
+  public static void beforeClass() {
+    db = new ODatabaseDocumentTx("memory:OMatchStatementPlannerTest");
+    db.create();
+
+    // 5 A, EACH ONE CONNECTED TO 20 B, EACH B CONNECTED TO 1 OF 50 C
+    db.command(new OCommandSQL("create class A extends V")).execute();
+    db.command(new OCommandSQL("create class B extends V")).execute();
+    db.command(new OCommandSQL("create class C extends V")).execute();
+    db.command(new OCommandSQL("create class AB extends E")).execute();
+    db.command(new OCommandSQL("create class BC extends E")).execute();
+    for (int i = 0; i < 5; i++)
+      db.command(new OCommandSQL("create vertex A set name = ?")).execute("a" + i);
+    for (int i = 0; i < 50; i++)
+      db.command(new OCommandSQL("create vertex C set name = ?")).execute("c" + i);
+    for (int i = 0; i < 100; i++) {
+      db.command(new OCommandSQL("create vertex B set name = ?")).execute("b" + i);
+      db.command(new OCommandSQL("create edge AB from (select from A where name = ?) to (select from B where name = ?)")).execute(
+          "a" + (i / 20), "b" + i);
+      db.command(new OCommandSQL("create edge BC from (select from B where name = ?) to (select from C where name = ?)")).execute(
+          "b" + i, "c" + (i / 2));
+    }
+
+    // 1 P, CONNECTED TO 30 VERTICES BY 'Many' AND TO 1 BY 'One'
+    db.command(new OCommandSQL("create class P extends V")).execute();
+    db.command(new OCommandSQL("create class Many extends E")).execute();
+    db.command(new OCommandSQL("create class One extends E")).execute();
+    db.command(new OCommandSQL("create vertex P set name = 'p0'")).execute();
+    for (int i = 0; i < 30; i++) {
+      db.command(new OCommandSQL("create vertex set name = ?")).execute("m" + i);
+      db.command(new OCommandSQL("create edge Many from (select from P) to (select from V where name = ?)")).execute("m" + i);
+    }
+    db.command(new OCommandSQL("create vertex set name = 'o0'")).execute();
+    db.command(new OCommandSQL("create edge One from (select from P) to (select from V where name = 'o0')")).execute();
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    db.drop();
+  }
+
+  @Test
+  public void testRootWithCheaperTraversals() {
+    final ODocument plan = explain(CHAIN_QUERY);
+    assertEquals("c", plan.field("root"));
+    assertEquals(25l, plan.field("rootEstimatedRows"));
+    assertEquals(1l, plan.field("rootActualRows"));
+
+    final List<ODocument> steps = plan.field("steps");
+    assertEquals(2, steps.size());
+    assertEquals("c", steps.get(0).field("from"));
+    assertEquals("b", steps.get(0).field("to"));
+    assertEquals("in", steps.get(0).field("direction"));
+    assertEquals(50l, steps.get(0).field("estimatedRows"));
+    assertEquals(2l, steps.get(0).field("actualRows"));
+    assertEquals("a", steps.get(1).field("to"));
+    assertEquals(2l, steps.get(1).field("actualRows"));
+
+    final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>(CHAIN_QUERY));
+    assertEquals(2, result.size());
+  }
+
+  @Test
+  public void testMoreSelectiveEdgeFirst() {
+    final List<ODocument> steps = explain(STAR_QUERY).field("steps");
+    assertEquals(2, steps.size());
+    assertEquals("o", steps.get(0).field("to"));
+    assertEquals(1l, steps.get(0).field("estimatedRows"));
+    assertEquals("m", steps.get(1).field("to"));
+    assertEquals(30l, steps.get(1).field("estimatedRows"));
+    assertEquals(30l, steps.get(1).field("actualRows"));
+
+    final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>(STAR_QUERY));
+    assertEquals(30, result.size());
+  }
+
+  @Test
+  public void testWithoutStatistics() {
+    final Object oldSampleSize = OGlobalConfiguration.QUERY_MATCH_STATISTICS_SAMPLE_SIZE.getValue();
+    OGlobalConfiguration.QUERY_MATCH_STATISTICS_SAMPLE_SIZE.setValue(0);
+    try {
+      // STARTS FROM THE ALIAS WITH LESS CANDIDATES AND FOLLOWS THE ORDER OF THE QUERY
+      assertEquals("a", explain(CHAIN_QUERY).field("root"));
+      final List<ODocument> steps = explain(STAR_QUERY).field("steps");
+      assertEquals("m", steps.get(0).field("to"));
+
+      assertEquals(2, db.query(new OSQLSynchQuery<ODocument>(CHAIN_QUERY)).size());
+      assertEquals(30, db.query(new OSQLSynchQuery<ODocument>(STAR_QUERY)).size());
+    } finally {
+      OGlobalConfiguration.QUERY_MATCH_STATISTICS_SAMPLE_SIZE.setValue(oldSampleSize);
+    }
+  }
+
+  private static ODocument explain(final String query) {
+    final ODocument explain = db.command(new OCommandSQL("explain " + query)).execute();
+    return explain.field("matchPlan");
+  }
+}
@@ -0,0 +1,121 @@
+package com.orientechnologies.orient.graph.sql.functions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.orientechnologies.orient.core.command.OBasicCommandContext;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Vertex;
+import com.tinkerpop.blueprints.impls.orient.OrientGraph;
+import com.tinkerpop.blueprints.impls.orient.OrientVertex;
+
+public class OSQLFunctionDijkstraBidirectionalTest {
+
+  private OrientGraph          graph;
+  private Vertex               v1;
+  private Vertex               v2;
+  private Vertex               v3;
+  private Vertex               v4;
+  private OSQLFunctionDijkstra functionDijkstra;
+
+  @Before
+  public void setUp() throws Exception {
+    graph = new OrientGraph("memory:OSQLFunctionDijkstraBidirectionalTest");
+    graph.createEdgeType("weight");
+
+    v1 = graph.addVertex(null);
+    v2 = graph.addVertex(null);
+    v3 = graph.addVertex(null);
+    v4 = graph.addVertex(null);
+
+    graph.addEdge(null, v1, v2, "weight").setProperty("weight", 1.0f);
+    graph.addEdge(null, v2, v3, "weight").setProperty("weight", 1.0f);
+    graph.addEdge(null, v1, v3, "weight").setProperty("weight", 100.0f);
+    graph.addEdge(null, v3, v4, "weight").setProperty("weight", 1.0f);
+    graph.commit();
+
+    functionDijkstra = new OSQLFunctionDijkstra();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    graph.drop();
+  }
+
+  @Test
+  public void testNoPath() throws Exception {
+    final List<OrientVertex> result = functionDijkstra.execute(null, null, null, new Object[] { v4, v1, "'weight'" },
+        new OBasicCommandContext());
+
+    assertEquals(0, result.size());
+  }
+
+  @Test
+  public void testDirectionIn() throws Exception {
+    final List<OrientVertex> result = functionDijkstra.execute(null, null, null, new Object[] { v4, v1, "'weight'", "in" },
+        new OBasicCommandContext());
+
+    assertEquals(4, result.size());
+    assertEquals(v4, result.get(0));
+    assertEquals(v3, result.get(1));
+    assertEquals(v2, result.get(2));
+    assertEquals(v1, result.get(3));
+  }
+
+  @Test
+  public void testRandomGraph() throws Exception {
+    final Random random = new Random(42);
+    final List<Vertex> vertices = new ArrayList<Vertex>();
+    for (int i = 0; i < 200; i++)
+      vertices.add(graph.addVertex(null));
+
+    for (int i = 0; i < 800; i++) {
+      final Edge e = graph.addEdge(null, vertices.get(random.nextInt(vertices.size())),
+          vertices.get(random.nextInt(vertices.size())), "weight");
+      e.setProperty("weight", (float) random.nextInt(20));
+    }
+    graph.commit();
+
+    for (int i = 0; i < 20; i++) {
+      final Vertex source = vertices.get(random.nextInt(vertices.size()));
+      final Vertex destination = vertices.get(random.nextInt(vertices.size()));
+
+      final List<OrientVertex> path = functionDijkstra.execute(null, null, null,
+          new Object[] { source, destination, "'weight'", "both" }, new OBasicCommandContext());
+      final Map<String, Object> options = new HashMap<String, Object>();
+      options.put(OSQLFunctionAstar.PARAM_DIRECTION, Direction.BOTH);
+      final List<OrientVertex> expected = new OSQLFunctionAstar().execute(null, null, null,
+          new Object[] { source, destination, "'weight'", options }, new OBasicCommandContext());
+
+      assertEquals(expected.isEmpty(), path.isEmpty());
+      if (!path.isEmpty()) {
+        assertEquals(source, path.get(0));
+        assertEquals(destination, path.get(path.size() - 1));
+        assertEquals(getWeight(expected), getWeight(path), 0.0001);
+      }
+    }
+  }
+
+  private double getWeight(final List<OrientVertex> path) {
+    double weight = 0;
+    for (int i = 1; i < path.size(); i++) {
+      double min = Double.MAX_VALUE;
+      for (Edge e : path.get(i - 1).getEdges(path.get(i), Direction.BOTH))
+        min = Math.min(min, ((Number) e.getProperty("weight")).doubleValue());
+      assertTrue(min < Double.MAX_VALUE);
+      weight += min;
+    }
+    return weight;
+  }
+}
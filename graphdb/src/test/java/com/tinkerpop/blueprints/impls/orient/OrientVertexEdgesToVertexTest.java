@@ -0,0 +1,78 @@
+package com.tinkerpop.blueprints.impls.orient;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.record.ridbag.ORidBag;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Edge;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OrientVertexEdgesToVertexTest {
+  private OrientGraphNoTx graph;
+  private Object          threshold;
+
+  @Before
+  public void setUp() {
+    threshold = OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.getValue();
+    OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.setValue(-1);
+
+    graph = new OrientGraphNoTx("memory:" + OrientVertexEdgesToVertexTest.class.getSimpleName());
+    graph.createVertexType("Person");
+    graph.createEdgeType("Knows");
+  }
+
+  @After
+  public void tearDown() {
+    graph.drop();
+    OGlobalConfiguration.RID_BAG_EMBEDDED_TO_SBTREEBONSAI_THRESHOLD.setValue(threshold);
+  }
+
+  @Test
+  public void testTreeWithUnitValues() {
+    final OrientVertex hub = graph.addVertex("class:Person");
+    final OrientVertex leaf = connect(hub, 50);
+
+    hub.getRecord().reload();
+    Assert.assertTrue(bag(hub, "out_Knows").isSizeKnown());
+
+    Assert.assertEquals(count(hub.getEdges(leaf, Direction.OUT, "Knows")), 1);
+    Assert.assertEquals(count(leaf.getEdges(hub, Direction.IN, "Knows")), 1);
+  }
+
+  @Test
+  public void testTreeWithDuplicates() {
+    graph.setUseLightweightEdges(true);
+
+    final OrientVertex hub = graph.addVertex("class:Person");
+    final OrientVertex leaf = connect(hub, 50);
+    hub.addEdge("Knows", leaf);
+
+    hub.getRecord().reload();
+    Assert.assertFalse(bag(hub, "out_Knows").isSizeKnown());
+
+    Assert.assertEquals(count(hub.getEdges(leaf, Direction.OUT, "Knows")), 2);
+    Assert.assertEquals(count(leaf.getEdges(hub, Direction.IN, "Knows")), 2);
+  }
+
+  private OrientVertex connect(final OrientVertex hub, final int size) {
+    OrientVertex leaf = null;
+    for (int i = 0; i < size; i++) {
+      leaf = graph.addVertex("class:Person", "value", i);
+      hub.addEdge("Knows", leaf);
+    }
+    return leaf;
+  }
+
+  private static ORidBag bag(final OrientVertex vertex, final String fieldName) {
+    return vertex.getRecord().field(fieldName);
+  }
+
+  private static int count(final Iterable<Edge> edges) {
+    int count = 0;
+    for (Edge ignored : edges)
+      count++;
+    return count;
+  }
+}
@@ -0,0 +1,146 @@
+package com.tinkerpop.blueprints.impls.orient;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Vertex;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class OrientVertexPageOrderTest {
+  private OrientGraphNoTx graph;
+  private Object          batchSize;
+
+  @Before
+  public void setUp() {
+    batchSize = OGlobalConfiguration.RID_BAG_SORTED_ITERATION_BATCH_SIZE.getValue();
+    OGlobalConfiguration.RID_BAG_SORTED_ITERATION_BATCH_SIZE.setValue(1000);
+
+    graph = new OrientGraphNoTx("memory:" + OrientVertexPageOrderTest.class.getSimpleName());
+    graph.createVertexType("Person");
+    graph.createEdgeType("Knows");
+    graph.createEdgeType("Likes");
+  }
+
+  @After
+  public void tearDown() {
+    graph.drop();
+    OGlobalConfiguration.RID_BAG_SORTED_ITERATION_BATCH_SIZE.setValue(batchSize);
+  }
+
+  @Test
+  public void testRegularEdges() {
+    final OrientVertex hub = graph.addVertex("class:Person");
+    final List<ORID> expected = connect(hub, "Knows", 200);
+    connect(hub, "Likes", 10);
+
+    checkPageOrder(hub.getVerticesInPageOrder(Direction.OUT, "Knows"), expected);
+    Assert.assertEquals(count(hub.getVerticesInPageOrder(Direction.OUT)), 210);
+  }
+
+  @Test
+  public void testLightweightEdges() {
+    graph.setUseLightweightEdges(true);
+
+    final OrientVertex hub = graph.addVertex("class:Person");
+    final List<ORID> expected = connect(hub, "Knows", 200);
+
+    checkPageOrder(hub.getVerticesInPageOrder(Direction.OUT, "Knows"), expected);
+  }
+
+  @Test
+  public void testEmbeddedBag() {
+    final OrientVertex hub = graph.addVertex("class:Person");
+    final List<ORID> expected = connect(hub, "Knows", 30);
+
+    checkPageOrder(hub.getVerticesInPageOrder(Direction.OUT, "Knows"), expected);
+  }
+
+  @Test
+  public void testIncomingEdges() {
+    final OrientVertex hub = graph.addVertex("class:Person");
+    final List<ORID> expected = connect(hub, "Knows", 200);
+
+    for (ORID rid : expected) {
+      final Iterable<Vertex> vertices = graph.getVertex(rid).getVerticesInPageOrder(Direction.IN, "Knows");
+      Assert.assertEquals(count(vertices), 1);
+      Assert.assertEquals(vertices.iterator().next().getId(), hub.getIdentity());
+    }
+  }
+
+  @Test
+  public void testInsertionOrderWhenDisabled() {
+    OGlobalConfiguration.RID_BAG_SORTED_ITERATION_BATCH_SIZE.setValue(0);
+
+    final OrientVertex hub = graph.addVertex("class:Person");
+    final List<ORID> expected = connect(hub, "Knows", 30);
+
+    Assert.assertEquals(rids(hub.getVerticesInPageOrder(Direction.OUT, "Knows")), expected);
+
+    final List<ORID> actual = new ArrayList<ORID>();
+    for (ODocument doc : graph.getRawGraph().<List<ODocument>> query(new OSQLSynchQuery<ODocument>(
+        "select expand(out('Knows')) from " + hub.getIdentity())))
+      actual.add(doc.getIdentity());
+    Assert.assertEquals(actual, expected);
+  }
+
+  private List<ORID> connect(final OrientVertex hub, final String label, final int size) {
+    final List<OrientVertex> neighbours = new ArrayList<OrientVertex>();
+    for (int i = 0; i < size; i++)
+      neighbours.add(graph.addVertex("class:Person", "value", i));
+
+    // EDGES ARE CREATED IN RANDOM ORDER OF NEIGHBOURS
+    Collections.shuffle(neighbours, new Random(42));
+    for (OrientVertex neighbour : neighbours)
+      hub.addEdge(label, neighbour);
+
+    final List<ORID> rids = new ArrayList<ORID>();
+    for (OrientVertex neighbour : neighbours)
+      rids.add(neighbour.getIdentity());
+    return rids;
+  }
+
+  private void checkPageOrder(final Iterable<Vertex> vertices, final List<ORID> expected) {
+    final List<ORID> actual = rids(vertices);
+
+    final List<ORID> sortedActual = new ArrayList<ORID>(actual);
+    Collections.sort(sortedActual);
+    final List<ORID> sortedExpected = new ArrayList<ORID>(expected);
+    Collections.sort(sortedExpected);
+    Assert.assertEquals(sortedActual, sortedExpected);
+
+    // NEIGHBOURS ARE LOADED IN BATCHES OF 1, 2, 4... SORTED BY RID
+    int start = 0;
+    for (int batchSize = 1; start < actual.size(); batchSize <<= 1) {
+      final List<ORID> batch = actual.subList(start, Math.min(actual.size(), start + batchSize));
+      final List<ORID> sorted = new ArrayList<ORID>(batch);
+      Collections.sort(sorted);
+
+      Assert.assertEquals(batch, sorted);
+      start += batchSize;
+    }
+  }
+
+  private static List<ORID> rids(final Iterable<Vertex> vertices) {
+    final List<ORID> rids = new ArrayList<ORID>();
+    for (Vertex vertex : vertices)
+      rids.add(((OrientVertex) vertex).getIdentity());
+    return rids;
+  }
+
+  private static int count(final Iterable<Vertex> vertices) {
+    int count = 0;
+    for (Vertex ignored : vertices)
+      count++;
+    return count;
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.db.record.ridbag;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures throughput of concurrent edge like insertions into tree based rid bags of the same cluster depending on amount of files
+ * among which collections of a cluster are spread ({@link OGlobalConfiguration#SBTREEBONSAI_FILES_PER_CLUSTER}). Every thread
+ * updates its own hub documents, so threads contend only on collection files.
+ *
+ * To run this benchmark run {@link org.openjdk.jmh.Main}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(8)
+@Fork(1)
+public class RidBagConcurrentInsertBenchmark {
+  @Param({ "1", "8" })
+  private int filesPerCluster;
+
+  @Param({ "true", "false" })
+  private boolean transactional;
+
+  private ODatabaseDocumentTx db;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    OGlobalConfiguration.SBTREEBONSAI_FILES_PER_CLUSTER.setValue(filesPerCluster);
+
+    db = new ODatabaseDocumentTx("memory:RidBagConcurrentInsertBenchmark");
+    db.create();
+    db.getMetadata().getSchema().createClass("Hub", 1);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    db.activateOnCurrentThread();
+    db.drop();
+
+    OGlobalConfiguration.SBTREEBONSAI_FILES_PER_CLUSTER
+        .setValue(OGlobalConfiguration.SBTREEBONSAI_FILES_PER_CLUSTER.getDefValue());
+  }
+
+  @State(Scope.Thread)
+  public static class HubState {
+    private static final int HUBS = 16;
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private ODatabaseDocumentTx db;
+    private ORID[]              hubs;
+    private int                 clusterId;
+    private long                position;
+
+    @Setup(Level.Trial)
+    public void setup(RidBagConcurrentInsertBenchmark benchmark) {
+      db = new ODatabaseDocumentTx(benchmark.db.getURL());
+      db.open("admin", "admin");
+
+      clusterId = THREADS.incrementAndGet();
+      hubs = new ORID[HUBS];
+      for (int i = 0; i < HUBS; i++) {
+        final ODocument hub = new ODocument("Hub");
+        hub.field("out", new ORidBag(-1, -1));
+        hub.field("in", new ORidBag(-1, -1));
+        hub.save();
+
+        hubs[i] = hub.getIdentity();
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      db.activateOnCurrentThread();
+      db.close();
+    }
+  }
+
+  @Benchmark
+  public void addEdge(HubState state) {
+    final ODatabaseDocumentTx db = state.db;
+    db.activateOnCurrentThread();
+
+    if (transactional)
+      db.begin();
+
+    final long position = state.position++;
+    final ODocument hub = db.load(state.hubs[(int) (position % HubState.HUBS)]);
+
+    final ORidBag out = hub.field("out");
+    final ORidBag in = hub.field("in");
+    out.add(new ORecordId(state.clusterId, position));
+    in.add(new ORecordId(state.clusterId, position));
+    hub.save();
+
+    if (transactional)
+      db.commit();
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.core.sql;
+
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.intent.OIntentMassiveInsert;
+import com.orientechnologies.orient.core.metadata.schema.OClass;
+import com.orientechnologies.orient.core.metadata.schema.OType;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.filter.OSQLCompiledCondition;
+import com.orientechnologies.orient.core.sql.query.OSQLSynchQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the evaluation of WHERE conditions compiled on the types of the schema ({@link OSQLCompiledCondition}) with the
+ * interpreted evaluation.
+ *
+ * To run this benchmark run {@link org.openjdk.jmh.Main}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SQLConditionBenchmark {
+  @Param({ "1000000" })
+  private int records;
+
+  @Param({ "true", "false" })
+  private boolean compileConditions;
+
+  private ODatabaseDocumentTx db;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    OGlobalConfiguration.QUERY_COMPILE_CONDITIONS.setValue(compileConditions);
+
+    db = new ODatabaseDocumentTx("memory:SQLConditionBenchmark");
+    db.create();
+
+    final OClass payment = db.getMetadata().getSchema().createClass("Payment");
+    payment.createProperty("amount", OType.LONG);
+    payment.createProperty("price", OType.DOUBLE);
+    payment.createProperty("status", OType.STRING);
+
+    db.declareIntent(new OIntentMassiveInsert());
+
+    final Random random = new Random(42);
+    for (int i = 0; i < records; i++) {
+      final ODocument document = new ODocument("Payment");
+      document.field("amount", (long) random.nextInt(100000));
+      document.field("price", random.nextDouble() * 1000);
+      document.field("status", random.nextBoolean() ? "paid" : "pending");
+      document.save();
+    }
+
+    db.declareIntent(null);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    db.activateOnCurrentThread();
+    db.drop();
+
+    OGlobalConfiguration.QUERY_COMPILE_CONDITIONS.setValue(OGlobalConfiguration.QUERY_COMPILE_CONDITIONS.getDefValue());
+  }
+
+  @Benchmark
+  public Object rangeOfLong() {
+    db.activateOnCurrentThread();
+    final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>(
+        "select count(*) from Payment where amount >= 1000 and amount < 50000"));
+    return result.get(0).field("count");
+  }
+
+  @Benchmark
+  public Object mixedConditions() {
+    db.activateOnCurrentThread();
+    final List<ODocument> result = db.query(new OSQLSynchQuery<ODocument>(
+        "select count(*) from Payment where (price > 500.0 or amount < 1000) and not (status = 'pending')"));
+    return result.get(0).field("count");
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server;
+
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.common.profiler.OAbstractProfiler.OProfilerHookValue;
+import com.orientechnologies.common.profiler.OProfiler.METRIC_TYPE;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.config.OGlobalConfiguration;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.server.network.protocol.binary.OCommandCursor;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the server side cursors opened by the clients. A cursor is removed when the client has fetched all its records, when the
+ * client closes it or when it's not accessed for {@link OGlobalConfiguration#NETWORK_BINARY_CURSOR_TIMEOUT} ms.
+ */
+public class OCommandCursorManager {
+  protected final ConcurrentMap<Integer, OCommandCursor> cursors      = new ConcurrentHashMap<Integer, OCommandCursor>();
+  protected final AtomicInteger                          cursorSerial = new AtomicInteger(0);
+  protected final TimerTask                              timerTask;
+
+  public OCommandCursorManager() {
+    final int delay = OGlobalConfiguration.SERVER_CHANNEL_CLEAN_DELAY.getValueAsInteger();
+
+    timerTask = new TimerTask() {
+      @Override
+      public void run() {
+        try {
+          cleanExpiredCursors();
+        } catch (Throwable e) {
+          OLogManager.instance().debug(this, "Error on cursor purge task", e);
+        }
+      }
+    };
+
+    Orient.instance().scheduleTask(timerTask, delay, delay);
+
+    Orient.instance().getProfiler().registerHookValue("server.cursors.actives", "Number of open server side cursors",
+        METRIC_TYPE.COUNTER, new OProfilerHookValue() {
+          public Object getValue() {
+            return (long) cursors.size();
+          }
+        });
+  }
+
+  /**
+   * Opens a cursor and starts the execution of its query.
+   *
+   * @throws OCommandExecutionException
+   *           if the maximum number of cursors is already open
+   */
+  public OCommandCursor open(final ODatabaseDocumentInternal iDatabase, final OCommandRequestText iCommand,
+      final Map<Object, Object> iParams, final int iPageSize) {
+    final int max = OGlobalConfiguration.NETWORK_BINARY_MAX_CURSORS.getValueAsInteger();
+    if (cursors.size() >= max) {
+      cleanExpiredCursors();
+      if (cursors.size() >= max)
+        throw new OCommandExecutionException(
+            "Cannot open a new cursor because the maximum number of open cursors (" + max + ") has been reached");
+    }
+
+    final OCommandCursor cursor = new OCommandCursor(cursorSerial.incrementAndGet(), iDatabase, iCommand, iPageSize);
+    cursors.put(cursor.getId(), cursor);
+    try {
+      cursor.start(iDatabase, iParams);
+    } catch (RuntimeException e) {
+      cursors.remove(cursor.getId());
+      throw e;
+    }
+    return cursor;
+  }
+
+  /**
+   * Returns an open cursor, checking it has been opened on the same database by the same user.
+   *
+   * @throws OCommandExecutionException
+   *           if the cursor doesn't exist or has expired
+   */
+  public OCommandCursor get(final int iCursorId, final ODatabaseDocumentInternal iDatabase) {
+    final OCommandCursor cursor = find(iCursorId, iDatabase);
+    if (cursor == null)
+      throw new OCommandExecutionException("Cursor " + iCursorId + " was not found: it has been closed or it has expired");
+    return cursor;
+  }
+
+  /**
+   * Removes the cursor once all its records have been fetched.
+   */
+  public void release(final OCommandCursor iCursor) {
+    if (iCursor.isFinished())
+      cursors.remove(iCursor.getId());
+  }
+
+  public void close(final OCommandCursor iCursor) {
+    cursors.remove(iCursor.getId());
+    iCursor.close();
+  }
+
+  /**
+   * Closes a cursor opened on the same database by the same user.
+   *
+   * @return false if the cursor doesn't exist or has expired
+   */
+  public boolean close(final int iCursorId, final ODatabaseDocumentInternal iDatabase) {
+    final OCommandCursor cursor = find(iCursorId, iDatabase);
+    if (cursor == null)
+      return false;
+
+    close(cursor);
+    return true;
+  }
+
+  public int size() {
+    return cursors.size();
+  }
+
+  public void cleanExpiredCursors() {
+    final long timeout = OGlobalConfiguration.NETWORK_BINARY_CURSOR_TIMEOUT.getValueAsLong();
+
+    final Iterator<OCommandCursor> iterator = cursors.values().iterator();
+    while (iterator.hasNext()) {
+      final OCommandCursor cursor = iterator.next();
+      if (cursor.isExpired(timeout)) {
+        OLogManager.instance().debug(this, "Closing cursor %d on database '%s' not accessed since %dms", cursor.getId(),
+            cursor.getDatabaseName(), timeout);
+        iterator.remove();
+        cursor.close();
+      }
+    }
+  }
+
+  public void shutdown() {
+    timerTask.cancel();
+
+    for (OCommandCursor cursor : cursors.values())
+      cursor.close();
+    cursors.clear();
+  }
+
+  private OCommandCursor find(final int iCursorId, final ODatabaseDocumentInternal iDatabase) {
+    final OCommandCursor cursor = cursors.get(iCursorId);
+    if (cursor == null || !cursor.getDatabaseName().equals(iDatabase.getName())
+        || !equals(cursor.getUserName(), iDatabase.getUser() != null ? iDatabase.getUser().getName() : null))
+      return null;
+    return cursor;
+  }
+
+  private static boolean equals(final String iFirst, final String iSecond) {
+    return iFirst == null ? iSecond == null : iFirst.equals(iSecond);
+  }
+}
@@ -107,6 +107,7 @@ public class OServer {
   private String                                           serverRootDirectory;
   private String                                           databaseDirectory;
   private OClientConnectionManager                         clientConnectionManager;
+  private OCommandCursorManager                            cursorManager;
   private ClassLoader                                      extensionClassLoader;
   private OTokenHandler                                    tokenHandler;
   private OSystemDatabase                                  systemDatabase;
@@ -185,6 +186,10 @@ public class OServer {
     return clientConnectionManager;
   }
 
+  public OCommandCursorManager getCursorManager() {
+    return cursorManager;
+  }
+
   public void saveConfiguration() throws IOException {
     serverCfg.saveConfiguration();
   }
@@ -298,6 +303,7 @@ public class OServer {
       shutdownLatch = new CountDownLatch(1);
 
     clientConnectionManager = new OClientConnectionManager(this);
+    cursorManager = new OCommandCursorManager();
 
     initFromConfiguration();
 
@@ -496,6 +502,7 @@ public class OServer {
           }
 
         clientConnectionManager.shutdown();
+        cursorManager.shutdown();
 
         if (pluginManager != null)
           pluginManager.shutdown();
@@ -0,0 +1,261 @@
+/*
+ *
+ *  *  Copyright 2016 OrientDB LTD (info(at)orientdb.com)
+ *  *
+ *  *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  *  you may not use this file except in compliance with the License.
+ *  *  You may obtain a copy of the License at
+ *  *
+ *  *       http://www.apache.org/licenses/LICENSE-2.0
+ *  *
+ *  *  Unless required by applicable law or agreed to in writing, software
+ *  *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  *  See the License for the specific language governing permissions and
+ *  *  limitations under the License.
+ *  *
+ *  * For more information: http://www.orientdb.com
+ *
+ */
+package com.orientechnologies.orient.server.network.protocol.binary;
+
+import com.orientechnologies.common.collection.OMultiValue;
+import com.orientechnologies.common.concur.lock.OInterruptedException;
+import com.orientechnologies.common.exception.OException;
+import com.orientechnologies.common.log.OLogManager;
+import com.orientechnologies.orient.core.command.OCommandRequest;
+import com.orientechnologies.orient.core.command.OCommandRequestText;
+import com.orientechnologies.orient.core.db.ODatabaseDocumentInternal;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.db.record.OIdentifiable;
+import com.orientechnologies.orient.core.exception.OCommandExecutionException;
+import com.orientechnologies.orient.core.fetch.remote.ORemoteFetchListener;
+import com.orientechnologies.orient.core.id.ORID;
+import com.orientechnologies.orient.core.id.ORecordId;
+import com.orientechnologies.orient.core.record.ORecord;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.server.OClientConnection;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server side cursor of a query. The query is executed by a dedicated thread against a copy of the database, pushing the records
+ * in a queue bounded to a page: when the client doesn't fetch the records the execution waits, so the server never keeps more than
+ * a page of records for each cursor. The client fetches the records a page at a time.
+ *
+ * @see com.orientechnologies.orient.server.OCommandCursorManager
+ */
+public class OCommandCursor extends OAbstractCommandResultListener {
+  private static final Object         END         = new Object();
+  private static final long           POLL_WAIT   = 100;
+
+  private final int                   id;
+  private final String                databaseName;
+  private final String                userName;
+  private final OCommandRequestText   command;
+  private final BlockingQueue<Object> queue;
+  private volatile boolean            closed      = false;
+  private volatile boolean            finished    = false;
+  private volatile boolean            fetching    = false;
+  private volatile boolean            received    = false;
+  private volatile Throwable          error;
+  private volatile long               lastAccess  = System.currentTimeMillis();
+
+  public OCommandCursor(final int iId, final ODatabaseDocumentInternal iDatabase, final OCommandRequestText iCommand,
+      final int iPageSize) {
+    super(null);
+    id = iId;
+    databaseName = iDatabase.getName();
+    userName = iDatabase.getUser() != null ? iDatabase.getUser().getName() : null;
+    command = iCommand;
+    queue = new ArrayBlockingQueue<Object>(iPageSize);
+  }
+
+  /**
+   * Starts the execution of the query in a new thread, against a copy of the database.
+   */
+  public void start(final ODatabaseDocumentInternal iDatabase, final Map<Object, Object> iParams) {
+    final ODatabaseDocumentInternal db = ((ODatabaseDocumentTx) iDatabase).copy();
+
+    final Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        db.activateOnCurrentThread();
+        try {
+          command.setResultListener(OCommandCursor.this);
+          final OCommandRequest commandImpl = db.command(command);
+          setFetchPlan(commandImpl.getFetchPlan());
+
+          final Object result = iParams == null ? commandImpl.execute() : commandImpl.execute(iParams);
+
+          // FETCHPLAN HAS TO BE ASSIGNED AGAIN, because it can be changed by SQL statement
+          setFetchPlan(commandImpl.getFetchPlan());
+
+          if (!received && result != null)
+            // THE COMMAND DIDN'T USE THE LISTENER: BROWSE THE RESULT. ONLY RECORDS CAN BE SENT BY A CURSOR
+            for (Object o : OMultiValue.getMultiValueIterable(result, false))
+              if (o instanceof OIdentifiable && !result(o))
+                break;
+
+        } catch (Throwable t) {
+          error = t;
+        } finally {
+          try {
+            db.close();
+          } catch (Exception e) {
+            OLogManager.instance().error(this, "Error on closing the database of cursor %d", e, id);
+          }
+          push(END);
+        }
+      }
+    }, "OrientDB Cursor " + id + " on " + databaseName);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  @Override
+  public boolean result(final Object iRecord) {
+    if (iRecord == null)
+      return !closed;
+
+    received = true;
+    // LOAD THE RECORD WITH THE DATABASE OF THE EXECUTION
+    return push(iRecord instanceof ORecordId ? ((ORecordId) iRecord).getRecord() : iRecord);
+  }
+
+  @Override
+  public void end() {
+    // THE END OF THE RESULT IS SIGNALED WHEN THE EXECUTION THREAD TERMINATES
+  }
+
+  /**
+   * Returns the next page of records, waiting for the query to produce them.
+   *
+   * @param iMax
+   *          maximum number of records to return
+   * @return the records, less than the requested ones only if the query has terminated
+   */
+  public List<Object> fetch(final int iMax) {
+    fetching = true;
+    lastAccess = System.currentTimeMillis();
+    try {
+      final List<Object> page = new ArrayList<Object>();
+      while (page.size() < iMax && !finished) {
+        if (closed)
+          throw new OCommandExecutionException("Cursor " + id + " has been closed");
+
+        final Object o = queue.poll(POLL_WAIT, TimeUnit.MILLISECONDS);
+        if (o == END)
+          finished = true;
+        else if (o != null)
+          page.add(o);
+      }
+
+      if (finished && error != null) {
+        if (error instanceof OException)
+          throw (OException) error;
+        throw OException.wrapException(new OCommandExecutionException("Error on executing the query of cursor " + id), error);
+      }
+
+      return page;
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new OInterruptedException("Fetching from cursor " + id + " has been interrupted");
+    } finally {
+      lastAccess = System.currentTimeMillis();
+      fetching = false;
+    }
+  }
+
+  /**
+   * Writes the records of a page followed by the linked records to cache on the client, as the asynchronous queries do.
+   */
+  public void writePage(final ONetworkProtocolBinary iProtocol, final OClientConnection iConnection, final List<Object> iPage)
+      throws IOException {
+    final Set<ORID> alreadySent = new HashSet<ORID>();
+    for (Object o : iPage) {
+      fetchRecord(o, new ORemoteFetchListener() {
+        @Override
+        protected void sendRecord(final ORecord iLinked) {
+          if (!alreadySent.contains(iLinked.getIdentity())) {
+            alreadySent.add(iLinked.getIdentity());
+            try {
+              iProtocol.channel.writeByte((byte) 2); // CACHE IT ON THE CLIENT
+              iProtocol.writeIdentifiable(iConnection, iLinked);
+            } catch (IOException e) {
+              OLogManager.instance().error(this, "Cannot write against channel", e);
+            }
+          }
+        }
+      });
+      alreadySent.add(((OIdentifiable) o).getIdentity());
+      iProtocol.channel.writeByte((byte) 1); // ONE MORE RECORD
+      iProtocol.writeIdentifiable(iConnection, ((OIdentifiable) o).getRecord());
+    }
+    iProtocol.channel.writeByte((byte) 0); // NO MORE RECORDS IN THE PAGE
+  }
+
+  /**
+   * Stops the execution of the query and discards the records not fetched.
+   */
+  public void close() {
+    closed = true;
+    queue.clear();
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  public String getDatabaseName() {
+    return databaseName;
+  }
+
+  public String getUserName() {
+    return userName;
+  }
+
+  /**
+   * @return true if all the records have been fetched or the cursor has been closed
+   */
+  public boolean isFinished() {
+    return finished || closed;
+  }
+
+  /**
+   * @return true if no fetch is in progress and the last one ended before the timeout
+   */
+  public boolean isExpired(final long iTimeout) {
+    return !fetching && System.currentTimeMillis() - lastAccess > iTimeout;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return !received;
+  }
+
+  @Override
+  public void linkdedBySimpleValue(final ODocument doc) {
+    // THE CURSOR RETURNS ONLY RECORDS
+  }
+
+  private boolean push(final Object iValue) {
+    try {
+      while (!closed)
+        if (queue.offer(iValue, POLL_WAIT, TimeUnit.MILLISECONDS))
+          return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+}
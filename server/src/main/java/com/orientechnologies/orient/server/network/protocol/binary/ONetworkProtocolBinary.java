@@ -84,6 +84,7 @@ import com.orientechnologies.orient.core.storage.impl.local.paginated.OOfflineCl
 import com.orientechnologies.orient.core.type.ODocumentWrapper;
 import com.orientechnologies.orient.enterprise.channel.binary.*;
 import com.orientechnologies.orient.server.OClientConnection;
+import com.orientechnologies.orient.server.OCommandCursorManager;
 import com.orientechnologies.orient.server.OServer;
 import com.orientechnologies.orient.server.OServerInfo;
 import com.orientechnologies.orient.server.ShutdownHelper;
@@ -597,6 +598,14 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
         command(connection);
         break;
 
+      case OChannelBinaryProtocol.REQUEST_COMMAND_CURSOR_FETCH:
+        fetchCursor(connection);
+        break;
+
+      case OChannelBinaryProtocol.REQUEST_COMMAND_CURSOR_CLOSE:
+        closeCursor(connection);
+        break;
+
       case OChannelBinaryProtocol.REQUEST_TX_COMMIT:
         commit(connection);
         break;
@@ -1400,6 +1409,7 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     byte type = channel.readByte();
     final boolean live = type == 'l';
     final boolean asynch = type == 'a';
+    final boolean cursor = type == 'c';
     if (connection == null && connection.getDatabase() == null)
       throw new IOException("Found invalid session");
 
@@ -1412,10 +1422,11 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     }
     OCommandRequestText command = (OCommandRequestText) OStreamSerializerAnyStreamable.INSTANCE.fromStream(channel.readBytes());
     ONetworkThreadLocalSerializer.setNetworkSerializer(null);
+    final int pageSize = cursor ? channel.readInt() : 0;
 
     final Map<Object, Object> params = command.getParameters();
 
-    if (asynch && command instanceof OSQLSynchQuery) {
+    if ((asynch || cursor) && command instanceof OSQLSynchQuery) {
       // CONVERT IT IN ASYNCHRONOUS QUERY
       final OSQLAsynchQuery asynchQuery = new OSQLAsynchQuery(command.getText());
       asynchQuery.setFetchPlan(command.getFetchPlan());
@@ -1464,6 +1475,25 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
       // REQUEST CAN'T MODIFY THE RESULT, SO IT'S CACHEABLE
       command.setCacheableResult(true);
 
+      if (cursor) {
+        // THE QUERY IS EXECUTED BY THE CURSOR: SEND THE FIRST PAGE, THE CLIENT WILL FETCH THE OTHERS
+        final OCommandCursorManager cursorManager = server.getCursorManager();
+        final OCommandCursor commandCursor = cursorManager.open(connection.getDatabase(), command, params, pageSize);
+        final List<Object> page;
+        try {
+          page = commandCursor.fetch(pageSize);
+        } catch (RuntimeException e) {
+          cursorManager.close(commandCursor);
+          throw e;
+        }
+        cursorManager.release(commandCursor);
+
+        sendOk(connection, clientTxId);
+        channel.writeInt(commandCursor.isFinished() ? -1 : commandCursor.getId());
+        commandCursor.writePage(this, connection, page);
+        return;
+      }
+
       // ASSIGNED THE PARSED FETCHPLAN
       final OCommandRequest commandImpl = connection.getDatabase().command(command);
       listener.setFetchPlan(commandImpl.getFetchPlan());
@@ -1515,6 +1545,56 @@ public class ONetworkProtocolBinary extends ONetworkProtocol {
     }
   }
 
+  protected void fetchCursor(OClientConnection connection) throws IOException {
+    setDataCommandInfo(connection, "Fetch from cursor");
+
+    final int cursorId = channel.readInt();
+    final int pageSize = channel.readInt();
+
+    if (!isConnectionAlive(connection))
+      return;
+
+    final OCommandCursorManager cursorManager = server.getCursorManager();
+    final OCommandCursor cursor = cursorManager.get(cursorId, connection.getDatabase());
+
+    beginResponse();
+    try {
+      final List<Object> page;
+      try {
+        page = cursor.fetch(pageSize);
+      } catch (RuntimeException e) {
+        cursorManager.close(cursor);
+        throw e;
+      }
+      cursorManager.release(cursor);
+
+      sendOk(connection, clientTxId);
+      channel.writeInt(cursor.isFinished() ? -1 : cursorId);
+      cursor.writePage(this, connection, page);
+    } finally {
+      endResponse(connection);
+    }
+  }
+
+  protected void closeCursor(OClientConnection connection) throws IOException {
+    setDataCommandInfo(connection, "Close cursor");
+
+    final int cursorId = channel.readInt();
+
+    if (!isConnectionAlive(connection))
+      return;
+
+    // A CURSOR ALREADY EXPIRED IS IGNORED
+    server.getCursorManager().close(cursorId, connection.getDatabase());
+
+    beginResponse();
+    try {
+      sendOk(connection, clientTxId);
+    } finally {
+      endResponse(connection);
+    }
+  }
+
   public void serializeValue(final OClientConnection connection, final OAbstractCommandResultListener listener, Object result,
       boolean load, boolean isRecordResultSet) throws IOException {
     if (result == null) {
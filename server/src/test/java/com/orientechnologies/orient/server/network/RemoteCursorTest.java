@@ -0,0 +1,118 @@
+package com.orientechnologies.orient.server.network;
+
+import com.orientechnologies.orient.client.remote.OServerAdmin;
+import com.orientechnologies.orient.client.remote.ORemoteCursorResultSet;
+import com.orientechnologies.orient.core.Orient;
+import com.orientechnologies.orient.core.db.document.ODatabaseDocumentTx;
+import com.orientechnologies.orient.core.exception.OQueryParsingException;
+import com.orientechnologies.orient.core.record.impl.ODocument;
+import com.orientechnologies.orient.core.sql.query.OSQLCursorQuery;
+import com.orientechnologies.orient.server.OServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RemoteCursorTest {
+
+  private static final String SERVER_DIRECTORY = "./target/cursor";
+  private OServer             server;
+  private ODatabaseDocumentTx db;
+
+  @Before
+  public void before() throws Exception {
+    server = new OServer();
+    server.setServerRootDirectory(SERVER_DIRECTORY);
+    server.startup(getClass().getResourceAsStream("orientdb-server-config.xml"));
+    server.activate();
+
+    OServerAdmin admin = new OServerAdmin("remote:localhost");
+    admin.connect("root", "D2AFD02F20640EC8B7A5140F34FCA49D2289DB1F0D0598BB9DE8AAA75A0792F3");
+    admin.createDatabase("test", "document", "memory");
+    admin.close();
+
+    db = new ODatabaseDocumentTx("remote:localhost/test");
+    db.open("admin", "admin");
+    db.getMetadata().getSchema().createClass("Item");
+    for (int i = 0; i < 95; i++)
+      db.save(new ODocument("Item").field("number", i));
+  }
+
+  @Test
+  public void testIterateByPages() {
+    final List<ODocument> result = db.query(new OSQLCursorQuery<ODocument>("select from Item order by number", 10));
+    assertTrue(result instanceof ORemoteCursorResultSet);
+    assertTrue(((ORemoteCursorResultSet) result).isOpen());
+    assertEquals(1, server.getCursorManager().size());
+
+    int expected = 0;
+    for (ODocument doc : result)
+      assertEquals((Integer) expected++, doc.<Integer> field("number"));
+    assertEquals(95, expected);
+
+    assertFalse(((ORemoteCursorResultSet) result).isOpen());
+    assertEquals(0, server.getCursorManager().size());
+    assertEquals(95, result.size());
+  }
+
+  @Test
+  public void testSizeFetchesAllThePages() {
+    final List<ODocument> result = db.query(new OSQLCursorQuery<ODocument>("select from Item where number >= ?", 7), 50);
+    assertEquals(45, result.size());
+
+    final Set<Integer> numbers = new HashSet<Integer>();
+    for (ODocument doc : result)
+      numbers.add(doc.<Integer> field("number"));
+    assertEquals(45, numbers.size());
+    assertEquals(0, server.getCursorManager().size());
+  }
+
+  @Test
+  public void testSmallResultClosesTheCursor() {
+    final List<ODocument> result = db.query(new OSQLCursorQuery<ODocument>("select from Item where number < 3", 10));
+    assertFalse(((ORemoteCursorResultSet) result).isOpen());
+    assertEquals(3, result.size());
+    assertEquals(0, server.getCursorManager().size());
+
+    assertTrue(db.query(new OSQLCursorQuery<ODocument>("select from Item where number < 0")).isEmpty());
+  }
+
+  @Test
+  public void testClose() {
+    final ORemoteCursorResultSet<ODocument> result = (ORemoteCursorResultSet<ODocument>) db.<List<ODocument>> query(
+        new OSQLCursorQuery<ODocument>("select from Item", 10));
+    assertEquals(10, result.currentSize());
+    assertEquals(1, server.getCursorManager().size());
+
+    result.close();
+    assertEquals(0, server.getCursorManager().size());
+    // THE RECORDS ALREADY FETCHED ARE STILL AVAILABLE
+    assertEquals(10, result.size());
+  }
+
+  @Test
+  public void testError() {
+    try {
+      db.query(new OSQLCursorQuery<ODocument>("select from NotExistent", 10));
+      fail();
+    } catch (OQueryParsingException e) {
+    }
+    assertEquals(0, server.getCursorManager().size());
+  }
+
+  @After
+  public void after() {
+    db.close();
+    server.shutdown();
+    Orient.instance().startup();
+  }
+
+}